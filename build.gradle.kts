@@ -29,6 +29,8 @@ plugins {
   // Apply the gradle nexus plugin to automate publishing to any Nexus instance
   // including Maven Central.
   alias(libs.plugins.gradle.nexus.publish.plugin)
+  // Apply the JMH plugin to add a `jmh` source set for micro-benchmarks.
+  alias(libs.plugins.jmh)
 
   alias(libs.plugins.spotless)
 }
@@ -74,6 +76,41 @@ java {
   withSourcesJar()
 }
 
+// The Java 21+ sources of the multi-release JAR. They replace some of the Java 11 classes with
+// implementations that use the incubating Vector API.
+val java21: SourceSet by
+    sourceSets.creating {
+      java.setSrcDirs(listOf("src/main/java21"))
+      compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+    }
+
+val java21Launcher = javaToolchains.launcherFor { languageVersion.set(JavaLanguageVersion.of(21)) }
+
+tasks.named<JavaCompile>(java21.compileJavaTaskName) {
+  javaCompiler = javaToolchains.compilerFor { languageVersion.set(JavaLanguageVersion.of(21)) }
+  options.release = 21
+  options.compilerArgs.addAll(listOf("--add-modules", "jdk.incubator.vector"))
+}
+
+jmh {
+  jmhVersion = libs.versions.jmh.get()
+  // Report allocation rates alongside throughput for every benchmark.
+  profilers = listOf("gc")
+  benchmarkMode = listOf("thrpt")
+  timeUnit = "us"
+  fork = 1
+  warmupIterations = 3
+  iterations = 5
+  resultFormat = "JSON"
+  // Run a subset of the benchmarks with e.g. `./gradlew jmh -Pjmh.includes=InRange`.
+  includes = project.providers.gradleProperty("jmh.includes").map { listOf(it) }.orElse(listOf())
+  // Run the benchmarks on Java 21 with the Vector API enabled with `./gradlew jmh -Pjmh.vector`.
+  if (project.providers.gradleProperty("jmh.vector").isPresent) {
+    jvm = java21Launcher.map { it.executablePath.asFile.absolutePath }
+    jvmArgsAppend = listOf("--add-modules", "jdk.incubator.vector")
+  }
+}
+
 nexusPublishing {
   repositories {
     sonatype {
@@ -215,23 +252,54 @@ tasks.jacocoTestReport {
 }
 
 tasks.jar {
+  into("META-INF/versions/21") { from(java21.output) }
   manifest {
     attributes(
         mapOf(
             "Automatic-Module-Name" to "$groupID.$artifactID",
             "Implementation-Title" to project.name,
             "Implementation-Version" to project.version,
+            "Multi-Release" to "true",
         ),
     )
   }
 }
 
+// The benchmarks run from the JMH JAR, so it has to be a multi-release JAR as well.
+tasks.named<Jar>("jmhJar") {
+  into("META-INF/versions/21") { from(java21.output) }
+  manifest { attributes(mapOf("Multi-Release" to "true")) }
+}
+
+tasks.sourcesJar { into("META-INF/versions/21") { from(java21.allSource) } }
+
+// The sources generated by the JMH bytecode generator are not meant to be type-checked.
+tasks
+    .withType<JavaCompile>()
+    .matching { it.name == "jmhCompileGeneratedClasses" }
+    .configureEach { options.compilerArgs.add("-proc:none") }
+
 tasks.test {
   // Use JUnit Platform for unit tests.
   useJUnitPlatform()
   testLogging { events("passed", "skipped", "failed") }
 }
 
+// Run the tests against the Java 21+ classes of the multi-release JAR with the Vector API enabled.
+val testJava21 by
+    tasks.registering(Test::class) {
+      description = "Runs the unit tests on Java 21 against the Vector API implementations."
+      group = LifecycleBasePlugin.VERIFICATION_GROUP
+      javaLauncher = java21Launcher
+      testClassesDirs = sourceSets.test.get().output.classesDirs
+      classpath = java21.output + sourceSets.test.get().runtimeClasspath
+      jvmArgs("--add-modules", "jdk.incubator.vector")
+      useJUnitPlatform()
+      testLogging { events("passed", "skipped", "failed") }
+    }
+
+tasks.check { dependsOn(testJava21) }
+
 tasks.withType<Checkstyle>().configureEach {
   configFile = configDirectory.get().file("google_checks.xml").asFile
   reports {
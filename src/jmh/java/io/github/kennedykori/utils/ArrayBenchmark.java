@@ -0,0 +1,145 @@
+package io.github.kennedykori.utils;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Throughput benchmarks for checking all the elements of an array with the {@link ArrayUtils}
+ * methods compared to checking the elements one at a time with the {@link ObjectUtils} methods. The
+ * <i>Loop</i> variants are the baselines that call {@link ObjectUtils} for every element. The
+ * <i>Failure</i> variants measure arrays whose last element fails the check. The
+ * <i>UnsignedIntLoop</i> variant is the baseline for the unsigned checks and widens every element
+ * to a {@code long}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArrayBenchmark {
+  @Param({"16", "1024", "65536"})
+  public int size;
+
+  private int[] ints;
+  private int[] badInts;
+  private long[] longs;
+  private double[] doubles;
+  private double[] badDoubles;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    ints = new int[size];
+    longs = new long[size];
+    doubles = new double[size];
+    for (int i = 0; i < size; i++) {
+      ints[i] = random.nextInt(100);
+      longs[i] = random.nextInt(100);
+      doubles[i] = random.nextDouble() * 100;
+    }
+    badInts = ints.clone();
+    badInts[size - 1] = -1;
+    badDoubles = doubles.clone();
+    badDoubles[size - 1] = -1;
+  }
+
+  @Benchmark
+  public boolean allInRangeInt() {
+    return ArrayUtils.allInRange(0, 100, ints);
+  }
+
+  @Benchmark
+  public boolean allInRangeIntLoop() {
+    for (int value : ints) {
+      if (!ObjectUtils.inRange(0, 100, value)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Benchmark
+  public int indexOfNotInRangeIntFailure() {
+    return ArrayUtils.indexOfNotInRange(0, 100, badInts);
+  }
+
+  @Benchmark
+  public boolean allInRangeLong() {
+    return ArrayUtils.allInRange(0L, 100L, longs);
+  }
+
+  @Benchmark
+  public boolean allInRangeUnsignedInt() {
+    return ArrayUtils.allInRangeUnsigned(0, 100, ints);
+  }
+
+  @Benchmark
+  public boolean allInRangeUnsignedIntLoop() {
+    for (int value : ints) {
+      if (!ObjectUtils.inRange(0L, 100L, Integer.toUnsignedLong(value))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Benchmark
+  public boolean allInRangeUnsignedLong() {
+    return ArrayUtils.allInRangeUnsigned(0L, 100L, longs);
+  }
+
+  @Benchmark
+  public boolean allInRangeDouble() {
+    return ArrayUtils.allInRange(0D, 100D, doubles);
+  }
+
+  @Benchmark
+  public boolean allInRangeDoubleLoop() {
+    for (double value : doubles) {
+      if (!ObjectUtils.inRange(0D, 100D, value)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Benchmark
+  public boolean allNonNegativeInt() {
+    return ArrayUtils.allNonNegative(ints);
+  }
+
+  @Benchmark
+  public boolean allNonNegativeIntLoop() {
+    for (int value : ints) {
+      if (ObjectUtils.isNegative(value)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Benchmark
+  public boolean allNonNegativeDouble() {
+    return ArrayUtils.allNonNegative(doubles);
+  }
+
+  @Benchmark
+  public int indexOfNegativeDoubleFailure() {
+    return ArrayUtils.indexOfNegative(badDoubles);
+  }
+
+  @Benchmark
+  public Object requireAllNonNegativeIntFailure() {
+    try {
+      return ArrayUtils.requireAllNonNegative(badInts);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package io.github.kennedykori.utils;
+
+import java.math.BigDecimal;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Shared operands for the {@link ObjectUtils} benchmarks. The operands are held in non-final
+ * fields so that the JIT cannot constant-fold the checks being measured.
+ *
+ * <p>For every type, {@code low <= value < high} and {@code outside >= high}, while {@code equal}
+ * is equal to, but not the same instance as, {@code value}.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkValues {
+  public int intLow = 0;
+  public int intValue = 42;
+  public int intEqual = 42;
+  public int intHigh = 100;
+  public int intOutside = 200;
+
+  public long longLow = 0L;
+  public long longValue = 42L;
+  public long longEqual = 42L;
+  public long longHigh = 100L;
+  public long longOutside = 200L;
+
+  public float floatLow = 0.0F;
+  public float floatValue = 42.5F;
+  public float floatEqual = 42.5F;
+  public float floatHigh = 100.0F;
+  public float floatOutside = 200.0F;
+
+  public double doubleLow = 0.0D;
+  public double doubleValue = 42.5D;
+  public double doubleEqual = 42.5D;
+  public double doubleHigh = 100.0D;
+  public double doubleOutside = 200.0D;
+
+  public BigDecimal decimalLow = new BigDecimal("0.00");
+  public BigDecimal decimalValue = new BigDecimal("42.50");
+  public BigDecimal decimalEqual = new BigDecimal("42.50");
+  public BigDecimal decimalHigh = new BigDecimal("100.00");
+  public BigDecimal decimalOutside = new BigDecimal("200.00");
+  // The same kind of values with different scales, and values too wide for a compact BigDecimal
+  public BigDecimal decimalZero = BigDecimal.ZERO;
+  public BigDecimal decimalPrice = new BigDecimal("42.5");
+  public BigDecimal decimalMax = new BigDecimal("100.000");
+  public BigDecimal decimalWideLow = new BigDecimal("123456789012345678901234");
+  public BigDecimal decimalWideValue = new BigDecimal("123456789012345678901234.5");
+  public BigDecimal decimalWideHigh = new BigDecimal("123456789012345678901235.00");
+
+  public int minChars = 2;
+  public int maxChars = 20;
+  public String text = "Hello World!";
+  public String longText = "The quick brown fox jumps over the lazy dog.";
+  public String emptyText = "";
+  public String unicodeText = "Gr\u00fc\u00dfe aus K\u00f6ln, \u20ac42 \ud83d\ude00";
+}
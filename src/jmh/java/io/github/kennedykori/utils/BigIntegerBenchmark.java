@@ -0,0 +1,92 @@
+package io.github.kennedykori.utils;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Throughput benchmarks for the {@code BigInteger} checks over values of 64 to 4096 bits. The
+ * <i>CompareTo</i> variants are the baselines and call {@link BigInteger#compareTo(BigInteger)}
+ * directly. The <i>ShorterBits</i> variants compare a value to a bound with a shorter bit length,
+ * which the bit lengths decide. The <i>SameBits</i> variants compare values that only differ in
+ * their lowest bit and the <i>Equal</i> variants compare equal values, both of which have to
+ * compare every word of the magnitudes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BigIntegerBenchmark {
+  @Param({"64", "256", "1024", "4096"})
+  public int bits;
+
+  private BigInteger value;
+  private BigInteger shorter;
+  private BigInteger lower;
+  private BigInteger equal;
+  private BigInteger negative;
+  private BigInteger upper;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    value = new BigInteger(bits, random).setBit(bits - 1).setBit(bits - 2).setBit(0);
+    shorter = value.clearBit(bits - 1);
+    lower = value.clearBit(0);
+    equal = new BigInteger(value.toByteArray());
+    negative = value.negate();
+    upper = value.add(BigInteger.ONE);
+  }
+
+  @Benchmark
+  public boolean isGreaterThanShorterBits() {
+    return ObjectUtils.isGreaterThan(shorter, value);
+  }
+
+  @Benchmark
+  public boolean isGreaterThanShorterBitsCompareTo() {
+    return value.compareTo(shorter) > 0;
+  }
+
+  @Benchmark
+  public boolean isGreaterThanSameBits() {
+    return ObjectUtils.isGreaterThan(lower, value);
+  }
+
+  @Benchmark
+  public boolean isGreaterThanSameBitsCompareTo() {
+    return value.compareTo(lower) > 0;
+  }
+
+  @Benchmark
+  public boolean isEqualToEqual() {
+    return ObjectUtils.isEqualTo(equal, value);
+  }
+
+  @Benchmark
+  public boolean isEqualToEqualCompareTo() {
+    return value.compareTo(equal) == 0;
+  }
+
+  @Benchmark
+  public boolean inRange() {
+    return ObjectUtils.inRange(negative, upper, value);
+  }
+
+  @Benchmark
+  public boolean inRangeCompareTo() {
+    return value.compareTo(negative) >= 0 && value.compareTo(upper) < 0;
+  }
+
+  @Benchmark
+  public BigInteger requireNonNegative() {
+    return ObjectUtils.requireNonNegative(value);
+  }
+}
@@ -0,0 +1,62 @@
+package io.github.kennedykori.utils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Throughput benchmarks for checking timestamps against the current time. The
+ * <i>CurrentTimeMillis</i> variants are the baselines that read the system clock with {@link
+ * System#currentTimeMillis()} and check the timestamps with the {@code long} comparisons. The
+ * <i>Coarse</i> variants read the current time from a {@link CoarseClock} instead of the system
+ * clock.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClockBenchmark {
+  private static final long SKEW = 1000L;
+  private static final Duration WINDOW = Duration.ofMinutes(5);
+  private static final Clock SYSTEM = Clock.offset(Clock.systemUTC(), Duration.ofMillis(SKEW));
+  private static final CoarseClock COARSE = CoarseClock.start(Duration.ofMillis(10));
+  private static final Clock COARSE_SKEWED = Clock.offset(COARSE, Duration.ofMillis(SKEW));
+
+  public long timestamp = System.currentTimeMillis() - 1000L;
+
+  @Benchmark
+  public long notInFutureCurrentTimeMillis() {
+    return ObjectUtils.requireLessThanOrEqualTo(System.currentTimeMillis() + SKEW, timestamp);
+  }
+
+  @Benchmark
+  public long notInFuture() {
+    return ObjectUtils.requireNotInFuture(SYSTEM, timestamp);
+  }
+
+  @Benchmark
+  public long notInFutureCoarse() {
+    return ObjectUtils.requireNotInFuture(COARSE_SKEWED, timestamp);
+  }
+
+  @Benchmark
+  public long withinLastCurrentTimeMillis() {
+    long now = System.currentTimeMillis();
+    return ObjectUtils.requireInRange(now - WINDOW.toMillis(), now + 1, timestamp);
+  }
+
+  @Benchmark
+  public long withinLast() {
+    return ObjectUtils.requireWithinLast(Clock.systemUTC(), WINDOW, timestamp);
+  }
+
+  @Benchmark
+  public long withinLastCoarse() {
+    return ObjectUtils.requireWithinLast(COARSE, WINDOW, timestamp);
+  }
+}
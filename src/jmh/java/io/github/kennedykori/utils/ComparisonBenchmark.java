@@ -0,0 +1,151 @@
+package io.github.kennedykori.utils;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+/**
+ * Throughput and allocation benchmarks for the {@code isEqualTo} and {@code isGreaterThan} checks.
+ * The <i>Success</i> variants measure checks that hold while the <i>Failure</i> variants measure
+ * checks that do not. The <i>MixedScale</i> variants compare {@code BigDecimal}s of different
+ * scales, which {@link BigDecimal#compareTo(BigDecimal)} compares by rescaling their unscaled
+ * {@code long} values, so they should not allocate either. The <i>Mixed</i> variants compare a
+ * {@code BigDecimal} to a {@code long} or a {@code double} bound and the <i>ValueOf</i> variants
+ * are their baselines, which convert the bound to a {@code BigDecimal} first.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ComparisonBenchmark {
+  @Benchmark
+  public boolean isEqualToIntSuccess(BenchmarkValues v) {
+    return ObjectUtils.isEqualTo(v.intEqual, v.intValue);
+  }
+
+  @Benchmark
+  public boolean isEqualToIntFailure(BenchmarkValues v) {
+    return ObjectUtils.isEqualTo(v.intOutside, v.intValue);
+  }
+
+  @Benchmark
+  public boolean isEqualToLongSuccess(BenchmarkValues v) {
+    return ObjectUtils.isEqualTo(v.longEqual, v.longValue);
+  }
+
+  @Benchmark
+  public boolean isEqualToLongFailure(BenchmarkValues v) {
+    return ObjectUtils.isEqualTo(v.longOutside, v.longValue);
+  }
+
+  @Benchmark
+  public boolean isEqualToFloatSuccess(BenchmarkValues v) {
+    return ObjectUtils.isEqualTo(v.floatEqual, v.floatValue);
+  }
+
+  @Benchmark
+  public boolean isEqualToFloatFailure(BenchmarkValues v) {
+    return ObjectUtils.isEqualTo(v.floatOutside, v.floatValue);
+  }
+
+  @Benchmark
+  public boolean isEqualToDoubleSuccess(BenchmarkValues v) {
+    return ObjectUtils.isEqualTo(v.doubleEqual, v.doubleValue);
+  }
+
+  @Benchmark
+  public boolean isEqualToDoubleFailure(BenchmarkValues v) {
+    return ObjectUtils.isEqualTo(v.doubleOutside, v.doubleValue);
+  }
+
+  @Benchmark
+  public boolean isEqualToDecimalSuccess(BenchmarkValues v) {
+    return ObjectUtils.isEqualTo(v.decimalEqual, v.decimalValue);
+  }
+
+  @Benchmark
+  public boolean isEqualToDecimalFailure(BenchmarkValues v) {
+    return ObjectUtils.isEqualTo(v.decimalOutside, v.decimalValue);
+  }
+
+  @Benchmark
+  public boolean isGreaterThanIntSuccess(BenchmarkValues v) {
+    return ObjectUtils.isGreaterThan(v.intLow, v.intValue);
+  }
+
+  @Benchmark
+  public boolean isGreaterThanIntFailure(BenchmarkValues v) {
+    return ObjectUtils.isGreaterThan(v.intHigh, v.intValue);
+  }
+
+  @Benchmark
+  public boolean isGreaterThanLongSuccess(BenchmarkValues v) {
+    return ObjectUtils.isGreaterThan(v.longLow, v.longValue);
+  }
+
+  @Benchmark
+  public boolean isGreaterThanLongFailure(BenchmarkValues v) {
+    return ObjectUtils.isGreaterThan(v.longHigh, v.longValue);
+  }
+
+  @Benchmark
+  public boolean isGreaterThanFloatSuccess(BenchmarkValues v) {
+    return ObjectUtils.isGreaterThan(v.floatLow, v.floatValue);
+  }
+
+  @Benchmark
+  public boolean isGreaterThanFloatFailure(BenchmarkValues v) {
+    return ObjectUtils.isGreaterThan(v.floatHigh, v.floatValue);
+  }
+
+  @Benchmark
+  public boolean isGreaterThanDoubleSuccess(BenchmarkValues v) {
+    return ObjectUtils.isGreaterThan(v.doubleLow, v.doubleValue);
+  }
+
+  @Benchmark
+  public boolean isGreaterThanDoubleFailure(BenchmarkValues v) {
+    return ObjectUtils.isGreaterThan(v.doubleHigh, v.doubleValue);
+  }
+
+  @Benchmark
+  public boolean isGreaterThanDecimalSuccess(BenchmarkValues v) {
+    return ObjectUtils.isGreaterThan(v.decimalLow, v.decimalValue);
+  }
+
+  @Benchmark
+  public boolean isGreaterThanDecimalFailure(BenchmarkValues v) {
+    return ObjectUtils.isGreaterThan(v.decimalHigh, v.decimalValue);
+  }
+
+  @Benchmark
+  public boolean isEqualToDecimalMixedScale(BenchmarkValues v) {
+    return ObjectUtils.isEqualTo(v.decimalEqual, v.decimalPrice);
+  }
+
+  @Benchmark
+  public boolean isGreaterThanDecimalMixedScale(BenchmarkValues v) {
+    return ObjectUtils.isGreaterThan(v.decimalZero, v.decimalPrice);
+  }
+
+  @Benchmark
+  public boolean isGreaterThanDecimalMixed(BenchmarkValues v) {
+    return ObjectUtils.isGreaterThan(v.longValue, v.decimalValue);
+  }
+
+  @Benchmark
+  public boolean isGreaterThanDecimalValueOf(BenchmarkValues v) {
+    return ObjectUtils.isGreaterThan(BigDecimal.valueOf(v.longValue), v.decimalValue);
+  }
+
+  @Benchmark
+  public boolean isGreaterThanDecimalDoubleMixed(BenchmarkValues v) {
+    return ObjectUtils.isGreaterThan(v.doubleValue, v.decimalValue);
+  }
+
+  @Benchmark
+  public boolean isGreaterThanDecimalDoubleValueOf(BenchmarkValues v) {
+    return ObjectUtils.isGreaterThan(new BigDecimal(v.doubleValue), v.decimalValue);
+  }
+}
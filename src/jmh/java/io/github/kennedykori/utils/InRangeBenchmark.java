@@ -0,0 +1,99 @@
+package io.github.kennedykori.utils;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+/**
+ * Throughput and allocation benchmarks for the {@code inRange} checks. The <i>Success</i>
+ * variants measure values that are in range while the <i>Failure</i> variants measure values that
+ * are out of range. The <i>MixedScale</i> variant checks a {@code BigDecimal} against bounds of
+ * different scales, which should not allocate. The <i>Inflated</i> variant is the worst case for
+ * comparing {@code BigDecimal}s: unscaled values that don't fit in a {@code long}, with different
+ * scales and the same magnitude, have to be rescaled into a new {@code BigInteger}. The
+ * <i>Widened</i> variant is the baseline for the unsigned checks and widens an {@code int} to a
+ * {@code long}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InRangeBenchmark {
+  @Benchmark
+  public boolean inRangeIntSuccess(BenchmarkValues v) {
+    return ObjectUtils.inRange(v.intLow, v.intHigh, v.intValue);
+  }
+
+  @Benchmark
+  public boolean inRangeIntFailure(BenchmarkValues v) {
+    return ObjectUtils.inRange(v.intLow, v.intHigh, v.intOutside);
+  }
+
+  @Benchmark
+  public boolean inRangeLongSuccess(BenchmarkValues v) {
+    return ObjectUtils.inRange(v.longLow, v.longHigh, v.longValue);
+  }
+
+  @Benchmark
+  public boolean inRangeLongFailure(BenchmarkValues v) {
+    return ObjectUtils.inRange(v.longLow, v.longHigh, v.longOutside);
+  }
+
+  @Benchmark
+  public boolean inRangeUnsignedInt(BenchmarkValues v) {
+    return ObjectUtils.inRangeUnsigned(v.intLow, v.intHigh, v.intValue);
+  }
+
+  @Benchmark
+  public boolean inRangeUnsignedIntWidened(BenchmarkValues v) {
+    return ObjectUtils.inRange(
+        Integer.toUnsignedLong(v.intLow),
+        Integer.toUnsignedLong(v.intHigh),
+        Integer.toUnsignedLong(v.intValue));
+  }
+
+  @Benchmark
+  public boolean inRangeUnsignedLong(BenchmarkValues v) {
+    return ObjectUtils.inRangeUnsigned(v.longLow, v.longHigh, v.longValue);
+  }
+
+  @Benchmark
+  public boolean inRangeFloatSuccess(BenchmarkValues v) {
+    return ObjectUtils.inRange(v.floatLow, v.floatHigh, v.floatValue);
+  }
+
+  @Benchmark
+  public boolean inRangeFloatFailure(BenchmarkValues v) {
+    return ObjectUtils.inRange(v.floatLow, v.floatHigh, v.floatOutside);
+  }
+
+  @Benchmark
+  public boolean inRangeDoubleSuccess(BenchmarkValues v) {
+    return ObjectUtils.inRange(v.doubleLow, v.doubleHigh, v.doubleValue);
+  }
+
+  @Benchmark
+  public boolean inRangeDoubleFailure(BenchmarkValues v) {
+    return ObjectUtils.inRange(v.doubleLow, v.doubleHigh, v.doubleOutside);
+  }
+
+  @Benchmark
+  public boolean inRangeDecimalSuccess(BenchmarkValues v) {
+    return ObjectUtils.inRange(v.decimalLow, v.decimalHigh, v.decimalValue);
+  }
+
+  @Benchmark
+  public boolean inRangeDecimalFailure(BenchmarkValues v) {
+    return ObjectUtils.inRange(v.decimalLow, v.decimalHigh, v.decimalOutside);
+  }
+
+  @Benchmark
+  public boolean inRangeDecimalMixedScale(BenchmarkValues v) {
+    return ObjectUtils.inRange(v.decimalZero, v.decimalMax, v.decimalPrice);
+  }
+
+  @Benchmark
+  public boolean inRangeDecimalInflated(BenchmarkValues v) {
+    return ObjectUtils.inRange(v.decimalWideLow, v.decimalWideHigh, v.decimalWideValue);
+  }
+}
@@ -0,0 +1,83 @@
+package io.github.kennedykori.utils;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Throughput benchmarks for summing the elements of an array whose indices are validated first.
+ * The <i>Unchecked</i> variant is the baseline that only relies on the bounds checks of the array
+ * accesses. The <i>InRange</i> variant validates the indices with {@code requireInRange}, which
+ * the JIT compiler doesn't treat as a bounds check, so the bounds checks of the array accesses
+ * remain.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IndexBenchmark {
+
+  @Param({"1024"})
+  public int size;
+
+  private int[] values;
+
+  @Setup
+  public void setup() {
+    values = new int[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = i;
+    }
+  }
+
+  @Benchmark
+  public long sumUnchecked() {
+    long sum = 0;
+    for (int i = 0; i < size; i++) {
+      sum += values[i];
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long sumIndex() {
+    long sum = 0;
+    for (int i = 0; i < size; i++) {
+      sum += values[ObjectUtils.requireIndex(i, values.length)];
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long sumIndexWithMessage() {
+    long sum = 0;
+    for (int i = 0; i < size; i++) {
+      sum += values[ObjectUtils.requireIndex(i, values.length, "Bad index.")];
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long sumInRange() {
+    long sum = 0;
+    for (int i = 0; i < size; i++) {
+      sum += values[ObjectUtils.requireInRange(0, values.length, i)];
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long sumFromToIndex() {
+    int from = ObjectUtils.requireFromToIndex(size / 4, size, values.length);
+    long sum = 0;
+    for (int i = from; i < size; i++) {
+      sum += values[i];
+    }
+    return sum;
+  }
+}
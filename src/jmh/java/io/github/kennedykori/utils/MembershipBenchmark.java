@@ -0,0 +1,64 @@
+package io.github.kennedykori.utils;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Throughput and allocation benchmarks for the {@code contains} checks of the set types. The
+ * <i>HashSet</i> variants are the baselines that look the same values up in a {@link Set} of boxed
+ * values. Run them with {@code -prof gc} to compare the allocation of the boxing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MembershipBenchmark {
+  private static final int[] STATUSES = {200, 201, 202, 204, 301, 302, 304, 400, 401, 403, 404};
+  private static final IntSet INT_SET = IntSet.of(STATUSES);
+  private static final Set<Integer> INT_HASH_SET =
+      Set.of(200, 201, 202, 204, 301, 302, 304, 400, 401, 403, 404);
+  private static final LongSet LONG_SET = LongSet.of(100L, 200L, 210L, 400L, 420L, 800L, 1_000L);
+  private static final Set<Long> LONG_HASH_SET = Set.of(100L, 200L, 210L, 400L, 420L, 800L, 1_000L);
+  private static final StringSet STRING_SET = StringSet.of("EUR", "GBP", "KES", "TZS", "USD");
+  private static final Set<String> STRING_HASH_SET = Set.of("EUR", "GBP", "KES", "TZS", "USD");
+
+  // Values outside the Integer and Long caches, so that the baselines box them
+  public int intValue = 404;
+  public long longValue = 800L;
+  public String stringValue = new String("KES");
+
+  @Benchmark
+  public boolean intSet() {
+    return INT_SET.contains(intValue);
+  }
+
+  @Benchmark
+  public boolean intHashSet() {
+    return INT_HASH_SET.contains(intValue);
+  }
+
+  @Benchmark
+  public boolean longSet() {
+    return LONG_SET.contains(longValue);
+  }
+
+  @Benchmark
+  public boolean longHashSet() {
+    return LONG_HASH_SET.contains(longValue);
+  }
+
+  @Benchmark
+  public boolean stringSet() {
+    return STRING_SET.contains(stringValue);
+  }
+
+  @Benchmark
+  public boolean stringHashSet() {
+    return STRING_HASH_SET.contains(stringValue);
+  }
+}
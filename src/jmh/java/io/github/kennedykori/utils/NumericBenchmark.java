@@ -0,0 +1,56 @@
+package io.github.kennedykori.utils;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+/**
+ * Throughput and allocation benchmarks for the {@code NUMERIC(precision, scale)} checks. The
+ * <i>Strip</i> variants are the baselines and call {@link BigDecimal#stripTrailingZeros()} before
+ * comparing the precision and the scale of the value. The <i>Padded</i> variants measure a value
+ * with more trailing zeros than the scale of the column, which is the only case that allocates.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NumericBenchmark {
+  private static final BigDecimal PADDED = new BigDecimal("42.5000");
+
+  @Benchmark
+  public boolean fitsNumeric(BenchmarkValues v) {
+    return ObjectUtils.fitsNumeric(12, 2, v.decimalValue);
+  }
+
+  @Benchmark
+  public boolean fitsNumericStrip(BenchmarkValues v) {
+    return fitsByStripping(12, 2, v.decimalValue);
+  }
+
+  @Benchmark
+  public boolean fitsNumericWide(BenchmarkValues v) {
+    return ObjectUtils.fitsNumeric(38, 2, v.decimalWideValue);
+  }
+
+  @Benchmark
+  public boolean fitsNumericWideStrip(BenchmarkValues v) {
+    return fitsByStripping(38, 2, v.decimalWideValue);
+  }
+
+  @Benchmark
+  public boolean fitsNumericPadded() {
+    return ObjectUtils.fitsNumeric(12, 2, PADDED);
+  }
+
+  @Benchmark
+  public boolean fitsNumericPaddedStrip() {
+    return fitsByStripping(12, 2, PADDED);
+  }
+
+  private static boolean fitsByStripping(int precision, int scale, BigDecimal value) {
+    BigDecimal stripped = value.stripTrailingZeros();
+    return stripped.scale() <= scale
+        && stripped.precision() - stripped.scale() <= precision - scale;
+  }
+}
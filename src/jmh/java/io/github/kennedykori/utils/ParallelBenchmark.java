@@ -0,0 +1,97 @@
+package io.github.kennedykori.utils;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Throughput benchmarks for checking very large arrays with {@link ParallelArrayChecks} on pools of
+ * an increasing number of threads, to show how the checks scale with the number of cores. The
+ * <i>Sequential</i> variants are the single-threaded {@link ArrayUtils} baselines. The
+ * <i>Failure</i> variants measure arrays whose middle element fails the check.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ParallelBenchmark {
+  @Param({"1", "2", "4", "8"})
+  public int parallelism;
+
+  @Param({"4194304", "16777216"})
+  public int size;
+
+  private ForkJoinPool pool;
+  private ParallelArrayChecks checks;
+  private int[] ints;
+  private int[] badInts;
+  private double[] doubles;
+
+  @Setup
+  public void setUp() {
+    pool = new ForkJoinPool(parallelism);
+    checks = ParallelArrayChecks.of(pool, ParallelArrayChecks.DEFAULT_THRESHOLD);
+    Random random = new Random(42);
+    ints = new int[size];
+    doubles = new double[size];
+    for (int i = 0; i < size; i++) {
+      ints[i] = random.nextInt(100);
+      doubles[i] = random.nextDouble() * 100;
+    }
+    badInts = ints.clone();
+    badInts[size / 2] = -1;
+  }
+
+  @TearDown
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Benchmark
+  public boolean allInRangeInt() {
+    return checks.allInRange(0, 100, ints);
+  }
+
+  @Benchmark
+  public boolean allInRangeIntSequential() {
+    return ArrayUtils.allInRange(0, 100, ints);
+  }
+
+  @Benchmark
+  public boolean allInRangeDouble() {
+    return checks.allInRange(0D, 100D, doubles);
+  }
+
+  @Benchmark
+  public boolean allInRangeDoubleSequential() {
+    return ArrayUtils.allInRange(0D, 100D, doubles);
+  }
+
+  @Benchmark
+  public boolean allNonNegativeInt() {
+    return checks.allNonNegative(ints);
+  }
+
+  @Benchmark
+  public int indexOfNegativeIntFailure() {
+    return checks.indexOfNegative(badInts);
+  }
+
+  @Benchmark
+  public int indexOfNegativeIntFailureSequential() {
+    return ArrayUtils.indexOfNegative(badInts);
+  }
+
+  @Benchmark
+  public int[] indicesOfNegativeIntFailure() {
+    return checks.indicesOfNegative(badInts);
+  }
+}
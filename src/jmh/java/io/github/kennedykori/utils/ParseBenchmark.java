@@ -0,0 +1,79 @@
+package io.github.kennedykori.utils;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Throughput and allocation benchmarks for parsing and validating the numbers in the fields of a
+ * record in one pass. The <i>Substring</i> variants are the baselines and copy each field with
+ * {@link String#substring(int, int)}, parse it and then validate it with {@code requireInRange}.
+ * The <i>Failure</i> variants measure a field that is far too large for the range.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParseBenchmark {
+  private static final BigDecimal MIN_PRICE = BigDecimal.ZERO;
+  private static final BigDecimal MAX_PRICE = new BigDecimal("1000000");
+
+  // id=[3, 11), age=[16, 18), price=[25, 32), bad=[37, 57)
+  public String record = "id=12345678;age=42;price=1999.99;bad=12345678901234567890";
+
+  @Benchmark
+  public int parseIntInRange() {
+    return ObjectUtils.parseIntInRange(record, 3, 11, 0, Integer.MAX_VALUE)
+        + ObjectUtils.parseIntInRange(record, 16, 18, 18, 150);
+  }
+
+  @Benchmark
+  public int parseIntInRangeSubstring() {
+    return ObjectUtils.requireInRange(
+            0, Integer.MAX_VALUE, Integer.parseInt(record.substring(3, 11)))
+        + ObjectUtils.requireInRange(18, 150, Integer.parseInt(record.substring(16, 18)));
+  }
+
+  @Benchmark
+  public Object parseIntInRangeFailure() {
+    try {
+      return ObjectUtils.parseIntInRange(record, 37, 57, 0, 100);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object parseIntInRangeSubstringFailure() {
+    try {
+      return ObjectUtils.requireInRange(0, 100, Integer.parseInt(record.substring(37, 57)));
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public long parseLongInRange() {
+    return ObjectUtils.parseLongInRange(record, 3, 11, 0L, Long.MAX_VALUE);
+  }
+
+  @Benchmark
+  public long parseLongInRangeSubstring() {
+    return ObjectUtils.requireInRange(0L, Long.MAX_VALUE, Long.parseLong(record.substring(3, 11)));
+  }
+
+  @Benchmark
+  public BigDecimal parseDecimalInRange() {
+    return ObjectUtils.parseDecimalInRange(record, 25, 32, MIN_PRICE, MAX_PRICE);
+  }
+
+  @Benchmark
+  public BigDecimal parseDecimalInRangeSubstring() {
+    return ObjectUtils.requireInRange(
+        MIN_PRICE, MAX_PRICE, new BigDecimal(record.substring(25, 32)));
+  }
+}
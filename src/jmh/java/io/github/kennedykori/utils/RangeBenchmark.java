@@ -0,0 +1,63 @@
+package io.github.kennedykori.utils;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+/**
+ * Throughput and allocation benchmarks for the {@code contains} checks of the range types. The
+ * ranges are held in {@code static final} fields, the way they are meant to be used, and have the
+ * same bounds as the values used by {@link InRangeBenchmark} so that the results are comparable.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RangeBenchmark {
+  private static final IntRange INT_RANGE = IntRange.of(0, 100);
+  private static final LongRange LONG_RANGE = LongRange.of(0L, 100L);
+  private static final DoubleRange DOUBLE_RANGE = DoubleRange.of(0D, 100D);
+  private static final DecimalRange DECIMAL_RANGE =
+      DecimalRange.of(new BigDecimal("0.00"), new BigDecimal("100.00"));
+
+  @Benchmark
+  public boolean intRangeSuccess(BenchmarkValues v) {
+    return INT_RANGE.contains(v.intValue);
+  }
+
+  @Benchmark
+  public boolean intRangeFailure(BenchmarkValues v) {
+    return INT_RANGE.contains(v.intOutside);
+  }
+
+  @Benchmark
+  public boolean longRangeSuccess(BenchmarkValues v) {
+    return LONG_RANGE.contains(v.longValue);
+  }
+
+  @Benchmark
+  public boolean longRangeFailure(BenchmarkValues v) {
+    return LONG_RANGE.contains(v.longOutside);
+  }
+
+  @Benchmark
+  public boolean doubleRangeSuccess(BenchmarkValues v) {
+    return DOUBLE_RANGE.contains(v.doubleValue);
+  }
+
+  @Benchmark
+  public boolean doubleRangeFailure(BenchmarkValues v) {
+    return DOUBLE_RANGE.contains(v.doubleOutside);
+  }
+
+  @Benchmark
+  public boolean decimalRangeSuccess(BenchmarkValues v) {
+    return DECIMAL_RANGE.contains(v.decimalValue);
+  }
+
+  @Benchmark
+  public boolean decimalRangeFailure(BenchmarkValues v) {
+    return DECIMAL_RANGE.contains(v.decimalOutside);
+  }
+}
@@ -0,0 +1,71 @@
+package io.github.kennedykori.utils;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Throughput benchmarks for checking if a value is in any of many disjoint ranges. The
+ * <i>Linear</i> variants are the baselines that call {@link ObjectUtils#inRange(long, long, long)}
+ * for every range until one contains the value. The probes are a mix of values inside and outside
+ * the ranges, cycled through so that the branches of the search can't be learned.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RangeSetBenchmark {
+  private static final int PROBES = 1024;
+
+  @Param({"16", "10000"})
+  public int ranges;
+
+  private long[] minValues;
+  private long[] maxValues;
+  private LongRangeSet rangeSet;
+  private long[] probes;
+  private int next;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(25);
+    minValues = new long[ranges];
+    maxValues = new long[ranges];
+    LongRange[] longRanges = new LongRange[ranges];
+    long minValue = 0;
+    for (int index = 0; index < ranges; index++) {
+      minValue += 1 + random.nextInt(100);
+      minValues[index] = minValue;
+      maxValues[index] = minValue + 1 + random.nextInt(100);
+      longRanges[index] = LongRange.of(minValues[index], maxValues[index]);
+      minValue = maxValues[index];
+    }
+    rangeSet = LongRangeSet.of(longRanges);
+    probes = new long[PROBES];
+    for (int index = 0; index < PROBES; index++) {
+      probes[index] = (long) (random.nextDouble() * (minValue + 100));
+    }
+  }
+
+  @Benchmark
+  public boolean containsLinear() {
+    long value = probes[next++ & (PROBES - 1)];
+    for (int index = 0; index < minValues.length; index++) {
+      if (ObjectUtils.inRange(minValues[index], maxValues[index], value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Benchmark
+  public boolean containsRangeSet() {
+    return rangeSet.contains(probes[next++ & (PROBES - 1)]);
+  }
+}
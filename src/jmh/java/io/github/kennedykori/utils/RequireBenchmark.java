@@ -0,0 +1,508 @@
+package io.github.kennedykori.utils;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+/**
+ * Throughput and allocation benchmarks for the numeric {@code require*} validators. The
+ * <i>Success</i> variants measure validations that pass while the <i>Failure</i> variants measure
+ * validations that throw, including the cost of creating the exception.
+ */
+@SuppressWarnings("index:argument")
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RequireBenchmark {
+  @Benchmark
+  public int requireEqualToIntSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireEqualTo(v.intEqual, v.intValue);
+  }
+
+  @Benchmark
+  public Object requireEqualToIntFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireEqualTo(v.intOutside, v.intValue);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public long requireEqualToLongSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireEqualTo(v.longEqual, v.longValue);
+  }
+
+  @Benchmark
+  public Object requireEqualToLongFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireEqualTo(v.longOutside, v.longValue);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public float requireEqualToFloatSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireEqualTo(v.floatEqual, v.floatValue);
+  }
+
+  @Benchmark
+  public Object requireEqualToFloatFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireEqualTo(v.floatOutside, v.floatValue);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public double requireEqualToDoubleSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireEqualTo(v.doubleEqual, v.doubleValue);
+  }
+
+  @Benchmark
+  public Object requireEqualToDoubleFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireEqualTo(v.doubleOutside, v.doubleValue);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public BigDecimal requireEqualToDecimalSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireEqualTo(v.decimalEqual, v.decimalValue);
+  }
+
+  @Benchmark
+  public Object requireEqualToDecimalFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireEqualTo(v.decimalOutside, v.decimalValue);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public int requireGreaterThanIntSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireGreaterThan(v.intLow, v.intValue);
+  }
+
+  @Benchmark
+  public Object requireGreaterThanIntFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireGreaterThan(v.intHigh, v.intValue);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public long requireGreaterThanLongSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireGreaterThan(v.longLow, v.longValue);
+  }
+
+  @Benchmark
+  public Object requireGreaterThanLongFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireGreaterThan(v.longHigh, v.longValue);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public float requireGreaterThanFloatSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireGreaterThan(v.floatLow, v.floatValue);
+  }
+
+  @Benchmark
+  public Object requireGreaterThanFloatFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireGreaterThan(v.floatHigh, v.floatValue);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public double requireGreaterThanDoubleSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireGreaterThan(v.doubleLow, v.doubleValue);
+  }
+
+  @Benchmark
+  public Object requireGreaterThanDoubleFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireGreaterThan(v.doubleHigh, v.doubleValue);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public BigDecimal requireGreaterThanDecimalSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireGreaterThan(v.decimalLow, v.decimalValue);
+  }
+
+  @Benchmark
+  public Object requireGreaterThanDecimalFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireGreaterThan(v.decimalHigh, v.decimalValue);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public int requireGreaterThanOrEqualToIntSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireGreaterThanOrEqualTo(v.intLow, v.intValue);
+  }
+
+  @Benchmark
+  public Object requireGreaterThanOrEqualToIntFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireGreaterThanOrEqualTo(v.intHigh, v.intValue);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public long requireGreaterThanOrEqualToLongSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireGreaterThanOrEqualTo(v.longLow, v.longValue);
+  }
+
+  @Benchmark
+  public Object requireGreaterThanOrEqualToLongFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireGreaterThanOrEqualTo(v.longHigh, v.longValue);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public float requireGreaterThanOrEqualToFloatSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireGreaterThanOrEqualTo(v.floatLow, v.floatValue);
+  }
+
+  @Benchmark
+  public Object requireGreaterThanOrEqualToFloatFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireGreaterThanOrEqualTo(v.floatHigh, v.floatValue);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public double requireGreaterThanOrEqualToDoubleSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireGreaterThanOrEqualTo(v.doubleLow, v.doubleValue);
+  }
+
+  @Benchmark
+  public Object requireGreaterThanOrEqualToDoubleFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireGreaterThanOrEqualTo(v.doubleHigh, v.doubleValue);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public BigDecimal requireGreaterThanOrEqualToDecimalSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireGreaterThanOrEqualTo(v.decimalLow, v.decimalValue);
+  }
+
+  @Benchmark
+  public Object requireGreaterThanOrEqualToDecimalFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireGreaterThanOrEqualTo(v.decimalHigh, v.decimalValue);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public int requireInRangeIntSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireInRange(v.intLow, v.intHigh, v.intValue);
+  }
+
+  @Benchmark
+  public Object requireInRangeIntFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireInRange(v.intLow, v.intHigh, v.intOutside);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public long requireInRangeLongSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireInRange(v.longLow, v.longHigh, v.longValue);
+  }
+
+  @Benchmark
+  public Object requireInRangeLongFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireInRange(v.longLow, v.longHigh, v.longOutside);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public float requireInRangeFloatSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireInRange(v.floatLow, v.floatHigh, v.floatValue);
+  }
+
+  @Benchmark
+  public Object requireInRangeFloatFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireInRange(v.floatLow, v.floatHigh, v.floatOutside);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public double requireInRangeDoubleSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireInRange(v.doubleLow, v.doubleHigh, v.doubleValue);
+  }
+
+  @Benchmark
+  public Object requireInRangeDoubleFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireInRange(v.doubleLow, v.doubleHigh, v.doubleOutside);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public BigDecimal requireInRangeDecimalSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireInRange(v.decimalLow, v.decimalHigh, v.decimalValue);
+  }
+
+  @Benchmark
+  public Object requireInRangeDecimalFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireInRange(v.decimalLow, v.decimalHigh, v.decimalOutside);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public int requireLessThanIntSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireLessThan(v.intHigh, v.intValue);
+  }
+
+  @Benchmark
+  public Object requireLessThanIntFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireLessThan(v.intLow, v.intValue);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public long requireLessThanLongSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireLessThan(v.longHigh, v.longValue);
+  }
+
+  @Benchmark
+  public Object requireLessThanLongFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireLessThan(v.longLow, v.longValue);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public float requireLessThanFloatSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireLessThan(v.floatHigh, v.floatValue);
+  }
+
+  @Benchmark
+  public Object requireLessThanFloatFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireLessThan(v.floatLow, v.floatValue);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public double requireLessThanDoubleSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireLessThan(v.doubleHigh, v.doubleValue);
+  }
+
+  @Benchmark
+  public Object requireLessThanDoubleFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireLessThan(v.doubleLow, v.doubleValue);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public BigDecimal requireLessThanDecimalSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireLessThan(v.decimalHigh, v.decimalValue);
+  }
+
+  @Benchmark
+  public Object requireLessThanDecimalFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireLessThan(v.decimalLow, v.decimalValue);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public int requireLessThanOrEqualToIntSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireLessThanOrEqualTo(v.intHigh, v.intValue);
+  }
+
+  @Benchmark
+  public Object requireLessThanOrEqualToIntFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireLessThanOrEqualTo(v.intLow, v.intValue);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public long requireLessThanOrEqualToLongSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireLessThanOrEqualTo(v.longHigh, v.longValue);
+  }
+
+  @Benchmark
+  public Object requireLessThanOrEqualToLongFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireLessThanOrEqualTo(v.longLow, v.longValue);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public float requireLessThanOrEqualToFloatSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireLessThanOrEqualTo(v.floatHigh, v.floatValue);
+  }
+
+  @Benchmark
+  public Object requireLessThanOrEqualToFloatFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireLessThanOrEqualTo(v.floatLow, v.floatValue);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public double requireLessThanOrEqualToDoubleSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireLessThanOrEqualTo(v.doubleHigh, v.doubleValue);
+  }
+
+  @Benchmark
+  public Object requireLessThanOrEqualToDoubleFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireLessThanOrEqualTo(v.doubleLow, v.doubleValue);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public BigDecimal requireLessThanOrEqualToDecimalSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireLessThanOrEqualTo(v.decimalHigh, v.decimalValue);
+  }
+
+  @Benchmark
+  public Object requireLessThanOrEqualToDecimalFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireLessThanOrEqualTo(v.decimalLow, v.decimalValue);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public int requireNonNegativeIntSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireNonNegative(v.intValue);
+  }
+
+  @Benchmark
+  public Object requireNonNegativeIntFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireNonNegative(-v.intValue);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public long requireNonNegativeLongSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireNonNegative(v.longValue);
+  }
+
+  @Benchmark
+  public Object requireNonNegativeLongFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireNonNegative(-v.longValue);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public float requireNonNegativeFloatSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireNonNegative(v.floatValue);
+  }
+
+  @Benchmark
+  public Object requireNonNegativeFloatFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireNonNegative(-v.floatValue);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public double requireNonNegativeDoubleSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireNonNegative(v.doubleValue);
+  }
+
+  @Benchmark
+  public Object requireNonNegativeDoubleFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireNonNegative(-v.doubleValue);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public BigDecimal requireNonNegativeDecimalSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireNonNegative(v.decimalValue);
+  }
+
+  @Benchmark
+  public Object requireNonNegativeDecimalFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireNonNegative(v.decimalValue.negate());
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+}
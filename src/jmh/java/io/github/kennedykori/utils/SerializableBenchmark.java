@@ -0,0 +1,98 @@
+package io.github.kennedykori.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Throughput benchmarks for the serializability checks of {@link ObjectUtils}. The <i>Shallow</i>
+ * variant is the {@code instanceof} baseline, the <i>Settled</i> variant checks an object whose
+ * class is settled as serializable by its cached analysis and the <i>Graph</i> variant checks an
+ * object whose fields and elements have to be walked. The <i>SizeAtMost</i> variants check a large
+ * object against a small limit, either by buffering its whole serialized form, the baseline, or
+ * with {@link ObjectUtils#isSerializedSizeAtMost(long, Object)}, which aborts the serialization
+ * once the limit is exceeded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializableBenchmark {
+  private Leaf leaf;
+  private Node graph;
+  private long[] large;
+
+  @Setup
+  public void setUp() {
+    leaf = new Leaf("leaf", 42);
+    List<Object> children = new ArrayList<>();
+    for (int i = 0; i < 16; i++) {
+      children.add(new Leaf("child" + i, i));
+    }
+    graph = new Node(leaf, children);
+    large = new long[1 << 20];
+  }
+
+  @Benchmark
+  public boolean isSerializableShallow() {
+    return ObjectUtils.isSerializable(leaf);
+  }
+
+  @Benchmark
+  public boolean isDeeplySerializableSettled() {
+    return ObjectUtils.isDeeplySerializable(leaf);
+  }
+
+  @Benchmark
+  public boolean isDeeplySerializableGraph() {
+    return ObjectUtils.isDeeplySerializable(graph);
+  }
+
+  @Benchmark
+  public boolean isSerializedSizeAtMostBuffered() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(large);
+    }
+    return bytes.size() <= 65536;
+  }
+
+  @Benchmark
+  public boolean isSerializedSizeAtMost() {
+    return ObjectUtils.isSerializedSizeAtMost(65536, large);
+  }
+
+  static final class Leaf implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String name;
+    private final int value;
+
+    Leaf(String name, int value) {
+      this.name = name;
+      this.value = value;
+    }
+  }
+
+  static final class Node implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final Object value;
+    private final List<Object> children;
+
+    Node(Object value, List<Object> children) {
+      this.value = value;
+      this.children = children;
+    }
+  }
+}
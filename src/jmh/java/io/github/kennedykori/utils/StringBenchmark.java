@@ -0,0 +1,140 @@
+package io.github.kennedykori.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+/**
+ * Throughput and allocation benchmarks for the {@code String} length checks and validators. The
+ * <i>Success</i> variants measure checks that hold while the <i>Failure</i> variants measure checks
+ * that do not, or, for validators, that throw. The <i>Encoded</i> variants are the baselines for
+ * the UTF-8 length checks and encode the {@code String} to count its bytes.
+ */
+@SuppressWarnings({"index:argument", "value:argument"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StringBenchmark {
+  @Benchmark
+  public boolean hasCharsInRangeSuccess(BenchmarkValues v) {
+    return ObjectUtils.hasCharsInRange(v.minChars, v.maxChars, v.text);
+  }
+
+  @Benchmark
+  public boolean hasCharsInRangeFailure(BenchmarkValues v) {
+    return ObjectUtils.hasCharsInRange(v.minChars, v.maxChars, v.longText);
+  }
+
+  @Benchmark
+  public boolean hasLessThanCharsSuccess(BenchmarkValues v) {
+    return ObjectUtils.hasLessThanChars(v.maxChars, v.text);
+  }
+
+  @Benchmark
+  public boolean hasLessThanCharsFailure(BenchmarkValues v) {
+    return ObjectUtils.hasLessThanChars(v.maxChars, v.longText);
+  }
+
+  @Benchmark
+  public boolean hasMoreThanCharsSuccess(BenchmarkValues v) {
+    return ObjectUtils.hasMoreThanChars(v.minChars, v.text);
+  }
+
+  @Benchmark
+  public boolean hasMoreThanCharsFailure(BenchmarkValues v) {
+    return ObjectUtils.hasMoreThanChars(v.minChars, v.emptyText);
+  }
+
+  @Benchmark
+  public String requireCharsInRangeSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireCharsInRange(v.minChars, v.maxChars, v.text);
+  }
+
+  @Benchmark
+  public Object requireCharsInRangeFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireCharsInRange(v.minChars, v.maxChars, v.longText);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public String requireLessThanCharsSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireLessThanChars(v.maxChars, v.text);
+  }
+
+  @Benchmark
+  public Object requireLessThanCharsFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireLessThanChars(v.maxChars, v.longText);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public String requireMoreThanCharsSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireMoreThanChars(v.minChars, v.text);
+  }
+
+  @Benchmark
+  public Object requireMoreThanCharsFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireMoreThanChars(v.minChars, v.emptyText);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public String requireNonEmptyStringSuccess(BenchmarkValues v) {
+    return ObjectUtils.requireNonEmptyString(v.text);
+  }
+
+  @Benchmark
+  public Object requireNonEmptyStringFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireNonEmptyString(v.emptyText);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public boolean hasUtf8BytesAtMostAscii(BenchmarkValues v) {
+    return ObjectUtils.hasUtf8BytesAtMost(v.maxChars, v.longText);
+  }
+
+  @Benchmark
+  public boolean hasUtf8BytesAtMostUnicode(BenchmarkValues v) {
+    return ObjectUtils.hasUtf8BytesAtMost(v.maxChars * 2, v.unicodeText);
+  }
+
+  @Benchmark
+  public boolean hasUtf8BytesAtMostUnicodeEncoded(BenchmarkValues v) {
+    return v.unicodeText.getBytes(StandardCharsets.UTF_8).length <= v.maxChars * 2;
+  }
+
+  @Benchmark
+  public boolean hasUtf8BytesInRangeUnicode(BenchmarkValues v) {
+    return ObjectUtils.hasUtf8BytesInRange(v.minChars, v.maxChars * 2, v.unicodeText);
+  }
+
+  @Benchmark
+  public boolean hasCodePointsInRangeSuccess(BenchmarkValues v) {
+    return ObjectUtils.hasCodePointsInRange(v.minChars, v.maxChars, v.text);
+  }
+
+  @Benchmark
+  public boolean hasCodePointsInRangeUnicode(BenchmarkValues v) {
+    return ObjectUtils.hasCodePointsInRange(v.minChars, v.maxChars + 5, v.unicodeText);
+  }
+
+  @Benchmark
+  public boolean hasLessThanCodePointsFailure(BenchmarkValues v) {
+    return ObjectUtils.hasLessThanCodePoints(v.maxChars, v.longText);
+  }
+}
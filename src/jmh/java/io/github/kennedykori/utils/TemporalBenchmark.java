@@ -0,0 +1,76 @@
+package io.github.kennedykori.utils;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Throughput and allocation benchmarks for checking timestamps against a fixed window. The
+ * <i>EpochMilli</i> variants are the baselines that convert the timestamps to epoch milliseconds by
+ * hand and check them with {@link ObjectUtils#inRange(long, long, long)}. The <i>Failure</i>
+ * variants measure a timestamp after the window.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TemporalBenchmark {
+  private static final Instant START = Instant.parse("2024-06-01T00:00:00Z");
+  private static final Instant END = Instant.parse("2024-06-01T00:05:00Z");
+  private static final InstantRange WINDOW = InstantRange.of(START, END);
+  private static final OffsetDateTime OFFSET_START = START.atOffset(ZoneOffset.UTC);
+  private static final OffsetDateTime OFFSET_END = END.atOffset(ZoneOffset.UTC);
+
+  public Instant instant = Instant.parse("2024-06-01T00:01:00.5Z");
+  public Instant late = Instant.parse("2024-06-01T00:05:00.5Z");
+  public OffsetDateTime offsetDateTime = instant.atOffset(ZoneOffset.ofHours(3));
+
+  @Benchmark
+  public boolean inRangeInstant() {
+    return ObjectUtils.inRange(START, END, instant);
+  }
+
+  @Benchmark
+  public boolean inRangeInstantEpochMilli() {
+    return ObjectUtils.inRange(START.toEpochMilli(), END.toEpochMilli(), instant.toEpochMilli());
+  }
+
+  @Benchmark
+  public boolean inRangeInstantFailure() {
+    return ObjectUtils.inRange(START, END, late);
+  }
+
+  @Benchmark
+  public boolean instantRange() {
+    return WINDOW.contains(instant);
+  }
+
+  @Benchmark
+  public boolean instantRangeFailure() {
+    return WINDOW.contains(late);
+  }
+
+  @Benchmark
+  public boolean inRangeOffsetDateTime() {
+    return ObjectUtils.inRange(OFFSET_START, OFFSET_END, offsetDateTime);
+  }
+
+  @Benchmark
+  public boolean inRangeOffsetDateTimeEpochMilli() {
+    return ObjectUtils.inRange(
+        OFFSET_START.toInstant().toEpochMilli(),
+        OFFSET_END.toInstant().toEpochMilli(),
+        offsetDateTime.toInstant().toEpochMilli());
+  }
+
+  @Benchmark
+  public boolean instantRangeOffsetDateTime() {
+    return WINDOW.contains(offsetDateTime);
+  }
+}
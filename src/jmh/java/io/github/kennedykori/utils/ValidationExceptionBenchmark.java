@@ -0,0 +1,74 @@
+package io.github.kennedykori.utils;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Throughput and allocation benchmarks for rejecting values, with and without capturing the stack
+ * traces of the thrown {@link ValidationException}s. The <i>Message</i> variants also render the
+ * message of the exception.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ValidationExceptionBenchmark {
+  @Param({"false", "true"})
+  public boolean stackless;
+
+  private boolean initialStackless;
+
+  @Setup
+  public void setUp() {
+    initialStackless = ValidationException.isStackless();
+    ValidationException.setStackless(stackless);
+  }
+
+  @TearDown
+  public void tearDown() {
+    ValidationException.setStackless(initialStackless);
+  }
+
+  @Benchmark
+  public Object requireInRangeIntFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireInRange(v.intLow, v.intHigh, v.intOutside);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object requireInRangeIntFailureMessage(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireInRange(v.intLow, v.intHigh, v.intOutside);
+    } catch (IllegalArgumentException e) {
+      return e.getMessage();
+    }
+  }
+
+  @Benchmark
+  public Object requireInRangeDoubleFailure(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireInRange(v.doubleLow, v.doubleHigh, v.doubleOutside);
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object requireInRangeDoubleFailureMessage(BenchmarkValues v) {
+    try {
+      return ObjectUtils.requireInRange(v.doubleLow, v.doubleHigh, v.doubleOutside);
+    } catch (IllegalArgumentException e) {
+      return e.getMessage();
+    }
+  }
+}
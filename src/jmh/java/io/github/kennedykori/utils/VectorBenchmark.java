@@ -0,0 +1,147 @@
+package io.github.kennedykori.utils;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Throughput benchmarks for the bulk checks of {@link ArrayUtils} on large arrays compared to the
+ * scalar checks in {@link ScalarChecks}. The <i>Scalar</i> variants are the baselines. On Java 21
+ * and later, with the {@code jdk.incubator.vector} module present, the {@link ArrayUtils} methods
+ * use the Vector API; run the benchmarks with {@code ./gradlew jmh -Pjmh.vector
+ * -Pjmh.includes=VectorBenchmark} to measure the speedup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VectorBenchmark {
+  @Param({"65536", "1048576"})
+  public int size;
+
+  private int[] ints;
+  private long[] longs;
+  private float[] floats;
+  private double[] doubles;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    ints = new int[size];
+    longs = new long[size];
+    floats = new float[size];
+    doubles = new double[size];
+    for (int i = 0; i < size; i++) {
+      ints[i] = random.nextInt(100);
+      longs[i] = random.nextInt(100);
+      floats[i] = random.nextFloat() * 100;
+      doubles[i] = random.nextDouble() * 100;
+    }
+  }
+
+  @Benchmark
+  public boolean allInRangeInt() {
+    return ArrayUtils.allInRange(0, 100, ints);
+  }
+
+  @Benchmark
+  public boolean allInRangeIntScalar() {
+    return ScalarChecks.allInRange(0, 100, ints, 0, size);
+  }
+
+  @Benchmark
+  public boolean allInRangeLong() {
+    return ArrayUtils.allInRange(0L, 100L, longs);
+  }
+
+  @Benchmark
+  public boolean allInRangeLongScalar() {
+    return ScalarChecks.allInRange(0L, 100L, longs, 0, size);
+  }
+
+  @Benchmark
+  public boolean allInRangeFloat() {
+    return ArrayUtils.allInRange(0F, 100F, floats);
+  }
+
+  @Benchmark
+  public boolean allInRangeFloatScalar() {
+    return ScalarChecks.allInRange(0F, 100F, floats, 0, size);
+  }
+
+  @Benchmark
+  public boolean allInRangeDouble() {
+    return ArrayUtils.allInRange(0D, 100D, doubles);
+  }
+
+  @Benchmark
+  public boolean allInRangeDoubleScalar() {
+    return ScalarChecks.allInRange(0D, 100D, doubles, 0, size);
+  }
+
+  @Benchmark
+  public boolean allNonNegativeInt() {
+    return ArrayUtils.allNonNegative(ints);
+  }
+
+  @Benchmark
+  public boolean allNonNegativeIntScalar() {
+    return ScalarChecks.allNonNegative(ints, 0, size);
+  }
+
+  @Benchmark
+  public boolean allNonNegativeLong() {
+    return ArrayUtils.allNonNegative(longs);
+  }
+
+  @Benchmark
+  public boolean allNonNegativeLongScalar() {
+    return ScalarChecks.allNonNegative(longs, 0, size);
+  }
+
+  @Benchmark
+  public boolean allNonNegativeFloat() {
+    return ArrayUtils.allNonNegative(floats);
+  }
+
+  @Benchmark
+  public boolean allNonNegativeFloatScalar() {
+    return ScalarChecks.allNonNegative(floats, 0, size);
+  }
+
+  @Benchmark
+  public boolean allNonNegativeDouble() {
+    return ArrayUtils.allNonNegative(doubles);
+  }
+
+  @Benchmark
+  public boolean allNonNegativeDoubleScalar() {
+    return ScalarChecks.allNonNegative(doubles, 0, size);
+  }
+
+  @Benchmark
+  public boolean allEqualToInt() {
+    return ArrayUtils.allEqualTo(ints[0], ints);
+  }
+
+  @Benchmark
+  public boolean allEqualToIntScalar() {
+    return ScalarChecks.allEqualTo(ints[0], ints, 0, size);
+  }
+
+  @Benchmark
+  public boolean allEqualToDouble() {
+    return ArrayUtils.allEqualTo(doubles[0], doubles);
+  }
+
+  @Benchmark
+  public boolean allEqualToDoubleScalar() {
+    return ScalarChecks.allEqualTo(doubles[0], doubles, 0, size);
+  }
+}
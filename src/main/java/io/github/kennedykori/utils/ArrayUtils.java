@@ -0,0 +1,3784 @@
+package io.github.kennedykori.utils;
+
+import static java.util.Objects.checkFromToIndex;
+import static java.util.Objects.requireNonNull;
+
+import io.github.kennedykori.utils.ValidationException.Check;
+import org.checkerframework.checker.index.qual.GTENegativeOne;
+import org.checkerframework.checker.index.qual.IndexOrHigh;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.dataflow.qual.SideEffectFree;
+
+/**
+ * This class consists of {@code static} utility methods for checking and validating all the
+ * elements of {@code int}, {@code long}, {@code float} and {@code double} arrays at once. Every
+ * method operates either on a whole array or on the elements of an array between a {@code
+ * fromIndex} <i><strong>(inclusive)</strong></i> and a {@code toIndex} <i><strong>(exclusive)
+ * </strong></i>.
+ *
+ * <p>The methods fall into four groups. The <i>all</i> methods, e.g. {@link #allInRange(int, int,
+ * int[])}, return {@code true} if every element satisfies a condition. The <i>indexOf</i> methods,
+ * e.g. {@link #indexOfNotInRange(int, int, int[])}, return the index of the first element that
+ * fails the condition or {@code -1}. The <i>indices</i> methods, e.g. {@link
+ * #indicesNotInRange(int, int, int[])}, return the indices of all the elements that fail the
+ * condition. Finally, the <i>require</i> methods, e.g. {@link #requireAllInRange(int, int, int[])},
+ * return the array if every element satisfies the condition and otherwise throw a {@link
+ * ValidationException} whose {@link ValidationException#getIndex() index} is that of the first
+ * element that failed the condition.
+ *
+ * <p>Checking the elements one at a time with the methods in {@link ObjectUtils} exits the loop as
+ * soon as an element fails, which prevents the JIT compiler from vectorizing it. Instead, the
+ * methods in this class first reduce the elements without branching, i.e. to their minimum and
+ * maximum values or to the bitwise OR of their bits, and then check the result once. Arrays whose
+ * elements all satisfy the condition, which is the common case, are therefore checked in a single
+ * vectorizable pass. The elements are only scanned one at a time to locate the elements that
+ * failed.
+ *
+ * <p>On Java 21 and later, the library JAR, which is a multi-release JAR, explicitly vectorizes the
+ * <i>all</i> checks with the Vector API when the JVM is started with {@code --add-modules
+ * jdk.incubator.vector}. Otherwise, the checks are left to the JIT compiler. Very large arrays can
+ * be checked in parallel with {@link ParallelArrayChecks}.
+ *
+ * <p>Like the methods in {@link ObjectUtils}, {@code float} and {@code double} elements are
+ * compared as {@link Float#compare(float, float)} and {@link Double#compare(double, double)} would,
+ * i.e. {@code -0.0} is less than {@code 0.0} and {@code NaN} is greater than every other value,
+ * including positive infinity, and equal only to itself.
+ *
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * @see ObjectUtils
+ * @see ParallelArrayChecks
+ * @since 3.0.0
+ */
+public final class ArrayUtils {
+
+  /* The indices returned when none of the elements failed a check. */
+  private static final int[] EMPTY_INDICES = new int[0];
+
+  // ========================================================================
+  // IN RANGE CHECKS
+  // ========================================================================
+
+  /**
+   * Checks that all the elements of the specified {@code int} array are in range of the specified
+   * minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code true} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, {@code false} otherwise. An {@link
+   * IllegalArgumentException} will be thrown if the maximum value is less than the minimum value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return {@code true} if all the elements are in the specified range, {@code false} otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SideEffectFree
+  public static boolean allInRange(int minValue, int maxValue, int[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return allInRange(minValue, maxValue, values, 0, values.length);
+  }
+
+  /**
+   * Checks that all the elements from index {@code fromIndex} <i><strong>(inclusive)</strong></i>
+   * to index {@code toIndex} <i><strong>(exclusive)</strong></i> of the specified {@code int} array
+   * are in range of the specified minimum value <i><strong>(inclusive)</strong></i> and maximum
+   * value <i><strong>(exclusive)</strong></i>. Returns {@code true} if every element is greater
+   * than or equal to {@code minValue} and less than {@code maxValue}, {@code false} otherwise. An
+   * {@link IllegalArgumentException} will be thrown if the maximum value is less than the minimum
+   * value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return {@code true} if all the elements are in the specified range, {@code false} otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SideEffectFree
+  public static boolean allInRange(
+      int minValue,
+      int maxValue,
+      int[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    requireValidRange(minValue, maxValue);
+    checkFromToIndex(fromIndex, toIndex, requireNonNull(values, "values cannot be null.").length);
+    return BulkChecks.allInRange(minValue, maxValue, values, fromIndex, toIndex);
+  }
+
+  /**
+   * Checks that all the elements of the specified {@code long} array are in range of the specified
+   * minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code true} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, {@code false} otherwise. An {@link
+   * IllegalArgumentException} will be thrown if the maximum value is less than the minimum value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return {@code true} if all the elements are in the specified range, {@code false} otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SideEffectFree
+  public static boolean allInRange(long minValue, long maxValue, long[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return allInRange(minValue, maxValue, values, 0, values.length);
+  }
+
+  /**
+   * Checks that all the elements from index {@code fromIndex} <i><strong>(inclusive)</strong></i>
+   * to index {@code toIndex} <i><strong>(exclusive)</strong></i> of the specified {@code long}
+   * array are in range of the specified minimum value <i><strong>(inclusive)</strong></i> and
+   * maximum value <i><strong>(exclusive)</strong></i>. Returns {@code true} if every element is
+   * greater than or equal to {@code minValue} and less than {@code maxValue}, {@code false}
+   * otherwise. An {@link IllegalArgumentException} will be thrown if the maximum value is less than
+   * the minimum value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return {@code true} if all the elements are in the specified range, {@code false} otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SideEffectFree
+  public static boolean allInRange(
+      long minValue,
+      long maxValue,
+      long[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    requireValidRange(minValue, maxValue);
+    checkFromToIndex(fromIndex, toIndex, requireNonNull(values, "values cannot be null.").length);
+    return BulkChecks.allInRange(minValue, maxValue, values, fromIndex, toIndex);
+  }
+
+  /**
+   * Checks that all the elements of the specified {@code float} array are in range of the specified
+   * minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code true} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, {@code false} otherwise. An {@link
+   * IllegalArgumentException} will be thrown if the maximum value is less than the minimum value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return {@code true} if all the elements are in the specified range, {@code false} otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SideEffectFree
+  public static boolean allInRange(float minValue, float maxValue, float[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return allInRange(minValue, maxValue, values, 0, values.length);
+  }
+
+  /**
+   * Checks that all the elements from index {@code fromIndex} <i><strong>(inclusive)</strong></i>
+   * to index {@code toIndex} <i><strong>(exclusive)</strong></i> of the specified {@code float}
+   * array are in range of the specified minimum value <i><strong>(inclusive)</strong></i> and
+   * maximum value <i><strong>(exclusive)</strong></i>. Returns {@code true} if every element is
+   * greater than or equal to {@code minValue} and less than {@code maxValue}, {@code false}
+   * otherwise. An {@link IllegalArgumentException} will be thrown if the maximum value is less than
+   * the minimum value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return {@code true} if all the elements are in the specified range, {@code false} otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SideEffectFree
+  public static boolean allInRange(
+      float minValue,
+      float maxValue,
+      float[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    requireValidRange(minValue, maxValue);
+    checkFromToIndex(fromIndex, toIndex, requireNonNull(values, "values cannot be null.").length);
+    return BulkChecks.allInRange(minValue, maxValue, values, fromIndex, toIndex);
+  }
+
+  /**
+   * Checks that all the elements of the specified {@code double} array are in range of the
+   * specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code true} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, {@code false} otherwise. An {@link
+   * IllegalArgumentException} will be thrown if the maximum value is less than the minimum value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return {@code true} if all the elements are in the specified range, {@code false} otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SideEffectFree
+  public static boolean allInRange(double minValue, double maxValue, double[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return allInRange(minValue, maxValue, values, 0, values.length);
+  }
+
+  /**
+   * Checks that all the elements from index {@code fromIndex} <i><strong>(inclusive)</strong></i>
+   * to index {@code toIndex} <i><strong>(exclusive)</strong></i> of the specified {@code double}
+   * array are in range of the specified minimum value <i><strong>(inclusive)</strong></i> and
+   * maximum value <i><strong>(exclusive)</strong></i>. Returns {@code true} if every element is
+   * greater than or equal to {@code minValue} and less than {@code maxValue}, {@code false}
+   * otherwise. An {@link IllegalArgumentException} will be thrown if the maximum value is less than
+   * the minimum value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return {@code true} if all the elements are in the specified range, {@code false} otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SideEffectFree
+  public static boolean allInRange(
+      double minValue,
+      double maxValue,
+      double[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    requireValidRange(minValue, maxValue);
+    checkFromToIndex(fromIndex, toIndex, requireNonNull(values, "values cannot be null.").length);
+    return BulkChecks.allInRange(minValue, maxValue, values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns the index of the first element of the specified {@code int} array that is not in range
+   * of the specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>, or {@code -1} if all the elements are in range. An {@link
+   * IllegalArgumentException} will be thrown if the maximum value is less than the minimum value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return the index of the first element that is not in the specified range or {@code -1} if all
+   *     the elements are in range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SideEffectFree
+  public static @GTENegativeOne int indexOfNotInRange(int minValue, int maxValue, int[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indexOfNotInRange(minValue, maxValue, values, 0, values.length);
+  }
+
+  /**
+   * Returns the index of the first element of the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code int} array that is not in range of
+   * the specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>, or {@code -1} if all the elements are in range. An {@link
+   * IllegalArgumentException} will be thrown if the maximum value is less than the minimum value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return the index of the first element that is not in the specified range or {@code -1} if all
+   *     the elements are in range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SuppressWarnings("index:array.access.unsafe.high")
+  @SideEffectFree
+  public static @GTENegativeOne int indexOfNotInRange(
+      int minValue,
+      int maxValue,
+      int[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    if (allInRange(minValue, maxValue, values, fromIndex, toIndex)) {
+      return -1;
+    }
+    // At least one element failed the check, so the scan stops before reaching toIndex
+    for (int i = fromIndex; ; i++) {
+      if (values[i] < minValue || values[i] >= maxValue) {
+        return i;
+      }
+    }
+  }
+
+  /**
+   * Returns the index of the first element of the specified {@code long} array that is not in range
+   * of the specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>, or {@code -1} if all the elements are in range. An {@link
+   * IllegalArgumentException} will be thrown if the maximum value is less than the minimum value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return the index of the first element that is not in the specified range or {@code -1} if all
+   *     the elements are in range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SideEffectFree
+  public static @GTENegativeOne int indexOfNotInRange(long minValue, long maxValue, long[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indexOfNotInRange(minValue, maxValue, values, 0, values.length);
+  }
+
+  /**
+   * Returns the index of the first element of the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code long} array that is not in range of
+   * the specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>, or {@code -1} if all the elements are in range. An {@link
+   * IllegalArgumentException} will be thrown if the maximum value is less than the minimum value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return the index of the first element that is not in the specified range or {@code -1} if all
+   *     the elements are in range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SuppressWarnings("index:array.access.unsafe.high")
+  @SideEffectFree
+  public static @GTENegativeOne int indexOfNotInRange(
+      long minValue,
+      long maxValue,
+      long[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    if (allInRange(minValue, maxValue, values, fromIndex, toIndex)) {
+      return -1;
+    }
+    // At least one element failed the check, so the scan stops before reaching toIndex
+    for (int i = fromIndex; ; i++) {
+      if (values[i] < minValue || values[i] >= maxValue) {
+        return i;
+      }
+    }
+  }
+
+  /**
+   * Returns the index of the first element of the specified {@code float} array that is not in
+   * range of the specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>, or {@code -1} if all the elements are in range. An {@link
+   * IllegalArgumentException} will be thrown if the maximum value is less than the minimum value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return the index of the first element that is not in the specified range or {@code -1} if all
+   *     the elements are in range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SideEffectFree
+  public static @GTENegativeOne int indexOfNotInRange(
+      float minValue, float maxValue, float[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indexOfNotInRange(minValue, maxValue, values, 0, values.length);
+  }
+
+  /**
+   * Returns the index of the first element of the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code float} array that is not in range
+   * of the specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>, or {@code -1} if all the elements are in range. An {@link
+   * IllegalArgumentException} will be thrown if the maximum value is less than the minimum value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return the index of the first element that is not in the specified range or {@code -1} if all
+   *     the elements are in range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SuppressWarnings("index:array.access.unsafe.high")
+  @SideEffectFree
+  public static @GTENegativeOne int indexOfNotInRange(
+      float minValue,
+      float maxValue,
+      float[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    if (allInRange(minValue, maxValue, values, fromIndex, toIndex)) {
+      return -1;
+    }
+    // At least one element failed the check, so the scan stops before reaching toIndex
+    for (int i = fromIndex; ; i++) {
+      if (Float.compare(values[i], minValue) < 0 || Float.compare(values[i], maxValue) >= 0) {
+        return i;
+      }
+    }
+  }
+
+  /**
+   * Returns the index of the first element of the specified {@code double} array that is not in
+   * range of the specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>, or {@code -1} if all the elements are in range. An {@link
+   * IllegalArgumentException} will be thrown if the maximum value is less than the minimum value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return the index of the first element that is not in the specified range or {@code -1} if all
+   *     the elements are in range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SideEffectFree
+  public static @GTENegativeOne int indexOfNotInRange(
+      double minValue, double maxValue, double[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indexOfNotInRange(minValue, maxValue, values, 0, values.length);
+  }
+
+  /**
+   * Returns the index of the first element of the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code double} array that is not in range
+   * of the specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>, or {@code -1} if all the elements are in range. An {@link
+   * IllegalArgumentException} will be thrown if the maximum value is less than the minimum value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return the index of the first element that is not in the specified range or {@code -1} if all
+   *     the elements are in range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SuppressWarnings("index:array.access.unsafe.high")
+  @SideEffectFree
+  public static @GTENegativeOne int indexOfNotInRange(
+      double minValue,
+      double maxValue,
+      double[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    if (allInRange(minValue, maxValue, values, fromIndex, toIndex)) {
+      return -1;
+    }
+    // At least one element failed the check, so the scan stops before reaching toIndex
+    for (int i = fromIndex; ; i++) {
+      if (Double.compare(values[i], minValue) < 0 || Double.compare(values[i], maxValue) >= 0) {
+        return i;
+      }
+    }
+  }
+
+  /**
+   * Returns the indices, in ascending order, of all the elements of the specified {@code int} array
+   * that are not in range of the specified minimum value <i><strong>(inclusive)</strong></i> and
+   * maximum value <i><strong>(exclusive)</strong></i>. An empty array is returned if all the
+   * elements are in range. An {@link IllegalArgumentException} will be thrown if the maximum value
+   * is less than the minimum value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return the indices of all the elements that are not in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SideEffectFree
+  public static int[] indicesNotInRange(int minValue, int maxValue, int[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indicesNotInRange(minValue, maxValue, values, 0, values.length);
+  }
+
+  /**
+   * Returns the indices, in ascending order, of all the elements of the elements from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code int} array that are not in range of
+   * the specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. An empty array is returned if all the elements are in
+   * range. An {@link IllegalArgumentException} will be thrown if the maximum value is less than the
+   * minimum value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return the indices of all the elements that are not in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SuppressWarnings("index:array.access.unsafe.high")
+  @SideEffectFree
+  public static int[] indicesNotInRange(
+      int minValue,
+      int maxValue,
+      int[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    if (allInRange(minValue, maxValue, values, fromIndex, toIndex)) {
+      return EMPTY_INDICES;
+    }
+    int count = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      if (values[i] < minValue || values[i] >= maxValue) {
+        count++;
+      }
+    }
+    int[] indices = new int[count];
+    for (int i = fromIndex, j = 0; j < count; i++) {
+      if (values[i] < minValue || values[i] >= maxValue) {
+        indices[j++] = i;
+      }
+    }
+    return indices;
+  }
+
+  /**
+   * Returns the indices, in ascending order, of all the elements of the specified {@code long}
+   * array that are not in range of the specified minimum value <i><strong>(inclusive)</strong></i>
+   * and maximum value <i><strong>(exclusive)</strong></i>. An empty array is returned if all the
+   * elements are in range. An {@link IllegalArgumentException} will be thrown if the maximum value
+   * is less than the minimum value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return the indices of all the elements that are not in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SideEffectFree
+  public static int[] indicesNotInRange(long minValue, long maxValue, long[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indicesNotInRange(minValue, maxValue, values, 0, values.length);
+  }
+
+  /**
+   * Returns the indices, in ascending order, of all the elements of the elements from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code long} array that are not in range
+   * of the specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. An empty array is returned if all the elements are in
+   * range. An {@link IllegalArgumentException} will be thrown if the maximum value is less than the
+   * minimum value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return the indices of all the elements that are not in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SuppressWarnings("index:array.access.unsafe.high")
+  @SideEffectFree
+  public static int[] indicesNotInRange(
+      long minValue,
+      long maxValue,
+      long[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    if (allInRange(minValue, maxValue, values, fromIndex, toIndex)) {
+      return EMPTY_INDICES;
+    }
+    int count = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      if (values[i] < minValue || values[i] >= maxValue) {
+        count++;
+      }
+    }
+    int[] indices = new int[count];
+    for (int i = fromIndex, j = 0; j < count; i++) {
+      if (values[i] < minValue || values[i] >= maxValue) {
+        indices[j++] = i;
+      }
+    }
+    return indices;
+  }
+
+  /**
+   * Returns the indices, in ascending order, of all the elements of the specified {@code float}
+   * array that are not in range of the specified minimum value <i><strong>(inclusive)</strong></i>
+   * and maximum value <i><strong>(exclusive)</strong></i>. An empty array is returned if all the
+   * elements are in range. An {@link IllegalArgumentException} will be thrown if the maximum value
+   * is less than the minimum value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return the indices of all the elements that are not in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SideEffectFree
+  public static int[] indicesNotInRange(float minValue, float maxValue, float[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indicesNotInRange(minValue, maxValue, values, 0, values.length);
+  }
+
+  /**
+   * Returns the indices, in ascending order, of all the elements of the elements from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code float} array that are not in range
+   * of the specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. An empty array is returned if all the elements are in
+   * range. An {@link IllegalArgumentException} will be thrown if the maximum value is less than the
+   * minimum value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return the indices of all the elements that are not in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SuppressWarnings("index:array.access.unsafe.high")
+  @SideEffectFree
+  public static int[] indicesNotInRange(
+      float minValue,
+      float maxValue,
+      float[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    if (allInRange(minValue, maxValue, values, fromIndex, toIndex)) {
+      return EMPTY_INDICES;
+    }
+    int count = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      if (Float.compare(values[i], minValue) < 0 || Float.compare(values[i], maxValue) >= 0) {
+        count++;
+      }
+    }
+    int[] indices = new int[count];
+    for (int i = fromIndex, j = 0; j < count; i++) {
+      if (Float.compare(values[i], minValue) < 0 || Float.compare(values[i], maxValue) >= 0) {
+        indices[j++] = i;
+      }
+    }
+    return indices;
+  }
+
+  /**
+   * Returns the indices, in ascending order, of all the elements of the specified {@code double}
+   * array that are not in range of the specified minimum value <i><strong>(inclusive)</strong></i>
+   * and maximum value <i><strong>(exclusive)</strong></i>. An empty array is returned if all the
+   * elements are in range. An {@link IllegalArgumentException} will be thrown if the maximum value
+   * is less than the minimum value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return the indices of all the elements that are not in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SideEffectFree
+  public static int[] indicesNotInRange(double minValue, double maxValue, double[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indicesNotInRange(minValue, maxValue, values, 0, values.length);
+  }
+
+  /**
+   * Returns the indices, in ascending order, of all the elements of the elements from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code double} array that are not in range
+   * of the specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. An empty array is returned if all the elements are in
+   * range. An {@link IllegalArgumentException} will be thrown if the maximum value is less than the
+   * minimum value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return the indices of all the elements that are not in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SuppressWarnings("index:array.access.unsafe.high")
+  @SideEffectFree
+  public static int[] indicesNotInRange(
+      double minValue,
+      double maxValue,
+      double[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    if (allInRange(minValue, maxValue, values, fromIndex, toIndex)) {
+      return EMPTY_INDICES;
+    }
+    int count = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      if (Double.compare(values[i], minValue) < 0 || Double.compare(values[i], maxValue) >= 0) {
+        count++;
+      }
+    }
+    int[] indices = new int[count];
+    for (int i = fromIndex, j = 0; j < count; i++) {
+      if (Double.compare(values[i], minValue) < 0 || Double.compare(values[i], maxValue) >= 0) {
+        indices[j++] = i;
+      }
+    }
+    return indices;
+  }
+
+  // ========================================================================
+  // REQUIRE ALL IN RANGE VALIDATORS
+  // ========================================================================
+
+  /**
+   * Validates that all the elements of the specified {@code int} array are in range of the
+   * specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static int[] requireAllInRange(int minValue, int maxValue, int[] values) {
+    return requireAllInRange(minValue, maxValue, values, null);
+  }
+
+  /**
+   * Validates that all the elements of the specified {@code int} array are in range of the
+   * specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value. An optional message can also be given to be used as the exception message.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static int[] requireAllInRange(
+      int minValue, int maxValue, int[] values, @Nullable String message) {
+    requireNonNull(values, "values cannot be null.");
+    return requireAllInRange(minValue, maxValue, values, 0, values.length, message);
+  }
+
+  /**
+   * Validates that all the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code int} array are in range of the
+   * specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static int[] requireAllInRange(
+      int minValue,
+      int maxValue,
+      int[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    return requireAllInRange(minValue, maxValue, values, fromIndex, toIndex, null);
+  }
+
+  /**
+   * Validates that all the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code int} array are in range of the
+   * specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value. An optional message can also be given to be used as the exception message.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static int[] requireAllInRange(
+      int minValue,
+      int maxValue,
+      int[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex,
+      @Nullable String message) {
+    int index = indexOfNotInRange(minValue, maxValue, values, fromIndex, toIndex);
+    if (index >= 0) {
+      throw new ValidationException(Check.IN_RANGE, values[index], minValue, maxValue, message)
+          .atIndex(index);
+    }
+    return values;
+  }
+
+  /**
+   * Validates that all the elements of the specified {@code long} array are in range of the
+   * specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static long[] requireAllInRange(long minValue, long maxValue, long[] values) {
+    return requireAllInRange(minValue, maxValue, values, null);
+  }
+
+  /**
+   * Validates that all the elements of the specified {@code long} array are in range of the
+   * specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value. An optional message can also be given to be used as the exception message.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static long[] requireAllInRange(
+      long minValue, long maxValue, long[] values, @Nullable String message) {
+    requireNonNull(values, "values cannot be null.");
+    return requireAllInRange(minValue, maxValue, values, 0, values.length, message);
+  }
+
+  /**
+   * Validates that all the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code long} array are in range of the
+   * specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static long[] requireAllInRange(
+      long minValue,
+      long maxValue,
+      long[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    return requireAllInRange(minValue, maxValue, values, fromIndex, toIndex, null);
+  }
+
+  /**
+   * Validates that all the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code long} array are in range of the
+   * specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value. An optional message can also be given to be used as the exception message.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static long[] requireAllInRange(
+      long minValue,
+      long maxValue,
+      long[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex,
+      @Nullable String message) {
+    int index = indexOfNotInRange(minValue, maxValue, values, fromIndex, toIndex);
+    if (index >= 0) {
+      throw new ValidationException(Check.IN_RANGE, values[index], minValue, maxValue, message)
+          .atIndex(index);
+    }
+    return values;
+  }
+
+  /**
+   * Validates that all the elements of the specified {@code float} array are in range of the
+   * specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static float[] requireAllInRange(float minValue, float maxValue, float[] values) {
+    return requireAllInRange(minValue, maxValue, values, null);
+  }
+
+  /**
+   * Validates that all the elements of the specified {@code float} array are in range of the
+   * specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value. An optional message can also be given to be used as the exception message.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static float[] requireAllInRange(
+      float minValue, float maxValue, float[] values, @Nullable String message) {
+    requireNonNull(values, "values cannot be null.");
+    return requireAllInRange(minValue, maxValue, values, 0, values.length, message);
+  }
+
+  /**
+   * Validates that all the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code float} array are in range of the
+   * specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static float[] requireAllInRange(
+      float minValue,
+      float maxValue,
+      float[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    return requireAllInRange(minValue, maxValue, values, fromIndex, toIndex, null);
+  }
+
+  /**
+   * Validates that all the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code float} array are in range of the
+   * specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value. An optional message can also be given to be used as the exception message.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static float[] requireAllInRange(
+      float minValue,
+      float maxValue,
+      float[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex,
+      @Nullable String message) {
+    int index = indexOfNotInRange(minValue, maxValue, values, fromIndex, toIndex);
+    if (index >= 0) {
+      throw new ValidationException(Check.IN_RANGE, values[index], minValue, maxValue, message)
+          .atIndex(index);
+    }
+    return values;
+  }
+
+  /**
+   * Validates that all the elements of the specified {@code double} array are in range of the
+   * specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static double[] requireAllInRange(double minValue, double maxValue, double[] values) {
+    return requireAllInRange(minValue, maxValue, values, null);
+  }
+
+  /**
+   * Validates that all the elements of the specified {@code double} array are in range of the
+   * specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value. An optional message can also be given to be used as the exception message.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static double[] requireAllInRange(
+      double minValue, double maxValue, double[] values, @Nullable String message) {
+    requireNonNull(values, "values cannot be null.");
+    return requireAllInRange(minValue, maxValue, values, 0, values.length, message);
+  }
+
+  /**
+   * Validates that all the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code double} array are in range of the
+   * specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static double[] requireAllInRange(
+      double minValue,
+      double maxValue,
+      double[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    return requireAllInRange(minValue, maxValue, values, fromIndex, toIndex, null);
+  }
+
+  /**
+   * Validates that all the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code double} array are in range of the
+   * specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value. An optional message can also be given to be used as the exception message.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static double[] requireAllInRange(
+      double minValue,
+      double maxValue,
+      double[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex,
+      @Nullable String message) {
+    int index = indexOfNotInRange(minValue, maxValue, values, fromIndex, toIndex);
+    if (index >= 0) {
+      throw new ValidationException(Check.IN_RANGE, values[index], minValue, maxValue, message)
+          .atIndex(index);
+    }
+    return values;
+  }
+
+  // ========================================================================
+  // NON NEGATIVE CHECKS
+  // ========================================================================
+
+  /**
+   * Checks that none of the elements of the specified {@code int} array is negative, i.e. less than
+   * zero. Returns {@code true} if every element is greater than or equal to zero, {@code false}
+   * otherwise.
+   *
+   * @param values the array to check.
+   * @return {@code true} if none of the elements is negative, {@code false} otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   */
+  @SideEffectFree
+  public static boolean allNonNegative(int[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return allNonNegative(values, 0, values.length);
+  }
+
+  /**
+   * Checks that none of the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code int} array is negative, i.e. less
+   * than zero. Returns {@code true} if every element is greater than or equal to zero, {@code
+   * false} otherwise.
+   *
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return {@code true} if none of the elements is negative, {@code false} otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   */
+  @SideEffectFree
+  public static boolean allNonNegative(
+      int[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    checkFromToIndex(fromIndex, toIndex, requireNonNull(values, "values cannot be null.").length);
+    return BulkChecks.allNonNegative(values, fromIndex, toIndex);
+  }
+
+  /**
+   * Checks that none of the elements of the specified {@code long} array is negative, i.e. less
+   * than zero. Returns {@code true} if every element is greater than or equal to zero, {@code
+   * false} otherwise.
+   *
+   * @param values the array to check.
+   * @return {@code true} if none of the elements is negative, {@code false} otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   */
+  @SideEffectFree
+  public static boolean allNonNegative(long[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return allNonNegative(values, 0, values.length);
+  }
+
+  /**
+   * Checks that none of the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code long} array is negative, i.e. less
+   * than zero. Returns {@code true} if every element is greater than or equal to zero, {@code
+   * false} otherwise.
+   *
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return {@code true} if none of the elements is negative, {@code false} otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   */
+  @SideEffectFree
+  public static boolean allNonNegative(
+      long[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    checkFromToIndex(fromIndex, toIndex, requireNonNull(values, "values cannot be null.").length);
+    return BulkChecks.allNonNegative(values, fromIndex, toIndex);
+  }
+
+  /**
+   * Checks that none of the elements of the specified {@code float} array is negative, i.e. less
+   * than zero. Returns {@code true} if every element is greater than or equal to zero, {@code
+   * false} otherwise.
+   *
+   * @param values the array to check.
+   * @return {@code true} if none of the elements is negative, {@code false} otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   */
+  @SideEffectFree
+  public static boolean allNonNegative(float[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return allNonNegative(values, 0, values.length);
+  }
+
+  /**
+   * Checks that none of the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code float} array is negative, i.e. less
+   * than zero. Returns {@code true} if every element is greater than or equal to zero, {@code
+   * false} otherwise.
+   *
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return {@code true} if none of the elements is negative, {@code false} otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   */
+  @SideEffectFree
+  public static boolean allNonNegative(
+      float[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    checkFromToIndex(fromIndex, toIndex, requireNonNull(values, "values cannot be null.").length);
+    return BulkChecks.allNonNegative(values, fromIndex, toIndex);
+  }
+
+  /**
+   * Checks that none of the elements of the specified {@code double} array is negative, i.e. less
+   * than zero. Returns {@code true} if every element is greater than or equal to zero, {@code
+   * false} otherwise.
+   *
+   * @param values the array to check.
+   * @return {@code true} if none of the elements is negative, {@code false} otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   */
+  @SideEffectFree
+  public static boolean allNonNegative(double[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return allNonNegative(values, 0, values.length);
+  }
+
+  /**
+   * Checks that none of the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code double} array is negative, i.e.
+   * less than zero. Returns {@code true} if every element is greater than or equal to zero, {@code
+   * false} otherwise.
+   *
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return {@code true} if none of the elements is negative, {@code false} otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   */
+  @SideEffectFree
+  public static boolean allNonNegative(
+      double[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    checkFromToIndex(fromIndex, toIndex, requireNonNull(values, "values cannot be null.").length);
+    return BulkChecks.allNonNegative(values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns the index of the first element of the specified {@code int} array that is negative,
+   * i.e. less than zero, or {@code -1} if none of the elements is negative.
+   *
+   * @param values the array to check.
+   * @return the index of the first negative element or {@code -1} if none of the elements is
+   *     negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   */
+  @SideEffectFree
+  public static @GTENegativeOne int indexOfNegative(int[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indexOfNegative(values, 0, values.length);
+  }
+
+  /**
+   * Returns the index of the first element of the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code int} array that is negative, i.e.
+   * less than zero, or {@code -1} if none of the elements is negative.
+   *
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return the index of the first negative element or {@code -1} if none of the elements is
+   *     negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   */
+  @SuppressWarnings("index:array.access.unsafe.high")
+  @SideEffectFree
+  public static @GTENegativeOne int indexOfNegative(
+      int[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    if (allNonNegative(values, fromIndex, toIndex)) {
+      return -1;
+    }
+    // At least one element failed the check, so the scan stops before reaching toIndex
+    for (int i = fromIndex; ; i++) {
+      if (values[i] < 0) {
+        return i;
+      }
+    }
+  }
+
+  /**
+   * Returns the index of the first element of the specified {@code long} array that is negative,
+   * i.e. less than zero, or {@code -1} if none of the elements is negative.
+   *
+   * @param values the array to check.
+   * @return the index of the first negative element or {@code -1} if none of the elements is
+   *     negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   */
+  @SideEffectFree
+  public static @GTENegativeOne int indexOfNegative(long[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indexOfNegative(values, 0, values.length);
+  }
+
+  /**
+   * Returns the index of the first element of the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code long} array that is negative, i.e.
+   * less than zero, or {@code -1} if none of the elements is negative.
+   *
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return the index of the first negative element or {@code -1} if none of the elements is
+   *     negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   */
+  @SuppressWarnings("index:array.access.unsafe.high")
+  @SideEffectFree
+  public static @GTENegativeOne int indexOfNegative(
+      long[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    if (allNonNegative(values, fromIndex, toIndex)) {
+      return -1;
+    }
+    // At least one element failed the check, so the scan stops before reaching toIndex
+    for (int i = fromIndex; ; i++) {
+      if (values[i] < 0) {
+        return i;
+      }
+    }
+  }
+
+  /**
+   * Returns the index of the first element of the specified {@code float} array that is negative,
+   * i.e. less than zero, or {@code -1} if none of the elements is negative.
+   *
+   * @param values the array to check.
+   * @return the index of the first negative element or {@code -1} if none of the elements is
+   *     negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   */
+  @SideEffectFree
+  public static @GTENegativeOne int indexOfNegative(float[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indexOfNegative(values, 0, values.length);
+  }
+
+  /**
+   * Returns the index of the first element of the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code float} array that is negative, i.e.
+   * less than zero, or {@code -1} if none of the elements is negative.
+   *
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return the index of the first negative element or {@code -1} if none of the elements is
+   *     negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   */
+  @SuppressWarnings("index:array.access.unsafe.high")
+  @SideEffectFree
+  public static @GTENegativeOne int indexOfNegative(
+      float[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    if (allNonNegative(values, fromIndex, toIndex)) {
+      return -1;
+    }
+    // At least one element failed the check, so the scan stops before reaching toIndex
+    for (int i = fromIndex; ; i++) {
+      if (Float.floatToIntBits(values[i]) < 0) {
+        return i;
+      }
+    }
+  }
+
+  /**
+   * Returns the index of the first element of the specified {@code double} array that is negative,
+   * i.e. less than zero, or {@code -1} if none of the elements is negative.
+   *
+   * @param values the array to check.
+   * @return the index of the first negative element or {@code -1} if none of the elements is
+   *     negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   */
+  @SideEffectFree
+  public static @GTENegativeOne int indexOfNegative(double[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indexOfNegative(values, 0, values.length);
+  }
+
+  /**
+   * Returns the index of the first element of the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code double} array that is negative,
+   * i.e. less than zero, or {@code -1} if none of the elements is negative.
+   *
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return the index of the first negative element or {@code -1} if none of the elements is
+   *     negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   */
+  @SuppressWarnings("index:array.access.unsafe.high")
+  @SideEffectFree
+  public static @GTENegativeOne int indexOfNegative(
+      double[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    if (allNonNegative(values, fromIndex, toIndex)) {
+      return -1;
+    }
+    // At least one element failed the check, so the scan stops before reaching toIndex
+    for (int i = fromIndex; ; i++) {
+      if (Double.doubleToLongBits(values[i]) < 0) {
+        return i;
+      }
+    }
+  }
+
+  /**
+   * Returns the indices, in ascending order, of all the elements of the specified {@code int} array
+   * that are negative, i.e. less than zero. An empty array is returned if none of the elements is
+   * negative.
+   *
+   * @param values the array to check.
+   * @return the indices of all the negative elements.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   */
+  @SideEffectFree
+  public static int[] indicesOfNegative(int[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indicesOfNegative(values, 0, values.length);
+  }
+
+  /**
+   * Returns the indices, in ascending order, of all the elements of the elements from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code int} array that are negative, i.e.
+   * less than zero. An empty array is returned if none of the elements is negative.
+   *
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return the indices of all the negative elements.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   */
+  @SuppressWarnings("index:array.access.unsafe.high")
+  @SideEffectFree
+  public static int[] indicesOfNegative(
+      int[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    if (allNonNegative(values, fromIndex, toIndex)) {
+      return EMPTY_INDICES;
+    }
+    int count = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      if (values[i] < 0) {
+        count++;
+      }
+    }
+    int[] indices = new int[count];
+    for (int i = fromIndex, j = 0; j < count; i++) {
+      if (values[i] < 0) {
+        indices[j++] = i;
+      }
+    }
+    return indices;
+  }
+
+  /**
+   * Returns the indices, in ascending order, of all the elements of the specified {@code long}
+   * array that are negative, i.e. less than zero. An empty array is returned if none of the
+   * elements is negative.
+   *
+   * @param values the array to check.
+   * @return the indices of all the negative elements.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   */
+  @SideEffectFree
+  public static int[] indicesOfNegative(long[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indicesOfNegative(values, 0, values.length);
+  }
+
+  /**
+   * Returns the indices, in ascending order, of all the elements of the elements from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code long} array that are negative, i.e.
+   * less than zero. An empty array is returned if none of the elements is negative.
+   *
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return the indices of all the negative elements.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   */
+  @SuppressWarnings("index:array.access.unsafe.high")
+  @SideEffectFree
+  public static int[] indicesOfNegative(
+      long[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    if (allNonNegative(values, fromIndex, toIndex)) {
+      return EMPTY_INDICES;
+    }
+    int count = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      if (values[i] < 0) {
+        count++;
+      }
+    }
+    int[] indices = new int[count];
+    for (int i = fromIndex, j = 0; j < count; i++) {
+      if (values[i] < 0) {
+        indices[j++] = i;
+      }
+    }
+    return indices;
+  }
+
+  /**
+   * Returns the indices, in ascending order, of all the elements of the specified {@code float}
+   * array that are negative, i.e. less than zero. An empty array is returned if none of the
+   * elements is negative.
+   *
+   * @param values the array to check.
+   * @return the indices of all the negative elements.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   */
+  @SideEffectFree
+  public static int[] indicesOfNegative(float[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indicesOfNegative(values, 0, values.length);
+  }
+
+  /**
+   * Returns the indices, in ascending order, of all the elements of the elements from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code float} array that are negative,
+   * i.e. less than zero. An empty array is returned if none of the elements is negative.
+   *
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return the indices of all the negative elements.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   */
+  @SuppressWarnings("index:array.access.unsafe.high")
+  @SideEffectFree
+  public static int[] indicesOfNegative(
+      float[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    if (allNonNegative(values, fromIndex, toIndex)) {
+      return EMPTY_INDICES;
+    }
+    int count = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      if (Float.floatToIntBits(values[i]) < 0) {
+        count++;
+      }
+    }
+    int[] indices = new int[count];
+    for (int i = fromIndex, j = 0; j < count; i++) {
+      if (Float.floatToIntBits(values[i]) < 0) {
+        indices[j++] = i;
+      }
+    }
+    return indices;
+  }
+
+  /**
+   * Returns the indices, in ascending order, of all the elements of the specified {@code double}
+   * array that are negative, i.e. less than zero. An empty array is returned if none of the
+   * elements is negative.
+   *
+   * @param values the array to check.
+   * @return the indices of all the negative elements.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   */
+  @SideEffectFree
+  public static int[] indicesOfNegative(double[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indicesOfNegative(values, 0, values.length);
+  }
+
+  /**
+   * Returns the indices, in ascending order, of all the elements of the elements from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code double} array that are negative,
+   * i.e. less than zero. An empty array is returned if none of the elements is negative.
+   *
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return the indices of all the negative elements.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   */
+  @SuppressWarnings("index:array.access.unsafe.high")
+  @SideEffectFree
+  public static int[] indicesOfNegative(
+      double[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    if (allNonNegative(values, fromIndex, toIndex)) {
+      return EMPTY_INDICES;
+    }
+    int count = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      if (Double.doubleToLongBits(values[i]) < 0) {
+        count++;
+      }
+    }
+    int[] indices = new int[count];
+    for (int i = fromIndex, j = 0; j < count; i++) {
+      if (Double.doubleToLongBits(values[i]) < 0) {
+        indices[j++] = i;
+      }
+    }
+    return indices;
+  }
+
+  // ========================================================================
+  // REQUIRE ALL NON NEGATIVE VALIDATORS
+  // ========================================================================
+
+  /**
+   * Validates that none of the elements of the specified {@code int} array is negative, i.e. less
+   * than zero. Returns {@code values} if every element is greater than or equal to zero, otherwise,
+   * an {@code IllegalArgumentException} is thrown for the first negative element.
+   *
+   * @param values the array to check.
+   * @return {@code values} if none of the elements is negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is negative.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static int[] requireAllNonNegative(int[] values) {
+    return requireAllNonNegative(values, null);
+  }
+
+  /**
+   * Validates that none of the elements of the specified {@code int} array is negative, i.e. less
+   * than zero. Returns {@code values} if every element is greater than or equal to zero, otherwise,
+   * an {@code IllegalArgumentException} is thrown for the first negative element. An optional
+   * message can also be given to be used as the exception message.
+   *
+   * @param values the array to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if none of the elements is negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is negative.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static int[] requireAllNonNegative(int[] values, @Nullable String message) {
+    requireNonNull(values, "values cannot be null.");
+    return requireAllNonNegative(values, 0, values.length, message);
+  }
+
+  /**
+   * Validates that none of the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code int} array is negative, i.e. less
+   * than zero. Returns {@code values} if every element is greater than or equal to zero, otherwise,
+   * an {@code IllegalArgumentException} is thrown for the first negative element.
+   *
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return {@code values} if none of the elements is negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if an element is negative.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static int[] requireAllNonNegative(
+      int[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    return requireAllNonNegative(values, fromIndex, toIndex, null);
+  }
+
+  /**
+   * Validates that none of the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code int} array is negative, i.e. less
+   * than zero. Returns {@code values} if every element is greater than or equal to zero, otherwise,
+   * an {@code IllegalArgumentException} is thrown for the first negative element. An optional
+   * message can also be given to be used as the exception message.
+   *
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if none of the elements is negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if an element is negative.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static int[] requireAllNonNegative(
+      int[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex,
+      @Nullable String message) {
+    int index = indexOfNegative(values, fromIndex, toIndex);
+    if (index >= 0) {
+      throw new ValidationException(Check.NON_NEGATIVE, values[index], message).atIndex(index);
+    }
+    return values;
+  }
+
+  /**
+   * Validates that none of the elements of the specified {@code long} array is negative, i.e. less
+   * than zero. Returns {@code values} if every element is greater than or equal to zero, otherwise,
+   * an {@code IllegalArgumentException} is thrown for the first negative element.
+   *
+   * @param values the array to check.
+   * @return {@code values} if none of the elements is negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is negative.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static long[] requireAllNonNegative(long[] values) {
+    return requireAllNonNegative(values, null);
+  }
+
+  /**
+   * Validates that none of the elements of the specified {@code long} array is negative, i.e. less
+   * than zero. Returns {@code values} if every element is greater than or equal to zero, otherwise,
+   * an {@code IllegalArgumentException} is thrown for the first negative element. An optional
+   * message can also be given to be used as the exception message.
+   *
+   * @param values the array to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if none of the elements is negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is negative.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static long[] requireAllNonNegative(long[] values, @Nullable String message) {
+    requireNonNull(values, "values cannot be null.");
+    return requireAllNonNegative(values, 0, values.length, message);
+  }
+
+  /**
+   * Validates that none of the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code long} array is negative, i.e. less
+   * than zero. Returns {@code values} if every element is greater than or equal to zero, otherwise,
+   * an {@code IllegalArgumentException} is thrown for the first negative element.
+   *
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return {@code values} if none of the elements is negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if an element is negative.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static long[] requireAllNonNegative(
+      long[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    return requireAllNonNegative(values, fromIndex, toIndex, null);
+  }
+
+  /**
+   * Validates that none of the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code long} array is negative, i.e. less
+   * than zero. Returns {@code values} if every element is greater than or equal to zero, otherwise,
+   * an {@code IllegalArgumentException} is thrown for the first negative element. An optional
+   * message can also be given to be used as the exception message.
+   *
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if none of the elements is negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if an element is negative.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static long[] requireAllNonNegative(
+      long[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex,
+      @Nullable String message) {
+    int index = indexOfNegative(values, fromIndex, toIndex);
+    if (index >= 0) {
+      throw new ValidationException(Check.NON_NEGATIVE, values[index], message).atIndex(index);
+    }
+    return values;
+  }
+
+  /**
+   * Validates that none of the elements of the specified {@code float} array is negative, i.e. less
+   * than zero. Returns {@code values} if every element is greater than or equal to zero, otherwise,
+   * an {@code IllegalArgumentException} is thrown for the first negative element.
+   *
+   * @param values the array to check.
+   * @return {@code values} if none of the elements is negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is negative.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static float[] requireAllNonNegative(float[] values) {
+    return requireAllNonNegative(values, null);
+  }
+
+  /**
+   * Validates that none of the elements of the specified {@code float} array is negative, i.e. less
+   * than zero. Returns {@code values} if every element is greater than or equal to zero, otherwise,
+   * an {@code IllegalArgumentException} is thrown for the first negative element. An optional
+   * message can also be given to be used as the exception message.
+   *
+   * @param values the array to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if none of the elements is negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is negative.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static float[] requireAllNonNegative(float[] values, @Nullable String message) {
+    requireNonNull(values, "values cannot be null.");
+    return requireAllNonNegative(values, 0, values.length, message);
+  }
+
+  /**
+   * Validates that none of the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code float} array is negative, i.e. less
+   * than zero. Returns {@code values} if every element is greater than or equal to zero, otherwise,
+   * an {@code IllegalArgumentException} is thrown for the first negative element.
+   *
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return {@code values} if none of the elements is negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if an element is negative.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static float[] requireAllNonNegative(
+      float[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    return requireAllNonNegative(values, fromIndex, toIndex, null);
+  }
+
+  /**
+   * Validates that none of the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code float} array is negative, i.e. less
+   * than zero. Returns {@code values} if every element is greater than or equal to zero, otherwise,
+   * an {@code IllegalArgumentException} is thrown for the first negative element. An optional
+   * message can also be given to be used as the exception message.
+   *
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if none of the elements is negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if an element is negative.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static float[] requireAllNonNegative(
+      float[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex,
+      @Nullable String message) {
+    int index = indexOfNegative(values, fromIndex, toIndex);
+    if (index >= 0) {
+      throw new ValidationException(Check.NON_NEGATIVE, values[index], message).atIndex(index);
+    }
+    return values;
+  }
+
+  /**
+   * Validates that none of the elements of the specified {@code double} array is negative, i.e.
+   * less than zero. Returns {@code values} if every element is greater than or equal to zero,
+   * otherwise, an {@code IllegalArgumentException} is thrown for the first negative element.
+   *
+   * @param values the array to check.
+   * @return {@code values} if none of the elements is negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is negative.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static double[] requireAllNonNegative(double[] values) {
+    return requireAllNonNegative(values, null);
+  }
+
+  /**
+   * Validates that none of the elements of the specified {@code double} array is negative, i.e.
+   * less than zero. Returns {@code values} if every element is greater than or equal to zero,
+   * otherwise, an {@code IllegalArgumentException} is thrown for the first negative element. An
+   * optional message can also be given to be used as the exception message.
+   *
+   * @param values the array to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if none of the elements is negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is negative.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static double[] requireAllNonNegative(double[] values, @Nullable String message) {
+    requireNonNull(values, "values cannot be null.");
+    return requireAllNonNegative(values, 0, values.length, message);
+  }
+
+  /**
+   * Validates that none of the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code double} array is negative, i.e.
+   * less than zero. Returns {@code values} if every element is greater than or equal to zero,
+   * otherwise, an {@code IllegalArgumentException} is thrown for the first negative element.
+   *
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return {@code values} if none of the elements is negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if an element is negative.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static double[] requireAllNonNegative(
+      double[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    return requireAllNonNegative(values, fromIndex, toIndex, null);
+  }
+
+  /**
+   * Validates that none of the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code double} array is negative, i.e.
+   * less than zero. Returns {@code values} if every element is greater than or equal to zero,
+   * otherwise, an {@code IllegalArgumentException} is thrown for the first negative element. An
+   * optional message can also be given to be used as the exception message.
+   *
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if none of the elements is negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if an element is negative.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static double[] requireAllNonNegative(
+      double[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex,
+      @Nullable String message) {
+    int index = indexOfNegative(values, fromIndex, toIndex);
+    if (index >= 0) {
+      throw new ValidationException(Check.NON_NEGATIVE, values[index], message).atIndex(index);
+    }
+    return values;
+  }
+
+  // ========================================================================
+  // EQUAL TO CHECKS
+  // ========================================================================
+
+  /**
+   * Checks that all the elements of the specified {@code int} array are equal to the specified base
+   * value. Returns {@code true} if every element is equal to {@code baseValue}, {@code false}
+   * otherwise.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return {@code true} if all the elements are equal to {@code baseValue}, {@code false}
+   *     otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   */
+  @SideEffectFree
+  public static boolean allEqualTo(int baseValue, int[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return allEqualTo(baseValue, values, 0, values.length);
+  }
+
+  /**
+   * Checks that all the elements from index {@code fromIndex} <i><strong>(inclusive)</strong></i>
+   * to index {@code toIndex} <i><strong>(exclusive)</strong></i> of the specified {@code int} array
+   * are equal to the specified base value. Returns {@code true} if every element is equal to {@code
+   * baseValue}, {@code false} otherwise.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return {@code true} if all the elements are equal to {@code baseValue}, {@code false}
+   *     otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   */
+  @SideEffectFree
+  public static boolean allEqualTo(
+      int baseValue,
+      int[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    checkFromToIndex(fromIndex, toIndex, requireNonNull(values, "values cannot be null.").length);
+    return BulkChecks.allEqualTo(baseValue, values, fromIndex, toIndex);
+  }
+
+  /**
+   * Checks that all the elements of the specified {@code long} array are equal to the specified
+   * base value. Returns {@code true} if every element is equal to {@code baseValue}, {@code false}
+   * otherwise.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return {@code true} if all the elements are equal to {@code baseValue}, {@code false}
+   *     otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   */
+  @SideEffectFree
+  public static boolean allEqualTo(long baseValue, long[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return allEqualTo(baseValue, values, 0, values.length);
+  }
+
+  /**
+   * Checks that all the elements from index {@code fromIndex} <i><strong>(inclusive)</strong></i>
+   * to index {@code toIndex} <i><strong>(exclusive)</strong></i> of the specified {@code long}
+   * array are equal to the specified base value. Returns {@code true} if every element is equal to
+   * {@code baseValue}, {@code false} otherwise.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return {@code true} if all the elements are equal to {@code baseValue}, {@code false}
+   *     otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   */
+  @SideEffectFree
+  public static boolean allEqualTo(
+      long baseValue,
+      long[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    checkFromToIndex(fromIndex, toIndex, requireNonNull(values, "values cannot be null.").length);
+    return BulkChecks.allEqualTo(baseValue, values, fromIndex, toIndex);
+  }
+
+  /**
+   * Checks that all the elements of the specified {@code float} array are equal to the specified
+   * base value. Returns {@code true} if every element is equal to {@code baseValue}, {@code false}
+   * otherwise.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return {@code true} if all the elements are equal to {@code baseValue}, {@code false}
+   *     otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   */
+  @SideEffectFree
+  public static boolean allEqualTo(float baseValue, float[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return allEqualTo(baseValue, values, 0, values.length);
+  }
+
+  /**
+   * Checks that all the elements from index {@code fromIndex} <i><strong>(inclusive)</strong></i>
+   * to index {@code toIndex} <i><strong>(exclusive)</strong></i> of the specified {@code float}
+   * array are equal to the specified base value. Returns {@code true} if every element is equal to
+   * {@code baseValue}, {@code false} otherwise.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return {@code true} if all the elements are equal to {@code baseValue}, {@code false}
+   *     otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   */
+  @SideEffectFree
+  public static boolean allEqualTo(
+      float baseValue,
+      float[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    checkFromToIndex(fromIndex, toIndex, requireNonNull(values, "values cannot be null.").length);
+    return BulkChecks.allEqualTo(baseValue, values, fromIndex, toIndex);
+  }
+
+  /**
+   * Checks that all the elements of the specified {@code double} array are equal to the specified
+   * base value. Returns {@code true} if every element is equal to {@code baseValue}, {@code false}
+   * otherwise.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return {@code true} if all the elements are equal to {@code baseValue}, {@code false}
+   *     otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   */
+  @SideEffectFree
+  public static boolean allEqualTo(double baseValue, double[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return allEqualTo(baseValue, values, 0, values.length);
+  }
+
+  /**
+   * Checks that all the elements from index {@code fromIndex} <i><strong>(inclusive)</strong></i>
+   * to index {@code toIndex} <i><strong>(exclusive)</strong></i> of the specified {@code double}
+   * array are equal to the specified base value. Returns {@code true} if every element is equal to
+   * {@code baseValue}, {@code false} otherwise.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return {@code true} if all the elements are equal to {@code baseValue}, {@code false}
+   *     otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   */
+  @SideEffectFree
+  public static boolean allEqualTo(
+      double baseValue,
+      double[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    checkFromToIndex(fromIndex, toIndex, requireNonNull(values, "values cannot be null.").length);
+    return BulkChecks.allEqualTo(baseValue, values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns the index of the first element of the specified {@code int} array that is not equal to
+   * the specified base value, or {@code -1} if all the elements are equal to the base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return the index of the first element that is not equal to {@code baseValue} or {@code -1} if
+   *     all the elements are equal to it.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   */
+  @SideEffectFree
+  public static @GTENegativeOne int indexOfNotEqualTo(int baseValue, int[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indexOfNotEqualTo(baseValue, values, 0, values.length);
+  }
+
+  /**
+   * Returns the index of the first element of the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code int} array that is not equal to the
+   * specified base value, or {@code -1} if all the elements are equal to the base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return the index of the first element that is not equal to {@code baseValue} or {@code -1} if
+   *     all the elements are equal to it.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   */
+  @SuppressWarnings("index:array.access.unsafe.high")
+  @SideEffectFree
+  public static @GTENegativeOne int indexOfNotEqualTo(
+      int baseValue,
+      int[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    if (allEqualTo(baseValue, values, fromIndex, toIndex)) {
+      return -1;
+    }
+    // At least one element failed the check, so the scan stops before reaching toIndex
+    for (int i = fromIndex; ; i++) {
+      if (values[i] != baseValue) {
+        return i;
+      }
+    }
+  }
+
+  /**
+   * Returns the index of the first element of the specified {@code long} array that is not equal to
+   * the specified base value, or {@code -1} if all the elements are equal to the base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return the index of the first element that is not equal to {@code baseValue} or {@code -1} if
+   *     all the elements are equal to it.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   */
+  @SideEffectFree
+  public static @GTENegativeOne int indexOfNotEqualTo(long baseValue, long[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indexOfNotEqualTo(baseValue, values, 0, values.length);
+  }
+
+  /**
+   * Returns the index of the first element of the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code long} array that is not equal to
+   * the specified base value, or {@code -1} if all the elements are equal to the base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return the index of the first element that is not equal to {@code baseValue} or {@code -1} if
+   *     all the elements are equal to it.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   */
+  @SuppressWarnings("index:array.access.unsafe.high")
+  @SideEffectFree
+  public static @GTENegativeOne int indexOfNotEqualTo(
+      long baseValue,
+      long[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    if (allEqualTo(baseValue, values, fromIndex, toIndex)) {
+      return -1;
+    }
+    // At least one element failed the check, so the scan stops before reaching toIndex
+    for (int i = fromIndex; ; i++) {
+      if (values[i] != baseValue) {
+        return i;
+      }
+    }
+  }
+
+  /**
+   * Returns the index of the first element of the specified {@code float} array that is not equal
+   * to the specified base value, or {@code -1} if all the elements are equal to the base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return the index of the first element that is not equal to {@code baseValue} or {@code -1} if
+   *     all the elements are equal to it.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   */
+  @SideEffectFree
+  public static @GTENegativeOne int indexOfNotEqualTo(float baseValue, float[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indexOfNotEqualTo(baseValue, values, 0, values.length);
+  }
+
+  /**
+   * Returns the index of the first element of the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code float} array that is not equal to
+   * the specified base value, or {@code -1} if all the elements are equal to the base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return the index of the first element that is not equal to {@code baseValue} or {@code -1} if
+   *     all the elements are equal to it.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   */
+  @SuppressWarnings("index:array.access.unsafe.high")
+  @SideEffectFree
+  public static @GTENegativeOne int indexOfNotEqualTo(
+      float baseValue,
+      float[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    if (allEqualTo(baseValue, values, fromIndex, toIndex)) {
+      return -1;
+    }
+    int baseBits = Float.floatToIntBits(baseValue);
+    // At least one element failed the check, so the scan stops before reaching toIndex
+    for (int i = fromIndex; ; i++) {
+      if (Float.floatToIntBits(values[i]) != baseBits) {
+        return i;
+      }
+    }
+  }
+
+  /**
+   * Returns the index of the first element of the specified {@code double} array that is not equal
+   * to the specified base value, or {@code -1} if all the elements are equal to the base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return the index of the first element that is not equal to {@code baseValue} or {@code -1} if
+   *     all the elements are equal to it.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   */
+  @SideEffectFree
+  public static @GTENegativeOne int indexOfNotEqualTo(double baseValue, double[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indexOfNotEqualTo(baseValue, values, 0, values.length);
+  }
+
+  /**
+   * Returns the index of the first element of the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code double} array that is not equal to
+   * the specified base value, or {@code -1} if all the elements are equal to the base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return the index of the first element that is not equal to {@code baseValue} or {@code -1} if
+   *     all the elements are equal to it.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   */
+  @SuppressWarnings("index:array.access.unsafe.high")
+  @SideEffectFree
+  public static @GTENegativeOne int indexOfNotEqualTo(
+      double baseValue,
+      double[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    if (allEqualTo(baseValue, values, fromIndex, toIndex)) {
+      return -1;
+    }
+    long baseBits = Double.doubleToLongBits(baseValue);
+    // At least one element failed the check, so the scan stops before reaching toIndex
+    for (int i = fromIndex; ; i++) {
+      if (Double.doubleToLongBits(values[i]) != baseBits) {
+        return i;
+      }
+    }
+  }
+
+  /**
+   * Returns the indices, in ascending order, of all the elements of the specified {@code int} array
+   * that are not equal to the specified base value. An empty array is returned if all the elements
+   * are equal to the base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return the indices of all the elements that are not equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   */
+  @SideEffectFree
+  public static int[] indicesNotEqualTo(int baseValue, int[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indicesNotEqualTo(baseValue, values, 0, values.length);
+  }
+
+  /**
+   * Returns the indices, in ascending order, of all the elements of the elements from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code int} array that are not equal to
+   * the specified base value. An empty array is returned if all the elements are equal to the base
+   * value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return the indices of all the elements that are not equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   */
+  @SuppressWarnings("index:array.access.unsafe.high")
+  @SideEffectFree
+  public static int[] indicesNotEqualTo(
+      int baseValue,
+      int[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    if (allEqualTo(baseValue, values, fromIndex, toIndex)) {
+      return EMPTY_INDICES;
+    }
+    int count = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      if (values[i] != baseValue) {
+        count++;
+      }
+    }
+    int[] indices = new int[count];
+    for (int i = fromIndex, j = 0; j < count; i++) {
+      if (values[i] != baseValue) {
+        indices[j++] = i;
+      }
+    }
+    return indices;
+  }
+
+  /**
+   * Returns the indices, in ascending order, of all the elements of the specified {@code long}
+   * array that are not equal to the specified base value. An empty array is returned if all the
+   * elements are equal to the base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return the indices of all the elements that are not equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   */
+  @SideEffectFree
+  public static int[] indicesNotEqualTo(long baseValue, long[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indicesNotEqualTo(baseValue, values, 0, values.length);
+  }
+
+  /**
+   * Returns the indices, in ascending order, of all the elements of the elements from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code long} array that are not equal to
+   * the specified base value. An empty array is returned if all the elements are equal to the base
+   * value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return the indices of all the elements that are not equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   */
+  @SuppressWarnings("index:array.access.unsafe.high")
+  @SideEffectFree
+  public static int[] indicesNotEqualTo(
+      long baseValue,
+      long[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    if (allEqualTo(baseValue, values, fromIndex, toIndex)) {
+      return EMPTY_INDICES;
+    }
+    int count = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      if (values[i] != baseValue) {
+        count++;
+      }
+    }
+    int[] indices = new int[count];
+    for (int i = fromIndex, j = 0; j < count; i++) {
+      if (values[i] != baseValue) {
+        indices[j++] = i;
+      }
+    }
+    return indices;
+  }
+
+  /**
+   * Returns the indices, in ascending order, of all the elements of the specified {@code float}
+   * array that are not equal to the specified base value. An empty array is returned if all the
+   * elements are equal to the base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return the indices of all the elements that are not equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   */
+  @SideEffectFree
+  public static int[] indicesNotEqualTo(float baseValue, float[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indicesNotEqualTo(baseValue, values, 0, values.length);
+  }
+
+  /**
+   * Returns the indices, in ascending order, of all the elements of the elements from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code float} array that are not equal to
+   * the specified base value. An empty array is returned if all the elements are equal to the base
+   * value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return the indices of all the elements that are not equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   */
+  @SuppressWarnings("index:array.access.unsafe.high")
+  @SideEffectFree
+  public static int[] indicesNotEqualTo(
+      float baseValue,
+      float[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    if (allEqualTo(baseValue, values, fromIndex, toIndex)) {
+      return EMPTY_INDICES;
+    }
+    int baseBits = Float.floatToIntBits(baseValue);
+    int count = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      if (Float.floatToIntBits(values[i]) != baseBits) {
+        count++;
+      }
+    }
+    int[] indices = new int[count];
+    for (int i = fromIndex, j = 0; j < count; i++) {
+      if (Float.floatToIntBits(values[i]) != baseBits) {
+        indices[j++] = i;
+      }
+    }
+    return indices;
+  }
+
+  /**
+   * Returns the indices, in ascending order, of all the elements of the specified {@code double}
+   * array that are not equal to the specified base value. An empty array is returned if all the
+   * elements are equal to the base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return the indices of all the elements that are not equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   */
+  @SideEffectFree
+  public static int[] indicesNotEqualTo(double baseValue, double[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indicesNotEqualTo(baseValue, values, 0, values.length);
+  }
+
+  /**
+   * Returns the indices, in ascending order, of all the elements of the elements from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code double} array that are not equal to
+   * the specified base value. An empty array is returned if all the elements are equal to the base
+   * value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return the indices of all the elements that are not equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   */
+  @SuppressWarnings("index:array.access.unsafe.high")
+  @SideEffectFree
+  public static int[] indicesNotEqualTo(
+      double baseValue,
+      double[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    if (allEqualTo(baseValue, values, fromIndex, toIndex)) {
+      return EMPTY_INDICES;
+    }
+    long baseBits = Double.doubleToLongBits(baseValue);
+    int count = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      if (Double.doubleToLongBits(values[i]) != baseBits) {
+        count++;
+      }
+    }
+    int[] indices = new int[count];
+    for (int i = fromIndex, j = 0; j < count; i++) {
+      if (Double.doubleToLongBits(values[i]) != baseBits) {
+        indices[j++] = i;
+      }
+    }
+    return indices;
+  }
+
+  // ========================================================================
+  // REQUIRE ALL EQUAL TO VALIDATORS
+  // ========================================================================
+
+  /**
+   * Validates that all the elements of the specified {@code int} array are equal to the specified
+   * base value. Returns {@code values} if every element is equal to {@code baseValue}, otherwise,
+   * an {@code IllegalArgumentException} is thrown for the first element that is not equal to the
+   * base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return {@code values} if all the elements are equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not equal to {@code baseValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static int[] requireAllEqualTo(int baseValue, int[] values) {
+    return requireAllEqualTo(baseValue, values, null);
+  }
+
+  /**
+   * Validates that all the elements of the specified {@code int} array are equal to the specified
+   * base value. Returns {@code values} if every element is equal to {@code baseValue}, otherwise,
+   * an {@code IllegalArgumentException} is thrown for the first element that is not equal to the
+   * base value. An optional message can also be given to be used as the exception message.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if all the elements are equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not equal to {@code baseValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static int[] requireAllEqualTo(int baseValue, int[] values, @Nullable String message) {
+    requireNonNull(values, "values cannot be null.");
+    return requireAllEqualTo(baseValue, values, 0, values.length, message);
+  }
+
+  /**
+   * Validates that all the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code int} array are equal to the
+   * specified base value. Returns {@code values} if every element is equal to {@code baseValue},
+   * otherwise, an {@code IllegalArgumentException} is thrown for the first element that is not
+   * equal to the base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return {@code values} if all the elements are equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if an element is not equal to {@code baseValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static int[] requireAllEqualTo(
+      int baseValue,
+      int[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    return requireAllEqualTo(baseValue, values, fromIndex, toIndex, null);
+  }
+
+  /**
+   * Validates that all the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code int} array are equal to the
+   * specified base value. Returns {@code values} if every element is equal to {@code baseValue},
+   * otherwise, an {@code IllegalArgumentException} is thrown for the first element that is not
+   * equal to the base value. An optional message can also be given to be used as the exception
+   * message.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if all the elements are equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if an element is not equal to {@code baseValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static int[] requireAllEqualTo(
+      int baseValue,
+      int[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex,
+      @Nullable String message) {
+    int index = indexOfNotEqualTo(baseValue, values, fromIndex, toIndex);
+    if (index >= 0) {
+      throw new ValidationException(Check.EQUAL_TO, values[index], baseValue, message)
+          .atIndex(index);
+    }
+    return values;
+  }
+
+  /**
+   * Validates that all the elements of the specified {@code long} array are equal to the specified
+   * base value. Returns {@code values} if every element is equal to {@code baseValue}, otherwise,
+   * an {@code IllegalArgumentException} is thrown for the first element that is not equal to the
+   * base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return {@code values} if all the elements are equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not equal to {@code baseValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static long[] requireAllEqualTo(long baseValue, long[] values) {
+    return requireAllEqualTo(baseValue, values, null);
+  }
+
+  /**
+   * Validates that all the elements of the specified {@code long} array are equal to the specified
+   * base value. Returns {@code values} if every element is equal to {@code baseValue}, otherwise,
+   * an {@code IllegalArgumentException} is thrown for the first element that is not equal to the
+   * base value. An optional message can also be given to be used as the exception message.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if all the elements are equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not equal to {@code baseValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static long[] requireAllEqualTo(long baseValue, long[] values, @Nullable String message) {
+    requireNonNull(values, "values cannot be null.");
+    return requireAllEqualTo(baseValue, values, 0, values.length, message);
+  }
+
+  /**
+   * Validates that all the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code long} array are equal to the
+   * specified base value. Returns {@code values} if every element is equal to {@code baseValue},
+   * otherwise, an {@code IllegalArgumentException} is thrown for the first element that is not
+   * equal to the base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return {@code values} if all the elements are equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if an element is not equal to {@code baseValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static long[] requireAllEqualTo(
+      long baseValue,
+      long[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    return requireAllEqualTo(baseValue, values, fromIndex, toIndex, null);
+  }
+
+  /**
+   * Validates that all the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code long} array are equal to the
+   * specified base value. Returns {@code values} if every element is equal to {@code baseValue},
+   * otherwise, an {@code IllegalArgumentException} is thrown for the first element that is not
+   * equal to the base value. An optional message can also be given to be used as the exception
+   * message.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if all the elements are equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if an element is not equal to {@code baseValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static long[] requireAllEqualTo(
+      long baseValue,
+      long[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex,
+      @Nullable String message) {
+    int index = indexOfNotEqualTo(baseValue, values, fromIndex, toIndex);
+    if (index >= 0) {
+      throw new ValidationException(Check.EQUAL_TO, values[index], baseValue, message)
+          .atIndex(index);
+    }
+    return values;
+  }
+
+  /**
+   * Validates that all the elements of the specified {@code float} array are equal to the specified
+   * base value. Returns {@code values} if every element is equal to {@code baseValue}, otherwise,
+   * an {@code IllegalArgumentException} is thrown for the first element that is not equal to the
+   * base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return {@code values} if all the elements are equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not equal to {@code baseValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static float[] requireAllEqualTo(float baseValue, float[] values) {
+    return requireAllEqualTo(baseValue, values, null);
+  }
+
+  /**
+   * Validates that all the elements of the specified {@code float} array are equal to the specified
+   * base value. Returns {@code values} if every element is equal to {@code baseValue}, otherwise,
+   * an {@code IllegalArgumentException} is thrown for the first element that is not equal to the
+   * base value. An optional message can also be given to be used as the exception message.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if all the elements are equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not equal to {@code baseValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static float[] requireAllEqualTo(
+      float baseValue, float[] values, @Nullable String message) {
+    requireNonNull(values, "values cannot be null.");
+    return requireAllEqualTo(baseValue, values, 0, values.length, message);
+  }
+
+  /**
+   * Validates that all the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code float} array are equal to the
+   * specified base value. Returns {@code values} if every element is equal to {@code baseValue},
+   * otherwise, an {@code IllegalArgumentException} is thrown for the first element that is not
+   * equal to the base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return {@code values} if all the elements are equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if an element is not equal to {@code baseValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static float[] requireAllEqualTo(
+      float baseValue,
+      float[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    return requireAllEqualTo(baseValue, values, fromIndex, toIndex, null);
+  }
+
+  /**
+   * Validates that all the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code float} array are equal to the
+   * specified base value. Returns {@code values} if every element is equal to {@code baseValue},
+   * otherwise, an {@code IllegalArgumentException} is thrown for the first element that is not
+   * equal to the base value. An optional message can also be given to be used as the exception
+   * message.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if all the elements are equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if an element is not equal to {@code baseValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static float[] requireAllEqualTo(
+      float baseValue,
+      float[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex,
+      @Nullable String message) {
+    int index = indexOfNotEqualTo(baseValue, values, fromIndex, toIndex);
+    if (index >= 0) {
+      throw new ValidationException(Check.EQUAL_TO, values[index], baseValue, message)
+          .atIndex(index);
+    }
+    return values;
+  }
+
+  /**
+   * Validates that all the elements of the specified {@code double} array are equal to the
+   * specified base value. Returns {@code values} if every element is equal to {@code baseValue},
+   * otherwise, an {@code IllegalArgumentException} is thrown for the first element that is not
+   * equal to the base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return {@code values} if all the elements are equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not equal to {@code baseValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static double[] requireAllEqualTo(double baseValue, double[] values) {
+    return requireAllEqualTo(baseValue, values, null);
+  }
+
+  /**
+   * Validates that all the elements of the specified {@code double} array are equal to the
+   * specified base value. Returns {@code values} if every element is equal to {@code baseValue},
+   * otherwise, an {@code IllegalArgumentException} is thrown for the first element that is not
+   * equal to the base value. An optional message can also be given to be used as the exception
+   * message.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if all the elements are equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not equal to {@code baseValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static double[] requireAllEqualTo(
+      double baseValue, double[] values, @Nullable String message) {
+    requireNonNull(values, "values cannot be null.");
+    return requireAllEqualTo(baseValue, values, 0, values.length, message);
+  }
+
+  /**
+   * Validates that all the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code double} array are equal to the
+   * specified base value. Returns {@code values} if every element is equal to {@code baseValue},
+   * otherwise, an {@code IllegalArgumentException} is thrown for the first element that is not
+   * equal to the base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return {@code values} if all the elements are equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if an element is not equal to {@code baseValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static double[] requireAllEqualTo(
+      double baseValue,
+      double[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    return requireAllEqualTo(baseValue, values, fromIndex, toIndex, null);
+  }
+
+  /**
+   * Validates that all the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code double} array are equal to the
+   * specified base value. Returns {@code values} if every element is equal to {@code baseValue},
+   * otherwise, an {@code IllegalArgumentException} is thrown for the first element that is not
+   * equal to the base value. An optional message can also be given to be used as the exception
+   * message.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if all the elements are equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if an element is not equal to {@code baseValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static double[] requireAllEqualTo(
+      double baseValue,
+      double[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex,
+      @Nullable String message) {
+    int index = indexOfNotEqualTo(baseValue, values, fromIndex, toIndex);
+    if (index >= 0) {
+      throw new ValidationException(Check.EQUAL_TO, values[index], baseValue, message)
+          .atIndex(index);
+    }
+    return values;
+  }
+
+  // ========================================================================
+  // UNSIGNED IN RANGE CHECKS
+  // ========================================================================
+
+  /**
+   * Checks that all the elements of the specified {@code int} array are in range of the specified
+   * minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code true} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, {@code false} otherwise. An {@link
+   * IllegalArgumentException} will be thrown if the maximum value is less than the minimum value.
+   * The elements and the bounds of the range are interpreted as unsigned integers.
+   *
+   * @param minValue the unsigned minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the unsigned maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return {@code true} if all the elements are in the specified range, {@code false} otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SideEffectFree
+  public static boolean allInRangeUnsigned(int minValue, int maxValue, int[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return allInRangeUnsigned(minValue, maxValue, values, 0, values.length);
+  }
+
+  /**
+   * Checks that all the elements from index {@code fromIndex} <i><strong>(inclusive)</strong></i>
+   * to index {@code toIndex} <i><strong>(exclusive)</strong></i> of the specified {@code int} array
+   * are in range of the specified minimum value <i><strong>(inclusive)</strong></i> and maximum
+   * value <i><strong>(exclusive)</strong></i>. Returns {@code true} if every element is greater
+   * than or equal to {@code minValue} and less than {@code maxValue}, {@code false} otherwise. An
+   * {@link IllegalArgumentException} will be thrown if the maximum value is less than the minimum
+   * value. The elements and the bounds of the range are interpreted as unsigned integers.
+   *
+   * @param minValue the unsigned minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the unsigned maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return {@code true} if all the elements are in the specified range, {@code false} otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SideEffectFree
+  public static boolean allInRangeUnsigned(
+      int minValue,
+      int maxValue,
+      int[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    requireValidUnsignedRange(minValue, maxValue);
+    checkFromToIndex(fromIndex, toIndex, requireNonNull(values, "values cannot be null.").length);
+    return BulkChecks.allInRangeUnsigned(minValue, maxValue, values, fromIndex, toIndex);
+  }
+
+  /**
+   * Checks that all the elements of the specified {@code long} array are in range of the specified
+   * minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code true} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, {@code false} otherwise. An {@link
+   * IllegalArgumentException} will be thrown if the maximum value is less than the minimum value.
+   * The elements and the bounds of the range are interpreted as unsigned integers.
+   *
+   * @param minValue the unsigned minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the unsigned maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return {@code true} if all the elements are in the specified range, {@code false} otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SideEffectFree
+  public static boolean allInRangeUnsigned(long minValue, long maxValue, long[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return allInRangeUnsigned(minValue, maxValue, values, 0, values.length);
+  }
+
+  /**
+   * Checks that all the elements from index {@code fromIndex} <i><strong>(inclusive)</strong></i>
+   * to index {@code toIndex} <i><strong>(exclusive)</strong></i> of the specified {@code long}
+   * array are in range of the specified minimum value <i><strong>(inclusive)</strong></i> and
+   * maximum value <i><strong>(exclusive)</strong></i>. Returns {@code true} if every element is
+   * greater than or equal to {@code minValue} and less than {@code maxValue}, {@code false}
+   * otherwise. An {@link IllegalArgumentException} will be thrown if the maximum value is less than
+   * the minimum value. The elements and the bounds of the range are interpreted as unsigned
+   * integers.
+   *
+   * @param minValue the unsigned minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the unsigned maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return {@code true} if all the elements are in the specified range, {@code false} otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SideEffectFree
+  public static boolean allInRangeUnsigned(
+      long minValue,
+      long maxValue,
+      long[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    requireValidUnsignedRange(minValue, maxValue);
+    checkFromToIndex(fromIndex, toIndex, requireNonNull(values, "values cannot be null.").length);
+    return BulkChecks.allInRangeUnsigned(minValue, maxValue, values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns the index of the first element of the specified {@code int} array that is not in range
+   * of the specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>, or {@code -1} if all the elements are in range. An {@link
+   * IllegalArgumentException} will be thrown if the maximum value is less than the minimum value.
+   * The elements and the bounds of the range are interpreted as unsigned integers.
+   *
+   * @param minValue the unsigned minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the unsigned maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return the index of the first element that is not in the specified range or {@code -1} if all
+   *     the elements are in range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SideEffectFree
+  public static @GTENegativeOne int indexOfNotInRangeUnsigned(
+      int minValue, int maxValue, int[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indexOfNotInRangeUnsigned(minValue, maxValue, values, 0, values.length);
+  }
+
+  /**
+   * Returns the index of the first element of the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code int} array that is not in range of
+   * the specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>, or {@code -1} if all the elements are in range. An {@link
+   * IllegalArgumentException} will be thrown if the maximum value is less than the minimum value.
+   * The elements and the bounds of the range are interpreted as unsigned integers.
+   *
+   * @param minValue the unsigned minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the unsigned maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return the index of the first element that is not in the specified range or {@code -1} if all
+   *     the elements are in range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SuppressWarnings("index:array.access.unsafe.high")
+  @SideEffectFree
+  public static @GTENegativeOne int indexOfNotInRangeUnsigned(
+      int minValue,
+      int maxValue,
+      int[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    if (allInRangeUnsigned(minValue, maxValue, values, fromIndex, toIndex)) {
+      return -1;
+    }
+    // At least one element failed the check, so the scan stops before reaching toIndex
+    for (int i = fromIndex; ; i++) {
+      if (!ObjectUtils.inRangeUnsigned(minValue, maxValue, values[i])) {
+        return i;
+      }
+    }
+  }
+
+  /**
+   * Returns the index of the first element of the specified {@code long} array that is not in range
+   * of the specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>, or {@code -1} if all the elements are in range. An {@link
+   * IllegalArgumentException} will be thrown if the maximum value is less than the minimum value.
+   * The elements and the bounds of the range are interpreted as unsigned integers.
+   *
+   * @param minValue the unsigned minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the unsigned maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return the index of the first element that is not in the specified range or {@code -1} if all
+   *     the elements are in range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SideEffectFree
+  public static @GTENegativeOne int indexOfNotInRangeUnsigned(
+      long minValue, long maxValue, long[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indexOfNotInRangeUnsigned(minValue, maxValue, values, 0, values.length);
+  }
+
+  /**
+   * Returns the index of the first element of the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code long} array that is not in range of
+   * the specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>, or {@code -1} if all the elements are in range. An {@link
+   * IllegalArgumentException} will be thrown if the maximum value is less than the minimum value.
+   * The elements and the bounds of the range are interpreted as unsigned integers.
+   *
+   * @param minValue the unsigned minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the unsigned maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return the index of the first element that is not in the specified range or {@code -1} if all
+   *     the elements are in range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SuppressWarnings("index:array.access.unsafe.high")
+  @SideEffectFree
+  public static @GTENegativeOne int indexOfNotInRangeUnsigned(
+      long minValue,
+      long maxValue,
+      long[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    if (allInRangeUnsigned(minValue, maxValue, values, fromIndex, toIndex)) {
+      return -1;
+    }
+    // At least one element failed the check, so the scan stops before reaching toIndex
+    for (int i = fromIndex; ; i++) {
+      if (!ObjectUtils.inRangeUnsigned(minValue, maxValue, values[i])) {
+        return i;
+      }
+    }
+  }
+
+  // ========================================================================
+  // REQUIRE ALL IN RANGE UNSIGNED VALIDATORS
+  // ========================================================================
+
+  /**
+   * Validates that all the elements of the specified {@code int} array are in range of the
+   * specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value. The elements and the bounds of the range are interpreted as unsigned integers.
+   *
+   * @param minValue the unsigned minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the unsigned maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static int[] requireAllInRangeUnsigned(int minValue, int maxValue, int[] values) {
+    return requireAllInRangeUnsigned(minValue, maxValue, values, null);
+  }
+
+  /**
+   * Validates that all the elements of the specified {@code int} array are in range of the
+   * specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value. An optional message can also be given to be used as the exception message. The elements
+   * and the bounds of the range are interpreted as unsigned integers.
+   *
+   * @param minValue the unsigned minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the unsigned maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static int[] requireAllInRangeUnsigned(
+      int minValue, int maxValue, int[] values, @Nullable String message) {
+    requireNonNull(values, "values cannot be null.");
+    return requireAllInRangeUnsigned(minValue, maxValue, values, 0, values.length, message);
+  }
+
+  /**
+   * Validates that all the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code int} array are in range of the
+   * specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value. The elements and the bounds of the range are interpreted as unsigned integers.
+   *
+   * @param minValue the unsigned minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the unsigned maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static int[] requireAllInRangeUnsigned(
+      int minValue,
+      int maxValue,
+      int[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    return requireAllInRangeUnsigned(minValue, maxValue, values, fromIndex, toIndex, null);
+  }
+
+  /**
+   * Validates that all the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code int} array are in range of the
+   * specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value. An optional message can also be given to be used as the exception message. The elements
+   * and the bounds of the range are interpreted as unsigned integers.
+   *
+   * @param minValue the unsigned minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the unsigned maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static int[] requireAllInRangeUnsigned(
+      int minValue,
+      int maxValue,
+      int[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex,
+      @Nullable String message) {
+    int index = indexOfNotInRangeUnsigned(minValue, maxValue, values, fromIndex, toIndex);
+    if (index >= 0) {
+      throw new ValidationException(
+              Check.IN_RANGE,
+              Integer.toUnsignedLong(values[index]),
+              Integer.toUnsignedLong(minValue),
+              Integer.toUnsignedLong(maxValue),
+              message)
+          .atIndex(index);
+    }
+    return values;
+  }
+
+  /**
+   * Validates that all the elements of the specified {@code long} array are in range of the
+   * specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value. The elements and the bounds of the range are interpreted as unsigned integers.
+   *
+   * @param minValue the unsigned minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the unsigned maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static long[] requireAllInRangeUnsigned(long minValue, long maxValue, long[] values) {
+    return requireAllInRangeUnsigned(minValue, maxValue, values, null);
+  }
+
+  /**
+   * Validates that all the elements of the specified {@code long} array are in range of the
+   * specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value. An optional message can also be given to be used as the exception message. The elements
+   * and the bounds of the range are interpreted as unsigned integers.
+   *
+   * @param minValue the unsigned minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the unsigned maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static long[] requireAllInRangeUnsigned(
+      long minValue, long maxValue, long[] values, @Nullable String message) {
+    requireNonNull(values, "values cannot be null.");
+    return requireAllInRangeUnsigned(minValue, maxValue, values, 0, values.length, message);
+  }
+
+  /**
+   * Validates that all the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code long} array are in range of the
+   * specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value. The elements and the bounds of the range are interpreted as unsigned integers.
+   *
+   * @param minValue the unsigned minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the unsigned maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static long[] requireAllInRangeUnsigned(
+      long minValue,
+      long maxValue,
+      long[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    return requireAllInRangeUnsigned(minValue, maxValue, values, fromIndex, toIndex, null);
+  }
+
+  /**
+   * Validates that all the elements from index {@code fromIndex}
+   * <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> of the specified {@code long} array are in range of the
+   * specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value. An optional message can also be given to be used as the exception message. The elements
+   * and the bounds of the range are interpreted as unsigned integers.
+   *
+   * @param minValue the unsigned minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the unsigned maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param fromIndex the index of the first element <i><strong>(inclusive)</strong></i> to check.
+   * @param toIndex the index of the last element <i><strong>(exclusive)</strong></i> to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code values} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  @SideEffectFree
+  public static long[] requireAllInRangeUnsigned(
+      long minValue,
+      long maxValue,
+      long[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex,
+      @Nullable String message) {
+    int index = indexOfNotInRangeUnsigned(minValue, maxValue, values, fromIndex, toIndex);
+    if (index >= 0) {
+      throw ValidationException.unsigned(
+              Check.IN_RANGE, values[index], minValue, maxValue, message)
+          .atIndex(index);
+    }
+    return values;
+  }
+
+  // ========================================================================
+  // HELPERS
+  // ========================================================================
+
+  @SideEffectFree
+  static void requireValidRange(int minValue, int maxValue) {
+    if (maxValue < minValue) {
+      throw new IllegalArgumentException(
+          String.format("maxValue( %d ) cannot be less than minValue( %d ).", maxValue, minValue));
+    }
+  }
+
+  @SideEffectFree
+  static void requireValidRange(long minValue, long maxValue) {
+    if (maxValue < minValue) {
+      throw new IllegalArgumentException(
+          String.format("maxValue( %d ) cannot be less than minValue( %d ).", maxValue, minValue));
+    }
+  }
+
+  @SideEffectFree
+  static void requireValidRange(float minValue, float maxValue) {
+    if (Float.compare(maxValue, minValue) < 0) {
+      throw new IllegalArgumentException(
+          String.format("maxValue( %f ) cannot be less than minValue( %f ).", maxValue, minValue));
+    }
+  }
+
+  @SideEffectFree
+  static void requireValidRange(double minValue, double maxValue) {
+    if (Double.compare(maxValue, minValue) < 0) {
+      throw new IllegalArgumentException(
+          String.format("maxValue( %f ) cannot be less than minValue( %f ).", maxValue, minValue));
+    }
+  }
+
+  @SideEffectFree
+  static void requireValidUnsignedRange(int minValue, int maxValue) {
+    if (ObjectUtils.isLessThanUnsigned(minValue, maxValue)) {
+      throw new IllegalArgumentException(
+          String.format(
+              "maxValue( %s ) cannot be less than minValue( %s ).",
+              Integer.toUnsignedString(maxValue),
+              Integer.toUnsignedString(minValue)));
+    }
+  }
+
+  @SideEffectFree
+  static void requireValidUnsignedRange(long minValue, long maxValue) {
+    if (ObjectUtils.isLessThanUnsigned(minValue, maxValue)) {
+      throw new IllegalArgumentException(
+          String.format(
+              "maxValue( %s ) cannot be less than minValue( %s ).",
+              Long.toUnsignedString(maxValue),
+              Long.toUnsignedString(minValue)));
+    }
+  }
+
+  // private constructor to prevent initialization
+  @SideEffectFree
+  private ArrayUtils() {}
+}
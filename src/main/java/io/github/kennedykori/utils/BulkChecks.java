@@ -0,0 +1,225 @@
+package io.github.kennedykori.utils;
+
+import org.checkerframework.checker.index.qual.IndexOrHigh;
+import org.checkerframework.dataflow.qual.SideEffectFree;
+
+/**
+ * The bulk checks of {@link ArrayUtils}. This implementation delegates to the scalar checks in
+ * {@link ScalarChecks} and is replaced, in the multi-release JAR, by an implementation that uses
+ * the Vector API on Java 21 and later. The methods in this class don't validate their arguments.
+ *
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * @since 3.0.0
+ */
+final class BulkChecks {
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code int} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to {@code minValue} and less than
+   * {@code maxValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allInRange(
+      int minValue,
+      int maxValue,
+      int[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    return ScalarChecks.allInRange(minValue, maxValue, values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code long} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to {@code minValue} and less than
+   * {@code maxValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allInRange(
+      long minValue,
+      long maxValue,
+      long[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    return ScalarChecks.allInRange(minValue, maxValue, values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code int} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to {@code minValue} and less than
+   * {@code maxValue} when all of them are interpreted as unsigned integers, {@code false}
+   * otherwise.
+   */
+  @SideEffectFree
+  static boolean allInRangeUnsigned(
+      int minValue,
+      int maxValue,
+      int[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    return ScalarChecks.allInRangeUnsigned(minValue, maxValue, values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code long} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to {@code minValue} and less than
+   * {@code maxValue} when all of them are interpreted as unsigned integers, {@code false}
+   * otherwise.
+   */
+  @SideEffectFree
+  static boolean allInRangeUnsigned(
+      long minValue,
+      long maxValue,
+      long[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    return ScalarChecks.allInRangeUnsigned(minValue, maxValue, values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code float} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to {@code minValue} and less than
+   * {@code maxValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allInRange(
+      float minValue,
+      float maxValue,
+      float[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    return ScalarChecks.allInRange(minValue, maxValue, values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code double} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to {@code minValue} and less than
+   * {@code maxValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allInRange(
+      double minValue,
+      double maxValue,
+      double[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    return ScalarChecks.allInRange(minValue, maxValue, values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code int} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to zero, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allNonNegative(
+      int[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    return ScalarChecks.allNonNegative(values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code long} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to zero, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allNonNegative(
+      long[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    return ScalarChecks.allNonNegative(values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code float} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to zero, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allNonNegative(
+      float[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    return ScalarChecks.allNonNegative(values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code double} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to zero, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allNonNegative(
+      double[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    return ScalarChecks.allNonNegative(values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code int} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are equal to {@code baseValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allEqualTo(
+      int baseValue,
+      int[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    return ScalarChecks.allEqualTo(baseValue, values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code long} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are equal to {@code baseValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allEqualTo(
+      long baseValue,
+      long[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    return ScalarChecks.allEqualTo(baseValue, values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code float} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are equal to {@code baseValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allEqualTo(
+      float baseValue,
+      float[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    return ScalarChecks.allEqualTo(baseValue, values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code double} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are equal to {@code baseValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allEqualTo(
+      double baseValue,
+      double[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    return ScalarChecks.allEqualTo(baseValue, values, fromIndex, toIndex);
+  }
+
+  // private constructor to prevent initialization
+  @SideEffectFree
+  private BulkChecks() {}
+}
@@ -0,0 +1,210 @@
+package io.github.kennedykori.utils;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.checkerframework.dataflow.qual.Pure;
+import org.checkerframework.dataflow.qual.SideEffectFree;
+
+/**
+ * A {@link Clock} that only reads the time of a source clock, by default the system clock, once per
+ * tick of a background thread and returns the cached time in between. Reading the time of a {@code
+ * CoarseClock} with {@link #millis()} is a single volatile read, which is much cheaper than reading
+ * the system clock when the time is read millions of times a second, e.g. by the clock checks of
+ * {@link ObjectUtils}. In exchange, the time of a {@code CoarseClock} lags the time of its source
+ * clock by up to its resolution, so checks against it should allow for at least that much skew.
+ *
+ * <p>A {@code CoarseClock} starts ticking when it is created and keeps ticking on a daemon thread
+ * until it is closed, after which it keeps returning the last time it read. A tick that fails to
+ * read the time of the source clock is skipped, so the clock keeps returning the last time it read
+ * until a later tick succeeds. It is meant to be created once and shared, e.g. by holding it in a
+ * {@code static final} field:
+ *
+ * <pre>{@code
+ * private static final CoarseClock CLOCK = CoarseClock.start(Duration.ofMillis(10));
+ *
+ * public void accept(Event event) {
+ *   requireNotInFuture(Clock.offset(CLOCK, Duration.ofSeconds(1)), event.getTimestamp());
+ * }
+ * }</pre>
+ *
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * @see ObjectUtils#requireNotInFuture(Clock, Instant)
+ * @since 3.0.0
+ */
+public final class CoarseClock extends Clock implements AutoCloseable {
+
+  /* The ticker that caches the time of the source clock, shared by clocks with other zones. */
+  private final Ticker ticker;
+
+  /* The time-zone of the clock. */
+  private final ZoneId zone;
+
+  @SideEffectFree
+  private CoarseClock(Ticker ticker, ZoneId zone) {
+    this.ticker = ticker;
+    this.zone = zone;
+  }
+
+  /**
+   * Returns a new {@code CoarseClock} that reads the time of the system clock, in the UTC
+   * time-zone, once every {@code resolution}. An {@link IllegalArgumentException} is thrown if the
+   * resolution isn't positive. A resolution longer than about 292 years, the longest that can be
+   * given in nanoseconds, is treated as that long.
+   *
+   * @param resolution how often the clock reads the time of the system clock.
+   * @return a new, ticking {@code CoarseClock}.
+   * @throws NullPointerException if {@code resolution} is {@code null}.
+   * @throws IllegalArgumentException if {@code resolution} is zero or negative.
+   */
+  public static CoarseClock start(Duration resolution) {
+    return start(Clock.systemUTC(), resolution);
+  }
+
+  /**
+   * Returns a new {@code CoarseClock} that reads the time of the given source clock once every
+   * {@code resolution}. The new clock has the time-zone of the source clock. An {@link
+   * IllegalArgumentException} is thrown if the resolution isn't positive. A resolution longer than
+   * about 292 years, the longest that can be given in nanoseconds, is treated as that long.
+   *
+   * @param source the clock to read the time from.
+   * @param resolution how often the clock reads the time of {@code source}.
+   * @return a new, ticking {@code CoarseClock}.
+   * @throws NullPointerException if any of the two arguments is/are {@code null}.
+   * @throws IllegalArgumentException if {@code resolution} is zero or negative.
+   */
+  public static CoarseClock start(Clock source, Duration resolution) {
+    requireNonNull(source, "source cannot be null.");
+    requireNonNull(resolution, "resolution cannot be null.");
+    if (resolution.isNegative() || resolution.isZero()) {
+      throw new IllegalArgumentException(
+          String.format("resolution( %s ) must be positive.", resolution));
+    }
+    Ticker ticker = new Ticker(source, resolution);
+    ticker.start();
+    return new CoarseClock(ticker, source.getZone());
+  }
+
+  /**
+   * Returns how often this clock reads the time of its source clock.
+   *
+   * @return the resolution of this clock.
+   */
+  @Pure
+  public Duration getResolution() {
+    return ticker.resolution;
+  }
+
+  /**
+   * Returns the time-zone of this clock.
+   *
+   * @return the time-zone of this clock.
+   */
+  @Pure
+  @Override
+  public ZoneId getZone() {
+    return zone;
+  }
+
+  /**
+   * Returns a copy of this clock with a different time-zone. The copy shares the background thread
+   * of this clock, so closing either of them stops both.
+   *
+   * @param zone the time-zone of the copy.
+   * @return a copy of this clock with the given time-zone.
+   * @throws NullPointerException if {@code zone} is {@code null}.
+   */
+  @SideEffectFree
+  @Override
+  public CoarseClock withZone(ZoneId zone) {
+    requireNonNull(zone, "zone cannot be null.");
+    return zone.equals(this.zone) ? this : new CoarseClock(ticker, zone);
+  }
+
+  /**
+   * Returns the time of the source clock, in milliseconds since the epoch, as of the last tick of
+   * this clock.
+   *
+   * @return the cached time of the source clock in milliseconds since the epoch.
+   */
+  @Override
+  public long millis() {
+    return ticker.millis;
+  }
+
+  /**
+   * Returns the time of the source clock as of the last tick of this clock.
+   *
+   * @return the cached time of the source clock.
+   */
+  @Override
+  public Instant instant() {
+    return Instant.ofEpochMilli(millis());
+  }
+
+  /**
+   * Stops the background thread of this clock and of the copies of this clock with a different
+   * time-zone. The clock keeps returning the last time it read once it is closed. Closing a clock
+   * that is already closed has no effect.
+   */
+  @Override
+  public void close() {
+    ticker.executor.shutdownNow();
+  }
+
+  @SideEffectFree
+  @Override
+  public String toString() {
+    return "CoarseClock[" + ticker.source + ", " + ticker.resolution + ", " + zone + "]";
+  }
+
+  /** Periodically reads and caches the time of a source clock on a daemon thread. */
+  private static final class Ticker implements Runnable {
+    /* The clock to read the time from. */
+    final Clock source;
+
+    /* How often the time of the source clock is read. */
+    final Duration resolution;
+
+    /* Runs the ticks. */
+    final ScheduledExecutorService executor;
+
+    /* The time of the source clock, in milliseconds since the epoch, as of the last tick. */
+    volatile long millis;
+
+    Ticker(Clock source, Duration resolution) {
+      this.source = source;
+      this.resolution = resolution;
+      this.millis = source.millis();
+      this.executor =
+          Executors.newSingleThreadScheduledExecutor(
+              task -> {
+                Thread thread = new Thread(task, "coarse-clock-ticker");
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
+
+    void start() {
+      // Unlike Duration.toNanos(), the conversion saturates instead of overflowing
+      long period = TimeUnit.NANOSECONDS.convert(resolution);
+      executor.scheduleAtFixedRate(this, period, period, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void run() {
+      // An exception would cancel the ticks that follow, so a failed tick is skipped instead
+      try {
+        millis = source.millis();
+      } catch (RuntimeException e) {
+        // Keep the last time read until a later tick succeeds
+      }
+    }
+  }
+}
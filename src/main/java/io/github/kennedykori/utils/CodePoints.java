@@ -0,0 +1,58 @@
+package io.github.kennedykori.utils;
+
+import org.checkerframework.dataflow.qual.Pure;
+
+/**
+ * Counts the Unicode code points of a character sequence. A sequence of {@code n} characters has
+ * between {@code (n + 1) / 2} and {@code n} code points, so most checks of the number of code
+ * points against a range are decided from the length of the sequence alone. Otherwise, the code
+ * points are counted in a single pass that stops as soon as the range is exceeded.
+ *
+ * <p>Like {@link String#codePointCount(int, int)}, an unpaired surrogate counts as one code point.
+ *
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * @since 3.0.0
+ */
+final class CodePoints {
+
+  /**
+   * Returns the number of code points in the given character sequence if it is not greater than
+   * {@code limit}. Otherwise, stops counting once {@code limit} is exceeded and returns a number
+   * greater than {@code limit}.
+   */
+  @Pure
+  static long count(CharSequence value, long limit) {
+    int length = value.length();
+    long count = 0;
+    for (int i = 0; i < length && count <= limit; i++, count++) {
+      if (Character.isHighSurrogate(value.charAt(i))
+          && i + 1 < length
+          && Character.isLowSurrogate(value.charAt(i + 1))) {
+        i++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Returns {@code true} if the given character sequence has at least {@code minCodePoints} and at
+   * most {@code maxCodePoints} code points, {@code false} otherwise.
+   */
+  @Pure
+  static boolean isCountBetween(CharSequence value, long minCodePoints, long maxCodePoints) {
+    long length = value.length();
+    long fewest = (length + 1) / 2;
+    if (length < minCodePoints || fewest > maxCodePoints) {
+      return false;
+    }
+    if (fewest >= minCodePoints && length <= maxCodePoints) {
+      return true;
+    }
+    long count = count(value, maxCodePoints);
+    return count >= minCodePoints && count <= maxCodePoints;
+  }
+
+  // private constructor to prevent initialization
+  @Pure
+  private CodePoints() {}
+}
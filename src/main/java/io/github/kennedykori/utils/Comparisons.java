@@ -0,0 +1,203 @@
+package io.github.kennedykori.utils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.dataflow.qual.Pure;
+import org.checkerframework.dataflow.qual.SideEffectFree;
+
+/**
+ * Exact comparisons between numbers of different types. Converting a {@code long} to a {@code
+ * double} can round it and comparing a {@code long} or a {@code double} to a {@link BigDecimal}
+ * normally requires creating a {@code BigDecimal} of it first. The comparisons in this class do
+ * neither.
+ *
+ * <p>Two {@link BigInteger}s are compared by their signs and bit lengths first, both of which are
+ * cached by a {@code BigInteger}, so the magnitudes of large values are only compared word by word
+ * when the values are of the same sign and bit length.
+ *
+ * <p>A {@code double} is ordered like {@link Double#compare(double, double)} orders it, i.e. {@code
+ * NaN} is greater than every other number and {@code -0.0} is less than zero. Every method returns
+ * a negative integer, zero or a positive integer if the first number is less than, equal to or
+ * greater than the second number.
+ *
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * @since 3.0.0
+ */
+final class Comparisons {
+
+  // Powers of ten that can be represented exactly as a double
+  private static final double[] DOUBLE_TEN_POWERS = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+    1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
+  // The number of entries in each of the caches of the BigDecimal of a long or a double
+  private static final int CACHE_SIZE = 64;
+
+  /*
+   * Small direct-mapped caches of the BigDecimal of the longs and doubles that could not be
+   * compared to a BigDecimal otherwise. These are almost always the constant bounds of a check, so
+   * the caches keep such checks from creating a BigDecimal on every call. The entries are
+   * immutable, so they can be shared between threads without synchronization.
+   */
+  private static final @Nullable CachedDecimal[] LONG_CACHE = new CachedDecimal[CACHE_SIZE];
+  private static final @Nullable CachedDecimal[] DOUBLE_CACHE = new CachedDecimal[CACHE_SIZE];
+
+  /** Compares a {@code long} to a {@code double} exactly. */
+  @Pure
+  static int compare(long x, double y) {
+    if (Double.isNaN(y) || y >= 0x1p63) {
+      return -1;
+    }
+    if (y < -0x1p63) {
+      return 1;
+    }
+    // y is in the range of a long, so its integral part can be compared as a long
+    long integral = (long) y;
+    if (x != integral) {
+      return x < integral ? -1 : 1;
+    }
+    // The difference is exact since y and its integral part are close to each other
+    double fraction = y - integral;
+    if (fraction != 0) {
+      return fraction > 0 ? -1 : 1;
+    }
+    // 0 is greater than -0.0
+    return x == 0 && Double.doubleToRawLongBits(y) != 0 ? 1 : 0;
+  }
+
+  /** Compares a {@code long} to a {@code BigDecimal} exactly. */
+  static int compare(long x, BigDecimal y) {
+    int xSign = Long.signum(x);
+    int ySign = y.signum();
+    if (xSign != ySign) {
+      return xSign < ySign ? -1 : 1;
+    }
+    if (xSign == 0) {
+      return 0;
+    }
+    // 10^(digits - 1) <= |y| < 10^digits, so numbers with different digits don't need rescaling
+    long yDigits = (long) y.precision() - y.scale();
+    int xDigits = digits(x);
+    if (xDigits != yDigits) {
+      return xDigits < yDigits ? -xSign : xSign;
+    }
+    return longDecimal(x).compareTo(y);
+  }
+
+  /** Compares a {@code double} to a {@code BigDecimal} exactly. */
+  static int compare(double x, BigDecimal y) {
+    if (Double.isNaN(x) || x == Double.POSITIVE_INFINITY) {
+      return 1;
+    }
+    if (x == Double.NEGATIVE_INFINITY) {
+      return -1;
+    }
+    int ySign = y.signum();
+    if (x == 0) {
+      // -0.0 is less than zero
+      return ySign != 0 ? -ySign : Double.doubleToRawLongBits(x) != 0 ? -1 : 0;
+    }
+    int xSign = x > 0 ? 1 : -1;
+    if (xSign != ySign) {
+      return xSign < ySign ? -1 : 1;
+    }
+    if (x == Math.rint(x) && Math.abs(x) < 0x1p63) {
+      return compare((long) x, y);
+    }
+    // 10^(digits - 1) <= |y| < 10^digits, compare |x| to the powers of ten that bound |y|
+    double abs = Math.abs(x);
+    long yDigits = (long) y.precision() - y.scale();
+    if (yDigits <= 0) {
+      // |y| < 1
+      if (abs >= 1) {
+        return xSign;
+      }
+    } else if (yDigits <= DOUBLE_TEN_POWERS.length) {
+      if (abs < DOUBLE_TEN_POWERS[(int) yDigits - 1]) {
+        return -xSign;
+      }
+      if (yDigits < DOUBLE_TEN_POWERS.length && abs >= DOUBLE_TEN_POWERS[(int) yDigits]) {
+        return xSign;
+      }
+    } else if (abs < 1e22) {
+      // |y| >= 10^22
+      return -xSign;
+    }
+    return doubleDecimal(x).compareTo(y);
+  }
+
+  /** Compares two {@code BigInteger}s, deciding by their signs and bit lengths when possible. */
+  @Pure
+  static int compare(BigInteger x, BigInteger y) {
+    int sign = x.signum();
+    int ySign = y.signum();
+    if (sign != ySign) {
+      return sign < ySign ? -1 : 1;
+    }
+    // The bit length grows with the magnitude of a positive number, and with the magnitude minus
+    // one of a negative number, so a longer negative number is the smaller one
+    int xBits = x.bitLength();
+    int yBits = y.bitLength();
+    if (xBits != yBits) {
+      return (xBits < yBits) == (sign > 0) ? -1 : 1;
+    }
+    return x.compareTo(y);
+  }
+
+  // Returns the number of decimal digits of the magnitude of the given non-zero long
+  @Pure
+  private static int digits(long x) {
+    if (x == Long.MIN_VALUE) {
+      return 19;
+    }
+    long magnitude = Math.abs(x);
+    int digits = 1;
+    for (long power = 10; digits < 19 && magnitude >= power; power *= 10) {
+      digits++;
+    }
+    return digits;
+  }
+
+  private static BigDecimal longDecimal(long value) {
+    int index = (int) (value ^ (value >>> 32)) & (CACHE_SIZE - 1);
+    CachedDecimal cached = LONG_CACHE[index];
+    if (cached == null || cached.bits != value) {
+      cached = new CachedDecimal(value, BigDecimal.valueOf(value));
+      LONG_CACHE[index] = cached;
+    }
+    return cached.decimal;
+  }
+
+  private static BigDecimal doubleDecimal(double value) {
+    long bits = Double.doubleToRawLongBits(value);
+    int index = (int) (bits ^ (bits >>> 32)) & (CACHE_SIZE - 1);
+    CachedDecimal cached = DOUBLE_CACHE[index];
+    if (cached == null || cached.bits != bits) {
+      // The BigDecimal(double) constructor is exact, unlike BigDecimal.valueOf(double)
+      cached = new CachedDecimal(bits, new BigDecimal(value));
+      DOUBLE_CACHE[index] = cached;
+    }
+    return cached.decimal;
+  }
+
+  /** An entry of the cache of the {@code BigDecimal} of a {@code long} or a {@code double}. */
+  private static final class CachedDecimal {
+    /* The long, or the raw bits of the double, that the entry is for. */
+    final long bits;
+
+    /* The exact BigDecimal of the long or the double. */
+    final BigDecimal decimal;
+
+    @SideEffectFree
+    CachedDecimal(long bits, BigDecimal decimal) {
+      this.bits = bits;
+      this.decimal = decimal;
+    }
+  }
+
+  // private constructor to prevent initialization
+  @Pure
+  private Comparisons() {}
+}
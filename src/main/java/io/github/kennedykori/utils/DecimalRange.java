@@ -0,0 +1,212 @@
+package io.github.kennedykori.utils;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.kennedykori.utils.ValidationException.Check;
+import java.math.BigDecimal;
+import java.util.function.Supplier;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.dataflow.qual.Pure;
+import org.checkerframework.dataflow.qual.SideEffectFree;
+
+/**
+ * An immutable range of {@link BigDecimal} values between a minimum value <i><strong>(inclusive)
+ * </strong></i> and a maximum value <i><strong>(exclusive)</strong></i>. Values are compared using
+ * {@link BigDecimal#compareTo(BigDecimal)}, so values that only differ in scale, e.g. {@code 2.0}
+ * and {@code 2.00}, are treated as equal.
+ *
+ * <p>Unlike {@link ObjectUtils#inRange(BigDecimal, BigDecimal, BigDecimal)}, which validates its
+ * bounds every time it is called, the bounds of a {@code DecimalRange} are validated once when the
+ * range is created, so checking if a value is in the range only takes two comparisons. This makes
+ * a {@code DecimalRange} suitable to be held in a {@code static final} field:
+ *
+ * <pre>{@code
+ * private static final DecimalRange DISCOUNT = DecimalRange.of(BigDecimal.ZERO, BigDecimal.ONE);
+ *
+ * public void setDiscount(BigDecimal discount) {
+ *   this.discount = DISCOUNT.require(discount);
+ * }
+ * }</pre>
+ *
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * @see ObjectUtils#inRange(BigDecimal, BigDecimal, BigDecimal)
+ * @since 3.0.0
+ */
+public final class DecimalRange {
+
+  /* The minimum value(inclusive) of the range. */
+  private final BigDecimal minValue;
+
+  /* The maximum value(exclusive) of the range. */
+  private final BigDecimal maxValue;
+
+  @SideEffectFree
+  private DecimalRange(BigDecimal minValue, BigDecimal maxValue) {
+    this.minValue = minValue;
+    this.maxValue = maxValue;
+  }
+
+  /**
+   * Returns a new range of the values greater than or equal to {@code minValue} and less than
+   * {@code maxValue}. An {@link IllegalArgumentException} is thrown if the maximum value is less
+   * than the minimum value and a {@code NullPointerException} is thrown if any of the two values
+   * is {@code null}. A range whose maximum value is equal to its minimum value is empty.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @return a new range of the values greater than or equal to {@code minValue} and less than
+   *     {@code maxValue}.
+   * @throws NullPointerException if any of the two arguments is/are {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SideEffectFree
+  public static DecimalRange of(BigDecimal minValue, BigDecimal maxValue) {
+    requireNonNull(minValue, "minValue cannot be null.");
+    if (requireNonNull(maxValue, "maxValue cannot be null.").compareTo(minValue) < 0) {
+      throw new IllegalArgumentException(
+          String.format("maxValue( %s ) cannot be less than minValue( %s ).", maxValue, minValue));
+    }
+    return new DecimalRange(minValue, maxValue);
+  }
+
+  /**
+   * Returns the minimum value<i><strong>(inclusive)</strong></i> of this range.
+   *
+   * @return the minimum value of this range.
+   */
+  @Pure
+  public BigDecimal getMinValue() {
+    return minValue;
+  }
+
+  /**
+   * Returns the maximum value<i><strong>(exclusive)</strong></i> of this range.
+   *
+   * @return the maximum value of this range.
+   */
+  @Pure
+  public BigDecimal getMaxValue() {
+    return maxValue;
+  }
+
+  /**
+   * Returns {@code true} if this range has no values, i.e. its maximum value is equal to its
+   * minimum value, {@code false} otherwise.
+   *
+   * @return {@code true} if this range has no values, {@code false} otherwise.
+   */
+  @SideEffectFree
+  public boolean isEmpty() {
+    return maxValue.compareTo(minValue) == 0;
+  }
+
+  /**
+   * Checks that the specified {@link BigDecimal} is in this range. Returns {@code true} if {@code
+   * value} is greater than or equal to the minimum value and less than the maximum value of this
+   * range, {@code false} otherwise.
+   *
+   * @param value the {@link BigDecimal} to check.
+   * @return {@code true} if {@code value} is in this range, {@code false} otherwise.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   */
+  @SideEffectFree
+  public boolean contains(BigDecimal value) {
+    return requireNonNull(value, "value cannot be null.").compareTo(minValue) >= 0
+        && value.compareTo(maxValue) < 0;
+  }
+
+  /**
+   * Validates that the specified {@link BigDecimal} is in this range. Returns {@code value} if it
+   * is in this range, otherwise, an {@code IllegalArgumentException} is thrown.
+   *
+   * @param value the {@link BigDecimal} to check.
+   * @return {@code value} if it is in this range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code value} is not in this range.
+   */
+  @SideEffectFree
+  public BigDecimal require(BigDecimal value) {
+    return require(value, (String) null);
+  }
+
+  /**
+   * Validates that the specified {@link BigDecimal} is in this range. Returns {@code value} if it
+   * is in this range, otherwise, an {@code IllegalArgumentException} is thrown. An optional message
+   * can also be given to be used as the exception message.
+   *
+   * @param value the {@link BigDecimal} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if it is in this range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code value} is not in this range.
+   */
+  @SideEffectFree
+  public BigDecimal require(BigDecimal value, @Nullable String message) {
+    if (!contains(value)) {
+      throw new ValidationException(Check.IN_RANGE, value, minValue, maxValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that the specified {@link BigDecimal} is in this range. Returns {@code value} if it
+   * is in this range, otherwise, an {@code IllegalArgumentException} is thrown. The exception
+   * message is only retrieved from {@code messageSupplier} if the validation fails.
+   *
+   * @param value the {@link BigDecimal} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is in this range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code value} is not in this range.
+   */
+  public BigDecimal require(BigDecimal value, @Nullable Supplier<String> messageSupplier) {
+    return contains(value) ? value : require(value, ObjectUtils.supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the specified {@link BigDecimal} is in this range. Returns {@code value} if it
+   * is in this range, otherwise, an {@code IllegalArgumentException} is thrown. The exception
+   * message is only formatted if the validation fails.
+   *
+   * @param value the {@link BigDecimal} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is in this range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code value} is not in this range.
+   */
+  @SideEffectFree
+  public BigDecimal require(
+      BigDecimal value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return contains(value)
+        ? value
+        : require(value, ObjectUtils.formatMessage(messageFormat, messageArgs));
+  }
+
+  @Pure
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof DecimalRange)) {
+      return false;
+    }
+    DecimalRange other = (DecimalRange) obj;
+    return minValue.equals(other.minValue) && maxValue.equals(other.maxValue);
+  }
+
+  @Pure
+  @Override
+  public int hashCode() {
+    return 31 * minValue.hashCode() + maxValue.hashCode();
+  }
+
+  @SideEffectFree
+  @Override
+  public String toString() {
+    return "[" + minValue + ", " + maxValue + ")";
+  }
+}
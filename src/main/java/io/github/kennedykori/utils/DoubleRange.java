@@ -0,0 +1,229 @@
+package io.github.kennedykori.utils;
+
+import io.github.kennedykori.utils.ValidationException.Check;
+import java.util.function.Supplier;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.dataflow.qual.Pure;
+import org.checkerframework.dataflow.qual.SideEffectFree;
+
+/**
+ * An immutable range of {@code double} values between a minimum value <i><strong>(inclusive)
+ * </strong></i> and a maximum value <i><strong>(exclusive)</strong></i>.
+ *
+ * <p>Unlike {@link ObjectUtils#inRange(double, double, double)}, which validates its bounds every
+ * time it is called, the bounds of a {@code DoubleRange} are validated once when the range is
+ * created. Checking if a value is in the range is then a single unsigned comparison of the values
+ * mapped to {@code long}s, making a {@code DoubleRange} suitable for use in hot code paths, e.g.
+ * when held in a {@code static final} field:
+ *
+ * <pre>{@code
+ * private static final DoubleRange PROBABILITY = DoubleRange.of(0D, Math.nextUp(1D));
+ *
+ * public void setProbability(double probability) {
+ *   this.probability = PROBABILITY.require(probability);
+ * }
+ * }</pre>
+ *
+ * <p>Like the rest of this library, a {@code DoubleRange} orders values the same way as {@link
+ * Double#compare(double, double)}, i.e. {@code -0.0} is less than {@code 0.0} and {@code NaN} is
+ * greater than all other values including {@link Double#POSITIVE_INFINITY}. {@code float} values
+ * can be checked against a {@code DoubleRange} too.
+ *
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * @see ObjectUtils#inRange(double, double, double)
+ * @since 3.0.0
+ */
+public final class DoubleRange {
+
+  /* The minimum value(inclusive) of the range. */
+  private final double minValue;
+
+  /* The maximum value(exclusive) of the range. */
+  private final double maxValue;
+
+  /* The minimum value of the range mapped to a long. */
+  private final long sortableMinValue;
+
+  /* The number of values in the range, interpreted as an unsigned long. */
+  private final long width;
+
+  @SideEffectFree
+  private DoubleRange(double minValue, double maxValue) {
+    this.minValue = minValue;
+    this.maxValue = maxValue;
+    this.sortableMinValue = sortableBits(minValue);
+    this.width = sortableBits(maxValue) - sortableMinValue;
+  }
+
+  /**
+   * Returns a new range of the values greater than or equal to {@code minValue} and less than
+   * {@code maxValue}. An {@link IllegalArgumentException} is thrown if the maximum value is less
+   * than the minimum value. A range whose maximum value is equal to its minimum value is empty.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @return a new range of the values greater than or equal to {@code minValue} and less than
+   *     {@code maxValue}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SideEffectFree
+  public static DoubleRange of(double minValue, double maxValue) {
+    if (Double.compare(maxValue, minValue) < 0) {
+      throw new IllegalArgumentException(
+          String.format("maxValue( %f ) cannot be less than minValue( %f ).", maxValue, minValue));
+    }
+    return new DoubleRange(minValue, maxValue);
+  }
+
+  /**
+   * Returns the minimum value<i><strong>(inclusive)</strong></i> of this range.
+   *
+   * @return the minimum value of this range.
+   */
+  @Pure
+  public double getMinValue() {
+    return minValue;
+  }
+
+  /**
+   * Returns the maximum value<i><strong>(exclusive)</strong></i> of this range.
+   *
+   * @return the maximum value of this range.
+   */
+  @Pure
+  public double getMaxValue() {
+    return maxValue;
+  }
+
+  /**
+   * Returns {@code true} if this range has no values, i.e. its maximum value is equal to its
+   * minimum value, {@code false} otherwise.
+   *
+   * @return {@code true} if this range has no values, {@code false} otherwise.
+   */
+  @Pure
+  public boolean isEmpty() {
+    return width == 0;
+  }
+
+  /**
+   * Checks that the specified {@code double} is in this range. Returns {@code true} if {@code
+   * value} is greater than or equal to the minimum value and less than the maximum value of this
+   * range, {@code false} otherwise.
+   *
+   * @param value the {@code double} to check.
+   * @return {@code true} if {@code value} is in this range, {@code false} otherwise.
+   */
+  @Pure
+  public boolean contains(double value) {
+    // Values less than minValue wrap around to large unsigned values, so one comparison suffices
+    return Long.compareUnsigned(sortableBits(value) - sortableMinValue, width) < 0;
+  }
+
+  /**
+   * Validates that the specified {@code double} is in this range. Returns {@code value} if it is in
+   * this range, otherwise, an {@code IllegalArgumentException} is thrown.
+   *
+   * @param value the {@code double} to check.
+   * @return {@code value} if it is in this range.
+   * @throws IllegalArgumentException if {@code value} is not in this range.
+   */
+  @SideEffectFree
+  public double require(double value) {
+    return require(value, (String) null);
+  }
+
+  /**
+   * Validates that the specified {@code double} is in this range. Returns {@code value} if it is in
+   * this range, otherwise, an {@code IllegalArgumentException} is thrown. An optional message can
+   * also be given to be used as the exception message.
+   *
+   * @param value the {@code double} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if it is in this range.
+   * @throws IllegalArgumentException if {@code value} is not in this range.
+   */
+  @SideEffectFree
+  public double require(double value, @Nullable String message) {
+    if (!contains(value)) {
+      throw new ValidationException(Check.IN_RANGE, value, minValue, maxValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that the specified {@code double} is in this range. Returns {@code value} if it is in
+   * this range, otherwise, an {@code IllegalArgumentException} is thrown. The exception message is
+   * only retrieved from {@code messageSupplier} if the validation fails.
+   *
+   * @param value the {@code double} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is in this range.
+   * @throws IllegalArgumentException if {@code value} is not in this range.
+   */
+  public double require(double value, @Nullable Supplier<String> messageSupplier) {
+    return contains(value) ? value : require(value, ObjectUtils.supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the specified {@code double} is in this range. Returns {@code value} if it is in
+   * this range, otherwise, an {@code IllegalArgumentException} is thrown. The exception message is
+   * only formatted if the validation fails.
+   *
+   * @param value the {@code double} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is in this range.
+   * @throws IllegalArgumentException if {@code value} is not in this range.
+   */
+  @SideEffectFree
+  public double require(
+      double value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return contains(value)
+        ? value
+        : require(value, ObjectUtils.formatMessage(messageFormat, messageArgs));
+  }
+
+  @Pure
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof DoubleRange)) {
+      return false;
+    }
+    DoubleRange other = (DoubleRange) obj;
+    return Double.compare(minValue, other.minValue) == 0
+        && Double.compare(maxValue, other.maxValue) == 0;
+  }
+
+  @Pure
+  @Override
+  public int hashCode() {
+    return 31 * Double.hashCode(minValue) + Double.hashCode(maxValue);
+  }
+
+  @SideEffectFree
+  @Override
+  public String toString() {
+    return "[" + minValue + ", " + maxValue + ")";
+  }
+
+  /**
+   * Maps the specified {@code double} to a {@code long} such that comparing two mapped values as
+   * signed {@code long}s gives the same result as comparing the {@code double}s using {@link
+   * Double#compare(double, double)}.
+   *
+   * @param value the {@code double} to map.
+   * @return a {@code long} that sorts the same way as {@code value}.
+   */
+  @Pure
+  static long sortableBits(double value) {
+    long bits = Double.doubleToLongBits(value);
+    // Negative values sort in reverse order of their bits, so flip all but the sign bit
+    return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+  }
+}
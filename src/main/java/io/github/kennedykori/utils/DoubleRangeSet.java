@@ -0,0 +1,256 @@
+package io.github.kennedykori.utils;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.kennedykori.utils.ValidationException.Check;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.List;
+import java.util.function.Supplier;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.dataflow.qual.Pure;
+import org.checkerframework.dataflow.qual.SideEffectFree;
+
+/**
+ * An immutable set of disjoint {@link DoubleRange}s, e.g. the bands of frequencies that a device
+ * may transmit on, that can be checked for membership in logarithmic time.
+ *
+ * <p>The values of a {@code DoubleRangeSet} are mapped to {@code long}s that sort in the same order
+ * as the values, the way a {@link DoubleRange} maps them, and are stored as a {@link LongRangeSet}.
+ * Checking if a value is in the set is then a binary search for the only range that can contain it,
+ * instead of checking every range, making a {@code DoubleRangeSet} suitable for use in hot code
+ * paths, e.g. when held in a {@code static final} field:
+ *
+ * <pre>{@code
+ * private static final DoubleRangeSet BANDS =
+ *     DoubleRangeSet.of(DoubleRange.of(2400D, 2483.5D), DoubleRange.of(5150D, 5350D));
+ *
+ * public void tune(double megahertz) {
+ *   this.frequency = BANDS.require(megahertz, "frequency isn't allowed.");
+ * }
+ * }</pre>
+ *
+ * <p>Like a {@code DoubleRange}, a {@code DoubleRangeSet} orders values the same way as {@link
+ * Double#compare(double, double)}, i.e. {@code -0.0} is less than {@code 0.0} and {@code NaN} is
+ * greater than all other values including {@link Double#POSITIVE_INFINITY}.
+ *
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * @see DoubleRange
+ * @see LongRangeSet
+ * @since 3.0.0
+ */
+public final class DoubleRangeSet implements Formattable {
+
+  /* The ranges of the set, with their values mapped to longs that sort in the same order. */
+  private final LongRangeSet sortableRanges;
+
+  @SideEffectFree
+  private DoubleRangeSet(LongRangeSet sortableRanges) {
+    this.sortableRanges = sortableRanges;
+  }
+
+  /**
+   * Returns a new set of the values in any of the given ranges. Overlapping and adjacent ranges
+   * are merged and empty ranges are ignored.
+   *
+   * @param ranges the ranges of the set.
+   * @return a new set of the values in any of the given ranges.
+   * @throws NullPointerException if {@code ranges} is {@code null} or contains {@code null}.
+   */
+  public static DoubleRangeSet of(DoubleRange... ranges) {
+    requireNonNull(ranges, "ranges cannot be null.");
+    return of(Arrays.asList(ranges));
+  }
+
+  /**
+   * Returns a new set of the values in any of the given ranges. Overlapping and adjacent ranges
+   * are merged and empty ranges are ignored.
+   *
+   * @param ranges the ranges of the set.
+   * @return a new set of the values in any of the given ranges.
+   * @throws NullPointerException if {@code ranges} is {@code null} or contains {@code null}.
+   */
+  public static DoubleRangeSet of(Collection<DoubleRange> ranges) {
+    requireNonNull(ranges, "ranges cannot be null.");
+    LongRange[] sortableRanges = new LongRange[ranges.size()];
+    int index = 0;
+    for (DoubleRange range : ranges) {
+      requireNonNull(range, "ranges cannot contain null.");
+      sortableRanges[index++] =
+          LongRange.of(
+              DoubleRange.sortableBits(range.getMinValue()),
+              DoubleRange.sortableBits(range.getMaxValue()));
+    }
+    return new DoubleRangeSet(LongRangeSet.of(sortableRanges));
+  }
+
+  /**
+   * Returns the merged ranges of this set in ascending order. The ranges are disjoint and no two
+   * of them are adjacent.
+   *
+   * @return an unmodifiable list of the merged ranges of this set in ascending order.
+   */
+  @SideEffectFree
+  public List<DoubleRange> getRanges() {
+    DoubleRange[] ranges = new DoubleRange[sortableRanges.rangeCount()];
+    for (int index = 0; index < ranges.length; index++) {
+      ranges[index] = DoubleRange.of(minValue(index), maxValue(index));
+    }
+    return List.of(ranges);
+  }
+
+  /**
+   * Returns {@code true} if this set has no values, {@code false} otherwise.
+   *
+   * @return {@code true} if this set has no values, {@code false} otherwise.
+   */
+  @Pure
+  public boolean isEmpty() {
+    return sortableRanges.isEmpty();
+  }
+
+  /**
+   * Checks that the specified {@code double} is in this set. Returns {@code true} if {@code value}
+   * is in any of the ranges of this set, {@code false} otherwise.
+   *
+   * @param value the {@code double} to check.
+   * @return {@code true} if {@code value} is in this set, {@code false} otherwise.
+   */
+  @Pure
+  public boolean contains(double value) {
+    return sortableRanges.contains(DoubleRange.sortableBits(value));
+  }
+
+  /**
+   * Validates that the specified {@code double} is in this set. Returns {@code value} if it is in
+   * this set, otherwise, an {@code IllegalArgumentException} is thrown.
+   *
+   * @param value the {@code double} to check.
+   * @return {@code value} if it is in this set.
+   * @throws IllegalArgumentException if {@code value} is not in this set.
+   */
+  @SideEffectFree
+  public double require(double value) {
+    return require(value, (String) null);
+  }
+
+  /**
+   * Validates that the specified {@code double} is in this set. Returns {@code value} if it is in
+   * this set, otherwise, an {@code IllegalArgumentException} is thrown. An optional message can
+   * also be given to be used as the exception message.
+   *
+   * @param value the {@code double} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if it is in this set.
+   * @throws IllegalArgumentException if {@code value} is not in this set.
+   */
+  @SideEffectFree
+  public double require(double value, @Nullable String message) {
+    if (!contains(value)) {
+      throw new ValidationException(Check.IN_ANY_RANGE, value, this, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that the specified {@code double} is in this set. Returns {@code value} if it is in
+   * this set, otherwise, an {@code IllegalArgumentException} is thrown. The exception message is
+   * only retrieved from {@code messageSupplier} if the validation fails.
+   *
+   * @param value the {@code double} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is in this set.
+   * @throws IllegalArgumentException if {@code value} is not in this set.
+   */
+  public double require(double value, @Nullable Supplier<String> messageSupplier) {
+    return contains(value) ? value : require(value, ObjectUtils.supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the specified {@code double} is in this set. Returns {@code value} if it is in
+   * this set, otherwise, an {@code IllegalArgumentException} is thrown. The exception message is
+   * only formatted if the validation fails.
+   *
+   * @param value the {@code double} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is in this set.
+   * @throws IllegalArgumentException if {@code value} is not in this set.
+   */
+  @SideEffectFree
+  public double require(
+      double value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return contains(value)
+        ? value
+        : require(value, ObjectUtils.formatMessage(messageFormat, messageArgs));
+  }
+
+  @Pure
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof DoubleRangeSet)) {
+      return false;
+    }
+    return sortableRanges.equals(((DoubleRangeSet) obj).sortableRanges);
+  }
+
+  @Pure
+  @Override
+  public int hashCode() {
+    return sortableRanges.hashCode();
+  }
+
+  @SideEffectFree
+  @Override
+  public String toString() {
+    return String.format("%s", this);
+  }
+
+  /**
+   * Formats this set for the {@code %s} conversion of a {@link Formatter}, e.g. for the default
+   * message of a failed {@code require}. The precision, if given, is the largest number of ranges
+   * to include, followed by the number of ranges in this set if some were left out, e.g. {@code
+   * "[[2400.0, 2483.5), ...] (2 ranges)"} for a precision of 1. Without a precision, all the ranges
+   * are included, like {@link #toString()} does.
+   *
+   * @param formatter the formatter to write to.
+   * @param flags the flags of the conversion.
+   * @param width the minimum number of characters to write, or {@code -1} for no minimum.
+   * @param precision the largest number of ranges to include, or {@code -1} for all of them.
+   */
+  @Override
+  public void formatTo(Formatter formatter, int flags, int width, int precision) {
+    ValidationException.formatValues(
+        formatter,
+        flags,
+        width,
+        precision,
+        sortableRanges.rangeCount(),
+        "ranges",
+        index -> "[" + minValue(index) + ", " + maxValue(index) + ")");
+  }
+
+  // The bounds of the merged range at the given index
+  @Pure
+  private double minValue(int index) {
+    return fromSortableBits(sortableRanges.minValue(index));
+  }
+
+  @Pure
+  private double maxValue(int index) {
+    return fromSortableBits(sortableRanges.maxValue(index));
+  }
+
+  // Undoes DoubleRange.sortableBits(double), whose flipping of the bits is its own inverse
+  @Pure
+  private static double fromSortableBits(long sortable) {
+    return Double.longBitsToDouble(sortable ^ ((sortable >> 63) & Long.MAX_VALUE));
+  }
+}
@@ -0,0 +1,325 @@
+package io.github.kennedykori.utils;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.kennedykori.utils.ValidationException.Check;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.function.Supplier;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.dataflow.qual.Pure;
+import org.checkerframework.dataflow.qual.SideEffectFree;
+
+/**
+ * An immutable range of instants on the time-line between a minimum value <i><strong>(inclusive)
+ * </strong></i> and a maximum value <i><strong>(exclusive)</strong></i>. Both {@link Instant}s and
+ * {@link OffsetDateTime}s can be checked against the range, an {@code OffsetDateTime} is compared
+ * by the instant it represents regardless of its offset.
+ *
+ * <p>The bounds of an {@code InstantRange} are validated and broken down into their epoch seconds
+ * and nanoseconds once when the range is created. Checking if a value is in the range then only
+ * compares the epoch second and the nanosecond of the value against those primitives, so it does
+ * no temporal arithmetic on the bounds and doesn't allocate. This makes an {@code InstantRange}
+ * suitable for checks against a fixed window, e.g. when held in a {@code static final} field:
+ *
+ * <pre>{@code
+ * private static final InstantRange SEASON =
+ *     InstantRange.of(
+ *         Instant.parse("2024-06-01T00:00:00Z"), Instant.parse("2024-09-01T00:00:00Z"));
+ *
+ * public void setPlayedAt(Instant playedAt) {
+ *   this.playedAt = SEASON.require(playedAt);
+ * }
+ * }</pre>
+ *
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * @see ObjectUtils#inRange(Instant, Instant, Instant)
+ * @since 3.0.0
+ */
+public final class InstantRange {
+
+  /* The minimum value(inclusive) of the range. */
+  private final Instant minValue;
+
+  /* The maximum value(exclusive) of the range. */
+  private final Instant maxValue;
+
+  /* The epoch seconds and the nanoseconds of the minimum value of the range. */
+  private final long minSeconds;
+  private final int minNanos;
+
+  /* The epoch seconds and the nanoseconds of the maximum value of the range. */
+  private final long maxSeconds;
+  private final int maxNanos;
+
+  @SideEffectFree
+  private InstantRange(Instant minValue, Instant maxValue) {
+    this.minValue = minValue;
+    this.maxValue = maxValue;
+    this.minSeconds = minValue.getEpochSecond();
+    this.minNanos = minValue.getNano();
+    this.maxSeconds = maxValue.getEpochSecond();
+    this.maxNanos = maxValue.getNano();
+  }
+
+  /**
+   * Returns a new range of the instants after or equal to {@code minValue} and before {@code
+   * maxValue}. An {@link IllegalArgumentException} is thrown if the maximum value is before the
+   * minimum value and a {@code NullPointerException} is thrown if any of the two values is {@code
+   * null}. A range whose maximum value is equal to its minimum value is empty.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @return a new range of the instants after or equal to {@code minValue} and before {@code
+   *     maxValue}.
+   * @throws NullPointerException if any of the two arguments is/are {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is before {@code minValue}.
+   */
+  @SideEffectFree
+  public static InstantRange of(Instant minValue, Instant maxValue) {
+    requireNonNull(minValue, "minValue cannot be null.");
+    if (requireNonNull(maxValue, "maxValue cannot be null.").isBefore(minValue)) {
+      throw new IllegalArgumentException(
+          String.format("maxValue( %s ) cannot be less than minValue( %s ).", maxValue, minValue));
+    }
+    return new InstantRange(minValue, maxValue);
+  }
+
+  /**
+   * Returns the minimum value<i><strong>(inclusive)</strong></i> of this range.
+   *
+   * @return the minimum value of this range.
+   */
+  @Pure
+  public Instant getMinValue() {
+    return minValue;
+  }
+
+  /**
+   * Returns the maximum value<i><strong>(exclusive)</strong></i> of this range.
+   *
+   * @return the maximum value of this range.
+   */
+  @Pure
+  public Instant getMaxValue() {
+    return maxValue;
+  }
+
+  /**
+   * Returns {@code true} if this range has no values, i.e. its maximum value is equal to its
+   * minimum value, {@code false} otherwise.
+   *
+   * @return {@code true} if this range has no values, {@code false} otherwise.
+   */
+  @Pure
+  public boolean isEmpty() {
+    return maxSeconds == minSeconds && maxNanos == minNanos;
+  }
+
+  /**
+   * Checks that the specified {@link Instant} is in this range. Returns {@code true} if {@code
+   * value} is after or equal to the minimum value and before the maximum value of this range,
+   * {@code false} otherwise.
+   *
+   * @param value the {@link Instant} to check.
+   * @return {@code true} if {@code value} is in this range, {@code false} otherwise.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   */
+  @SideEffectFree
+  public boolean contains(Instant value) {
+    requireNonNull(value, "value cannot be null.");
+    return contains(value.getEpochSecond(), value.getNano());
+  }
+
+  /**
+   * Checks that the instant represented by the specified {@link OffsetDateTime} is in this range.
+   * Returns {@code true} if {@code value} is after or equal to the minimum value and before the
+   * maximum value of this range, {@code false} otherwise.
+   *
+   * @param value the {@link OffsetDateTime} to check.
+   * @return {@code true} if {@code value} is in this range, {@code false} otherwise.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   */
+  @SideEffectFree
+  public boolean contains(OffsetDateTime value) {
+    requireNonNull(value, "value cannot be null.");
+    return contains(value.toEpochSecond(), value.getNano());
+  }
+
+  /**
+   * Validates that the specified {@link Instant} is in this range. Returns {@code value} if it is
+   * in this range, otherwise, an {@code IllegalArgumentException} is thrown.
+   *
+   * @param value the {@link Instant} to check.
+   * @return {@code value} if it is in this range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code value} is not in this range.
+   */
+  @SideEffectFree
+  public Instant require(Instant value) {
+    return require(value, (String) null);
+  }
+
+  /**
+   * Validates that the specified {@link Instant} is in this range. Returns {@code value} if it is
+   * in this range, otherwise, an {@code IllegalArgumentException} is thrown. An optional message
+   * can also be given to be used as the exception message.
+   *
+   * @param value the {@link Instant} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if it is in this range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code value} is not in this range.
+   */
+  @SideEffectFree
+  public Instant require(Instant value, @Nullable String message) {
+    if (!contains(value)) {
+      throw new ValidationException(Check.IN_RANGE, value, minValue, maxValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that the specified {@link Instant} is in this range. Returns {@code value} if it is
+   * in this range, otherwise, an {@code IllegalArgumentException} is thrown. The exception message
+   * is only retrieved from {@code messageSupplier} if the validation fails.
+   *
+   * @param value the {@link Instant} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is in this range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code value} is not in this range.
+   */
+  public Instant require(Instant value, @Nullable Supplier<String> messageSupplier) {
+    return contains(value) ? value : require(value, ObjectUtils.supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the specified {@link Instant} is in this range. Returns {@code value} if it is
+   * in this range, otherwise, an {@code IllegalArgumentException} is thrown. The exception message
+   * is only formatted if the validation fails.
+   *
+   * @param value the {@link Instant} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is in this range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code value} is not in this range.
+   */
+  @SideEffectFree
+  public Instant require(
+      Instant value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return contains(value)
+        ? value
+        : require(value, ObjectUtils.formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that the instant represented by the specified {@link OffsetDateTime} is in this
+   * range. Returns {@code value} if it is in this range, otherwise, an {@code
+   * IllegalArgumentException} is thrown.
+   *
+   * @param value the {@link OffsetDateTime} to check.
+   * @return {@code value} if it is in this range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code value} is not in this range.
+   */
+  @SideEffectFree
+  public OffsetDateTime require(OffsetDateTime value) {
+    return require(value, (String) null);
+  }
+
+  /**
+   * Validates that the instant represented by the specified {@link OffsetDateTime} is in this
+   * range. Returns {@code value} if it is in this range, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An optional message can also be given to be used as the
+   * exception message.
+   *
+   * @param value the {@link OffsetDateTime} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if it is in this range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code value} is not in this range.
+   */
+  @SideEffectFree
+  public OffsetDateTime require(OffsetDateTime value, @Nullable String message) {
+    if (!contains(value)) {
+      throw new ValidationException(Check.IN_RANGE, value, minValue, maxValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that the instant represented by the specified {@link OffsetDateTime} is in this
+   * range. Returns {@code value} if it is in this range, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param value the {@link OffsetDateTime} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is in this range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code value} is not in this range.
+   */
+  public OffsetDateTime require(OffsetDateTime value, @Nullable Supplier<String> messageSupplier) {
+    return contains(value) ? value : require(value, ObjectUtils.supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the instant represented by the specified {@link OffsetDateTime} is in this
+   * range. Returns {@code value} if it is in this range, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param value the {@link OffsetDateTime} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is in this range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code value} is not in this range.
+   */
+  @SideEffectFree
+  public OffsetDateTime require(
+      OffsetDateTime value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return contains(value)
+        ? value
+        : require(value, ObjectUtils.formatMessage(messageFormat, messageArgs));
+  }
+
+  // Checks the epoch second and the nanosecond of an instant against the precomputed bounds
+  @Pure
+  private boolean contains(long seconds, int nanos) {
+    // The nanoseconds only matter when the seconds are equal to those of a bound
+    return (seconds > minSeconds || (seconds == minSeconds && nanos >= minNanos))
+        && (seconds < maxSeconds || (seconds == maxSeconds && nanos < maxNanos));
+  }
+
+  @Pure
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof InstantRange)) {
+      return false;
+    }
+    InstantRange other = (InstantRange) obj;
+    return minValue.equals(other.minValue) && maxValue.equals(other.maxValue);
+  }
+
+  @Pure
+  @Override
+  public int hashCode() {
+    return 31 * minValue.hashCode() + maxValue.hashCode();
+  }
+
+  @SideEffectFree
+  @Override
+  public String toString() {
+    return "[" + minValue + ", " + maxValue + ")";
+  }
+}
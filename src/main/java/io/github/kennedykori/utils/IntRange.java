@@ -0,0 +1,202 @@
+package io.github.kennedykori.utils;
+
+import io.github.kennedykori.utils.ValidationException.Check;
+import java.util.function.Supplier;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.dataflow.qual.Pure;
+import org.checkerframework.dataflow.qual.SideEffectFree;
+
+/**
+ * An immutable range of {@code int} values between a minimum value <i><strong>(inclusive)</strong>
+ * </i> and a maximum value <i><strong>(exclusive)</strong></i>.
+ *
+ * <p>Unlike {@link ObjectUtils#inRange(int, int, int)}, which validates its bounds every time it is
+ * called, the bounds of an {@code IntRange} are validated once when the range is created. Checking
+ * if a value is in the range is then a single unsigned comparison, making an {@code IntRange}
+ * suitable for use in hot code paths, e.g. when held in a {@code static final} field:
+ *
+ * <pre>{@code
+ * private static final IntRange PERCENTAGE = IntRange.of(0, 101);
+ *
+ * public void setProgress(int progress) {
+ *   this.progress = PERCENTAGE.require(progress);
+ * }
+ * }</pre>
+ *
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * @see ObjectUtils#inRange(int, int, int)
+ * @since 3.0.0
+ */
+public final class IntRange {
+
+  /* The minimum value(inclusive) of the range. */
+  private final int minValue;
+
+  /* The maximum value(exclusive) of the range. */
+  private final int maxValue;
+
+  /* The number of values in the range, interpreted as an unsigned int. */
+  private final int width;
+
+  @SideEffectFree
+  private IntRange(int minValue, int maxValue) {
+    this.minValue = minValue;
+    this.maxValue = maxValue;
+    this.width = maxValue - minValue;
+  }
+
+  /**
+   * Returns a new range of the values greater than or equal to {@code minValue} and less than
+   * {@code maxValue}. An {@link IllegalArgumentException} is thrown if the maximum value is less
+   * than the minimum value. A range whose maximum value is equal to its minimum value is empty.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @return a new range of the values greater than or equal to {@code minValue} and less than
+   *     {@code maxValue}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SideEffectFree
+  public static IntRange of(int minValue, int maxValue) {
+    if (maxValue < minValue) {
+      throw new IllegalArgumentException(
+          String.format("maxValue( %d ) cannot be less than minValue( %d ).", maxValue, minValue));
+    }
+    return new IntRange(minValue, maxValue);
+  }
+
+  /**
+   * Returns the minimum value<i><strong>(inclusive)</strong></i> of this range.
+   *
+   * @return the minimum value of this range.
+   */
+  @Pure
+  public int getMinValue() {
+    return minValue;
+  }
+
+  /**
+   * Returns the maximum value<i><strong>(exclusive)</strong></i> of this range.
+   *
+   * @return the maximum value of this range.
+   */
+  @Pure
+  public int getMaxValue() {
+    return maxValue;
+  }
+
+  /**
+   * Returns {@code true} if this range has no values, i.e. its maximum value is equal to its
+   * minimum value, {@code false} otherwise.
+   *
+   * @return {@code true} if this range has no values, {@code false} otherwise.
+   */
+  @Pure
+  public boolean isEmpty() {
+    return width == 0;
+  }
+
+  /**
+   * Checks that the specified {@code int} is in this range. Returns {@code true} if {@code value}
+   * is greater than or equal to the minimum value and less than the maximum value of this range,
+   * {@code false} otherwise.
+   *
+   * @param value the {@code int} to check.
+   * @return {@code true} if {@code value} is in this range, {@code false} otherwise.
+   */
+  @Pure
+  public boolean contains(int value) {
+    // Values less than minValue wrap around to large unsigned values, so one comparison suffices
+    return Integer.compareUnsigned(value - minValue, width) < 0;
+  }
+
+  /**
+   * Validates that the specified {@code int} is in this range. Returns {@code value} if it is in
+   * this range, otherwise, an {@code IllegalArgumentException} is thrown.
+   *
+   * @param value the {@code int} to check.
+   * @return {@code value} if it is in this range.
+   * @throws IllegalArgumentException if {@code value} is not in this range.
+   */
+  @SideEffectFree
+  public int require(int value) {
+    return require(value, (String) null);
+  }
+
+  /**
+   * Validates that the specified {@code int} is in this range. Returns {@code value} if it is in
+   * this range, otherwise, an {@code IllegalArgumentException} is thrown. An optional message can
+   * also be given to be used as the exception message.
+   *
+   * @param value the {@code int} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if it is in this range.
+   * @throws IllegalArgumentException if {@code value} is not in this range.
+   */
+  @SideEffectFree
+  public int require(int value, @Nullable String message) {
+    if (!contains(value)) {
+      throw new ValidationException(Check.IN_RANGE, value, minValue, maxValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that the specified {@code int} is in this range. Returns {@code value} if it is in
+   * this range, otherwise, an {@code IllegalArgumentException} is thrown. The exception message is
+   * only retrieved from {@code messageSupplier} if the validation fails.
+   *
+   * @param value the {@code int} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is in this range.
+   * @throws IllegalArgumentException if {@code value} is not in this range.
+   */
+  public int require(int value, @Nullable Supplier<String> messageSupplier) {
+    return contains(value) ? value : require(value, ObjectUtils.supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the specified {@code int} is in this range. Returns {@code value} if it is in
+   * this range, otherwise, an {@code IllegalArgumentException} is thrown. The exception message is
+   * only formatted if the validation fails.
+   *
+   * @param value the {@code int} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is in this range.
+   * @throws IllegalArgumentException if {@code value} is not in this range.
+   */
+  @SideEffectFree
+  public int require(int value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return contains(value)
+        ? value
+        : require(value, ObjectUtils.formatMessage(messageFormat, messageArgs));
+  }
+
+  @Pure
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof IntRange)) {
+      return false;
+    }
+    IntRange other = (IntRange) obj;
+    return minValue == other.minValue && maxValue == other.maxValue;
+  }
+
+  @Pure
+  @Override
+  public int hashCode() {
+    return 31 * Integer.hashCode(minValue) + Integer.hashCode(maxValue);
+  }
+
+  @SideEffectFree
+  @Override
+  public String toString() {
+    return "[" + minValue + ", " + maxValue + ")";
+  }
+}
@@ -0,0 +1,272 @@
+package io.github.kennedykori.utils;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.kennedykori.utils.ValidationException.Check;
+import java.util.Arrays;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.function.Supplier;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.dataflow.qual.Pure;
+import org.checkerframework.dataflow.qual.SideEffectFree;
+
+/**
+ * An immutable set of {@code int} values from a small domain, e.g. the allowed status codes of a
+ * response, that can be checked for membership without boxing.
+ *
+ * <p>The values of an {@code IntSet} are stored as a bitmap with a bit for every {@code int} from
+ * the smallest to the largest value of the set. Checking if a value is in the set is then a single
+ * unsigned comparison and a bit test, and doesn't allocate, unlike looking a value up in a {@code
+ * Set<Integer>}. This makes an {@code IntSet} suitable for use in hot code paths, e.g. when held in
+ * a {@code static final} field:
+ *
+ * <pre>{@code
+ * private static final IntSet REDIRECTS = IntSet.of(301, 302, 303, 307, 308);
+ *
+ * public void redirect(int status, URI location) {
+ *   this.status = REDIRECTS.require(status, "not a redirect status.");
+ * }
+ * }</pre>
+ *
+ * <p>To keep the bitmap small, the values of an {@code IntSet} cannot span more than {@link
+ * #MAX_SPAN} consecutive {@code int}s. Use a {@link LongSet} for values that are further apart.
+ *
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * @see LongSet
+ * @see IntRange
+ * @since 3.0.0
+ */
+public final class IntSet implements Formattable {
+
+  /** The largest number of consecutive {@code int}s that the values of an {@code IntSet} span. */
+  public static final int MAX_SPAN = 1 << 16;
+
+  /* The smallest value of the set, or zero if the set is empty. */
+  private final int minValue;
+
+  /* The number of consecutive ints from the smallest to the largest value of the set. */
+  private final int span;
+
+  /* The bitmap of the set, bit i is set if minValue + i is in the set. */
+  private final long[] words;
+
+  /* The number of values in the set. */
+  private final int size;
+
+  @SideEffectFree
+  private IntSet(int minValue, int span, long[] words, int size) {
+    this.minValue = minValue;
+    this.span = span;
+    this.words = words;
+    this.size = size;
+  }
+
+  /**
+   * Returns a new set of the given values. Repeated values are only added to the set once. An
+   * {@link IllegalArgumentException} is thrown if the values span more than {@link #MAX_SPAN}
+   * consecutive {@code int}s.
+   *
+   * @param values the values of the set.
+   * @return a new set of the given values.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if the largest value minus the smallest value is greater than
+   *     or equal to {@link #MAX_SPAN}.
+   */
+  public static IntSet of(int... values) {
+    requireNonNull(values, "values cannot be null.");
+    if (values.length == 0) {
+      return new IntSet(0, 0, new long[0], 0);
+    }
+    int minValue = values[0];
+    int maxValue = values[0];
+    for (int value : values) {
+      minValue = Math.min(minValue, value);
+      maxValue = Math.max(maxValue, value);
+    }
+    long span = (long) maxValue - minValue + 1;
+    if (span > MAX_SPAN) {
+      throw new IllegalArgumentException(
+          String.format(
+              "values( from %d to %d ) cannot span more than %d ints.",
+              minValue, maxValue, MAX_SPAN));
+    }
+    long[] words = new long[(int) ((span + 63) >>> 6)];
+    for (int value : values) {
+      int offset = value - minValue;
+      words[offset >>> 6] |= 1L << offset;
+    }
+    int size = 0;
+    for (long word : words) {
+      size += Long.bitCount(word);
+    }
+    return new IntSet(minValue, (int) span, words, size);
+  }
+
+  /**
+   * Returns the number of values in this set.
+   *
+   * @return the number of values in this set.
+   */
+  @Pure
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns {@code true} if this set has no values, {@code false} otherwise.
+   *
+   * @return {@code true} if this set has no values, {@code false} otherwise.
+   */
+  @Pure
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns the values of this set in ascending order.
+   *
+   * @return a new array of the values of this set in ascending order.
+   */
+  @SideEffectFree
+  public int[] toArray() {
+    return toArray(size);
+  }
+
+  /**
+   * Checks that the specified {@code int} is in this set. Returns {@code true} if {@code value} is
+   * one of the values of this set, {@code false} otherwise.
+   *
+   * @param value the {@code int} to check.
+   * @return {@code true} if {@code value} is in this set, {@code false} otherwise.
+   */
+  @Pure
+  public boolean contains(int value) {
+    // Values less than minValue wrap around to large unsigned offsets, so one comparison suffices
+    int offset = value - minValue;
+    return Integer.compareUnsigned(offset, span) < 0 && (words[offset >>> 6] & (1L << offset)) != 0;
+  }
+
+  /**
+   * Validates that the specified {@code int} is in this set. Returns {@code value} if it is in this
+   * set, otherwise, an {@code IllegalArgumentException} is thrown.
+   *
+   * @param value the {@code int} to check.
+   * @return {@code value} if it is in this set.
+   * @throws IllegalArgumentException if {@code value} is not in this set.
+   */
+  @SideEffectFree
+  public int require(int value) {
+    return require(value, (String) null);
+  }
+
+  /**
+   * Validates that the specified {@code int} is in this set. Returns {@code value} if it is in this
+   * set, otherwise, an {@code IllegalArgumentException} is thrown. An optional message can also be
+   * given to be used as the exception message.
+   *
+   * @param value the {@code int} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if it is in this set.
+   * @throws IllegalArgumentException if {@code value} is not in this set.
+   */
+  @SideEffectFree
+  public int require(int value, @Nullable String message) {
+    if (!contains(value)) {
+      throw new ValidationException(Check.ONE_OF, value, this, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that the specified {@code int} is in this set. Returns {@code value} if it is in this
+   * set, otherwise, an {@code IllegalArgumentException} is thrown. The exception message is only
+   * retrieved from {@code messageSupplier} if the validation fails.
+   *
+   * @param value the {@code int} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is in this set.
+   * @throws IllegalArgumentException if {@code value} is not in this set.
+   */
+  public int require(int value, @Nullable Supplier<String> messageSupplier) {
+    return contains(value) ? value : require(value, ObjectUtils.supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the specified {@code int} is in this set. Returns {@code value} if it is in this
+   * set, otherwise, an {@code IllegalArgumentException} is thrown. The exception message is only
+   * formatted if the validation fails.
+   *
+   * @param value the {@code int} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is in this set.
+   * @throws IllegalArgumentException if {@code value} is not in this set.
+   */
+  @SideEffectFree
+  public int require(int value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return contains(value)
+        ? value
+        : require(value, ObjectUtils.formatMessage(messageFormat, messageArgs));
+  }
+
+  @Pure
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof IntSet)) {
+      return false;
+    }
+    // The bitmap starts at the smallest value and ends at the largest, so it is canonical
+    IntSet other = (IntSet) obj;
+    return minValue == other.minValue && Arrays.equals(words, other.words);
+  }
+
+  @Pure
+  @Override
+  public int hashCode() {
+    return 31 * Integer.hashCode(minValue) + Arrays.hashCode(words);
+  }
+
+  @SideEffectFree
+  @Override
+  public String toString() {
+    return Arrays.toString(toArray());
+  }
+
+  /**
+   * Formats this set for the {@code %s} conversion of a {@link Formatter}, e.g. for the default
+   * message of a failed {@code require}. The precision, if given, is the largest number of values
+   * to include, followed by the number of values in this set if some were left out, e.g. {@code
+   * "[301, 302, ...] (5 values)"} for a precision of 2. Without a precision, all the values are
+   * included, like {@link #toString()} does.
+   *
+   * @param formatter the formatter to write to.
+   * @param flags the flags of the conversion.
+   * @param width the minimum number of characters to write, or {@code -1} for no minimum.
+   * @param precision the largest number of values to include, or {@code -1} for all of them.
+   */
+  @Override
+  public void formatTo(Formatter formatter, int flags, int width, int precision) {
+    int[] values = toArray(precision < 0 ? size : Math.min(precision, size));
+    ValidationException.formatValues(
+        formatter, flags, width, precision, size, "values", index -> values[index]);
+  }
+
+  // Returns the given number of the smallest values of the set in ascending order
+  @SideEffectFree
+  private int[] toArray(int length) {
+    int[] values = new int[length];
+    int count = 0;
+    for (int index = 0; index < words.length && count < length; index++) {
+      for (long word = words[index]; word != 0 && count < length; word &= word - 1) {
+        values[count++] = minValue + (index << 6) + Long.numberOfTrailingZeros(word);
+      }
+    }
+    return values;
+  }
+}
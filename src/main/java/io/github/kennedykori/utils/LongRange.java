@@ -0,0 +1,202 @@
+package io.github.kennedykori.utils;
+
+import io.github.kennedykori.utils.ValidationException.Check;
+import java.util.function.Supplier;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.dataflow.qual.Pure;
+import org.checkerframework.dataflow.qual.SideEffectFree;
+
+/**
+ * An immutable range of {@code long} values between a minimum value <i><strong>(inclusive)</strong>
+ * </i> and a maximum value <i><strong>(exclusive)</strong></i>.
+ *
+ * <p>Unlike {@link ObjectUtils#inRange(long, long, long)}, which validates its bounds every time it
+ * is called, the bounds of a {@code LongRange} are validated once when the range is created.
+ * Checking if a value is in the range is then a single unsigned comparison, making a {@code
+ * LongRange} suitable for use in hot code paths, e.g. when held in a {@code static final} field:
+ *
+ * <pre>{@code
+ * private static final LongRange NANOS_PER_SECOND = LongRange.of(0L, 1_000_000_000L);
+ *
+ * public void setNanos(long nanos) {
+ *   this.nanos = NANOS_PER_SECOND.require(nanos);
+ * }
+ * }</pre>
+ *
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * @see ObjectUtils#inRange(long, long, long)
+ * @since 3.0.0
+ */
+public final class LongRange {
+
+  /* The minimum value(inclusive) of the range. */
+  private final long minValue;
+
+  /* The maximum value(exclusive) of the range. */
+  private final long maxValue;
+
+  /* The number of values in the range, interpreted as an unsigned long. */
+  private final long width;
+
+  @SideEffectFree
+  private LongRange(long minValue, long maxValue) {
+    this.minValue = minValue;
+    this.maxValue = maxValue;
+    this.width = maxValue - minValue;
+  }
+
+  /**
+   * Returns a new range of the values greater than or equal to {@code minValue} and less than
+   * {@code maxValue}. An {@link IllegalArgumentException} is thrown if the maximum value is less
+   * than the minimum value. A range whose maximum value is equal to its minimum value is empty.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @return a new range of the values greater than or equal to {@code minValue} and less than
+   *     {@code maxValue}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   */
+  @SideEffectFree
+  public static LongRange of(long minValue, long maxValue) {
+    if (maxValue < minValue) {
+      throw new IllegalArgumentException(
+          String.format("maxValue( %d ) cannot be less than minValue( %d ).", maxValue, minValue));
+    }
+    return new LongRange(minValue, maxValue);
+  }
+
+  /**
+   * Returns the minimum value<i><strong>(inclusive)</strong></i> of this range.
+   *
+   * @return the minimum value of this range.
+   */
+  @Pure
+  public long getMinValue() {
+    return minValue;
+  }
+
+  /**
+   * Returns the maximum value<i><strong>(exclusive)</strong></i> of this range.
+   *
+   * @return the maximum value of this range.
+   */
+  @Pure
+  public long getMaxValue() {
+    return maxValue;
+  }
+
+  /**
+   * Returns {@code true} if this range has no values, i.e. its maximum value is equal to its
+   * minimum value, {@code false} otherwise.
+   *
+   * @return {@code true} if this range has no values, {@code false} otherwise.
+   */
+  @Pure
+  public boolean isEmpty() {
+    return width == 0;
+  }
+
+  /**
+   * Checks that the specified {@code long} is in this range. Returns {@code true} if {@code value}
+   * is greater than or equal to the minimum value and less than the maximum value of this range,
+   * {@code false} otherwise.
+   *
+   * @param value the {@code long} to check.
+   * @return {@code true} if {@code value} is in this range, {@code false} otherwise.
+   */
+  @Pure
+  public boolean contains(long value) {
+    // Values less than minValue wrap around to large unsigned values, so one comparison suffices
+    return Long.compareUnsigned(value - minValue, width) < 0;
+  }
+
+  /**
+   * Validates that the specified {@code long} is in this range. Returns {@code value} if it is in
+   * this range, otherwise, an {@code IllegalArgumentException} is thrown.
+   *
+   * @param value the {@code long} to check.
+   * @return {@code value} if it is in this range.
+   * @throws IllegalArgumentException if {@code value} is not in this range.
+   */
+  @SideEffectFree
+  public long require(long value) {
+    return require(value, (String) null);
+  }
+
+  /**
+   * Validates that the specified {@code long} is in this range. Returns {@code value} if it is in
+   * this range, otherwise, an {@code IllegalArgumentException} is thrown. An optional message can
+   * also be given to be used as the exception message.
+   *
+   * @param value the {@code long} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if it is in this range.
+   * @throws IllegalArgumentException if {@code value} is not in this range.
+   */
+  @SideEffectFree
+  public long require(long value, @Nullable String message) {
+    if (!contains(value)) {
+      throw new ValidationException(Check.IN_RANGE, value, minValue, maxValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that the specified {@code long} is in this range. Returns {@code value} if it is in
+   * this range, otherwise, an {@code IllegalArgumentException} is thrown. The exception message is
+   * only retrieved from {@code messageSupplier} if the validation fails.
+   *
+   * @param value the {@code long} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is in this range.
+   * @throws IllegalArgumentException if {@code value} is not in this range.
+   */
+  public long require(long value, @Nullable Supplier<String> messageSupplier) {
+    return contains(value) ? value : require(value, ObjectUtils.supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the specified {@code long} is in this range. Returns {@code value} if it is in
+   * this range, otherwise, an {@code IllegalArgumentException} is thrown. The exception message is
+   * only formatted if the validation fails.
+   *
+   * @param value the {@code long} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is in this range.
+   * @throws IllegalArgumentException if {@code value} is not in this range.
+   */
+  @SideEffectFree
+  public long require(long value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return contains(value)
+        ? value
+        : require(value, ObjectUtils.formatMessage(messageFormat, messageArgs));
+  }
+
+  @Pure
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof LongRange)) {
+      return false;
+    }
+    LongRange other = (LongRange) obj;
+    return minValue == other.minValue && maxValue == other.maxValue;
+  }
+
+  @Pure
+  @Override
+  public int hashCode() {
+    return 31 * Long.hashCode(minValue) + Long.hashCode(maxValue);
+  }
+
+  @SideEffectFree
+  @Override
+  public String toString() {
+    return "[" + minValue + ", " + maxValue + ")";
+  }
+}
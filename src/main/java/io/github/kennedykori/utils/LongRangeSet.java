@@ -0,0 +1,280 @@
+package io.github.kennedykori.utils;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.kennedykori.utils.ValidationException.Check;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.List;
+import java.util.function.Supplier;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.dataflow.qual.Pure;
+import org.checkerframework.dataflow.qual.SideEffectFree;
+
+/**
+ * An immutable set of disjoint {@link LongRange}s, e.g. the blocks of IDs assigned to a client,
+ * that can be checked for membership in logarithmic time.
+ *
+ * <p>The ranges of a {@code LongRangeSet} are sorted when the set is created, and overlapping and
+ * adjacent ranges are merged, so that the set is stored as two flat arrays of the minimum and the
+ * maximum values of its ranges. Checking if a value is in the set is then a binary search for the
+ * only range that can contain it, instead of checking every range, making a {@code LongRangeSet}
+ * suitable for use in hot code paths, e.g. when held in a {@code static final} field:
+ *
+ * <pre>{@code
+ * private static final LongRangeSet ISSUED = LongRangeSet.of(loadIssuedBlocks());
+ *
+ * public void setInstrumentId(long instrumentId) {
+ *   this.instrumentId = ISSUED.require(instrumentId, "unknown instrument.");
+ * }
+ * }</pre>
+ *
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * @see LongRange
+ * @see IntRangeSet
+ * @see DoubleRangeSet
+ * @since 3.0.0
+ */
+public final class LongRangeSet implements Formattable {
+
+  /* The minimum values(inclusive) of the merged ranges, in ascending order. */
+  private final long[] minValues;
+
+  /* The maximum values(exclusive) of the merged ranges, in the order of their minimum values. */
+  private final long[] maxValues;
+
+  @SideEffectFree
+  private LongRangeSet(long[] minValues, long[] maxValues) {
+    this.minValues = minValues;
+    this.maxValues = maxValues;
+  }
+
+  /**
+   * Returns a new set of the values in any of the given ranges. Overlapping and adjacent ranges
+   * are merged and empty ranges are ignored.
+   *
+   * @param ranges the ranges of the set.
+   * @return a new set of the values in any of the given ranges.
+   * @throws NullPointerException if {@code ranges} is {@code null} or contains {@code null}.
+   */
+  public static LongRangeSet of(LongRange... ranges) {
+    requireNonNull(ranges, "ranges cannot be null.");
+    return of(Arrays.asList(ranges));
+  }
+
+  /**
+   * Returns a new set of the values in any of the given ranges. Overlapping and adjacent ranges
+   * are merged and empty ranges are ignored.
+   *
+   * @param ranges the ranges of the set.
+   * @return a new set of the values in any of the given ranges.
+   * @throws NullPointerException if {@code ranges} is {@code null} or contains {@code null}.
+   */
+  public static LongRangeSet of(Collection<LongRange> ranges) {
+    requireNonNull(ranges, "ranges cannot be null.");
+    LongRange[] sorted = ranges.toArray(new LongRange[0]);
+    for (LongRange range : sorted) {
+      requireNonNull(range, "ranges cannot contain null.");
+    }
+    Arrays.sort(sorted, Comparator.comparingLong(LongRange::getMinValue));
+    long[] minValues = new long[sorted.length];
+    long[] maxValues = new long[sorted.length];
+    int count = 0;
+    for (LongRange range : sorted) {
+      if (range.isEmpty()) {
+        continue;
+      }
+      // The ranges are sorted, so a range can only overlap or touch the last merged range
+      if (count > 0 && range.getMinValue() <= maxValues[count - 1]) {
+        maxValues[count - 1] = Math.max(maxValues[count - 1], range.getMaxValue());
+      } else {
+        minValues[count] = range.getMinValue();
+        maxValues[count] = range.getMaxValue();
+        count++;
+      }
+    }
+    return new LongRangeSet(Arrays.copyOf(minValues, count), Arrays.copyOf(maxValues, count));
+  }
+
+  /**
+   * Returns the merged ranges of this set in ascending order. The ranges are disjoint and no two
+   * of them are adjacent.
+   *
+   * @return an unmodifiable list of the merged ranges of this set in ascending order.
+   */
+  @SideEffectFree
+  public List<LongRange> getRanges() {
+    LongRange[] ranges = new LongRange[minValues.length];
+    for (int index = 0; index < ranges.length; index++) {
+      ranges[index] = LongRange.of(minValues[index], maxValues[index]);
+    }
+    return List.of(ranges);
+  }
+
+  /**
+   * Returns {@code true} if this set has no values, {@code false} otherwise.
+   *
+   * @return {@code true} if this set has no values, {@code false} otherwise.
+   */
+  @Pure
+  public boolean isEmpty() {
+    return minValues.length == 0;
+  }
+
+  // The number of merged ranges and their bounds, for the sets that are stored as a LongRangeSet
+  @Pure
+  int rangeCount() {
+    return minValues.length;
+  }
+
+  @Pure
+  long minValue(int index) {
+    return minValues[index];
+  }
+
+  @Pure
+  long maxValue(int index) {
+    return maxValues[index];
+  }
+
+  /**
+   * Checks that the specified {@code long} is in this set. Returns {@code true} if {@code value} is
+   * in any of the ranges of this set, {@code false} otherwise.
+   *
+   * @param value the {@code long} to check.
+   * @return {@code true} if {@code value} is in this set, {@code false} otherwise.
+   */
+  @Pure
+  public boolean contains(long value) {
+    int count = minValues.length;
+    if (count == 0) {
+      return false;
+    }
+    // Find the last range whose minimum value isn't greater than value. The search always halves
+    // the candidates, and the choice compiles to a conditional move instead of a branch.
+    int base = 0;
+    while (count > 1) {
+      int half = count >>> 1;
+      base = minValues[base + half] <= value ? base + half : base;
+      count -= half;
+    }
+    return minValues[base] <= value && value < maxValues[base];
+  }
+
+  /**
+   * Validates that the specified {@code long} is in this set. Returns {@code value} if it is in
+   * this set, otherwise, an {@code IllegalArgumentException} is thrown.
+   *
+   * @param value the {@code long} to check.
+   * @return {@code value} if it is in this set.
+   * @throws IllegalArgumentException if {@code value} is not in this set.
+   */
+  @SideEffectFree
+  public long require(long value) {
+    return require(value, (String) null);
+  }
+
+  /**
+   * Validates that the specified {@code long} is in this set. Returns {@code value} if it is in
+   * this set, otherwise, an {@code IllegalArgumentException} is thrown. An optional message can
+   * also be given to be used as the exception message.
+   *
+   * @param value the {@code long} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if it is in this set.
+   * @throws IllegalArgumentException if {@code value} is not in this set.
+   */
+  @SideEffectFree
+  public long require(long value, @Nullable String message) {
+    if (!contains(value)) {
+      throw new ValidationException(Check.IN_ANY_RANGE, value, this, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that the specified {@code long} is in this set. Returns {@code value} if it is in
+   * this set, otherwise, an {@code IllegalArgumentException} is thrown. The exception message is
+   * only retrieved from {@code messageSupplier} if the validation fails.
+   *
+   * @param value the {@code long} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is in this set.
+   * @throws IllegalArgumentException if {@code value} is not in this set.
+   */
+  public long require(long value, @Nullable Supplier<String> messageSupplier) {
+    return contains(value) ? value : require(value, ObjectUtils.supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the specified {@code long} is in this set. Returns {@code value} if it is in
+   * this set, otherwise, an {@code IllegalArgumentException} is thrown. The exception message is
+   * only formatted if the validation fails.
+   *
+   * @param value the {@code long} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is in this set.
+   * @throws IllegalArgumentException if {@code value} is not in this set.
+   */
+  @SideEffectFree
+  public long require(long value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return contains(value)
+        ? value
+        : require(value, ObjectUtils.formatMessage(messageFormat, messageArgs));
+  }
+
+  @Pure
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof LongRangeSet)) {
+      return false;
+    }
+    LongRangeSet other = (LongRangeSet) obj;
+    return Arrays.equals(minValues, other.minValues) && Arrays.equals(maxValues, other.maxValues);
+  }
+
+  @Pure
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(minValues) + Arrays.hashCode(maxValues);
+  }
+
+  @SideEffectFree
+  @Override
+  public String toString() {
+    return String.format("%s", this);
+  }
+
+  /**
+   * Formats this set for the {@code %s} conversion of a {@link Formatter}, e.g. for the default
+   * message of a failed {@code require}. The precision, if given, is the largest number of ranges
+   * to include, followed by the number of ranges in this set if some were left out, e.g. {@code
+   * "[[0, 30), ...] (2 ranges)"} for a precision of 1. Without a precision, all the ranges are
+   * included, like {@link #toString()} does.
+   *
+   * @param formatter the formatter to write to.
+   * @param flags the flags of the conversion.
+   * @param width the minimum number of characters to write, or {@code -1} for no minimum.
+   * @param precision the largest number of ranges to include, or {@code -1} for all of them.
+   */
+  @Override
+  public void formatTo(Formatter formatter, int flags, int width, int precision) {
+    ValidationException.formatValues(
+        formatter,
+        flags,
+        width,
+        precision,
+        minValues.length,
+        "ranges",
+        index -> "[" + minValues[index] + ", " + maxValues[index] + ")");
+  }
+}
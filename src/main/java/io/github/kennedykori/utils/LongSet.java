@@ -0,0 +1,236 @@
+package io.github.kennedykori.utils;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.kennedykori.utils.ValidationException.Check;
+import java.util.Arrays;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.function.Supplier;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.dataflow.qual.Pure;
+import org.checkerframework.dataflow.qual.SideEffectFree;
+
+/**
+ * An immutable set of {@code long} values, e.g. the allowed codes of a field, that can be checked
+ * for membership without boxing.
+ *
+ * <p>The values of a {@code LongSet} are placed in a table with a minimal perfect hash function
+ * when the set is created, so every value has a slot of its own and the table has no empty slots.
+ * Checking if a value is in the set is then a fixed number of arithmetic operations and a single
+ * comparison, regardless of the size of the set, and doesn't allocate, unlike looking a value up in
+ * a {@code Set<Long>}. This makes a {@code LongSet} suitable for use in hot code paths, e.g. when
+ * held in a {@code static final} field:
+ *
+ * <pre>{@code
+ * private static final LongSet MESSAGE_TYPES = LongSet.of(100L, 200L, 210L, 400L, 420L, 800L);
+ *
+ * public void accept(Message message) {
+ *   MESSAGE_TYPES.require(message.getType(), "unknown message type.");
+ * }
+ * }</pre>
+ *
+ * <p>For small sets of {@code int} values that are close to each other, an {@link IntSet} is
+ * cheaper still.
+ *
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * @see IntSet
+ * @see StringSet
+ * @since 3.0.0
+ */
+public final class LongSet implements Formattable {
+
+  /* The values of the set, each in the slot given by the perfect hash function. */
+  private final long[] table;
+
+  /* The seeds of the buckets of the perfect hash function. */
+  private final int[] seeds;
+
+  /* The values of the set in ascending order. */
+  private final long[] values;
+
+  @SideEffectFree
+  private LongSet(long[] table, int[] seeds, long[] values) {
+    this.table = table;
+    this.seeds = seeds;
+    this.values = values;
+  }
+
+  /**
+   * Returns a new set of the given values. Repeated values are only added to the set once.
+   *
+   * @param values the values of the set.
+   * @return a new set of the given values.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   */
+  public static LongSet of(long... values) {
+    requireNonNull(values, "values cannot be null.");
+    long[] distinct = values.clone();
+    Arrays.sort(distinct);
+    int size = 0;
+    for (int index = 0; index < distinct.length; index++) {
+      if (index == 0 || distinct[index] != distinct[index - 1]) {
+        distinct[size++] = distinct[index];
+      }
+    }
+    distinct = Arrays.copyOf(distinct, size);
+
+    int[] slots = new int[size];
+    int[] seeds = PerfectHash.build(distinct, slots);
+    long[] table = new long[size];
+    for (int index = 0; index < size; index++) {
+      table[slots[index]] = distinct[index];
+    }
+    return new LongSet(table, seeds, distinct);
+  }
+
+  /**
+   * Returns the number of values in this set.
+   *
+   * @return the number of values in this set.
+   */
+  @Pure
+  public int size() {
+    return values.length;
+  }
+
+  /**
+   * Returns {@code true} if this set has no values, {@code false} otherwise.
+   *
+   * @return {@code true} if this set has no values, {@code false} otherwise.
+   */
+  @Pure
+  public boolean isEmpty() {
+    return values.length == 0;
+  }
+
+  /**
+   * Returns the values of this set in ascending order.
+   *
+   * @return a new array of the values of this set in ascending order.
+   */
+  @SideEffectFree
+  public long[] toArray() {
+    return values.clone();
+  }
+
+  /**
+   * Checks that the specified {@code long} is in this set. Returns {@code true} if {@code value} is
+   * one of the values of this set, {@code false} otherwise.
+   *
+   * @param value the {@code long} to check.
+   * @return {@code true} if {@code value} is in this set, {@code false} otherwise.
+   */
+  @Pure
+  public boolean contains(long value) {
+    // The only value of the set that can be equal to value is the one in the slot of value
+    return table.length != 0 && table[PerfectHash.slot(value, seeds, table.length)] == value;
+  }
+
+  /**
+   * Validates that the specified {@code long} is in this set. Returns {@code value} if it is in
+   * this set, otherwise, an {@code IllegalArgumentException} is thrown.
+   *
+   * @param value the {@code long} to check.
+   * @return {@code value} if it is in this set.
+   * @throws IllegalArgumentException if {@code value} is not in this set.
+   */
+  @SideEffectFree
+  public long require(long value) {
+    return require(value, (String) null);
+  }
+
+  /**
+   * Validates that the specified {@code long} is in this set. Returns {@code value} if it is in
+   * this set, otherwise, an {@code IllegalArgumentException} is thrown. An optional message can
+   * also be given to be used as the exception message.
+   *
+   * @param value the {@code long} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if it is in this set.
+   * @throws IllegalArgumentException if {@code value} is not in this set.
+   */
+  @SideEffectFree
+  public long require(long value, @Nullable String message) {
+    if (!contains(value)) {
+      throw new ValidationException(Check.ONE_OF, value, this, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that the specified {@code long} is in this set. Returns {@code value} if it is in
+   * this set, otherwise, an {@code IllegalArgumentException} is thrown. The exception message is
+   * only retrieved from {@code messageSupplier} if the validation fails.
+   *
+   * @param value the {@code long} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is in this set.
+   * @throws IllegalArgumentException if {@code value} is not in this set.
+   */
+  public long require(long value, @Nullable Supplier<String> messageSupplier) {
+    return contains(value) ? value : require(value, ObjectUtils.supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the specified {@code long} is in this set. Returns {@code value} if it is in
+   * this set, otherwise, an {@code IllegalArgumentException} is thrown. The exception message is
+   * only formatted if the validation fails.
+   *
+   * @param value the {@code long} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is in this set.
+   * @throws IllegalArgumentException if {@code value} is not in this set.
+   */
+  @SideEffectFree
+  public long require(long value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return contains(value)
+        ? value
+        : require(value, ObjectUtils.formatMessage(messageFormat, messageArgs));
+  }
+
+  @Pure
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof LongSet)) {
+      return false;
+    }
+    return Arrays.equals(values, ((LongSet) obj).values);
+  }
+
+  @Pure
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(values);
+  }
+
+  @SideEffectFree
+  @Override
+  public String toString() {
+    return Arrays.toString(values);
+  }
+
+  /**
+   * Formats this set for the {@code %s} conversion of a {@link Formatter}, e.g. for the default
+   * message of a failed {@code require}. The precision, if given, is the largest number of values
+   * to include, followed by the number of values in this set if some were left out, e.g. {@code
+   * "[100, 200, ...] (6 values)"} for a precision of 2. Without a precision, all the values are
+   * included, like {@link #toString()} does.
+   *
+   * @param formatter the formatter to write to.
+   * @param flags the flags of the conversion.
+   * @param width the minimum number of characters to write, or {@code -1} for no minimum.
+   * @param precision the largest number of values to include, or {@code -1} for all of them.
+   */
+  @Override
+  public void formatTo(Formatter formatter, int flags, int width, int precision) {
+    ValidationException.formatValues(
+        formatter, flags, width, precision, values.length, "values", index -> values[index]);
+  }
+}
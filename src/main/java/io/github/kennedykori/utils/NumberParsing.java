@@ -0,0 +1,169 @@
+package io.github.kennedykori.utils;
+
+import io.github.kennedykori.utils.ValidationException.Check;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.dataflow.qual.Pure;
+import org.checkerframework.dataflow.qual.SideEffectFree;
+
+/**
+ * Parses numbers directly from a slice of a character sequence, without first copying the slice
+ * into a {@code String}. Integers are checked against a range while they are parsed, so parsing
+ * stops accumulating digits as soon as the number can no longer be in the range, and a number too
+ * large for a {@code long} is rejected without ever overflowing.
+ *
+ * <p>The accepted syntax is that of {@link Long#parseLong(String)} for integers and of {@link
+ * BigDecimal#BigDecimal(String)} for decimals. The indices of the slice are checked by the callers.
+ *
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * @since 3.0.0
+ */
+final class NumberParsing {
+
+  // The most digits an unscaled decimal can have and still fit in a long
+  private static final int MAX_COMPACT_DIGITS = 18;
+
+  /**
+   * Parses the signed decimal integer in the given slice of {@code value} and returns it if it is
+   * greater than or equal to {@code minValue} and less than {@code maxValue}. Otherwise, returns
+   * {@code maxValue}, which can never be a value of the range. A {@link NumberFormatException} is
+   * thrown if the slice is not a valid integer, even if it is already known to be out of range.
+   */
+  @SuppressWarnings("index:argument") // The indices are checked by the callers
+  @Pure
+  static long parseLong(
+      CharSequence value, int fromIndex, int toIndex, long minValue, long maxValue) {
+    int i = fromIndex;
+    boolean negative = false;
+    if (i < toIndex) {
+      char first = value.charAt(i);
+      if (first == '-' || first == '+') {
+        negative = first == '-';
+        i++;
+      }
+    }
+    if (i == toIndex) {
+      throw invalidNumber(value, fromIndex, toIndex);
+    }
+
+    // Like Long.parseLong, accumulate the number as a negative number so that Long.MIN_VALUE can
+    // be parsed, but stop at the bound of the range on the side of the sign instead of at the
+    // bound of a long. A sign that puts the number entirely outside the range stops immediately.
+    boolean mayBeInRange = negative ? minValue <= 0 : maxValue > 0;
+    long limit = negative ? minValue : -(maxValue - 1);
+    long multiplyLimit = limit / 10;
+    long result = 0;
+    for (; i < toIndex; i++) {
+      int digit = digit(value.charAt(i));
+      if (digit < 0) {
+        throw invalidNumber(value, fromIndex, toIndex);
+      }
+      if (mayBeInRange) {
+        if (result < multiplyLimit || result * 10 < limit + digit) {
+          mayBeInRange = false;
+        } else {
+          result = result * 10 - digit;
+        }
+      }
+    }
+    if (!mayBeInRange) {
+      return maxValue;
+    }
+    long parsed = negative ? result : -result;
+    return parsed >= minValue && parsed < maxValue ? parsed : maxValue;
+  }
+
+  /**
+   * Parses the decimal number in the given slice of {@code value}. A number of at most 18 digits
+   * and without an exponent, which is the common case, is parsed into an unscaled {@code long}
+   * without any intermediate objects. Any other slice is copied and parsed by {@link
+   * BigDecimal#BigDecimal(String)}, which also rejects the slices that are not valid numbers.
+   */
+  @SuppressWarnings("index:argument") // The indices are checked by the callers
+  @SideEffectFree
+  static BigDecimal parseDecimal(CharSequence value, int fromIndex, int toIndex) {
+    int i = fromIndex;
+    boolean negative = false;
+    if (i < toIndex) {
+      char first = value.charAt(i);
+      if (first == '-' || first == '+') {
+        negative = first == '-';
+        i++;
+      }
+    }
+    long unscaled = 0;
+    int digits = 0;
+    int scale = -1;
+    for (; i < toIndex; i++) {
+      char c = value.charAt(i);
+      if (c >= '0' && c <= '9') {
+        if (++digits > MAX_COMPACT_DIGITS) {
+          return parseDecimalSlowly(value, fromIndex, toIndex);
+        }
+        unscaled = unscaled * 10 + (c - '0');
+        if (scale >= 0) {
+          scale++;
+        }
+      } else if (c == '.' && scale < 0) {
+        scale = 0;
+      } else {
+        // An exponent, a non-ASCII digit or an invalid character
+        return parseDecimalSlowly(value, fromIndex, toIndex);
+      }
+    }
+    if (digits == 0) {
+      return parseDecimalSlowly(value, fromIndex, toIndex);
+    }
+    return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(scale, 0));
+  }
+
+  /**
+   * Returns the exception to throw when the integer in the given slice of {@code value} is not in
+   * the given range. The integer is parsed again, so this should only be called once the integer
+   * is known to be valid and out of range.
+   */
+  @SideEffectFree
+  static ValidationException outOfRange(
+      CharSequence value,
+      int fromIndex,
+      int toIndex,
+      long minValue,
+      long maxValue,
+      @Nullable String message) {
+    BigInteger parsed = new BigInteger(value.subSequence(fromIndex, toIndex).toString());
+    if (parsed.bitLength() < Long.SIZE) {
+      return new ValidationException(
+          Check.IN_RANGE, parsed.longValue(), minValue, maxValue, message);
+    }
+    return new ValidationException(
+        Check.IN_RANGE,
+        parsed,
+        BigInteger.valueOf(minValue),
+        BigInteger.valueOf(maxValue),
+        message);
+  }
+
+  // Returns the value of the given decimal digit, or -1 if the character is not a decimal digit
+  @Pure
+  private static int digit(char c) {
+    int digit = c - '0';
+    return digit >= 0 && digit <= 9 ? digit : Character.digit(c, 10);
+  }
+
+  @SideEffectFree
+  private static NumberFormatException invalidNumber(
+      CharSequence value, int fromIndex, int toIndex) {
+    return new NumberFormatException(
+        "For input string: \"" + value.subSequence(fromIndex, toIndex) + "\"");
+  }
+
+  @SideEffectFree
+  private static BigDecimal parseDecimalSlowly(CharSequence value, int fromIndex, int toIndex) {
+    return new BigDecimal(value.subSequence(fromIndex, toIndex).toString());
+  }
+
+  // private constructor to prevent initialization
+  @Pure
+  private NumberParsing() {}
+}
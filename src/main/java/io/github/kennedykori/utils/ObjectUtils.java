@@ -1,11 +1,20 @@
 package io.github.kennedykori.utils;
 
 import static java.util.Objects.isNull;
-import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 
+import io.github.kennedykori.utils.ValidationException.Check;
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.function.Supplier;
 import org.checkerframework.checker.index.qual.IndexFor;
 import org.checkerframework.checker.index.qual.IndexOrHigh;
 import org.checkerframework.checker.index.qual.NonNegative;
@@ -33,6 +42,11 @@ import org.checkerframework.dataflow.qual.SideEffectFree;
  *       an {@code IllegalArgumentException} is thrown.
  * </ol>
  *
+ * <p>The {@code IllegalArgumentException}s thrown by the <i>require</i> methods when a value
+ * doesn't meet a condition are {@link ValidationException}s. These only render their messages when
+ * the messages are requested and can be configured not to capture stack traces, making rejecting a
+ * value cheap.
+ *
  * <p>The utility methods in this class include methods for checking and validating a {@code
  * String}'s length, methods for checking and validating the negativity of a number, methods for
  * checking and validating if a number is less than or greater than a given base value and methods
@@ -129,6 +143,176 @@ public final class ObjectUtils {
         == 0;
   }
 
+  /**
+   * Checks if a {@link BigInteger} is equal to a supplied base value. Returns {@code true} if the
+   * given {@code BigInteger} is equal to the supplied base value.
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @return {@code true} if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if any of the two arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static boolean isEqualTo(BigInteger baseValue, BigInteger value) {
+    return Comparisons.compare(
+            requireNonNull(value, "value cannot be null."),
+            requireNonNull(baseValue, "baseValue cannot be null."))
+        == 0;
+  }
+
+  /**
+   * Checks if a {@code double} is equal to a supplied {@code long} base value. Returns {@code true}
+   * if the given {@code double} is equal to the supplied base value. The values are compared
+   * exactly, unlike {@link #isEqualTo(double, double)}, which converts the {@code long} to a {@code
+   * double} and so rounds a {@code long} with more than 53 significant bits. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> The values are ordered like {@link Double#compare(double, double)}
+   * orders them, i.e. {@code NaN} is greater than every {@code long} and {@code -0.0} is less than
+   * {@code 0}. </i>
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @return {@code true} if {@code value} is equal to {@code baseValue}.
+   * @since 3.0.0
+   */
+  @Pure
+  public static boolean isEqualTo(long baseValue, double value) {
+    return Comparisons.compare(baseValue, value) == 0;
+  }
+
+  /**
+   * Checks if a {@code long} is equal to a supplied {@code double} base value. Returns {@code true}
+   * if the given {@code long} is equal to the supplied base value. The values are compared exactly,
+   * unlike {@link #isEqualTo(double, double)}, which converts the {@code long} to a {@code double}
+   * and so rounds a {@code long} with more than 53 significant bits. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> The values are ordered like {@link Double#compare(double, double)}
+   * orders them, i.e. {@code NaN} is greater than every {@code long} and {@code -0.0} is less than
+   * {@code 0}. </i>
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @return {@code true} if {@code value} is equal to {@code baseValue}.
+   * @since 3.0.0
+   */
+  @Pure
+  public static boolean isEqualTo(double baseValue, long value) {
+    return Comparisons.compare(value, baseValue) == 0;
+  }
+
+  /**
+   * Checks if a {@code float} is equal to a supplied {@code long} base value. Returns {@code true}
+   * if the given {@code float} is equal to the supplied base value. The values are compared
+   * exactly, unlike {@link #isEqualTo(float, float)}, which converts the {@code long} to a {@code
+   * float} and so rounds a {@code long} with more than 24 significant bits. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> The values are ordered like {@link Float#compare(float, float)}
+   * orders them, i.e. {@code NaN} is greater than every {@code long} and {@code -0.0} is less than
+   * {@code 0}. </i>
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @return {@code true} if {@code value} is equal to {@code baseValue}.
+   * @since 3.0.0
+   */
+  @Pure
+  public static boolean isEqualTo(long baseValue, float value) {
+    return Comparisons.compare(baseValue, value) == 0;
+  }
+
+  /**
+   * Checks if a {@code long} is equal to a supplied {@code float} base value. Returns {@code true}
+   * if the given {@code long} is equal to the supplied base value. The values are compared exactly,
+   * unlike {@link #isEqualTo(float, float)}, which converts the {@code long} to a {@code float} and
+   * so rounds a {@code long} with more than 24 significant bits. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> The values are ordered like {@link Float#compare(float, float)}
+   * orders them, i.e. {@code NaN} is greater than every {@code long} and {@code -0.0} is less than
+   * {@code 0}. </i>
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @return {@code true} if {@code value} is equal to {@code baseValue}.
+   * @since 3.0.0
+   */
+  @Pure
+  public static boolean isEqualTo(float baseValue, long value) {
+    return Comparisons.compare(value, baseValue) == 0;
+  }
+
+  /**
+   * Checks if a {@link BigDecimal} is equal to a supplied {@code long} base value. Returns {@code
+   * true} if the given {@code BigDecimal} is equal to the supplied base value. The values are
+   * compared exactly, like {@code isEqualTo(BigDecimal.valueOf(baseValue), value)} compares them,
+   * but usually without creating a {@code BigDecimal} of the base value.
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @return {@code true} if {@code value} is equal to {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static boolean isEqualTo(long baseValue, BigDecimal value) {
+    return Comparisons.compare(baseValue, requireNonNull(value, "value cannot be null.")) == 0;
+  }
+
+  /**
+   * Checks if a {@link BigDecimal} is equal to a supplied {@code double} base value. Returns {@code
+   * true} if the given {@code BigDecimal} is equal to the supplied base value. The values are
+   * compared exactly, like {@code isEqualTo(new BigDecimal(baseValue), value)} compares them, but
+   * usually without creating a {@code BigDecimal} of the base value. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> A {@code NaN} is greater than every {@code BigDecimal}, the
+   * infinities are greater or less than every {@code BigDecimal} and {@code -0.0} is less than
+   * zero, like {@link Double#compare(double, double)} orders them. </i>
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @return {@code true} if {@code value} is equal to {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static boolean isEqualTo(double baseValue, BigDecimal value) {
+    return Comparisons.compare(baseValue, requireNonNull(value, "value cannot be null.")) == 0;
+  }
+
+  /**
+   * Checks if a {@code long} is equal to a supplied {@link BigDecimal} base value. Returns {@code
+   * true} if the given {@code long} is equal to the supplied base value. The values are compared
+   * exactly, like {@code isEqualTo(baseValue, BigDecimal.valueOf(value))} compares them, but
+   * usually without creating a {@code BigDecimal} of the {@code long}.
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @return {@code true} if {@code value} is equal to {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} is {@code null}.
+   * @since 3.0.0
+   */
+  public static boolean isEqualTo(BigDecimal baseValue, long value) {
+    return Comparisons.compare(value, requireNonNull(baseValue, "baseValue cannot be null.")) == 0;
+  }
+
+  /**
+   * Checks if a {@code double} is equal to a supplied {@link BigDecimal} base value. Returns {@code
+   * true} if the given {@code double} is equal to the supplied base value. The values are compared
+   * exactly, like {@code isEqualTo(baseValue, new BigDecimal(value))} compares them, but usually
+   * without creating a {@code BigDecimal} of the {@code double}. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> A {@code NaN} is greater than every {@code BigDecimal}, the
+   * infinities are greater or less than every {@code BigDecimal} and {@code -0.0} is less than
+   * zero, like {@link Double#compare(double, double)} orders them. </i>
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @return {@code true} if {@code value} is equal to {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} is {@code null}.
+   * @since 3.0.0
+   */
+  public static boolean isEqualTo(BigDecimal baseValue, double value) {
+    return Comparisons.compare(value, requireNonNull(baseValue, "baseValue cannot be null.")) == 0;
+  }
+
   // ========================================================================
   // IS GREATER THAN CHECKS
   // ========================================================================
@@ -212,6 +396,176 @@ public final class ObjectUtils {
         > 0;
   }
 
+  /**
+   * Checks if a {@link BigInteger} is greater than a supplied base value. Returns {@code true} if
+   * the given {@code BigInteger} is greater than the supplied base value.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @return {@code true} if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if any of the two arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static boolean isGreaterThan(BigInteger baseValue, BigInteger value) {
+    return Comparisons.compare(
+            requireNonNull(value, "value cannot be null."),
+            requireNonNull(baseValue, "baseValue cannot be null."))
+        > 0;
+  }
+
+  /**
+   * Checks if a {@code double} is greater than a supplied {@code long} base value. Returns {@code
+   * true} if the given {@code double} is greater than the supplied base value. The values are
+   * compared exactly, unlike {@link #isGreaterThan(double, double)}, which converts the {@code
+   * long} to a {@code double} and so rounds a {@code long} with more than 53 significant bits. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> The values are ordered like {@link Double#compare(double, double)}
+   * orders them, i.e. {@code NaN} is greater than every {@code long} and {@code -0.0} is less than
+   * {@code 0}. </i>
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @return {@code true} if {@code value} is greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @Pure
+  public static boolean isGreaterThan(long baseValue, double value) {
+    return Comparisons.compare(baseValue, value) < 0;
+  }
+
+  /**
+   * Checks if a {@code long} is greater than a supplied {@code double} base value. Returns {@code
+   * true} if the given {@code long} is greater than the supplied base value. The values are
+   * compared exactly, unlike {@link #isGreaterThan(double, double)}, which converts the {@code
+   * long} to a {@code double} and so rounds a {@code long} with more than 53 significant bits. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> The values are ordered like {@link Double#compare(double, double)}
+   * orders them, i.e. {@code NaN} is greater than every {@code long} and {@code -0.0} is less than
+   * {@code 0}. </i>
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @return {@code true} if {@code value} is greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @Pure
+  public static boolean isGreaterThan(double baseValue, long value) {
+    return Comparisons.compare(value, baseValue) > 0;
+  }
+
+  /**
+   * Checks if a {@code float} is greater than a supplied {@code long} base value. Returns {@code
+   * true} if the given {@code float} is greater than the supplied base value. The values are
+   * compared exactly, unlike {@link #isGreaterThan(float, float)}, which converts the {@code long}
+   * to a {@code float} and so rounds a {@code long} with more than 24 significant bits. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> The values are ordered like {@link Float#compare(float, float)}
+   * orders them, i.e. {@code NaN} is greater than every {@code long} and {@code -0.0} is less than
+   * {@code 0}. </i>
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @return {@code true} if {@code value} is greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @Pure
+  public static boolean isGreaterThan(long baseValue, float value) {
+    return Comparisons.compare(baseValue, value) < 0;
+  }
+
+  /**
+   * Checks if a {@code long} is greater than a supplied {@code float} base value. Returns {@code
+   * true} if the given {@code long} is greater than the supplied base value. The values are
+   * compared exactly, unlike {@link #isGreaterThan(float, float)}, which converts the {@code long}
+   * to a {@code float} and so rounds a {@code long} with more than 24 significant bits. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> The values are ordered like {@link Float#compare(float, float)}
+   * orders them, i.e. {@code NaN} is greater than every {@code long} and {@code -0.0} is less than
+   * {@code 0}. </i>
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @return {@code true} if {@code value} is greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @Pure
+  public static boolean isGreaterThan(float baseValue, long value) {
+    return Comparisons.compare(value, baseValue) > 0;
+  }
+
+  /**
+   * Checks if a {@link BigDecimal} is greater than a supplied {@code long} base value. Returns
+   * {@code true} if the given {@code BigDecimal} is greater than the supplied base value. The
+   * values are compared exactly, like {@code isGreaterThan(BigDecimal.valueOf(baseValue), value)}
+   * compares them, but usually without creating a {@code BigDecimal} of the base value.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @return {@code true} if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static boolean isGreaterThan(long baseValue, BigDecimal value) {
+    return Comparisons.compare(baseValue, requireNonNull(value, "value cannot be null.")) < 0;
+  }
+
+  /**
+   * Checks if a {@link BigDecimal} is greater than a supplied {@code double} base value. Returns
+   * {@code true} if the given {@code BigDecimal} is greater than the supplied base value. The
+   * values are compared exactly, like {@code isGreaterThan(new BigDecimal(baseValue), value)}
+   * compares them, but usually without creating a {@code BigDecimal} of the base value. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> A {@code NaN} is greater than every {@code BigDecimal}, the
+   * infinities are greater or less than every {@code BigDecimal} and {@code -0.0} is less than
+   * zero, like {@link Double#compare(double, double)} orders them. </i>
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @return {@code true} if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static boolean isGreaterThan(double baseValue, BigDecimal value) {
+    return Comparisons.compare(baseValue, requireNonNull(value, "value cannot be null.")) < 0;
+  }
+
+  /**
+   * Checks if a {@code long} is greater than a supplied {@link BigDecimal} base value. Returns
+   * {@code true} if the given {@code long} is greater than the supplied base value. The values are
+   * compared exactly, like {@code isGreaterThan(baseValue, BigDecimal.valueOf(value))} compares
+   * them, but usually without creating a {@code BigDecimal} of the {@code long}.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @return {@code true} if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} is {@code null}.
+   * @since 3.0.0
+   */
+  public static boolean isGreaterThan(BigDecimal baseValue, long value) {
+    return Comparisons.compare(value, requireNonNull(baseValue, "baseValue cannot be null.")) > 0;
+  }
+
+  /**
+   * Checks if a {@code double} is greater than a supplied {@link BigDecimal} base value. Returns
+   * {@code true} if the given {@code double} is greater than the supplied base value. The values
+   * are compared exactly, like {@code isGreaterThan(baseValue, new BigDecimal(value))} compares
+   * them, but usually without creating a {@code BigDecimal} of the {@code double}. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> A {@code NaN} is greater than every {@code BigDecimal}, the
+   * infinities are greater or less than every {@code BigDecimal} and {@code -0.0} is less than
+   * zero, like {@link Double#compare(double, double)} orders them. </i>
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @return {@code true} if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} is {@code null}.
+   * @since 3.0.0
+   */
+  public static boolean isGreaterThan(BigDecimal baseValue, double value) {
+    return Comparisons.compare(value, requireNonNull(baseValue, "baseValue cannot be null.")) > 0;
+  }
+
   // ========================================================================
   // IS GREATER THAN OR EQUAL TO CHECKS
   // ========================================================================
@@ -296,93 +650,285 @@ public final class ObjectUtils {
         >= 0;
   }
 
-  // ========================================================================
-  // IS NEGATIVE CHECKS
-  // ========================================================================
-
   /**
-   * Checks if an integer is negative, i.e, less than 0 and returns {@code true} if the integer is
-   * negative, otherwise returns {@code false}.
+   * Checks if a {@link BigInteger} is greater than or equal to a supplied base value. Returns
+   * {@code true} if the given {@code BigInteger} is greater than or equal to the supplied base
+   * value.
    *
-   * @param value the integer to check.
-   * @return {@code true} if the integer is negative, otherwise returns {@code false}.
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @return {@code true} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws NullPointerException if any of the two arguments is/are {@code null}.
+   * @since 3.0.0
    */
-  @Pure
-  public static boolean isNegative(int value) {
-    return isLessThan(0, value);
+  @SideEffectFree
+  public static boolean isGreaterThanOrEqualTo(BigInteger baseValue, BigInteger value) {
+    return Comparisons.compare(
+            requireNonNull(value, "value cannot be null."),
+            requireNonNull(baseValue, "baseValue cannot be null."))
+        >= 0;
   }
 
   /**
-   * Checks if a long is negative, i.e, less than 0 and returns {@code true} if the long is
-   * negative, otherwise returns {@code false}.
+   * Checks if a {@code double} is greater than or equal to a supplied {@code long} base value.
+   * Returns {@code true} if the given {@code double} is greater than or equal to the supplied base
+   * value. The values are compared exactly, unlike {@link #isGreaterThanOrEqualTo(double, double)},
+   * which converts the {@code long} to a {@code double} and so rounds a {@code long} with more than
+   * 53 significant bits. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> The values are ordered like {@link Double#compare(double, double)}
+   * orders them, i.e. {@code NaN} is greater than every {@code long} and {@code -0.0} is less than
+   * {@code 0}. </i>
    *
-   * @param value the long to check.
-   * @return {@code true} if the long is negative, otherwise returns {@code false}.
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @return {@code true} if {@code value} is greater than or equal to {@code baseValue}.
+   * @since 3.0.0
    */
   @Pure
-  public static boolean isNegative(long value) {
-    return isLessThan(0L, value);
+  public static boolean isGreaterThanOrEqualTo(long baseValue, double value) {
+    return Comparisons.compare(baseValue, value) <= 0;
   }
 
   /**
-   * Checks if a float is negative, i.e, less than 0 and returns {@code true} if the float is
-   * negative, otherwise returns {@code false}.
+   * Checks if a {@code long} is greater than or equal to a supplied {@code double} base value.
+   * Returns {@code true} if the given {@code long} is greater than or equal to the supplied base
+   * value. The values are compared exactly, unlike {@link #isGreaterThanOrEqualTo(double, double)},
+   * which converts the {@code long} to a {@code double} and so rounds a {@code long} with more than
+   * 53 significant bits. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> The values are ordered like {@link Double#compare(double, double)}
+   * orders them, i.e. {@code NaN} is greater than every {@code long} and {@code -0.0} is less than
+   * {@code 0}. </i>
    *
-   * @param value the float to check.
-   * @return {@code true} if the float is negative, otherwise returns {@code false}.
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @return {@code true} if {@code value} is greater than or equal to {@code baseValue}.
+   * @since 3.0.0
    */
   @Pure
-  public static boolean isNegative(float value) {
-    return isLessThan(0F, value);
+  public static boolean isGreaterThanOrEqualTo(double baseValue, long value) {
+    return Comparisons.compare(value, baseValue) >= 0;
   }
 
   /**
-   * Checks if a double is negative, i.e, less than 0 and returns {@code true} if the double is
-   * negative, otherwise returns {@code false}.
+   * Checks if a {@code float} is greater than or equal to a supplied {@code long} base value.
+   * Returns {@code true} if the given {@code float} is greater than or equal to the supplied base
+   * value. The values are compared exactly, unlike {@link #isGreaterThanOrEqualTo(float, float)},
+   * which converts the {@code long} to a {@code float} and so rounds a {@code long} with more than
+   * 24 significant bits. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> The values are ordered like {@link Float#compare(float, float)}
+   * orders them, i.e. {@code NaN} is greater than every {@code long} and {@code -0.0} is less than
+   * {@code 0}. </i>
    *
-   * @param value the double to check.
-   * @return {@code true} if the double is negative, otherwise returns {@code false}.
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @return {@code true} if {@code value} is greater than or equal to {@code baseValue}.
+   * @since 3.0.0
    */
   @Pure
-  public static boolean isNegative(double value) {
-    return isLessThan(0D, value);
+  public static boolean isGreaterThanOrEqualTo(long baseValue, float value) {
+    return Comparisons.compare(baseValue, value) <= 0;
   }
 
   /**
-   * Checks if a {@link BigDecimal} is negative, i.e, less than 0 and returns {@code true},
-   * otherwise returns {@code false}.
+   * Checks if a {@code long} is greater than or equal to a supplied {@code float} base value.
+   * Returns {@code true} if the given {@code long} is greater than or equal to the supplied base
+   * value. The values are compared exactly, unlike {@link #isGreaterThanOrEqualTo(float, float)},
+   * which converts the {@code long} to a {@code float} and so rounds a {@code long} with more than
+   * 24 significant bits. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> The values are ordered like {@link Float#compare(float, float)}
+   * orders them, i.e. {@code NaN} is greater than every {@code long} and {@code -0.0} is less than
+   * {@code 0}. </i>
    *
-   * @param value the {@code BigDecimal} to check.
-   * @return {@code true} if the {@code BigDecimal} is negative, {@code false} otherwise.
-   * @throws NullPointerException if value is <code>null</code>.
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @return {@code true} if {@code value} is greater than or equal to {@code baseValue}.
+   * @since 3.0.0
    */
-  public static boolean isNegative(BigDecimal value) {
-    return requireNonNull(value).signum() < 0;
+  @Pure
+  public static boolean isGreaterThanOrEqualTo(float baseValue, long value) {
+    return Comparisons.compare(value, baseValue) >= 0;
   }
 
-  // ========================================================================
-  // IS LESS THAN CHECKS
-  // ========================================================================
-
   /**
-   * Checks if an {@code int} is less than a supplied base value. Returns {@code true} if the given
-   * {@code int} is less than the supplied base value.
+   * Checks if a {@link BigDecimal} is greater than or equal to a supplied {@code long} base value.
+   * Returns {@code true} if the given {@code BigDecimal} is greater than or equal to the supplied
+   * base value. The values are compared exactly, like {@code
+   * isGreaterThanOrEqualTo(BigDecimal.valueOf(baseValue), value)} compares them, but usually
+   * without creating a {@code BigDecimal} of the base value.
    *
-   * @param baseValue the value to compare for smallness against.
-   * @param value the value to check for smallness.
-   * @return {@code true} if {@code value} is less than {@code baseValue}.
-   * @since 1.1.0
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @return {@code true} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
    */
-  @Pure
-  public static boolean isLessThan(int baseValue, int value) {
-    return value < baseValue;
+  public static boolean isGreaterThanOrEqualTo(long baseValue, BigDecimal value) {
+    return Comparisons.compare(baseValue, requireNonNull(value, "value cannot be null.")) <= 0;
   }
 
   /**
-   * Checks if a {@code long} is less than a supplied base value. Returns {@code true} if the given
-   * {@code long} is less than the supplied base value.
+   * Checks if a {@link BigDecimal} is greater than or equal to a supplied {@code double} base
+   * value. Returns {@code true} if the given {@code BigDecimal} is greater than or equal to the
+   * supplied base value. The values are compared exactly, like {@code isGreaterThanOrEqualTo(new
+   * BigDecimal(baseValue), value)} compares them, but usually without creating a {@code BigDecimal}
+   * of the base value. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> A {@code NaN} is greater than every {@code BigDecimal}, the
+   * infinities are greater or less than every {@code BigDecimal} and {@code -0.0} is less than
+   * zero, like {@link Double#compare(double, double)} orders them. </i>
    *
-   * @param baseValue the value to compare for smallness against.
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @return {@code true} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static boolean isGreaterThanOrEqualTo(double baseValue, BigDecimal value) {
+    return Comparisons.compare(baseValue, requireNonNull(value, "value cannot be null.")) <= 0;
+  }
+
+  /**
+   * Checks if a {@code long} is greater than or equal to a supplied {@link BigDecimal} base value.
+   * Returns {@code true} if the given {@code long} is greater than or equal to the supplied base
+   * value. The values are compared exactly, like {@code isGreaterThanOrEqualTo(baseValue,
+   * BigDecimal.valueOf(value))} compares them, but usually without creating a {@code BigDecimal} of
+   * the {@code long}.
+   *
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @return {@code true} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} is {@code null}.
+   * @since 3.0.0
+   */
+  public static boolean isGreaterThanOrEqualTo(BigDecimal baseValue, long value) {
+    return Comparisons.compare(value, requireNonNull(baseValue, "baseValue cannot be null.")) >= 0;
+  }
+
+  /**
+   * Checks if a {@code double} is greater than or equal to a supplied {@link BigDecimal} base
+   * value. Returns {@code true} if the given {@code double} is greater than or equal to the
+   * supplied base value. The values are compared exactly, like {@code
+   * isGreaterThanOrEqualTo(baseValue, new BigDecimal(value))} compares them, but usually without
+   * creating a {@code BigDecimal} of the {@code double}. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> A {@code NaN} is greater than every {@code BigDecimal}, the
+   * infinities are greater or less than every {@code BigDecimal} and {@code -0.0} is less than
+   * zero, like {@link Double#compare(double, double)} orders them. </i>
+   *
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @return {@code true} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} is {@code null}.
+   * @since 3.0.0
+   */
+  public static boolean isGreaterThanOrEqualTo(BigDecimal baseValue, double value) {
+    return Comparisons.compare(value, requireNonNull(baseValue, "baseValue cannot be null.")) >= 0;
+  }
+
+  // ========================================================================
+  // IS NEGATIVE CHECKS
+  // ========================================================================
+
+  /**
+   * Checks if an integer is negative, i.e, less than 0 and returns {@code true} if the integer is
+   * negative, otherwise returns {@code false}.
+   *
+   * @param value the integer to check.
+   * @return {@code true} if the integer is negative, otherwise returns {@code false}.
+   */
+  @Pure
+  public static boolean isNegative(int value) {
+    return isLessThan(0, value);
+  }
+
+  /**
+   * Checks if a long is negative, i.e, less than 0 and returns {@code true} if the long is
+   * negative, otherwise returns {@code false}.
+   *
+   * @param value the long to check.
+   * @return {@code true} if the long is negative, otherwise returns {@code false}.
+   */
+  @Pure
+  public static boolean isNegative(long value) {
+    return isLessThan(0L, value);
+  }
+
+  /**
+   * Checks if a float is negative, i.e, less than 0 and returns {@code true} if the float is
+   * negative, otherwise returns {@code false}.
+   *
+   * @param value the float to check.
+   * @return {@code true} if the float is negative, otherwise returns {@code false}.
+   */
+  @Pure
+  public static boolean isNegative(float value) {
+    return isLessThan(0F, value);
+  }
+
+  /**
+   * Checks if a double is negative, i.e, less than 0 and returns {@code true} if the double is
+   * negative, otherwise returns {@code false}.
+   *
+   * @param value the double to check.
+   * @return {@code true} if the double is negative, otherwise returns {@code false}.
+   */
+  @Pure
+  public static boolean isNegative(double value) {
+    return isLessThan(0D, value);
+  }
+
+  /**
+   * Checks if a {@link BigDecimal} is negative, i.e, less than 0 and returns {@code true},
+   * otherwise returns {@code false}.
+   *
+   * @param value the {@code BigDecimal} to check.
+   * @return {@code true} if the {@code BigDecimal} is negative, {@code false} otherwise.
+   * @throws NullPointerException if value is <code>null</code>.
+   */
+  public static boolean isNegative(BigDecimal value) {
+    return requireNonNull(value).signum() < 0;
+  }
+
+  /**
+   * Checks if a {@link BigInteger} is negative, i.e, less than 0 and returns {@code true},
+   * otherwise returns {@code false}.
+   *
+   * @param value the {@code BigInteger} to check.
+   * @return {@code true} if the {@code BigInteger} is negative, {@code false} otherwise.
+   * @throws NullPointerException if value is <code>null</code>.
+   * @since 3.0.0
+   */
+  public static boolean isNegative(BigInteger value) {
+    return requireNonNull(value).signum() < 0;
+  }
+
+  // ========================================================================
+  // IS LESS THAN CHECKS
+  // ========================================================================
+
+  /**
+   * Checks if an {@code int} is less than a supplied base value. Returns {@code true} if the given
+   * {@code int} is less than the supplied base value.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @return {@code true} if {@code value} is less than {@code baseValue}.
+   * @since 1.1.0
+   */
+  @Pure
+  public static boolean isLessThan(int baseValue, int value) {
+    return value < baseValue;
+  }
+
+  /**
+   * Checks if a {@code long} is less than a supplied base value. Returns {@code true} if the given
+   * {@code long} is less than the supplied base value.
+   *
+   * @param baseValue the value to compare for smallness against.
    * @param value the value to check for smallness.
    * @return {@code true} if {@code value} is less than {@code baseValue}.
    * @since 1.1.0
@@ -443,6 +989,176 @@ public final class ObjectUtils {
         < 0;
   }
 
+  /**
+   * Checks if a {@link BigInteger} is less than a supplied base value. Returns {@code true} if the
+   * given {@code BigInteger} is less than the supplied base value.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @return {@code true} if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if any of the two arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static boolean isLessThan(BigInteger baseValue, BigInteger value) {
+    return Comparisons.compare(
+            requireNonNull(value, "value cannot be null."),
+            requireNonNull(baseValue, "baseValue cannot be null."))
+        < 0;
+  }
+
+  /**
+   * Checks if a {@code double} is less than a supplied {@code long} base value. Returns {@code
+   * true} if the given {@code double} is less than the supplied base value. The values are compared
+   * exactly, unlike {@link #isLessThan(double, double)}, which converts the {@code long} to a
+   * {@code double} and so rounds a {@code long} with more than 53 significant bits. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> The values are ordered like {@link Double#compare(double, double)}
+   * orders them, i.e. {@code NaN} is greater than every {@code long} and {@code -0.0} is less than
+   * {@code 0}. </i>
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @return {@code true} if {@code value} is less than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @Pure
+  public static boolean isLessThan(long baseValue, double value) {
+    return Comparisons.compare(baseValue, value) > 0;
+  }
+
+  /**
+   * Checks if a {@code long} is less than a supplied {@code double} base value. Returns {@code
+   * true} if the given {@code long} is less than the supplied base value. The values are compared
+   * exactly, unlike {@link #isLessThan(double, double)}, which converts the {@code long} to a
+   * {@code double} and so rounds a {@code long} with more than 53 significant bits. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> The values are ordered like {@link Double#compare(double, double)}
+   * orders them, i.e. {@code NaN} is greater than every {@code long} and {@code -0.0} is less than
+   * {@code 0}. </i>
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @return {@code true} if {@code value} is less than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @Pure
+  public static boolean isLessThan(double baseValue, long value) {
+    return Comparisons.compare(value, baseValue) < 0;
+  }
+
+  /**
+   * Checks if a {@code float} is less than a supplied {@code long} base value. Returns {@code true}
+   * if the given {@code float} is less than the supplied base value. The values are compared
+   * exactly, unlike {@link #isLessThan(float, float)}, which converts the {@code long} to a {@code
+   * float} and so rounds a {@code long} with more than 24 significant bits. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> The values are ordered like {@link Float#compare(float, float)}
+   * orders them, i.e. {@code NaN} is greater than every {@code long} and {@code -0.0} is less than
+   * {@code 0}. </i>
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @return {@code true} if {@code value} is less than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @Pure
+  public static boolean isLessThan(long baseValue, float value) {
+    return Comparisons.compare(baseValue, value) > 0;
+  }
+
+  /**
+   * Checks if a {@code long} is less than a supplied {@code float} base value. Returns {@code true}
+   * if the given {@code long} is less than the supplied base value. The values are compared
+   * exactly, unlike {@link #isLessThan(float, float)}, which converts the {@code long} to a {@code
+   * float} and so rounds a {@code long} with more than 24 significant bits. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> The values are ordered like {@link Float#compare(float, float)}
+   * orders them, i.e. {@code NaN} is greater than every {@code long} and {@code -0.0} is less than
+   * {@code 0}. </i>
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @return {@code true} if {@code value} is less than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @Pure
+  public static boolean isLessThan(float baseValue, long value) {
+    return Comparisons.compare(value, baseValue) < 0;
+  }
+
+  /**
+   * Checks if a {@link BigDecimal} is less than a supplied {@code long} base value. Returns {@code
+   * true} if the given {@code BigDecimal} is less than the supplied base value. The values are
+   * compared exactly, like {@code isLessThan(BigDecimal.valueOf(baseValue), value)} compares them,
+   * but usually without creating a {@code BigDecimal} of the base value.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @return {@code true} if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static boolean isLessThan(long baseValue, BigDecimal value) {
+    return Comparisons.compare(baseValue, requireNonNull(value, "value cannot be null.")) > 0;
+  }
+
+  /**
+   * Checks if a {@link BigDecimal} is less than a supplied {@code double} base value. Returns
+   * {@code true} if the given {@code BigDecimal} is less than the supplied base value. The values
+   * are compared exactly, like {@code isLessThan(new BigDecimal(baseValue), value)} compares them,
+   * but usually without creating a {@code BigDecimal} of the base value. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> A {@code NaN} is greater than every {@code BigDecimal}, the
+   * infinities are greater or less than every {@code BigDecimal} and {@code -0.0} is less than
+   * zero, like {@link Double#compare(double, double)} orders them. </i>
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @return {@code true} if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static boolean isLessThan(double baseValue, BigDecimal value) {
+    return Comparisons.compare(baseValue, requireNonNull(value, "value cannot be null.")) > 0;
+  }
+
+  /**
+   * Checks if a {@code long} is less than a supplied {@link BigDecimal} base value. Returns {@code
+   * true} if the given {@code long} is less than the supplied base value. The values are compared
+   * exactly, like {@code isLessThan(baseValue, BigDecimal.valueOf(value))} compares them, but
+   * usually without creating a {@code BigDecimal} of the {@code long}.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @return {@code true} if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} is {@code null}.
+   * @since 3.0.0
+   */
+  public static boolean isLessThan(BigDecimal baseValue, long value) {
+    return Comparisons.compare(value, requireNonNull(baseValue, "baseValue cannot be null.")) < 0;
+  }
+
+  /**
+   * Checks if a {@code double} is less than a supplied {@link BigDecimal} base value. Returns
+   * {@code true} if the given {@code double} is less than the supplied base value. The values are
+   * compared exactly, like {@code isLessThan(baseValue, new BigDecimal(value))} compares them, but
+   * usually without creating a {@code BigDecimal} of the {@code double}. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> A {@code NaN} is greater than every {@code BigDecimal}, the
+   * infinities are greater or less than every {@code BigDecimal} and {@code -0.0} is less than
+   * zero, like {@link Double#compare(double, double)} orders them. </i>
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @return {@code true} if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} is {@code null}.
+   * @since 3.0.0
+   */
+  public static boolean isLessThan(BigDecimal baseValue, double value) {
+    return Comparisons.compare(value, requireNonNull(baseValue, "baseValue cannot be null.")) < 0;
+  }
+
   // ========================================================================
   // IS LESS THAN OR EQUAL TO CHECKS
   // ========================================================================
@@ -526,76 +1242,254 @@ public final class ObjectUtils {
         <= 0;
   }
 
-  // ========================================================================
-  // IN RANGE CHECKS
-  // ========================================================================
-
   /**
-   * Checks that the specified <code>Integer</code> is in range of the specified minimum value
-   * (inclusive) and maximum value (exclusive). Returns <code>true</code> if <code>value</code> is
-   * greater than or equal to <code>minValue</code> and less than <code>maxValue</code>, <code>false
-   * </code> otherwise. An {@link IllegalArgumentException} will be thrown if the maximum value is
-   * less than the minimum value.
+   * Checks if a {@link BigInteger} is less than or equal to a supplied base value. Returns {@code
+   * true} if the given {@code BigInteger} is less than or equal to the supplied base value.
    *
-   * @param minValue the minimum value(inclusive) of the range.
-   * @param maxValue the maximum value(exclusive) of the range.
-   * @param value the integer to check.
-   * @return <code>true</code> if <code>value</code> is greater than or equal to <code>minValue
-   *     </code> and less than <code>maxValue</code>, <code>false</code> otherwise.
-   * @throws IllegalArgumentException if <code>maxValue</code> is less than <code>minValue</code>.
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @return {@code true} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws NullPointerException if any of the two arguments is/are {@code null}.
+   * @since 3.0.0
    */
   @SideEffectFree
-  public static boolean inRange(int minValue, int maxValue, int value) {
-    requireGreaterThanOrEqualTo(
-        minValue,
-        maxValue,
-        String.format("maxValue( %d ) cannot be less than minValue( %d ).", maxValue, minValue));
-    return isGreaterThanOrEqualTo(minValue, value) && isLessThan(maxValue, value);
+  public static boolean isLessThanOrEqualTo(BigInteger baseValue, BigInteger value) {
+    return Comparisons.compare(
+            requireNonNull(value, "value cannot be null."),
+            requireNonNull(baseValue, "baseValue cannot be null."))
+        <= 0;
   }
 
   /**
-   * Checks that the specified <code>Long</code> is in range of the specified minimum value
-   * (inclusive) and maximum value (exclusive). Returns <code>true</code> if <code>value</code> is
-   * greater than or equal to <code>minValue</code> and less than <code>maxValue</code>, <code>false
-   * </code> otherwise. An {@link IllegalArgumentException} will be thrown if the maximum value is
-   * less than the minimum value.
+   * Checks if a {@code double} is less than or equal to a supplied {@code long} base value. Returns
+   * {@code true} if the given {@code double} is less than or equal to the supplied base value. The
+   * values are compared exactly, unlike {@link #isLessThanOrEqualTo(double, double)}, which
+   * converts the {@code long} to a {@code double} and so rounds a {@code long} with more than 53
+   * significant bits. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> The values are ordered like {@link Double#compare(double, double)}
+   * orders them, i.e. {@code NaN} is greater than every {@code long} and {@code -0.0} is less than
+   * {@code 0}. </i>
    *
-   * @param minValue the minimum value(inclusive) of the range.
-   * @param maxValue the maximum value(exclusive) of the range.
-   * @param value the long to check.
-   * @return <code>true</code> if <code>value</code> is greater than or equal to <code>minValue
-   *     </code> and less than <code>maxValue</code>, <code>false</code> otherwise.
-   * @throws IllegalArgumentException if <code>maxValue</code> is less than <code>minValue</code>.
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @return {@code true} if {@code value} is less than or equal to {@code baseValue}.
+   * @since 3.0.0
    */
-  @SideEffectFree
-  public static boolean inRange(long minValue, long maxValue, long value) {
-    requireGreaterThanOrEqualTo(
-        minValue,
-        maxValue,
-        String.format("maxValue( %d ) cannot be less than minValue( %d ).", maxValue, minValue));
-    return isGreaterThanOrEqualTo(minValue, value) && isLessThan(maxValue, value);
+  @Pure
+  public static boolean isLessThanOrEqualTo(long baseValue, double value) {
+    return Comparisons.compare(baseValue, value) >= 0;
   }
 
   /**
-   * Checks that the specified <code>Float</code> is in range of the specified minimum value
-   * (inclusive) and maximum value (exclusive). Returns <code>true</code> if <code>value</code> is
-   * greater than or equal to <code>minValue</code> and less than <code>maxValue</code>, <code>false
-   * </code> otherwise. An {@link IllegalArgumentException} will be thrown if the maximum value is
-   * less than the minimum value.
+   * Checks if a {@code long} is less than or equal to a supplied {@code double} base value. Returns
+   * {@code true} if the given {@code long} is less than or equal to the supplied base value. The
+   * values are compared exactly, unlike {@link #isLessThanOrEqualTo(double, double)}, which
+   * converts the {@code long} to a {@code double} and so rounds a {@code long} with more than 53
+   * significant bits. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> The values are ordered like {@link Double#compare(double, double)}
+   * orders them, i.e. {@code NaN} is greater than every {@code long} and {@code -0.0} is less than
+   * {@code 0}. </i>
    *
-   * @param minValue the minimum value(inclusive) of the range.
-   * @param maxValue the maximum value(exclusive) of the range.
-   * @param value the float to check.
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @return {@code true} if {@code value} is less than or equal to {@code baseValue}.
+   * @since 3.0.0
+   */
+  @Pure
+  public static boolean isLessThanOrEqualTo(double baseValue, long value) {
+    return Comparisons.compare(value, baseValue) <= 0;
+  }
+
+  /**
+   * Checks if a {@code float} is less than or equal to a supplied {@code long} base value. Returns
+   * {@code true} if the given {@code float} is less than or equal to the supplied base value. The
+   * values are compared exactly, unlike {@link #isLessThanOrEqualTo(float, float)}, which converts
+   * the {@code long} to a {@code float} and so rounds a {@code long} with more than 24 significant
+   * bits. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> The values are ordered like {@link Float#compare(float, float)}
+   * orders them, i.e. {@code NaN} is greater than every {@code long} and {@code -0.0} is less than
+   * {@code 0}. </i>
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @return {@code true} if {@code value} is less than or equal to {@code baseValue}.
+   * @since 3.0.0
+   */
+  @Pure
+  public static boolean isLessThanOrEqualTo(long baseValue, float value) {
+    return Comparisons.compare(baseValue, value) >= 0;
+  }
+
+  /**
+   * Checks if a {@code long} is less than or equal to a supplied {@code float} base value. Returns
+   * {@code true} if the given {@code long} is less than or equal to the supplied base value. The
+   * values are compared exactly, unlike {@link #isLessThanOrEqualTo(float, float)}, which converts
+   * the {@code long} to a {@code float} and so rounds a {@code long} with more than 24 significant
+   * bits. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> The values are ordered like {@link Float#compare(float, float)}
+   * orders them, i.e. {@code NaN} is greater than every {@code long} and {@code -0.0} is less than
+   * {@code 0}. </i>
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @return {@code true} if {@code value} is less than or equal to {@code baseValue}.
+   * @since 3.0.0
+   */
+  @Pure
+  public static boolean isLessThanOrEqualTo(float baseValue, long value) {
+    return Comparisons.compare(value, baseValue) <= 0;
+  }
+
+  /**
+   * Checks if a {@link BigDecimal} is less than or equal to a supplied {@code long} base value.
+   * Returns {@code true} if the given {@code BigDecimal} is less than or equal to the supplied base
+   * value. The values are compared exactly, like {@code
+   * isLessThanOrEqualTo(BigDecimal.valueOf(baseValue), value)} compares them, but usually without
+   * creating a {@code BigDecimal} of the base value.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @return {@code true} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static boolean isLessThanOrEqualTo(long baseValue, BigDecimal value) {
+    return Comparisons.compare(baseValue, requireNonNull(value, "value cannot be null.")) >= 0;
+  }
+
+  /**
+   * Checks if a {@link BigDecimal} is less than or equal to a supplied {@code double} base value.
+   * Returns {@code true} if the given {@code BigDecimal} is less than or equal to the supplied base
+   * value. The values are compared exactly, like {@code isLessThanOrEqualTo(new
+   * BigDecimal(baseValue), value)} compares them, but usually without creating a {@code BigDecimal}
+   * of the base value. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> A {@code NaN} is greater than every {@code BigDecimal}, the
+   * infinities are greater or less than every {@code BigDecimal} and {@code -0.0} is less than
+   * zero, like {@link Double#compare(double, double)} orders them. </i>
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @return {@code true} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static boolean isLessThanOrEqualTo(double baseValue, BigDecimal value) {
+    return Comparisons.compare(baseValue, requireNonNull(value, "value cannot be null.")) >= 0;
+  }
+
+  /**
+   * Checks if a {@code long} is less than or equal to a supplied {@link BigDecimal} base value.
+   * Returns {@code true} if the given {@code long} is less than or equal to the supplied base
+   * value. The values are compared exactly, like {@code isLessThanOrEqualTo(baseValue,
+   * BigDecimal.valueOf(value))} compares them, but usually without creating a {@code BigDecimal} of
+   * the {@code long}.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @return {@code true} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} is {@code null}.
+   * @since 3.0.0
+   */
+  public static boolean isLessThanOrEqualTo(BigDecimal baseValue, long value) {
+    return Comparisons.compare(value, requireNonNull(baseValue, "baseValue cannot be null.")) <= 0;
+  }
+
+  /**
+   * Checks if a {@code double} is less than or equal to a supplied {@link BigDecimal} base value.
+   * Returns {@code true} if the given {@code double} is less than or equal to the supplied base
+   * value. The values are compared exactly, like {@code isLessThanOrEqualTo(baseValue, new
+   * BigDecimal(value))} compares them, but usually without creating a {@code BigDecimal} of the
+   * {@code double}. <br>
+   * <br>
+   * <i> <strong>NOTE:</strong> A {@code NaN} is greater than every {@code BigDecimal}, the
+   * infinities are greater or less than every {@code BigDecimal} and {@code -0.0} is less than
+   * zero, like {@link Double#compare(double, double)} orders them. </i>
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @return {@code true} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} is {@code null}.
+   * @since 3.0.0
+   */
+  public static boolean isLessThanOrEqualTo(BigDecimal baseValue, double value) {
+    return Comparisons.compare(value, requireNonNull(baseValue, "baseValue cannot be null.")) <= 0;
+  }
+
+  // ========================================================================
+  // IN RANGE CHECKS
+  // ========================================================================
+
+  /**
+   * Checks that the specified <code>Integer</code> is in range of the specified minimum value
+   * (inclusive) and maximum value (exclusive). Returns <code>true</code> if <code>value</code> is
+   * greater than or equal to <code>minValue</code> and less than <code>maxValue</code>, <code>false
+   * </code> otherwise. An {@link IllegalArgumentException} will be thrown if the maximum value is
+   * less than the minimum value.
+   *
+   * @param minValue the minimum value(inclusive) of the range.
+   * @param maxValue the maximum value(exclusive) of the range.
+   * @param value the integer to check.
+   * @return <code>true</code> if <code>value</code> is greater than or equal to <code>minValue
+   *     </code> and less than <code>maxValue</code>, <code>false</code> otherwise.
+   * @throws IllegalArgumentException if <code>maxValue</code> is less than <code>minValue</code>.
+   */
+  @SideEffectFree
+  public static boolean inRange(int minValue, int maxValue, int value) {
+    if (!isGreaterThanOrEqualTo(minValue, maxValue)) {
+      throw new IllegalArgumentException(
+          String.format("maxValue( %d ) cannot be less than minValue( %d ).", maxValue, minValue));
+    }
+    return isGreaterThanOrEqualTo(minValue, value) && isLessThan(maxValue, value);
+  }
+
+  /**
+   * Checks that the specified <code>Long</code> is in range of the specified minimum value
+   * (inclusive) and maximum value (exclusive). Returns <code>true</code> if <code>value</code> is
+   * greater than or equal to <code>minValue</code> and less than <code>maxValue</code>, <code>false
+   * </code> otherwise. An {@link IllegalArgumentException} will be thrown if the maximum value is
+   * less than the minimum value.
+   *
+   * @param minValue the minimum value(inclusive) of the range.
+   * @param maxValue the maximum value(exclusive) of the range.
+   * @param value the long to check.
+   * @return <code>true</code> if <code>value</code> is greater than or equal to <code>minValue
+   *     </code> and less than <code>maxValue</code>, <code>false</code> otherwise.
+   * @throws IllegalArgumentException if <code>maxValue</code> is less than <code>minValue</code>.
+   */
+  @SideEffectFree
+  public static boolean inRange(long minValue, long maxValue, long value) {
+    if (!isGreaterThanOrEqualTo(minValue, maxValue)) {
+      throw new IllegalArgumentException(
+          String.format("maxValue( %d ) cannot be less than minValue( %d ).", maxValue, minValue));
+    }
+    return isGreaterThanOrEqualTo(minValue, value) && isLessThan(maxValue, value);
+  }
+
+  /**
+   * Checks that the specified <code>Float</code> is in range of the specified minimum value
+   * (inclusive) and maximum value (exclusive). Returns <code>true</code> if <code>value</code> is
+   * greater than or equal to <code>minValue</code> and less than <code>maxValue</code>, <code>false
+   * </code> otherwise. An {@link IllegalArgumentException} will be thrown if the maximum value is
+   * less than the minimum value.
+   *
+   * @param minValue the minimum value(inclusive) of the range.
+   * @param maxValue the maximum value(exclusive) of the range.
+   * @param value the float to check.
    * @return <code>true</code> if <code>value</code> is greater than or equal to <code>minValue
    *     </code> and less than <code>maxValue</code>, <code>false</code> otherwise.
    * @throws IllegalArgumentException if <code>maxValue</code> is less than <code>minValue</code>.
    */
   @SideEffectFree
   public static boolean inRange(float minValue, float maxValue, float value) {
-    requireGreaterThanOrEqualTo(
-        minValue,
-        maxValue,
-        String.format("maxValue( %f ) cannot be less than minValue( %f ).", maxValue, minValue));
+    if (!isGreaterThanOrEqualTo(minValue, maxValue)) {
+      throw new IllegalArgumentException(
+          String.format("maxValue( %f ) cannot be less than minValue( %f ).", maxValue, minValue));
+    }
     return isGreaterThanOrEqualTo(minValue, value) && isLessThan(maxValue, value);
   }
 
@@ -615,10 +1509,10 @@ public final class ObjectUtils {
    */
   @SideEffectFree
   public static boolean inRange(double minValue, double maxValue, double value) {
-    requireGreaterThanOrEqualTo(
-        minValue,
-        maxValue,
-        String.format("maxValue( %f ) cannot be less than minValue( %f ).", maxValue, minValue));
+    if (!isGreaterThanOrEqualTo(minValue, maxValue)) {
+      throw new IllegalArgumentException(
+          String.format("maxValue( %f ) cannot be less than minValue( %f ).", maxValue, minValue));
+    }
     return isGreaterThanOrEqualTo(minValue, value) && isLessThan(maxValue, value);
   }
 
@@ -639,10 +1533,35 @@ public final class ObjectUtils {
    */
   @SideEffectFree
   public static boolean inRange(BigDecimal minValue, BigDecimal maxValue, BigDecimal value) {
-    requireGreaterThanOrEqualTo(
-        minValue,
-        maxValue,
-        String.format("maxValue( %s ) cannot be less than minValue( %s ).", maxValue, minValue));
+    if (!isGreaterThanOrEqualTo(minValue, maxValue)) {
+      throw new IllegalArgumentException(
+          String.format("maxValue( %s ) cannot be less than minValue( %s ).", maxValue, minValue));
+    }
+    return isGreaterThanOrEqualTo(minValue, value) && isLessThan(maxValue, value);
+  }
+
+  /**
+   * Checks that the specified {@link BigInteger} is in range of the specified minimum value
+   * (inclusive) and maximum value (exclusive). Returns <code>true</code> if <code>value</code> is
+   * greater than or equal to <code>minValue</code> and less than <code>maxValue</code>, <code>false
+   * </code> otherwise. An {@link IllegalArgumentException} will be thrown if the maximum value is
+   * less than the minimum value.
+   *
+   * @param minValue the minimum value(inclusive) of the range.
+   * @param maxValue the maximum value(exclusive) of the range.
+   * @param value the <code>BigInteger</code> to check.
+   * @return <code>true</code> if <code>value</code> is greater than or equal to <code>minValue
+   *     </code> and less than <code>maxValue</code>, <code>false</code> otherwise.
+   * @throws NullPointerException if any of the arguments passed are <code>null</code>.
+   * @throws IllegalArgumentException if <code>maxValue</code> is less than <code>minValue</code>.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static boolean inRange(BigInteger minValue, BigInteger maxValue, BigInteger value) {
+    if (!isGreaterThanOrEqualTo(minValue, maxValue)) {
+      throw new IllegalArgumentException(
+          String.format("maxValue( %s ) cannot be less than minValue( %s ).", maxValue, minValue));
+    }
     return isGreaterThanOrEqualTo(minValue, value) && isLessThan(maxValue, value);
   }
 
@@ -663,7 +1582,7 @@ public final class ObjectUtils {
    */
   @SideEffectFree
   public static int requireEqualTo(int baseValue, int value) {
-    return requireEqualTo(baseValue, value, null);
+    return requireEqualTo(baseValue, value, (String) null);
   }
 
   /**
@@ -681,14 +1600,54 @@ public final class ObjectUtils {
   @SideEffectFree
   public static int requireEqualTo(int baseValue, int value, @Nullable String message) {
     if (!isEqualTo(baseValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message)
-              ? message
-              : String.format("value(%d) should be equal to %d.", value, baseValue)));
+      throw new ValidationException(Check.EQUAL_TO, value, baseValue, message);
     }
     return value;
   }
 
+  /**
+   * Validates that an {@code int} is equal to a supplied base value. Returns the given {@code int}
+   * if it is equal to the given base value, otherwise, an {@code IllegalArgumentException} is
+   * thrown. The exception message is only retrieved from {@code messageSupplier} if the validation
+   * fails.
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not equal to {@code baseValue}.
+   * @since 3.0.0
+   */
+  public static int requireEqualTo(
+      int baseValue, int value, @Nullable Supplier<String> messageSupplier) {
+    return isEqualTo(baseValue, value)
+        ? value
+        : requireEqualTo(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that an {@code int} is equal to a supplied base value. Returns the given {@code int}
+   * if it is equal to the given base value, otherwise, an {@code IllegalArgumentException} is
+   * thrown. The exception message is only formatted if the validation fails.
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not equal to {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireEqualTo(
+      int baseValue, int value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return isEqualTo(baseValue, value)
+        ? value
+        : requireEqualTo(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
   /**
    * Validates that a {@code long} is equal to a supplied base value. Returns the given {@code long}
    * if it is equal to the given base value, otherwise, an {@code IllegalArgumentException} is
@@ -702,7 +1661,7 @@ public final class ObjectUtils {
    */
   @SideEffectFree
   public static long requireEqualTo(long baseValue, long value) {
-    return requireEqualTo(baseValue, value, null);
+    return requireEqualTo(baseValue, value, (String) null);
   }
 
   /**
@@ -720,14 +1679,54 @@ public final class ObjectUtils {
   @SideEffectFree
   public static long requireEqualTo(long baseValue, long value, @Nullable String message) {
     if (!isEqualTo(baseValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message)
-              ? message
-              : String.format("value(%d) should be equal to %d.", value, baseValue)));
+      throw new ValidationException(Check.EQUAL_TO, value, baseValue, message);
     }
     return value;
   }
 
+  /**
+   * Validates that a {@code long} is equal to a supplied base value. Returns the given {@code long}
+   * if it is equal to the given base value, otherwise, an {@code IllegalArgumentException} is
+   * thrown. The exception message is only retrieved from {@code messageSupplier} if the validation
+   * fails.
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not equal to {@code baseValue}.
+   * @since 3.0.0
+   */
+  public static long requireEqualTo(
+      long baseValue, long value, @Nullable Supplier<String> messageSupplier) {
+    return isEqualTo(baseValue, value)
+        ? value
+        : requireEqualTo(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@code long} is equal to a supplied base value. Returns the given {@code long}
+   * if it is equal to the given base value, otherwise, an {@code IllegalArgumentException} is
+   * thrown. The exception message is only formatted if the validation fails.
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not equal to {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static long requireEqualTo(
+      long baseValue, long value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return isEqualTo(baseValue, value)
+        ? value
+        : requireEqualTo(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
   /**
    * Validates that a {@code long} is equal to a supplied base value. Returns the given {@code long}
    * if it is equal to the given base value, otherwise, an {@code IllegalArgumentException} is
@@ -741,7 +1740,7 @@ public final class ObjectUtils {
    */
   @SideEffectFree
   public static float requireEqualTo(float baseValue, float value) {
-    return requireEqualTo(baseValue, value, null);
+    return requireEqualTo(baseValue, value, (String) null);
   }
 
   /**
@@ -759,14 +1758,57 @@ public final class ObjectUtils {
   @SideEffectFree
   public static float requireEqualTo(float baseValue, float value, @Nullable String message) {
     if (!isEqualTo(baseValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message)
-              ? message
-              : String.format("value(%f) should be equal to %f.", value, baseValue)));
+      throw new ValidationException(Check.EQUAL_TO, value, baseValue, message);
     }
     return value;
   }
 
+  /**
+   * Validates that a {@code float} is equal to a supplied base value. Returns the given {@code
+   * float} if it is equal to the given base value, otherwise, an {@code IllegalArgumentException}
+   * is thrown. The exception message is only retrieved from {@code messageSupplier} if the
+   * validation fails.
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not equal to {@code baseValue}.
+   * @since 3.0.0
+   */
+  public static float requireEqualTo(
+      float baseValue, float value, @Nullable Supplier<String> messageSupplier) {
+    return isEqualTo(baseValue, value)
+        ? value
+        : requireEqualTo(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@code float} is equal to a supplied base value. Returns the given {@code
+   * float} if it is equal to the given base value, otherwise, an {@code IllegalArgumentException}
+   * is thrown. The exception message is only formatted if the validation fails.
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not equal to {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static float requireEqualTo(
+      float baseValue,
+      float value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isEqualTo(baseValue, value)
+        ? value
+        : requireEqualTo(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
   /**
    * Validates that a {@code double} is equal to a supplied base value. Returns the given {@code
    * double} if it is equal to the given base value, otherwise, an {@code IllegalArgumentException}
@@ -780,7 +1822,7 @@ public final class ObjectUtils {
    */
   @SideEffectFree
   public static double requireEqualTo(double baseValue, double value) {
-    return requireEqualTo(baseValue, value, null);
+    return requireEqualTo(baseValue, value, (String) null);
   }
 
   /**
@@ -798,14 +1840,57 @@ public final class ObjectUtils {
   @SideEffectFree
   public static double requireEqualTo(double baseValue, double value, @Nullable String message) {
     if (!isEqualTo(baseValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message)
-              ? message
-              : String.format("value(%f) should be equal to %f.", value, baseValue)));
+      throw new ValidationException(Check.EQUAL_TO, value, baseValue, message);
     }
     return value;
   }
 
+  /**
+   * Validates that a {@code double} is equal to a supplied base value. Returns the given {@code
+   * double} if it is equal to the given base value, otherwise, an {@code IllegalArgumentException}
+   * is thrown. The exception message is only retrieved from {@code messageSupplier} if the
+   * validation fails.
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not equal to {@code baseValue}.
+   * @since 3.0.0
+   */
+  public static double requireEqualTo(
+      double baseValue, double value, @Nullable Supplier<String> messageSupplier) {
+    return isEqualTo(baseValue, value)
+        ? value
+        : requireEqualTo(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@code double} is equal to a supplied base value. Returns the given {@code
+   * double} if it is equal to the given base value, otherwise, an {@code IllegalArgumentException}
+   * is thrown. The exception message is only formatted if the validation fails.
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not equal to {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static double requireEqualTo(
+      double baseValue,
+      double value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isEqualTo(baseValue, value)
+        ? value
+        : requireEqualTo(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
   /**
    * Validates that a {@link BigDecimal} is equal to a supplied base value. Returns the given {@code
    * BigDecimal} if it is equal to the given base value, otherwise, an {@code
@@ -820,7 +1905,7 @@ public final class ObjectUtils {
    */
   @SideEffectFree
   public static BigDecimal requireEqualTo(BigDecimal baseValue, BigDecimal value) {
-    return requireEqualTo(baseValue, value, null);
+    return requireEqualTo(baseValue, value, (String) null);
   }
 
   /**
@@ -840,32 +1925,343 @@ public final class ObjectUtils {
   public static BigDecimal requireEqualTo(
       BigDecimal baseValue, BigDecimal value, @Nullable String message) {
     if (!isEqualTo(baseValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message)
-              ? message
-              : String.format("value(%s) should be equal to %s.", value, baseValue)));
+      throw new ValidationException(Check.EQUAL_TO, value, baseValue, message);
     }
     return value;
   }
 
-  // ========================================================================
-  // REQUIRE GREATER THAN VALIDATORS
-  // ========================================================================
-
   /**
-   * Validates that an {@code int} is greater than a supplied base value. Returns the given {@code
-   * int} if it is greater than the given base value, otherwise, an {@code IllegalArgumentException}
-   * is thrown.
+   * Validates that a {@link BigDecimal} is equal to a supplied base value. Returns the given {@code
+   * BigDecimal} if it is equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
    *
-   * @param baseValue the value to compare for greatness against.
-   * @param value the value to check for greatness.
-   * @return {@code value} if {@code value} is greater than {@code baseValue}.
-   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
-   * @since 1.1.0
-   */
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not equal to {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireEqualTo(
+      BigDecimal baseValue, BigDecimal value, @Nullable Supplier<String> messageSupplier) {
+    return isEqualTo(baseValue, value)
+        ? value
+        : requireEqualTo(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is equal to a supplied base value. Returns the given {@code
+   * BigDecimal} if it is equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not equal to {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static BigDecimal requireEqualTo(
+      BigDecimal baseValue,
+      BigDecimal value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isEqualTo(baseValue, value)
+        ? value
+        : requireEqualTo(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@link BigInteger} is equal to a supplied base value. Returns the given {@code
+   * BigInteger} if it is equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @return {@code value} if {@code value} is equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not equal to {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static BigInteger requireEqualTo(BigInteger baseValue, BigInteger value) {
+    return requireEqualTo(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@link BigInteger} is equal to a supplied base value. Returns the given {@code
+   * BigInteger} if it is equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not equal to {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static BigInteger requireEqualTo(
+      BigInteger baseValue, BigInteger value, @Nullable String message) {
+    if (!isEqualTo(baseValue, value)) {
+      throw new ValidationException(Check.EQUAL_TO, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@link BigInteger} is equal to a supplied base value. Returns the given {@code
+   * BigInteger} if it is equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not equal to {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static BigInteger requireEqualTo(
+      BigInteger baseValue, BigInteger value, @Nullable Supplier<String> messageSupplier) {
+    return isEqualTo(baseValue, value)
+        ? value
+        : requireEqualTo(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@link BigInteger} is equal to a supplied base value. Returns the given {@code
+   * BigInteger} if it is equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not equal to {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static BigInteger requireEqualTo(
+      BigInteger baseValue,
+      BigInteger value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isEqualTo(baseValue, value)
+        ? value
+        : requireEqualTo(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is equal to a supplied {@code long} base value. Returns the
+   * given {@code BigDecimal} if it is equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The values are compared exactly, see {@link
+   * #isEqualTo(long, BigDecimal)}.
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @return {@code value} if {@code value} is equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not equal to {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireEqualTo(long baseValue, BigDecimal value) {
+    return requireEqualTo(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is equal to a supplied {@code long} base value. Returns the
+   * given {@code BigDecimal} if it is equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The values are compared exactly, see {@link
+   * #isEqualTo(long, BigDecimal)}.
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not equal to {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireEqualTo(
+      long baseValue, BigDecimal value, @Nullable String message) {
+    if (!isEqualTo(baseValue, value)) {
+      throw new ValidationException(Check.EQUAL_TO, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is equal to a supplied {@code long} base value. Returns the
+   * given {@code BigDecimal} if it is equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The values are compared exactly, see {@link
+   * #isEqualTo(long, BigDecimal)}. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not equal to {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireEqualTo(
+      long baseValue, BigDecimal value, @Nullable Supplier<String> messageSupplier) {
+    return isEqualTo(baseValue, value)
+        ? value
+        : requireEqualTo(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is equal to a supplied {@code long} base value. Returns the
+   * given {@code BigDecimal} if it is equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The values are compared exactly, see {@link
+   * #isEqualTo(long, BigDecimal)}. The exception message is only formatted if the validation fails.
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not equal to {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireEqualTo(
+      long baseValue,
+      BigDecimal value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isEqualTo(baseValue, value)
+        ? value
+        : requireEqualTo(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is equal to a supplied {@code double} base value. Returns
+   * the given {@code BigDecimal} if it is equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The values are compared exactly, see {@link
+   * #isEqualTo(double, BigDecimal)}.
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @return {@code value} if {@code value} is equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not equal to {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireEqualTo(double baseValue, BigDecimal value) {
+    return requireEqualTo(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is equal to a supplied {@code double} base value. Returns
+   * the given {@code BigDecimal} if it is equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The values are compared exactly, see {@link
+   * #isEqualTo(double, BigDecimal)}.
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not equal to {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireEqualTo(
+      double baseValue, BigDecimal value, @Nullable String message) {
+    if (!isEqualTo(baseValue, value)) {
+      throw new ValidationException(Check.EQUAL_TO, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is equal to a supplied {@code double} base value. Returns
+   * the given {@code BigDecimal} if it is equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The values are compared exactly, see {@link
+   * #isEqualTo(double, BigDecimal)}. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not equal to {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireEqualTo(
+      double baseValue, BigDecimal value, @Nullable Supplier<String> messageSupplier) {
+    return isEqualTo(baseValue, value)
+        ? value
+        : requireEqualTo(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is equal to a supplied {@code double} base value. Returns
+   * the given {@code BigDecimal} if it is equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The values are compared exactly, see {@link
+   * #isEqualTo(double, BigDecimal)}. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check for equality.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not equal to {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireEqualTo(
+      double baseValue,
+      BigDecimal value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isEqualTo(baseValue, value)
+        ? value
+        : requireEqualTo(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  // ========================================================================
+  // REQUIRE GREATER THAN VALIDATORS
+  // ========================================================================
+
+  /**
+   * Validates that an {@code int} is greater than a supplied base value. Returns the given {@code
+   * int} if it is greater than the given base value, otherwise, an {@code IllegalArgumentException}
+   * is thrown.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @since 1.1.0
+   */
   @SideEffectFree
   public static int requireGreaterThan(int baseValue, int value) {
-    return requireGreaterThan(baseValue, value, null);
+    return requireGreaterThan(baseValue, value, (String) null);
   }
 
   /**
@@ -883,14 +2279,54 @@ public final class ObjectUtils {
   @SideEffectFree
   public static int requireGreaterThan(int baseValue, int value, @Nullable String message) {
     if (!isGreaterThan(baseValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message)
-              ? message
-              : String.format("value(%d) should be greater than %d.", value, baseValue)));
+      throw new ValidationException(Check.GREATER_THAN, value, baseValue, message);
     }
     return value;
   }
 
+  /**
+   * Validates that an {@code int} is greater than a supplied base value. Returns the given {@code
+   * int} if it is greater than the given base value, otherwise, an {@code IllegalArgumentException}
+   * is thrown. The exception message is only retrieved from {@code messageSupplier} if the
+   * validation fails.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @since 3.0.0
+   */
+  public static int requireGreaterThan(
+      int baseValue, int value, @Nullable Supplier<String> messageSupplier) {
+    return isGreaterThan(baseValue, value)
+        ? value
+        : requireGreaterThan(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that an {@code int} is greater than a supplied base value. Returns the given {@code
+   * int} if it is greater than the given base value, otherwise, an {@code IllegalArgumentException}
+   * is thrown. The exception message is only formatted if the validation fails.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireGreaterThan(
+      int baseValue, int value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return isGreaterThan(baseValue, value)
+        ? value
+        : requireGreaterThan(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
   /**
    * Validates that a {@code long} is greater than a supplied base value. Returns the given {@code
    * long} if it is greater than the given base value, otherwise, an {@code
@@ -904,7 +2340,7 @@ public final class ObjectUtils {
    */
   @SideEffectFree
   public static long requireGreaterThan(long baseValue, long value) {
-    return requireGreaterThan(baseValue, value, null);
+    return requireGreaterThan(baseValue, value, (String) null);
   }
 
   /**
@@ -922,14 +2358,55 @@ public final class ObjectUtils {
   @SideEffectFree
   public static long requireGreaterThan(long baseValue, long value, @Nullable String message) {
     if (!isGreaterThan(baseValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message)
-              ? message
-              : String.format("value(%d) should be greater than %d.", value, baseValue)));
+      throw new ValidationException(Check.GREATER_THAN, value, baseValue, message);
     }
     return value;
   }
 
+  /**
+   * Validates that a {@code long} is greater than a supplied base value. Returns the given {@code
+   * long} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @since 3.0.0
+   */
+  public static long requireGreaterThan(
+      long baseValue, long value, @Nullable Supplier<String> messageSupplier) {
+    return isGreaterThan(baseValue, value)
+        ? value
+        : requireGreaterThan(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@code long} is greater than a supplied base value. Returns the given {@code
+   * long} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static long requireGreaterThan(
+      long baseValue, long value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return isGreaterThan(baseValue, value)
+        ? value
+        : requireGreaterThan(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
   /**
    * Validates that a {@code float} is greater than a supplied base value. Returns the given {@code
    * float} if it is greater than the given base value, otherwise, an {@code
@@ -943,7 +2420,7 @@ public final class ObjectUtils {
    */
   @SideEffectFree
   public static float requireGreaterThan(float baseValue, float value) {
-    return requireGreaterThan(baseValue, value, null);
+    return requireGreaterThan(baseValue, value, (String) null);
   }
 
   /**
@@ -961,14 +2438,58 @@ public final class ObjectUtils {
   @SideEffectFree
   public static float requireGreaterThan(float baseValue, float value, @Nullable String message) {
     if (!isGreaterThan(baseValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message)
-              ? message
-              : String.format("value(%f) should be greater than %f.", value, baseValue)));
+      throw new ValidationException(Check.GREATER_THAN, value, baseValue, message);
     }
     return value;
   }
 
+  /**
+   * Validates that a {@code float} is greater than a supplied base value. Returns the given {@code
+   * float} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @since 3.0.0
+   */
+  public static float requireGreaterThan(
+      float baseValue, float value, @Nullable Supplier<String> messageSupplier) {
+    return isGreaterThan(baseValue, value)
+        ? value
+        : requireGreaterThan(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@code float} is greater than a supplied base value. Returns the given {@code
+   * float} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static float requireGreaterThan(
+      float baseValue,
+      float value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isGreaterThan(baseValue, value)
+        ? value
+        : requireGreaterThan(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
   /**
    * Validates that a {@code double} is greater than a supplied base value. Returns the given {@code
    * double} if it is greater than the given base value, otherwise, an {@code
@@ -982,7 +2503,7 @@ public final class ObjectUtils {
    */
   @SideEffectFree
   public static double requireGreaterThan(double baseValue, double value) {
-    return requireGreaterThan(baseValue, value, null);
+    return requireGreaterThan(baseValue, value, (String) null);
   }
 
   /**
@@ -1001,17 +2522,61 @@ public final class ObjectUtils {
   public static double requireGreaterThan(
       double baseValue, double value, @Nullable String message) {
     if (!isGreaterThan(baseValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message)
-              ? message
-              : String.format("value(%f) should be greater than %f.", value, baseValue)));
+      throw new ValidationException(Check.GREATER_THAN, value, baseValue, message);
     }
     return value;
   }
 
   /**
-   * Validates that a {@link BigDecimal} is greater than a supplied base value. Returns the given
-   * {@code BigDecimal} if it is greater than the given base value, otherwise, an {@code
+   * Validates that a {@code double} is greater than a supplied base value. Returns the given {@code
+   * double} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @since 3.0.0
+   */
+  public static double requireGreaterThan(
+      double baseValue, double value, @Nullable Supplier<String> messageSupplier) {
+    return isGreaterThan(baseValue, value)
+        ? value
+        : requireGreaterThan(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@code double} is greater than a supplied base value. Returns the given {@code
+   * double} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static double requireGreaterThan(
+      double baseValue,
+      double value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isGreaterThan(baseValue, value)
+        ? value
+        : requireGreaterThan(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is greater than a supplied base value. Returns the given
+   * {@code BigDecimal} if it is greater than the given base value, otherwise, an {@code
    * IllegalArgumentException} is thrown.
    *
    * @param baseValue the value to compare for greatness against.
@@ -1023,7 +2588,7 @@ public final class ObjectUtils {
    */
   @SideEffectFree
   public static BigDecimal requireGreaterThan(BigDecimal baseValue, BigDecimal value) {
-    return requireGreaterThan(baseValue, value, null);
+    return requireGreaterThan(baseValue, value, (String) null);
   }
 
   /**
@@ -1043,14 +2608,326 @@ public final class ObjectUtils {
   public static BigDecimal requireGreaterThan(
       BigDecimal baseValue, BigDecimal value, @Nullable String message) {
     if (!isGreaterThan(baseValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message)
-              ? message
-              : String.format("value(%s) should be greater than %s.", value, baseValue)));
+      throw new ValidationException(Check.GREATER_THAN, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is greater than a supplied base value. Returns the given
+   * {@code BigDecimal} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireGreaterThan(
+      BigDecimal baseValue, BigDecimal value, @Nullable Supplier<String> messageSupplier) {
+    return isGreaterThan(baseValue, value)
+        ? value
+        : requireGreaterThan(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is greater than a supplied base value. Returns the given
+   * {@code BigDecimal} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static BigDecimal requireGreaterThan(
+      BigDecimal baseValue,
+      BigDecimal value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isGreaterThan(baseValue, value)
+        ? value
+        : requireGreaterThan(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@link BigInteger} is greater than a supplied base value. Returns the given
+   * {@code BigInteger} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static BigInteger requireGreaterThan(BigInteger baseValue, BigInteger value) {
+    return requireGreaterThan(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@link BigInteger} is greater than a supplied base value. Returns the given
+   * {@code BigInteger} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static BigInteger requireGreaterThan(
+      BigInteger baseValue, BigInteger value, @Nullable String message) {
+    if (!isGreaterThan(baseValue, value)) {
+      throw new ValidationException(Check.GREATER_THAN, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@link BigInteger} is greater than a supplied base value. Returns the given
+   * {@code BigInteger} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static BigInteger requireGreaterThan(
+      BigInteger baseValue, BigInteger value, @Nullable Supplier<String> messageSupplier) {
+    return isGreaterThan(baseValue, value)
+        ? value
+        : requireGreaterThan(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@link BigInteger} is greater than a supplied base value. Returns the given
+   * {@code BigInteger} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static BigInteger requireGreaterThan(
+      BigInteger baseValue,
+      BigInteger value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isGreaterThan(baseValue, value)
+        ? value
+        : requireGreaterThan(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is greater than a supplied {@code long} base value. Returns
+   * the given {@code BigDecimal} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The values are compared exactly, see {@link
+   * #isGreaterThan(long, BigDecimal)}.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireGreaterThan(long baseValue, BigDecimal value) {
+    return requireGreaterThan(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is greater than a supplied {@code long} base value. Returns
+   * the given {@code BigDecimal} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The values are compared exactly, see {@link
+   * #isGreaterThan(long, BigDecimal)}.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireGreaterThan(
+      long baseValue, BigDecimal value, @Nullable String message) {
+    if (!isGreaterThan(baseValue, value)) {
+      throw new ValidationException(Check.GREATER_THAN, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is greater than a supplied {@code long} base value. Returns
+   * the given {@code BigDecimal} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The values are compared exactly, see {@link
+   * #isGreaterThan(long, BigDecimal)}. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireGreaterThan(
+      long baseValue, BigDecimal value, @Nullable Supplier<String> messageSupplier) {
+    return isGreaterThan(baseValue, value)
+        ? value
+        : requireGreaterThan(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is greater than a supplied {@code long} base value. Returns
+   * the given {@code BigDecimal} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The values are compared exactly, see {@link
+   * #isGreaterThan(long, BigDecimal)}. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireGreaterThan(
+      long baseValue,
+      BigDecimal value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isGreaterThan(baseValue, value)
+        ? value
+        : requireGreaterThan(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is greater than a supplied {@code double} base value.
+   * Returns the given {@code BigDecimal} if it is greater than the given base value, otherwise, an
+   * {@code IllegalArgumentException} is thrown. The values are compared exactly, see {@link
+   * #isGreaterThan(double, BigDecimal)}.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireGreaterThan(double baseValue, BigDecimal value) {
+    return requireGreaterThan(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is greater than a supplied {@code double} base value.
+   * Returns the given {@code BigDecimal} if it is greater than the given base value, otherwise, an
+   * {@code IllegalArgumentException} is thrown. The values are compared exactly, see {@link
+   * #isGreaterThan(double, BigDecimal)}.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireGreaterThan(
+      double baseValue, BigDecimal value, @Nullable String message) {
+    if (!isGreaterThan(baseValue, value)) {
+      throw new ValidationException(Check.GREATER_THAN, value, baseValue, message);
     }
     return value;
   }
 
+  /**
+   * Validates that a {@link BigDecimal} is greater than a supplied {@code double} base value.
+   * Returns the given {@code BigDecimal} if it is greater than the given base value, otherwise, an
+   * {@code IllegalArgumentException} is thrown. The values are compared exactly, see {@link
+   * #isGreaterThan(double, BigDecimal)}. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireGreaterThan(
+      double baseValue, BigDecimal value, @Nullable Supplier<String> messageSupplier) {
+    return isGreaterThan(baseValue, value)
+        ? value
+        : requireGreaterThan(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is greater than a supplied {@code double} base value.
+   * Returns the given {@code BigDecimal} if it is greater than the given base value, otherwise, an
+   * {@code IllegalArgumentException} is thrown. The values are compared exactly, see {@link
+   * #isGreaterThan(double, BigDecimal)}. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireGreaterThan(
+      double baseValue,
+      BigDecimal value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isGreaterThan(baseValue, value)
+        ? value
+        : requireGreaterThan(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
   // ========================================================================
   // REQUIRE GREATER THAN OR EQUAL TO VALIDATORS
   // ========================================================================
@@ -1068,7 +2945,7 @@ public final class ObjectUtils {
    */
   @SideEffectFree
   public static int requireGreaterThanOrEqualTo(int baseValue, int value) {
-    return requireGreaterThanOrEqualTo(baseValue, value, null);
+    return requireGreaterThanOrEqualTo(baseValue, value, (String) null);
   }
 
   /**
@@ -1087,14 +2964,55 @@ public final class ObjectUtils {
   public static int requireGreaterThanOrEqualTo(
       int baseValue, int value, @Nullable String message) {
     if (!isGreaterThanOrEqualTo(baseValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message)
-              ? message
-              : String.format("value(%d) should be greater than or equal %d.", value, baseValue)));
+      throw new ValidationException(Check.GREATER_THAN_OR_EQUAL_TO, value, baseValue, message);
     }
     return value;
   }
 
+  /**
+   * Validates that an {@code int} is greater than or equal to a supplied base value. Returns the
+   * given {@code int} if it is greater than or equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @since 3.0.0
+   */
+  public static int requireGreaterThanOrEqualTo(
+      int baseValue, int value, @Nullable Supplier<String> messageSupplier) {
+    return isGreaterThanOrEqualTo(baseValue, value)
+        ? value
+        : requireGreaterThanOrEqualTo(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that an {@code int} is greater than or equal to a supplied base value. Returns the
+   * given {@code int} if it is greater than or equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireGreaterThanOrEqualTo(
+      int baseValue, int value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return isGreaterThanOrEqualTo(baseValue, value)
+        ? value
+        : requireGreaterThanOrEqualTo(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
   /**
    * Validates that a {@code long} is greater than or equal to a supplied base value. Returns the
    * given {@code long} if it is greater than or equal to the given base value, otherwise, an {@code
@@ -1108,7 +3026,7 @@ public final class ObjectUtils {
    */
   @SideEffectFree
   public static long requireGreaterThanOrEqualTo(long baseValue, long value) {
-    return requireGreaterThanOrEqualTo(baseValue, value, null);
+    return requireGreaterThanOrEqualTo(baseValue, value, (String) null);
   }
 
   /**
@@ -1127,57 +3045,58 @@ public final class ObjectUtils {
   public static long requireGreaterThanOrEqualTo(
       long baseValue, long value, @Nullable String message) {
     if (!isGreaterThanOrEqualTo(baseValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message)
-              ? message
-              : String.format("value(%d) should be greater than or equal %d.", value, baseValue)));
+      throw new ValidationException(Check.GREATER_THAN_OR_EQUAL_TO, value, baseValue, message);
     }
     return value;
   }
 
   /**
-   * Validates that a {@code float} is greater than or equal to a supplied base value. Returns the
-   * given {@code float} if it is greater than or equal to the given base value, otherwise, an
-   * {@code IllegalArgumentException} is thrown.
+   * Validates that a {@code long} is greater than or equal to a supplied base value. Returns the
+   * given {@code long} if it is greater than or equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
    *
    * @param baseValue the value to compare for greatness or equality against.
    * @param value the value to check for greatness or equality.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
    * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
    * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
-   * @since 1.1.0
+   * @since 3.0.0
    */
-  @SideEffectFree
-  public static float requireGreaterThanOrEqualTo(float baseValue, float value) {
-    return requireGreaterThanOrEqualTo(baseValue, value, null);
+  public static long requireGreaterThanOrEqualTo(
+      long baseValue, long value, @Nullable Supplier<String> messageSupplier) {
+    return isGreaterThanOrEqualTo(baseValue, value)
+        ? value
+        : requireGreaterThanOrEqualTo(baseValue, value, supplyMessage(messageSupplier));
   }
 
   /**
-   * Validates that a {@code float} is greater than or equal to a supplied base value. Returns the
-   * given {@code float} if it is greater than or equal to the given base value, otherwise, an
-   * {@code IllegalArgumentException} is thrown.
+   * Validates that a {@code long} is greater than or equal to a supplied base value. Returns the
+   * given {@code long} if it is greater than or equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only formatted if the validation
+   * fails.
    *
    * @param baseValue the value to compare for greatness or equality against.
    * @param value the value to check for greatness or equality.
-   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
    * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
    * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
-   * @since 1.1.0
+   * @since 3.0.0
    */
   @SideEffectFree
-  public static float requireGreaterThanOrEqualTo(
-      float baseValue, float value, @Nullable String message) {
-    if (!isGreaterThanOrEqualTo(baseValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message)
-              ? message
-              : String.format("value(%f) should be greater than or equal %f.", value, baseValue)));
-    }
-    return value;
+  public static long requireGreaterThanOrEqualTo(
+      long baseValue, long value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return isGreaterThanOrEqualTo(baseValue, value)
+        ? value
+        : requireGreaterThanOrEqualTo(baseValue, value, formatMessage(messageFormat, messageArgs));
   }
 
   /**
-   * Validates that a {@code double} is greater than or equal to a supplied base value. Returns the
-   * given {@code double} if it is greater than or equal to the given base value, otherwise, an
+   * Validates that a {@code float} is greater than or equal to a supplied base value. Returns the
+   * given {@code float} if it is greater than or equal to the given base value, otherwise, an
    * {@code IllegalArgumentException} is thrown.
    *
    * @param baseValue the value to compare for greatness or equality against.
@@ -1187,13 +3106,13 @@ public final class ObjectUtils {
    * @since 1.1.0
    */
   @SideEffectFree
-  public static double requireGreaterThanOrEqualTo(double baseValue, double value) {
-    return requireGreaterThanOrEqualTo(baseValue, value, null);
+  public static float requireGreaterThanOrEqualTo(float baseValue, float value) {
+    return requireGreaterThanOrEqualTo(baseValue, value, (String) null);
   }
 
   /**
-   * Validates that a {@code double} is greater than or equal to a supplied base value. Returns the
-   * given {@code double} if it is greater than or equal to the given base value, otherwise, an
+   * Validates that a {@code float} is greater than or equal to a supplied base value. Returns the
+   * given {@code float} if it is greater than or equal to the given base value, otherwise, an
    * {@code IllegalArgumentException} is thrown.
    *
    * @param baseValue the value to compare for greatness or equality against.
@@ -1204,19 +3123,147 @@ public final class ObjectUtils {
    * @since 1.1.0
    */
   @SideEffectFree
-  public static double requireGreaterThanOrEqualTo(
-      double baseValue, double value, @Nullable String message) {
+  public static float requireGreaterThanOrEqualTo(
+      float baseValue, float value, @Nullable String message) {
     if (!isGreaterThanOrEqualTo(baseValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message)
-              ? message
-              : String.format("value(%f) should be greater than or equal %f.", value, baseValue)));
+      throw new ValidationException(Check.GREATER_THAN_OR_EQUAL_TO, value, baseValue, message);
     }
     return value;
   }
 
   /**
-   * Validates that a {@link BigDecimal} is greater than or equal to a supplied base value. Returns
+   * Validates that a {@code float} is greater than or equal to a supplied base value. Returns the
+   * given {@code float} if it is greater than or equal to the given base value, otherwise, an
+   * {@code IllegalArgumentException} is thrown. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @since 3.0.0
+   */
+  public static float requireGreaterThanOrEqualTo(
+      float baseValue, float value, @Nullable Supplier<String> messageSupplier) {
+    return isGreaterThanOrEqualTo(baseValue, value)
+        ? value
+        : requireGreaterThanOrEqualTo(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@code float} is greater than or equal to a supplied base value. Returns the
+   * given {@code float} if it is greater than or equal to the given base value, otherwise, an
+   * {@code IllegalArgumentException} is thrown. The exception message is only formatted if the
+   * validation fails.
+   *
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static float requireGreaterThanOrEqualTo(
+      float baseValue,
+      float value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isGreaterThanOrEqualTo(baseValue, value)
+        ? value
+        : requireGreaterThanOrEqualTo(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@code double} is greater than or equal to a supplied base value. Returns the
+   * given {@code double} if it is greater than or equal to the given base value, otherwise, an
+   * {@code IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @since 1.1.0
+   */
+  @SideEffectFree
+  public static double requireGreaterThanOrEqualTo(double baseValue, double value) {
+    return requireGreaterThanOrEqualTo(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@code double} is greater than or equal to a supplied base value. Returns the
+   * given {@code double} if it is greater than or equal to the given base value, otherwise, an
+   * {@code IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @since 1.1.0
+   */
+  @SideEffectFree
+  public static double requireGreaterThanOrEqualTo(
+      double baseValue, double value, @Nullable String message) {
+    if (!isGreaterThanOrEqualTo(baseValue, value)) {
+      throw new ValidationException(Check.GREATER_THAN_OR_EQUAL_TO, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@code double} is greater than or equal to a supplied base value. Returns the
+   * given {@code double} if it is greater than or equal to the given base value, otherwise, an
+   * {@code IllegalArgumentException} is thrown. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @since 3.0.0
+   */
+  public static double requireGreaterThanOrEqualTo(
+      double baseValue, double value, @Nullable Supplier<String> messageSupplier) {
+    return isGreaterThanOrEqualTo(baseValue, value)
+        ? value
+        : requireGreaterThanOrEqualTo(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@code double} is greater than or equal to a supplied base value. Returns the
+   * given {@code double} if it is greater than or equal to the given base value, otherwise, an
+   * {@code IllegalArgumentException} is thrown. The exception message is only formatted if the
+   * validation fails.
+   *
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static double requireGreaterThanOrEqualTo(
+      double baseValue,
+      double value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isGreaterThanOrEqualTo(baseValue, value)
+        ? value
+        : requireGreaterThanOrEqualTo(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is greater than or equal to a supplied base value. Returns
    * the given {@code BigDecimal} if it is greater than or equal to the given base value, otherwise,
    * an {@code IllegalArgumentException} is thrown.
    *
@@ -1229,7 +3276,7 @@ public final class ObjectUtils {
    */
   @SideEffectFree
   public static BigDecimal requireGreaterThanOrEqualTo(BigDecimal baseValue, BigDecimal value) {
-    return requireGreaterThanOrEqualTo(baseValue, value, null);
+    return requireGreaterThanOrEqualTo(baseValue, value, (String) null);
   }
 
   /**
@@ -1249,14 +3296,334 @@ public final class ObjectUtils {
   public static BigDecimal requireGreaterThanOrEqualTo(
       BigDecimal baseValue, BigDecimal value, @Nullable String message) {
     if (!isGreaterThanOrEqualTo(baseValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message)
-              ? message
-              : String.format("value(%s) should be greater than or equal %s.", value, baseValue)));
+      throw new ValidationException(Check.GREATER_THAN_OR_EQUAL_TO, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is greater than or equal to a supplied base value. Returns
+   * the given {@code BigDecimal} if it is greater than or equal to the given base value, otherwise,
+   * an {@code IllegalArgumentException} is thrown. The exception message is only retrieved from
+   * {@code messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireGreaterThanOrEqualTo(
+      BigDecimal baseValue, BigDecimal value, @Nullable Supplier<String> messageSupplier) {
+    return isGreaterThanOrEqualTo(baseValue, value)
+        ? value
+        : requireGreaterThanOrEqualTo(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is greater than or equal to a supplied base value. Returns
+   * the given {@code BigDecimal} if it is greater than or equal to the given base value, otherwise,
+   * an {@code IllegalArgumentException} is thrown. The exception message is only formatted if the
+   * validation fails.
+   *
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static BigDecimal requireGreaterThanOrEqualTo(
+      BigDecimal baseValue,
+      BigDecimal value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isGreaterThanOrEqualTo(baseValue, value)
+        ? value
+        : requireGreaterThanOrEqualTo(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@link BigInteger} is greater than or equal to a supplied base value. Returns
+   * the given {@code BigInteger} if it is greater than or equal to the given base value, otherwise,
+   * an {@code IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static BigInteger requireGreaterThanOrEqualTo(BigInteger baseValue, BigInteger value) {
+    return requireGreaterThanOrEqualTo(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@link BigInteger} is greater than or equal to a supplied base value. Returns
+   * the given {@code BigInteger} if it is greater than or equal to the given base value, otherwise,
+   * an {@code IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static BigInteger requireGreaterThanOrEqualTo(
+      BigInteger baseValue, BigInteger value, @Nullable String message) {
+    if (!isGreaterThanOrEqualTo(baseValue, value)) {
+      throw new ValidationException(Check.GREATER_THAN_OR_EQUAL_TO, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@link BigInteger} is greater than or equal to a supplied base value. Returns
+   * the given {@code BigInteger} if it is greater than or equal to the given base value, otherwise,
+   * an {@code IllegalArgumentException} is thrown. The exception message is only retrieved from
+   * {@code messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static BigInteger requireGreaterThanOrEqualTo(
+      BigInteger baseValue, BigInteger value, @Nullable Supplier<String> messageSupplier) {
+    return isGreaterThanOrEqualTo(baseValue, value)
+        ? value
+        : requireGreaterThanOrEqualTo(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@link BigInteger} is greater than or equal to a supplied base value. Returns
+   * the given {@code BigInteger} if it is greater than or equal to the given base value, otherwise,
+   * an {@code IllegalArgumentException} is thrown. The exception message is only formatted if the
+   * validation fails.
+   *
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static BigInteger requireGreaterThanOrEqualTo(
+      BigInteger baseValue,
+      BigInteger value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isGreaterThanOrEqualTo(baseValue, value)
+        ? value
+        : requireGreaterThanOrEqualTo(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is greater than or equal to a supplied {@code long} base
+   * value. Returns the given {@code BigDecimal} if it is greater than or equal to the given base
+   * value, otherwise, an {@code IllegalArgumentException} is thrown. The values are compared
+   * exactly, see {@link #isGreaterThanOrEqualTo(long, BigDecimal)}.
+   *
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than or equal to {@code
+   *     baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireGreaterThanOrEqualTo(long baseValue, BigDecimal value) {
+    return requireGreaterThanOrEqualTo(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is greater than or equal to a supplied {@code long} base
+   * value. Returns the given {@code BigDecimal} if it is greater than or equal to the given base
+   * value, otherwise, an {@code IllegalArgumentException} is thrown. The values are compared
+   * exactly, see {@link #isGreaterThanOrEqualTo(long, BigDecimal)}.
+   *
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than or equal to {@code
+   *     baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireGreaterThanOrEqualTo(
+      long baseValue, BigDecimal value, @Nullable String message) {
+    if (!isGreaterThanOrEqualTo(baseValue, value)) {
+      throw new ValidationException(Check.GREATER_THAN_OR_EQUAL_TO, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is greater than or equal to a supplied {@code long} base
+   * value. Returns the given {@code BigDecimal} if it is greater than or equal to the given base
+   * value, otherwise, an {@code IllegalArgumentException} is thrown. The values are compared
+   * exactly, see {@link #isGreaterThanOrEqualTo(long, BigDecimal)}. The exception message is only
+   * retrieved from {@code messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than or equal to {@code
+   *     baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireGreaterThanOrEqualTo(
+      long baseValue, BigDecimal value, @Nullable Supplier<String> messageSupplier) {
+    return isGreaterThanOrEqualTo(baseValue, value)
+        ? value
+        : requireGreaterThanOrEqualTo(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is greater than or equal to a supplied {@code long} base
+   * value. Returns the given {@code BigDecimal} if it is greater than or equal to the given base
+   * value, otherwise, an {@code IllegalArgumentException} is thrown. The values are compared
+   * exactly, see {@link #isGreaterThanOrEqualTo(long, BigDecimal)}. The exception message is only
+   * formatted if the validation fails.
+   *
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than or equal to {@code
+   *     baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireGreaterThanOrEqualTo(
+      long baseValue,
+      BigDecimal value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isGreaterThanOrEqualTo(baseValue, value)
+        ? value
+        : requireGreaterThanOrEqualTo(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is greater than or equal to a supplied {@code double} base
+   * value. Returns the given {@code BigDecimal} if it is greater than or equal to the given base
+   * value, otherwise, an {@code IllegalArgumentException} is thrown. The values are compared
+   * exactly, see {@link #isGreaterThanOrEqualTo(double, BigDecimal)}.
+   *
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than or equal to {@code
+   *     baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireGreaterThanOrEqualTo(double baseValue, BigDecimal value) {
+    return requireGreaterThanOrEqualTo(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is greater than or equal to a supplied {@code double} base
+   * value. Returns the given {@code BigDecimal} if it is greater than or equal to the given base
+   * value, otherwise, an {@code IllegalArgumentException} is thrown. The values are compared
+   * exactly, see {@link #isGreaterThanOrEqualTo(double, BigDecimal)}.
+   *
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than or equal to {@code
+   *     baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireGreaterThanOrEqualTo(
+      double baseValue, BigDecimal value, @Nullable String message) {
+    if (!isGreaterThanOrEqualTo(baseValue, value)) {
+      throw new ValidationException(Check.GREATER_THAN_OR_EQUAL_TO, value, baseValue, message);
     }
     return value;
   }
 
+  /**
+   * Validates that a {@link BigDecimal} is greater than or equal to a supplied {@code double} base
+   * value. Returns the given {@code BigDecimal} if it is greater than or equal to the given base
+   * value, otherwise, an {@code IllegalArgumentException} is thrown. The values are compared
+   * exactly, see {@link #isGreaterThanOrEqualTo(double, BigDecimal)}. The exception message is only
+   * retrieved from {@code messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than or equal to {@code
+   *     baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireGreaterThanOrEqualTo(
+      double baseValue, BigDecimal value, @Nullable Supplier<String> messageSupplier) {
+    return isGreaterThanOrEqualTo(baseValue, value)
+        ? value
+        : requireGreaterThanOrEqualTo(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is greater than or equal to a supplied {@code double} base
+   * value. Returns the given {@code BigDecimal} if it is greater than or equal to the given base
+   * value, otherwise, an {@code IllegalArgumentException} is thrown. The values are compared
+   * exactly, see {@link #isGreaterThanOrEqualTo(double, BigDecimal)}. The exception message is only
+   * formatted if the validation fails.
+   *
+   * @param baseValue the value to compare for greatness or equality against.
+   * @param value the value to check for greatness or equality.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than or equal to {@code
+   *     baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireGreaterThanOrEqualTo(
+      double baseValue,
+      BigDecimal value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isGreaterThanOrEqualTo(baseValue, value)
+        ? value
+        : requireGreaterThanOrEqualTo(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
   // ========================================================================
   // REQUIRE IN RANGE VALIDATORS
   // ========================================================================
@@ -1278,7 +3645,7 @@ public final class ObjectUtils {
    */
   @SideEffectFree
   public static int requireInRange(int minValue, int maxValue, int value) {
-    return requireInRange(minValue, maxValue, value, null);
+    return requireInRange(minValue, maxValue, value, (String) null);
   }
 
   /**
@@ -1302,34 +3669,88 @@ public final class ObjectUtils {
   public static int requireInRange(
       int minValue, int maxValue, int value, @Nullable String message) {
     if (!inRange(minValue, maxValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message))
-              ? message
-              : String.format(
-                  "value(%d) should be more than or equal to %d and less than %d.",
-                  value, minValue, maxValue));
+      throw new ValidationException(Check.IN_RANGE, value, minValue, maxValue, message);
     }
     return value;
   }
 
   /**
-   * Validates that the specified {@code long} is in range of the specified minimum value
+   * Validates that the specified {@code int} is in range of the specified minimum value
    * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
    * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
    * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
    * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
-   * the maximum value is less than the minimum value.
+   * the maximum value is less than the minimum value. An optional message can also be given to be
+   * used as the exception message. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
    *
    * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
    * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
-   * @param value the {@code long} to check.
+   * @param value the {@code int} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @since 3.0.0
+   */
+  public static int requireInRange(
+      int minValue, int maxValue, int value, @Nullable Supplier<String> messageSupplier) {
+    return inRange(minValue, maxValue, value)
+        ? value
+        : requireInRange(minValue, maxValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the specified {@code int} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value. An optional message can also be given to be
+   * used as the exception message. The exception message is only formatted if the validation fails.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code int} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireInRange(
+      int minValue,
+      int maxValue,
+      int value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return inRange(minValue, maxValue, value)
+        ? value
+        : requireInRange(minValue, maxValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that the specified {@code long} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code long} to check.
    * @return {@code value} if it is in the specified range.
    * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
    *     maxValue} is less than {@code minValue}.
    */
   @SideEffectFree
   public static long requireInRange(long minValue, long maxValue, long value) {
-    return requireInRange(minValue, maxValue, value, null);
+    return requireInRange(minValue, maxValue, value, (String) null);
   }
 
   /**
@@ -1353,16 +3774,70 @@ public final class ObjectUtils {
   public static long requireInRange(
       long minValue, long maxValue, long value, @Nullable String message) {
     if (!inRange(minValue, maxValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message))
-              ? message
-              : String.format(
-                  "value(%d) should be more than or equal to %d and less than %d.",
-                  value, minValue, maxValue));
+      throw new ValidationException(Check.IN_RANGE, value, minValue, maxValue, message);
     }
     return value;
   }
 
+  /**
+   * Validates that the specified {@code long} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value. An optional message can also be given to be
+   * used as the exception message. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code long} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @since 3.0.0
+   */
+  public static long requireInRange(
+      long minValue, long maxValue, long value, @Nullable Supplier<String> messageSupplier) {
+    return inRange(minValue, maxValue, value)
+        ? value
+        : requireInRange(minValue, maxValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the specified {@code long} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value. An optional message can also be given to be
+   * used as the exception message. The exception message is only formatted if the validation fails.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code long} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static long requireInRange(
+      long minValue,
+      long maxValue,
+      long value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return inRange(minValue, maxValue, value)
+        ? value
+        : requireInRange(minValue, maxValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
   /**
    * Validates that the specified {@code float} is in range of the specified minimum value
    * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
@@ -1380,7 +3855,7 @@ public final class ObjectUtils {
    */
   @SideEffectFree
   public static float requireInRange(float minValue, float maxValue, float value) {
-    return requireInRange(minValue, maxValue, value, null);
+    return requireInRange(minValue, maxValue, value, (String) null);
   }
 
   /**
@@ -1404,16 +3879,70 @@ public final class ObjectUtils {
   public static float requireInRange(
       float minValue, float maxValue, float value, @Nullable String message) {
     if (!inRange(minValue, maxValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message))
-              ? message
-              : String.format(
-                  "value(%f) should be more than or equal to %f and less than %f.",
-                  value, minValue, maxValue));
+      throw new ValidationException(Check.IN_RANGE, value, minValue, maxValue, message);
     }
     return value;
   }
 
+  /**
+   * Validates that the specified {@code float} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value. An optional message can also be given to be
+   * used as the exception message. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code float} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @since 3.0.0
+   */
+  public static float requireInRange(
+      float minValue, float maxValue, float value, @Nullable Supplier<String> messageSupplier) {
+    return inRange(minValue, maxValue, value)
+        ? value
+        : requireInRange(minValue, maxValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the specified {@code float} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value. An optional message can also be given to be
+   * used as the exception message. The exception message is only formatted if the validation fails.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code float} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static float requireInRange(
+      float minValue,
+      float maxValue,
+      float value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return inRange(minValue, maxValue, value)
+        ? value
+        : requireInRange(minValue, maxValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
   /**
    * Validates that the specified {@code double} is in range of the specified minimum value
    * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
@@ -1431,7 +3960,7 @@ public final class ObjectUtils {
    */
   @SideEffectFree
   public static double requireInRange(double minValue, double maxValue, double value) {
-    return requireInRange(minValue, maxValue, value, null);
+    return requireInRange(minValue, maxValue, value, (String) null);
   }
 
   /**
@@ -1455,16 +3984,70 @@ public final class ObjectUtils {
   public static double requireInRange(
       double minValue, double maxValue, double value, @Nullable String message) {
     if (!inRange(minValue, maxValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message))
-              ? message
-              : String.format(
-                  "value(%f) should be more than or equal to %f and less than %f.",
-                  value, minValue, maxValue));
+      throw new ValidationException(Check.IN_RANGE, value, minValue, maxValue, message);
     }
     return value;
   }
 
+  /**
+   * Validates that the specified {@code double} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value. An optional message can also be given to be
+   * used as the exception message. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code double} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @since 3.0.0
+   */
+  public static double requireInRange(
+      double minValue, double maxValue, double value, @Nullable Supplier<String> messageSupplier) {
+    return inRange(minValue, maxValue, value)
+        ? value
+        : requireInRange(minValue, maxValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the specified {@code double} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value. An optional message can also be given to be
+   * used as the exception message. The exception message is only formatted if the validation fails.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code double} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static double requireInRange(
+      double minValue,
+      double maxValue,
+      double value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return inRange(minValue, maxValue, value)
+        ? value
+        : requireInRange(minValue, maxValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
   /**
    * Validates that the specified {@link BigDecimal} is in range of the specified minimum value
    * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
@@ -1485,7 +4068,7 @@ public final class ObjectUtils {
   @SideEffectFree
   public static BigDecimal requireInRange(
       BigDecimal minValue, BigDecimal maxValue, BigDecimal value) {
-    return requireInRange(minValue, maxValue, value, null);
+    return requireInRange(minValue, maxValue, value, (String) null);
   }
 
   /**
@@ -1511,989 +4094,8651 @@ public final class ObjectUtils {
   public static BigDecimal requireInRange(
       BigDecimal minValue, BigDecimal maxValue, BigDecimal value, @Nullable String message) {
     if (!inRange(minValue, maxValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message))
-              ? message
-              : String.format(
-                  "value(%s) should be more than or equal to %s and less than %s.",
-                  value, minValue, maxValue));
+      throw new ValidationException(Check.IN_RANGE, value, minValue, maxValue, message);
     }
     return value;
   }
 
-  // ========================================================================
-  // REQUIRE NON NEGATIVE VALIDATORS
-  // ========================================================================
-
   /**
-   * Validates that the specified {@code int} is not negative, i.e. less than zero. If {@code value}
-   * is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
-   * returned.
+   * Validates that the specified {@link BigDecimal} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value. An optional message can also be given to be
+   * used as the exception message. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
    *
-   * @param value the {@code int} to check.
-   * @return {@code value} if it is <i><strong>NOT</strong></i> negative.
-   * @throws IllegalArgumentException if {@code value} is negative.
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code BigDecimal} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @throws NullPointerException if any of the first three arguments is/are {@code null}.
+   * @see BigDecimal
+   * @since 3.0.0
    */
-  @Pure
-  public static @NonNegative int requireNonNegative(@NonNegative int value) {
-    return requireNonNegative(value, null);
+  public static BigDecimal requireInRange(
+      BigDecimal minValue,
+      BigDecimal maxValue,
+      BigDecimal value,
+      @Nullable Supplier<String> messageSupplier) {
+    return inRange(minValue, maxValue, value)
+        ? value
+        : requireInRange(minValue, maxValue, value, supplyMessage(messageSupplier));
   }
 
   /**
-   * Validates that the specified {@code int} is not negative, i.e. less than zero. If {@code value}
-   * is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
-   * returned. An optional message can also be passed to be used as the {@code
-   * IllegalArgumentException} message.
+   * Validates that the specified {@link BigDecimal} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value. An optional message can also be given to be
+   * used as the exception message. The exception message is only formatted if the validation fails.
    *
-   * @param value the {@code int} to check.
-   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
-   * @return {@code value} if it is <i><strong>NOT</strong></i> negative.
-   * @throws IllegalArgumentException if {@code value} is negative
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code BigDecimal} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @throws NullPointerException if any of the first three arguments is/are {@code null}.
+   * @see BigDecimal
+   * @since 3.0.0
    */
-  @Pure
-  public static @NonNegative int requireNonNegative(
-      @NonNegative int value, @Nullable String message) {
-    if (isNegative(value)) {
-      throw new IllegalArgumentException(isNull(message) ? "value cannot be negative." : message);
-    }
-    return value;
+  @SideEffectFree
+  public static BigDecimal requireInRange(
+      BigDecimal minValue,
+      BigDecimal maxValue,
+      BigDecimal value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return inRange(minValue, maxValue, value)
+        ? value
+        : requireInRange(minValue, maxValue, value, formatMessage(messageFormat, messageArgs));
   }
 
   /**
-   * Validates that the specified {@code long} is not negative, i.e. less than zero. If {@code
-   * value} is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
-   * returned.
+   * Validates that the specified {@link BigInteger} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value.
    *
-   * @param value the {@code long} to check.
-   * @return {@code value} if it is <i><strong>NOT</strong></i> negative.
-   * @throws IllegalArgumentException if {@code value} is negative.
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code BigInteger} to check.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @throws NullPointerException if any of the arguments is/are {@code null}.
+   * @see BigInteger
+   * @since 3.0.0
    */
-  @Pure
-  public static long requireNonNegative(long value) {
-    return requireNonNegative(value, null);
+  @SideEffectFree
+  public static BigInteger requireInRange(
+      BigInteger minValue, BigInteger maxValue, BigInteger value) {
+    return requireInRange(minValue, maxValue, value, (String) null);
   }
 
   /**
-   * Validates that the specified {@code long} is not negative, i.e. less than zero. If {@code
-   * value} is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
-   * returned. An optional message can also be passed to be used as the {@code
-   * IllegalArgumentException} message.
+   * Validates that the specified {@link BigInteger} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value. An optional message can also be given to be
+   * used as the exception message.
    *
-   * @param value the {@code long} to check.
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code BigInteger} to check.
    * @param message an optional message to be used as the {@code IllegalArgumentException} message.
-   * @return {@code value} if it is <i><strong>NOT</strong></i> negative.
-   * @throws IllegalArgumentException if {@code value} is negative
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @throws NullPointerException if any of the first three arguments is/are {@code null}.
+   * @see BigInteger
+   * @since 3.0.0
    */
-  @Pure
-  public static long requireNonNegative(long value, @Nullable String message) {
-    if (isNegative(value)) {
-      throw new IllegalArgumentException(isNull(message) ? "value cannot be negative." : message);
+  @SideEffectFree
+  public static BigInteger requireInRange(
+      BigInteger minValue, BigInteger maxValue, BigInteger value, @Nullable String message) {
+    if (!inRange(minValue, maxValue, value)) {
+      throw new ValidationException(Check.IN_RANGE, value, minValue, maxValue, message);
     }
     return value;
   }
 
   /**
-   * Validates that the specified {@code float} is not negative, i.e. less than zero. If {@code
-   * value} is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
-   * returned.
+   * Validates that the specified {@link BigInteger} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value. An optional message can also be given to be
+   * used as the exception message. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
    *
-   * @param value the {@code float} to check.
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code BigInteger} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @throws NullPointerException if any of the first three arguments is/are {@code null}.
+   * @see BigInteger
+   * @since 3.0.0
+   */
+  public static BigInteger requireInRange(
+      BigInteger minValue,
+      BigInteger maxValue,
+      BigInteger value,
+      @Nullable Supplier<String> messageSupplier) {
+    return inRange(minValue, maxValue, value)
+        ? value
+        : requireInRange(minValue, maxValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the specified {@link BigInteger} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value. An optional message can also be given to be
+   * used as the exception message. The exception message is only formatted if the validation fails.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code BigInteger} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @throws NullPointerException if any of the first three arguments is/are {@code null}.
+   * @see BigInteger
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static BigInteger requireInRange(
+      BigInteger minValue,
+      BigInteger maxValue,
+      BigInteger value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return inRange(minValue, maxValue, value)
+        ? value
+        : requireInRange(minValue, maxValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  // ========================================================================
+  // REQUIRE NON NEGATIVE VALIDATORS
+  // ========================================================================
+
+  /**
+   * Validates that the specified {@code int} is not negative, i.e. less than zero. If {@code value}
+   * is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
+   * returned.
+   *
+   * @param value the {@code int} to check.
    * @return {@code value} if it is <i><strong>NOT</strong></i> negative.
    * @throws IllegalArgumentException if {@code value} is negative.
    */
   @Pure
-  public static float requireNonNegative(float value) {
-    return requireNonNegative(value, null);
+  public static @NonNegative int requireNonNegative(@NonNegative int value) {
+    return requireNonNegative(value, (String) null);
   }
 
   /**
-   * Validates that the specified {@code float} is not negative, i.e. less than zero. If {@code
-   * value} is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
+   * Validates that the specified {@code int} is not negative, i.e. less than zero. If {@code value}
+   * is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
    * returned. An optional message can also be passed to be used as the {@code
    * IllegalArgumentException} message.
    *
-   * @param value the {@code float} to check.
+   * @param value the {@code int} to check.
    * @param message an optional message to be used as the {@code IllegalArgumentException} message.
    * @return {@code value} if it is <i><strong>NOT</strong></i> negative.
    * @throws IllegalArgumentException if {@code value} is negative
    */
   @Pure
-  public static float requireNonNegative(float value, @Nullable String message) {
+  public static @NonNegative int requireNonNegative(
+      @NonNegative int value, @Nullable String message) {
     if (isNegative(value)) {
-      throw new IllegalArgumentException(isNull(message) ? "value cannot be negative." : message);
+      throw new ValidationException(Check.NON_NEGATIVE, value, message);
     }
     return value;
   }
 
   /**
-   * Validates that the specified {@code double} is not negative, i.e. less than zero. If {@code
-   * value} is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
-   * returned.
+   * Validates that the specified {@code int} is not negative, i.e. less than zero. If {@code value}
+   * is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
+   * returned. An optional message can also be passed to be used as the {@code
+   * IllegalArgumentException} message. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
    *
-   * @param value the {@code double} to check.
+   * @param value the {@code int} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
    * @return {@code value} if it is <i><strong>NOT</strong></i> negative.
-   * @throws IllegalArgumentException if {@code value} is negative.
+   * @throws IllegalArgumentException if {@code value} is negative
+   * @since 3.0.0
    */
-  @Pure
-  public static double requireNonNegative(double value) {
-    return requireNonNegative(value, null);
+  public static @NonNegative int requireNonNegative(
+      @NonNegative int value, @Nullable Supplier<String> messageSupplier) {
+    return isNegative(value) ? requireNonNegative(value, supplyMessage(messageSupplier)) : value;
   }
 
   /**
-   * Validates that the specified {@code double} is not negative, i.e. less than zero. If {@code
-   * value} is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
+   * Validates that the specified {@code int} is not negative, i.e. less than zero. If {@code value}
+   * is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
    * returned. An optional message can also be passed to be used as the {@code
-   * IllegalArgumentException} message.
+   * IllegalArgumentException} message. The exception message is only formatted if the validation
+   * fails.
    *
-   * @param value the {@code double} to check.
-   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @param value the {@code int} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
    * @return {@code value} if it is <i><strong>NOT</strong></i> negative.
    * @throws IllegalArgumentException if {@code value} is negative
+   * @since 3.0.0
    */
-  @Pure
-  public static double requireNonNegative(double value, @Nullable String message) {
-    if (isNegative(value)) {
-      throw new IllegalArgumentException(isNull(message) ? "value cannot be negative." : message);
-    }
-    return value;
+  @SideEffectFree
+  public static @NonNegative int requireNonNegative(
+      @NonNegative int value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return isNegative(value)
+        ? requireNonNegative(value, formatMessage(messageFormat, messageArgs))
+        : value;
   }
 
   /**
-   * Validates that the specified {@link BigDecimal} is not negative, i.e. less than zero. If {@code
+   * Validates that the specified {@code long} is not negative, i.e. less than zero. If {@code
    * value} is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
    * returned.
    *
-   * @param value the {@code BigDecimal} to check.
+   * @param value the {@code long} to check.
    * @return {@code value} if it is <i><strong>NOT</strong></i> negative.
    * @throws IllegalArgumentException if {@code value} is negative.
-   * @throws NullPointerException if value is {@code null}.
-   * @see BigDecimal
    */
-  public static BigDecimal requireNonNegative(BigDecimal value) {
-    return requireNonNegative(value, null);
+  @Pure
+  public static long requireNonNegative(long value) {
+    return requireNonNegative(value, (String) null);
   }
 
   /**
-   * Validates that the specified {@link BigDecimal} is not negative, i.e. less than zero. If {@code
+   * Validates that the specified {@code long} is not negative, i.e. less than zero. If {@code
    * value} is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
    * returned. An optional message can also be passed to be used as the {@code
    * IllegalArgumentException} message.
    *
-   * @param value the {@code BigDecimal} to check.
+   * @param value the {@code long} to check.
    * @param message an optional message to be used as the {@code IllegalArgumentException} message.
    * @return {@code value} if it is <i><strong>NOT</strong></i> negative.
    * @throws IllegalArgumentException if {@code value} is negative
-   * @throws NullPointerException if value is {@code null}.
-   * @see BigDecimal
    */
-  public static BigDecimal requireNonNegative(BigDecimal value, @Nullable String message) {
+  @Pure
+  public static long requireNonNegative(long value, @Nullable String message) {
     if (isNegative(value)) {
-      throw new IllegalArgumentException(isNull(message) ? "value cannot be negative." : message);
+      throw new ValidationException(Check.NON_NEGATIVE, value, message);
     }
     return value;
   }
 
-  // ========================================================================
-  // REQUIRE LESS THAN VALIDATORS
-  // ========================================================================
-
   /**
-   * Validates that an {@code int} is less than a supplied base value. Returns the given {@code int}
-   * if it is less than the given base value, otherwise, an {@code IllegalArgumentException} is
-   * thrown.
+   * Validates that the specified {@code long} is not negative, i.e. less than zero. If {@code
+   * value} is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
+   * returned. An optional message can also be passed to be used as the {@code
+   * IllegalArgumentException} message. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
    *
-   * @param baseValue the value to compare for smallness against.
-   * @param value the value to check for smallness.
-   * @return {@code value} if {@code value} is less than {@code baseValue}.
-   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
-   * @since 1.1.0
+   * @param value the {@code long} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is <i><strong>NOT</strong></i> negative.
+   * @throws IllegalArgumentException if {@code value} is negative
+   * @since 3.0.0
    */
-  @SideEffectFree
-  public static int requireLessThan(int baseValue, int value) {
-    return requireLessThan(baseValue, value, null);
+  public static long requireNonNegative(long value, @Nullable Supplier<String> messageSupplier) {
+    return isNegative(value) ? requireNonNegative(value, supplyMessage(messageSupplier)) : value;
   }
 
   /**
-   * Validates that an {@code int} is less than a supplied base value. Returns the given {@code int}
-   * if it is less than the given base value, otherwise, an {@code IllegalArgumentException} is
-   * thrown.
+   * Validates that the specified {@code long} is not negative, i.e. less than zero. If {@code
+   * value} is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
+   * returned. An optional message can also be passed to be used as the {@code
+   * IllegalArgumentException} message. The exception message is only formatted if the validation
+   * fails.
    *
-   * @param baseValue the value to compare for smallness against.
-   * @param value the value to check for smallness.
-   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
-   * @return {@code value} if {@code value} is less than {@code baseValue}.
-   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
-   * @since 1.1.0
+   * @param value the {@code long} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is <i><strong>NOT</strong></i> negative.
+   * @throws IllegalArgumentException if {@code value} is negative
+   * @since 3.0.0
    */
   @SideEffectFree
-  public static int requireLessThan(int baseValue, int value, @Nullable String message) {
-    if (!isLessThan(baseValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message)
-              ? message
-              : String.format("value(%d) should be greater than %d.", value, baseValue)));
-    }
-    return value;
+  public static long requireNonNegative(
+      long value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return isNegative(value)
+        ? requireNonNegative(value, formatMessage(messageFormat, messageArgs))
+        : value;
   }
 
   /**
-   * Validates that a {@code long} is less than a supplied base value. Returns the given {@code
-   * long} if it is less than the given base value, otherwise, an {@code IllegalArgumentException}
-   * is thrown.
+   * Validates that the specified {@code float} is not negative, i.e. less than zero. If {@code
+   * value} is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
+   * returned.
    *
-   * @param baseValue the value to compare for smallness against.
-   * @param value the value to check for smallness.
-   * @return {@code value} if {@code value} is less than {@code baseValue}.
-   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
-   * @since 1.1.0
+   * @param value the {@code float} to check.
+   * @return {@code value} if it is <i><strong>NOT</strong></i> negative.
+   * @throws IllegalArgumentException if {@code value} is negative.
    */
-  @SideEffectFree
-  public static long requireLessThan(long baseValue, long value) {
-    return requireLessThan(baseValue, value, null);
+  @Pure
+  public static float requireNonNegative(float value) {
+    return requireNonNegative(value, (String) null);
   }
 
   /**
-   * Validates that a {@code long} is less than a supplied base value. Returns the given {@code
-   * long} if it is less than the given base value, otherwise, an {@code IllegalArgumentException}
-   * is thrown.
+   * Validates that the specified {@code float} is not negative, i.e. less than zero. If {@code
+   * value} is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
+   * returned. An optional message can also be passed to be used as the {@code
+   * IllegalArgumentException} message.
    *
-   * @param baseValue the value to compare for smallness against.
-   * @param value the value to check for smallness.
+   * @param value the {@code float} to check.
    * @param message an optional message to be used as the {@code IllegalArgumentException} message.
-   * @return {@code value} if {@code value} is less than {@code baseValue}.
-   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
-   * @since 1.1.0
+   * @return {@code value} if it is <i><strong>NOT</strong></i> negative.
+   * @throws IllegalArgumentException if {@code value} is negative
    */
-  @SideEffectFree
-  public static long requireLessThan(long baseValue, long value, @Nullable String message) {
-    if (!isLessThan(baseValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message)
-              ? message
-              : String.format("value(%d) should be greater than %d.", value, baseValue)));
+  @Pure
+  public static float requireNonNegative(float value, @Nullable String message) {
+    if (isNegative(value)) {
+      throw new ValidationException(Check.NON_NEGATIVE, value, message);
     }
     return value;
   }
 
   /**
-   * Validates that a {@code float} is less than a supplied base value. Returns the given {@code
-   * float} if it is less than the given base value, otherwise, an {@code IllegalArgumentException}
-   * is thrown.
+   * Validates that the specified {@code float} is not negative, i.e. less than zero. If {@code
+   * value} is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
+   * returned. An optional message can also be passed to be used as the {@code
+   * IllegalArgumentException} message. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
    *
-   * @param baseValue the value to compare for smallness against.
-   * @param value the value to check for smallness.
-   * @return {@code value} if {@code value} is less than {@code baseValue}.
-   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
-   * @since 1.1.0
+   * @param value the {@code float} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is <i><strong>NOT</strong></i> negative.
+   * @throws IllegalArgumentException if {@code value} is negative
+   * @since 3.0.0
    */
-  @SideEffectFree
-  public static float requireLessThan(float baseValue, float value) {
-    return requireLessThan(baseValue, value, null);
+  public static float requireNonNegative(float value, @Nullable Supplier<String> messageSupplier) {
+    return isNegative(value) ? requireNonNegative(value, supplyMessage(messageSupplier)) : value;
   }
 
   /**
-   * Validates that a {@code float} is less than a supplied base value. Returns the given {@code
-   * float} if it is less than the given base value, otherwise, an {@code IllegalArgumentException}
-   * is thrown.
+   * Validates that the specified {@code float} is not negative, i.e. less than zero. If {@code
+   * value} is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
+   * returned. An optional message can also be passed to be used as the {@code
+   * IllegalArgumentException} message. The exception message is only formatted if the validation
+   * fails.
    *
-   * @param baseValue the value to compare for smallness against.
-   * @param value the value to check for smallness.
-   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
-   * @return {@code value} if {@code value} is less than {@code baseValue}.
-   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
-   * @since 1.1.0
+   * @param value the {@code float} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is <i><strong>NOT</strong></i> negative.
+   * @throws IllegalArgumentException if {@code value} is negative
+   * @since 3.0.0
    */
   @SideEffectFree
-  public static float requireLessThan(float baseValue, float value, @Nullable String message) {
-    if (!isLessThan(baseValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message)
-              ? message
-              : String.format("value(%f) should be greater than %f.", value, baseValue)));
-    }
-    return value;
+  public static float requireNonNegative(
+      float value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return isNegative(value)
+        ? requireNonNegative(value, formatMessage(messageFormat, messageArgs))
+        : value;
   }
 
   /**
-   * Validates that a {@code double} is less than a supplied base value. Returns the given {@code
-   * long} if it is less than the given base value, otherwise, an {@code IllegalArgumentException}
-   * is thrown.
+   * Validates that the specified {@code double} is not negative, i.e. less than zero. If {@code
+   * value} is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
+   * returned.
    *
-   * @param baseValue the value to compare for smallness against.
-   * @param value the value to check for smallness.
-   * @return {@code value} if {@code value} is less than {@code baseValue}.
-   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
-   * @since 1.1.0
+   * @param value the {@code double} to check.
+   * @return {@code value} if it is <i><strong>NOT</strong></i> negative.
+   * @throws IllegalArgumentException if {@code value} is negative.
    */
-  @SideEffectFree
-  public static double requireLessThan(double baseValue, double value) {
-    return requireLessThan(baseValue, value, null);
+  @Pure
+  public static double requireNonNegative(double value) {
+    return requireNonNegative(value, (String) null);
   }
 
   /**
-   * Validates that a {@code double} is less than a supplied base value. Returns the given {@code
-   * double} if it is less than the given base value, otherwise, an {@code IllegalArgumentException}
-   * is thrown.
+   * Validates that the specified {@code double} is not negative, i.e. less than zero. If {@code
+   * value} is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
+   * returned. An optional message can also be passed to be used as the {@code
+   * IllegalArgumentException} message.
    *
-   * @param baseValue the value to compare for smallness against.
-   * @param value the value to check for smallness.
+   * @param value the {@code double} to check.
    * @param message an optional message to be used as the {@code IllegalArgumentException} message.
-   * @return {@code value} if {@code value} is less than {@code baseValue}.
-   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
-   * @since 1.1.0
+   * @return {@code value} if it is <i><strong>NOT</strong></i> negative.
+   * @throws IllegalArgumentException if {@code value} is negative
    */
-  @SideEffectFree
-  public static double requireLessThan(double baseValue, double value, @Nullable String message) {
-    if (!isLessThan(baseValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message)
-              ? message
-              : String.format("value(%f) should be greater than %f.", value, baseValue)));
+  @Pure
+  public static double requireNonNegative(double value, @Nullable String message) {
+    if (isNegative(value)) {
+      throw new ValidationException(Check.NON_NEGATIVE, value, message);
     }
     return value;
   }
 
   /**
-   * Validates that a {@link BigDecimal} is less than a supplied base value. Returns the given
-   * {@code BigDecimal} if it is less than the given base value, otherwise, an {@code
-   * IllegalArgumentException} is thrown.
+   * Validates that the specified {@code double} is not negative, i.e. less than zero. If {@code
+   * value} is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
+   * returned. An optional message can also be passed to be used as the {@code
+   * IllegalArgumentException} message. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param value the {@code double} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is <i><strong>NOT</strong></i> negative.
+   * @throws IllegalArgumentException if {@code value} is negative
+   * @since 3.0.0
+   */
+  public static double requireNonNegative(
+      double value, @Nullable Supplier<String> messageSupplier) {
+    return isNegative(value) ? requireNonNegative(value, supplyMessage(messageSupplier)) : value;
+  }
+
+  /**
+   * Validates that the specified {@code double} is not negative, i.e. less than zero. If {@code
+   * value} is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
+   * returned. An optional message can also be passed to be used as the {@code
+   * IllegalArgumentException} message. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param value the {@code double} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is <i><strong>NOT</strong></i> negative.
+   * @throws IllegalArgumentException if {@code value} is negative
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static double requireNonNegative(
+      double value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return isNegative(value)
+        ? requireNonNegative(value, formatMessage(messageFormat, messageArgs))
+        : value;
+  }
+
+  /**
+   * Validates that the specified {@link BigDecimal} is not negative, i.e. less than zero. If {@code
+   * value} is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
+   * returned.
+   *
+   * @param value the {@code BigDecimal} to check.
+   * @return {@code value} if it is <i><strong>NOT</strong></i> negative.
+   * @throws IllegalArgumentException if {@code value} is negative.
+   * @throws NullPointerException if value is {@code null}.
+   * @see BigDecimal
+   */
+  public static BigDecimal requireNonNegative(BigDecimal value) {
+    return requireNonNegative(value, (String) null);
+  }
+
+  /**
+   * Validates that the specified {@link BigDecimal} is not negative, i.e. less than zero. If {@code
+   * value} is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
+   * returned. An optional message can also be passed to be used as the {@code
+   * IllegalArgumentException} message.
+   *
+   * @param value the {@code BigDecimal} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if it is <i><strong>NOT</strong></i> negative.
+   * @throws IllegalArgumentException if {@code value} is negative
+   * @throws NullPointerException if value is {@code null}.
+   * @see BigDecimal
+   */
+  public static BigDecimal requireNonNegative(BigDecimal value, @Nullable String message) {
+    if (isNegative(value)) {
+      throw new ValidationException(Check.NON_NEGATIVE, value, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that the specified {@link BigDecimal} is not negative, i.e. less than zero. If {@code
+   * value} is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
+   * returned. An optional message can also be passed to be used as the {@code
+   * IllegalArgumentException} message. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param value the {@code BigDecimal} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is <i><strong>NOT</strong></i> negative.
+   * @throws IllegalArgumentException if {@code value} is negative
+   * @throws NullPointerException if value is {@code null}.
+   * @see BigDecimal
+   * @since 3.0.0
+   */
+  public static BigDecimal requireNonNegative(
+      BigDecimal value, @Nullable Supplier<String> messageSupplier) {
+    return isNegative(value) ? requireNonNegative(value, supplyMessage(messageSupplier)) : value;
+  }
+
+  /**
+   * Validates that the specified {@link BigDecimal} is not negative, i.e. less than zero. If {@code
+   * value} is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
+   * returned. An optional message can also be passed to be used as the {@code
+   * IllegalArgumentException} message. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param value the {@code BigDecimal} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is <i><strong>NOT</strong></i> negative.
+   * @throws IllegalArgumentException if {@code value} is negative
+   * @throws NullPointerException if value is {@code null}.
+   * @see BigDecimal
+   * @since 3.0.0
+   */
+  public static BigDecimal requireNonNegative(
+      BigDecimal value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return isNegative(value)
+        ? requireNonNegative(value, formatMessage(messageFormat, messageArgs))
+        : value;
+  }
+
+  /**
+   * Validates that the specified {@link BigInteger} is not negative, i.e. less than zero. If {@code
+   * value} is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
+   * returned.
+   *
+   * @param value the {@code BigInteger} to check.
+   * @return {@code value} if it is <i><strong>NOT</strong></i> negative.
+   * @throws IllegalArgumentException if {@code value} is negative.
+   * @throws NullPointerException if value is {@code null}.
+   * @see BigInteger
+   * @since 3.0.0
+   */
+  public static BigInteger requireNonNegative(BigInteger value) {
+    return requireNonNegative(value, (String) null);
+  }
+
+  /**
+   * Validates that the specified {@link BigInteger} is not negative, i.e. less than zero. If {@code
+   * value} is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
+   * returned. An optional message can also be passed to be used as the {@code
+   * IllegalArgumentException} message.
+   *
+   * @param value the {@code BigInteger} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if it is <i><strong>NOT</strong></i> negative.
+   * @throws IllegalArgumentException if {@code value} is negative
+   * @throws NullPointerException if value is {@code null}.
+   * @see BigInteger
+   * @since 3.0.0
+   */
+  public static BigInteger requireNonNegative(BigInteger value, @Nullable String message) {
+    if (isNegative(value)) {
+      throw new ValidationException(Check.NON_NEGATIVE, value, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that the specified {@link BigInteger} is not negative, i.e. less than zero. If {@code
+   * value} is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
+   * returned. An optional message can also be passed to be used as the {@code
+   * IllegalArgumentException} message. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param value the {@code BigInteger} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is <i><strong>NOT</strong></i> negative.
+   * @throws IllegalArgumentException if {@code value} is negative
+   * @throws NullPointerException if value is {@code null}.
+   * @see BigInteger
+   * @since 3.0.0
+   */
+  public static BigInteger requireNonNegative(
+      BigInteger value, @Nullable Supplier<String> messageSupplier) {
+    return isNegative(value) ? requireNonNegative(value, supplyMessage(messageSupplier)) : value;
+  }
+
+  /**
+   * Validates that the specified {@link BigInteger} is not negative, i.e. less than zero. If {@code
+   * value} is negative, an {@code IllegalArgumentException} is thrown, otherwise, {@code value} is
+   * returned. An optional message can also be passed to be used as the {@code
+   * IllegalArgumentException} message. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param value the {@code BigInteger} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is <i><strong>NOT</strong></i> negative.
+   * @throws IllegalArgumentException if {@code value} is negative
+   * @throws NullPointerException if value is {@code null}.
+   * @see BigInteger
+   * @since 3.0.0
+   */
+  public static BigInteger requireNonNegative(
+      BigInteger value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return isNegative(value)
+        ? requireNonNegative(value, formatMessage(messageFormat, messageArgs))
+        : value;
+  }
+
+  // ========================================================================
+  // REQUIRE LESS THAN VALIDATORS
+  // ========================================================================
+
+  /**
+   * Validates that an {@code int} is less than a supplied base value. Returns the given {@code int}
+   * if it is less than the given base value, otherwise, an {@code IllegalArgumentException} is
+   * thrown.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 1.1.0
+   */
+  @SideEffectFree
+  public static int requireLessThan(int baseValue, int value) {
+    return requireLessThan(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that an {@code int} is less than a supplied base value. Returns the given {@code int}
+   * if it is less than the given base value, otherwise, an {@code IllegalArgumentException} is
+   * thrown.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 1.1.0
+   */
+  @SideEffectFree
+  public static int requireLessThan(int baseValue, int value, @Nullable String message) {
+    if (!isLessThan(baseValue, value)) {
+      throw new ValidationException(Check.LESS_THAN, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that an {@code int} is less than a supplied base value. Returns the given {@code int}
+   * if it is less than the given base value, otherwise, an {@code IllegalArgumentException} is
+   * thrown. The exception message is only retrieved from {@code messageSupplier} if the validation
+   * fails.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  public static int requireLessThan(
+      int baseValue, int value, @Nullable Supplier<String> messageSupplier) {
+    return isLessThan(baseValue, value)
+        ? value
+        : requireLessThan(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that an {@code int} is less than a supplied base value. Returns the given {@code int}
+   * if it is less than the given base value, otherwise, an {@code IllegalArgumentException} is
+   * thrown. The exception message is only formatted if the validation fails.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireLessThan(
+      int baseValue, int value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return isLessThan(baseValue, value)
+        ? value
+        : requireLessThan(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@code long} is less than a supplied base value. Returns the given {@code
+   * long} if it is less than the given base value, otherwise, an {@code IllegalArgumentException}
+   * is thrown.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 1.1.0
+   */
+  @SideEffectFree
+  public static long requireLessThan(long baseValue, long value) {
+    return requireLessThan(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@code long} is less than a supplied base value. Returns the given {@code
+   * long} if it is less than the given base value, otherwise, an {@code IllegalArgumentException}
+   * is thrown.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 1.1.0
+   */
+  @SideEffectFree
+  public static long requireLessThan(long baseValue, long value, @Nullable String message) {
+    if (!isLessThan(baseValue, value)) {
+      throw new ValidationException(Check.LESS_THAN, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@code long} is less than a supplied base value. Returns the given {@code
+   * long} if it is less than the given base value, otherwise, an {@code IllegalArgumentException}
+   * is thrown. The exception message is only retrieved from {@code messageSupplier} if the
+   * validation fails.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  public static long requireLessThan(
+      long baseValue, long value, @Nullable Supplier<String> messageSupplier) {
+    return isLessThan(baseValue, value)
+        ? value
+        : requireLessThan(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@code long} is less than a supplied base value. Returns the given {@code
+   * long} if it is less than the given base value, otherwise, an {@code IllegalArgumentException}
+   * is thrown. The exception message is only formatted if the validation fails.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static long requireLessThan(
+      long baseValue, long value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return isLessThan(baseValue, value)
+        ? value
+        : requireLessThan(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@code float} is less than a supplied base value. Returns the given {@code
+   * float} if it is less than the given base value, otherwise, an {@code IllegalArgumentException}
+   * is thrown.
    *
    * @param baseValue the value to compare for smallness against.
    * @param value the value to check for smallness.
    * @return {@code value} if {@code value} is less than {@code baseValue}.
    * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
-   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
    * @since 1.1.0
    */
-  @SideEffectFree
-  public static BigDecimal requireLessThan(BigDecimal baseValue, BigDecimal value) {
-    return requireLessThan(baseValue, value, null);
+  @SideEffectFree
+  public static float requireLessThan(float baseValue, float value) {
+    return requireLessThan(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@code float} is less than a supplied base value. Returns the given {@code
+   * float} if it is less than the given base value, otherwise, an {@code IllegalArgumentException}
+   * is thrown.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 1.1.0
+   */
+  @SideEffectFree
+  public static float requireLessThan(float baseValue, float value, @Nullable String message) {
+    if (!isLessThan(baseValue, value)) {
+      throw new ValidationException(Check.LESS_THAN, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@code float} is less than a supplied base value. Returns the given {@code
+   * float} if it is less than the given base value, otherwise, an {@code IllegalArgumentException}
+   * is thrown. The exception message is only retrieved from {@code messageSupplier} if the
+   * validation fails.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  public static float requireLessThan(
+      float baseValue, float value, @Nullable Supplier<String> messageSupplier) {
+    return isLessThan(baseValue, value)
+        ? value
+        : requireLessThan(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@code float} is less than a supplied base value. Returns the given {@code
+   * float} if it is less than the given base value, otherwise, an {@code IllegalArgumentException}
+   * is thrown. The exception message is only formatted if the validation fails.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static float requireLessThan(
+      float baseValue,
+      float value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isLessThan(baseValue, value)
+        ? value
+        : requireLessThan(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@code double} is less than a supplied base value. Returns the given {@code
+   * long} if it is less than the given base value, otherwise, an {@code IllegalArgumentException}
+   * is thrown.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 1.1.0
+   */
+  @SideEffectFree
+  public static double requireLessThan(double baseValue, double value) {
+    return requireLessThan(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@code double} is less than a supplied base value. Returns the given {@code
+   * double} if it is less than the given base value, otherwise, an {@code IllegalArgumentException}
+   * is thrown.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 1.1.0
+   */
+  @SideEffectFree
+  public static double requireLessThan(double baseValue, double value, @Nullable String message) {
+    if (!isLessThan(baseValue, value)) {
+      throw new ValidationException(Check.LESS_THAN, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@code double} is less than a supplied base value. Returns the given {@code
+   * double} if it is less than the given base value, otherwise, an {@code IllegalArgumentException}
+   * is thrown. The exception message is only retrieved from {@code messageSupplier} if the
+   * validation fails.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  public static double requireLessThan(
+      double baseValue, double value, @Nullable Supplier<String> messageSupplier) {
+    return isLessThan(baseValue, value)
+        ? value
+        : requireLessThan(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@code double} is less than a supplied base value. Returns the given {@code
+   * double} if it is less than the given base value, otherwise, an {@code IllegalArgumentException}
+   * is thrown. The exception message is only formatted if the validation fails.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static double requireLessThan(
+      double baseValue,
+      double value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isLessThan(baseValue, value)
+        ? value
+        : requireLessThan(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is less than a supplied base value. Returns the given
+   * {@code BigDecimal} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 1.1.0
+   */
+  @SideEffectFree
+  public static BigDecimal requireLessThan(BigDecimal baseValue, BigDecimal value) {
+    return requireLessThan(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is less than a supplied base value. Returns the given
+   * {@code BigDecimal} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 1.1.0
+   */
+  @SideEffectFree
+  public static BigDecimal requireLessThan(
+      BigDecimal baseValue, BigDecimal value, @Nullable String message) {
+    if (!isLessThan(baseValue, value)) {
+      throw new ValidationException(Check.LESS_THAN, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is less than a supplied base value. Returns the given
+   * {@code BigDecimal} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireLessThan(
+      BigDecimal baseValue, BigDecimal value, @Nullable Supplier<String> messageSupplier) {
+    return isLessThan(baseValue, value)
+        ? value
+        : requireLessThan(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is less than a supplied base value. Returns the given
+   * {@code BigDecimal} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static BigDecimal requireLessThan(
+      BigDecimal baseValue,
+      BigDecimal value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isLessThan(baseValue, value)
+        ? value
+        : requireLessThan(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@link BigInteger} is less than a supplied base value. Returns the given
+   * {@code BigInteger} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static BigInteger requireLessThan(BigInteger baseValue, BigInteger value) {
+    return requireLessThan(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@link BigInteger} is less than a supplied base value. Returns the given
+   * {@code BigInteger} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static BigInteger requireLessThan(
+      BigInteger baseValue, BigInteger value, @Nullable String message) {
+    if (!isLessThan(baseValue, value)) {
+      throw new ValidationException(Check.LESS_THAN, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@link BigInteger} is less than a supplied base value. Returns the given
+   * {@code BigInteger} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static BigInteger requireLessThan(
+      BigInteger baseValue, BigInteger value, @Nullable Supplier<String> messageSupplier) {
+    return isLessThan(baseValue, value)
+        ? value
+        : requireLessThan(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@link BigInteger} is less than a supplied base value. Returns the given
+   * {@code BigInteger} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static BigInteger requireLessThan(
+      BigInteger baseValue,
+      BigInteger value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isLessThan(baseValue, value)
+        ? value
+        : requireLessThan(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is less than a supplied {@code long} base value. Returns
+   * the given {@code BigDecimal} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The values are compared exactly, see {@link
+   * #isLessThan(long, BigDecimal)}.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireLessThan(long baseValue, BigDecimal value) {
+    return requireLessThan(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is less than a supplied {@code long} base value. Returns
+   * the given {@code BigDecimal} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The values are compared exactly, see {@link
+   * #isLessThan(long, BigDecimal)}.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireLessThan(
+      long baseValue, BigDecimal value, @Nullable String message) {
+    if (!isLessThan(baseValue, value)) {
+      throw new ValidationException(Check.LESS_THAN, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is less than a supplied {@code long} base value. Returns
+   * the given {@code BigDecimal} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The values are compared exactly, see {@link
+   * #isLessThan(long, BigDecimal)}. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireLessThan(
+      long baseValue, BigDecimal value, @Nullable Supplier<String> messageSupplier) {
+    return isLessThan(baseValue, value)
+        ? value
+        : requireLessThan(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is less than a supplied {@code long} base value. Returns
+   * the given {@code BigDecimal} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The values are compared exactly, see {@link
+   * #isLessThan(long, BigDecimal)}. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireLessThan(
+      long baseValue,
+      BigDecimal value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isLessThan(baseValue, value)
+        ? value
+        : requireLessThan(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is less than a supplied {@code double} base value. Returns
+   * the given {@code BigDecimal} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The values are compared exactly, see {@link
+   * #isLessThan(double, BigDecimal)}.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireLessThan(double baseValue, BigDecimal value) {
+    return requireLessThan(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is less than a supplied {@code double} base value. Returns
+   * the given {@code BigDecimal} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The values are compared exactly, see {@link
+   * #isLessThan(double, BigDecimal)}.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireLessThan(
+      double baseValue, BigDecimal value, @Nullable String message) {
+    if (!isLessThan(baseValue, value)) {
+      throw new ValidationException(Check.LESS_THAN, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is less than a supplied {@code double} base value. Returns
+   * the given {@code BigDecimal} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The values are compared exactly, see {@link
+   * #isLessThan(double, BigDecimal)}. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireLessThan(
+      double baseValue, BigDecimal value, @Nullable Supplier<String> messageSupplier) {
+    return isLessThan(baseValue, value)
+        ? value
+        : requireLessThan(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is less than a supplied {@code double} base value. Returns
+   * the given {@code BigDecimal} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The values are compared exactly, see {@link
+   * #isLessThan(double, BigDecimal)}. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than {@code baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireLessThan(
+      double baseValue,
+      BigDecimal value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isLessThan(baseValue, value)
+        ? value
+        : requireLessThan(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  // ========================================================================
+  // REQUIRE LESS THAN OR EQUAL TO VALIDATORS
+  // ========================================================================
+
+  /**
+   * Validates that an {@code int} is less than or equal to a supplied base value. Returns the given
+   * {@code int} if it is less than or equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 1.1.0
+   */
+  @SideEffectFree
+  public static int requireLessThanOrEqualTo(int baseValue, int value) {
+    return requireLessThanOrEqualTo(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that an {@code int} is less than or equal to a supplied base value. Returns the given
+   * {@code int} if it is less than or equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 1.1.0
+   */
+  @SideEffectFree
+  public static int requireLessThanOrEqualTo(int baseValue, int value, @Nullable String message) {
+    if (!isLessThanOrEqualTo(baseValue, value)) {
+      throw new ValidationException(Check.LESS_THAN_OR_EQUAL_TO, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that an {@code int} is less than or equal to a supplied base value. Returns the given
+   * {@code int} if it is less than or equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  public static int requireLessThanOrEqualTo(
+      int baseValue, int value, @Nullable Supplier<String> messageSupplier) {
+    return isLessThanOrEqualTo(baseValue, value)
+        ? value
+        : requireLessThanOrEqualTo(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that an {@code int} is less than or equal to a supplied base value. Returns the given
+   * {@code int} if it is less than or equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireLessThanOrEqualTo(
+      int baseValue, int value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return isLessThanOrEqualTo(baseValue, value)
+        ? value
+        : requireLessThanOrEqualTo(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@code long} is less than or equal to a supplied base value. Returns the given
+   * {@code long} if it is less than or equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 1.1.0
+   */
+  @SideEffectFree
+  public static long requireLessThanOrEqualTo(long baseValue, long value) {
+    return requireLessThanOrEqualTo(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@code long} is less than or equal to a supplied base value. Returns the given
+   * {@code long} if it is less than or equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 1.1.0
+   */
+  @SideEffectFree
+  public static long requireLessThanOrEqualTo(
+      long baseValue, long value, @Nullable String message) {
+    if (!isLessThanOrEqualTo(baseValue, value)) {
+      throw new ValidationException(Check.LESS_THAN_OR_EQUAL_TO, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@code long} is less than or equal to a supplied base value. Returns the given
+   * {@code long} if it is less than or equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  public static long requireLessThanOrEqualTo(
+      long baseValue, long value, @Nullable Supplier<String> messageSupplier) {
+    return isLessThanOrEqualTo(baseValue, value)
+        ? value
+        : requireLessThanOrEqualTo(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@code long} is less than or equal to a supplied base value. Returns the given
+   * {@code long} if it is less than or equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static long requireLessThanOrEqualTo(
+      long baseValue, long value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return isLessThanOrEqualTo(baseValue, value)
+        ? value
+        : requireLessThanOrEqualTo(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@code float} is less than or equal to a supplied base value. Returns the
+   * given {@code float} if it is less than or equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 1.1.0
+   */
+  @SideEffectFree
+  public static float requireLessThanOrEqualTo(float baseValue, float value) {
+    return requireLessThanOrEqualTo(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that an {@code float} is less than or equal to a supplied base value. Returns the
+   * given {@code float} if it is less than or equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 1.1.0
+   */
+  @SideEffectFree
+  public static float requireLessThanOrEqualTo(
+      float baseValue, float value, @Nullable String message) {
+    if (!isLessThanOrEqualTo(baseValue, value)) {
+      throw new ValidationException(Check.LESS_THAN_OR_EQUAL_TO, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that an {@code float} is less than or equal to a supplied base value. Returns the
+   * given {@code float} if it is less than or equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  public static float requireLessThanOrEqualTo(
+      float baseValue, float value, @Nullable Supplier<String> messageSupplier) {
+    return isLessThanOrEqualTo(baseValue, value)
+        ? value
+        : requireLessThanOrEqualTo(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that an {@code float} is less than or equal to a supplied base value. Returns the
+   * given {@code float} if it is less than or equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static float requireLessThanOrEqualTo(
+      float baseValue,
+      float value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isLessThanOrEqualTo(baseValue, value)
+        ? value
+        : requireLessThanOrEqualTo(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@code double} is less than or equal to a supplied base value. Returns the
+   * given {@code double} if it is less than or equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 1.1.0
+   */
+  @SideEffectFree
+  public static double requireLessThanOrEqualTo(double baseValue, double value) {
+    return requireLessThanOrEqualTo(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@code double} is less than or equal to a supplied base value. Returns the
+   * given {@code double} if it is less than or equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 1.1.0
+   */
+  @SideEffectFree
+  public static double requireLessThanOrEqualTo(
+      double baseValue, double value, @Nullable String message) {
+    if (!isLessThanOrEqualTo(baseValue, value)) {
+      throw new ValidationException(Check.LESS_THAN_OR_EQUAL_TO, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@code double} is less than or equal to a supplied base value. Returns the
+   * given {@code double} if it is less than or equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  public static double requireLessThanOrEqualTo(
+      double baseValue, double value, @Nullable Supplier<String> messageSupplier) {
+    return isLessThanOrEqualTo(baseValue, value)
+        ? value
+        : requireLessThanOrEqualTo(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@code double} is less than or equal to a supplied base value. Returns the
+   * given {@code double} if it is less than or equal to the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static double requireLessThanOrEqualTo(
+      double baseValue,
+      double value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isLessThanOrEqualTo(baseValue, value)
+        ? value
+        : requireLessThanOrEqualTo(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is less than or equal to a supplied base value. Returns the
+   * given {@code BigDecimal} if it is less than or equal to the given base value, otherwise, an
+   * {@code IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 1.1.0
+   */
+  @SideEffectFree
+  public static BigDecimal requireLessThanOrEqualTo(BigDecimal baseValue, BigDecimal value) {
+    return requireLessThanOrEqualTo(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is less than or equal to a supplied base value. Returns the
+   * given {@code BigDecimal} if it is less than or equal to the given base value, otherwise, an
+   * {@code IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 1.1.0
+   */
+  @SideEffectFree
+  public static BigDecimal requireLessThanOrEqualTo(
+      BigDecimal baseValue, BigDecimal value, @Nullable String message) {
+    if (!isLessThanOrEqualTo(baseValue, value)) {
+      throw new ValidationException(Check.LESS_THAN_OR_EQUAL_TO, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is less than or equal to a supplied base value. Returns the
+   * given {@code BigDecimal} if it is less than or equal to the given base value, otherwise, an
+   * {@code IllegalArgumentException} is thrown. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireLessThanOrEqualTo(
+      BigDecimal baseValue, BigDecimal value, @Nullable Supplier<String> messageSupplier) {
+    return isLessThanOrEqualTo(baseValue, value)
+        ? value
+        : requireLessThanOrEqualTo(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is less than or equal to a supplied base value. Returns the
+   * given {@code BigDecimal} if it is less than or equal to the given base value, otherwise, an
+   * {@code IllegalArgumentException} is thrown. The exception message is only formatted if the
+   * validation fails.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static BigDecimal requireLessThanOrEqualTo(
+      BigDecimal baseValue,
+      BigDecimal value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isLessThanOrEqualTo(baseValue, value)
+        ? value
+        : requireLessThanOrEqualTo(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@link BigInteger} is less than or equal to a supplied base value. Returns the
+   * given {@code BigInteger} if it is less than or equal to the given base value, otherwise, an
+   * {@code IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static BigInteger requireLessThanOrEqualTo(BigInteger baseValue, BigInteger value) {
+    return requireLessThanOrEqualTo(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@link BigInteger} is less than or equal to a supplied base value. Returns the
+   * given {@code BigInteger} if it is less than or equal to the given base value, otherwise, an
+   * {@code IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static BigInteger requireLessThanOrEqualTo(
+      BigInteger baseValue, BigInteger value, @Nullable String message) {
+    if (!isLessThanOrEqualTo(baseValue, value)) {
+      throw new ValidationException(Check.LESS_THAN_OR_EQUAL_TO, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@link BigInteger} is less than or equal to a supplied base value. Returns the
+   * given {@code BigInteger} if it is less than or equal to the given base value, otherwise, an
+   * {@code IllegalArgumentException} is thrown. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static BigInteger requireLessThanOrEqualTo(
+      BigInteger baseValue, BigInteger value, @Nullable Supplier<String> messageSupplier) {
+    return isLessThanOrEqualTo(baseValue, value)
+        ? value
+        : requireLessThanOrEqualTo(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@link BigInteger} is less than or equal to a supplied base value. Returns the
+   * given {@code BigInteger} if it is less than or equal to the given base value, otherwise, an
+   * {@code IllegalArgumentException} is thrown. The exception message is only formatted if the
+   * validation fails.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static BigInteger requireLessThanOrEqualTo(
+      BigInteger baseValue,
+      BigInteger value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isLessThanOrEqualTo(baseValue, value)
+        ? value
+        : requireLessThanOrEqualTo(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is less than or equal to a supplied {@code long} base
+   * value. Returns the given {@code BigDecimal} if it is less than or equal to the given base
+   * value, otherwise, an {@code IllegalArgumentException} is thrown. The values are compared
+   * exactly, see {@link #isLessThanOrEqualTo(long, BigDecimal)}.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than or equal to {@code
+   *     baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireLessThanOrEqualTo(long baseValue, BigDecimal value) {
+    return requireLessThanOrEqualTo(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is less than or equal to a supplied {@code long} base
+   * value. Returns the given {@code BigDecimal} if it is less than or equal to the given base
+   * value, otherwise, an {@code IllegalArgumentException} is thrown. The values are compared
+   * exactly, see {@link #isLessThanOrEqualTo(long, BigDecimal)}.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than or equal to {@code
+   *     baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireLessThanOrEqualTo(
+      long baseValue, BigDecimal value, @Nullable String message) {
+    if (!isLessThanOrEqualTo(baseValue, value)) {
+      throw new ValidationException(Check.LESS_THAN_OR_EQUAL_TO, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is less than or equal to a supplied {@code long} base
+   * value. Returns the given {@code BigDecimal} if it is less than or equal to the given base
+   * value, otherwise, an {@code IllegalArgumentException} is thrown. The values are compared
+   * exactly, see {@link #isLessThanOrEqualTo(long, BigDecimal)}. The exception message is only
+   * retrieved from {@code messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than or equal to {@code
+   *     baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireLessThanOrEqualTo(
+      long baseValue, BigDecimal value, @Nullable Supplier<String> messageSupplier) {
+    return isLessThanOrEqualTo(baseValue, value)
+        ? value
+        : requireLessThanOrEqualTo(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is less than or equal to a supplied {@code long} base
+   * value. Returns the given {@code BigDecimal} if it is less than or equal to the given base
+   * value, otherwise, an {@code IllegalArgumentException} is thrown. The values are compared
+   * exactly, see {@link #isLessThanOrEqualTo(long, BigDecimal)}. The exception message is only
+   * formatted if the validation fails.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than or equal to {@code
+   *     baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireLessThanOrEqualTo(
+      long baseValue,
+      BigDecimal value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isLessThanOrEqualTo(baseValue, value)
+        ? value
+        : requireLessThanOrEqualTo(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is less than or equal to a supplied {@code double} base
+   * value. Returns the given {@code BigDecimal} if it is less than or equal to the given base
+   * value, otherwise, an {@code IllegalArgumentException} is thrown. The values are compared
+   * exactly, see {@link #isLessThanOrEqualTo(double, BigDecimal)}.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than or equal to {@code
+   *     baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireLessThanOrEqualTo(double baseValue, BigDecimal value) {
+    return requireLessThanOrEqualTo(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is less than or equal to a supplied {@code double} base
+   * value. Returns the given {@code BigDecimal} if it is less than or equal to the given base
+   * value, otherwise, an {@code IllegalArgumentException} is thrown. The values are compared
+   * exactly, see {@link #isLessThanOrEqualTo(double, BigDecimal)}.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than or equal to {@code
+   *     baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireLessThanOrEqualTo(
+      double baseValue, BigDecimal value, @Nullable String message) {
+    if (!isLessThanOrEqualTo(baseValue, value)) {
+      throw new ValidationException(Check.LESS_THAN_OR_EQUAL_TO, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is less than or equal to a supplied {@code double} base
+   * value. Returns the given {@code BigDecimal} if it is less than or equal to the given base
+   * value, otherwise, an {@code IllegalArgumentException} is thrown. The values are compared
+   * exactly, see {@link #isLessThanOrEqualTo(double, BigDecimal)}. The exception message is only
+   * retrieved from {@code messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than or equal to {@code
+   *     baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireLessThanOrEqualTo(
+      double baseValue, BigDecimal value, @Nullable Supplier<String> messageSupplier) {
+    return isLessThanOrEqualTo(baseValue, value)
+        ? value
+        : requireLessThanOrEqualTo(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@link BigDecimal} is less than or equal to a supplied {@code double} base
+   * value. Returns the given {@code BigDecimal} if it is less than or equal to the given base
+   * value, otherwise, an {@code IllegalArgumentException} is thrown. The values are compared
+   * exactly, see {@link #isLessThanOrEqualTo(double, BigDecimal)}. The exception message is only
+   * formatted if the validation fails.
+   *
+   * @param baseValue the value to compare for smallness or equality against.
+   * @param value the value to check for smallness or equality.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than or equal to {@code
+   *     baseValue}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireLessThanOrEqualTo(
+      double baseValue,
+      BigDecimal value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isLessThanOrEqualTo(baseValue, value)
+        ? value
+        : requireLessThanOrEqualTo(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  // ========================================================================
+  // UNSIGNED CHECKS
+  // ========================================================================
+
+  /**
+   * Checks if an {@code int} is greater than a supplied base value when both are interpreted as
+   * unsigned integers. Returns {@code true} if the given {@code int} is greater than the supplied
+   * base value, e.g. {@code -1} is greater than every other value. The values are compared by
+   * flipping their sign bits, like {@link Integer#compareUnsigned(int, int)} does, so no branches
+   * or wider types are needed.
+   *
+   * @param baseValue the unsigned value to compare for greatness against.
+   * @param value the unsigned value to check for greatness.
+   * @return {@code true} if {@code value} is greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @Pure
+  public static boolean isGreaterThanUnsigned(int baseValue, int value) {
+    return (value ^ Integer.MIN_VALUE) > (baseValue ^ Integer.MIN_VALUE);
+  }
+
+  /**
+   * Checks if an {@code int} is greater than or equal to a supplied base value when both are
+   * interpreted as unsigned integers. Returns {@code true} if the given {@code int} is greater than
+   * or equal to the supplied base value, e.g. {@code -1} is greater than every other value. The
+   * values are compared by flipping their sign bits, like {@link Integer#compareUnsigned(int, int)}
+   * does, so no branches or wider types are needed.
+   *
+   * @param baseValue the unsigned value to compare for greatness or equality against.
+   * @param value the unsigned value to check for greatness or equality.
+   * @return {@code true} if {@code value} is greater than or equal to {@code baseValue}.
+   * @since 3.0.0
+   */
+  @Pure
+  public static boolean isGreaterThanOrEqualToUnsigned(int baseValue, int value) {
+    return (value ^ Integer.MIN_VALUE) >= (baseValue ^ Integer.MIN_VALUE);
+  }
+
+  /**
+   * Checks if an {@code int} is less than a supplied base value when both are interpreted as
+   * unsigned integers. Returns {@code true} if the given {@code int} is less than the supplied base
+   * value, e.g. {@code -1} is greater than every other value. The values are compared by flipping
+   * their sign bits, like {@link Integer#compareUnsigned(int, int)} does, so no branches or wider
+   * types are needed.
+   *
+   * @param baseValue the unsigned value to compare for smallness against.
+   * @param value the unsigned value to check for smallness.
+   * @return {@code true} if {@code value} is less than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @Pure
+  public static boolean isLessThanUnsigned(int baseValue, int value) {
+    return (value ^ Integer.MIN_VALUE) < (baseValue ^ Integer.MIN_VALUE);
+  }
+
+  /**
+   * Checks if an {@code int} is less than or equal to a supplied base value when both are
+   * interpreted as unsigned integers. Returns {@code true} if the given {@code int} is less than or
+   * equal to the supplied base value, e.g. {@code -1} is greater than every other value. The values
+   * are compared by flipping their sign bits, like {@link Integer#compareUnsigned(int, int)} does,
+   * so no branches or wider types are needed.
+   *
+   * @param baseValue the unsigned value to compare for smallness or equality against.
+   * @param value the unsigned value to check for smallness or equality.
+   * @return {@code true} if {@code value} is less than or equal to {@code baseValue}.
+   * @since 3.0.0
+   */
+  @Pure
+  public static boolean isLessThanOrEqualToUnsigned(int baseValue, int value) {
+    return (value ^ Integer.MIN_VALUE) <= (baseValue ^ Integer.MIN_VALUE);
+  }
+
+  /**
+   * Checks that the specified {@code int} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i> when
+   * all three are interpreted as unsigned integers. Returns {@code true} if {@code value} is
+   * greater than or equal to {@code minValue} and less than {@code maxValue}, {@code false}
+   * otherwise. An {@link IllegalArgumentException} will be thrown if the maximum value is less than
+   * the minimum value.
+   *
+   * <p>The check is done with a single unsigned comparison of {@code value - minValue} to {@code
+   * maxValue - minValue}, so no branches or wider types are needed.
+   *
+   * @param minValue the unsigned minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the unsigned maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the unsigned {@code int} to check.
+   * @return {@code true} if {@code value} is greater than or equal to {@code minValue} and less
+   *     than {@code maxValue}, {@code false} otherwise.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static boolean inRangeUnsigned(int minValue, int maxValue, int value) {
+    if (isLessThanUnsigned(minValue, maxValue)) {
+      throw new IllegalArgumentException(
+          String.format(
+              "maxValue( %s ) cannot be less than minValue( %s ).",
+              Integer.toUnsignedString(maxValue),
+              Integer.toUnsignedString(minValue)));
+    }
+    // value - minValue wraps around to a large unsigned value if value is less than minValue
+    return isLessThanUnsigned(maxValue - minValue, value - minValue);
+  }
+
+  /**
+   * Checks if a {@code long} is greater than a supplied base value when both are interpreted as
+   * unsigned integers. Returns {@code true} if the given {@code long} is greater than the supplied
+   * base value, e.g. {@code -1} is greater than every other value. The values are compared by
+   * flipping their sign bits, like {@link Long#compareUnsigned(long, long)} does, so no branches or
+   * wider types are needed.
+   *
+   * @param baseValue the unsigned value to compare for greatness against.
+   * @param value the unsigned value to check for greatness.
+   * @return {@code true} if {@code value} is greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @Pure
+  public static boolean isGreaterThanUnsigned(long baseValue, long value) {
+    return (value ^ Long.MIN_VALUE) > (baseValue ^ Long.MIN_VALUE);
+  }
+
+  /**
+   * Checks if a {@code long} is greater than or equal to a supplied base value when both are
+   * interpreted as unsigned integers. Returns {@code true} if the given {@code long} is greater
+   * than or equal to the supplied base value, e.g. {@code -1} is greater than every other value.
+   * The values are compared by flipping their sign bits, like {@link Long#compareUnsigned(long,
+   * long)} does, so no branches or wider types are needed.
+   *
+   * @param baseValue the unsigned value to compare for greatness or equality against.
+   * @param value the unsigned value to check for greatness or equality.
+   * @return {@code true} if {@code value} is greater than or equal to {@code baseValue}.
+   * @since 3.0.0
+   */
+  @Pure
+  public static boolean isGreaterThanOrEqualToUnsigned(long baseValue, long value) {
+    return (value ^ Long.MIN_VALUE) >= (baseValue ^ Long.MIN_VALUE);
+  }
+
+  /**
+   * Checks if a {@code long} is less than a supplied base value when both are interpreted as
+   * unsigned integers. Returns {@code true} if the given {@code long} is less than the supplied
+   * base value, e.g. {@code -1} is greater than every other value. The values are compared by
+   * flipping their sign bits, like {@link Long#compareUnsigned(long, long)} does, so no branches or
+   * wider types are needed.
+   *
+   * @param baseValue the unsigned value to compare for smallness against.
+   * @param value the unsigned value to check for smallness.
+   * @return {@code true} if {@code value} is less than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @Pure
+  public static boolean isLessThanUnsigned(long baseValue, long value) {
+    return (value ^ Long.MIN_VALUE) < (baseValue ^ Long.MIN_VALUE);
+  }
+
+  /**
+   * Checks if a {@code long} is less than or equal to a supplied base value when both are
+   * interpreted as unsigned integers. Returns {@code true} if the given {@code long} is less than
+   * or equal to the supplied base value, e.g. {@code -1} is greater than every other value. The
+   * values are compared by flipping their sign bits, like {@link Long#compareUnsigned(long, long)}
+   * does, so no branches or wider types are needed.
+   *
+   * @param baseValue the unsigned value to compare for smallness or equality against.
+   * @param value the unsigned value to check for smallness or equality.
+   * @return {@code true} if {@code value} is less than or equal to {@code baseValue}.
+   * @since 3.0.0
+   */
+  @Pure
+  public static boolean isLessThanOrEqualToUnsigned(long baseValue, long value) {
+    return (value ^ Long.MIN_VALUE) <= (baseValue ^ Long.MIN_VALUE);
+  }
+
+  /**
+   * Checks that the specified {@code long} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i> when
+   * all three are interpreted as unsigned integers. Returns {@code true} if {@code value} is
+   * greater than or equal to {@code minValue} and less than {@code maxValue}, {@code false}
+   * otherwise. An {@link IllegalArgumentException} will be thrown if the maximum value is less than
+   * the minimum value.
+   *
+   * <p>The check is done with a single unsigned comparison of {@code value - minValue} to {@code
+   * maxValue - minValue}, so no branches or wider types are needed.
+   *
+   * @param minValue the unsigned minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the unsigned maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the unsigned {@code long} to check.
+   * @return {@code true} if {@code value} is greater than or equal to {@code minValue} and less
+   *     than {@code maxValue}, {@code false} otherwise.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static boolean inRangeUnsigned(long minValue, long maxValue, long value) {
+    if (isLessThanUnsigned(minValue, maxValue)) {
+      throw new IllegalArgumentException(
+          String.format(
+              "maxValue( %s ) cannot be less than minValue( %s ).",
+              Long.toUnsignedString(maxValue),
+              Long.toUnsignedString(minValue)));
+    }
+    // value - minValue wraps around to a large unsigned value if value is less than minValue
+    return isLessThanUnsigned(maxValue - minValue, value - minValue);
+  }
+
+  // ========================================================================
+  // REQUIRE UNSIGNED VALIDATORS
+  // ========================================================================
+
+  /**
+   * Validates that an {@code int} is greater than a supplied base value when both are interpreted
+   * as unsigned integers. Returns the given {@code int} if it is greater than the given base value,
+   * otherwise, an {@code IllegalArgumentException} is thrown. The values are compared by flipping
+   * their sign bits, see {@link #isGreaterThanUnsigned(int, int)}, and the exception renders them
+   * as unsigned integers.
+   *
+   * @param baseValue the unsigned value to compare for greatness against.
+   * @param value the unsigned value to check for greatness.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireGreaterThanUnsigned(int baseValue, int value) {
+    return requireGreaterThanUnsigned(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that an {@code int} is greater than a supplied base value when both are interpreted
+   * as unsigned integers. Returns the given {@code int} if it is greater than the given base value,
+   * otherwise, an {@code IllegalArgumentException} is thrown. The values are compared by flipping
+   * their sign bits, see {@link #isGreaterThanUnsigned(int, int)}, and the exception renders them
+   * as unsigned integers.
+   *
+   * @param baseValue the unsigned value to compare for greatness against.
+   * @param value the unsigned value to check for greatness.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireGreaterThanUnsigned(int baseValue, int value, @Nullable String message) {
+    if (!isGreaterThanUnsigned(baseValue, value)) {
+      throw new ValidationException(
+          Check.GREATER_THAN,
+          Integer.toUnsignedLong(value),
+          Integer.toUnsignedLong(baseValue),
+          message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that an {@code int} is greater than a supplied base value when both are interpreted
+   * as unsigned integers. Returns the given {@code int} if it is greater than the given base value,
+   * otherwise, an {@code IllegalArgumentException} is thrown. The values are compared by flipping
+   * their sign bits, see {@link #isGreaterThanUnsigned(int, int)}, and the exception renders them
+   * as unsigned integers. The exception message is only retrieved from {@code messageSupplier} if
+   * the validation fails.
+   *
+   * @param baseValue the unsigned value to compare for greatness against.
+   * @param value the unsigned value to check for greatness.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  public static int requireGreaterThanUnsigned(
+      int baseValue, int value, @Nullable Supplier<String> messageSupplier) {
+    return isGreaterThanUnsigned(baseValue, value)
+        ? value
+        : requireGreaterThanUnsigned(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that an {@code int} is greater than a supplied base value when both are interpreted
+   * as unsigned integers. Returns the given {@code int} if it is greater than the given base value,
+   * otherwise, an {@code IllegalArgumentException} is thrown. The values are compared by flipping
+   * their sign bits, see {@link #isGreaterThanUnsigned(int, int)}, and the exception renders them
+   * as unsigned integers. The exception message is only formatted if the validation fails.
+   *
+   * @param baseValue the unsigned value to compare for greatness against.
+   * @param value the unsigned value to check for greatness.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireGreaterThanUnsigned(
+      int baseValue, int value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return isGreaterThanUnsigned(baseValue, value)
+        ? value
+        : requireGreaterThanUnsigned(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that an {@code int} is greater than or equal to a supplied base value when both are
+   * interpreted as unsigned integers. Returns the given {@code int} if it is greater than or equal
+   * to the given base value, otherwise, an {@code IllegalArgumentException} is thrown. The values
+   * are compared by flipping their sign bits, see {@link #isGreaterThanOrEqualToUnsigned(int,
+   * int)}, and the exception renders them as unsigned integers.
+   *
+   * @param baseValue the unsigned value to compare for greatness or equality against.
+   * @param value the unsigned value to check for greatness or equality.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than or equal to {@code
+   *     baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireGreaterThanOrEqualToUnsigned(int baseValue, int value) {
+    return requireGreaterThanOrEqualToUnsigned(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that an {@code int} is greater than or equal to a supplied base value when both are
+   * interpreted as unsigned integers. Returns the given {@code int} if it is greater than or equal
+   * to the given base value, otherwise, an {@code IllegalArgumentException} is thrown. The values
+   * are compared by flipping their sign bits, see {@link #isGreaterThanOrEqualToUnsigned(int,
+   * int)}, and the exception renders them as unsigned integers.
+   *
+   * @param baseValue the unsigned value to compare for greatness or equality against.
+   * @param value the unsigned value to check for greatness or equality.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than or equal to {@code
+   *     baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireGreaterThanOrEqualToUnsigned(
+      int baseValue, int value, @Nullable String message) {
+    if (!isGreaterThanOrEqualToUnsigned(baseValue, value)) {
+      throw new ValidationException(
+          Check.GREATER_THAN_OR_EQUAL_TO,
+          Integer.toUnsignedLong(value),
+          Integer.toUnsignedLong(baseValue),
+          message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that an {@code int} is greater than or equal to a supplied base value when both are
+   * interpreted as unsigned integers. Returns the given {@code int} if it is greater than or equal
+   * to the given base value, otherwise, an {@code IllegalArgumentException} is thrown. The values
+   * are compared by flipping their sign bits, see {@link #isGreaterThanOrEqualToUnsigned(int,
+   * int)}, and the exception renders them as unsigned integers. The exception message is only
+   * retrieved from {@code messageSupplier} if the validation fails.
+   *
+   * @param baseValue the unsigned value to compare for greatness or equality against.
+   * @param value the unsigned value to check for greatness or equality.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than or equal to {@code
+   *     baseValue}.
+   * @since 3.0.0
+   */
+  public static int requireGreaterThanOrEqualToUnsigned(
+      int baseValue, int value, @Nullable Supplier<String> messageSupplier) {
+    return isGreaterThanOrEqualToUnsigned(baseValue, value)
+        ? value
+        : requireGreaterThanOrEqualToUnsigned(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that an {@code int} is greater than or equal to a supplied base value when both are
+   * interpreted as unsigned integers. Returns the given {@code int} if it is greater than or equal
+   * to the given base value, otherwise, an {@code IllegalArgumentException} is thrown. The values
+   * are compared by flipping their sign bits, see {@link #isGreaterThanOrEqualToUnsigned(int,
+   * int)}, and the exception renders them as unsigned integers. The exception message is only
+   * formatted if the validation fails.
+   *
+   * @param baseValue the unsigned value to compare for greatness or equality against.
+   * @param value the unsigned value to check for greatness or equality.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than or equal to {@code
+   *     baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireGreaterThanOrEqualToUnsigned(
+      int baseValue, int value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return isGreaterThanOrEqualToUnsigned(baseValue, value)
+        ? value
+        : requireGreaterThanOrEqualToUnsigned(
+            baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that an {@code int} is less than a supplied base value when both are interpreted as
+   * unsigned integers. Returns the given {@code int} if it is less than the given base value,
+   * otherwise, an {@code IllegalArgumentException} is thrown. The values are compared by flipping
+   * their sign bits, see {@link #isLessThanUnsigned(int, int)}, and the exception renders them as
+   * unsigned integers.
+   *
+   * @param baseValue the unsigned value to compare for smallness against.
+   * @param value the unsigned value to check for smallness.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireLessThanUnsigned(int baseValue, int value) {
+    return requireLessThanUnsigned(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that an {@code int} is less than a supplied base value when both are interpreted as
+   * unsigned integers. Returns the given {@code int} if it is less than the given base value,
+   * otherwise, an {@code IllegalArgumentException} is thrown. The values are compared by flipping
+   * their sign bits, see {@link #isLessThanUnsigned(int, int)}, and the exception renders them as
+   * unsigned integers.
+   *
+   * @param baseValue the unsigned value to compare for smallness against.
+   * @param value the unsigned value to check for smallness.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireLessThanUnsigned(int baseValue, int value, @Nullable String message) {
+    if (!isLessThanUnsigned(baseValue, value)) {
+      throw new ValidationException(
+          Check.LESS_THAN,
+          Integer.toUnsignedLong(value),
+          Integer.toUnsignedLong(baseValue),
+          message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that an {@code int} is less than a supplied base value when both are interpreted as
+   * unsigned integers. Returns the given {@code int} if it is less than the given base value,
+   * otherwise, an {@code IllegalArgumentException} is thrown. The values are compared by flipping
+   * their sign bits, see {@link #isLessThanUnsigned(int, int)}, and the exception renders them as
+   * unsigned integers. The exception message is only retrieved from {@code messageSupplier} if the
+   * validation fails.
+   *
+   * @param baseValue the unsigned value to compare for smallness against.
+   * @param value the unsigned value to check for smallness.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than {@code baseValue}.
+   * @since 3.0.0
+   */
+  public static int requireLessThanUnsigned(
+      int baseValue, int value, @Nullable Supplier<String> messageSupplier) {
+    return isLessThanUnsigned(baseValue, value)
+        ? value
+        : requireLessThanUnsigned(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that an {@code int} is less than a supplied base value when both are interpreted as
+   * unsigned integers. Returns the given {@code int} if it is less than the given base value,
+   * otherwise, an {@code IllegalArgumentException} is thrown. The values are compared by flipping
+   * their sign bits, see {@link #isLessThanUnsigned(int, int)}, and the exception renders them as
+   * unsigned integers. The exception message is only formatted if the validation fails.
+   *
+   * @param baseValue the unsigned value to compare for smallness against.
+   * @param value the unsigned value to check for smallness.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireLessThanUnsigned(
+      int baseValue, int value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return isLessThanUnsigned(baseValue, value)
+        ? value
+        : requireLessThanUnsigned(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that an {@code int} is less than or equal to a supplied base value when both are
+   * interpreted as unsigned integers. Returns the given {@code int} if it is less than or equal to
+   * the given base value, otherwise, an {@code IllegalArgumentException} is thrown. The values are
+   * compared by flipping their sign bits, see {@link #isLessThanOrEqualToUnsigned(int, int)}, and
+   * the exception renders them as unsigned integers.
+   *
+   * @param baseValue the unsigned value to compare for smallness or equality against.
+   * @param value the unsigned value to check for smallness or equality.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than or equal to {@code
+   *     baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireLessThanOrEqualToUnsigned(int baseValue, int value) {
+    return requireLessThanOrEqualToUnsigned(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that an {@code int} is less than or equal to a supplied base value when both are
+   * interpreted as unsigned integers. Returns the given {@code int} if it is less than or equal to
+   * the given base value, otherwise, an {@code IllegalArgumentException} is thrown. The values are
+   * compared by flipping their sign bits, see {@link #isLessThanOrEqualToUnsigned(int, int)}, and
+   * the exception renders them as unsigned integers.
+   *
+   * @param baseValue the unsigned value to compare for smallness or equality against.
+   * @param value the unsigned value to check for smallness or equality.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than or equal to {@code
+   *     baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireLessThanOrEqualToUnsigned(
+      int baseValue, int value, @Nullable String message) {
+    if (!isLessThanOrEqualToUnsigned(baseValue, value)) {
+      throw new ValidationException(
+          Check.LESS_THAN_OR_EQUAL_TO,
+          Integer.toUnsignedLong(value),
+          Integer.toUnsignedLong(baseValue),
+          message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that an {@code int} is less than or equal to a supplied base value when both are
+   * interpreted as unsigned integers. Returns the given {@code int} if it is less than or equal to
+   * the given base value, otherwise, an {@code IllegalArgumentException} is thrown. The values are
+   * compared by flipping their sign bits, see {@link #isLessThanOrEqualToUnsigned(int, int)}, and
+   * the exception renders them as unsigned integers. The exception message is only retrieved from
+   * {@code messageSupplier} if the validation fails.
+   *
+   * @param baseValue the unsigned value to compare for smallness or equality against.
+   * @param value the unsigned value to check for smallness or equality.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than or equal to {@code
+   *     baseValue}.
+   * @since 3.0.0
+   */
+  public static int requireLessThanOrEqualToUnsigned(
+      int baseValue, int value, @Nullable Supplier<String> messageSupplier) {
+    return isLessThanOrEqualToUnsigned(baseValue, value)
+        ? value
+        : requireLessThanOrEqualToUnsigned(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that an {@code int} is less than or equal to a supplied base value when both are
+   * interpreted as unsigned integers. Returns the given {@code int} if it is less than or equal to
+   * the given base value, otherwise, an {@code IllegalArgumentException} is thrown. The values are
+   * compared by flipping their sign bits, see {@link #isLessThanOrEqualToUnsigned(int, int)}, and
+   * the exception renders them as unsigned integers. The exception message is only formatted if the
+   * validation fails.
+   *
+   * @param baseValue the unsigned value to compare for smallness or equality against.
+   * @param value the unsigned value to check for smallness or equality.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than or equal to {@code
+   *     baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireLessThanOrEqualToUnsigned(
+      int baseValue, int value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return isLessThanOrEqualToUnsigned(baseValue, value)
+        ? value
+        : requireLessThanOrEqualToUnsigned(
+            baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that the specified {@code int} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i> when
+   * all three are interpreted as unsigned integers. Returns {@code value} if it is in the specified
+   * range, otherwise, an {@code IllegalArgumentException} is thrown. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value. See {@link #inRangeUnsigned(int, int, int)}.
+   *
+   * @param minValue the unsigned minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the unsigned maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the unsigned {@code int} to check.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireInRangeUnsigned(int minValue, int maxValue, int value) {
+    return requireInRangeUnsigned(minValue, maxValue, value, (String) null);
+  }
+
+  /**
+   * Validates that the specified {@code int} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i> when
+   * all three are interpreted as unsigned integers. Returns {@code value} if it is in the specified
+   * range, otherwise, an {@code IllegalArgumentException} is thrown. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value. See {@link #inRangeUnsigned(int, int, int)}.
+   *
+   * @param minValue the unsigned minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the unsigned maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the unsigned {@code int} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireInRangeUnsigned(
+      int minValue, int maxValue, int value, @Nullable String message) {
+    if (!inRangeUnsigned(minValue, maxValue, value)) {
+      throw new ValidationException(
+          Check.IN_RANGE,
+          Integer.toUnsignedLong(value),
+          Integer.toUnsignedLong(minValue),
+          Integer.toUnsignedLong(maxValue),
+          message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that the specified {@code int} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i> when
+   * all three are interpreted as unsigned integers. Returns {@code value} if it is in the specified
+   * range, otherwise, an {@code IllegalArgumentException} is thrown. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value. See {@link #inRangeUnsigned(int, int, int)}. The exception message is only retrieved
+   * from {@code messageSupplier} if the validation fails.
+   *
+   * @param minValue the unsigned minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the unsigned maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the unsigned {@code int} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @since 3.0.0
+   */
+  public static int requireInRangeUnsigned(
+      int minValue, int maxValue, int value, @Nullable Supplier<String> messageSupplier) {
+    return inRangeUnsigned(minValue, maxValue, value)
+        ? value
+        : requireInRangeUnsigned(minValue, maxValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the specified {@code int} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i> when
+   * all three are interpreted as unsigned integers. Returns {@code value} if it is in the specified
+   * range, otherwise, an {@code IllegalArgumentException} is thrown. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value. See {@link #inRangeUnsigned(int, int, int)}. The exception message is only formatted if
+   * the validation fails.
+   *
+   * @param minValue the unsigned minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the unsigned maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the unsigned {@code int} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireInRangeUnsigned(
+      int minValue,
+      int maxValue,
+      int value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return inRangeUnsigned(minValue, maxValue, value)
+        ? value
+        : requireInRangeUnsigned(
+            minValue, maxValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@code long} is greater than a supplied base value when both are interpreted
+   * as unsigned integers. Returns the given {@code long} if it is greater than the given base
+   * value, otherwise, an {@code IllegalArgumentException} is thrown. The values are compared by
+   * flipping their sign bits, see {@link #isGreaterThanUnsigned(long, long)}, and the exception
+   * renders them as unsigned integers.
+   *
+   * @param baseValue the unsigned value to compare for greatness against.
+   * @param value the unsigned value to check for greatness.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static long requireGreaterThanUnsigned(long baseValue, long value) {
+    return requireGreaterThanUnsigned(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@code long} is greater than a supplied base value when both are interpreted
+   * as unsigned integers. Returns the given {@code long} if it is greater than the given base
+   * value, otherwise, an {@code IllegalArgumentException} is thrown. The values are compared by
+   * flipping their sign bits, see {@link #isGreaterThanUnsigned(long, long)}, and the exception
+   * renders them as unsigned integers.
+   *
+   * @param baseValue the unsigned value to compare for greatness against.
+   * @param value the unsigned value to check for greatness.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static long requireGreaterThanUnsigned(
+      long baseValue, long value, @Nullable String message) {
+    if (!isGreaterThanUnsigned(baseValue, value)) {
+      throw ValidationException.unsigned(Check.GREATER_THAN, value, baseValue, 0L, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@code long} is greater than a supplied base value when both are interpreted
+   * as unsigned integers. Returns the given {@code long} if it is greater than the given base
+   * value, otherwise, an {@code IllegalArgumentException} is thrown. The values are compared by
+   * flipping their sign bits, see {@link #isGreaterThanUnsigned(long, long)}, and the exception
+   * renders them as unsigned integers. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the unsigned value to compare for greatness against.
+   * @param value the unsigned value to check for greatness.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  public static long requireGreaterThanUnsigned(
+      long baseValue, long value, @Nullable Supplier<String> messageSupplier) {
+    return isGreaterThanUnsigned(baseValue, value)
+        ? value
+        : requireGreaterThanUnsigned(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@code long} is greater than a supplied base value when both are interpreted
+   * as unsigned integers. Returns the given {@code long} if it is greater than the given base
+   * value, otherwise, an {@code IllegalArgumentException} is thrown. The values are compared by
+   * flipping their sign bits, see {@link #isGreaterThanUnsigned(long, long)}, and the exception
+   * renders them as unsigned integers. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param baseValue the unsigned value to compare for greatness against.
+   * @param value the unsigned value to check for greatness.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static long requireGreaterThanUnsigned(
+      long baseValue, long value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return isGreaterThanUnsigned(baseValue, value)
+        ? value
+        : requireGreaterThanUnsigned(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@code long} is greater than or equal to a supplied base value when both are
+   * interpreted as unsigned integers. Returns the given {@code long} if it is greater than or equal
+   * to the given base value, otherwise, an {@code IllegalArgumentException} is thrown. The values
+   * are compared by flipping their sign bits, see {@link #isGreaterThanOrEqualToUnsigned(long,
+   * long)}, and the exception renders them as unsigned integers.
+   *
+   * @param baseValue the unsigned value to compare for greatness or equality against.
+   * @param value the unsigned value to check for greatness or equality.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than or equal to {@code
+   *     baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static long requireGreaterThanOrEqualToUnsigned(long baseValue, long value) {
+    return requireGreaterThanOrEqualToUnsigned(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@code long} is greater than or equal to a supplied base value when both are
+   * interpreted as unsigned integers. Returns the given {@code long} if it is greater than or equal
+   * to the given base value, otherwise, an {@code IllegalArgumentException} is thrown. The values
+   * are compared by flipping their sign bits, see {@link #isGreaterThanOrEqualToUnsigned(long,
+   * long)}, and the exception renders them as unsigned integers.
+   *
+   * @param baseValue the unsigned value to compare for greatness or equality against.
+   * @param value the unsigned value to check for greatness or equality.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than or equal to {@code
+   *     baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static long requireGreaterThanOrEqualToUnsigned(
+      long baseValue, long value, @Nullable String message) {
+    if (!isGreaterThanOrEqualToUnsigned(baseValue, value)) {
+      throw ValidationException.unsigned(
+          Check.GREATER_THAN_OR_EQUAL_TO, value, baseValue, 0L, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@code long} is greater than or equal to a supplied base value when both are
+   * interpreted as unsigned integers. Returns the given {@code long} if it is greater than or equal
+   * to the given base value, otherwise, an {@code IllegalArgumentException} is thrown. The values
+   * are compared by flipping their sign bits, see {@link #isGreaterThanOrEqualToUnsigned(long,
+   * long)}, and the exception renders them as unsigned integers. The exception message is only
+   * retrieved from {@code messageSupplier} if the validation fails.
+   *
+   * @param baseValue the unsigned value to compare for greatness or equality against.
+   * @param value the unsigned value to check for greatness or equality.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than or equal to {@code
+   *     baseValue}.
+   * @since 3.0.0
+   */
+  public static long requireGreaterThanOrEqualToUnsigned(
+      long baseValue, long value, @Nullable Supplier<String> messageSupplier) {
+    return isGreaterThanOrEqualToUnsigned(baseValue, value)
+        ? value
+        : requireGreaterThanOrEqualToUnsigned(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@code long} is greater than or equal to a supplied base value when both are
+   * interpreted as unsigned integers. Returns the given {@code long} if it is greater than or equal
+   * to the given base value, otherwise, an {@code IllegalArgumentException} is thrown. The values
+   * are compared by flipping their sign bits, see {@link #isGreaterThanOrEqualToUnsigned(long,
+   * long)}, and the exception renders them as unsigned integers. The exception message is only
+   * formatted if the validation fails.
+   *
+   * @param baseValue the unsigned value to compare for greatness or equality against.
+   * @param value the unsigned value to check for greatness or equality.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is greater than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not greater than or equal to {@code
+   *     baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static long requireGreaterThanOrEqualToUnsigned(
+      long baseValue, long value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return isGreaterThanOrEqualToUnsigned(baseValue, value)
+        ? value
+        : requireGreaterThanOrEqualToUnsigned(
+            baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@code long} is less than a supplied base value when both are interpreted as
+   * unsigned integers. Returns the given {@code long} if it is less than the given base value,
+   * otherwise, an {@code IllegalArgumentException} is thrown. The values are compared by flipping
+   * their sign bits, see {@link #isLessThanUnsigned(long, long)}, and the exception renders them as
+   * unsigned integers.
+   *
+   * @param baseValue the unsigned value to compare for smallness against.
+   * @param value the unsigned value to check for smallness.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static long requireLessThanUnsigned(long baseValue, long value) {
+    return requireLessThanUnsigned(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@code long} is less than a supplied base value when both are interpreted as
+   * unsigned integers. Returns the given {@code long} if it is less than the given base value,
+   * otherwise, an {@code IllegalArgumentException} is thrown. The values are compared by flipping
+   * their sign bits, see {@link #isLessThanUnsigned(long, long)}, and the exception renders them as
+   * unsigned integers.
+   *
+   * @param baseValue the unsigned value to compare for smallness against.
+   * @param value the unsigned value to check for smallness.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static long requireLessThanUnsigned(long baseValue, long value, @Nullable String message) {
+    if (!isLessThanUnsigned(baseValue, value)) {
+      throw ValidationException.unsigned(Check.LESS_THAN, value, baseValue, 0L, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@code long} is less than a supplied base value when both are interpreted as
+   * unsigned integers. Returns the given {@code long} if it is less than the given base value,
+   * otherwise, an {@code IllegalArgumentException} is thrown. The values are compared by flipping
+   * their sign bits, see {@link #isLessThanUnsigned(long, long)}, and the exception renders them as
+   * unsigned integers. The exception message is only retrieved from {@code messageSupplier} if the
+   * validation fails.
+   *
+   * @param baseValue the unsigned value to compare for smallness against.
+   * @param value the unsigned value to check for smallness.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than {@code baseValue}.
+   * @since 3.0.0
+   */
+  public static long requireLessThanUnsigned(
+      long baseValue, long value, @Nullable Supplier<String> messageSupplier) {
+    return isLessThanUnsigned(baseValue, value)
+        ? value
+        : requireLessThanUnsigned(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@code long} is less than a supplied base value when both are interpreted as
+   * unsigned integers. Returns the given {@code long} if it is less than the given base value,
+   * otherwise, an {@code IllegalArgumentException} is thrown. The values are compared by flipping
+   * their sign bits, see {@link #isLessThanUnsigned(long, long)}, and the exception renders them as
+   * unsigned integers. The exception message is only formatted if the validation fails.
+   *
+   * @param baseValue the unsigned value to compare for smallness against.
+   * @param value the unsigned value to check for smallness.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than {@code baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static long requireLessThanUnsigned(
+      long baseValue, long value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return isLessThanUnsigned(baseValue, value)
+        ? value
+        : requireLessThanUnsigned(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@code long} is less than or equal to a supplied base value when both are
+   * interpreted as unsigned integers. Returns the given {@code long} if it is less than or equal to
+   * the given base value, otherwise, an {@code IllegalArgumentException} is thrown. The values are
+   * compared by flipping their sign bits, see {@link #isLessThanOrEqualToUnsigned(long, long)}, and
+   * the exception renders them as unsigned integers.
+   *
+   * @param baseValue the unsigned value to compare for smallness or equality against.
+   * @param value the unsigned value to check for smallness or equality.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than or equal to {@code
+   *     baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static long requireLessThanOrEqualToUnsigned(long baseValue, long value) {
+    return requireLessThanOrEqualToUnsigned(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@code long} is less than or equal to a supplied base value when both are
+   * interpreted as unsigned integers. Returns the given {@code long} if it is less than or equal to
+   * the given base value, otherwise, an {@code IllegalArgumentException} is thrown. The values are
+   * compared by flipping their sign bits, see {@link #isLessThanOrEqualToUnsigned(long, long)}, and
+   * the exception renders them as unsigned integers.
+   *
+   * @param baseValue the unsigned value to compare for smallness or equality against.
+   * @param value the unsigned value to check for smallness or equality.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than or equal to {@code
+   *     baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static long requireLessThanOrEqualToUnsigned(
+      long baseValue, long value, @Nullable String message) {
+    if (!isLessThanOrEqualToUnsigned(baseValue, value)) {
+      throw ValidationException.unsigned(
+          Check.LESS_THAN_OR_EQUAL_TO, value, baseValue, 0L, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@code long} is less than or equal to a supplied base value when both are
+   * interpreted as unsigned integers. Returns the given {@code long} if it is less than or equal to
+   * the given base value, otherwise, an {@code IllegalArgumentException} is thrown. The values are
+   * compared by flipping their sign bits, see {@link #isLessThanOrEqualToUnsigned(long, long)}, and
+   * the exception renders them as unsigned integers. The exception message is only retrieved from
+   * {@code messageSupplier} if the validation fails.
+   *
+   * @param baseValue the unsigned value to compare for smallness or equality against.
+   * @param value the unsigned value to check for smallness or equality.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than or equal to {@code
+   *     baseValue}.
+   * @since 3.0.0
+   */
+  public static long requireLessThanOrEqualToUnsigned(
+      long baseValue, long value, @Nullable Supplier<String> messageSupplier) {
+    return isLessThanOrEqualToUnsigned(baseValue, value)
+        ? value
+        : requireLessThanOrEqualToUnsigned(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@code long} is less than or equal to a supplied base value when both are
+   * interpreted as unsigned integers. Returns the given {@code long} if it is less than or equal to
+   * the given base value, otherwise, an {@code IllegalArgumentException} is thrown. The values are
+   * compared by flipping their sign bits, see {@link #isLessThanOrEqualToUnsigned(long, long)}, and
+   * the exception renders them as unsigned integers. The exception message is only formatted if the
+   * validation fails.
+   *
+   * @param baseValue the unsigned value to compare for smallness or equality against.
+   * @param value the unsigned value to check for smallness or equality.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is not less than or equal to {@code
+   *     baseValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static long requireLessThanOrEqualToUnsigned(
+      long baseValue, long value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return isLessThanOrEqualToUnsigned(baseValue, value)
+        ? value
+        : requireLessThanOrEqualToUnsigned(
+            baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that the specified {@code long} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i> when
+   * all three are interpreted as unsigned integers. Returns {@code value} if it is in the specified
+   * range, otherwise, an {@code IllegalArgumentException} is thrown. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value. See {@link #inRangeUnsigned(long, long, long)}.
+   *
+   * @param minValue the unsigned minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the unsigned maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the unsigned {@code long} to check.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static long requireInRangeUnsigned(long minValue, long maxValue, long value) {
+    return requireInRangeUnsigned(minValue, maxValue, value, (String) null);
+  }
+
+  /**
+   * Validates that the specified {@code long} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i> when
+   * all three are interpreted as unsigned integers. Returns {@code value} if it is in the specified
+   * range, otherwise, an {@code IllegalArgumentException} is thrown. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value. See {@link #inRangeUnsigned(long, long, long)}.
+   *
+   * @param minValue the unsigned minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the unsigned maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the unsigned {@code long} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static long requireInRangeUnsigned(
+      long minValue, long maxValue, long value, @Nullable String message) {
+    if (!inRangeUnsigned(minValue, maxValue, value)) {
+      throw ValidationException.unsigned(Check.IN_RANGE, value, minValue, maxValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that the specified {@code long} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i> when
+   * all three are interpreted as unsigned integers. Returns {@code value} if it is in the specified
+   * range, otherwise, an {@code IllegalArgumentException} is thrown. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value. See {@link #inRangeUnsigned(long, long, long)}. The exception message is only retrieved
+   * from {@code messageSupplier} if the validation fails.
+   *
+   * @param minValue the unsigned minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the unsigned maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the unsigned {@code long} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @since 3.0.0
+   */
+  public static long requireInRangeUnsigned(
+      long minValue, long maxValue, long value, @Nullable Supplier<String> messageSupplier) {
+    return inRangeUnsigned(minValue, maxValue, value)
+        ? value
+        : requireInRangeUnsigned(minValue, maxValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the specified {@code long} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i> when
+   * all three are interpreted as unsigned integers. Returns {@code value} if it is in the specified
+   * range, otherwise, an {@code IllegalArgumentException} is thrown. An {@code
+   * IllegalArgumentException} will also be thrown if the maximum value is less than the minimum
+   * value. See {@link #inRangeUnsigned(long, long, long)}. The exception message is only formatted
+   * if the validation fails.
+   *
+   * @param minValue the unsigned minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the unsigned maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the unsigned {@code long} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static long requireInRangeUnsigned(
+      long minValue,
+      long maxValue,
+      long value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return inRangeUnsigned(minValue, maxValue, value)
+        ? value
+        : requireInRangeUnsigned(
+            minValue, maxValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  // ========================================================================
+  // TEMPORAL CHECKS
+  // ========================================================================
+
+  /**
+   * Checks if an {@link Instant} is greater than, i.e. after, a supplied base value. Returns {@code
+   * true} if the given {@code Instant} is after the supplied base value.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @return {@code true} if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if any of the two arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static boolean isGreaterThan(Instant baseValue, Instant value) {
+    return requireNonNull(value, "value cannot be null.")
+        .isAfter(requireNonNull(baseValue, "baseValue cannot be null."));
+  }
+
+  /**
+   * Checks if an {@link Instant} is less than, i.e. before, a supplied base value. Returns {@code
+   * true} if the given {@code Instant} is before the supplied base value.
+   *
+   * @param baseValue the value to compare for lowness against.
+   * @param value the value to check for lowness.
+   * @return {@code true} if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if any of the two arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static boolean isLessThan(Instant baseValue, Instant value) {
+    return requireNonNull(value, "value cannot be null.")
+        .isBefore(requireNonNull(baseValue, "baseValue cannot be null."));
+  }
+
+  /**
+   * Checks that the specified {@link Instant} is in range of the specified minimum value
+   * (inclusive) and maximum value (exclusive). Returns {@code true} if {@code value} is after or
+   * equal to {@code minValue} and before {@code maxValue}, {@code false} otherwise. An {@link
+   * IllegalArgumentException} will be thrown if the maximum value is before the minimum value.
+   *
+   * @param minValue the minimum value(inclusive) of the range.
+   * @param maxValue the maximum value(exclusive) of the range.
+   * @param value the {@code Instant} to check.
+   * @return {@code true} if {@code value} is in the specified range, {@code false} otherwise.
+   * @throws NullPointerException if any of the arguments passed are {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is before {@code minValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static boolean inRange(Instant minValue, Instant maxValue, Instant value) {
+    requireNonNull(minValue, "minValue cannot be null.");
+    if (requireNonNull(maxValue, "maxValue cannot be null.").isBefore(minValue)) {
+      throw new IllegalArgumentException(
+          String.format("maxValue( %s ) cannot be less than minValue( %s ).", maxValue, minValue));
+    }
+    return !requireNonNull(value, "value cannot be null.").isBefore(minValue)
+        && value.isBefore(maxValue);
+  }
+
+  /**
+   * Checks if a {@link Duration} is greater than, i.e. longer than, a supplied base value. Returns
+   * {@code true} if the given {@code Duration} is longer than the supplied base value.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @return {@code true} if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if any of the two arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static boolean isGreaterThan(Duration baseValue, Duration value) {
+    return requireNonNull(value, "value cannot be null.")
+            .compareTo(requireNonNull(baseValue, "baseValue cannot be null."))
+        > 0;
+  }
+
+  /**
+   * Checks if a {@link Duration} is less than, i.e. shorter than, a supplied base value. Returns
+   * {@code true} if the given {@code Duration} is shorter than the supplied base value.
+   *
+   * @param baseValue the value to compare for lowness against.
+   * @param value the value to check for lowness.
+   * @return {@code true} if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if any of the two arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static boolean isLessThan(Duration baseValue, Duration value) {
+    return requireNonNull(value, "value cannot be null.")
+            .compareTo(requireNonNull(baseValue, "baseValue cannot be null."))
+        < 0;
+  }
+
+  /**
+   * Checks that the specified {@link Duration} is in range of the specified minimum value
+   * (inclusive) and maximum value (exclusive). Returns {@code true} if {@code value} is longer than
+   * or equal to {@code minValue} and shorter than {@code maxValue}, {@code false} otherwise. An
+   * {@link IllegalArgumentException} will be thrown if the maximum value is shorter than the
+   * minimum value.
+   *
+   * @param minValue the minimum value(inclusive) of the range.
+   * @param maxValue the maximum value(exclusive) of the range.
+   * @param value the {@code Duration} to check.
+   * @return {@code true} if {@code value} is in the specified range, {@code false} otherwise.
+   * @throws NullPointerException if any of the arguments passed are {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is shorter than {@code minValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static boolean inRange(Duration minValue, Duration maxValue, Duration value) {
+    requireNonNull(minValue, "minValue cannot be null.");
+    if (requireNonNull(maxValue, "maxValue cannot be null.").compareTo(minValue) < 0) {
+      throw new IllegalArgumentException(
+          String.format("maxValue( %s ) cannot be less than minValue( %s ).", maxValue, minValue));
+    }
+    return requireNonNull(value, "value cannot be null.").compareTo(minValue) >= 0
+        && value.compareTo(maxValue) < 0;
+  }
+
+  /**
+   * Checks if a {@link LocalDate} is greater than, i.e. after, a supplied base value. Returns
+   * {@code true} if the given {@code LocalDate} is after the supplied base value.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @return {@code true} if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if any of the two arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static boolean isGreaterThan(LocalDate baseValue, LocalDate value) {
+    return requireNonNull(value, "value cannot be null.")
+        .isAfter(requireNonNull(baseValue, "baseValue cannot be null."));
+  }
+
+  /**
+   * Checks if a {@link LocalDate} is less than, i.e. before, a supplied base value. Returns {@code
+   * true} if the given {@code LocalDate} is before the supplied base value.
+   *
+   * @param baseValue the value to compare for lowness against.
+   * @param value the value to check for lowness.
+   * @return {@code true} if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if any of the two arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static boolean isLessThan(LocalDate baseValue, LocalDate value) {
+    return requireNonNull(value, "value cannot be null.")
+        .isBefore(requireNonNull(baseValue, "baseValue cannot be null."));
+  }
+
+  /**
+   * Checks that the specified {@link LocalDate} is in range of the specified minimum value
+   * (inclusive) and maximum value (exclusive). Returns {@code true} if {@code value} is after or
+   * equal to {@code minValue} and before {@code maxValue}, {@code false} otherwise. An {@link
+   * IllegalArgumentException} will be thrown if the maximum value is before the minimum value.
+   *
+   * @param minValue the minimum value(inclusive) of the range.
+   * @param maxValue the maximum value(exclusive) of the range.
+   * @param value the {@code LocalDate} to check.
+   * @return {@code true} if {@code value} is in the specified range, {@code false} otherwise.
+   * @throws NullPointerException if any of the arguments passed are {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is before {@code minValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static boolean inRange(LocalDate minValue, LocalDate maxValue, LocalDate value) {
+    requireNonNull(minValue, "minValue cannot be null.");
+    if (requireNonNull(maxValue, "maxValue cannot be null.").isBefore(minValue)) {
+      throw new IllegalArgumentException(
+          String.format("maxValue( %s ) cannot be less than minValue( %s ).", maxValue, minValue));
+    }
+    return !requireNonNull(value, "value cannot be null.").isBefore(minValue)
+        && value.isBefore(maxValue);
+  }
+
+  /**
+   * Checks if an {@link OffsetDateTime} is greater than, i.e. after, a supplied base value. Returns
+   * {@code true} if the given {@code OffsetDateTime} is after the supplied base value. The values
+   * are compared by the instants they represent, like {@link
+   * OffsetDateTime#isAfter(OffsetDateTime)} compares them, so values with different offsets that
+   * represent the same instant are equal.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @return {@code true} if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if any of the two arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static boolean isGreaterThan(OffsetDateTime baseValue, OffsetDateTime value) {
+    return requireNonNull(value, "value cannot be null.")
+        .isAfter(requireNonNull(baseValue, "baseValue cannot be null."));
+  }
+
+  /**
+   * Checks if an {@link OffsetDateTime} is less than, i.e. before, a supplied base value. Returns
+   * {@code true} if the given {@code OffsetDateTime} is before the supplied base value. The values
+   * are compared by the instants they represent, like {@link
+   * OffsetDateTime#isBefore(OffsetDateTime)} compares them, so values with different offsets that
+   * represent the same instant are equal.
+   *
+   * @param baseValue the value to compare for lowness against.
+   * @param value the value to check for lowness.
+   * @return {@code true} if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if any of the two arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static boolean isLessThan(OffsetDateTime baseValue, OffsetDateTime value) {
+    return requireNonNull(value, "value cannot be null.")
+        .isBefore(requireNonNull(baseValue, "baseValue cannot be null."));
+  }
+
+  /**
+   * Checks that the specified {@link OffsetDateTime} is in range of the specified minimum value
+   * (inclusive) and maximum value (exclusive). Returns {@code true} if {@code value} is after or
+   * equal to {@code minValue} and before {@code maxValue}, {@code false} otherwise. An {@link
+   * IllegalArgumentException} will be thrown if the maximum value is before the minimum value. The
+   * values are compared by the instants they represent, like {@link
+   * OffsetDateTime#isAfter(OffsetDateTime)} compares them, so values with different offsets that
+   * represent the same instant are equal.
+   *
+   * @param minValue the minimum value(inclusive) of the range.
+   * @param maxValue the maximum value(exclusive) of the range.
+   * @param value the {@code OffsetDateTime} to check.
+   * @return {@code true} if {@code value} is in the specified range, {@code false} otherwise.
+   * @throws NullPointerException if any of the arguments passed are {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is before {@code minValue}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static boolean inRange(
+      OffsetDateTime minValue, OffsetDateTime maxValue, OffsetDateTime value) {
+    requireNonNull(minValue, "minValue cannot be null.");
+    if (requireNonNull(maxValue, "maxValue cannot be null.").isBefore(minValue)) {
+      throw new IllegalArgumentException(
+          String.format("maxValue( %s ) cannot be less than minValue( %s ).", maxValue, minValue));
+    }
+    return !requireNonNull(value, "value cannot be null.").isBefore(minValue)
+        && value.isBefore(maxValue);
+  }
+
+  // ========================================================================
+  // REQUIRE TEMPORAL VALIDATORS
+  // ========================================================================
+
+  /**
+   * Validates that an {@link Instant} is greater than a supplied base value. Returns the given
+   * {@code Instant} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static Instant requireGreaterThan(Instant baseValue, Instant value) {
+    return requireGreaterThan(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that an {@link Instant} is greater than a supplied base value. Returns the given
+   * {@code Instant} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static Instant requireGreaterThan(
+      Instant baseValue, Instant value, @Nullable String message) {
+    if (!isGreaterThan(baseValue, value)) {
+      throw new ValidationException(Check.GREATER_THAN, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that an {@link Instant} is greater than a supplied base value. Returns the given
+   * {@code Instant} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static Instant requireGreaterThan(
+      Instant baseValue, Instant value, @Nullable Supplier<String> messageSupplier) {
+    return isGreaterThan(baseValue, value)
+        ? value
+        : requireGreaterThan(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that an {@link Instant} is greater than a supplied base value. Returns the given
+   * {@code Instant} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static Instant requireGreaterThan(
+      Instant baseValue,
+      Instant value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isGreaterThan(baseValue, value)
+        ? value
+        : requireGreaterThan(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@link Duration} is greater than a supplied base value. Returns the given
+   * {@code Duration} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static Duration requireGreaterThan(Duration baseValue, Duration value) {
+    return requireGreaterThan(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@link Duration} is greater than a supplied base value. Returns the given
+   * {@code Duration} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static Duration requireGreaterThan(
+      Duration baseValue, Duration value, @Nullable String message) {
+    if (!isGreaterThan(baseValue, value)) {
+      throw new ValidationException(Check.GREATER_THAN, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@link Duration} is greater than a supplied base value. Returns the given
+   * {@code Duration} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static Duration requireGreaterThan(
+      Duration baseValue, Duration value, @Nullable Supplier<String> messageSupplier) {
+    return isGreaterThan(baseValue, value)
+        ? value
+        : requireGreaterThan(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@link Duration} is greater than a supplied base value. Returns the given
+   * {@code Duration} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static Duration requireGreaterThan(
+      Duration baseValue,
+      Duration value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isGreaterThan(baseValue, value)
+        ? value
+        : requireGreaterThan(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@link LocalDate} is greater than a supplied base value. Returns the given
+   * {@code LocalDate} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static LocalDate requireGreaterThan(LocalDate baseValue, LocalDate value) {
+    return requireGreaterThan(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@link LocalDate} is greater than a supplied base value. Returns the given
+   * {@code LocalDate} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static LocalDate requireGreaterThan(
+      LocalDate baseValue, LocalDate value, @Nullable String message) {
+    if (!isGreaterThan(baseValue, value)) {
+      throw new ValidationException(Check.GREATER_THAN, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@link LocalDate} is greater than a supplied base value. Returns the given
+   * {@code LocalDate} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static LocalDate requireGreaterThan(
+      LocalDate baseValue, LocalDate value, @Nullable Supplier<String> messageSupplier) {
+    return isGreaterThan(baseValue, value)
+        ? value
+        : requireGreaterThan(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@link LocalDate} is greater than a supplied base value. Returns the given
+   * {@code LocalDate} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static LocalDate requireGreaterThan(
+      LocalDate baseValue,
+      LocalDate value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isGreaterThan(baseValue, value)
+        ? value
+        : requireGreaterThan(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that an {@link OffsetDateTime} is greater than a supplied base value. Returns the
+   * given {@code OffsetDateTime} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The values are compared by the instants they represent.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static OffsetDateTime requireGreaterThan(OffsetDateTime baseValue, OffsetDateTime value) {
+    return requireGreaterThan(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that an {@link OffsetDateTime} is greater than a supplied base value. Returns the
+   * given {@code OffsetDateTime} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The values are compared by the instants they represent.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static OffsetDateTime requireGreaterThan(
+      OffsetDateTime baseValue, OffsetDateTime value, @Nullable String message) {
+    if (!isGreaterThan(baseValue, value)) {
+      throw new ValidationException(Check.GREATER_THAN, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that an {@link OffsetDateTime} is greater than a supplied base value. Returns the
+   * given {@code OffsetDateTime} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails. The values are compared by the instants they
+   * represent.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static OffsetDateTime requireGreaterThan(
+      OffsetDateTime baseValue, OffsetDateTime value, @Nullable Supplier<String> messageSupplier) {
+    return isGreaterThan(baseValue, value)
+        ? value
+        : requireGreaterThan(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that an {@link OffsetDateTime} is greater than a supplied base value. Returns the
+   * given {@code OffsetDateTime} if it is greater than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only formatted if the validation
+   * fails. The values are compared by the instants they represent.
+   *
+   * @param baseValue the value to compare for greatness against.
+   * @param value the value to check for greatness.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is greater than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is less than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static OffsetDateTime requireGreaterThan(
+      OffsetDateTime baseValue,
+      OffsetDateTime value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isGreaterThan(baseValue, value)
+        ? value
+        : requireGreaterThan(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that an {@link Instant} is less than a supplied base value. Returns the given
+   * {@code Instant} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static Instant requireLessThan(Instant baseValue, Instant value) {
+    return requireLessThan(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that an {@link Instant} is less than a supplied base value. Returns the given
+   * {@code Instant} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static Instant requireLessThan(
+      Instant baseValue, Instant value, @Nullable String message) {
+    if (!isLessThan(baseValue, value)) {
+      throw new ValidationException(Check.LESS_THAN, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that an {@link Instant} is less than a supplied base value. Returns the given
+   * {@code Instant} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static Instant requireLessThan(
+      Instant baseValue, Instant value, @Nullable Supplier<String> messageSupplier) {
+    return isLessThan(baseValue, value)
+        ? value
+        : requireLessThan(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that an {@link Instant} is less than a supplied base value. Returns the given
+   * {@code Instant} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static Instant requireLessThan(
+      Instant baseValue,
+      Instant value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isLessThan(baseValue, value)
+        ? value
+        : requireLessThan(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@link Duration} is less than a supplied base value. Returns the given
+   * {@code Duration} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static Duration requireLessThan(Duration baseValue, Duration value) {
+    return requireLessThan(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@link Duration} is less than a supplied base value. Returns the given
+   * {@code Duration} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static Duration requireLessThan(
+      Duration baseValue, Duration value, @Nullable String message) {
+    if (!isLessThan(baseValue, value)) {
+      throw new ValidationException(Check.LESS_THAN, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@link Duration} is less than a supplied base value. Returns the given
+   * {@code Duration} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static Duration requireLessThan(
+      Duration baseValue, Duration value, @Nullable Supplier<String> messageSupplier) {
+    return isLessThan(baseValue, value)
+        ? value
+        : requireLessThan(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@link Duration} is less than a supplied base value. Returns the given
+   * {@code Duration} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static Duration requireLessThan(
+      Duration baseValue,
+      Duration value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isLessThan(baseValue, value)
+        ? value
+        : requireLessThan(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a {@link LocalDate} is less than a supplied base value. Returns the given
+   * {@code LocalDate} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static LocalDate requireLessThan(LocalDate baseValue, LocalDate value) {
+    return requireLessThan(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that a {@link LocalDate} is less than a supplied base value. Returns the given
+   * {@code LocalDate} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static LocalDate requireLessThan(
+      LocalDate baseValue, LocalDate value, @Nullable String message) {
+    if (!isLessThan(baseValue, value)) {
+      throw new ValidationException(Check.LESS_THAN, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a {@link LocalDate} is less than a supplied base value. Returns the given
+   * {@code LocalDate} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static LocalDate requireLessThan(
+      LocalDate baseValue, LocalDate value, @Nullable Supplier<String> messageSupplier) {
+    return isLessThan(baseValue, value)
+        ? value
+        : requireLessThan(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a {@link LocalDate} is less than a supplied base value. Returns the given
+   * {@code LocalDate} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static LocalDate requireLessThan(
+      LocalDate baseValue,
+      LocalDate value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isLessThan(baseValue, value)
+        ? value
+        : requireLessThan(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that an {@link OffsetDateTime} is less than a supplied base value. Returns the given
+   * {@code OffsetDateTime} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The values are compared by the instants they represent.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static OffsetDateTime requireLessThan(OffsetDateTime baseValue, OffsetDateTime value) {
+    return requireLessThan(baseValue, value, (String) null);
+  }
+
+  /**
+   * Validates that an {@link OffsetDateTime} is less than a supplied base value. Returns the given
+   * {@code OffsetDateTime} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The values are compared by the instants they represent.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static OffsetDateTime requireLessThan(
+      OffsetDateTime baseValue, OffsetDateTime value, @Nullable String message) {
+    if (!isLessThan(baseValue, value)) {
+      throw new ValidationException(Check.LESS_THAN, value, baseValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that an {@link OffsetDateTime} is less than a supplied base value. Returns the given
+   * {@code OffsetDateTime} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails. The values are compared by the instants they
+   * represent.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static OffsetDateTime requireLessThan(
+      OffsetDateTime baseValue, OffsetDateTime value, @Nullable Supplier<String> messageSupplier) {
+    return isLessThan(baseValue, value)
+        ? value
+        : requireLessThan(baseValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that an {@link OffsetDateTime} is less than a supplied base value. Returns the given
+   * {@code OffsetDateTime} if it is less than the given base value, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only formatted if the validation
+   * fails. The values are compared by the instants they represent.
+   *
+   * @param baseValue the value to compare for smallness against.
+   * @param value the value to check for smallness.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value} is less than {@code baseValue}.
+   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
+   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static OffsetDateTime requireLessThan(
+      OffsetDateTime baseValue,
+      OffsetDateTime value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return isLessThan(baseValue, value)
+        ? value
+        : requireLessThan(baseValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that the specified {@link Instant} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code Instant} to check.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @throws NullPointerException if any of the arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static Instant requireInRange(Instant minValue, Instant maxValue, Instant value) {
+    return requireInRange(minValue, maxValue, value, (String) null);
+  }
+
+  /**
+   * Validates that the specified {@link Instant} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value. An optional message can also be given to be
+   * used as the exception message.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code Instant} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @throws NullPointerException if any of the first three arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static Instant requireInRange(
+      Instant minValue, Instant maxValue, Instant value, @Nullable String message) {
+    if (!inRange(minValue, maxValue, value)) {
+      throw new ValidationException(Check.IN_RANGE, value, minValue, maxValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that the specified {@link Instant} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value. An optional message can also be given to be
+   * used as the exception message. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code Instant} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @throws NullPointerException if any of the first three arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static Instant requireInRange(
+      Instant minValue,
+      Instant maxValue,
+      Instant value,
+      @Nullable Supplier<String> messageSupplier) {
+    return inRange(minValue, maxValue, value)
+        ? value
+        : requireInRange(minValue, maxValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the specified {@link Instant} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value. An optional message can also be given to be
+   * used as the exception message. The exception message is only formatted if the validation fails.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code Instant} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @throws NullPointerException if any of the first three arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static Instant requireInRange(
+      Instant minValue,
+      Instant maxValue,
+      Instant value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return inRange(minValue, maxValue, value)
+        ? value
+        : requireInRange(minValue, maxValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that the specified {@link Duration} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code Duration} to check.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @throws NullPointerException if any of the arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static Duration requireInRange(Duration minValue, Duration maxValue, Duration value) {
+    return requireInRange(minValue, maxValue, value, (String) null);
+  }
+
+  /**
+   * Validates that the specified {@link Duration} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value. An optional message can also be given to be
+   * used as the exception message.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code Duration} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @throws NullPointerException if any of the first three arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static Duration requireInRange(
+      Duration minValue, Duration maxValue, Duration value, @Nullable String message) {
+    if (!inRange(minValue, maxValue, value)) {
+      throw new ValidationException(Check.IN_RANGE, value, minValue, maxValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that the specified {@link Duration} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value. An optional message can also be given to be
+   * used as the exception message. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code Duration} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @throws NullPointerException if any of the first three arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static Duration requireInRange(
+      Duration minValue,
+      Duration maxValue,
+      Duration value,
+      @Nullable Supplier<String> messageSupplier) {
+    return inRange(minValue, maxValue, value)
+        ? value
+        : requireInRange(minValue, maxValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the specified {@link Duration} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value. An optional message can also be given to be
+   * used as the exception message. The exception message is only formatted if the validation fails.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code Duration} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @throws NullPointerException if any of the first three arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static Duration requireInRange(
+      Duration minValue,
+      Duration maxValue,
+      Duration value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return inRange(minValue, maxValue, value)
+        ? value
+        : requireInRange(minValue, maxValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that the specified {@link LocalDate} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code LocalDate} to check.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @throws NullPointerException if any of the arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static LocalDate requireInRange(LocalDate minValue, LocalDate maxValue, LocalDate value) {
+    return requireInRange(minValue, maxValue, value, (String) null);
+  }
+
+  /**
+   * Validates that the specified {@link LocalDate} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value. An optional message can also be given to be
+   * used as the exception message.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code LocalDate} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @throws NullPointerException if any of the first three arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static LocalDate requireInRange(
+      LocalDate minValue, LocalDate maxValue, LocalDate value, @Nullable String message) {
+    if (!inRange(minValue, maxValue, value)) {
+      throw new ValidationException(Check.IN_RANGE, value, minValue, maxValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that the specified {@link LocalDate} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value. An optional message can also be given to be
+   * used as the exception message. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code LocalDate} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @throws NullPointerException if any of the first three arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static LocalDate requireInRange(
+      LocalDate minValue,
+      LocalDate maxValue,
+      LocalDate value,
+      @Nullable Supplier<String> messageSupplier) {
+    return inRange(minValue, maxValue, value)
+        ? value
+        : requireInRange(minValue, maxValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the specified {@link LocalDate} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value. An optional message can also be given to be
+   * used as the exception message. The exception message is only formatted if the validation fails.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code LocalDate} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @throws NullPointerException if any of the first three arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static LocalDate requireInRange(
+      LocalDate minValue,
+      LocalDate maxValue,
+      LocalDate value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return inRange(minValue, maxValue, value)
+        ? value
+        : requireInRange(minValue, maxValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that the specified {@link OffsetDateTime} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value. The values are compared by the instants they
+   * represent.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code OffsetDateTime} to check.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @throws NullPointerException if any of the arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static OffsetDateTime requireInRange(
+      OffsetDateTime minValue, OffsetDateTime maxValue, OffsetDateTime value) {
+    return requireInRange(minValue, maxValue, value, (String) null);
+  }
+
+  /**
+   * Validates that the specified {@link OffsetDateTime} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value. An optional message can also be given to be
+   * used as the exception message. The values are compared by the instants they represent.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code OffsetDateTime} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @throws NullPointerException if any of the first three arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static OffsetDateTime requireInRange(
+      OffsetDateTime minValue,
+      OffsetDateTime maxValue,
+      OffsetDateTime value,
+      @Nullable String message) {
+    if (!inRange(minValue, maxValue, value)) {
+      throw new ValidationException(Check.IN_RANGE, value, minValue, maxValue, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that the specified {@link OffsetDateTime} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value. An optional message can also be given to be
+   * used as the exception message. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails. The values are compared by the instants they
+   * represent.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code OffsetDateTime} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @throws NullPointerException if any of the first three arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static OffsetDateTime requireInRange(
+      OffsetDateTime minValue,
+      OffsetDateTime maxValue,
+      OffsetDateTime value,
+      @Nullable Supplier<String> messageSupplier) {
+    return inRange(minValue, maxValue, value)
+        ? value
+        : requireInRange(minValue, maxValue, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the specified {@link OffsetDateTime} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>.
+   * Returns {@code value} if it is in the specified range, i.e, {@code value} is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be thrown if
+   * the maximum value is less than the minimum value. An optional message can also be given to be
+   * used as the exception message. The exception message is only formatted if the validation fails.
+   * The values are compared by the instants they represent.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the {@code OffsetDateTime} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is in the specified range.
+   * @throws IllegalArgumentException if {@code value} is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @throws NullPointerException if any of the first three arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static OffsetDateTime requireInRange(
+      OffsetDateTime minValue,
+      OffsetDateTime maxValue,
+      OffsetDateTime value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return inRange(minValue, maxValue, value)
+        ? value
+        : requireInRange(minValue, maxValue, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  // ========================================================================
+  // CLOCK CHECKS
+  // ========================================================================
+
+  /**
+   * Checks that an {@link Instant} is not in the future, i.e. it is before or equal to the current
+   * time of the given {@link Clock}. Returns {@code true} if {@code value} is not after the current
+   * time, {@code false} otherwise. The current time is read once with {@link Clock#millis()}, so
+   * reading it from a {@link CoarseClock} only costs a single volatile read. To allow for clock
+   * skew, use a clock that is ahead of the current time, e.g. {@code Clock.offset(clock, skew)}.
+   *
+   * @param clock the clock to read the current time from.
+   * @param value the {@code Instant} to check.
+   * @return {@code true} if {@code value} is not after the current time, {@code false} otherwise.
+   * @throws NullPointerException if any of the two arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static boolean isNotInFuture(Clock clock, Instant value) {
+    requireNonNull(value, "value cannot be null.");
+    return isNotAfter(requireNonNull(clock, "clock cannot be null.").millis(), value);
+  }
+
+  /**
+   * Checks that a time, given in milliseconds since the epoch of 1970-01-01T00:00:00Z, is not in
+   * the future, i.e. it is before or equal to the current time of the given {@link Clock}. Returns
+   * {@code true} if {@code value} is not after the current time, {@code false} otherwise. The
+   * current time is read once with {@link Clock#millis()}, so reading it from a {@link CoarseClock}
+   * only costs a single volatile read. To allow for clock skew, use a clock that is ahead of the
+   * current time, e.g. {@code Clock.offset(clock, skew)}.
+   *
+   * @param clock the clock to read the current time from.
+   * @param value the time to check in milliseconds since the epoch.
+   * @return {@code true} if {@code value} is not after the current time, {@code false} otherwise.
+   * @throws NullPointerException if {@code clock} is {@code null}.
+   * @since 3.0.0
+   */
+  public static boolean isNotInFuture(Clock clock, long value) {
+    return value <= requireNonNull(clock, "clock cannot be null.").millis();
+  }
+
+  /**
+   * Checks that an {@link Instant} is within the given period before the current time of the given
+   * {@link Clock}. Returns {@code true} if {@code value} is not after the current time and not more
+   * than {@code period} before it, {@code false} otherwise. An {@link IllegalArgumentException}
+   * will be thrown if the period is negative. The current time is read once with {@link
+   * Clock#millis()}, so reading it from a {@link CoarseClock} only costs a single volatile read. To
+   * allow for clock skew, use a clock that is ahead of the current time, e.g. {@code
+   * Clock.offset(clock, skew)}.
+   *
+   * @param clock the clock to read the current time from.
+   * @param period how long before the current time {@code value} can be.
+   * @param value the {@code Instant} to check.
+   * @return {@code true} if {@code value} is within {@code period} before the current time, {@code
+   *     false} otherwise.
+   * @throws NullPointerException if any of the arguments is/are {@code null}.
+   * @throws IllegalArgumentException if {@code period} is negative.
+   * @since 3.0.0
+   */
+  public static boolean isWithinLast(Clock clock, Duration period, Instant value) {
+    requireValidPeriod(period);
+    requireNonNull(value, "value cannot be null.");
+    return isWithin(requireNonNull(clock, "clock cannot be null.").millis(), period, value);
+  }
+
+  /**
+   * Checks that a time, given in milliseconds since the epoch of 1970-01-01T00:00:00Z, is within
+   * the given period before the current time of the given {@link Clock}. Returns {@code true} if
+   * {@code value} is not after the current time and not more than {@code period} before it, {@code
+   * false} otherwise. An {@link IllegalArgumentException} will be thrown if the period is negative.
+   * The current time is read once with {@link Clock#millis()}, so reading it from a {@link
+   * CoarseClock} only costs a single volatile read. To allow for clock skew, use a clock that is
+   * ahead of the current time, e.g. {@code Clock.offset(clock, skew)}.
+   *
+   * @param clock the clock to read the current time from.
+   * @param period how long before the current time {@code value} can be.
+   * @param value the time to check in milliseconds since the epoch.
+   * @return {@code true} if {@code value} is within {@code period} before the current time, {@code
+   *     false} otherwise.
+   * @throws NullPointerException if {@code clock} or/and {@code period} is/are {@code null}.
+   * @throws IllegalArgumentException if {@code period} is negative.
+   * @since 3.0.0
+   */
+  public static boolean isWithinLast(Clock clock, Duration period, long value) {
+    requireValidPeriod(period);
+    return isWithin(requireNonNull(clock, "clock cannot be null.").millis(), period, value);
+  }
+
+  // ========================================================================
+  // REQUIRE CLOCK VALIDATORS
+  // ========================================================================
+
+  /**
+   * Validates that an {@link Instant} is not in the future, i.e. it is before or equal to the
+   * current time of the given {@link Clock}. Returns the given {@code Instant} if it is not after
+   * the current time, otherwise, an {@code IllegalArgumentException} is thrown. The current time is
+   * read once with {@link Clock#millis()}.
+   *
+   * @param clock the clock to read the current time from.
+   * @param value the {@code Instant} to check.
+   * @return {@code value} if it is not after the current time.
+   * @throws IllegalArgumentException if {@code value} is after the current time.
+   * @throws NullPointerException if {@code clock} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static Instant requireNotInFuture(Clock clock, Instant value) {
+    return requireNotInFuture(clock, value, (String) null);
+  }
+
+  /**
+   * Validates that an {@link Instant} is not in the future, i.e. it is before or equal to the
+   * current time of the given {@link Clock}. Returns the given {@code Instant} if it is not after
+   * the current time, otherwise, an {@code IllegalArgumentException} is thrown. An optional message
+   * can also be given to be used as the exception message.
+   *
+   * @param clock the clock to read the current time from.
+   * @param value the {@code Instant} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if it is not after the current time.
+   * @throws IllegalArgumentException if {@code value} is after the current time.
+   * @throws NullPointerException if {@code clock} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static Instant requireNotInFuture(Clock clock, Instant value, @Nullable String message) {
+    requireNonNull(value, "value cannot be null.");
+    return requireNotAfter(requireNonNull(clock, "clock cannot be null.").millis(), value, message);
+  }
+
+  /**
+   * Validates that an {@link Instant} is not in the future, i.e. it is before or equal to the
+   * current time of the given {@link Clock}. Returns the given {@code Instant} if it is not after
+   * the current time, otherwise, an {@code IllegalArgumentException} is thrown. The exception
+   * message is only retrieved from {@code messageSupplier} if the validation fails.
+   *
+   * @param clock the clock to read the current time from.
+   * @param value the {@code Instant} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is not after the current time.
+   * @throws IllegalArgumentException if {@code value} is after the current time.
+   * @throws NullPointerException if {@code clock} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static Instant requireNotInFuture(
+      Clock clock, Instant value, @Nullable Supplier<String> messageSupplier) {
+    requireNonNull(value, "value cannot be null.");
+    long now = requireNonNull(clock, "clock cannot be null.").millis();
+    return isNotAfter(now, value)
+        ? value
+        : requireNotAfter(now, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that an {@link Instant} is not in the future, i.e. it is before or equal to the
+   * current time of the given {@link Clock}. Returns the given {@code Instant} if it is not after
+   * the current time, otherwise, an {@code IllegalArgumentException} is thrown. The exception
+   * message is only formatted if the validation fails.
+   *
+   * @param clock the clock to read the current time from.
+   * @param value the {@code Instant} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is not after the current time.
+   * @throws IllegalArgumentException if {@code value} is after the current time.
+   * @throws NullPointerException if {@code clock} or/and {@code value} is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static Instant requireNotInFuture(
+      Clock clock, Instant value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    requireNonNull(value, "value cannot be null.");
+    long now = requireNonNull(clock, "clock cannot be null.").millis();
+    return isNotAfter(now, value)
+        ? value
+        : requireNotAfter(now, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a time, given in milliseconds since the epoch of 1970-01-01T00:00:00Z, is not in
+   * the future, i.e. it is before or equal to the current time of the given {@link Clock}. Returns
+   * the given time if it is not after the current time, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The current time is read once with {@link Clock#millis()}.
+   *
+   * @param clock the clock to read the current time from.
+   * @param value the time to check in milliseconds since the epoch.
+   * @return {@code value} if it is not after the current time.
+   * @throws IllegalArgumentException if {@code value} is after the current time.
+   * @throws NullPointerException if {@code clock} is {@code null}.
+   * @since 3.0.0
+   */
+  public static long requireNotInFuture(Clock clock, long value) {
+    return requireNotInFuture(clock, value, (String) null);
+  }
+
+  /**
+   * Validates that a time, given in milliseconds since the epoch of 1970-01-01T00:00:00Z, is not in
+   * the future, i.e. it is before or equal to the current time of the given {@link Clock}. Returns
+   * the given time if it is not after the current time, otherwise, an {@code
+   * IllegalArgumentException} is thrown. An optional message can also be given to be used as the
+   * exception message.
+   *
+   * @param clock the clock to read the current time from.
+   * @param value the time to check in milliseconds since the epoch.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if it is not after the current time.
+   * @throws IllegalArgumentException if {@code value} is after the current time.
+   * @throws NullPointerException if {@code clock} is {@code null}.
+   * @since 3.0.0
+   */
+  public static long requireNotInFuture(Clock clock, long value, @Nullable String message) {
+    return requireNotAfter(requireNonNull(clock, "clock cannot be null.").millis(), value, message);
+  }
+
+  /**
+   * Validates that a time, given in milliseconds since the epoch of 1970-01-01T00:00:00Z, is not in
+   * the future, i.e. it is before or equal to the current time of the given {@link Clock}. Returns
+   * the given time if it is not after the current time, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param clock the clock to read the current time from.
+   * @param value the time to check in milliseconds since the epoch.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is not after the current time.
+   * @throws IllegalArgumentException if {@code value} is after the current time.
+   * @throws NullPointerException if {@code clock} is {@code null}.
+   * @since 3.0.0
+   */
+  public static long requireNotInFuture(
+      Clock clock, long value, @Nullable Supplier<String> messageSupplier) {
+    long now = requireNonNull(clock, "clock cannot be null.").millis();
+    return value <= now ? value : requireNotAfter(now, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a time, given in milliseconds since the epoch of 1970-01-01T00:00:00Z, is not in
+   * the future, i.e. it is before or equal to the current time of the given {@link Clock}. Returns
+   * the given time if it is not after the current time, otherwise, an {@code
+   * IllegalArgumentException} is thrown. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param clock the clock to read the current time from.
+   * @param value the time to check in milliseconds since the epoch.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is not after the current time.
+   * @throws IllegalArgumentException if {@code value} is after the current time.
+   * @throws NullPointerException if {@code clock} is {@code null}.
+   * @since 3.0.0
+   */
+  public static long requireNotInFuture(
+      Clock clock, long value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    long now = requireNonNull(clock, "clock cannot be null.").millis();
+    return value <= now
+        ? value
+        : requireNotAfter(now, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that an {@link Instant} is within the given period before the current time of the
+   * given {@link Clock}. Returns the given {@code Instant} if it is not after the current time and
+   * not more than {@code period} before it, otherwise, an {@code IllegalArgumentException} is
+   * thrown. An {@code IllegalArgumentException} will also be thrown if the period is negative. The
+   * current time is read once with {@link Clock#millis()}.
+   *
+   * @param clock the clock to read the current time from.
+   * @param period how long before the current time {@code value} can be.
+   * @param value the {@code Instant} to check.
+   * @return {@code value} if it is within {@code period} before the current time.
+   * @throws IllegalArgumentException if {@code value} is not within {@code period} before the
+   *     current time or if {@code period} is negative.
+   * @throws NullPointerException if any of the arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static Instant requireWithinLast(Clock clock, Duration period, Instant value) {
+    return requireWithinLast(clock, period, value, (String) null);
+  }
+
+  /**
+   * Validates that an {@link Instant} is within the given period before the current time of the
+   * given {@link Clock}. Returns the given {@code Instant} if it is not after the current time and
+   * not more than {@code period} before it, otherwise, an {@code IllegalArgumentException} is
+   * thrown. An {@code IllegalArgumentException} will also be thrown if the period is negative. An
+   * optional message can also be given to be used as the exception message.
+   *
+   * @param clock the clock to read the current time from.
+   * @param period how long before the current time {@code value} can be.
+   * @param value the {@code Instant} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if it is within {@code period} before the current time.
+   * @throws IllegalArgumentException if {@code value} is not within {@code period} before the
+   *     current time or if {@code period} is negative.
+   * @throws NullPointerException if any of the first three arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static Instant requireWithinLast(
+      Clock clock, Duration period, Instant value, @Nullable String message) {
+    requireValidPeriod(period);
+    requireNonNull(value, "value cannot be null.");
+    long now = requireNonNull(clock, "clock cannot be null.").millis();
+    return requireWithin(now, period, value, message);
+  }
+
+  /**
+   * Validates that an {@link Instant} is within the given period before the current time of the
+   * given {@link Clock}. Returns the given {@code Instant} if it is not after the current time and
+   * not more than {@code period} before it, otherwise, an {@code IllegalArgumentException} is
+   * thrown. An {@code IllegalArgumentException} will also be thrown if the period is negative. The
+   * exception message is only retrieved from {@code messageSupplier} if the validation fails.
+   *
+   * @param clock the clock to read the current time from.
+   * @param period how long before the current time {@code value} can be.
+   * @param value the {@code Instant} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is within {@code period} before the current time.
+   * @throws IllegalArgumentException if {@code value} is not within {@code period} before the
+   *     current time or if {@code period} is negative.
+   * @throws NullPointerException if any of the first three arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static Instant requireWithinLast(
+      Clock clock, Duration period, Instant value, @Nullable Supplier<String> messageSupplier) {
+    requireValidPeriod(period);
+    requireNonNull(value, "value cannot be null.");
+    long now = requireNonNull(clock, "clock cannot be null.").millis();
+    return isWithin(now, period, value)
+        ? value
+        : requireWithin(now, period, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that an {@link Instant} is within the given period before the current time of the
+   * given {@link Clock}. Returns the given {@code Instant} if it is not after the current time and
+   * not more than {@code period} before it, otherwise, an {@code IllegalArgumentException} is
+   * thrown. An {@code IllegalArgumentException} will also be thrown if the period is negative. The
+   * exception message is only formatted if the validation fails.
+   *
+   * @param clock the clock to read the current time from.
+   * @param period how long before the current time {@code value} can be.
+   * @param value the {@code Instant} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is within {@code period} before the current time.
+   * @throws IllegalArgumentException if {@code value} is not within {@code period} before the
+   *     current time or if {@code period} is negative.
+   * @throws NullPointerException if any of the first three arguments is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static Instant requireWithinLast(
+      Clock clock,
+      Duration period,
+      Instant value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    requireValidPeriod(period);
+    requireNonNull(value, "value cannot be null.");
+    long now = requireNonNull(clock, "clock cannot be null.").millis();
+    return isWithin(now, period, value)
+        ? value
+        : requireWithin(now, period, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that a time, given in milliseconds since the epoch of 1970-01-01T00:00:00Z, is within
+   * the given period before the current time of the given {@link Clock}. Returns the given time if
+   * it is not after the current time and not more than {@code period} before it, otherwise, an
+   * {@code IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be
+   * thrown if the period is negative. The current time is read once with {@link Clock#millis()}.
+   *
+   * @param clock the clock to read the current time from.
+   * @param period how long before the current time {@code value} can be.
+   * @param value the time to check in milliseconds since the epoch.
+   * @return {@code value} if it is within {@code period} before the current time.
+   * @throws IllegalArgumentException if {@code value} is not within {@code period} before the
+   *     current time or if {@code period} is negative.
+   * @throws NullPointerException if {@code clock} or/and {@code period} is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static long requireWithinLast(Clock clock, Duration period, long value) {
+    return requireWithinLast(clock, period, value, (String) null);
+  }
+
+  /**
+   * Validates that a time, given in milliseconds since the epoch of 1970-01-01T00:00:00Z, is within
+   * the given period before the current time of the given {@link Clock}. Returns the given time if
+   * it is not after the current time and not more than {@code period} before it, otherwise, an
+   * {@code IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be
+   * thrown if the period is negative. An optional message can also be given to be used as the
+   * exception message.
+   *
+   * @param clock the clock to read the current time from.
+   * @param period how long before the current time {@code value} can be.
+   * @param value the time to check in milliseconds since the epoch.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if it is within {@code period} before the current time.
+   * @throws IllegalArgumentException if {@code value} is not within {@code period} before the
+   *     current time or if {@code period} is negative.
+   * @throws NullPointerException if {@code clock} or/and {@code period} is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static long requireWithinLast(
+      Clock clock, Duration period, long value, @Nullable String message) {
+    requireValidPeriod(period);
+    long now = requireNonNull(clock, "clock cannot be null.").millis();
+    return requireWithin(now, period, value, message);
+  }
+
+  /**
+   * Validates that a time, given in milliseconds since the epoch of 1970-01-01T00:00:00Z, is within
+   * the given period before the current time of the given {@link Clock}. Returns the given time if
+   * it is not after the current time and not more than {@code period} before it, otherwise, an
+   * {@code IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be
+   * thrown if the period is negative. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param clock the clock to read the current time from.
+   * @param period how long before the current time {@code value} can be.
+   * @param value the time to check in milliseconds since the epoch.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is within {@code period} before the current time.
+   * @throws IllegalArgumentException if {@code value} is not within {@code period} before the
+   *     current time or if {@code period} is negative.
+   * @throws NullPointerException if {@code clock} or/and {@code period} is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static long requireWithinLast(
+      Clock clock, Duration period, long value, @Nullable Supplier<String> messageSupplier) {
+    requireValidPeriod(period);
+    long now = requireNonNull(clock, "clock cannot be null.").millis();
+    return isWithin(now, period, value)
+        ? value
+        : requireWithin(now, period, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a time, given in milliseconds since the epoch of 1970-01-01T00:00:00Z, is within
+   * the given period before the current time of the given {@link Clock}. Returns the given time if
+   * it is not after the current time and not more than {@code period} before it, otherwise, an
+   * {@code IllegalArgumentException} is thrown. An {@code IllegalArgumentException} will also be
+   * thrown if the period is negative. The exception message is only formatted if the validation
+   * fails.
+   *
+   * @param clock the clock to read the current time from.
+   * @param period how long before the current time {@code value} can be.
+   * @param value the time to check in milliseconds since the epoch.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is within {@code period} before the current time.
+   * @throws IllegalArgumentException if {@code value} is not within {@code period} before the
+   *     current time or if {@code period} is negative.
+   * @throws NullPointerException if {@code clock} or/and {@code period} is/are {@code null}.
+   * @since 3.0.0
+   */
+  public static long requireWithinLast(
+      Clock clock,
+      Duration period,
+      long value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    requireValidPeriod(period);
+    long now = requireNonNull(clock, "clock cannot be null.").millis();
+    return isWithin(now, period, value)
+        ? value
+        : requireWithin(now, period, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  // ========================================================================
+  // REQUIRE INDEX VALIDATORS
+  // ========================================================================
+
+  /**
+   * Validates that an index is within the bounds of a range that starts at {@code 0}
+   * <i><strong>(inclusive)</strong></i> and ends at {@code length}
+   * <i><strong>(exclusive)</strong></i>. Returns {@code index} if it is within the bounds of the
+   * range, otherwise, an {@link IndexOutOfBoundsException} is thrown. The check is done by {@link
+   * Objects#checkIndex(int, int)}, which the JIT compiler treats as an intrinsic, so it can
+   * eliminate the bounds checks that the index makes redundant, e.g. those of the array accesses
+   * that use it.
+   *
+   * @param index the index to check.
+   * @param length the upper bound <i><strong>(exclusive)</strong></i> of the range.
+   * @return {@code index} if it is within the bounds of the range.
+   * @throws IndexOutOfBoundsException if {@code index} is negative, {@code index} is greater than
+   *     or equal to {@code length} or {@code length} is negative.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireIndex(int index, int length) {
+    return Objects.checkIndex(index, length);
+  }
+
+  /**
+   * Validates that an index is within the bounds of a range that starts at {@code 0}
+   * <i><strong>(inclusive)</strong></i> and ends at {@code length}
+   * <i><strong>(exclusive)</strong></i>. Returns {@code index} if it is within the bounds of the
+   * range, otherwise, an {@link IndexOutOfBoundsException} is thrown. An optional message can also
+   * be given to be used as the exception message.
+   *
+   * @param index the index to check.
+   * @param length the upper bound <i><strong>(exclusive)</strong></i> of the range.
+   * @param message an optional message to be used as the {@code IndexOutOfBoundsException} message.
+   * @return {@code index} if it is within the bounds of the range.
+   * @throws IndexOutOfBoundsException if {@code index} is negative, {@code index} is greater than
+   *     or equal to {@code length} or {@code length} is negative.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireIndex(int index, int length, @Nullable String message) {
+    try {
+      return Objects.checkIndex(index, length);
+    } catch (IndexOutOfBoundsException e) {
+      throw outOfBounds(e, message);
+    }
+  }
+
+  /**
+   * Validates that an index is within the bounds of a range that starts at {@code 0}
+   * <i><strong>(inclusive)</strong></i> and ends at {@code length}
+   * <i><strong>(exclusive)</strong></i>. Returns {@code index} if it is within the bounds of the
+   * range, otherwise, an {@link IndexOutOfBoundsException} is thrown. The exception message is only
+   * retrieved from {@code messageSupplier} if the validation fails.
+   *
+   * @param index the index to check.
+   * @param length the upper bound <i><strong>(exclusive)</strong></i> of the range.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IndexOutOfBoundsException} message.
+   * @return {@code index} if it is within the bounds of the range.
+   * @throws IndexOutOfBoundsException if {@code index} is negative, {@code index} is greater than
+   *     or equal to {@code length} or {@code length} is negative.
+   * @since 3.0.0
+   */
+  public static int requireIndex(
+      int index, int length, @Nullable Supplier<String> messageSupplier) {
+    try {
+      return Objects.checkIndex(index, length);
+    } catch (IndexOutOfBoundsException e) {
+      throw outOfBounds(e, supplyMessage(messageSupplier));
+    }
+  }
+
+  /**
+   * Validates that an index is within the bounds of a range that starts at {@code 0}
+   * <i><strong>(inclusive)</strong></i> and ends at {@code length}
+   * <i><strong>(exclusive)</strong></i>. Returns {@code index} if it is within the bounds of the
+   * range, otherwise, an {@link IndexOutOfBoundsException} is thrown. The exception message is only
+   * formatted if the validation fails.
+   *
+   * @param index the index to check.
+   * @param length the upper bound <i><strong>(exclusive)</strong></i> of the range.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IndexOutOfBoundsException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code index} if it is within the bounds of the range.
+   * @throws IndexOutOfBoundsException if {@code index} is negative, {@code index} is greater than
+   *     or equal to {@code length} or {@code length} is negative.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireIndex(
+      int index, int length, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    try {
+      return Objects.checkIndex(index, length);
+    } catch (IndexOutOfBoundsException e) {
+      throw outOfBounds(e, formatMessage(messageFormat, messageArgs));
+    }
+  }
+
+  /**
+   * Validates that the sub-range from {@code fromIndex} <i><strong>(inclusive)</strong></i> to
+   * {@code toIndex} <i><strong>(exclusive)</strong></i> is within the bounds of a range that starts
+   * at {@code 0} <i><strong>(inclusive)</strong></i> and ends at {@code length}
+   * <i><strong>(exclusive)</strong></i>. Returns {@code fromIndex} if the sub-range is within the
+   * bounds of the range, otherwise, an {@link IndexOutOfBoundsException} is thrown. The check is
+   * done by {@link Objects#checkFromToIndex(int, int, int)}, which the JIT compiler treats as an
+   * intrinsic, so it can eliminate the bounds checks that the sub-range makes redundant, e.g. those
+   * of the array accesses in a loop over it.
+   *
+   * @param fromIndex the lower bound <i><strong>(inclusive)</strong></i> of the sub-range.
+   * @param toIndex the upper bound <i><strong>(exclusive)</strong></i> of the sub-range.
+   * @param length the upper bound <i><strong>(exclusive)</strong></i> of the range.
+   * @return {@code fromIndex} if the sub-range is within the bounds of the range.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code fromIndex} is
+   *     greater than {@code toIndex}, {@code toIndex} is greater than {@code length} or {@code
+   *     length} is negative.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireFromToIndex(int fromIndex, int toIndex, int length) {
+    return Objects.checkFromToIndex(fromIndex, toIndex, length);
+  }
+
+  /**
+   * Validates that the sub-range from {@code fromIndex} <i><strong>(inclusive)</strong></i> to
+   * {@code toIndex} <i><strong>(exclusive)</strong></i> is within the bounds of a range that starts
+   * at {@code 0} <i><strong>(inclusive)</strong></i> and ends at {@code length}
+   * <i><strong>(exclusive)</strong></i>. Returns {@code fromIndex} if the sub-range is within the
+   * bounds of the range, otherwise, an {@link IndexOutOfBoundsException} is thrown. An optional
+   * message can also be given to be used as the exception message.
+   *
+   * @param fromIndex the lower bound <i><strong>(inclusive)</strong></i> of the sub-range.
+   * @param toIndex the upper bound <i><strong>(exclusive)</strong></i> of the sub-range.
+   * @param length the upper bound <i><strong>(exclusive)</strong></i> of the range.
+   * @param message an optional message to be used as the {@code IndexOutOfBoundsException} message.
+   * @return {@code fromIndex} if the sub-range is within the bounds of the range.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code fromIndex} is
+   *     greater than {@code toIndex}, {@code toIndex} is greater than {@code length} or {@code
+   *     length} is negative.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireFromToIndex(
+      int fromIndex, int toIndex, int length, @Nullable String message) {
+    try {
+      return Objects.checkFromToIndex(fromIndex, toIndex, length);
+    } catch (IndexOutOfBoundsException e) {
+      throw outOfBounds(e, message);
+    }
+  }
+
+  /**
+   * Validates that the sub-range from {@code fromIndex} <i><strong>(inclusive)</strong></i> to
+   * {@code toIndex} <i><strong>(exclusive)</strong></i> is within the bounds of a range that starts
+   * at {@code 0} <i><strong>(inclusive)</strong></i> and ends at {@code length}
+   * <i><strong>(exclusive)</strong></i>. Returns {@code fromIndex} if the sub-range is within the
+   * bounds of the range, otherwise, an {@link IndexOutOfBoundsException} is thrown. The exception
+   * message is only retrieved from {@code messageSupplier} if the validation fails.
+   *
+   * @param fromIndex the lower bound <i><strong>(inclusive)</strong></i> of the sub-range.
+   * @param toIndex the upper bound <i><strong>(exclusive)</strong></i> of the sub-range.
+   * @param length the upper bound <i><strong>(exclusive)</strong></i> of the range.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IndexOutOfBoundsException} message.
+   * @return {@code fromIndex} if the sub-range is within the bounds of the range.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code fromIndex} is
+   *     greater than {@code toIndex}, {@code toIndex} is greater than {@code length} or {@code
+   *     length} is negative.
+   * @since 3.0.0
+   */
+  public static int requireFromToIndex(
+      int fromIndex, int toIndex, int length, @Nullable Supplier<String> messageSupplier) {
+    try {
+      return Objects.checkFromToIndex(fromIndex, toIndex, length);
+    } catch (IndexOutOfBoundsException e) {
+      throw outOfBounds(e, supplyMessage(messageSupplier));
+    }
+  }
+
+  /**
+   * Validates that the sub-range from {@code fromIndex} <i><strong>(inclusive)</strong></i> to
+   * {@code toIndex} <i><strong>(exclusive)</strong></i> is within the bounds of a range that starts
+   * at {@code 0} <i><strong>(inclusive)</strong></i> and ends at {@code length}
+   * <i><strong>(exclusive)</strong></i>. Returns {@code fromIndex} if the sub-range is within the
+   * bounds of the range, otherwise, an {@link IndexOutOfBoundsException} is thrown. The exception
+   * message is only formatted if the validation fails.
+   *
+   * @param fromIndex the lower bound <i><strong>(inclusive)</strong></i> of the sub-range.
+   * @param toIndex the upper bound <i><strong>(exclusive)</strong></i> of the sub-range.
+   * @param length the upper bound <i><strong>(exclusive)</strong></i> of the range.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IndexOutOfBoundsException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code fromIndex} if the sub-range is within the bounds of the range.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code fromIndex} is
+   *     greater than {@code toIndex}, {@code toIndex} is greater than {@code length} or {@code
+   *     length} is negative.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireFromToIndex(
+      int fromIndex,
+      int toIndex,
+      int length,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    try {
+      return Objects.checkFromToIndex(fromIndex, toIndex, length);
+    } catch (IndexOutOfBoundsException e) {
+      throw outOfBounds(e, formatMessage(messageFormat, messageArgs));
+    }
+  }
+
+  /**
+   * Validates that the sub-range from {@code fromIndex} <i><strong>(inclusive)</strong></i> to
+   * {@code fromIndex + size} <i><strong>(exclusive)</strong></i> is within the bounds of a range
+   * that starts at {@code 0} <i><strong>(inclusive)</strong></i> and ends at {@code length}
+   * <i><strong>(exclusive)</strong></i>. Returns {@code fromIndex} if the sub-range is within the
+   * bounds of the range, otherwise, an {@link IndexOutOfBoundsException} is thrown. Unlike checking
+   * {@code fromIndex + size} directly, the check doesn't overflow. The check is done by {@link
+   * Objects#checkFromIndexSize(int, int, int)}, which the JIT compiler treats as an intrinsic, so
+   * it can eliminate the bounds checks that the sub-range makes redundant, e.g. those of the array
+   * accesses in a loop over it.
+   *
+   * @param fromIndex the lower bound <i><strong>(inclusive)</strong></i> of the sub-range.
+   * @param size the size of the sub-range.
+   * @param length the upper bound <i><strong>(exclusive)</strong></i> of the range.
+   * @return {@code fromIndex} if the sub-range is within the bounds of the range.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code size} is negative,
+   *     {@code fromIndex + size} is greater than {@code length} or {@code length} is negative.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireFromIndexSize(int fromIndex, int size, int length) {
+    return Objects.checkFromIndexSize(fromIndex, size, length);
+  }
+
+  /**
+   * Validates that the sub-range from {@code fromIndex} <i><strong>(inclusive)</strong></i> to
+   * {@code fromIndex + size} <i><strong>(exclusive)</strong></i> is within the bounds of a range
+   * that starts at {@code 0} <i><strong>(inclusive)</strong></i> and ends at {@code length}
+   * <i><strong>(exclusive)</strong></i>. Returns {@code fromIndex} if the sub-range is within the
+   * bounds of the range, otherwise, an {@link IndexOutOfBoundsException} is thrown. Unlike checking
+   * {@code fromIndex + size} directly, the check doesn't overflow. An optional message can also be
+   * given to be used as the exception message.
+   *
+   * @param fromIndex the lower bound <i><strong>(inclusive)</strong></i> of the sub-range.
+   * @param size the size of the sub-range.
+   * @param length the upper bound <i><strong>(exclusive)</strong></i> of the range.
+   * @param message an optional message to be used as the {@code IndexOutOfBoundsException} message.
+   * @return {@code fromIndex} if the sub-range is within the bounds of the range.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code size} is negative,
+   *     {@code fromIndex + size} is greater than {@code length} or {@code length} is negative.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireFromIndexSize(
+      int fromIndex, int size, int length, @Nullable String message) {
+    try {
+      return Objects.checkFromIndexSize(fromIndex, size, length);
+    } catch (IndexOutOfBoundsException e) {
+      throw outOfBounds(e, message);
+    }
+  }
+
+  /**
+   * Validates that the sub-range from {@code fromIndex} <i><strong>(inclusive)</strong></i> to
+   * {@code fromIndex + size} <i><strong>(exclusive)</strong></i> is within the bounds of a range
+   * that starts at {@code 0} <i><strong>(inclusive)</strong></i> and ends at {@code length}
+   * <i><strong>(exclusive)</strong></i>. Returns {@code fromIndex} if the sub-range is within the
+   * bounds of the range, otherwise, an {@link IndexOutOfBoundsException} is thrown. Unlike checking
+   * {@code fromIndex + size} directly, the check doesn't overflow. The exception message is only
+   * retrieved from {@code messageSupplier} if the validation fails.
+   *
+   * @param fromIndex the lower bound <i><strong>(inclusive)</strong></i> of the sub-range.
+   * @param size the size of the sub-range.
+   * @param length the upper bound <i><strong>(exclusive)</strong></i> of the range.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IndexOutOfBoundsException} message.
+   * @return {@code fromIndex} if the sub-range is within the bounds of the range.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code size} is negative,
+   *     {@code fromIndex + size} is greater than {@code length} or {@code length} is negative.
+   * @since 3.0.0
+   */
+  public static int requireFromIndexSize(
+      int fromIndex, int size, int length, @Nullable Supplier<String> messageSupplier) {
+    try {
+      return Objects.checkFromIndexSize(fromIndex, size, length);
+    } catch (IndexOutOfBoundsException e) {
+      throw outOfBounds(e, supplyMessage(messageSupplier));
+    }
+  }
+
+  /**
+   * Validates that the sub-range from {@code fromIndex} <i><strong>(inclusive)</strong></i> to
+   * {@code fromIndex + size} <i><strong>(exclusive)</strong></i> is within the bounds of a range
+   * that starts at {@code 0} <i><strong>(inclusive)</strong></i> and ends at {@code length}
+   * <i><strong>(exclusive)</strong></i>. Returns {@code fromIndex} if the sub-range is within the
+   * bounds of the range, otherwise, an {@link IndexOutOfBoundsException} is thrown. Unlike checking
+   * {@code fromIndex + size} directly, the check doesn't overflow. The exception message is only
+   * formatted if the validation fails.
+   *
+   * @param fromIndex the lower bound <i><strong>(inclusive)</strong></i> of the sub-range.
+   * @param size the size of the sub-range.
+   * @param length the upper bound <i><strong>(exclusive)</strong></i> of the range.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IndexOutOfBoundsException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code fromIndex} if the sub-range is within the bounds of the range.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code size} is negative,
+   *     {@code fromIndex + size} is greater than {@code length} or {@code length} is negative.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static int requireFromIndexSize(
+      int fromIndex,
+      int size,
+      int length,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    try {
+      return Objects.checkFromIndexSize(fromIndex, size, length);
+    } catch (IndexOutOfBoundsException e) {
+      throw outOfBounds(e, formatMessage(messageFormat, messageArgs));
+    }
+  }
+
+  // ========================================================================
+  // DECIMAL DIGITS UTILS
+  // ========================================================================
+
+  /**
+   * Checks if a {@link BigDecimal} can be written with at most {@code maxPrecision} significant
+   * digits without rounding, i.e. if it has at most {@code maxPrecision} digits once its trailing
+   * zeros are removed. Returns {@code true} if it can, otherwise returns {@code false}.
+   *
+   * <p>The precision of {@code value} is computed once and cached by the {@code BigDecimal}, so
+   * this check doesn't allocate unless {@link BigDecimal#precision()} is greater than {@code
+   * maxPrecision}. Only then are the trailing zeros of {@code value} stripped to decide the check.
+   *
+   * @param maxPrecision the maximum number of significant digits.
+   * @param value the {@code BigDecimal} to check.
+   * @return {@code true} if {@code value} has at most {@code maxPrecision} significant digits,
+   *     otherwise returns {@code false}.
+   * @throws NullPointerException if value is <code>null</code>.
+   * @since 3.0.0
+   */
+  public static boolean hasPrecisionAtMost(int maxPrecision, BigDecimal value) {
+    return requireNonNull(value).precision() <= maxPrecision
+        || (value.signum() != 0 && value.stripTrailingZeros().precision() <= maxPrecision);
+  }
+
+  /**
+   * Checks if a {@link BigDecimal} can be written with at most {@code maxScale} digits to the right
+   * of the decimal point without rounding, i.e. if its scale is at most {@code maxScale} once its
+   * trailing zeros are removed. Returns {@code true} if it can, otherwise returns {@code false}.
+   *
+   * <p>This check doesn't allocate unless {@link BigDecimal#scale()} is greater than {@code
+   * maxScale}. Only then are the trailing zeros of {@code value} stripped to decide the check.
+   *
+   * @param maxScale the maximum number of digits to the right of the decimal point.
+   * @param value the {@code BigDecimal} to check.
+   * @return {@code true} if {@code value} has at most {@code maxScale} digits to the right of the
+   *     decimal point, otherwise returns {@code false}.
+   * @throws NullPointerException if value is <code>null</code>.
+   * @since 3.0.0
+   */
+  public static boolean hasScaleAtMost(int maxScale, BigDecimal value) {
+    return requireNonNull(value).scale() <= maxScale
+        || value.signum() == 0
+        || value.stripTrailingZeros().scale() <= maxScale;
+  }
+
+  /**
+   * Checks if a {@link BigDecimal} can be stored in a SQL {@code NUMERIC(precision, scale)} or
+   * {@code DECIMAL(precision, scale)} column without rounding, i.e. if it has at most {@code
+   * precision - scale} digits to the left of the decimal point and at most {@code scale} digits,
+   * ignoring trailing zeros, to the right of the decimal point. Returns {@code true} if it can,
+   * otherwise returns {@code false}.
+   *
+   * <p>The number of digits to the left of the decimal point is derived from the cached precision
+   * and scale of {@code value}, so this check doesn't allocate unless {@link BigDecimal#scale()} is
+   * greater than {@code scale}.
+   *
+   * @param precision the precision of the column, i.e. its total number of digits.
+   * @param scale the scale of the column, i.e. its number of digits to the right of the decimal
+   *     point.
+   * @param value the {@code BigDecimal} to check.
+   * @return {@code true} if {@code value} fits in a {@code NUMERIC(precision, scale)} column,
+   *     otherwise returns {@code false}.
+   * @throws IllegalArgumentException if {@code precision} is less than one or if {@code scale} is
+   *     negative or greater than {@code precision}.
+   * @throws NullPointerException if value is <code>null</code>.
+   * @since 3.0.0
+   */
+  public static boolean fitsNumeric(int precision, int scale, BigDecimal value) {
+    validateNumeric(precision, scale);
+    if (requireNonNull(value).signum() == 0) {
+      return true;
+    }
+    // 10^(digits - 1) <= |value| < 10^digits, trailing zeros don't change the number of digits
+    long integerDigits = (long) value.precision() - value.scale();
+    return integerDigits <= precision - scale && hasScaleAtMost(scale, value);
+  }
+
+  /**
+   * Validates that the specified {@code BigDecimal} can be stored in a SQL {@code
+   * NUMERIC(precision, scale)} column without rounding. If {@code value} does not fit, an {@code
+   * IllegalArgumentException} is thrown, otherwise, {@code value} is returned. See {@link
+   * #fitsNumeric(int, int, BigDecimal)} for the details of the check.
+   *
+   * @param precision the precision of the column, i.e. its total number of digits.
+   * @param scale the scale of the column, i.e. its number of digits to the right of the decimal
+   *     point.
+   * @param value the {@code BigDecimal} to check.
+   * @return {@code value} if it fits in a {@code NUMERIC(precision, scale)} column.
+   * @throws IllegalArgumentException if {@code value} does not fit in a {@code NUMERIC(precision,
+   *     scale)} column, if {@code precision} is less than one or if {@code scale} is negative or
+   *     greater than {@code precision}.
+   * @throws NullPointerException if value is <code>null</code>.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireFitsNumeric(int precision, int scale, BigDecimal value) {
+    return requireFitsNumeric(precision, scale, value, (String) null);
+  }
+
+  /**
+   * Validates that the specified {@code BigDecimal} can be stored in a SQL {@code
+   * NUMERIC(precision, scale)} column without rounding. If {@code value} does not fit, an {@code
+   * IllegalArgumentException} is thrown, otherwise, {@code value} is returned. An optional message
+   * can also be passed to be used as the {@code IllegalArgumentException} message. See {@link
+   * #fitsNumeric(int, int, BigDecimal)} for the details of the check.
+   *
+   * @param precision the precision of the column, i.e. its total number of digits.
+   * @param scale the scale of the column, i.e. its number of digits to the right of the decimal
+   *     point.
+   * @param value the {@code BigDecimal} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if it fits in a {@code NUMERIC(precision, scale)} column.
+   * @throws IllegalArgumentException if {@code value} does not fit in a {@code NUMERIC(precision,
+   *     scale)} column, if {@code precision} is less than one or if {@code scale} is negative or
+   *     greater than {@code precision}.
+   * @throws NullPointerException if value is <code>null</code>.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireFitsNumeric(
+      int precision, int scale, BigDecimal value, @Nullable String message) {
+    if (!fitsNumeric(precision, scale, value)) {
+      throw new ValidationException(Check.FITS_NUMERIC, value, precision, scale, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that the specified {@code BigDecimal} can be stored in a SQL {@code
+   * NUMERIC(precision, scale)} column without rounding. If {@code value} does not fit, an {@code
+   * IllegalArgumentException} is thrown, otherwise, {@code value} is returned. An optional message
+   * can also be passed to be used as the {@code IllegalArgumentException} message. The exception
+   * message is only retrieved from {@code messageSupplier} if the validation fails. See {@link
+   * #fitsNumeric(int, int, BigDecimal)} for the details of the check.
+   *
+   * @param precision the precision of the column, i.e. its total number of digits.
+   * @param scale the scale of the column, i.e. its number of digits to the right of the decimal
+   *     point.
+   * @param value the {@code BigDecimal} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it fits in a {@code NUMERIC(precision, scale)} column.
+   * @throws IllegalArgumentException if {@code value} does not fit in a {@code NUMERIC(precision,
+   *     scale)} column, if {@code precision} is less than one or if {@code scale} is negative or
+   *     greater than {@code precision}.
+   * @throws NullPointerException if value is <code>null</code>.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireFitsNumeric(
+      int precision, int scale, BigDecimal value, @Nullable Supplier<String> messageSupplier) {
+    return fitsNumeric(precision, scale, value)
+        ? value
+        : requireFitsNumeric(precision, scale, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the specified {@code BigDecimal} can be stored in a SQL {@code
+   * NUMERIC(precision, scale)} column without rounding. If {@code value} does not fit, an {@code
+   * IllegalArgumentException} is thrown, otherwise, {@code value} is returned. An optional message
+   * can also be passed to be used as the {@code IllegalArgumentException} message. The exception
+   * message is only formatted if the validation fails. See {@link #fitsNumeric(int, int,
+   * BigDecimal)} for the details of the check.
+   *
+   * @param precision the precision of the column, i.e. its total number of digits.
+   * @param scale the scale of the column, i.e. its number of digits to the right of the decimal
+   *     point.
+   * @param value the {@code BigDecimal} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it fits in a {@code NUMERIC(precision, scale)} column.
+   * @throws IllegalArgumentException if {@code value} does not fit in a {@code NUMERIC(precision,
+   *     scale)} column, if {@code precision} is less than one or if {@code scale} is negative or
+   *     greater than {@code precision}.
+   * @throws NullPointerException if value is <code>null</code>.
+   * @since 3.0.0
+   */
+  public static BigDecimal requireFitsNumeric(
+      int precision,
+      int scale,
+      BigDecimal value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return fitsNumeric(precision, scale, value)
+        ? value
+        : requireFitsNumeric(precision, scale, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  // Validates the precision and the scale of a NUMERIC column
+  @Pure
+  private static void validateNumeric(int precision, int scale) {
+    if (precision < 1) {
+      throw new IllegalArgumentException(
+          String.format("precision(%d) cannot be less than one.", precision));
+    }
+    if (scale < 0 || scale > precision) {
+      throw new IllegalArgumentException(
+          String.format(
+              "scale(%d) cannot be negative or greater than precision(%d).", scale, precision));
+    }
+  }
+
+  // ========================================================================
+  // SERIALIZABLE UTILS
+  // ========================================================================
+
+  /**
+   * Checks if a given instance is serializable, i.e. implements the {@link Serializable} interface.
+   * Returns <code>true</code> if the instance is serializable, otherwise returns <code>false</code>
+   * .
+   *
+   * @param <T> the type of the instance to be checked for serializability
+   * @param value the instance to check for serializability
+   * @return <code>true</code> if value is serializable or <code>false</code> otherwise.
+   * @see Serializable
+   */
+  @Pure
+  @EnsuresNonNullIf(expression = "#1", result = true)
+  public static <T> boolean isSerializable(@Nullable T value) {
+    return value instanceof Serializable;
+  }
+
+  /**
+   * Validates that a given instance is serializable, i.e. implements the {@link Serializable}
+   * interface. If the given instance is serializable, the method returns the instance. Otherwise,
+   * an {@code IllegalArgumentException} is thrown. Also, a {@code NullPointerException} will also
+   * be thrown if the supplied instance is {@code null}.
+   *
+   * @param <T> the type of the instance to be checked for serializability.
+   * @param value the instance to check for serializability.
+   * @return {@code value} if it's not <i>null <b>AND</b> is serializable</i>.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code value} is not serializable.
+   * @see #requireSerializable(Object, String)
+   * @see Serializable
+   */
+  @Pure
+  public static <T> T requireSerializable(@Nullable T value) {
+    return requireSerializable(value, (String) null);
+  }
+
+  /**
+   * Validates that a given instance is serializable, i.e. implements the {@link Serializable}
+   * interface. If the given instance is serializable, the method returns the instance. Otherwise,
+   * an {@code IllegalArgumentException} is thrown. Also, a {@code NullPointerException} will also
+   * be thrown if the supplied instance is {@code null}. A message can optionally be passed to be
+   * used in the construction of the {@code IllegalArgumentException}.
+   *
+   * @param <T> the type of the instance to be checked for serializability.
+   * @param value the instance to check for serializability.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return value if it's not <i>null <b>AND</b> is serializable</i>.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code value} is not serializable.
+   * @see Serializable
+   */
+  @Pure
+  public static <T> T requireSerializable(@Nullable T value, @Nullable String message) {
+    if (!isSerializable(value)) {
+      throw new ValidationException(Check.SERIALIZABLE, value, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a given instance is serializable, i.e. implements the {@link Serializable}
+   * interface. If the given instance is serializable, the method returns the instance. Otherwise,
+   * an {@code IllegalArgumentException} is thrown. Also, a {@code NullPointerException} will also
+   * be thrown if the supplied instance is {@code null}. A message can optionally be passed to be
+   * used in the construction of the {@code IllegalArgumentException}. The exception message is only
+   * retrieved from {@code messageSupplier} if the validation fails.
+   *
+   * @param <T> the type of the instance to be checked for serializability.
+   * @param value the instance to check for serializability.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return value if it's not <i>null <b>AND</b> is serializable</i>.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code value} is not serializable.
+   * @see Serializable
+   * @since 3.0.0
+   */
+  public static <T> T requireSerializable(
+      @Nullable T value, @Nullable Supplier<String> messageSupplier) {
+    return isSerializable(value)
+        ? value
+        : requireSerializable(value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a given instance is serializable, i.e. implements the {@link Serializable}
+   * interface. If the given instance is serializable, the method returns the instance. Otherwise,
+   * an {@code IllegalArgumentException} is thrown. Also, a {@code NullPointerException} will also
+   * be thrown if the supplied instance is {@code null}. A message can optionally be passed to be
+   * used in the construction of the {@code IllegalArgumentException}. The exception message is only
+   * formatted if the validation fails.
+   *
+   * @param <T> the type of the instance to be checked for serializability.
+   * @param value the instance to check for serializability.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return value if it's not <i>null <b>AND</b> is serializable</i>.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code value} is not serializable.
+   * @see Serializable
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static <T> T requireSerializable(
+      @Nullable T value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return isSerializable(value)
+        ? value
+        : requireSerializable(value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Checks if a given instance can be serialized together with every object reachable from it,
+   * i.e. the instance implements the {@link Serializable} interface and so do the values of its
+   * non-transient fields and the elements of its arrays, collections and maps, recursively. Returns
+   * {@code true} if the instance is deeply serializable, otherwise returns {@code false}.
+   *
+   * <p>Unlike {@link #isSerializable(Object)}, this method rejects a serializable object that holds
+   * a value that would make its serialization fail. The structure of each class is analyzed once
+   * and the verdict is cached, so checking an instance of a class whose fields can only hold
+   * serializable values, or of a class that isn't serializable, only costs a lookup. The state of
+   * {@link java.io.Externalizable} classes and of classes with a {@code writeReplace} method, and
+   * the fields of classes in packages that aren't open to this library, e.g. the classes of the
+   * JDK, are trusted to be serializable.
+   *
+   * @param <T> the type of the instance to be checked for serializability.
+   * @param value the instance to check for serializability.
+   * @return {@code true} if value is deeply serializable or {@code false} otherwise.
+   * @see #isSerializable(Object)
+   * @see Serializable
+   * @since 3.0.0
+   */
+  @EnsuresNonNullIf(expression = "#1", result = true)
+  public static <T> boolean isDeeplySerializable(@Nullable T value) {
+    return Serializability.isSerializable(value);
+  }
+
+  /**
+   * Validates that a given instance can be serialized together with every object reachable from
+   * it, as described in {@link #isDeeplySerializable(Object)}. If the given instance is deeply
+   * serializable, the method returns the instance. Otherwise, an {@code IllegalArgumentException}
+   * is thrown. Also, a {@code NullPointerException} will also be thrown if the supplied instance is
+   * {@code null}.
+   *
+   * @param <T> the type of the instance to be checked for serializability.
+   * @param value the instance to check for serializability.
+   * @return {@code value} if it's not <i>null <b>AND</b> is deeply serializable</i>.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code value} is not deeply serializable.
+   * @see #requireDeeplySerializable(Object, String)
+   * @see #isDeeplySerializable(Object)
+   * @since 3.0.0
+   */
+  public static <T> T requireDeeplySerializable(@Nullable T value) {
+    return requireDeeplySerializable(value, (String) null);
+  }
+
+  /**
+   * Validates that a given instance can be serialized together with every object reachable from
+   * it, as described in {@link #isDeeplySerializable(Object)}. If the given instance is deeply
+   * serializable, the method returns the instance. Otherwise, an {@code IllegalArgumentException}
+   * is thrown. Also, a {@code NullPointerException} will also be thrown if the supplied instance is
+   * {@code null}. A message can optionally be passed to be used in the construction of the {@code
+   * IllegalArgumentException}.
+   *
+   * @param <T> the type of the instance to be checked for serializability.
+   * @param value the instance to check for serializability.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return value if it's not <i>null <b>AND</b> is deeply serializable</i>.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code value} is not deeply serializable.
+   * @see #isDeeplySerializable(Object)
+   * @since 3.0.0
+   */
+  public static <T> T requireDeeplySerializable(@Nullable T value, @Nullable String message) {
+    if (!isDeeplySerializable(value)) {
+      throw new ValidationException(Check.SERIALIZABLE, value, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that a given instance can be serialized together with every object reachable from
+   * it, as described in {@link #isDeeplySerializable(Object)}. If the given instance is deeply
+   * serializable, the method returns the instance. Otherwise, an {@code IllegalArgumentException}
+   * is thrown. Also, a {@code NullPointerException} will also be thrown if the supplied instance is
+   * {@code null}. A message can optionally be passed to be used in the construction of the {@code
+   * IllegalArgumentException}. The exception message is only retrieved from {@code
+   * messageSupplier} if the validation fails.
+   *
+   * @param <T> the type of the instance to be checked for serializability.
+   * @param value the instance to check for serializability.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return value if it's not <i>null <b>AND</b> is deeply serializable</i>.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code value} is not deeply serializable.
+   * @see #isDeeplySerializable(Object)
+   * @since 3.0.0
+   */
+  public static <T> T requireDeeplySerializable(
+      @Nullable T value, @Nullable Supplier<String> messageSupplier) {
+    return isDeeplySerializable(value)
+        ? value
+        : requireDeeplySerializable(value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a given instance can be serialized together with every object reachable from
+   * it, as described in {@link #isDeeplySerializable(Object)}. If the given instance is deeply
+   * serializable, the method returns the instance. Otherwise, an {@code IllegalArgumentException}
+   * is thrown. Also, a {@code NullPointerException} will also be thrown if the supplied instance is
+   * {@code null}. A message can optionally be passed to be used in the construction of the {@code
+   * IllegalArgumentException}. The exception message is only formatted if the validation fails.
+   *
+   * @param <T> the type of the instance to be checked for serializability.
+   * @param value the instance to check for serializability.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return value if it's not <i>null <b>AND</b> is deeply serializable</i>.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code value} is not deeply serializable.
+   * @see #isDeeplySerializable(Object)
+   * @since 3.0.0
+   */
+  public static <T> T requireDeeplySerializable(
+      @Nullable T value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return isDeeplySerializable(value)
+        ? value
+        : requireDeeplySerializable(value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Returns the number of bytes in the serialized form of a given instance, i.e. the number of
+   * bytes written by an {@link java.io.ObjectOutputStream} when the instance is written to it. The
+   * instance is serialized into a sink that only counts the bytes written to it, so the serialized
+   * form is never buffered in memory.
+   *
+   * @param value the instance whose serialized size to return.
+   * @return the number of bytes in the serialized form of {@code value}.
+   * @throws IllegalArgumentException if {@code value} is {@code null} or can't be serialized.
+   * @see #requireSerializedSizeAtMost(long, Object)
+   * @since 3.0.0
+   */
+  public static long serializedSizeOf(@Nullable Object value) {
+    long size = serializedSize(Long.MAX_VALUE, value);
+    if (size < 0) {
+      throw new ValidationException(Check.SERIALIZABLE, value, null);
+    }
+    return size;
+  }
+
+  /**
+   * Checks if a given instance is serializable and its serialized form has at most {@code limit}
+   * bytes. Returns {@code true} if the instance can be serialized in {@code limit} bytes or less,
+   * otherwise returns {@code false}. The instance is serialized into a sink that only counts the
+   * bytes written to it and the serialization is aborted as soon as the limit is exceeded, so the
+   * check takes time proportional to {@code limit}, rather than to the size of the instance, and
+   * doesn't buffer the serialized form in memory.
+   *
+   * @param <T> the type of the instance to be checked.
+   * @param limit the maximum number of bytes <i><strong>(inclusive)</strong></i> in the serialized
+   *     form of {@code value}.
+   * @param value the instance to check.
+   * @return {@code true} if {@code value} can be serialized in at most {@code limit} bytes, {@code
+   *     false} otherwise.
+   * @throws IllegalArgumentException if {@code limit} is negative.
+   * @see #serializedSizeOf(Object)
+   * @since 3.0.0
+   */
+  public static <T> boolean isSerializedSizeAtMost(@NonNegative long limit, @Nullable T value) {
+    requireNonNegative(limit);
+    long size = serializedSize(limit, value);
+    return size >= 0 && size <= limit;
+  }
+
+  /**
+   * Validates that a given instance is serializable and its serialized form has at most {@code
+   * limit} bytes. If it does, the method returns the instance. Otherwise, an {@code
+   * IllegalArgumentException} is thrown. The serialization is aborted as soon as the limit is
+   * exceeded, as described in {@link #isSerializedSizeAtMost(long, Object)}.
+   *
+   * @param <T> the type of the instance to be checked.
+   * @param limit the maximum number of bytes <i><strong>(inclusive)</strong></i> in the serialized
+   *     form of {@code value}.
+   * @param value the instance to check.
+   * @return {@code value} if it's serializable in at most {@code limit} bytes.
+   * @throws IllegalArgumentException if {@code limit} is negative, if {@code value} is {@code null}
+   *     or not serializable or if its serialized form has more than {@code limit} bytes.
+   * @see #requireSerializedSizeAtMost(long, Object, String)
+   * @since 3.0.0
+   */
+  public static <T> T requireSerializedSizeAtMost(@NonNegative long limit, @Nullable T value) {
+    return requireSerializedSizeAtMost(limit, value, (String) null);
+  }
+
+  /**
+   * Validates that a given instance is serializable and its serialized form has at most {@code
+   * limit} bytes. If it does, the method returns the instance. Otherwise, an {@code
+   * IllegalArgumentException} is thrown. The serialization is aborted as soon as the limit is
+   * exceeded, as described in {@link #isSerializedSizeAtMost(long, Object)}. A message can
+   * optionally be passed to be used in the construction of the {@code IllegalArgumentException}.
+   *
+   * @param <T> the type of the instance to be checked.
+   * @param limit the maximum number of bytes <i><strong>(inclusive)</strong></i> in the serialized
+   *     form of {@code value}.
+   * @param value the instance to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if it's serializable in at most {@code limit} bytes.
+   * @throws IllegalArgumentException if {@code limit} is negative, if {@code value} is {@code null}
+   *     or not serializable or if its serialized form has more than {@code limit} bytes.
+   * @since 3.0.0
+   */
+  public static <T> T requireSerializedSizeAtMost(
+      @NonNegative long limit, @Nullable T value, @Nullable String message) {
+    requireNonNegative(limit);
+    return requireSerializedSize(limit, value, serializedSize(limit, value), message);
+  }
+
+  /**
+   * Validates that a given instance is serializable and its serialized form has at most {@code
+   * limit} bytes. If it does, the method returns the instance. Otherwise, an {@code
+   * IllegalArgumentException} is thrown. The serialization is aborted as soon as the limit is
+   * exceeded, as described in {@link #isSerializedSizeAtMost(long, Object)}. A message can
+   * optionally be passed to be used in the construction of the {@code IllegalArgumentException}.
+   * The exception message is only retrieved from {@code messageSupplier} if the validation fails.
+   *
+   * @param <T> the type of the instance to be checked.
+   * @param limit the maximum number of bytes <i><strong>(inclusive)</strong></i> in the serialized
+   *     form of {@code value}.
+   * @param value the instance to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it's serializable in at most {@code limit} bytes.
+   * @throws IllegalArgumentException if {@code limit} is negative, if {@code value} is {@code null}
+   *     or not serializable or if its serialized form has more than {@code limit} bytes.
+   * @since 3.0.0
+   */
+  public static <T> T requireSerializedSizeAtMost(
+      @NonNegative long limit, @Nullable T value, @Nullable Supplier<String> messageSupplier) {
+    requireNonNegative(limit);
+    long size = serializedSize(limit, value);
+    return size >= 0 && size <= limit
+        ? value
+        : requireSerializedSize(limit, value, size, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that a given instance is serializable and its serialized form has at most {@code
+   * limit} bytes. If it does, the method returns the instance. Otherwise, an {@code
+   * IllegalArgumentException} is thrown. The serialization is aborted as soon as the limit is
+   * exceeded, as described in {@link #isSerializedSizeAtMost(long, Object)}. A message can
+   * optionally be passed to be used in the construction of the {@code IllegalArgumentException}.
+   * The exception message is only formatted if the validation fails.
+   *
+   * @param <T> the type of the instance to be checked.
+   * @param limit the maximum number of bytes <i><strong>(inclusive)</strong></i> in the serialized
+   *     form of {@code value}.
+   * @param value the instance to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it's serializable in at most {@code limit} bytes.
+   * @throws IllegalArgumentException if {@code limit} is negative, if {@code value} is {@code null}
+   *     or not serializable or if its serialized form has more than {@code limit} bytes.
+   * @since 3.0.0
+   */
+  public static <T> T requireSerializedSizeAtMost(
+      @NonNegative long limit,
+      @Nullable T value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    requireNonNegative(limit);
+    long size = serializedSize(limit, value);
+    return size >= 0 && size <= limit
+        ? value
+        : requireSerializedSize(limit, value, size, formatMessage(messageFormat, messageArgs));
+  }
+
+  // Returns the serialized size of the given instance, or a negative value if it isn't
+  // serializable. The serialization is aborted once the size exceeds the given limit, see
+  // Serializability.
+  private static long serializedSize(long limit, @Nullable Object value) {
+    return isSerializable(value) ? Serializability.serializedSize(value, limit) : -1;
+  }
+
+  // Validates the serialized size of the given instance as returned by serializedSize(). The
+  // require*(...) validators serialize the instance once and then share this check, so that a
+  // failed validation doesn't serialize the instance again.
+  private static <T> T requireSerializedSize(
+      long limit, @Nullable T value, long size, @Nullable String message) {
+    if (size < 0) {
+      throw new ValidationException(Check.SERIALIZABLE, value, message);
+    }
+    if (size > limit) {
+      throw new ValidationException(Check.SERIALIZED_SIZE_AT_MOST, size, limit, message);
+    }
+    return value;
+  }
+
+  // ========================================================================
+  // STRING UTILS
+  // ========================================================================
+
+  /**
+   * Checks that the given {@code String} has characters between the given minimum chars (inclusive)
+   * and the given maximum chars (exclusive). An invocation to this method behaves exactly like an
+   * invocation to {@link #hasCharsInRange(int, int, CharSequence)}.
+   *
+   * @param minChars the minimum number of characters (inclusive) that the given {@code String}
+   *     should have.
+   * @param maxChars the maximum number of characters (exclusive) that the given {@code String}
+   *     should have.
+   * @param value the {@code String} to check.
+   * @return {@code true} if the given {@code String}'s length falls within the specified range,
+   *     {@code false} otherwise.
+   * @see #hasCharsInRange(int, int, CharSequence)
+   */
+  public static boolean hasCharsInRange(
+      @NonNegative int minChars, @NonNegative int maxChars, String value) {
+    return hasCharsInRange(minChars, maxChars, (CharSequence) value);
+  }
+
+  /**
+   * Checks that the given {@code String} has fewer characters than the stated maximum chars
+   * (exclusive). An invocation to this method behaves exactly like an invocation to {@link
+   * #hasLessThanChars(int, CharSequence)}.
+   *
+   * @param maxChars the maximum number of characters (exclusive) that the given {@code String}
+   *     should have.
+   * @param value the {@code String} to check.
+   * @return {@code true} if the given {@code String}'s length is less than {@code maxChars}, {@code
+   *     false} otherwise.
+   * @see #hasLessThanChars(int, CharSequence)
+   */
+  public static boolean hasLessThanChars(@NonNegative int maxChars, String value) {
+    return hasLessThanChars(maxChars, (CharSequence) value);
+  }
+
+  /**
+   * Checks that the given {@code String} has more characters than the stated minimum chars
+   * (exclusive). An invocation to this method behaves exactly like an invocation to {@link
+   * #hasMoreThanChars(int, CharSequence)}.
+   *
+   * @param minChars the minimum number of characters (exclusive) that the given {@code String}
+   *     should have.
+   * @param value the {@code String} to check.
+   * @return {@code true} if the given {@code String}'s length is greater than {@code minChars},
+   *     {@code false} otherwise.
+   * @see #hasMoreThanChars(int, CharSequence)
+   */
+  public static boolean hasMoreThanChars(@NonNegative int minChars, String value) {
+    return hasMoreThanChars(minChars, (CharSequence) value);
+  }
+
+  /**
+   * Validates that the given {@code String} has characters between the given <i> minimum chars
+   * <strong>(inclusive)</strong> </i> and the given <i>maximum chars <strong>(exclusive)</strong>
+   * </i>. An invocation to this method behaves exactly like an invocation to {@link
+   * #requireCharsInRange(int, int, CharSequence)}.
+   *
+   * @param minChars the minimum number of characters <i><strong>(inclusive)</strong></i> that the
+   *     given {@code String} should have.
+   * @param maxChars the maximum number of characters <i><strong>(exclusive)</strong></i> that the
+   *     given {@code String} should have.
+   * @param value the {@code String} to check.
+   * @return {@code value} if {@code value}'s length falls within the specified range.
+   * @see #requireCharsInRange(int, int, CharSequence)
+   */
+  public static String requireCharsInRange(
+      @IndexOrHigh(value = "#3") int minChars, @NonNegative int maxChars, String value) {
+    return requireCharsInRange(minChars, maxChars, value, (String) null);
+  }
+
+  /**
+   * Validates that the given {@code String} has characters between the given <i> minimum chars
+   * <strong>(inclusive)</strong> </i> and the given <i>maximum chars <strong>(exclusive)</strong>
+   * </i>. An invocation to this method behaves exactly like an invocation to {@link
+   * #requireCharsInRange(int, int, CharSequence, String)}.
+   *
+   * @param minChars the minimum number of characters <i><strong>(inclusive)</strong></i> that the
+   *     given {@code String} should have.
+   * @param maxChars the maximum number of characters <i><strong>(exclusive)</strong></i> that the
+   *     given {@code String} should have.
+   * @param value the {@code String} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value}'s length falls within the specified range.
+   * @see #requireCharsInRange(int, int, CharSequence, String)
+   */
+  public static String requireCharsInRange(
+      @IndexOrHigh(value = "#3") int minChars,
+      @NonNegative int maxChars,
+      String value,
+      @Nullable String message) {
+    requireCharsInRange(minChars, maxChars, (CharSequence) value, message);
+    return value;
+  }
+
+  /**
+   * Validates that the given {@code String} has fewer characters than the stated <i>maximum chars
+   * <strong>(exclusive)</strong></i>. An invocation to this method behaves exactly like an
+   * invocation to {@link #requireLessThanChars(int, CharSequence)}.
+   *
+   * @param maxChars the maximum number of characters <i><strong>(exclusive)</strong></i> that the
+   *     given {@code String} should have.
+   * @param value the {@code String} to check.
+   * @return {@code value} if {@code value}'s length is less than {@code maxChars}.
+   * @see #requireLessThanChars(int, CharSequence)
+   */
+  public static String requireLessThanChars(@NonNegative int maxChars, String value) {
+    return requireLessThanChars(maxChars, value, (String) null);
+  }
+
+  /**
+   * Validates that the given {@code String} has fewer characters than the stated <i>maximum chars
+   * <strong>(exclusive)</strong></i>. An invocation to this method behaves exactly like an
+   * invocation to {@link #requireLessThanChars(int, CharSequence, String)}.
+   *
+   * @param maxChars the maximum number of characters <i><strong>(exclusive)</strong></i> that the
+   *     given {@code String} should have.
+   * @param value the {@code String} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value}'s length is less than {@code maxChars}.
+   * @see #requireLessThanChars(int, CharSequence, String)
+   */
+  public static String requireLessThanChars(
+      @NonNegative int maxChars, String value, @Nullable String message) {
+    requireLessThanChars(maxChars, (CharSequence) value, message);
+    return value;
+  }
+
+  /**
+   * Validates that the given {@code String} has more characters than the stated <i>minimum chars
+   * <strong>(exclusive)</strong></i>. An invocation to this method behaves exactly like an
+   * invocation to {@link #requireMoreThanChars(int, CharSequence)}.
+   *
+   * @param minChars the minimum number of characters <i><strong>(exclusive)</strong></i> that the
+   *     given {@code String} should have.
+   * @param value the {@code String} to check.
+   * @return {@code value} if {@code value}'s length is greater than {@code minChars}.
+   * @see #requireMoreThanChars(int, CharSequence)
+   */
+  public static String requireMoreThanChars(@IndexFor(value = "#2") int minChars, String value) {
+    return requireMoreThanChars(minChars, value, (String) null);
+  }
+
+  /**
+   * Validates that the given {@code String} has more characters than the stated <i>minimum chars
+   * <strong>(exclusive)</strong></i>. An invocation to this method behaves exactly like an
+   * invocation to {@link #requireMoreThanChars(int, CharSequence, String)}.
+   *
+   * @param minChars the minimum number of characters <i><strong>(exclusive)</strong></i> that the
+   *     given {@code String} should have.
+   * @param value the {@code String} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value}'s length is greater than {@code minChars}.
+   * @see #requireMoreThanChars(int, CharSequence, String)
+   */
+  public static String requireMoreThanChars(
+      @IndexFor(value = "#2") int minChars, String value, @Nullable String message) {
+    requireMoreThanChars(minChars, (CharSequence) value, message);
+    return value;
+  }
+
+  /**
+   * Validates that the supplied {@code String} is not empty<i>(has a length of zero)</i> or {@code
+   * null}. An invocation to this method behaves exactly like an invocation to {@link
+   * #requireNonEmptyString(String, String) requireNonEmptyString(value, null)}.
+   *
+   * @param value the {@code String} to be checked for validity.
+   * @return value if it's not <i>null <b>AND/OR</b> empty</i>.
+   * @see #requireNonEmptyString(CharSequence)
+   */
+  @SideEffectFree
+  public static @MinLen(value = 1) String requireNonEmptyString(@MinLen(value = 1) String value) {
+    return requireNonEmptyString(value, null);
+  }
+
+  /**
+   * Validates that the supplied {@code String} is not empty<i>(has a length of zero)</i> or {@code
+   * null}. An invocation to this method behaves exactly like an invocation to {@link
+   * #requireNonEmptyString(CharSequence, String)}, which describes how {@code name} is used in the
+   * exception messages.
+   *
+   * @param value the {@code String} to be checked for validity.
+   * @param name the name of the {@code String} variable to be checked for validity.
+   * @return value if it's not <i>null <b>AND/OR</b> empty</i>.
+   * @see #requireNonEmptyString(CharSequence, String)
+   */
+  @SideEffectFree
+  public static @MinLen(value = 1) String requireNonEmptyString(
+      @MinLen(value = 1) String value, @Nullable String name) {
+    requireNonEmptyString((CharSequence) value, name);
+    return value;
+  }
+
+  /**
+   * Validates that the supplied {@code String} is not empty<i>(has a length of zero)</i> or {@code
+   * null}. An invocation to this method behaves exactly like an invocation to {@link
+   * #requireNonEmptyString(CharSequence, String, String)}.
+   *
+   * @param value the {@code String} to be checked for validity.
+   * @param nullMessage an optional message to be used when raising the {@code
+   *     NullPointerException}.
+   * @param emptyMessage an optional message to be used when raising the {@code
+   *     IllegalArgumentException}.
+   * @return value if it's not <i>null <b>AND/OR</b> empty</i>.
+   * @see #requireNonEmptyString(CharSequence, String, String)
+   */
+  @SideEffectFree
+  public static @MinLen(value = 1) String requireNonEmptyString(
+      @MinLen(value = 1) String value,
+      @Nullable String nullMessage,
+      @Nullable String emptyMessage) {
+    requireNonEmptyString((CharSequence) value, nullMessage, emptyMessage);
+    return value;
+  }
+
+  // ========================================================================
+  // CHAR SEQUENCE UTILS
+  // ========================================================================
+
+  /**
+   * Checks that the given {@code CharSequence} has characters between the given minimum chars
+   * (inclusive) and the given maximum chars (exclusive). Returns <code>true</code> if the given
+   * {@code CharSequence}'s length (no of characters) falls within the given range, otherwise,
+   * returns <code>false</code>. An {@link IllegalArgumentException} will be thrown if:
+   *
+   * <ul>
+   *   <li><code>minChars</code> is negative.
+   *   <li><code>maxChars</code> is negative.
+   *   <li><code>maxChars</code> is less than <code>minChars</code>.
+   *   <li><code>maxChars</code> is equal to <code>minChars</code>
+   * </ul>
+   *
+   * @param minChars the minimum number of characters (inclusive) that the given {@code
+   *     CharSequence} should have.
+   * @param maxChars the maximum number of characters (exclusive) that the given {@code
+   *     CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @return <code>true</code> if the given {@code CharSequence}'s length falls within the specified
+   *     range, <code>false</code> otherwise.
+   * @throws NullPointerException if <code>value</code> is <code>null</code>.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @since 3.0.0
+   */
+  public static boolean hasCharsInRange(
+      @NonNegative int minChars, @NonNegative int maxChars, CharSequence value) {
+    if (!isGreaterThan(requireNonNegative(minChars), requireNonNegative(maxChars))) {
+      throw new IllegalArgumentException(
+          String.format(
+              "maxChars(%d) cannot be less than or equal to minChars(%d).", maxChars, minChars));
+    }
+    return inRange(minChars, maxChars, requireNonNull(value).length());
+  }
+
+  /**
+   * Checks that the given {@code CharSequence} has fewer characters than the stated maximum chars
+   * (exclusive). Returns <code>true</code> if the given {@code CharSequence}'s length (number of
+   * characters) is less than the given <code>maxChars</code>, else returns <code>false</code>. An
+   * {@link IllegalArgumentException} will be thrown if <code>maxChars</code> is negative.
+   *
+   * @param maxChars the maximum number of characters (exclusive) that the given {@code
+   *     CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @return <code>true</code> if the given {@code CharSequence}'s length is less than
+   *     <code>maxChars </code>, <code>false</code> otherwise.
+   * @throws IllegalArgumentException if <code>maxChars</code> is negative.
+   * @since 3.0.0
+   */
+  public static boolean hasLessThanChars(@NonNegative int maxChars, CharSequence value) {
+    return requireNonNull(value).length() < requireNonNegative(maxChars);
+  }
+
+  /**
+   * Checks that the given {@code CharSequence} has more characters than the stated minimum chars
+   * (exclusive). Returns <code>true</code> if the given {@code CharSequence}'s length (number of
+   * characters) is greater than the given <code>minChars</code>, else returns <code>false</code>.
+   * An {@link IllegalArgumentException} will be thrown if <code>minChars</code> is negative.
+   *
+   * @param minChars the minimum number of characters (exclusive) that the given {@code
+   *     CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @return <code>true</code> if the given {@code CharSequence}'s length is greater than
+   *     <code>minChars</code>, <code>false</code> otherwise.
+   * @throws IllegalArgumentException if <code>minChars</code> is negative.
+   * @since 3.0.0
+   */
+  public static boolean hasMoreThanChars(@NonNegative int minChars, CharSequence value) {
+    return isGreaterThan(requireNonNegative(minChars), requireNonNull(value).length());
+  }
+
+  /**
+   * Validates that the given {@code CharSequence} has characters between the given <i> minimum
+   * chars <strong>(inclusive)</strong> </i> and the given <i>maximum chars
+   * <strong>(exclusive)</strong> </i>. Returns {@code value} if the given {@code CharSequence}'s
+   * length <i>(no of characters)</i> falls within the given range, otherwise, an {@link
+   * IllegalArgumentException} will be thrown. <br> <i><strong>NOTE:</strong> This method internally
+   * uses {@link #hasCharsInRange(int, int, CharSequence)}, so an {@code IllegalArgumentException}
+   * might be thrown if any of that methods requirements are not met.</i>
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param minChars the minimum number of characters <i><strong>(inclusive)</strong></i> that the
+   *     given {@code CharSequence} should have.
+   * @param maxChars the maximum number of characters <i><strong>(exclusive)</strong></i> that the
+   *     given {@code CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @return {@code value} if {@code value}'s length falls within the specified range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasCharsInRange(int, int, CharSequence)
+   * @since 3.0.0
+   */
+  public static <T extends CharSequence> T requireCharsInRange(
+      @NonNegative int minChars, @NonNegative int maxChars, T value) {
+    return requireCharsInRange(minChars, maxChars, value, (String) null);
+  }
+
+  /**
+   * Validates that the given {@code CharSequence} has characters between the given <i> minimum
+   * chars <strong>(inclusive)</strong> </i> and the given <i>maximum chars
+   * <strong>(exclusive)</strong> </i>. Returns {@code value} if the given {@code CharSequence}'s
+   * length <i>(no of characters)</i> falls within the given range, otherwise, an {@link
+   * IllegalArgumentException} will be thrown. An optional message may be passed to be used in the
+   * construction of the {@code IllegalArgumentException}. <br> <br> <i><strong>NOTE:</strong> This
+   * method internally uses {@link #hasCharsInRange(int, int, CharSequence)}, so an {@code
+   * IllegalArgumentException} might be thrown if any of that methods requirements are not met.</i>
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param minChars the minimum number of characters <i><strong>(inclusive)</strong></i> that the
+   *     given {@code CharSequence} should have.
+   * @param maxChars the maximum number of characters <i><strong>(exclusive)</strong></i> that the
+   *     given {@code CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value}'s length falls within the specified range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasCharsInRange(int, int, CharSequence)
+   * @since 3.0.0
+   */
+  public static <T extends CharSequence> T requireCharsInRange(
+      @NonNegative int minChars, @NonNegative int maxChars, T value, @Nullable String message) {
+    if (!hasCharsInRange(minChars, maxChars, value)) {
+      throw new ValidationException(
+          Check.CHARS_IN_RANGE, value.length(), minChars, maxChars, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that the given {@code CharSequence} has characters between the given <i> minimum
+   * chars <strong>(inclusive)</strong> </i> and the given <i>maximum chars
+   * <strong>(exclusive)</strong> </i>. Returns {@code value} if the given {@code CharSequence}'s
+   * length <i>(no of characters)</i> falls within the given range, otherwise, an {@link
+   * IllegalArgumentException} will be thrown. An optional message may be passed to be used in the
+   * construction of the {@code IllegalArgumentException}. The exception message is only retrieved
+   * from {@code messageSupplier} if the validation fails. <br> <br> <i><strong>NOTE:</strong> This
+   * method internally uses {@link #hasCharsInRange(int, int, CharSequence)}, so an {@code
+   * IllegalArgumentException} might be thrown if any of that methods requirements are not met.</i>
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param minChars the minimum number of characters <i><strong>(inclusive)</strong></i> that the
+   *     given {@code CharSequence} should have.
+   * @param maxChars the maximum number of characters <i><strong>(exclusive)</strong></i> that the
+   *     given {@code CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value}'s length falls within the specified range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasCharsInRange(int, int, CharSequence)
+   * @since 3.0.0
+   */
+  public static <T extends CharSequence> T requireCharsInRange(
+      @NonNegative int minChars,
+      @NonNegative int maxChars,
+      T value,
+      @Nullable Supplier<String> messageSupplier) {
+    return hasCharsInRange(minChars, maxChars, value)
+        ? value
+        : requireCharsInRange(minChars, maxChars, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the given {@code CharSequence} has characters between the given <i> minimum
+   * chars <strong>(inclusive)</strong> </i> and the given <i>maximum chars
+   * <strong>(exclusive)</strong> </i>. Returns {@code value} if the given {@code CharSequence}'s
+   * length <i>(no of characters)</i> falls within the given range, otherwise, an {@link
+   * IllegalArgumentException} will be thrown. An optional message may be passed to be used in the
+   * construction of the {@code IllegalArgumentException}. The exception message is only formatted
+   * if the validation fails. <br> <br> <i><strong>NOTE:</strong> This method internally uses {@link
+   * #hasCharsInRange(int, int, CharSequence)}, so an {@code IllegalArgumentException} might be
+   * thrown if any of that methods requirements are not met.</i>
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param minChars the minimum number of characters <i><strong>(inclusive)</strong></i> that the
+   *     given {@code CharSequence} should have.
+   * @param maxChars the maximum number of characters <i><strong>(exclusive)</strong></i> that the
+   *     given {@code CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value}'s length falls within the specified range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasCharsInRange(int, int, CharSequence)
+   * @since 3.0.0
+   */
+  public static <T extends CharSequence> T requireCharsInRange(
+      @NonNegative int minChars,
+      @NonNegative int maxChars,
+      T value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return hasCharsInRange(minChars, maxChars, value)
+        ? value
+        : requireCharsInRange(minChars, maxChars, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that the given {@code CharSequence} has fewer characters than the stated <i>maximum
+   * chars <strong>(exclusive)</strong></i>. Returns {@code value} if the given {@code
+   * CharSequence}'s length <i>(number of characters)</i> is less than the given {@code maxChars},
+   * otherwise an {@code IllegalArgumentException} will be thrown. <br> <br>
+   * <i><strong>NOTE:</strong> This method internally uses {@link #hasLessThanChars(int,
+   * CharSequence)}, so an {@code IllegalArgumentException}might be thrown if any of that methods
+   * requirements are not met.</i>
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param maxChars the maximum number of characters <i><strong>(exclusive)</strong></i> that the
+   *     given {@code CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @return {@code value} if {@code value}'s length is less than {@code maxChars}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasLessThanChars(int, CharSequence)
+   * @since 3.0.0
+   */
+  public static <T extends CharSequence> T requireLessThanChars(
+      @NonNegative int maxChars, T value) {
+    return requireLessThanChars(maxChars, value, (String) null);
+  }
+
+  /**
+   * Validates that the given {@code CharSequence} has fewer characters than the stated <i>maximum
+   * chars <strong>(exclusive)</strong></i>. Returns {@code value} if the given {@code
+   * CharSequence}'s length <i>(number of characters)</i> is less than the given {@code maxChars},
+   * otherwise an {@code IllegalArgumentException} will be thrown. An optional message may be passed
+   * to be used in the construction of the {@code IllegalArgumentException}. <br> <br>
+   * <i><strong>NOTE:</strong> This method internally uses {@link #hasLessThanChars(int,
+   * CharSequence)}, so an {@code IllegalArgumentException}might be thrown if any of that methods
+   * requirements are not met.</i>
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param maxChars the maximum number of characters <i><strong>(exclusive)</strong></i> that the
+   *     given {@code CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value}'s length is less than {@code maxChars}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasLessThanChars(int, CharSequence)
+   * @since 3.0.0
+   */
+  public static <T extends CharSequence> T requireLessThanChars(
+      @NonNegative int maxChars, T value, @Nullable String message) {
+    if (!hasLessThanChars(maxChars, value)) {
+      throw new ValidationException(Check.LESS_THAN_CHARS, value.length(), maxChars, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that the given {@code CharSequence} has fewer characters than the stated <i>maximum
+   * chars <strong>(exclusive)</strong></i>. Returns {@code value} if the given {@code
+   * CharSequence}'s length <i>(number of characters)</i> is less than the given {@code maxChars},
+   * otherwise an {@code IllegalArgumentException} will be thrown. An optional message may be passed
+   * to be used in the construction of the {@code IllegalArgumentException}. The exception message
+   * is only retrieved from {@code messageSupplier} if the validation fails. <br> <br>
+   * <i><strong>NOTE:</strong> This method internally uses {@link #hasLessThanChars(int,
+   * CharSequence)}, so an {@code IllegalArgumentException}might be thrown if any of that methods
+   * requirements are not met.</i>
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param maxChars the maximum number of characters <i><strong>(exclusive)</strong></i> that the
+   *     given {@code CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value}'s length is less than {@code maxChars}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasLessThanChars(int, CharSequence)
+   * @since 3.0.0
+   */
+  public static <T extends CharSequence> T requireLessThanChars(
+      @NonNegative int maxChars, T value, @Nullable Supplier<String> messageSupplier) {
+    return hasLessThanChars(maxChars, value)
+        ? value
+        : requireLessThanChars(maxChars, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the given {@code CharSequence} has fewer characters than the stated <i>maximum
+   * chars <strong>(exclusive)</strong></i>. Returns {@code value} if the given {@code
+   * CharSequence}'s length <i>(number of characters)</i> is less than the given {@code maxChars},
+   * otherwise an {@code IllegalArgumentException} will be thrown. An optional message may be passed
+   * to be used in the construction of the {@code IllegalArgumentException}. The exception message
+   * is only formatted if the validation fails. <br> <br> <i><strong>NOTE:</strong> This method
+   * internally uses {@link #hasLessThanChars(int, CharSequence)}, so an {@code
+   * IllegalArgumentException}might be thrown if any of that methods requirements are not met.</i>
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param maxChars the maximum number of characters <i><strong>(exclusive)</strong></i> that the
+   *     given {@code CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value}'s length is less than {@code maxChars}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasLessThanChars(int, CharSequence)
+   * @since 3.0.0
+   */
+  public static <T extends CharSequence> T requireLessThanChars(
+      @NonNegative int maxChars,
+      T value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return hasLessThanChars(maxChars, value)
+        ? value
+        : requireLessThanChars(maxChars, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that the given {@code CharSequence} has more characters than the stated <i>minimum
+   * chars <strong>(exclusive)</strong></i>. Returns {@code value} if the given {@code
+   * CharSequence}'s length <i>(number of characters)</i> is greater than the given {@code
+   * minChars}, otherwise an {@code IllegalArgumentException} will be thrown. <br> <br>
+   * <i><strong>NOTE:</strong> This method internally uses {@link #hasMoreThanChars(int,
+   * CharSequence)}, so an {@code IllegalArgumentException}might be thrown if any of that methods
+   * requirements are not met.</i>
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param minChars the minimum number of characters <i><strong>(exclusive)</strong></i> that the
+   *     given {@code CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @return {@code value} if {@code value}'s length is greater than {@code minChars}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasMoreThanChars(int, CharSequence)
+   * @since 3.0.0
+   */
+  public static <T extends CharSequence> T requireMoreThanChars(
+      @NonNegative int minChars, T value) {
+    return requireMoreThanChars(minChars, value, (String) null);
+  }
+
+  /**
+   * Validates that the given {@code CharSequence} has more characters than the stated <i>minimum
+   * chars <strong>(exclusive)</strong></i>. Returns {@code value} if the given {@code
+   * CharSequence}'s length <i>(number of characters)</i> is greater than the given {@code
+   * minChars}, otherwise an {@code IllegalArgumentException} will be thrown. An optional message
+   * may be passed to be used in the construction of the {@code IllegalArgumentException}. <br> <br>
+   * <i><strong>NOTE:</strong> This method internally uses {@link #hasMoreThanChars(int,
+   * CharSequence)}, so an {@code IllegalArgumentException}might be thrown if any of that methods
+   * requirements are not met.</i>
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param minChars the minimum number of characters <i><strong>(exclusive)</strong></i> that the
+   *     given {@code CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if {@code value}'s length is greater than {@code minChars}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasMoreThanChars(int, CharSequence)
+   * @since 3.0.0
+   */
+  public static <T extends CharSequence> T requireMoreThanChars(
+      @NonNegative int minChars, T value, @Nullable String message) {
+    if (!hasMoreThanChars(minChars, value)) {
+      throw new ValidationException(Check.MORE_THAN_CHARS, value.length(), minChars, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that the given {@code CharSequence} has more characters than the stated <i>minimum
+   * chars <strong>(exclusive)</strong></i>. Returns {@code value} if the given {@code
+   * CharSequence}'s length <i>(number of characters)</i> is greater than the given {@code
+   * minChars}, otherwise an {@code IllegalArgumentException} will be thrown. An optional message
+   * may be passed to be used in the construction of the {@code IllegalArgumentException}. The
+   * exception message is only retrieved from {@code messageSupplier} if the validation fails. <br>
+   * <br> <i><strong>NOTE:</strong> This method internally uses {@link #hasMoreThanChars(int,
+   * CharSequence)}, so an {@code IllegalArgumentException}might be thrown if any of that methods
+   * requirements are not met.</i>
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param minChars the minimum number of characters <i><strong>(exclusive)</strong></i> that the
+   *     given {@code CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if {@code value}'s length is greater than {@code minChars}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasMoreThanChars(int, CharSequence)
+   * @since 3.0.0
+   */
+  public static <T extends CharSequence> T requireMoreThanChars(
+      @NonNegative int minChars, T value, @Nullable Supplier<String> messageSupplier) {
+    return hasMoreThanChars(minChars, value)
+        ? value
+        : requireMoreThanChars(minChars, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the given {@code CharSequence} has more characters than the stated <i>minimum
+   * chars <strong>(exclusive)</strong></i>. Returns {@code value} if the given {@code
+   * CharSequence}'s length <i>(number of characters)</i> is greater than the given {@code
+   * minChars}, otherwise an {@code IllegalArgumentException} will be thrown. An optional message
+   * may be passed to be used in the construction of the {@code IllegalArgumentException}. The
+   * exception message is only formatted if the validation fails. <br> <br>
+   * <i><strong>NOTE:</strong> This method internally uses {@link #hasMoreThanChars(int,
+   * CharSequence)}, so an {@code IllegalArgumentException}might be thrown if any of that methods
+   * requirements are not met.</i>
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param minChars the minimum number of characters <i><strong>(exclusive)</strong></i> that the
+   *     given {@code CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if {@code value}'s length is greater than {@code minChars}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasMoreThanChars(int, CharSequence)
+   * @since 3.0.0
+   */
+  public static <T extends CharSequence> T requireMoreThanChars(
+      @NonNegative int minChars,
+      T value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return hasMoreThanChars(minChars, value)
+        ? value
+        : requireMoreThanChars(minChars, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that the supplied {@code CharSequence} is not empty<i>(has a length of zero)</i> or
+   * {@code null}. If the {@code CharSequence} is {@code null}, a {@code NullPointerException} is
+   * thrown and if the {@code CharSequence} is empty, an {@code IllegalArgumentException} is thrown.
+   * An invocation to this method behaves exactly like an invocation to {@link
+   * #requireNonEmptyString(CharSequence, String) requireNonEmptyString(value, null)}.
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param value the {@code CharSequence} to be checked for validity.
+   * @return value if it's not <i>null <b>AND/OR</b> empty</i>.
+   * @throws NullPointerException if value is null.
+   * @throws IllegalArgumentException if value is empty<i>(has a length of zero)</i>.
+   * @see #requireNonEmptyString(CharSequence, String)
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static <T extends CharSequence> T requireNonEmptyString(T value) {
+    return requireNonEmptyString(value, null);
+  }
+
+  /**
+   * Validates that the supplied {@code CharSequence} is not empty<i>(has a length of zero)</i> or
+   * {@code null}. If the {@code CharSequence} is {@code null}, a {@code NullPointerException} is
+   * thrown and if the {@code CharSequence} is empty, an {@code IllegalArgumentException} is thrown.
+   * The name of the {@code CharSequence} variable to be checked is passed as the last argument and
+   * is used in the construction of the exception message. Consider the following:
+   *
+   * <pre>
+   *      String firstName = "";
+   *      requireNonEmptyString(firstName, "firstName");
+   * </pre>
+   *
+   * <p>An {@code IllegalArgumentException} would be thrown with the following message:
+   *
+   * <pre>
+   *      <i>"firstName cannot be empty"</i>
+   * </pre>
+   *
+   * <p>if a null value is passed in place of {@code name}, the {@code CharSequence} "value" is used
+   * instead. In the example above, the message would be:
+   *
+   * <pre>
+   *      <i>"value cannot be empty"</i>
+   * </pre>
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param value the {@code CharSequence} to be checked for validity.
+   * @param name the name of the {@code CharSequence} variable to be checked for validity.
+   * @return value if it's not <i>null <b>AND/OR</b> empty</i>.
+   * @throws NullPointerException if value is null.
+   * @throws IllegalArgumentException if value is empty<i>(has a length of zero)</i>.
+   * @see #requireNonEmptyString(CharSequence, String, String)
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static <T extends CharSequence> T requireNonEmptyString(T value, @Nullable String name) {
+    // Only build the messages when they are needed
+    if (isNull(value) || value.length() == 0) {
+      name = (isNull(name)) ? "value" : name;
+      return requireNonEmptyString(value, name + " cannot be null.", name + " cannot be empty.");
+    }
+    return value;
+  }
+
+  /**
+   * Validates that the supplied {@code CharSequence} is not empty<i>(has a length of zero)</i> or
+   * {@code null}. If the {@code CharSequence} is {@code null}, a {@code NullPointerException} is
+   * thrown and if the {@code CharSequence} is empty, an {@code IllegalArgumentException} is thrown.
+   * Optional messages can be passed as the second and third arguments to be used in the
+   * construction of exceptions.
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param value the {@code CharSequence} to be checked for validity.
+   * @param nullMessage an optional message to be used when raising the {@code
+   *     NullPointerException}.
+   * @param emptyMessage an optional message to be used when raising the {@code
+   *     IllegalArgumentException}.
+   * @return value if it's not <i>null <b>AND/OR</b> empty</i>.
+   * @throws NullPointerException if value is null.
+   * @throws IllegalArgumentException if value is empty<i>(has a length of zero)</i>.
+   * @since 3.0.0
+   */
+  @SideEffectFree
+  public static <T extends CharSequence> T requireNonEmptyString(
+      T value, @Nullable String nullMessage, @Nullable String emptyMessage) {
+    // Check if messages are null and set defaults
+    nullMessage = (isNull(nullMessage)) ? "value cannot be null." : nullMessage;
+    emptyMessage = (isNull(emptyMessage)) ? "value cannot be empty." : emptyMessage;
+    if (requireNonNull(value, nullMessage).length() == 0) {
+      throw new ValidationException(Check.NON_EMPTY, 0L, emptyMessage);
+    }
+    return value;
+  }
+
+  // ========================================================================
+  // CODE POINT UTILS
+  // ========================================================================
+
+  /**
+   * Checks that the given {@code CharSequence} has a number of Unicode code points between the
+   * given minimum code points <i><strong>(inclusive)</strong></i> and the given maximum code points
+   * <i><strong>(exclusive)</strong></i>. Unlike {@link #hasCharsInRange(int, int, CharSequence)}, a
+   * supplementary character, which is represented by a surrogate pair, is counted once. Returns
+   * {@code true} if the number of code points falls within the given range, otherwise, returns
+   * {@code false}. An {@link IllegalArgumentException} will be thrown if:
+   *
+   * <ul>
+   *   <li>{@code minCodePoints} is negative.
+   *   <li>{@code maxCodePoints} is negative.
+   *   <li>{@code maxCodePoints} is less than or equal to {@code minCodePoints}.
+   * </ul>
+   *
+   * <p>A {@code CharSequence} of {@code n} characters has between {@code (n + 1) / 2} and {@code n}
+   * code points, so the check is usually decided from the length of the {@code CharSequence} alone.
+   * Otherwise, the code points are counted in a single pass that stops as soon as the maximum is
+   * reached.
+   *
+   * @param minCodePoints the minimum number of code points <i><strong>(inclusive)</strong></i> that
+   *     the given {@code CharSequence} should have.
+   * @param maxCodePoints the maximum number of code points <i><strong>(exclusive)</strong></i> that
+   *     the given {@code CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @return {@code true} if the number of code points of the given {@code CharSequence} falls
+   *     within the specified range, {@code false} otherwise.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @since 3.0.0
+   */
+  public static boolean hasCodePointsInRange(
+      @NonNegative int minCodePoints, @NonNegative int maxCodePoints, CharSequence value) {
+    if (!isGreaterThan(requireNonNegative(minCodePoints), requireNonNegative(maxCodePoints))) {
+      throw new IllegalArgumentException(
+          String.format(
+              "maxCodePoints(%d) cannot be less than or equal to minCodePoints(%d).",
+              maxCodePoints, minCodePoints));
+    }
+    return CodePoints.isCountBetween(requireNonNull(value), minCodePoints, maxCodePoints - 1L);
+  }
+
+  /**
+   * Checks that the given {@code CharSequence} has fewer Unicode code points than the stated
+   * maximum code points <i><strong>(exclusive)</strong></i>. Unlike {@link #hasLessThanChars(int,
+   * CharSequence)}, a supplementary character is counted once. Returns {@code true} if the number
+   * of code points is less than {@code maxCodePoints}, else returns {@code false}. The check is
+   * usually decided from the length of the {@code CharSequence} alone, as described in {@link
+   * #hasCodePointsInRange(int, int, CharSequence)}. An {@link IllegalArgumentException} will be
+   * thrown if {@code maxCodePoints} is negative.
+   *
+   * @param maxCodePoints the maximum number of code points <i><strong>(exclusive)</strong></i> that
+   *     the given {@code CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @return {@code true} if the number of code points of the given {@code CharSequence} is less
+   *     than {@code maxCodePoints}, {@code false} otherwise.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxCodePoints} is negative.
+   * @since 3.0.0
+   */
+  public static boolean hasLessThanCodePoints(@NonNegative int maxCodePoints, CharSequence value) {
+    return requireNonNegative(maxCodePoints) > 0
+        && CodePoints.isCountBetween(requireNonNull(value), 0L, maxCodePoints - 1L);
+  }
+
+  /**
+   * Checks that the given {@code CharSequence} has more Unicode code points than the stated minimum
+   * code points <i><strong>(exclusive)</strong></i>. Unlike {@link #hasMoreThanChars(int,
+   * CharSequence)}, a supplementary character is counted once. Returns {@code true} if the number
+   * of code points is greater than {@code minCodePoints}, else returns {@code false}. The check is
+   * usually decided from the length of the {@code CharSequence} alone, as described in {@link
+   * #hasCodePointsInRange(int, int, CharSequence)}. An {@link IllegalArgumentException} will be
+   * thrown if {@code minCodePoints} is negative.
+   *
+   * @param minCodePoints the minimum number of code points <i><strong>(exclusive)</strong></i> that
+   *     the given {@code CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @return {@code true} if the number of code points of the given {@code CharSequence} is greater
+   *     than {@code minCodePoints}, {@code false} otherwise.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code minCodePoints} is negative.
+   * @since 3.0.0
+   */
+  public static boolean hasMoreThanCodePoints(@NonNegative int minCodePoints, CharSequence value) {
+    return CodePoints.isCountBetween(
+        requireNonNull(value), requireNonNegative(minCodePoints) + 1L, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Validates that the given {@code CharSequence} has a number of Unicode code points between the
+   * stated <i>minimum code points <strong>(inclusive)</strong></i> and the stated <i>maximum code
+   * points <strong>(exclusive)</strong></i>. Returns {@code value} if it does, otherwise an {@code
+   * IllegalArgumentException} will be thrown.
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param minCodePoints the minimum number of code points <i><strong>(inclusive)</strong></i> that
+   *     the given {@code CharSequence} should have.
+   * @param maxCodePoints the maximum number of code points <i><strong>(exclusive)</strong></i> that
+   *     the given {@code CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @return {@code value} if its number of code points falls within the specified range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasCodePointsInRange(int, int, CharSequence)
+   * @since 3.0.0
+   */
+  public static <T extends CharSequence> T requireCodePointsInRange(
+      @NonNegative int minCodePoints, @NonNegative int maxCodePoints, T value) {
+    return requireCodePointsInRange(minCodePoints, maxCodePoints, value, (String) null);
+  }
+
+  /**
+   * Validates that the given {@code CharSequence} has a number of Unicode code points between the
+   * stated <i>minimum code points <strong>(inclusive)</strong></i> and the stated <i>maximum code
+   * points <strong>(exclusive)</strong></i>. Returns {@code value} if it does, otherwise an {@code
+   * IllegalArgumentException} will be thrown. An optional message may be passed to be used in the
+   * construction of the {@code IllegalArgumentException}.
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param minCodePoints the minimum number of code points <i><strong>(inclusive)</strong></i> that
+   *     the given {@code CharSequence} should have.
+   * @param maxCodePoints the maximum number of code points <i><strong>(exclusive)</strong></i> that
+   *     the given {@code CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if its number of code points falls within the specified range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasCodePointsInRange(int, int, CharSequence)
+   * @since 3.0.0
+   */
+  public static <T extends CharSequence> T requireCodePointsInRange(
+      @NonNegative int minCodePoints,
+      @NonNegative int maxCodePoints,
+      T value,
+      @Nullable String message) {
+    if (!hasCodePointsInRange(minCodePoints, maxCodePoints, value)) {
+      throw new ValidationException(
+          Check.CODE_POINTS_IN_RANGE, codePointsOf(value), minCodePoints, maxCodePoints, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that the given {@code CharSequence} has a number of Unicode code points between the
+   * stated <i>minimum code points <strong>(inclusive)</strong></i> and the stated <i>maximum code
+   * points <strong>(exclusive)</strong></i>. Returns {@code value} if it does, otherwise an {@code
+   * IllegalArgumentException} will be thrown. An optional message may be passed to be used in the
+   * construction of the {@code IllegalArgumentException}. The exception message is only retrieved
+   * from {@code messageSupplier} if the validation fails.
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param minCodePoints the minimum number of code points <i><strong>(inclusive)</strong></i> that
+   *     the given {@code CharSequence} should have.
+   * @param maxCodePoints the maximum number of code points <i><strong>(exclusive)</strong></i> that
+   *     the given {@code CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if its number of code points falls within the specified range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasCodePointsInRange(int, int, CharSequence)
+   * @since 3.0.0
+   */
+  public static <T extends CharSequence> T requireCodePointsInRange(
+      @NonNegative int minCodePoints,
+      @NonNegative int maxCodePoints,
+      T value,
+      @Nullable Supplier<String> messageSupplier) {
+    return hasCodePointsInRange(minCodePoints, maxCodePoints, value)
+        ? value
+        : requireCodePointsInRange(
+            minCodePoints, maxCodePoints, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the given {@code CharSequence} has a number of Unicode code points between the
+   * stated <i>minimum code points <strong>(inclusive)</strong></i> and the stated <i>maximum code
+   * points <strong>(exclusive)</strong></i>. Returns {@code value} if it does, otherwise an {@code
+   * IllegalArgumentException} will be thrown. An optional message may be passed to be used in the
+   * construction of the {@code IllegalArgumentException}. The exception message is only formatted
+   * if the validation fails.
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param minCodePoints the minimum number of code points <i><strong>(inclusive)</strong></i> that
+   *     the given {@code CharSequence} should have.
+   * @param maxCodePoints the maximum number of code points <i><strong>(exclusive)</strong></i> that
+   *     the given {@code CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if its number of code points falls within the specified range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasCodePointsInRange(int, int, CharSequence)
+   * @since 3.0.0
+   */
+  public static <T extends CharSequence> T requireCodePointsInRange(
+      @NonNegative int minCodePoints,
+      @NonNegative int maxCodePoints,
+      T value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return hasCodePointsInRange(minCodePoints, maxCodePoints, value)
+        ? value
+        : requireCodePointsInRange(
+            minCodePoints, maxCodePoints, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that the given {@code CharSequence} has fewer Unicode code points than the stated
+   * <i>maximum code points <strong>(exclusive)</strong></i>. Returns {@code value} if it does,
+   * otherwise an {@code IllegalArgumentException} will be thrown.
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param maxCodePoints the maximum number of code points <i><strong>(exclusive)</strong></i> that
+   *     the given {@code CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @return {@code value} if its number of code points is less than {@code maxCodePoints}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasLessThanCodePoints(int, CharSequence)
+   * @since 3.0.0
+   */
+  public static <T extends CharSequence> T requireLessThanCodePoints(
+      @NonNegative int maxCodePoints, T value) {
+    return requireLessThanCodePoints(maxCodePoints, value, (String) null);
+  }
+
+  /**
+   * Validates that the given {@code CharSequence} has fewer Unicode code points than the stated
+   * <i>maximum code points <strong>(exclusive)</strong></i>. Returns {@code value} if it does,
+   * otherwise an {@code IllegalArgumentException} will be thrown. An optional message may be passed
+   * to be used in the construction of the {@code IllegalArgumentException}.
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param maxCodePoints the maximum number of code points <i><strong>(exclusive)</strong></i> that
+   *     the given {@code CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if its number of code points is less than {@code maxCodePoints}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasLessThanCodePoints(int, CharSequence)
+   * @since 3.0.0
+   */
+  public static <T extends CharSequence> T requireLessThanCodePoints(
+      @NonNegative int maxCodePoints, T value, @Nullable String message) {
+    if (!hasLessThanCodePoints(maxCodePoints, value)) {
+      throw new ValidationException(
+          Check.LESS_THAN_CODE_POINTS, codePointsOf(value), maxCodePoints, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that the given {@code CharSequence} has fewer Unicode code points than the stated
+   * <i>maximum code points <strong>(exclusive)</strong></i>. Returns {@code value} if it does,
+   * otherwise an {@code IllegalArgumentException} will be thrown. An optional message may be passed
+   * to be used in the construction of the {@code IllegalArgumentException}. The exception message
+   * is only retrieved from {@code messageSupplier} if the validation fails.
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param maxCodePoints the maximum number of code points <i><strong>(exclusive)</strong></i> that
+   *     the given {@code CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if its number of code points is less than {@code maxCodePoints}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasLessThanCodePoints(int, CharSequence)
+   * @since 3.0.0
+   */
+  public static <T extends CharSequence> T requireLessThanCodePoints(
+      @NonNegative int maxCodePoints, T value, @Nullable Supplier<String> messageSupplier) {
+    return hasLessThanCodePoints(maxCodePoints, value)
+        ? value
+        : requireLessThanCodePoints(maxCodePoints, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the given {@code CharSequence} has fewer Unicode code points than the stated
+   * <i>maximum code points <strong>(exclusive)</strong></i>. Returns {@code value} if it does,
+   * otherwise an {@code IllegalArgumentException} will be thrown. An optional message may be passed
+   * to be used in the construction of the {@code IllegalArgumentException}. The exception message
+   * is only formatted if the validation fails.
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param maxCodePoints the maximum number of code points <i><strong>(exclusive)</strong></i> that
+   *     the given {@code CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if its number of code points is less than {@code maxCodePoints}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasLessThanCodePoints(int, CharSequence)
+   * @since 3.0.0
+   */
+  public static <T extends CharSequence> T requireLessThanCodePoints(
+      @NonNegative int maxCodePoints,
+      T value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return hasLessThanCodePoints(maxCodePoints, value)
+        ? value
+        : requireLessThanCodePoints(
+            maxCodePoints, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that the given {@code CharSequence} has more Unicode code points than the stated
+   * <i>minimum code points <strong>(exclusive)</strong></i>. Returns {@code value} if it does,
+   * otherwise an {@code IllegalArgumentException} will be thrown.
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param minCodePoints the minimum number of code points <i><strong>(exclusive)</strong></i> that
+   *     the given {@code CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @return {@code value} if its number of code points is greater than {@code minCodePoints}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasMoreThanCodePoints(int, CharSequence)
+   * @since 3.0.0
+   */
+  public static <T extends CharSequence> T requireMoreThanCodePoints(
+      @NonNegative int minCodePoints, T value) {
+    return requireMoreThanCodePoints(minCodePoints, value, (String) null);
+  }
+
+  /**
+   * Validates that the given {@code CharSequence} has more Unicode code points than the stated
+   * <i>minimum code points <strong>(exclusive)</strong></i>. Returns {@code value} if it does,
+   * otherwise an {@code IllegalArgumentException} will be thrown. An optional message may be passed
+   * to be used in the construction of the {@code IllegalArgumentException}.
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param minCodePoints the minimum number of code points <i><strong>(exclusive)</strong></i> that
+   *     the given {@code CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if its number of code points is greater than {@code minCodePoints}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasMoreThanCodePoints(int, CharSequence)
+   * @since 3.0.0
+   */
+  public static <T extends CharSequence> T requireMoreThanCodePoints(
+      @NonNegative int minCodePoints, T value, @Nullable String message) {
+    if (!hasMoreThanCodePoints(minCodePoints, value)) {
+      throw new ValidationException(
+          Check.MORE_THAN_CODE_POINTS, codePointsOf(value), minCodePoints, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that the given {@code CharSequence} has more Unicode code points than the stated
+   * <i>minimum code points <strong>(exclusive)</strong></i>. Returns {@code value} if it does,
+   * otherwise an {@code IllegalArgumentException} will be thrown. An optional message may be passed
+   * to be used in the construction of the {@code IllegalArgumentException}. The exception message
+   * is only retrieved from {@code messageSupplier} if the validation fails.
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param minCodePoints the minimum number of code points <i><strong>(exclusive)</strong></i> that
+   *     the given {@code CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if its number of code points is greater than {@code minCodePoints}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasMoreThanCodePoints(int, CharSequence)
+   * @since 3.0.0
+   */
+  public static <T extends CharSequence> T requireMoreThanCodePoints(
+      @NonNegative int minCodePoints, T value, @Nullable Supplier<String> messageSupplier) {
+    return hasMoreThanCodePoints(minCodePoints, value)
+        ? value
+        : requireMoreThanCodePoints(minCodePoints, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the given {@code CharSequence} has more Unicode code points than the stated
+   * <i>minimum code points <strong>(exclusive)</strong></i>. Returns {@code value} if it does,
+   * otherwise an {@code IllegalArgumentException} will be thrown. An optional message may be passed
+   * to be used in the construction of the {@code IllegalArgumentException}. The exception message
+   * is only formatted if the validation fails.
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param minCodePoints the minimum number of code points <i><strong>(exclusive)</strong></i> that
+   *     the given {@code CharSequence} should have.
+   * @param value the {@code CharSequence} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if its number of code points is greater than {@code minCodePoints}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasMoreThanCodePoints(int, CharSequence)
+   * @since 3.0.0
+   */
+  public static <T extends CharSequence> T requireMoreThanCodePoints(
+      @NonNegative int minCodePoints,
+      T value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return hasMoreThanCodePoints(minCodePoints, value)
+        ? value
+        : requireMoreThanCodePoints(
+            minCodePoints, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  // Counts all the code points of a CharSequence that failed a check, which is only done on failure
+  @Pure
+  private static int codePointsOf(CharSequence value) {
+    return Character.codePointCount(value, 0, value.length());
+  }
+
+  // ========================================================================
+  // UTF-8 UTILS
+  // ========================================================================
+
+  /**
+   * Checks that the UTF-8 encoding of the given {@code CharSequence} has a number of bytes between
+   * the given minimum bytes <i><strong>(inclusive)</strong></i> and the given maximum bytes
+   * <i><strong>(exclusive)</strong></i>. Returns {@code true} if it does, otherwise returns {@code
+   * false}. The encoded length is computed in a single pass over the characters of the {@code
+   * String}, without encoding it, and the pass stops as soon as the length exceeds the maximum. An
+   * {@link IllegalArgumentException} will be thrown if:
+   *
+   * <ul>
+   *   <li>{@code minBytes} is negative.
+   *   <li>{@code maxBytes} is negative.
+   *   <li>{@code maxBytes} is less than or equal to {@code minBytes}.
+   * </ul>
+   *
+   * @param minBytes the minimum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param maxBytes the maximum number of bytes <i><strong>(exclusive)</strong></i>.
+   * @param value the {@code CharSequence} to check.
+   * @return {@code true} if the number of bytes falls within the specified range, {@code false}
+   *     otherwise.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @since 3.0.0
+   */
+  public static boolean hasUtf8BytesInRange(
+      @NonNegative int minBytes, @NonNegative int maxBytes, CharSequence value) {
+    requireValidBytesRange(minBytes, maxBytes);
+    return Utf8.isEncodedLengthBetween(requireNonNull(value), minBytes, maxBytes - 1L);
+  }
+
+  /**
+   * Checks that the UTF-8 encoding of the given {@code CharSequence} has at most the given maximum
+   * bytes <i><strong>(inclusive)</strong></i>. Returns {@code true} if it does, otherwise returns
+   * {@code false}. The encoded length is computed in a single pass over the characters of the
+   * {@code String}, without encoding it, and the pass stops as soon as the length exceeds the
+   * maximum. An {@link IllegalArgumentException} will be thrown if {@code maxBytes} is negative.
+   *
+   * @param maxBytes the maximum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param value the {@code CharSequence} to check.
+   * @return {@code true} if the number of bytes is less than or equal to {@code maxBytes}, {@code
+   *     false} otherwise.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxBytes} is negative.
+   * @since 3.0.0
+   */
+  public static boolean hasUtf8BytesAtMost(@NonNegative int maxBytes, CharSequence value) {
+    return Utf8.isEncodedLengthBetween(requireNonNull(value), 0L, requireNonNegative(maxBytes));
+  }
+
+  /**
+   * Validates that the UTF-8 encoding of the given {@code CharSequence} has a number of bytes
+   * between the given minimum bytes <i><strong>(inclusive)</strong></i> and the given maximum bytes
+   * <i><strong>(exclusive)</strong></i>. Returns {@code value} if it does, otherwise an {@code
+   * IllegalArgumentException} will be thrown, including when the arguments are invalid as described
+   * in {@link #hasUtf8BytesInRange(int, int, CharSequence)}.
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param minBytes the minimum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param maxBytes the maximum number of bytes <i><strong>(exclusive)</strong></i>.
+   * @param value the {@code CharSequence} to check.
+   * @return {@code value} if its number of bytes falls within the specified range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasUtf8BytesInRange(int, int, CharSequence)
+   * @since 3.0.0
+   */
+  public static <T extends CharSequence> T requireUtf8BytesInRange(
+      @NonNegative int minBytes, @NonNegative int maxBytes, T value) {
+    return requireUtf8BytesInRange(minBytes, maxBytes, value, (String) null);
+  }
+
+  /**
+   * Validates that the UTF-8 encoding of the given {@code CharSequence} has a number of bytes
+   * between the given minimum bytes <i><strong>(inclusive)</strong></i> and the given maximum bytes
+   * <i><strong>(exclusive)</strong></i>. Returns {@code value} if it does, otherwise an {@code
+   * IllegalArgumentException} will be thrown, including when the arguments are invalid as described
+   * in {@link #hasUtf8BytesInRange(int, int, CharSequence)}. An optional message may be passed to
+   * be used in the construction of the {@code IllegalArgumentException}.
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param minBytes the minimum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param maxBytes the maximum number of bytes <i><strong>(exclusive)</strong></i>.
+   * @param value the {@code CharSequence} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if its number of bytes falls within the specified range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasUtf8BytesInRange(int, int, CharSequence)
+   * @since 3.0.0
+   */
+  public static <T extends CharSequence> T requireUtf8BytesInRange(
+      @NonNegative int minBytes, @NonNegative int maxBytes, T value, @Nullable String message) {
+    if (!hasUtf8BytesInRange(minBytes, maxBytes, value)) {
+      throw new ValidationException(
+          Check.UTF8_BYTES_IN_RANGE,
+          Utf8.encodedLength(value, maxBytes - 1L),
+          minBytes,
+          maxBytes,
+          message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that the UTF-8 encoding of the given {@code CharSequence} has a number of bytes
+   * between the given minimum bytes <i><strong>(inclusive)</strong></i> and the given maximum bytes
+   * <i><strong>(exclusive)</strong></i>. Returns {@code value} if it does, otherwise an {@code
+   * IllegalArgumentException} will be thrown, including when the arguments are invalid as described
+   * in {@link #hasUtf8BytesInRange(int, int, CharSequence)}. An optional message may be passed to
+   * be used in the construction of the {@code IllegalArgumentException}. The exception message is
+   * only retrieved from {@code messageSupplier} if the validation fails.
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param minBytes the minimum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param maxBytes the maximum number of bytes <i><strong>(exclusive)</strong></i>.
+   * @param value the {@code CharSequence} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if its number of bytes falls within the specified range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasUtf8BytesInRange(int, int, CharSequence)
+   * @since 3.0.0
+   */
+  public static <T extends CharSequence> T requireUtf8BytesInRange(
+      @NonNegative int minBytes,
+      @NonNegative int maxBytes,
+      T value,
+      @Nullable Supplier<String> messageSupplier) {
+    return hasUtf8BytesInRange(minBytes, maxBytes, value)
+        ? value
+        : requireUtf8BytesInRange(minBytes, maxBytes, value, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the UTF-8 encoding of the given {@code CharSequence} has a number of bytes
+   * between the given minimum bytes <i><strong>(inclusive)</strong></i> and the given maximum bytes
+   * <i><strong>(exclusive)</strong></i>. Returns {@code value} if it does, otherwise an {@code
+   * IllegalArgumentException} will be thrown, including when the arguments are invalid as described
+   * in {@link #hasUtf8BytesInRange(int, int, CharSequence)}. An optional message may be passed to
+   * be used in the construction of the {@code IllegalArgumentException}. The exception message is
+   * only formatted if the validation fails.
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param minBytes the minimum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param maxBytes the maximum number of bytes <i><strong>(exclusive)</strong></i>.
+   * @param value the {@code CharSequence} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if its number of bytes falls within the specified range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasUtf8BytesInRange(int, int, CharSequence)
+   * @since 3.0.0
+   */
+  public static <T extends CharSequence> T requireUtf8BytesInRange(
+      @NonNegative int minBytes,
+      @NonNegative int maxBytes,
+      T value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return hasUtf8BytesInRange(minBytes, maxBytes, value)
+        ? value
+        : requireUtf8BytesInRange(
+            minBytes, maxBytes, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Validates that the UTF-8 encoding of the given {@code CharSequence} has at most the given
+   * maximum bytes <i><strong>(inclusive)</strong></i>. Returns {@code value} if it does, otherwise
+   * an {@code IllegalArgumentException} will be thrown, including when {@code maxBytes} is
+   * negative.
+   *
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param maxBytes the maximum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param value the {@code CharSequence} to check.
+   * @return {@code value} if its number of bytes is less than or equal to {@code maxBytes}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasUtf8BytesAtMost(int, CharSequence)
+   * @since 3.0.0
+   */
+  public static <T extends CharSequence> T requireUtf8BytesAtMost(
+      @NonNegative int maxBytes, T value) {
+    return requireUtf8BytesAtMost(maxBytes, value, (String) null);
   }
 
   /**
-   * Validates that a {@link BigDecimal} is less than a supplied base value. Returns the given
-   * {@code BigDecimal} if it is less than the given base value, otherwise, an {@code
-   * IllegalArgumentException} is thrown.
+   * Validates that the UTF-8 encoding of the given {@code CharSequence} has at most the given
+   * maximum bytes <i><strong>(inclusive)</strong></i>. Returns {@code value} if it does, otherwise
+   * an {@code IllegalArgumentException} will be thrown, including when {@code maxBytes} is
+   * negative. An optional message may be passed to be used in the construction of the {@code
+   * IllegalArgumentException}.
    *
-   * @param baseValue the value to compare for smallness against.
-   * @param value the value to check for smallness.
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param maxBytes the maximum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param value the {@code CharSequence} to check.
    * @param message an optional message to be used as the {@code IllegalArgumentException} message.
-   * @return {@code value} if {@code value} is less than {@code baseValue}.
-   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
-   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
-   * @since 1.1.0
+   * @return {@code value} if its number of bytes is less than or equal to {@code maxBytes}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasUtf8BytesAtMost(int, CharSequence)
+   * @since 3.0.0
    */
-  @SideEffectFree
-  public static BigDecimal requireLessThan(
-      BigDecimal baseValue, BigDecimal value, @Nullable String message) {
-    if (!isLessThan(baseValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message)
-              ? message
-              : String.format("value(%s) should be greater than %s.", value, baseValue)));
+  public static <T extends CharSequence> T requireUtf8BytesAtMost(
+      @NonNegative int maxBytes, T value, @Nullable String message) {
+    if (!hasUtf8BytesAtMost(maxBytes, value)) {
+      throw new ValidationException(
+          Check.UTF8_BYTES_AT_MOST, Utf8.encodedLength(value, maxBytes), maxBytes, message);
     }
     return value;
   }
 
-  // ========================================================================
-  // REQUIRE LESS THAN OR EQUAL TO VALIDATORS
-  // ========================================================================
-
   /**
-   * Validates that an {@code int} is less than or equal to a supplied base value. Returns the given
-   * {@code int} if it is less than or equal to the given base value, otherwise, an {@code
-   * IllegalArgumentException} is thrown.
+   * Validates that the UTF-8 encoding of the given {@code CharSequence} has at most the given
+   * maximum bytes <i><strong>(inclusive)</strong></i>. Returns {@code value} if it does, otherwise
+   * an {@code IllegalArgumentException} will be thrown, including when {@code maxBytes} is
+   * negative. An optional message may be passed to be used in the construction of the {@code
+   * IllegalArgumentException}. The exception message is only retrieved from {@code messageSupplier}
+   * if the validation fails.
    *
-   * @param baseValue the value to compare for smallness or equality against.
-   * @param value the value to check for smallness or equality.
-   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
-   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
-   * @since 1.1.0
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param maxBytes the maximum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param value the {@code CharSequence} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if its number of bytes is less than or equal to {@code maxBytes}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasUtf8BytesAtMost(int, CharSequence)
+   * @since 3.0.0
    */
-  @SideEffectFree
-  public static int requireLessThanOrEqualTo(int baseValue, int value) {
-    return requireLessThanOrEqualTo(baseValue, value, null);
+  public static <T extends CharSequence> T requireUtf8BytesAtMost(
+      @NonNegative int maxBytes, T value, @Nullable Supplier<String> messageSupplier) {
+    return hasUtf8BytesAtMost(maxBytes, value)
+        ? value
+        : requireUtf8BytesAtMost(maxBytes, value, supplyMessage(messageSupplier));
   }
 
   /**
-   * Validates that an {@code int} is less than or equal to a supplied base value. Returns the given
-   * {@code int} if it is less than or equal to the given base value, otherwise, an {@code
-   * IllegalArgumentException} is thrown.
+   * Validates that the UTF-8 encoding of the given {@code CharSequence} has at most the given
+   * maximum bytes <i><strong>(inclusive)</strong></i>. Returns {@code value} if it does, otherwise
+   * an {@code IllegalArgumentException} will be thrown, including when {@code maxBytes} is
+   * negative. An optional message may be passed to be used in the construction of the {@code
+   * IllegalArgumentException}. The exception message is only formatted if the validation fails.
    *
-   * @param baseValue the value to compare for smallness or equality against.
-   * @param value the value to check for smallness or equality.
-   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
-   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
-   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
-   * @since 1.1.0
+   * @param <T> the type of the {@code CharSequence} to check.
+   * @param maxBytes the maximum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param value the {@code CharSequence} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if its number of bytes is less than or equal to {@code maxBytes}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasUtf8BytesAtMost(int, CharSequence)
+   * @since 3.0.0
    */
-  @SideEffectFree
-  public static int requireLessThanOrEqualTo(int baseValue, int value, @Nullable String message) {
-    if (!isLessThanOrEqualTo(baseValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message)
-              ? message
-              : String.format("value(%d) should be less than %d.", value, baseValue)));
-    }
-    return value;
+  public static <T extends CharSequence> T requireUtf8BytesAtMost(
+      @NonNegative int maxBytes,
+      T value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return hasUtf8BytesAtMost(maxBytes, value)
+        ? value
+        : requireUtf8BytesAtMost(maxBytes, value, formatMessage(messageFormat, messageArgs));
   }
 
   /**
-   * Validates that a {@code long} is less than or equal to a supplied base value. Returns the given
-   * {@code long} if it is less than or equal to the given base value, otherwise, an {@code
-   * IllegalArgumentException} is thrown.
+   * Checks that the given UTF-8 encoded {@code byte} array has a number of bytes between the given
+   * minimum bytes <i><strong>(inclusive)</strong></i> and the given maximum bytes
+   * <i><strong>(exclusive)</strong></i>. Returns {@code true} if it does, otherwise returns {@code
+   * false}. An {@link IllegalArgumentException} will be thrown if:
    *
-   * @param baseValue the value to compare for smallness or equality against.
-   * @param value the value to check for smallness or equality.
-   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
-   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
-   * @since 1.1.0
+   * <ul>
+   *   <li>{@code minBytes} is negative.
+   *   <li>{@code maxBytes} is negative.
+   *   <li>{@code maxBytes} is less than or equal to {@code minBytes}.
+   * </ul>
+   *
+   * @param minBytes the minimum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param maxBytes the maximum number of bytes <i><strong>(exclusive)</strong></i>.
+   * @param value the {@code byte[]} to check.
+   * @return {@code true} if the number of bytes falls within the specified range, {@code false}
+   *     otherwise.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @since 3.0.0
    */
-  @SideEffectFree
-  public static long requireLessThanOrEqualTo(long baseValue, long value) {
-    return requireLessThanOrEqualTo(baseValue, value, null);
+  public static boolean hasUtf8BytesInRange(
+      @NonNegative int minBytes, @NonNegative int maxBytes, byte[] value) {
+    requireValidBytesRange(minBytes, maxBytes);
+    return inRange(minBytes, maxBytes, requireNonNull(value).length);
   }
 
   /**
-   * Validates that a {@code long} is less than or equal to a supplied base value. Returns the given
-   * {@code long} if it is less than or equal to the given base value, otherwise, an {@code
-   * IllegalArgumentException} is thrown.
+   * Checks that the given UTF-8 encoded {@code byte} array has at most the given maximum bytes
+   * <i><strong>(inclusive)</strong></i>. Returns {@code true} if it does, otherwise returns {@code
+   * false}. An {@link IllegalArgumentException} will be thrown if {@code maxBytes} is negative.
    *
-   * @param baseValue the value to compare for smallness or equality against.
-   * @param value the value to check for smallness or equality.
-   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
-   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
-   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
-   * @since 1.1.0
+   * @param maxBytes the maximum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param value the {@code byte[]} to check.
+   * @return {@code true} if the number of bytes is less than or equal to {@code maxBytes}, {@code
+   *     false} otherwise.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxBytes} is negative.
+   * @since 3.0.0
    */
-  @SideEffectFree
-  public static long requireLessThanOrEqualTo(
-      long baseValue, long value, @Nullable String message) {
-    if (!isLessThanOrEqualTo(baseValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message)
-              ? message
-              : String.format("value(%d) should be less than %d.", value, baseValue)));
-    }
-    return value;
+  public static boolean hasUtf8BytesAtMost(@NonNegative int maxBytes, byte[] value) {
+    return requireNonNull(value).length <= requireNonNegative(maxBytes);
   }
 
   /**
-   * Validates that a {@code float} is less than or equal to a supplied base value. Returns the
-   * given {@code float} if it is less than or equal to the given base value, otherwise, an {@code
-   * IllegalArgumentException} is thrown.
+   * Validates that the given UTF-8 encoded {@code byte} array has a number of bytes between the
+   * given minimum bytes <i><strong>(inclusive)</strong></i> and the given maximum bytes
+   * <i><strong>(exclusive)</strong></i>. Returns {@code value} if it does, otherwise an {@code
+   * IllegalArgumentException} will be thrown, including when the arguments are invalid as described
+   * in {@link #hasUtf8BytesInRange(int, int, byte[])}.
    *
-   * @param baseValue the value to compare for smallness or equality against.
-   * @param value the value to check for smallness or equality.
-   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
-   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
-   * @since 1.1.0
+   * @param minBytes the minimum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param maxBytes the maximum number of bytes <i><strong>(exclusive)</strong></i>.
+   * @param value the {@code byte[]} to check.
+   * @return {@code value} if its number of bytes falls within the specified range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasUtf8BytesInRange(int, int, byte[])
+   * @since 3.0.0
    */
-  @SideEffectFree
-  public static float requireLessThanOrEqualTo(float baseValue, float value) {
-    return requireLessThanOrEqualTo(baseValue, value, null);
+  public static byte[] requireUtf8BytesInRange(
+      @NonNegative int minBytes, @NonNegative int maxBytes, byte[] value) {
+    return requireUtf8BytesInRange(minBytes, maxBytes, value, (String) null);
   }
 
   /**
-   * Validates that an {@code float} is less than or equal to a supplied base value. Returns the
-   * given {@code float} if it is less than or equal to the given base value, otherwise, an {@code
-   * IllegalArgumentException} is thrown.
+   * Validates that the given UTF-8 encoded {@code byte} array has a number of bytes between the
+   * given minimum bytes <i><strong>(inclusive)</strong></i> and the given maximum bytes
+   * <i><strong>(exclusive)</strong></i>. Returns {@code value} if it does, otherwise an {@code
+   * IllegalArgumentException} will be thrown, including when the arguments are invalid as described
+   * in {@link #hasUtf8BytesInRange(int, int, byte[])}. An optional message may be passed to be used
+   * in the construction of the {@code IllegalArgumentException}.
    *
-   * @param baseValue the value to compare for smallness or equality against.
-   * @param value the value to check for smallness or equality.
+   * @param minBytes the minimum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param maxBytes the maximum number of bytes <i><strong>(exclusive)</strong></i>.
+   * @param value the {@code byte[]} to check.
    * @param message an optional message to be used as the {@code IllegalArgumentException} message.
-   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
-   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
-   * @since 1.1.0
+   * @return {@code value} if its number of bytes falls within the specified range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasUtf8BytesInRange(int, int, byte[])
+   * @since 3.0.0
    */
-  @SideEffectFree
-  public static float requireLessThanOrEqualTo(
-      float baseValue, float value, @Nullable String message) {
-    if (!isLessThanOrEqualTo(baseValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message)
-              ? message
-              : String.format("value(%f) should be less than %f.", value, baseValue)));
+  public static byte[] requireUtf8BytesInRange(
+      @NonNegative int minBytes,
+      @NonNegative int maxBytes,
+      byte[] value,
+      @Nullable String message) {
+    if (!hasUtf8BytesInRange(minBytes, maxBytes, value)) {
+      throw new ValidationException(
+          Check.UTF8_BYTES_IN_RANGE, value.length, minBytes, maxBytes, message);
     }
     return value;
   }
 
   /**
-   * Validates that a {@code double} is less than or equal to a supplied base value. Returns the
-   * given {@code double} if it is less than or equal to the given base value, otherwise, an {@code
-   * IllegalArgumentException} is thrown.
+   * Validates that the given UTF-8 encoded {@code byte} array has a number of bytes between the
+   * given minimum bytes <i><strong>(inclusive)</strong></i> and the given maximum bytes
+   * <i><strong>(exclusive)</strong></i>. Returns {@code value} if it does, otherwise an {@code
+   * IllegalArgumentException} will be thrown, including when the arguments are invalid as described
+   * in {@link #hasUtf8BytesInRange(int, int, byte[])}. An optional message may be passed to be used
+   * in the construction of the {@code IllegalArgumentException}. The exception message is only
+   * retrieved from {@code messageSupplier} if the validation fails.
    *
-   * @param baseValue the value to compare for smallness or equality against.
-   * @param value the value to check for smallness or equality.
-   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
-   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
-   * @since 1.1.0
+   * @param minBytes the minimum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param maxBytes the maximum number of bytes <i><strong>(exclusive)</strong></i>.
+   * @param value the {@code byte[]} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if its number of bytes falls within the specified range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasUtf8BytesInRange(int, int, byte[])
+   * @since 3.0.0
    */
-  @SideEffectFree
-  public static double requireLessThanOrEqualTo(double baseValue, double value) {
-    return requireLessThanOrEqualTo(baseValue, value, null);
+  public static byte[] requireUtf8BytesInRange(
+      @NonNegative int minBytes,
+      @NonNegative int maxBytes,
+      byte[] value,
+      @Nullable Supplier<String> messageSupplier) {
+    return hasUtf8BytesInRange(minBytes, maxBytes, value)
+        ? value
+        : requireUtf8BytesInRange(minBytes, maxBytes, value, supplyMessage(messageSupplier));
   }
 
   /**
-   * Validates that a {@code double} is less than or equal to a supplied base value. Returns the
-   * given {@code double} if it is less than or equal to the given base value, otherwise, an {@code
-   * IllegalArgumentException} is thrown.
+   * Validates that the given UTF-8 encoded {@code byte} array has a number of bytes between the
+   * given minimum bytes <i><strong>(inclusive)</strong></i> and the given maximum bytes
+   * <i><strong>(exclusive)</strong></i>. Returns {@code value} if it does, otherwise an {@code
+   * IllegalArgumentException} will be thrown, including when the arguments are invalid as described
+   * in {@link #hasUtf8BytesInRange(int, int, byte[])}. An optional message may be passed to be used
+   * in the construction of the {@code IllegalArgumentException}. The exception message is only
+   * formatted if the validation fails.
    *
-   * @param baseValue the value to compare for smallness or equality against.
-   * @param value the value to check for smallness or equality.
-   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
-   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
-   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
-   * @since 1.1.0
+   * @param minBytes the minimum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param maxBytes the maximum number of bytes <i><strong>(exclusive)</strong></i>.
+   * @param value the {@code byte[]} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if its number of bytes falls within the specified range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasUtf8BytesInRange(int, int, byte[])
+   * @since 3.0.0
    */
-  @SideEffectFree
-  public static double requireLessThanOrEqualTo(
-      double baseValue, double value, @Nullable String message) {
-    if (!isLessThanOrEqualTo(baseValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message)
-              ? message
-              : String.format("value(%f) should be less than %f.", value, baseValue)));
-    }
-    return value;
+  public static byte[] requireUtf8BytesInRange(
+      @NonNegative int minBytes,
+      @NonNegative int maxBytes,
+      byte[] value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return hasUtf8BytesInRange(minBytes, maxBytes, value)
+        ? value
+        : requireUtf8BytesInRange(
+            minBytes, maxBytes, value, formatMessage(messageFormat, messageArgs));
   }
 
   /**
-   * Validates that a {@link BigDecimal} is less than or equal to a supplied base value. Returns the
-   * given {@code BigDecimal} if it is less than or equal to the given base value, otherwise, an
-   * {@code IllegalArgumentException} is thrown.
+   * Validates that the given UTF-8 encoded {@code byte} array has at most the given maximum bytes
+   * <i><strong>(inclusive)</strong></i>. Returns {@code value} if it does, otherwise an {@code
+   * IllegalArgumentException} will be thrown, including when {@code maxBytes} is negative.
    *
-   * @param baseValue the value to compare for smallness or equality against.
-   * @param value the value to check for smallness or equality.
-   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
-   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
-   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
-   * @since 1.1.0
+   * @param maxBytes the maximum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param value the {@code byte[]} to check.
+   * @return {@code value} if its number of bytes is less than or equal to {@code maxBytes}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasUtf8BytesAtMost(int, byte[])
+   * @since 3.0.0
    */
-  @SideEffectFree
-  public static BigDecimal requireLessThanOrEqualTo(BigDecimal baseValue, BigDecimal value) {
-    return requireLessThanOrEqualTo(baseValue, value, null);
+  public static byte[] requireUtf8BytesAtMost(@NonNegative int maxBytes, byte[] value) {
+    return requireUtf8BytesAtMost(maxBytes, value, (String) null);
   }
 
   /**
-   * Validates that a {@link BigDecimal} is less than or equal to a supplied base value. Returns the
-   * given {@code BigDecimal} if it is less than or equal to the given base value, otherwise, an
-   * {@code IllegalArgumentException} is thrown.
+   * Validates that the given UTF-8 encoded {@code byte} array has at most the given maximum bytes
+   * <i><strong>(inclusive)</strong></i>. Returns {@code value} if it does, otherwise an {@code
+   * IllegalArgumentException} will be thrown, including when {@code maxBytes} is negative. An
+   * optional message may be passed to be used in the construction of the {@code
+   * IllegalArgumentException}.
    *
-   * @param baseValue the value to compare for smallness or equality against.
-   * @param value the value to check for smallness or equality.
+   * @param maxBytes the maximum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param value the {@code byte[]} to check.
    * @param message an optional message to be used as the {@code IllegalArgumentException} message.
-   * @return {@code value} if {@code value} is less than or equal to {@code baseValue}.
-   * @throws IllegalArgumentException if {@code value} is greater than {@code baseValue}.
-   * @throws NullPointerException if {@code baseValue} or/and {@code value} is/are {@code null}.
-   * @since 1.1.0
+   * @return {@code value} if its number of bytes is less than or equal to {@code maxBytes}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasUtf8BytesAtMost(int, byte[])
+   * @since 3.0.0
    */
-  @SideEffectFree
-  public static BigDecimal requireLessThanOrEqualTo(
-      BigDecimal baseValue, BigDecimal value, @Nullable String message) {
-    if (!isLessThanOrEqualTo(baseValue, value)) {
-      throw new IllegalArgumentException(
-          (nonNull(message)
-              ? message
-              : String.format("value(%s) should be greater than %s.", value, baseValue)));
+  public static byte[] requireUtf8BytesAtMost(
+      @NonNegative int maxBytes, byte[] value, @Nullable String message) {
+    if (!hasUtf8BytesAtMost(maxBytes, value)) {
+      throw new ValidationException(Check.UTF8_BYTES_AT_MOST, value.length, maxBytes, message);
     }
     return value;
   }
 
-  // ========================================================================
-  // SERIALIZABLE UTILS
-  // ========================================================================
-
   /**
-   * Checks if a given instance is serializable, i.e. implements the {@link Serializable} interface.
-   * Returns <code>true</code> if the instance is serializable, otherwise returns <code>false</code>
-   * .
+   * Validates that the given UTF-8 encoded {@code byte} array has at most the given maximum bytes
+   * <i><strong>(inclusive)</strong></i>. Returns {@code value} if it does, otherwise an {@code
+   * IllegalArgumentException} will be thrown, including when {@code maxBytes} is negative. An
+   * optional message may be passed to be used in the construction of the {@code
+   * IllegalArgumentException}. The exception message is only retrieved from {@code messageSupplier}
+   * if the validation fails.
    *
-   * @param <T> the type of the instance to be checked for serializability
-   * @param value the instance to check for serializability
-   * @return <code>true</code> if value is serializable or <code>false</code> otherwise.
-   * @see Serializable
+   * @param maxBytes the maximum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param value the {@code byte[]} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if its number of bytes is less than or equal to {@code maxBytes}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasUtf8BytesAtMost(int, byte[])
+   * @since 3.0.0
    */
-  @Pure
-  @EnsuresNonNullIf(expression = "#1", result = true)
-  public static <T> boolean isSerializable(@Nullable T value) {
-    return value instanceof Serializable;
+  public static byte[] requireUtf8BytesAtMost(
+      @NonNegative int maxBytes, byte[] value, @Nullable Supplier<String> messageSupplier) {
+    return hasUtf8BytesAtMost(maxBytes, value)
+        ? value
+        : requireUtf8BytesAtMost(maxBytes, value, supplyMessage(messageSupplier));
   }
 
   /**
-   * Validates that a given instance is serializable, i.e. implements the {@link Serializable}
-   * interface. If the given instance is serializable, the method returns the instance. Otherwise,
-   * an {@code IllegalArgumentException} is thrown. Also, a {@code NullPointerException} will also
-   * be thrown if the supplied instance is {@code null}.
+   * Validates that the given UTF-8 encoded {@code byte} array has at most the given maximum bytes
+   * <i><strong>(inclusive)</strong></i>. Returns {@code value} if it does, otherwise an {@code
+   * IllegalArgumentException} will be thrown, including when {@code maxBytes} is negative. An
+   * optional message may be passed to be used in the construction of the {@code
+   * IllegalArgumentException}. The exception message is only formatted if the validation fails.
    *
-   * @param <T> the type of the instance to be checked for serializability.
-   * @param value the instance to check for serializability.
-   * @return {@code value} if it's not <i>null <b>AND</b> is serializable</i>.
+   * @param maxBytes the maximum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param value the {@code byte[]} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if its number of bytes is less than or equal to {@code maxBytes}.
    * @throws NullPointerException if {@code value} is {@code null}.
-   * @throws IllegalArgumentException if {@code value} is not serializable.
-   * @see #requireSerializable(Object, String)
-   * @see Serializable
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasUtf8BytesAtMost(int, byte[])
+   * @since 3.0.0
    */
-  @Pure
-  public static <T> T requireSerializable(@Nullable T value) {
-    return requireSerializable(value, null);
+  public static byte[] requireUtf8BytesAtMost(
+      @NonNegative int maxBytes,
+      byte[] value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return hasUtf8BytesAtMost(maxBytes, value)
+        ? value
+        : requireUtf8BytesAtMost(maxBytes, value, formatMessage(messageFormat, messageArgs));
   }
 
   /**
-   * Validates that a given instance is serializable, i.e. implements the {@link Serializable}
-   * interface. If the given instance is serializable, the method returns the instance. Otherwise,
-   * an {@code IllegalArgumentException} is thrown. Also, a {@code NullPointerException} will also
-   * be thrown if the supplied instance is {@code null}. A message can optionally be passed to be
-   * used in the construction of the {@code IllegalArgumentException}.
+   * Checks that the remaining bytes of the given UTF-8 encoded {@code ByteBuffer} has a number of
+   * bytes between the given minimum bytes <i><strong>(inclusive)</strong></i> and the given maximum
+   * bytes <i><strong>(exclusive)</strong></i>. Returns {@code true} if it does, otherwise returns
+   * {@code false}. The position of the buffer is not changed. An {@link IllegalArgumentException}
+   * will be thrown if:
    *
-   * @param <T> the type of the instance to be checked for serializability.
-   * @param value the instance to check for serializability.
-   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
-   * @return value if it's not <i>null <b>AND</b> is serializable</i>.
+   * <ul>
+   *   <li>{@code minBytes} is negative.
+   *   <li>{@code maxBytes} is negative.
+   *   <li>{@code maxBytes} is less than or equal to {@code minBytes}.
+   * </ul>
+   *
+   * @param minBytes the minimum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param maxBytes the maximum number of bytes <i><strong>(exclusive)</strong></i>.
+   * @param value the {@code ByteBuffer} to check.
+   * @return {@code true} if the number of bytes falls within the specified range, {@code false}
+   *     otherwise.
    * @throws NullPointerException if {@code value} is {@code null}.
-   * @throws IllegalArgumentException if {@code value} is not serializable.
-   * @see Serializable
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @since 3.0.0
    */
-  @Pure
-  public static <T> T requireSerializable(@Nullable T value, @Nullable String message) {
-    if (!isSerializable(value)) {
-      throw new IllegalArgumentException(
-          isNull(message) ? value + " must be serializable." : message);
-    }
-    return value;
+  public static boolean hasUtf8BytesInRange(
+      @NonNegative int minBytes, @NonNegative int maxBytes, ByteBuffer value) {
+    requireValidBytesRange(minBytes, maxBytes);
+    return inRange(minBytes, maxBytes, requireNonNull(value).remaining());
   }
 
-  // ========================================================================
-  // STRING UTILS
-  // ========================================================================
+  /**
+   * Checks that the remaining bytes of the given UTF-8 encoded {@code ByteBuffer} has at most the
+   * given maximum bytes <i><strong>(inclusive)</strong></i>. Returns {@code true} if it does,
+   * otherwise returns {@code false}. The position of the buffer is not changed. An {@link
+   * IllegalArgumentException} will be thrown if {@code maxBytes} is negative.
+   *
+   * @param maxBytes the maximum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param value the {@code ByteBuffer} to check.
+   * @return {@code true} if the number of bytes is less than or equal to {@code maxBytes}, {@code
+   *     false} otherwise.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxBytes} is negative.
+   * @since 3.0.0
+   */
+  public static boolean hasUtf8BytesAtMost(@NonNegative int maxBytes, ByteBuffer value) {
+    return requireNonNull(value).remaining() <= requireNonNegative(maxBytes);
+  }
 
   /**
-   * Checks that the given <code>String</code> has characters between the given minimum chars
-   * (inclusive) and the given maximum chars (exclusive). Returns <code>true</code> if the given
-   * <code>String</code>'s length (no of characters) falls within the given range, otherwise,
-   * returns <code>false</code>. An {@link IllegalArgumentException} will be thrown if:
+   * Validates that the remaining bytes of the given UTF-8 encoded {@code ByteBuffer} has a number
+   * of bytes between the given minimum bytes <i><strong>(inclusive)</strong></i> and the given
+   * maximum bytes <i><strong>(exclusive)</strong></i>. Returns {@code value} if it does, otherwise
+   * an {@code IllegalArgumentException} will be thrown, including when the arguments are invalid as
+   * described in {@link #hasUtf8BytesInRange(int, int, ByteBuffer)}.
    *
-   * <ul>
-   *   <li><code>minChars</code> is negative.
-   *   <li><code>maxChars</code> is negative.
-   *   <li><code>maxChars</code> is less than <code>minChars</code>.
-   *   <li><code>maxChars</code> is equal to <code>minChars</code>
-   * </ul>
+   * @param minBytes the minimum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param maxBytes the maximum number of bytes <i><strong>(exclusive)</strong></i>.
+   * @param value the {@code ByteBuffer} to check.
+   * @return {@code value} if its number of bytes falls within the specified range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasUtf8BytesInRange(int, int, ByteBuffer)
+   * @since 3.0.0
+   */
+  public static ByteBuffer requireUtf8BytesInRange(
+      @NonNegative int minBytes, @NonNegative int maxBytes, ByteBuffer value) {
+    return requireUtf8BytesInRange(minBytes, maxBytes, value, (String) null);
+  }
+
+  /**
+   * Validates that the remaining bytes of the given UTF-8 encoded {@code ByteBuffer} has a number
+   * of bytes between the given minimum bytes <i><strong>(inclusive)</strong></i> and the given
+   * maximum bytes <i><strong>(exclusive)</strong></i>. Returns {@code value} if it does, otherwise
+   * an {@code IllegalArgumentException} will be thrown, including when the arguments are invalid as
+   * described in {@link #hasUtf8BytesInRange(int, int, ByteBuffer)}. An optional message may be
+   * passed to be used in the construction of the {@code IllegalArgumentException}.
    *
-   * @param minChars the minimum number of characters (inclusive) that the given <code>String</code>
-   *     should have.
-   * @param maxChars the maximum number of characters (exclusive) that the given <code>String</code>
-   *     should have.
-   * @param value the <code>String</code> to check.
-   * @return <code>true</code> if the given <code>String</code>'s length falls within the specified
-   *     range, <code>false</code> otherwise.
-   * @throws NullPointerException if <code>value</code> is <code>null</code>.
+   * @param minBytes the minimum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param maxBytes the maximum number of bytes <i><strong>(exclusive)</strong></i>.
+   * @param value the {@code ByteBuffer} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if its number of bytes falls within the specified range.
+   * @throws NullPointerException if {@code value} is {@code null}.
    * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasUtf8BytesInRange(int, int, ByteBuffer)
+   * @since 3.0.0
    */
-  public static boolean hasCharsInRange(
-      @NonNegative int minChars, @NonNegative int maxChars, String value) {
-    requireGreaterThan(
-        requireNonNegative(minChars),
-        requireNonNegative(maxChars),
-        String.format(
-            "maxChars(%d) cannot be less than or equal to minChars(%d).", maxChars, minChars));
-    return inRange(minChars, maxChars, requireNonNull(value).length());
+  public static ByteBuffer requireUtf8BytesInRange(
+      @NonNegative int minBytes,
+      @NonNegative int maxBytes,
+      ByteBuffer value,
+      @Nullable String message) {
+    if (!hasUtf8BytesInRange(minBytes, maxBytes, value)) {
+      throw new ValidationException(
+          Check.UTF8_BYTES_IN_RANGE, value.remaining(), minBytes, maxBytes, message);
+    }
+    return value;
   }
 
   /**
-   * Checks that the given <code>String</code> has fewer characters than the stated maximum chars
-   * (exclusive). Returns <code>true</code> if the given <code>String</code>'s length (number of
-   * characters) is less than the given <code>maxChars</code>, else returns <code>false</code>. An
-   * {@link IllegalArgumentException} will be thrown if <code>maxChars</code> is negative.
+   * Validates that the remaining bytes of the given UTF-8 encoded {@code ByteBuffer} has a number
+   * of bytes between the given minimum bytes <i><strong>(inclusive)</strong></i> and the given
+   * maximum bytes <i><strong>(exclusive)</strong></i>. Returns {@code value} if it does, otherwise
+   * an {@code IllegalArgumentException} will be thrown, including when the arguments are invalid as
+   * described in {@link #hasUtf8BytesInRange(int, int, ByteBuffer)}. An optional message may be
+   * passed to be used in the construction of the {@code IllegalArgumentException}. The exception
+   * message is only retrieved from {@code messageSupplier} if the validation fails.
    *
-   * @param maxChars the maximum number of characters (exclusive) that the given <code>String</code>
-   *     should have.
-   * @param value the <code>String</code> to check.
-   * @return <code>true</code> if the given <code>String</code>'s length is less than <code>maxChars
-   *     </code>, <code>false</code> otherwise.
-   * @throws IllegalArgumentException if <code>maxChars</code> is negative.
+   * @param minBytes the minimum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param maxBytes the maximum number of bytes <i><strong>(exclusive)</strong></i>.
+   * @param value the {@code ByteBuffer} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if its number of bytes falls within the specified range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasUtf8BytesInRange(int, int, ByteBuffer)
+   * @since 3.0.0
    */
-  public static boolean hasLessThanChars(@NonNegative int maxChars, String value) {
-    return requireNonNull(value).length() < requireNonNegative(maxChars);
+  public static ByteBuffer requireUtf8BytesInRange(
+      @NonNegative int minBytes,
+      @NonNegative int maxBytes,
+      ByteBuffer value,
+      @Nullable Supplier<String> messageSupplier) {
+    return hasUtf8BytesInRange(minBytes, maxBytes, value)
+        ? value
+        : requireUtf8BytesInRange(minBytes, maxBytes, value, supplyMessage(messageSupplier));
   }
 
   /**
-   * Checks that the given <code>String</code> has more characters than the stated minimum chars
-   * (inclusive). Returns <code>true</code> if the given <code>String</code>'s length (number of
-   * characters) is greater than or equal to the given <code>minChars</code>, else returns <code>
-   * false</code>. An {@link IllegalArgumentException} will be thrown if <code>minChars</code> is
-   * negative.
+   * Validates that the remaining bytes of the given UTF-8 encoded {@code ByteBuffer} has a number
+   * of bytes between the given minimum bytes <i><strong>(inclusive)</strong></i> and the given
+   * maximum bytes <i><strong>(exclusive)</strong></i>. Returns {@code value} if it does, otherwise
+   * an {@code IllegalArgumentException} will be thrown, including when the arguments are invalid as
+   * described in {@link #hasUtf8BytesInRange(int, int, ByteBuffer)}. An optional message may be
+   * passed to be used in the construction of the {@code IllegalArgumentException}. The exception
+   * message is only formatted if the validation fails.
    *
-   * @param minChars the minimum number of characters (inclusive) that the given <code>String</code>
-   *     should have.
-   * @param value the <code>String</code> to check.
-   * @return <code>true</code> if the given <code>String</code>'s length is greater than or equal to
-   *     <code>minChars</code>, <code>false</code> otherwise.
-   * @throws IllegalArgumentException if <code>minChars</code> is negative.
+   * @param minBytes the minimum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param maxBytes the maximum number of bytes <i><strong>(exclusive)</strong></i>.
+   * @param value the {@code ByteBuffer} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if its number of bytes falls within the specified range.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
+   * @see #hasUtf8BytesInRange(int, int, ByteBuffer)
+   * @since 3.0.0
    */
-  public static boolean hasMoreThanChars(@NonNegative int minChars, String value) {
-    return isGreaterThan(requireNonNegative(minChars), requireNonNull(value).length());
+  public static ByteBuffer requireUtf8BytesInRange(
+      @NonNegative int minBytes,
+      @NonNegative int maxBytes,
+      ByteBuffer value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return hasUtf8BytesInRange(minBytes, maxBytes, value)
+        ? value
+        : requireUtf8BytesInRange(
+            minBytes, maxBytes, value, formatMessage(messageFormat, messageArgs));
   }
 
   /**
-   * Validates that the given {@code String} has characters between the given <i> minimum chars
-   * <strong>(inclusive)</strong> </i> and the given <i>maximum chars <strong>(exclusive)</strong>
-   * </i>. Returns {@code value} if the given {@code String}'s length <i>(no of characters)</i>
-   * falls within the given range, otherwise, an {@link IllegalArgumentException} will be thrown.
-   * <br>
-   * <i><strong>NOTE:</strong> This method internally uses {@link #hasCharsInRange(int, int,
-   * String)}, so an {@code IllegalArgumentException} might be thrown if any of that methods
-   * requirements are not met.</i>
+   * Validates that the remaining bytes of the given UTF-8 encoded {@code ByteBuffer} has at most
+   * the given maximum bytes <i><strong>(inclusive)</strong></i>. Returns {@code value} if it does,
+   * otherwise an {@code IllegalArgumentException} will be thrown, including when {@code maxBytes}
+   * is negative.
    *
-   * @param minChars the minimum number of characters <i><strong>(inclusive)</strong></i> that the
-   *     given {@code String} should have.
-   * @param maxChars the maximum number of characters <i><strong>(exclusive)</strong></i> that the
-   *     given {@code String} should have.
-   * @param value the {@code String} to check.
-   * @return {@code value} if {@code value}'s length falls within the specified range.
+   * @param maxBytes the maximum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param value the {@code ByteBuffer} to check.
+   * @return {@code value} if its number of bytes is less than or equal to {@code maxBytes}.
    * @throws NullPointerException if {@code value} is {@code null}.
    * @throws IllegalArgumentException if any of the conditions stated above are/is met.
-   * @see #hasCharsInRange(int, int, String)
+   * @see #hasUtf8BytesAtMost(int, ByteBuffer)
+   * @since 3.0.0
    */
-  public static String requireCharsInRange(
-      @IndexOrHigh(value = "#3") int minChars, @NonNegative int maxChars, String value) {
-    return requireCharsInRange(minChars, maxChars, value, null);
+  public static ByteBuffer requireUtf8BytesAtMost(@NonNegative int maxBytes, ByteBuffer value) {
+    return requireUtf8BytesAtMost(maxBytes, value, (String) null);
   }
 
   /**
-   * Validates that the given {@code String} has characters between the given <i> minimum chars
-   * <strong>(inclusive)</strong> </i> and the given <i>maximum chars <strong>(exclusive)</strong>
-   * </i>. Returns {@code value} if the given {@code String}'s length <i>(no of characters)</i>
-   * falls within the given range, otherwise, an {@link IllegalArgumentException} will be thrown. An
-   * optional message may be passed to be used in the construction of the {@code
-   * IllegalArgumentException}. <br>
-   * <br>
-   * <i><strong>NOTE:</strong> This method internally uses {@link #hasCharsInRange(int, int,
-   * String)}, so an {@code IllegalArgumentException} might be thrown if any of that methods
-   * requirements are not met.</i>
+   * Validates that the remaining bytes of the given UTF-8 encoded {@code ByteBuffer} has at most
+   * the given maximum bytes <i><strong>(inclusive)</strong></i>. Returns {@code value} if it does,
+   * otherwise an {@code IllegalArgumentException} will be thrown, including when {@code maxBytes}
+   * is negative. An optional message may be passed to be used in the construction of the {@code
+   * IllegalArgumentException}.
    *
-   * @param minChars the minimum number of characters <i><strong>(inclusive)</strong></i> that the
-   *     given {@code String} should have.
-   * @param maxChars the maximum number of characters <i><strong>(exclusive)</strong></i> that the
-   *     given {@code String} should have.
-   * @param value the {@code String} to check.
+   * @param maxBytes the maximum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param value the {@code ByteBuffer} to check.
    * @param message an optional message to be used as the {@code IllegalArgumentException} message.
-   * @return {@code value} if {@code value}'s length falls within the specified range.
+   * @return {@code value} if its number of bytes is less than or equal to {@code maxBytes}.
    * @throws NullPointerException if {@code value} is {@code null}.
    * @throws IllegalArgumentException if any of the conditions stated above are/is met.
-   * @see #hasCharsInRange(int, int, String)
+   * @see #hasUtf8BytesAtMost(int, ByteBuffer)
+   * @since 3.0.0
    */
-  public static String requireCharsInRange(
-      @IndexOrHigh(value = "#3") int minChars,
-      @NonNegative int maxChars,
-      String value,
-      @Nullable String message) {
-    if (!hasCharsInRange(minChars, maxChars, value)) {
-      throw new IllegalArgumentException(
-          nonNull(message)
-              ? message
-              : String.format(
-                  "The length of value(%d) must be greater than or equal to %d and less than %d.",
-                  value.length(), minChars, maxChars));
+  public static ByteBuffer requireUtf8BytesAtMost(
+      @NonNegative int maxBytes, ByteBuffer value, @Nullable String message) {
+    if (!hasUtf8BytesAtMost(maxBytes, value)) {
+      throw new ValidationException(Check.UTF8_BYTES_AT_MOST, value.remaining(), maxBytes, message);
     }
     return value;
   }
 
   /**
-   * Validates that the given {@code String} has fewer characters than the stated <i>maximum chars
-   * <strong>(exclusive)</strong></i>. Returns {@code value} if the given {@code String}'s length
-   * <i>(number of characters)</i> is less than the given {@code maxChars}, otherwise an {@code
-   * IllegalArgumentException} will be thrown. <br>
-   * <br>
-   * <i><strong>NOTE:</strong> This method internally uses {@link #hasLessThanChars(int, String)},
-   * so an {@code IllegalArgumentException}might be thrown if any of that methods requirements are
-   * not met.</i>
+   * Validates that the remaining bytes of the given UTF-8 encoded {@code ByteBuffer} has at most
+   * the given maximum bytes <i><strong>(inclusive)</strong></i>. Returns {@code value} if it does,
+   * otherwise an {@code IllegalArgumentException} will be thrown, including when {@code maxBytes}
+   * is negative. An optional message may be passed to be used in the construction of the {@code
+   * IllegalArgumentException}. The exception message is only retrieved from {@code messageSupplier}
+   * if the validation fails.
    *
-   * @param maxChars the maximum number of characters <i><strong>(exclusive)</strong></i> that the
-   *     given {@code String} should have.
-   * @param value the {@code String} to check.
-   * @return {@code value} if {@code value}'s length is less than {@code maxChars}.
+   * @param maxBytes the maximum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param value the {@code ByteBuffer} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if its number of bytes is less than or equal to {@code maxBytes}.
    * @throws NullPointerException if {@code value} is {@code null}.
    * @throws IllegalArgumentException if any of the conditions stated above are/is met.
-   * @see #hasLessThanChars(int, String)
+   * @see #hasUtf8BytesAtMost(int, ByteBuffer)
+   * @since 3.0.0
    */
-  public static String requireLessThanChars(@NonNegative int maxChars, String value) {
-    return requireLessThanChars(maxChars, value, null);
+  public static ByteBuffer requireUtf8BytesAtMost(
+      @NonNegative int maxBytes, ByteBuffer value, @Nullable Supplier<String> messageSupplier) {
+    return hasUtf8BytesAtMost(maxBytes, value)
+        ? value
+        : requireUtf8BytesAtMost(maxBytes, value, supplyMessage(messageSupplier));
   }
 
   /**
-   * Validates that the given {@code String} has fewer characters than the stated <i>maximum chars
-   * <strong>(exclusive)</strong></i>. Returns {@code value} if the given {@code String}'s length
-   * <i>(number of characters)</i> is less than the given {@code maxChars}, otherwise an {@code
-   * IllegalArgumentException} will be thrown. An optional message may be passed to be used in the
-   * construction of the {@code IllegalArgumentException}. <br>
-   * <br>
-   * <i><strong>NOTE:</strong> This method internally uses {@link #hasLessThanChars(int, String)},
-   * so an {@code IllegalArgumentException}might be thrown if any of that methods requirements are
-   * not met.</i>
+   * Validates that the remaining bytes of the given UTF-8 encoded {@code ByteBuffer} has at most
+   * the given maximum bytes <i><strong>(inclusive)</strong></i>. Returns {@code value} if it does,
+   * otherwise an {@code IllegalArgumentException} will be thrown, including when {@code maxBytes}
+   * is negative. An optional message may be passed to be used in the construction of the {@code
+   * IllegalArgumentException}. The exception message is only formatted if the validation fails.
    *
-   * @param maxChars the maximum number of characters <i><strong>(exclusive)</strong></i> that the
-   *     given {@code String} should have.
-   * @param value the {@code String} to check.
-   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
-   * @return {@code value} if {@code value}'s length is less than {@code maxChars}.
+   * @param maxBytes the maximum number of bytes <i><strong>(inclusive)</strong></i>.
+   * @param value the {@code ByteBuffer} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if its number of bytes is less than or equal to {@code maxBytes}.
    * @throws NullPointerException if {@code value} is {@code null}.
    * @throws IllegalArgumentException if any of the conditions stated above are/is met.
-   * @see #hasLessThanChars(int, String)
+   * @see #hasUtf8BytesAtMost(int, ByteBuffer)
+   * @since 3.0.0
    */
-  public static String requireLessThanChars(
-      @NonNegative int maxChars, String value, @Nullable String message) {
-    if (!hasLessThanChars(maxChars, value)) {
+  public static ByteBuffer requireUtf8BytesAtMost(
+      @NonNegative int maxBytes,
+      ByteBuffer value,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return hasUtf8BytesAtMost(maxBytes, value)
+        ? value
+        : requireUtf8BytesAtMost(maxBytes, value, formatMessage(messageFormat, messageArgs));
+  }
+
+  // Validates the bounds of a range of a number of bytes
+  @SideEffectFree
+  private static void requireValidBytesRange(@NonNegative int minBytes, @NonNegative int maxBytes) {
+    if (!isGreaterThan(requireNonNegative(minBytes), requireNonNegative(maxBytes))) {
       throw new IllegalArgumentException(
-          nonNull(message)
-              ? message
-              : String.format(
-                  "value's length (%d) must be less than %d.", value.length(), maxChars));
+          String.format(
+              "maxBytes(%d) cannot be less than or equal to minBytes(%d).", maxBytes, minBytes));
     }
-    return value;
   }
 
+  // ========================================================================
+  // PARSE UTILS
+  // ========================================================================
+
   /**
-   * Validates that the given {@code String} has more characters than the stated <i>minimum chars
-   * <strong>(inclusive)</strong></i>. Returns {@code value} if the given {@code String}'s length
-   * <i>(number of characters)</i> is greater than or equal to the given {@code minChars}, otherwise
-   * an {@code IllegalArgumentException} will be thrown. <br>
-   * <br>
-   * <i><strong>NOTE:</strong> This method internally uses {@link #hasMoreThanChars(int, String)},
-   * so an {@code IllegalArgumentException}might be thrown if any of that methods requirements are
-   * not met.</i>
+   * Parses the signed decimal number in the given slice of {@code value} as an {@code int} and
+   * validates that it is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>. The
+   * slice is parsed in place, without copying it into a {@code String}, and is equivalent to
+   * parsing {@code value.subSequence(fromIndex, toIndex).toString()} with {@link
+   * Integer#parseInt(String)} and passing the result to {@link #requireInRange(int, int, int)}. The
+   * digits are checked against the range as they are parsed, so a number that is out of range,
+   * including one too large for an {@code int}, is rejected without overflowing. A {@code
+   * NumberFormatException}, which is an {@code IllegalArgumentException}, is thrown if the slice is
+   * not a valid number.
    *
-   * @param minChars the minimum number of characters <i><strong>(inclusive)</strong></i> that the
-   *     given {@code String} should have.
-   * @param value the {@code String} to check.
-   * @return {@code value} if {@code value}'s length is greater than or equal to {@code minChars}.
+   * @param value the {@code CharSequence} containing the number to parse.
+   * @param fromIndex the index of the first character of the number<i><strong>(inclusive)</strong>
+   *     </i>.
+   * @param toIndex the index after the last character of the number<i><strong>(exclusive)</strong>
+   *     </i>.
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @return the parsed number if it is in the specified range.
+   * @throws NumberFormatException if the slice is not a valid number.
+   * @throws IllegalArgumentException if the parsed number is not in the specified range or if
+   *     {@code maxValue} is less than {@code minValue}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code value} or {@code fromIndex} is greater than {@code toIndex}.
    * @throws NullPointerException if {@code value} is {@code null}.
-   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
-   * @see #hasMoreThanChars(int, String)
+   * @since 3.0.0
    */
-  public static String requireMoreThanChars(@IndexFor(value = "#2") int minChars, String value) {
-    return requireMoreThanChars(minChars, value, null);
+  public static int parseIntInRange(
+      CharSequence value, int fromIndex, int toIndex, int minValue, int maxValue) {
+    return parseIntInRange(value, fromIndex, toIndex, minValue, maxValue, (String) null);
   }
 
   /**
-   * Validates that the given {@code String} has more characters than the stated <i>minimum chars
-   * <strong>(inclusive)</strong></i>. Returns {@code value} if the given {@code String}'s length
-   * <i>(number of characters)</i> is greater than or equal to the given {@code minChars}, otherwise
-   * an {@code IllegalArgumentException} will be thrown. An optional message may be passed to be
-   * used in the construction of the {@code IllegalArgumentException}. <br>
-   * <br>
-   * <i><strong>NOTE:</strong> This method internally uses {@link #hasMoreThanChars(int, String)},
-   * so an {@code IllegalArgumentException}might be thrown if any of that methods requirements are
-   * not met.</i>
+   * Parses the signed decimal number in the given slice of {@code value} as an {@code int} and
+   * validates that it is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>. The
+   * slice is parsed in place, without copying it into a {@code String}, and is equivalent to
+   * parsing {@code value.subSequence(fromIndex, toIndex).toString()} with {@link
+   * Integer#parseInt(String)} and passing the result to {@link #requireInRange(int, int, int)}. The
+   * digits are checked against the range as they are parsed, so a number that is out of range,
+   * including one too large for an {@code int}, is rejected without overflowing. A {@code
+   * NumberFormatException}, which is an {@code IllegalArgumentException}, is thrown if the slice is
+   * not a valid number. An optional message can also be given to be used as the exception message.
    *
-   * @param minChars the minimum number of characters <i><strong>(inclusive)</strong></i> that the
-   *     given {@code String} should have.
-   * @param value the {@code String} to check.
+   * @param value the {@code CharSequence} containing the number to parse.
+   * @param fromIndex the index of the first character of the number<i><strong>(inclusive)</strong>
+   *     </i>.
+   * @param toIndex the index after the last character of the number<i><strong>(exclusive)</strong>
+   *     </i>.
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
    * @param message an optional message to be used as the {@code IllegalArgumentException} message.
-   * @return {@code value} if {@code value}'s length is greater than or equal to {@code minChars}.
+   * @return the parsed number if it is in the specified range.
+   * @throws NumberFormatException if the slice is not a valid number.
+   * @throws IllegalArgumentException if the parsed number is not in the specified range or if
+   *     {@code maxValue} is less than {@code minValue}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code value} or {@code fromIndex} is greater than {@code toIndex}.
    * @throws NullPointerException if {@code value} is {@code null}.
-   * @throws IllegalArgumentException if any of the conditions stated above are/is met.
-   * @see #hasMoreThanChars(int, String)
+   * @since 3.0.0
    */
-  public static String requireMoreThanChars(
-      @IndexFor(value = "#2") int minChars, String value, @Nullable String message) {
-    if (!hasMoreThanChars(minChars, value)) {
-      throw new IllegalArgumentException(
-          nonNull(message)
-              ? message
-              : String.format(
-                  "value's length (%d) must be greater than or equal to %d.",
-                  value.length(), minChars));
+  public static int parseIntInRange(
+      CharSequence value,
+      int fromIndex,
+      int toIndex,
+      int minValue,
+      int maxValue,
+      @Nullable String message) {
+    long parsed = parseInRange(value, fromIndex, toIndex, minValue, maxValue);
+    if (parsed == maxValue) {
+      throw NumberParsing.outOfRange(value, fromIndex, toIndex, minValue, maxValue, message);
     }
-    return value;
+    return (int) parsed;
   }
 
   /**
-   * Validates that the supplied {@code String} is not empty<i>(has a length of zero)</i> or {@code
-   * null}. If the {@code String} is {@code null}, a {@code NullPointerException} is thrown and if
-   * the {@code String} is empty, an {@code IllegalArgumentException} is thrown. An invocation to
-   * this method behaves exactly like an invocation to {@link #requireNonEmptyString(String, String)
-   * requireNonEmptyString(value, null)}.
+   * Parses the signed decimal number in the given slice of {@code value} as an {@code int} and
+   * validates that it is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>. The
+   * slice is parsed in place, without copying it into a {@code String}, and is equivalent to
+   * parsing {@code value.subSequence(fromIndex, toIndex).toString()} with {@link
+   * Integer#parseInt(String)} and passing the result to {@link #requireInRange(int, int, int)}. The
+   * digits are checked against the range as they are parsed, so a number that is out of range,
+   * including one too large for an {@code int}, is rejected without overflowing. A {@code
+   * NumberFormatException}, which is an {@code IllegalArgumentException}, is thrown if the slice is
+   * not a valid number. An optional message can also be given to be used as the exception message.
+   * The exception message is only retrieved from {@code messageSupplier} if the validation fails.
    *
-   * @param value the {@code String} to be checked for validity.
-   * @return value if it's not <i>null <b>AND/OR</b> empty</i>.
-   * @throws NullPointerException if value is null.
-   * @throws IllegalArgumentException if value is empty<i>(has a length of zero)</i>.
-   * @see #requireNonEmptyString(String, String)
+   * @param value the {@code CharSequence} containing the number to parse.
+   * @param fromIndex the index of the first character of the number<i><strong>(inclusive)</strong>
+   *     </i>.
+   * @param toIndex the index after the last character of the number<i><strong>(exclusive)</strong>
+   *     </i>.
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return the parsed number if it is in the specified range.
+   * @throws NumberFormatException if the slice is not a valid number.
+   * @throws IllegalArgumentException if the parsed number is not in the specified range or if
+   *     {@code maxValue} is less than {@code minValue}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code value} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
    */
-  @SideEffectFree
-  public static @MinLen(value = 1) String requireNonEmptyString(@MinLen(value = 1) String value) {
-    return requireNonEmptyString(value, null);
+  public static int parseIntInRange(
+      CharSequence value,
+      int fromIndex,
+      int toIndex,
+      int minValue,
+      int maxValue,
+      @Nullable Supplier<String> messageSupplier) {
+    long parsed = parseInRange(value, fromIndex, toIndex, minValue, maxValue);
+    return parsed != maxValue
+        ? (int) parsed
+        : parseIntInRange(
+            value, fromIndex, toIndex, minValue, maxValue, supplyMessage(messageSupplier));
   }
 
   /**
-   * Validates that the supplied {@code String} is not empty<i>(has a length of zero)</i> or {@code
-   * null}. If the {@code String} is {@code null}, a {@code NullPointerException} is thrown and if
-   * the {@code String} is empty, an {@code IllegalArgumentException} is thrown. The name of the
-   * {@code String} variable to be checked is passed as the last argument and is used in the
-   * construction of the exception message. Consider the following:
+   * Parses the signed decimal number in the given slice of {@code value} as an {@code int} and
+   * validates that it is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>. The
+   * slice is parsed in place, without copying it into a {@code String}, and is equivalent to
+   * parsing {@code value.subSequence(fromIndex, toIndex).toString()} with {@link
+   * Integer#parseInt(String)} and passing the result to {@link #requireInRange(int, int, int)}. The
+   * digits are checked against the range as they are parsed, so a number that is out of range,
+   * including one too large for an {@code int}, is rejected without overflowing. A {@code
+   * NumberFormatException}, which is an {@code IllegalArgumentException}, is thrown if the slice is
+   * not a valid number. An optional message can also be given to be used as the exception message.
+   * The exception message is only formatted if the validation fails.
    *
-   * <pre>
-   *      String firstName = "";
-   *      requireNonEmptyString(firstName, "firstName");
-   * </pre>
+   * @param value the {@code CharSequence} containing the number to parse.
+   * @param fromIndex the index of the first character of the number<i><strong>(inclusive)</strong>
+   *     </i>.
+   * @param toIndex the index after the last character of the number<i><strong>(exclusive)</strong>
+   *     </i>.
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return the parsed number if it is in the specified range.
+   * @throws NumberFormatException if the slice is not a valid number.
+   * @throws IllegalArgumentException if the parsed number is not in the specified range or if
+   *     {@code maxValue} is less than {@code minValue}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code value} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static int parseIntInRange(
+      CharSequence value,
+      int fromIndex,
+      int toIndex,
+      int minValue,
+      int maxValue,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    long parsed = parseInRange(value, fromIndex, toIndex, minValue, maxValue);
+    return parsed != maxValue
+        ? (int) parsed
+        : parseIntInRange(
+            value,
+            fromIndex,
+            toIndex,
+            minValue,
+            maxValue,
+            formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Parses the signed decimal number in the given slice of {@code value} as a {@code long} and
+   * validates that it is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>. The
+   * slice is parsed in place, without copying it into a {@code String}, and is equivalent to
+   * parsing {@code value.subSequence(fromIndex, toIndex).toString()} with {@link
+   * Long#parseLong(String)} and passing the result to {@link #requireInRange(long, long, long)}.
+   * The digits are checked against the range as they are parsed, so a number that is out of range,
+   * including one too large for a {@code long}, is rejected without overflowing. A
+   * {@code NumberFormatException}, which is an {@code IllegalArgumentException}, is thrown if the
+   * slice is not a valid number.
    *
-   * <p>An {@code IllegalArgumentException} would be thrown with the following message:
+   * @param value the {@code CharSequence} containing the number to parse.
+   * @param fromIndex the index of the first character of the number<i><strong>(inclusive)</strong>
+   *     </i>.
+   * @param toIndex the index after the last character of the number<i><strong>(exclusive)</strong>
+   *     </i>.
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @return the parsed number if it is in the specified range.
+   * @throws NumberFormatException if the slice is not a valid number.
+   * @throws IllegalArgumentException if the parsed number is not in the specified range or if
+   *     {@code maxValue} is less than {@code minValue}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code value} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static long parseLongInRange(
+      CharSequence value, int fromIndex, int toIndex, long minValue, long maxValue) {
+    return parseLongInRange(value, fromIndex, toIndex, minValue, maxValue, (String) null);
+  }
+
+  /**
+   * Parses the signed decimal number in the given slice of {@code value} as a {@code long} and
+   * validates that it is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>. The
+   * slice is parsed in place, without copying it into a {@code String}, and is equivalent to
+   * parsing {@code value.subSequence(fromIndex, toIndex).toString()} with {@link
+   * Long#parseLong(String)} and passing the result to {@link #requireInRange(long, long, long)}.
+   * The digits are checked against the range as they are parsed, so a number that is out of range,
+   * including one too large for a {@code long}, is rejected without overflowing. A
+   * {@code NumberFormatException}, which is an {@code IllegalArgumentException}, is thrown if the
+   * slice is not a valid number. An optional message can also be given to be used as the exception
+   * message.
    *
-   * <pre>
-   *      <i>"firstName cannot be empty"</i>
-   * </pre>
+   * @param value the {@code CharSequence} containing the number to parse.
+   * @param fromIndex the index of the first character of the number<i><strong>(inclusive)</strong>
+   *     </i>.
+   * @param toIndex the index after the last character of the number<i><strong>(exclusive)</strong>
+   *     </i>.
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return the parsed number if it is in the specified range.
+   * @throws NumberFormatException if the slice is not a valid number.
+   * @throws IllegalArgumentException if the parsed number is not in the specified range or if
+   *     {@code maxValue} is less than {@code minValue}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code value} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static long parseLongInRange(
+      CharSequence value,
+      int fromIndex,
+      int toIndex,
+      long minValue,
+      long maxValue,
+      @Nullable String message) {
+    long parsed = parseInRange(value, fromIndex, toIndex, minValue, maxValue);
+    if (parsed == maxValue) {
+      throw NumberParsing.outOfRange(value, fromIndex, toIndex, minValue, maxValue, message);
+    }
+    return parsed;
+  }
+
+  /**
+   * Parses the signed decimal number in the given slice of {@code value} as a {@code long} and
+   * validates that it is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>. The
+   * slice is parsed in place, without copying it into a {@code String}, and is equivalent to
+   * parsing {@code value.subSequence(fromIndex, toIndex).toString()} with {@link
+   * Long#parseLong(String)} and passing the result to {@link #requireInRange(long, long, long)}.
+   * The digits are checked against the range as they are parsed, so a number that is out of range,
+   * including one too large for a {@code long}, is rejected without overflowing. A
+   * {@code NumberFormatException}, which is an {@code IllegalArgumentException}, is thrown if the
+   * slice is not a valid number. An optional message can also be given to be used as the exception
+   * message. The exception message is only retrieved from {@code messageSupplier} if the validation
+   * fails.
    *
-   * <p>if a null value is passed in place of {@code name}, the {@code String} "value" is used
-   * instead. In the example above, the message would be:
+   * @param value the {@code CharSequence} containing the number to parse.
+   * @param fromIndex the index of the first character of the number<i><strong>(inclusive)</strong>
+   *     </i>.
+   * @param toIndex the index after the last character of the number<i><strong>(exclusive)</strong>
+   *     </i>.
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return the parsed number if it is in the specified range.
+   * @throws NumberFormatException if the slice is not a valid number.
+   * @throws IllegalArgumentException if the parsed number is not in the specified range or if
+   *     {@code maxValue} is less than {@code minValue}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code value} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static long parseLongInRange(
+      CharSequence value,
+      int fromIndex,
+      int toIndex,
+      long minValue,
+      long maxValue,
+      @Nullable Supplier<String> messageSupplier) {
+    long parsed = parseInRange(value, fromIndex, toIndex, minValue, maxValue);
+    return parsed != maxValue
+        ? parsed
+        : parseLongInRange(
+            value, fromIndex, toIndex, minValue, maxValue, supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Parses the signed decimal number in the given slice of {@code value} as a {@code long} and
+   * validates that it is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>. The
+   * slice is parsed in place, without copying it into a {@code String}, and is equivalent to
+   * parsing {@code value.subSequence(fromIndex, toIndex).toString()} with {@link
+   * Long#parseLong(String)} and passing the result to {@link #requireInRange(long, long, long)}.
+   * The digits are checked against the range as they are parsed, so a number that is out of range,
+   * including one too large for a {@code long}, is rejected without overflowing. A
+   * {@code NumberFormatException}, which is an {@code IllegalArgumentException}, is thrown if the
+   * slice is not a valid number. An optional message can also be given to be used as the exception
+   * message. The exception message is only formatted if the validation fails.
    *
-   * <pre>
-   *      <i>"value cannot be empty"</i>
-   * </pre>
+   * @param value the {@code CharSequence} containing the number to parse.
+   * @param fromIndex the index of the first character of the number<i><strong>(inclusive)</strong>
+   *     </i>.
+   * @param toIndex the index after the last character of the number<i><strong>(exclusive)</strong>
+   *     </i>.
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return the parsed number if it is in the specified range.
+   * @throws NumberFormatException if the slice is not a valid number.
+   * @throws IllegalArgumentException if the parsed number is not in the specified range or if
+   *     {@code maxValue} is less than {@code minValue}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code value} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @since 3.0.0
+   */
+  public static long parseLongInRange(
+      CharSequence value,
+      int fromIndex,
+      int toIndex,
+      long minValue,
+      long maxValue,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    long parsed = parseInRange(value, fromIndex, toIndex, minValue, maxValue);
+    return parsed != maxValue
+        ? parsed
+        : parseLongInRange(
+            value,
+            fromIndex,
+            toIndex,
+            minValue,
+            maxValue,
+            formatMessage(messageFormat, messageArgs));
+  }
+
+  /**
+   * Parses the signed decimal number in the given slice of {@code value} as a {@code BigDecimal}
+   * and validates that it is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>. The
+   * slice is parsed in place, without copying it into a {@code String}, and is equivalent to
+   * parsing {@code value.subSequence(fromIndex, toIndex).toString()} with {@link
+   * BigDecimal#BigDecimal(String)} and passing the result to {@link #requireInRange(BigDecimal,
+   * BigDecimal, BigDecimal)}. A {@code NumberFormatException}, which is an {@code
+   * IllegalArgumentException}, is thrown if the slice is not a valid number.
    *
-   * @param value the {@code String} to be checked for validity.
-   * @param name the name of the {@code String} variable to be checked for validity.
-   * @return value if it's not <i>null <b>AND/OR</b> empty</i>.
-   * @throws NullPointerException if value is null.
-   * @throws IllegalArgumentException if value is empty<i>(has a length of zero)</i>.
-   * @see #requireNonEmptyString(String, String, String)
+   * @param value the {@code CharSequence} containing the number to parse.
+   * @param fromIndex the index of the first character of the number<i><strong>(inclusive)</strong>
+   *     </i>.
+   * @param toIndex the index after the last character of the number<i><strong>(exclusive)</strong>
+   *     </i>.
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @return the parsed number if it is in the specified range.
+   * @throws NumberFormatException if the slice is not a valid number.
+   * @throws IllegalArgumentException if the parsed number is not in the specified range or if
+   *     {@code maxValue} is less than {@code minValue}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code value} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws NullPointerException if {@code value}, {@code minValue} or {@code maxValue} is {@code
+   *     null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal parseDecimalInRange(
+      CharSequence value, int fromIndex, int toIndex, BigDecimal minValue, BigDecimal maxValue) {
+    return parseDecimalInRange(value, fromIndex, toIndex, minValue, maxValue, (String) null);
+  }
+
+  /**
+   * Parses the signed decimal number in the given slice of {@code value} as a {@code BigDecimal}
+   * and validates that it is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>. The
+   * slice is parsed in place, without copying it into a {@code String}, and is equivalent to
+   * parsing {@code value.subSequence(fromIndex, toIndex).toString()} with {@link
+   * BigDecimal#BigDecimal(String)} and passing the result to {@link #requireInRange(BigDecimal,
+   * BigDecimal, BigDecimal)}. A {@code NumberFormatException}, which is an {@code
+   * IllegalArgumentException}, is thrown if the slice is not a valid number. An optional message
+   * can also be given to be used as the exception message.
+   *
+   * @param value the {@code CharSequence} containing the number to parse.
+   * @param fromIndex the index of the first character of the number<i><strong>(inclusive)</strong>
+   *     </i>.
+   * @param toIndex the index after the last character of the number<i><strong>(exclusive)</strong>
+   *     </i>.
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return the parsed number if it is in the specified range.
+   * @throws NumberFormatException if the slice is not a valid number.
+   * @throws IllegalArgumentException if the parsed number is not in the specified range or if
+   *     {@code maxValue} is less than {@code minValue}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code value} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws NullPointerException if {@code value}, {@code minValue} or {@code maxValue} is {@code
+   *     null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal parseDecimalInRange(
+      CharSequence value,
+      int fromIndex,
+      int toIndex,
+      BigDecimal minValue,
+      BigDecimal maxValue,
+      @Nullable String message) {
+    return requireInRange(minValue, maxValue, parseDecimal(value, fromIndex, toIndex), message);
+  }
+
+  /**
+   * Parses the signed decimal number in the given slice of {@code value} as a {@code BigDecimal}
+   * and validates that it is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>. The
+   * slice is parsed in place, without copying it into a {@code String}, and is equivalent to
+   * parsing {@code value.subSequence(fromIndex, toIndex).toString()} with {@link
+   * BigDecimal#BigDecimal(String)} and passing the result to {@link #requireInRange(BigDecimal,
+   * BigDecimal, BigDecimal)}. A {@code NumberFormatException}, which is an {@code
+   * IllegalArgumentException}, is thrown if the slice is not a valid number. An optional message
+   * can also be given to be used as the exception message. The exception message is only retrieved
+   * from {@code messageSupplier} if the validation fails.
+   *
+   * @param value the {@code CharSequence} containing the number to parse.
+   * @param fromIndex the index of the first character of the number<i><strong>(inclusive)</strong>
+   *     </i>.
+   * @param toIndex the index after the last character of the number<i><strong>(exclusive)</strong>
+   *     </i>.
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return the parsed number if it is in the specified range.
+   * @throws NumberFormatException if the slice is not a valid number.
+   * @throws IllegalArgumentException if the parsed number is not in the specified range or if
+   *     {@code maxValue} is less than {@code minValue}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code value} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws NullPointerException if {@code value}, {@code minValue} or {@code maxValue} is {@code
+   *     null}.
+   * @since 3.0.0
+   */
+  public static BigDecimal parseDecimalInRange(
+      CharSequence value,
+      int fromIndex,
+      int toIndex,
+      BigDecimal minValue,
+      BigDecimal maxValue,
+      @Nullable Supplier<String> messageSupplier) {
+    return requireInRange(
+        minValue, maxValue, parseDecimal(value, fromIndex, toIndex), messageSupplier);
+  }
+
+  /**
+   * Parses the signed decimal number in the given slice of {@code value} as a {@code BigDecimal}
+   * and validates that it is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>. The
+   * slice is parsed in place, without copying it into a {@code String}, and is equivalent to
+   * parsing {@code value.subSequence(fromIndex, toIndex).toString()} with {@link
+   * BigDecimal#BigDecimal(String)} and passing the result to {@link #requireInRange(BigDecimal,
+   * BigDecimal, BigDecimal)}. A {@code NumberFormatException}, which is an {@code
+   * IllegalArgumentException}, is thrown if the slice is not a valid number. An optional message
+   * can also be given to be used as the exception message. The exception message is only formatted
+   * if the validation fails.
+   *
+   * @param value the {@code CharSequence} containing the number to parse.
+   * @param fromIndex the index of the first character of the number<i><strong>(inclusive)</strong>
+   *     </i>.
+   * @param toIndex the index after the last character of the number<i><strong>(exclusive)</strong>
+   *     </i>.
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return the parsed number if it is in the specified range.
+   * @throws NumberFormatException if the slice is not a valid number.
+   * @throws IllegalArgumentException if the parsed number is not in the specified range or if
+   *     {@code maxValue} is less than {@code minValue}.
+   * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+   *     than the length of {@code value} or {@code fromIndex} is greater than {@code toIndex}.
+   * @throws NullPointerException if {@code value}, {@code minValue} or {@code maxValue} is {@code
+   *     null}.
+   * @since 3.0.0
    */
+  public static BigDecimal parseDecimalInRange(
+      CharSequence value,
+      int fromIndex,
+      int toIndex,
+      BigDecimal minValue,
+      BigDecimal maxValue,
+      @Nullable String messageFormat,
+      @Nullable Object... messageArgs) {
+    return requireInRange(
+        minValue, maxValue, parseDecimal(value, fromIndex, toIndex), messageFormat, messageArgs);
+  }
+
+  // Validates the range and the slice, then parses the integer in the slice, see NumberParsing
   @SideEffectFree
-  public static @MinLen(value = 1) String requireNonEmptyString(
-      @MinLen(value = 1) String value, @Nullable String name) {
-    name = (isNull(name)) ? "value" : name;
-    return requireNonEmptyString(value, name + " cannot be null.", name + " cannot be empty.");
+  private static long parseInRange(
+      CharSequence value, int fromIndex, int toIndex, long minValue, long maxValue) {
+    if (maxValue < minValue) {
+      throw new IllegalArgumentException(
+          String.format("maxValue( %d ) cannot be less than minValue( %d ).", maxValue, minValue));
+    }
+    Objects.checkFromToIndex(fromIndex, toIndex, requireNonNull(value).length());
+    return NumberParsing.parseLong(value, fromIndex, toIndex, minValue, maxValue);
+  }
+
+  // Validates the slice, then parses the decimal in the slice, see NumberParsing
+  @SideEffectFree
+  private static BigDecimal parseDecimal(CharSequence value, int fromIndex, int toIndex) {
+    Objects.checkFromToIndex(fromIndex, toIndex, requireNonNull(value).length());
+    return NumberParsing.parseDecimal(value, fromIndex, toIndex);
   }
 
+  // ========================================================================
+  // HELPERS
+  // ========================================================================
+
   /**
-   * Validates that the supplied {@code String} is not empty<i>(has a length of zero)</i> or {@code
-   * null}. If the {@code String} is {@code null}, a {@code NullPointerException} is thrown and if
-   * the {@code String} is empty, an {@code IllegalArgumentException} is thrown. Optional messages
-   * can be passed as the second and third arguments to be used in the construction of exceptions.
+   * Returns the message provided by the given {@code Supplier} or {@code null} if no {@code
+   * Supplier} was given.
    *
-   * @param value the {@code String} to be checked for validity.
-   * @param nullMessage an optional message to be used when raising the {@code
-   *     NullPointerException}.
-   * @param emptyMessage an optional message to be used when raising the {@code
-   *     IllegalArgumentException}.
-   * @return value if it's not <i>null <b>AND/OR</b> empty</i>.
-   * @throws NullPointerException if value is null.
-   * @throws IllegalArgumentException if value is empty<i>(has a length of zero)</i>.
+   * @param messageSupplier an optional supplier of a message.
+   * @return the supplied message or {@code null} if {@code messageSupplier} is {@code null}.
+   */
+  static @Nullable String supplyMessage(@Nullable Supplier<String> messageSupplier) {
+    return isNull(messageSupplier) ? null : messageSupplier.get();
+  }
+
+  /**
+   * Returns a message formatted using the given format string and arguments or {@code null} if no
+   * format string was given.
+   *
+   * @param messageFormat an optional format string.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return the formatted message or {@code null} if {@code messageFormat} is {@code null}.
    */
+  @SuppressWarnings("formatter:format.string") // The format string is supplied by the caller
   @SideEffectFree
-  public static @MinLen(value = 1) String requireNonEmptyString(
-      @MinLen(value = 1) String value,
-      @Nullable String nullMessage,
-      @Nullable String emptyMessage) {
-    // Check if messages are null and set defaults
-    nullMessage = (isNull(nullMessage)) ? "value cannot be null." : nullMessage;
-    emptyMessage = (isNull(emptyMessage)) ? "value cannot be empty." : emptyMessage;
-    if (requireNonNull(value, nullMessage).isEmpty()) {
-      throw new IllegalArgumentException(emptyMessage);
+  static @Nullable String formatMessage(
+      @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return isNull(messageFormat) ? null : String.format(messageFormat, messageArgs);
+  }
+
+  // Returns true if the given instant isn't after the given time in milliseconds since the epoch
+  @Pure
+  private static boolean isNotAfter(long now, Instant value) {
+    long seconds = Math.floorDiv(now, 1000L);
+    int nanos = (int) Math.floorMod(now, 1000L) * 1_000_000;
+    return value.getEpochSecond() < seconds
+        || (value.getEpochSecond() == seconds && value.getNano() <= nanos);
+  }
+
+  // Returns true if the given instant isn't after the given time in milliseconds since the epoch
+  // and isn't more than the given period before it
+  @Pure
+  private static boolean isWithin(long now, Duration period, Instant value) {
+    // The difference between the time and the instant, with the nanoseconds in [0, 10^9)
+    long seconds = Math.floorDiv(now, 1000L) - value.getEpochSecond();
+    int nanos = (int) Math.floorMod(now, 1000L) * 1_000_000 - value.getNano();
+    if (nanos < 0) {
+      nanos += 1_000_000_000;
+      seconds--;
+    }
+    return seconds >= 0
+        && (seconds < period.getSeconds()
+            || (seconds == period.getSeconds() && nanos <= period.getNano()));
+  }
+
+  // Returns true if the given time isn't after the other given time and isn't more than the given
+  // period before it, both times are in milliseconds since the epoch
+  @Pure
+  private static boolean isWithin(long now, Duration period, long value) {
+    // A period too long for a long number of milliseconds includes every time before now
+    long periodSeconds = period.getSeconds();
+    long periodMillis =
+        periodSeconds < Long.MAX_VALUE / 1000L
+            ? periodSeconds * 1000L + period.getNano() / 1_000_000
+            : -1L;
+    // The difference is non-negative, so it can't overflow an unsigned long
+    return value <= now && Long.compareUnsigned(now - value, periodMillis) <= 0;
+  }
+
+  // Validates that the given instant isn't after the given time in milliseconds since the epoch.
+  // The require*(Clock, ...) validators read the clock once and then share this check, so that
+  // the time in the message is the time that the instant was compared to.
+  @SideEffectFree
+  private static Instant requireNotAfter(long now, Instant value, @Nullable String message) {
+    if (!isNotAfter(now, value)) {
+      throw new ValidationException(Check.NOT_IN_FUTURE, value, Instant.ofEpochMilli(now), message);
+    }
+    return value;
+  }
+
+  // Validates that the given time isn't after the other given time, both times are in
+  // milliseconds since the epoch
+  @SideEffectFree
+  private static long requireNotAfter(long now, long value, @Nullable String message) {
+    if (value > now) {
+      throw new ValidationException(Check.NOT_IN_FUTURE, value, now, message);
+    }
+    return value;
+  }
+
+  // Validates that the given instant isn't after the given time in milliseconds since the epoch
+  // and isn't more than the given period before it
+  @SideEffectFree
+  private static Instant requireWithin(
+      long now, Duration period, Instant value, @Nullable String message) {
+    if (!isWithin(now, period, value)) {
+      throw new ValidationException(
+          Check.WITHIN_LAST, value, Instant.ofEpochMilli(now), period, message);
+    }
+    return value;
+  }
+
+  // Validates that the given time isn't after the other given time and isn't more than the given
+  // period before it, both times are in milliseconds since the epoch
+  @SideEffectFree
+  private static long requireWithin(
+      long now, Duration period, long value, @Nullable String message) {
+    if (!isWithin(now, period, value)) {
+      // The operands are boxed so that the period is rendered as a Duration
+      throw new ValidationException(Check.WITHIN_LAST, value, now, period, message);
     }
     return value;
   }
 
+  // Returns the exception of a failed index check, or a new one if a custom message was given. The
+  // checks catch the exception of the JDK check instead of checking the indices themselves so that
+  // the JIT compiler still recognizes the JDK check.
+  @SideEffectFree
+  private static IndexOutOfBoundsException outOfBounds(
+      IndexOutOfBoundsException e, @Nullable String message) {
+    return isNull(message) ? e : new IndexOutOfBoundsException(message);
+  }
+
+  @SideEffectFree
+  private static Duration requireValidPeriod(Duration period) {
+    if (requireNonNull(period, "period cannot be null.").isNegative()) {
+      throw new IllegalArgumentException(String.format("period( %s ) cannot be negative.", period));
+    }
+    return period;
+  }
+
   // private constructor to prevent initialization
   @SideEffectFree
   private ObjectUtils() {}
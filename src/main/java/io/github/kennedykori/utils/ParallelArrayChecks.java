@@ -0,0 +1,1684 @@
+package io.github.kennedykori.utils;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.kennedykori.utils.ValidationException.Check;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import org.checkerframework.checker.index.qual.GTENegativeOne;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.dataflow.qual.Pure;
+import org.checkerframework.dataflow.qual.SideEffectFree;
+
+/**
+ * Checks and validates all the elements of very large {@code int}, {@code long}, {@code float} and
+ * {@code double} arrays, and of very large lists, in parallel on a {@link ForkJoinPool}. The
+ * methods mirror the whole array methods of {@link ArrayUtils} and give the same results, but split
+ * the elements into slices of at most {@link #getThreshold() threshold} elements which are checked
+ * by separate tasks. Arrays and lists with no more elements than the threshold are checked by the
+ * calling thread.
+ *
+ * <p>The <i>all</i> methods skip the remaining tasks as soon as one of the tasks finds an element
+ * that failed the check, and the <i>indexOf</i> and <i>require</i> methods skip the tasks that only
+ * check elements after the first element found to fail the check. The <i>indices</i> methods check
+ * every element and return the indices of all the elements that failed in ascending order.
+ *
+ * <p>Instances of this class are immutable and safe for use by multiple threads, e.g. when held in
+ * a {@code static final} field:
+ *
+ * <pre>{@code
+ * private static final ParallelArrayChecks CHECKS = ParallelArrayChecks.of(pool, 1 << 18);
+ *
+ * public void load(double[] weights) {
+ *   this.weights = CHECKS.requireAllInRange(0.0, 1.0, weights);
+ * }
+ * }</pre>
+ *
+ * <p>Splitting the work only pays off for arrays with millions of elements, so the {@link
+ * ArrayUtils} methods should be preferred for smaller arrays.
+ *
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * @see ArrayUtils
+ * @since 3.0.0
+ */
+public final class ParallelArrayChecks {
+
+  /**
+   * The default maximum number of elements that are checked by a single task.
+   *
+   * @see #getThreshold()
+   */
+  public static final int DEFAULT_THRESHOLD = 1 << 16;
+
+  /* The indices returned when none of the elements failed a check. */
+  private static final int[] EMPTY_INDICES = new int[0];
+
+  /* The instance that uses the common pool and the default threshold. */
+  private static final ParallelArrayChecks COMMON =
+      new ParallelArrayChecks(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+
+  /* The pool in which the tasks are run. */
+  private final ForkJoinPool pool;
+
+  /* The maximum number of elements that are checked by a single task. */
+  private final int threshold;
+
+  @SideEffectFree
+  private ParallelArrayChecks(ForkJoinPool pool, int threshold) {
+    this.pool = pool;
+    this.threshold = threshold;
+  }
+
+  /**
+   * Returns an instance that runs the checks in the {@link ForkJoinPool#commonPool() common pool}
+   * and splits the elements into slices of at most {@link #DEFAULT_THRESHOLD} elements.
+   *
+   * @return an instance that uses the common pool and the default threshold.
+   */
+  @Pure
+  public static ParallelArrayChecks common() {
+    return COMMON;
+  }
+
+  /**
+   * Returns a new instance that runs the checks in the specified pool and splits the elements into
+   * slices of at most {@code threshold} elements. An {@link IllegalArgumentException} is thrown if
+   * the threshold is less than one.
+   *
+   * @param pool the pool in which to run the checks.
+   * @param threshold the maximum number of elements that are checked by a single task.
+   * @return a new instance that uses the specified pool and threshold.
+   * @throws NullPointerException if {@code pool} is {@code null}.
+   * @throws IllegalArgumentException if {@code threshold} is less than one.
+   */
+  @SideEffectFree
+  public static ParallelArrayChecks of(ForkJoinPool pool, int threshold) {
+    requireNonNull(pool, "pool cannot be null.");
+    if (threshold < 1) {
+      throw new IllegalArgumentException(
+          String.format("threshold( %d ) cannot be less than one.", threshold));
+    }
+    return new ParallelArrayChecks(pool, threshold);
+  }
+
+  /**
+   * Returns the pool in which the checks are run.
+   *
+   * @return the pool in which the checks are run.
+   */
+  @Pure
+  public ForkJoinPool getPool() {
+    return pool;
+  }
+
+  /**
+   * Returns the maximum number of elements that are checked by a single task. Larger arrays and
+   * lists are split in halves until every slice has at most this many elements.
+   *
+   * @return the maximum number of elements that are checked by a single task.
+   */
+  @Pure
+  public int getThreshold() {
+    return threshold;
+  }
+
+  // ========================================================================
+  // IN RANGE CHECKS
+  // ========================================================================
+
+  /**
+   * Checks, in parallel, that all the elements of the specified {@code int} array are in range of
+   * the specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code true} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, {@code false} otherwise. The
+   * remaining tasks are skipped as soon as one of them finds an element that is not in range.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return {@code true} if all the elements are in the specified range, {@code false} otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   * @see ArrayUtils#allInRange(int, int, int[])
+   */
+  public boolean allInRange(int minValue, int maxValue, int[] values) {
+    ArrayUtils.requireValidRange(minValue, maxValue);
+    requireNonNull(values, "values cannot be null.");
+    return allPass(
+        values.length,
+        (fromIndex, toIndex) ->
+            BulkChecks.allInRange(minValue, maxValue, values, fromIndex, toIndex));
+  }
+
+  /**
+   * Checks, in parallel, that all the elements of the specified {@code long} array are in range of
+   * the specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code true} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, {@code false} otherwise. The
+   * remaining tasks are skipped as soon as one of them finds an element that is not in range.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return {@code true} if all the elements are in the specified range, {@code false} otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   * @see ArrayUtils#allInRange(long, long, long[])
+   */
+  public boolean allInRange(long minValue, long maxValue, long[] values) {
+    ArrayUtils.requireValidRange(minValue, maxValue);
+    requireNonNull(values, "values cannot be null.");
+    return allPass(
+        values.length,
+        (fromIndex, toIndex) ->
+            BulkChecks.allInRange(minValue, maxValue, values, fromIndex, toIndex));
+  }
+
+  /**
+   * Checks, in parallel, that all the elements of the specified {@code float} array are in range of
+   * the specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code true} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, {@code false} otherwise. The
+   * remaining tasks are skipped as soon as one of them finds an element that is not in range.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return {@code true} if all the elements are in the specified range, {@code false} otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   * @see ArrayUtils#allInRange(float, float, float[])
+   */
+  public boolean allInRange(float minValue, float maxValue, float[] values) {
+    ArrayUtils.requireValidRange(minValue, maxValue);
+    requireNonNull(values, "values cannot be null.");
+    return allPass(
+        values.length,
+        (fromIndex, toIndex) ->
+            BulkChecks.allInRange(minValue, maxValue, values, fromIndex, toIndex));
+  }
+
+  /**
+   * Checks, in parallel, that all the elements of the specified {@code double} array are in range
+   * of the specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code true} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, {@code false} otherwise. The
+   * remaining tasks are skipped as soon as one of them finds an element that is not in range.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return {@code true} if all the elements are in the specified range, {@code false} otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   * @see ArrayUtils#allInRange(double, double, double[])
+   */
+  public boolean allInRange(double minValue, double maxValue, double[] values) {
+    ArrayUtils.requireValidRange(minValue, maxValue);
+    requireNonNull(values, "values cannot be null.");
+    return allPass(
+        values.length,
+        (fromIndex, toIndex) ->
+            BulkChecks.allInRange(minValue, maxValue, values, fromIndex, toIndex));
+  }
+
+  // ========================================================================
+  // INDEX OF NOT IN RANGE CHECKS
+  // ========================================================================
+
+  /**
+   * Returns, after checking the elements in parallel, the index of the first element of the
+   * specified {@code int} array that is not in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>, or
+   * {@code -1} if all the elements are in range. The tasks checking elements after an element that
+   * is not in range are skipped.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return the index of the first element that is not in the specified range or {@code -1} if all
+   *     the elements are in range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   * @see ArrayUtils#indexOfNotInRange(int, int, int[])
+   */
+  public @GTENegativeOne int indexOfNotInRange(int minValue, int maxValue, int[] values) {
+    ArrayUtils.requireValidRange(minValue, maxValue);
+    requireNonNull(values, "values cannot be null.");
+    return indexOfFirstFailure(
+        values.length,
+        (fromIndex, toIndex) ->
+            BulkChecks.allInRange(minValue, maxValue, values, fromIndex, toIndex),
+        i -> values[i] < minValue || values[i] >= maxValue);
+  }
+
+  /**
+   * Returns, after checking the elements in parallel, the index of the first element of the
+   * specified {@code long} array that is not in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>, or
+   * {@code -1} if all the elements are in range. The tasks checking elements after an element that
+   * is not in range are skipped.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return the index of the first element that is not in the specified range or {@code -1} if all
+   *     the elements are in range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   * @see ArrayUtils#indexOfNotInRange(long, long, long[])
+   */
+  public @GTENegativeOne int indexOfNotInRange(long minValue, long maxValue, long[] values) {
+    ArrayUtils.requireValidRange(minValue, maxValue);
+    requireNonNull(values, "values cannot be null.");
+    return indexOfFirstFailure(
+        values.length,
+        (fromIndex, toIndex) ->
+            BulkChecks.allInRange(minValue, maxValue, values, fromIndex, toIndex),
+        i -> values[i] < minValue || values[i] >= maxValue);
+  }
+
+  /**
+   * Returns, after checking the elements in parallel, the index of the first element of the
+   * specified {@code float} array that is not in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>, or
+   * {@code -1} if all the elements are in range. The tasks checking elements after an element that
+   * is not in range are skipped.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return the index of the first element that is not in the specified range or {@code -1} if all
+   *     the elements are in range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   * @see ArrayUtils#indexOfNotInRange(float, float, float[])
+   */
+  public @GTENegativeOne int indexOfNotInRange(float minValue, float maxValue, float[] values) {
+    ArrayUtils.requireValidRange(minValue, maxValue);
+    requireNonNull(values, "values cannot be null.");
+    return indexOfFirstFailure(
+        values.length,
+        (fromIndex, toIndex) ->
+            BulkChecks.allInRange(minValue, maxValue, values, fromIndex, toIndex),
+        i -> Float.compare(values[i], minValue) < 0 || Float.compare(values[i], maxValue) >= 0);
+  }
+
+  /**
+   * Returns, after checking the elements in parallel, the index of the first element of the
+   * specified {@code double} array that is not in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i>, or
+   * {@code -1} if all the elements are in range. The tasks checking elements after an element that
+   * is not in range are skipped.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return the index of the first element that is not in the specified range or {@code -1} if all
+   *     the elements are in range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   * @see ArrayUtils#indexOfNotInRange(double, double, double[])
+   */
+  public @GTENegativeOne int indexOfNotInRange(double minValue, double maxValue, double[] values) {
+    ArrayUtils.requireValidRange(minValue, maxValue);
+    requireNonNull(values, "values cannot be null.");
+    return indexOfFirstFailure(
+        values.length,
+        (fromIndex, toIndex) ->
+            BulkChecks.allInRange(minValue, maxValue, values, fromIndex, toIndex),
+        i -> Double.compare(values[i], minValue) < 0 || Double.compare(values[i], maxValue) >= 0);
+  }
+
+  // ========================================================================
+  // INDICES NOT IN RANGE CHECKS
+  // ========================================================================
+
+  /**
+   * Returns, after checking the elements in parallel, the indices, in ascending order, of all the
+   * elements of the specified {@code int} array that are not in range of the specified minimum
+   * value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. An empty array is returned if all the elements are in
+   * range.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return the indices of all the elements that are not in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   * @see ArrayUtils#indicesNotInRange(int, int, int[])
+   */
+  public int[] indicesNotInRange(int minValue, int maxValue, int[] values) {
+    ArrayUtils.requireValidRange(minValue, maxValue);
+    requireNonNull(values, "values cannot be null.");
+    return indicesOfFailures(
+        values.length,
+        (fromIndex, toIndex) ->
+            BulkChecks.allInRange(minValue, maxValue, values, fromIndex, toIndex),
+        i -> values[i] < minValue || values[i] >= maxValue);
+  }
+
+  /**
+   * Returns, after checking the elements in parallel, the indices, in ascending order, of all the
+   * elements of the specified {@code long} array that are not in range of the specified minimum
+   * value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. An empty array is returned if all the elements are in
+   * range.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return the indices of all the elements that are not in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   * @see ArrayUtils#indicesNotInRange(long, long, long[])
+   */
+  public int[] indicesNotInRange(long minValue, long maxValue, long[] values) {
+    ArrayUtils.requireValidRange(minValue, maxValue);
+    requireNonNull(values, "values cannot be null.");
+    return indicesOfFailures(
+        values.length,
+        (fromIndex, toIndex) ->
+            BulkChecks.allInRange(minValue, maxValue, values, fromIndex, toIndex),
+        i -> values[i] < minValue || values[i] >= maxValue);
+  }
+
+  /**
+   * Returns, after checking the elements in parallel, the indices, in ascending order, of all the
+   * elements of the specified {@code float} array that are not in range of the specified minimum
+   * value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. An empty array is returned if all the elements are in
+   * range.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return the indices of all the elements that are not in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   * @see ArrayUtils#indicesNotInRange(float, float, float[])
+   */
+  public int[] indicesNotInRange(float minValue, float maxValue, float[] values) {
+    ArrayUtils.requireValidRange(minValue, maxValue);
+    requireNonNull(values, "values cannot be null.");
+    return indicesOfFailures(
+        values.length,
+        (fromIndex, toIndex) ->
+            BulkChecks.allInRange(minValue, maxValue, values, fromIndex, toIndex),
+        i -> Float.compare(values[i], minValue) < 0 || Float.compare(values[i], maxValue) >= 0);
+  }
+
+  /**
+   * Returns, after checking the elements in parallel, the indices, in ascending order, of all the
+   * elements of the specified {@code double} array that are not in range of the specified minimum
+   * value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. An empty array is returned if all the elements are in
+   * range.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return the indices of all the elements that are not in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   * @see ArrayUtils#indicesNotInRange(double, double, double[])
+   */
+  public int[] indicesNotInRange(double minValue, double maxValue, double[] values) {
+    ArrayUtils.requireValidRange(minValue, maxValue);
+    requireNonNull(values, "values cannot be null.");
+    return indicesOfFailures(
+        values.length,
+        (fromIndex, toIndex) ->
+            BulkChecks.allInRange(minValue, maxValue, values, fromIndex, toIndex),
+        i -> Double.compare(values[i], minValue) < 0 || Double.compare(values[i], maxValue) >= 0);
+  }
+
+  // ========================================================================
+  // REQUIRE ALL IN RANGE VALIDATORS
+  // ========================================================================
+
+  /**
+   * Validates, in parallel, that all the elements of the specified {@code int} array are in range
+   * of the specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  public int[] requireAllInRange(int minValue, int maxValue, int[] values) {
+    return requireAllInRange(minValue, maxValue, values, null);
+  }
+
+  /**
+   * Validates, in parallel, that all the elements of the specified {@code int} array are in range
+   * of the specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range. An optional
+   * message can also be given to be used as the exception message.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  public int[] requireAllInRange(
+      int minValue, int maxValue, int[] values, @Nullable String message) {
+    int index = indexOfNotInRange(minValue, maxValue, values);
+    if (index >= 0) {
+      throw new ValidationException(Check.IN_RANGE, values[index], minValue, maxValue, message)
+          .atIndex(index);
+    }
+    return values;
+  }
+
+  /**
+   * Validates, in parallel, that all the elements of the specified {@code long} array are in range
+   * of the specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  public long[] requireAllInRange(long minValue, long maxValue, long[] values) {
+    return requireAllInRange(minValue, maxValue, values, null);
+  }
+
+  /**
+   * Validates, in parallel, that all the elements of the specified {@code long} array are in range
+   * of the specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range. An optional
+   * message can also be given to be used as the exception message.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  public long[] requireAllInRange(
+      long minValue, long maxValue, long[] values, @Nullable String message) {
+    int index = indexOfNotInRange(minValue, maxValue, values);
+    if (index >= 0) {
+      throw new ValidationException(Check.IN_RANGE, values[index], minValue, maxValue, message)
+          .atIndex(index);
+    }
+    return values;
+  }
+
+  /**
+   * Validates, in parallel, that all the elements of the specified {@code float} array are in range
+   * of the specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  public float[] requireAllInRange(float minValue, float maxValue, float[] values) {
+    return requireAllInRange(minValue, maxValue, values, null);
+  }
+
+  /**
+   * Validates, in parallel, that all the elements of the specified {@code float} array are in range
+   * of the specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range. An optional
+   * message can also be given to be used as the exception message.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  public float[] requireAllInRange(
+      float minValue, float maxValue, float[] values, @Nullable String message) {
+    int index = indexOfNotInRange(minValue, maxValue, values);
+    if (index >= 0) {
+      throw new ValidationException(Check.IN_RANGE, values[index], minValue, maxValue, message)
+          .atIndex(index);
+    }
+    return values;
+  }
+
+  /**
+   * Validates, in parallel, that all the elements of the specified {@code double} array are in
+   * range of the specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  public double[] requireAllInRange(double minValue, double maxValue, double[] values) {
+    return requireAllInRange(minValue, maxValue, values, null);
+  }
+
+  /**
+   * Validates, in parallel, that all the elements of the specified {@code double} array are in
+   * range of the specified minimum value <i><strong>(inclusive)</strong></i> and maximum value
+   * <i><strong>(exclusive)</strong></i>. Returns {@code values} if every element is greater than or
+   * equal to {@code minValue} and less than {@code maxValue}, otherwise, an {@code
+   * IllegalArgumentException} is thrown for the first element that is not in range. An optional
+   * message can also be given to be used as the exception message.
+   *
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param values the array to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if all the elements are in the specified range.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not in the specified range or if {@code
+   *     maxValue} is less than {@code minValue}.
+   * @see ValidationException#getIndex()
+   */
+  public double[] requireAllInRange(
+      double minValue, double maxValue, double[] values, @Nullable String message) {
+    int index = indexOfNotInRange(minValue, maxValue, values);
+    if (index >= 0) {
+      throw new ValidationException(Check.IN_RANGE, values[index], minValue, maxValue, message)
+          .atIndex(index);
+    }
+    return values;
+  }
+
+  // ========================================================================
+  // NON NEGATIVE CHECKS
+  // ========================================================================
+
+  /**
+   * Checks, in parallel, that none of the elements of the specified {@code int} array is negative,
+   * i.e. less than zero. Returns {@code true} if every element is greater than or equal to zero,
+   * {@code false} otherwise. The remaining tasks are skipped as soon as one of them finds a
+   * negative element.
+   *
+   * @param values the array to check.
+   * @return {@code true} if none of the elements is negative, {@code false} otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @see ArrayUtils#allNonNegative(int[])
+   */
+  public boolean allNonNegative(int[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return allPass(
+        values.length,
+        (fromIndex, toIndex) -> BulkChecks.allNonNegative(values, fromIndex, toIndex));
+  }
+
+  /**
+   * Returns, after checking the elements in parallel, the index of the first negative element of
+   * the specified {@code int} array, or {@code -1} if none of the elements is negative. The tasks
+   * checking elements after a negative element are skipped.
+   *
+   * @param values the array to check.
+   * @return the index of the first negative element or {@code -1} if none of the elements is
+   *     negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @see ArrayUtils#indexOfNegative(int[])
+   */
+  public @GTENegativeOne int indexOfNegative(int[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indexOfFirstFailure(
+        values.length,
+        (fromIndex, toIndex) -> BulkChecks.allNonNegative(values, fromIndex, toIndex),
+        i -> values[i] < 0);
+  }
+
+  /**
+   * Returns, after checking the elements in parallel, the indices, in ascending order, of all the
+   * negative elements of the specified {@code int} array. An empty array is returned if none of the
+   * elements is negative.
+   *
+   * @param values the array to check.
+   * @return the indices of all the negative elements.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @see ArrayUtils#indicesOfNegative(int[])
+   */
+  public int[] indicesOfNegative(int[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indicesOfFailures(
+        values.length,
+        (fromIndex, toIndex) -> BulkChecks.allNonNegative(values, fromIndex, toIndex),
+        i -> values[i] < 0);
+  }
+
+  /**
+   * Validates, in parallel, that none of the elements of the specified {@code int} array is
+   * negative, i.e. less than zero. Returns {@code values} if every element is greater than or
+   * equal to zero, otherwise, an {@code IllegalArgumentException} is thrown for the first negative
+   * element.
+   *
+   * @param values the array to check.
+   * @return {@code values} if none of the elements is negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is negative.
+   * @see ValidationException#getIndex()
+   */
+  public int[] requireAllNonNegative(int[] values) {
+    return requireAllNonNegative(values, null);
+  }
+
+  /**
+   * Validates, in parallel, that none of the elements of the specified {@code int} array is
+   * negative, i.e. less than zero. Returns {@code values} if every element is greater than or
+   * equal to zero, otherwise, an {@code IllegalArgumentException} is thrown for the first negative
+   * element. An optional message can also be given to be used as the exception message.
+   *
+   * @param values the array to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if none of the elements is negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is negative.
+   * @see ValidationException#getIndex()
+   */
+  public int[] requireAllNonNegative(int[] values, @Nullable String message) {
+    int index = indexOfNegative(values);
+    if (index >= 0) {
+      throw new ValidationException(Check.NON_NEGATIVE, values[index], message).atIndex(index);
+    }
+    return values;
+  }
+
+  /**
+   * Checks, in parallel, that none of the elements of the specified {@code long} array is negative,
+   * i.e. less than zero. Returns {@code true} if every element is greater than or equal to zero,
+   * {@code false} otherwise. The remaining tasks are skipped as soon as one of them finds a
+   * negative element.
+   *
+   * @param values the array to check.
+   * @return {@code true} if none of the elements is negative, {@code false} otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @see ArrayUtils#allNonNegative(long[])
+   */
+  public boolean allNonNegative(long[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return allPass(
+        values.length,
+        (fromIndex, toIndex) -> BulkChecks.allNonNegative(values, fromIndex, toIndex));
+  }
+
+  /**
+   * Returns, after checking the elements in parallel, the index of the first negative element of
+   * the specified {@code long} array, or {@code -1} if none of the elements is negative. The tasks
+   * checking elements after a negative element are skipped.
+   *
+   * @param values the array to check.
+   * @return the index of the first negative element or {@code -1} if none of the elements is
+   *     negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @see ArrayUtils#indexOfNegative(long[])
+   */
+  public @GTENegativeOne int indexOfNegative(long[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indexOfFirstFailure(
+        values.length,
+        (fromIndex, toIndex) -> BulkChecks.allNonNegative(values, fromIndex, toIndex),
+        i -> values[i] < 0);
+  }
+
+  /**
+   * Returns, after checking the elements in parallel, the indices, in ascending order, of all the
+   * negative elements of the specified {@code long} array. An empty array is returned if none of
+   * the elements is negative.
+   *
+   * @param values the array to check.
+   * @return the indices of all the negative elements.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @see ArrayUtils#indicesOfNegative(long[])
+   */
+  public int[] indicesOfNegative(long[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indicesOfFailures(
+        values.length,
+        (fromIndex, toIndex) -> BulkChecks.allNonNegative(values, fromIndex, toIndex),
+        i -> values[i] < 0);
+  }
+
+  /**
+   * Validates, in parallel, that none of the elements of the specified {@code long} array is
+   * negative, i.e. less than zero. Returns {@code values} if every element is greater than or
+   * equal to zero, otherwise, an {@code IllegalArgumentException} is thrown for the first negative
+   * element.
+   *
+   * @param values the array to check.
+   * @return {@code values} if none of the elements is negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is negative.
+   * @see ValidationException#getIndex()
+   */
+  public long[] requireAllNonNegative(long[] values) {
+    return requireAllNonNegative(values, null);
+  }
+
+  /**
+   * Validates, in parallel, that none of the elements of the specified {@code long} array is
+   * negative, i.e. less than zero. Returns {@code values} if every element is greater than or
+   * equal to zero, otherwise, an {@code IllegalArgumentException} is thrown for the first negative
+   * element. An optional message can also be given to be used as the exception message.
+   *
+   * @param values the array to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if none of the elements is negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is negative.
+   * @see ValidationException#getIndex()
+   */
+  public long[] requireAllNonNegative(long[] values, @Nullable String message) {
+    int index = indexOfNegative(values);
+    if (index >= 0) {
+      throw new ValidationException(Check.NON_NEGATIVE, values[index], message).atIndex(index);
+    }
+    return values;
+  }
+
+  /**
+   * Checks, in parallel, that none of the elements of the specified {@code float} array is
+   * negative, i.e. less than zero. Returns {@code true} if every element is greater than or equal
+   * to zero, {@code false} otherwise. The remaining tasks are skipped as soon as one of them finds
+   * a negative element.
+   *
+   * @param values the array to check.
+   * @return {@code true} if none of the elements is negative, {@code false} otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @see ArrayUtils#allNonNegative(float[])
+   */
+  public boolean allNonNegative(float[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return allPass(
+        values.length,
+        (fromIndex, toIndex) -> BulkChecks.allNonNegative(values, fromIndex, toIndex));
+  }
+
+  /**
+   * Returns, after checking the elements in parallel, the index of the first negative element of
+   * the specified {@code float} array, or {@code -1} if none of the elements is negative. The tasks
+   * checking elements after a negative element are skipped.
+   *
+   * @param values the array to check.
+   * @return the index of the first negative element or {@code -1} if none of the elements is
+   *     negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @see ArrayUtils#indexOfNegative(float[])
+   */
+  public @GTENegativeOne int indexOfNegative(float[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indexOfFirstFailure(
+        values.length,
+        (fromIndex, toIndex) -> BulkChecks.allNonNegative(values, fromIndex, toIndex),
+        i -> Float.floatToIntBits(values[i]) < 0);
+  }
+
+  /**
+   * Returns, after checking the elements in parallel, the indices, in ascending order, of all the
+   * negative elements of the specified {@code float} array. An empty array is returned if none of
+   * the elements is negative.
+   *
+   * @param values the array to check.
+   * @return the indices of all the negative elements.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @see ArrayUtils#indicesOfNegative(float[])
+   */
+  public int[] indicesOfNegative(float[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indicesOfFailures(
+        values.length,
+        (fromIndex, toIndex) -> BulkChecks.allNonNegative(values, fromIndex, toIndex),
+        i -> Float.floatToIntBits(values[i]) < 0);
+  }
+
+  /**
+   * Validates, in parallel, that none of the elements of the specified {@code float} array is
+   * negative, i.e. less than zero. Returns {@code values} if every element is greater than or
+   * equal to zero, otherwise, an {@code IllegalArgumentException} is thrown for the first negative
+   * element.
+   *
+   * @param values the array to check.
+   * @return {@code values} if none of the elements is negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is negative.
+   * @see ValidationException#getIndex()
+   */
+  public float[] requireAllNonNegative(float[] values) {
+    return requireAllNonNegative(values, null);
+  }
+
+  /**
+   * Validates, in parallel, that none of the elements of the specified {@code float} array is
+   * negative, i.e. less than zero. Returns {@code values} if every element is greater than or
+   * equal to zero, otherwise, an {@code IllegalArgumentException} is thrown for the first negative
+   * element. An optional message can also be given to be used as the exception message.
+   *
+   * @param values the array to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if none of the elements is negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is negative.
+   * @see ValidationException#getIndex()
+   */
+  public float[] requireAllNonNegative(float[] values, @Nullable String message) {
+    int index = indexOfNegative(values);
+    if (index >= 0) {
+      throw new ValidationException(Check.NON_NEGATIVE, values[index], message).atIndex(index);
+    }
+    return values;
+  }
+
+  /**
+   * Checks, in parallel, that none of the elements of the specified {@code double} array is
+   * negative, i.e. less than zero. Returns {@code true} if every element is greater than or equal
+   * to zero, {@code false} otherwise. The remaining tasks are skipped as soon as one of them finds
+   * a negative element.
+   *
+   * @param values the array to check.
+   * @return {@code true} if none of the elements is negative, {@code false} otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @see ArrayUtils#allNonNegative(double[])
+   */
+  public boolean allNonNegative(double[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return allPass(
+        values.length,
+        (fromIndex, toIndex) -> BulkChecks.allNonNegative(values, fromIndex, toIndex));
+  }
+
+  /**
+   * Returns, after checking the elements in parallel, the index of the first negative element of
+   * the specified {@code double} array, or {@code -1} if none of the elements is negative. The
+   * tasks checking elements after a negative element are skipped.
+   *
+   * @param values the array to check.
+   * @return the index of the first negative element or {@code -1} if none of the elements is
+   *     negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @see ArrayUtils#indexOfNegative(double[])
+   */
+  public @GTENegativeOne int indexOfNegative(double[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indexOfFirstFailure(
+        values.length,
+        (fromIndex, toIndex) -> BulkChecks.allNonNegative(values, fromIndex, toIndex),
+        i -> Double.doubleToLongBits(values[i]) < 0);
+  }
+
+  /**
+   * Returns, after checking the elements in parallel, the indices, in ascending order, of all the
+   * negative elements of the specified {@code double} array. An empty array is returned if none of
+   * the elements is negative.
+   *
+   * @param values the array to check.
+   * @return the indices of all the negative elements.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @see ArrayUtils#indicesOfNegative(double[])
+   */
+  public int[] indicesOfNegative(double[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indicesOfFailures(
+        values.length,
+        (fromIndex, toIndex) -> BulkChecks.allNonNegative(values, fromIndex, toIndex),
+        i -> Double.doubleToLongBits(values[i]) < 0);
+  }
+
+  /**
+   * Validates, in parallel, that none of the elements of the specified {@code double} array is
+   * negative, i.e. less than zero. Returns {@code values} if every element is greater than or
+   * equal to zero, otherwise, an {@code IllegalArgumentException} is thrown for the first negative
+   * element.
+   *
+   * @param values the array to check.
+   * @return {@code values} if none of the elements is negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is negative.
+   * @see ValidationException#getIndex()
+   */
+  public double[] requireAllNonNegative(double[] values) {
+    return requireAllNonNegative(values, null);
+  }
+
+  /**
+   * Validates, in parallel, that none of the elements of the specified {@code double} array is
+   * negative, i.e. less than zero. Returns {@code values} if every element is greater than or
+   * equal to zero, otherwise, an {@code IllegalArgumentException} is thrown for the first negative
+   * element. An optional message can also be given to be used as the exception message.
+   *
+   * @param values the array to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if none of the elements is negative.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is negative.
+   * @see ValidationException#getIndex()
+   */
+  public double[] requireAllNonNegative(double[] values, @Nullable String message) {
+    int index = indexOfNegative(values);
+    if (index >= 0) {
+      throw new ValidationException(Check.NON_NEGATIVE, values[index], message).atIndex(index);
+    }
+    return values;
+  }
+
+  // ========================================================================
+  // EQUAL TO CHECKS
+  // ========================================================================
+
+  /**
+   * Checks, in parallel, that all the elements of the specified {@code int} array are equal to the
+   * specified base value. Returns {@code true} if every element is equal to {@code baseValue},
+   * {@code false} otherwise. The remaining tasks are skipped as soon as one of them finds an
+   * element that is not equal to the base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return {@code true} if all the elements are equal to {@code baseValue}, {@code false}
+   *     otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @see ArrayUtils#allEqualTo(int, int[])
+   */
+  public boolean allEqualTo(int baseValue, int[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return allPass(
+        values.length,
+        (fromIndex, toIndex) -> BulkChecks.allEqualTo(baseValue, values, fromIndex, toIndex));
+  }
+
+  /**
+   * Returns, after checking the elements in parallel, the index of the first element of the
+   * specified {@code int} array that is not equal to the specified base value, or {@code -1} if
+   * all the elements are equal to the base value. The tasks checking elements after an element that
+   * is not equal to the base value are skipped.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return the index of the first element that is not equal to {@code baseValue} or {@code -1} if
+   *     all the elements are equal to it.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @see ArrayUtils#indexOfNotEqualTo(int, int[])
+   */
+  public @GTENegativeOne int indexOfNotEqualTo(int baseValue, int[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indexOfFirstFailure(
+        values.length,
+        (fromIndex, toIndex) -> BulkChecks.allEqualTo(baseValue, values, fromIndex, toIndex),
+        i -> values[i] != baseValue);
+  }
+
+  /**
+   * Returns, after checking the elements in parallel, the indices, in ascending order, of all the
+   * elements of the specified {@code int} array that are not equal to the specified base value. An
+   * empty array is returned if all the elements are equal to the base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return the indices of all the elements that are not equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @see ArrayUtils#indicesNotEqualTo(int, int[])
+   */
+  public int[] indicesNotEqualTo(int baseValue, int[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indicesOfFailures(
+        values.length,
+        (fromIndex, toIndex) -> BulkChecks.allEqualTo(baseValue, values, fromIndex, toIndex),
+        i -> values[i] != baseValue);
+  }
+
+  /**
+   * Validates, in parallel, that all the elements of the specified {@code int} array are equal to
+   * the specified base value. Returns {@code values} if every element is equal to {@code
+   * baseValue}, otherwise, an {@code IllegalArgumentException} is thrown for the first element
+   * that is not equal to the base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return {@code values} if all the elements are equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not equal to {@code baseValue}.
+   * @see ValidationException#getIndex()
+   */
+  public int[] requireAllEqualTo(int baseValue, int[] values) {
+    return requireAllEqualTo(baseValue, values, null);
+  }
+
+  /**
+   * Validates, in parallel, that all the elements of the specified {@code int} array are equal to
+   * the specified base value. Returns {@code values} if every element is equal to {@code
+   * baseValue}, otherwise, an {@code IllegalArgumentException} is thrown for the first element
+   * that is not equal to the base value. An optional message can also be given to be used as the
+   * exception message.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if all the elements are equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not equal to {@code baseValue}.
+   * @see ValidationException#getIndex()
+   */
+  public int[] requireAllEqualTo(int baseValue, int[] values, @Nullable String message) {
+    int index = indexOfNotEqualTo(baseValue, values);
+    if (index >= 0) {
+      throw new ValidationException(Check.EQUAL_TO, values[index], baseValue, message)
+          .atIndex(index);
+    }
+    return values;
+  }
+
+  /**
+   * Checks, in parallel, that all the elements of the specified {@code long} array are equal to the
+   * specified base value. Returns {@code true} if every element is equal to {@code baseValue},
+   * {@code false} otherwise. The remaining tasks are skipped as soon as one of them finds an
+   * element that is not equal to the base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return {@code true} if all the elements are equal to {@code baseValue}, {@code false}
+   *     otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @see ArrayUtils#allEqualTo(long, long[])
+   */
+  public boolean allEqualTo(long baseValue, long[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return allPass(
+        values.length,
+        (fromIndex, toIndex) -> BulkChecks.allEqualTo(baseValue, values, fromIndex, toIndex));
+  }
+
+  /**
+   * Returns, after checking the elements in parallel, the index of the first element of the
+   * specified {@code long} array that is not equal to the specified base value, or {@code -1} if
+   * all the elements are equal to the base value. The tasks checking elements after an element that
+   * is not equal to the base value are skipped.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return the index of the first element that is not equal to {@code baseValue} or {@code -1} if
+   *     all the elements are equal to it.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @see ArrayUtils#indexOfNotEqualTo(long, long[])
+   */
+  public @GTENegativeOne int indexOfNotEqualTo(long baseValue, long[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indexOfFirstFailure(
+        values.length,
+        (fromIndex, toIndex) -> BulkChecks.allEqualTo(baseValue, values, fromIndex, toIndex),
+        i -> values[i] != baseValue);
+  }
+
+  /**
+   * Returns, after checking the elements in parallel, the indices, in ascending order, of all the
+   * elements of the specified {@code long} array that are not equal to the specified base value. An
+   * empty array is returned if all the elements are equal to the base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return the indices of all the elements that are not equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @see ArrayUtils#indicesNotEqualTo(long, long[])
+   */
+  public int[] indicesNotEqualTo(long baseValue, long[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return indicesOfFailures(
+        values.length,
+        (fromIndex, toIndex) -> BulkChecks.allEqualTo(baseValue, values, fromIndex, toIndex),
+        i -> values[i] != baseValue);
+  }
+
+  /**
+   * Validates, in parallel, that all the elements of the specified {@code long} array are equal to
+   * the specified base value. Returns {@code values} if every element is equal to {@code
+   * baseValue}, otherwise, an {@code IllegalArgumentException} is thrown for the first element
+   * that is not equal to the base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return {@code values} if all the elements are equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not equal to {@code baseValue}.
+   * @see ValidationException#getIndex()
+   */
+  public long[] requireAllEqualTo(long baseValue, long[] values) {
+    return requireAllEqualTo(baseValue, values, null);
+  }
+
+  /**
+   * Validates, in parallel, that all the elements of the specified {@code long} array are equal to
+   * the specified base value. Returns {@code values} if every element is equal to {@code
+   * baseValue}, otherwise, an {@code IllegalArgumentException} is thrown for the first element
+   * that is not equal to the base value. An optional message can also be given to be used as the
+   * exception message.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if all the elements are equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not equal to {@code baseValue}.
+   * @see ValidationException#getIndex()
+   */
+  public long[] requireAllEqualTo(long baseValue, long[] values, @Nullable String message) {
+    int index = indexOfNotEqualTo(baseValue, values);
+    if (index >= 0) {
+      throw new ValidationException(Check.EQUAL_TO, values[index], baseValue, message)
+          .atIndex(index);
+    }
+    return values;
+  }
+
+  /**
+   * Checks, in parallel, that all the elements of the specified {@code float} array are equal to
+   * the specified base value. Returns {@code true} if every element is equal to {@code baseValue},
+   * {@code false} otherwise. The remaining tasks are skipped as soon as one of them finds an
+   * element that is not equal to the base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return {@code true} if all the elements are equal to {@code baseValue}, {@code false}
+   *     otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @see ArrayUtils#allEqualTo(float, float[])
+   */
+  public boolean allEqualTo(float baseValue, float[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return allPass(
+        values.length,
+        (fromIndex, toIndex) -> BulkChecks.allEqualTo(baseValue, values, fromIndex, toIndex));
+  }
+
+  /**
+   * Returns, after checking the elements in parallel, the index of the first element of the
+   * specified {@code float} array that is not equal to the specified base value, or {@code -1} if
+   * all the elements are equal to the base value. The tasks checking elements after an element that
+   * is not equal to the base value are skipped.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return the index of the first element that is not equal to {@code baseValue} or {@code -1} if
+   *     all the elements are equal to it.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @see ArrayUtils#indexOfNotEqualTo(float, float[])
+   */
+  public @GTENegativeOne int indexOfNotEqualTo(float baseValue, float[] values) {
+    requireNonNull(values, "values cannot be null.");
+    int baseBits = Float.floatToIntBits(baseValue);
+    return indexOfFirstFailure(
+        values.length,
+        (fromIndex, toIndex) -> BulkChecks.allEqualTo(baseValue, values, fromIndex, toIndex),
+        i -> Float.floatToIntBits(values[i]) != baseBits);
+  }
+
+  /**
+   * Returns, after checking the elements in parallel, the indices, in ascending order, of all the
+   * elements of the specified {@code float} array that are not equal to the specified base value.
+   * An empty array is returned if all the elements are equal to the base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return the indices of all the elements that are not equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @see ArrayUtils#indicesNotEqualTo(float, float[])
+   */
+  public int[] indicesNotEqualTo(float baseValue, float[] values) {
+    requireNonNull(values, "values cannot be null.");
+    int baseBits = Float.floatToIntBits(baseValue);
+    return indicesOfFailures(
+        values.length,
+        (fromIndex, toIndex) -> BulkChecks.allEqualTo(baseValue, values, fromIndex, toIndex),
+        i -> Float.floatToIntBits(values[i]) != baseBits);
+  }
+
+  /**
+   * Validates, in parallel, that all the elements of the specified {@code float} array are equal to
+   * the specified base value. Returns {@code values} if every element is equal to {@code
+   * baseValue}, otherwise, an {@code IllegalArgumentException} is thrown for the first element
+   * that is not equal to the base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return {@code values} if all the elements are equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not equal to {@code baseValue}.
+   * @see ValidationException#getIndex()
+   */
+  public float[] requireAllEqualTo(float baseValue, float[] values) {
+    return requireAllEqualTo(baseValue, values, null);
+  }
+
+  /**
+   * Validates, in parallel, that all the elements of the specified {@code float} array are equal to
+   * the specified base value. Returns {@code values} if every element is equal to {@code
+   * baseValue}, otherwise, an {@code IllegalArgumentException} is thrown for the first element
+   * that is not equal to the base value. An optional message can also be given to be used as the
+   * exception message.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if all the elements are equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not equal to {@code baseValue}.
+   * @see ValidationException#getIndex()
+   */
+  public float[] requireAllEqualTo(float baseValue, float[] values, @Nullable String message) {
+    int index = indexOfNotEqualTo(baseValue, values);
+    if (index >= 0) {
+      throw new ValidationException(Check.EQUAL_TO, values[index], baseValue, message)
+          .atIndex(index);
+    }
+    return values;
+  }
+
+  /**
+   * Checks, in parallel, that all the elements of the specified {@code double} array are equal to
+   * the specified base value. Returns {@code true} if every element is equal to {@code baseValue},
+   * {@code false} otherwise. The remaining tasks are skipped as soon as one of them finds an
+   * element that is not equal to the base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return {@code true} if all the elements are equal to {@code baseValue}, {@code false}
+   *     otherwise.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @see ArrayUtils#allEqualTo(double, double[])
+   */
+  public boolean allEqualTo(double baseValue, double[] values) {
+    requireNonNull(values, "values cannot be null.");
+    return allPass(
+        values.length,
+        (fromIndex, toIndex) -> BulkChecks.allEqualTo(baseValue, values, fromIndex, toIndex));
+  }
+
+  /**
+   * Returns, after checking the elements in parallel, the index of the first element of the
+   * specified {@code double} array that is not equal to the specified base value, or {@code -1} if
+   * all the elements are equal to the base value. The tasks checking elements after an element that
+   * is not equal to the base value are skipped.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return the index of the first element that is not equal to {@code baseValue} or {@code -1} if
+   *     all the elements are equal to it.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @see ArrayUtils#indexOfNotEqualTo(double, double[])
+   */
+  public @GTENegativeOne int indexOfNotEqualTo(double baseValue, double[] values) {
+    requireNonNull(values, "values cannot be null.");
+    long baseBits = Double.doubleToLongBits(baseValue);
+    return indexOfFirstFailure(
+        values.length,
+        (fromIndex, toIndex) -> BulkChecks.allEqualTo(baseValue, values, fromIndex, toIndex),
+        i -> Double.doubleToLongBits(values[i]) != baseBits);
+  }
+
+  /**
+   * Returns, after checking the elements in parallel, the indices, in ascending order, of all the
+   * elements of the specified {@code double} array that are not equal to the specified base value.
+   * An empty array is returned if all the elements are equal to the base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return the indices of all the elements that are not equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @see ArrayUtils#indicesNotEqualTo(double, double[])
+   */
+  public int[] indicesNotEqualTo(double baseValue, double[] values) {
+    requireNonNull(values, "values cannot be null.");
+    long baseBits = Double.doubleToLongBits(baseValue);
+    return indicesOfFailures(
+        values.length,
+        (fromIndex, toIndex) -> BulkChecks.allEqualTo(baseValue, values, fromIndex, toIndex),
+        i -> Double.doubleToLongBits(values[i]) != baseBits);
+  }
+
+  /**
+   * Validates, in parallel, that all the elements of the specified {@code double} array are equal
+   * to the specified base value. Returns {@code values} if every element is equal to {@code
+   * baseValue}, otherwise, an {@code IllegalArgumentException} is thrown for the first element that
+   * is not equal to the base value.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @return {@code values} if all the elements are equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not equal to {@code baseValue}.
+   * @see ValidationException#getIndex()
+   */
+  public double[] requireAllEqualTo(double baseValue, double[] values) {
+    return requireAllEqualTo(baseValue, values, null);
+  }
+
+  /**
+   * Validates, in parallel, that all the elements of the specified {@code double} array are equal
+   * to the specified base value. Returns {@code values} if every element is equal to {@code
+   * baseValue}, otherwise, an {@code IllegalArgumentException} is thrown for the first element that
+   * is not equal to the base value. An optional message can also be given to be used as the
+   * exception message.
+   *
+   * @param baseValue the value to compare the elements for equality to.
+   * @param values the array to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code values} if all the elements are equal to {@code baseValue}.
+   * @throws NullPointerException if {@code values} is {@code null}.
+   * @throws IllegalArgumentException if an element is not equal to {@code baseValue}.
+   * @see ValidationException#getIndex()
+   */
+  public double[] requireAllEqualTo(double baseValue, double[] values, @Nullable String message) {
+    int index = indexOfNotEqualTo(baseValue, values);
+    if (index >= 0) {
+      throw new ValidationException(Check.EQUAL_TO, values[index], baseValue, message)
+          .atIndex(index);
+    }
+    return values;
+  }
+
+  // ========================================================================
+  // LIST CHECKS
+  // ========================================================================
+
+  /**
+   * Checks, in parallel, that all the elements of the specified list match the specified
+   * predicate. Returns {@code true} if the predicate returns {@code true} for every element, {@code
+   * false} otherwise. The remaining tasks are skipped as soon as one of them finds an element that
+   * doesn't match. Lists that don't implement {@link RandomAccess} are copied before they are
+   * split. The predicate must be safe to call from multiple threads.
+   *
+   * @param <T> the type of the elements.
+   * @param values the list to check.
+   * @param predicate the predicate to match the elements against.
+   * @return {@code true} if all the elements match {@code predicate}, {@code false} otherwise.
+   * @throws NullPointerException if {@code values} or {@code predicate} is {@code null}.
+   */
+  public <T> boolean allMatch(List<? extends T> values, Predicate<? super T> predicate) {
+    List<? extends T> list = randomAccess(values);
+    requireNonNull(predicate, "predicate cannot be null.");
+    return allPass(
+        list.size(), (fromIndex, toIndex) -> allMatch(list, predicate, fromIndex, toIndex));
+  }
+
+  /**
+   * Returns, after checking the elements in parallel, the index of the first element of the
+   * specified list that doesn't match the specified predicate, or {@code -1} if all the elements
+   * match. The tasks checking elements after an element that doesn't match are skipped. Lists that
+   * don't implement {@link RandomAccess} are copied before they are split. The predicate must be
+   * safe to call from multiple threads.
+   *
+   * @param <T> the type of the elements.
+   * @param values the list to check.
+   * @param predicate the predicate to match the elements against.
+   * @return the index of the first element that doesn't match {@code predicate} or {@code -1} if
+   *     all the elements match.
+   * @throws NullPointerException if {@code values} or {@code predicate} is {@code null}.
+   */
+  public <T> @GTENegativeOne int indexOfNotMatching(
+      List<? extends T> values, Predicate<? super T> predicate) {
+    List<? extends T> list = randomAccess(values);
+    requireNonNull(predicate, "predicate cannot be null.");
+    return indexOfFirstFailure(
+        list.size(),
+        (fromIndex, toIndex) -> allMatch(list, predicate, fromIndex, toIndex),
+        i -> !predicate.test(list.get(i)));
+  }
+
+  /**
+   * Returns, after checking the elements in parallel, the indices, in ascending order, of all the
+   * elements of the specified list that don't match the specified predicate. An empty array is
+   * returned if all the elements match. Lists that don't implement {@link RandomAccess} are copied
+   * before they are split. The predicate must be safe to call from multiple threads.
+   *
+   * @param <T> the type of the elements.
+   * @param values the list to check.
+   * @param predicate the predicate to match the elements against.
+   * @return the indices of all the elements that don't match {@code predicate}.
+   * @throws NullPointerException if {@code values} or {@code predicate} is {@code null}.
+   */
+  public <T> int[] indicesNotMatching(List<? extends T> values, Predicate<? super T> predicate) {
+    List<? extends T> list = randomAccess(values);
+    requireNonNull(predicate, "predicate cannot be null.");
+    return indicesOfFailures(
+        list.size(),
+        (fromIndex, toIndex) -> allMatch(list, predicate, fromIndex, toIndex),
+        i -> !predicate.test(list.get(i)));
+  }
+
+  // ========================================================================
+  // HELPERS
+  // ========================================================================
+
+  private boolean allPass(int length, SliceCheck check) {
+    if (length <= threshold) {
+      return check.allPass(0, length);
+    }
+    AtomicBoolean failed = new AtomicBoolean();
+    pool.invoke(new AllPassTask(check, failed, 0, length));
+    return !failed.get();
+  }
+
+  private @GTENegativeOne int indexOfFirstFailure(
+      int length, SliceCheck check, IntPredicate fails) {
+    if (length <= threshold) {
+      return check.allPass(0, length) ? -1 : indexOfFirstFailure(fails, 0);
+    }
+    AtomicInteger first = new AtomicInteger(Integer.MAX_VALUE);
+    pool.invoke(new FirstFailureTask(check, fails, first, 0, length));
+    return first.get() == Integer.MAX_VALUE ? -1 : first.get();
+  }
+
+  private int[] indicesOfFailures(int length, SliceCheck check, IntPredicate fails) {
+    if (length <= threshold) {
+      return indicesOfFailures(check, fails, 0, length);
+    }
+    return pool.invoke(new FailuresTask(check, fails, 0, length));
+  }
+
+  // At least one element from fromIndex fails the check, so the scan always stops
+  private static int indexOfFirstFailure(IntPredicate fails, int fromIndex) {
+    int i = fromIndex;
+    while (!fails.test(i)) {
+      i++;
+    }
+    return i;
+  }
+
+  private static int[] indicesOfFailures(
+      SliceCheck check, IntPredicate fails, int fromIndex, int toIndex) {
+    if (check.allPass(fromIndex, toIndex)) {
+      return EMPTY_INDICES;
+    }
+    int count = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      if (fails.test(i)) {
+        count++;
+      }
+    }
+    int[] indices = new int[count];
+    for (int i = fromIndex, j = 0; j < count; i++) {
+      if (fails.test(i)) {
+        indices[j++] = i;
+      }
+    }
+    return indices;
+  }
+
+  private static <T> boolean allMatch(
+      List<? extends T> values, Predicate<? super T> predicate, int fromIndex, int toIndex) {
+    for (int i = fromIndex; i < toIndex; i++) {
+      if (!predicate.test(values.get(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static <T> List<? extends T> randomAccess(List<? extends T> values) {
+    requireNonNull(values, "values cannot be null.");
+    return values instanceof RandomAccess ? values : new ArrayList<>(values);
+  }
+
+  /* Checks all the elements of a slice of an array or list at once. */
+  @FunctionalInterface
+  private interface SliceCheck {
+    boolean allPass(int fromIndex, int toIndex);
+  }
+
+  /* Checks a slice, splitting it in halves, until a task finds an element that failed. */
+  private final class AllPassTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final SliceCheck check;
+    private final AtomicBoolean failed;
+    private final int fromIndex;
+    private final int toIndex;
+
+    AllPassTask(SliceCheck check, AtomicBoolean failed, int fromIndex, int toIndex) {
+      this.check = check;
+      this.failed = failed;
+      this.fromIndex = fromIndex;
+      this.toIndex = toIndex;
+    }
+
+    @Override
+    protected void compute() {
+      if (failed.get()) {
+        return;
+      }
+      if (toIndex - fromIndex <= threshold) {
+        if (!check.allPass(fromIndex, toIndex)) {
+          failed.set(true);
+        }
+        return;
+      }
+      int middle = (fromIndex + toIndex) >>> 1;
+      invokeAll(
+          new AllPassTask(check, failed, fromIndex, middle),
+          new AllPassTask(check, failed, middle, toIndex));
+    }
+  }
+
+  /* Finds the first element of a slice that failed, skipping slices after a failed element. */
+  private final class FirstFailureTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final SliceCheck check;
+    private final IntPredicate fails;
+    private final AtomicInteger first;
+    private final int fromIndex;
+    private final int toIndex;
+
+    FirstFailureTask(
+        SliceCheck check, IntPredicate fails, AtomicInteger first, int fromIndex, int toIndex) {
+      this.check = check;
+      this.fails = fails;
+      this.first = first;
+      this.fromIndex = fromIndex;
+      this.toIndex = toIndex;
+    }
+
+    @Override
+    protected void compute() {
+      if (fromIndex >= first.get()) {
+        return;
+      }
+      if (toIndex - fromIndex <= threshold) {
+        if (!check.allPass(fromIndex, toIndex)) {
+          first.accumulateAndGet(indexOfFirstFailure(fails, fromIndex), Math::min);
+        }
+        return;
+      }
+      int middle = (fromIndex + toIndex) >>> 1;
+      invokeAll(
+          new FirstFailureTask(check, fails, first, fromIndex, middle),
+          new FirstFailureTask(check, fails, first, middle, toIndex));
+    }
+  }
+
+  /* Finds all the elements of a slice that failed, in ascending order of their indices. */
+  private final class FailuresTask extends RecursiveTask<int[]> {
+    private static final long serialVersionUID = 1L;
+
+    private final SliceCheck check;
+    private final IntPredicate fails;
+    private final int fromIndex;
+    private final int toIndex;
+
+    FailuresTask(SliceCheck check, IntPredicate fails, int fromIndex, int toIndex) {
+      this.check = check;
+      this.fails = fails;
+      this.fromIndex = fromIndex;
+      this.toIndex = toIndex;
+    }
+
+    @Override
+    protected int[] compute() {
+      if (toIndex - fromIndex <= threshold) {
+        return indicesOfFailures(check, fails, fromIndex, toIndex);
+      }
+      int middle = (fromIndex + toIndex) >>> 1;
+      FailuresTask left = new FailuresTask(check, fails, fromIndex, middle);
+      FailuresTask right = new FailuresTask(check, fails, middle, toIndex);
+      invokeAll(left, right);
+      int[] leftIndices = left.join();
+      int[] rightIndices = right.join();
+      if (rightIndices.length == 0) {
+        return leftIndices;
+      }
+      if (leftIndices.length == 0) {
+        return rightIndices;
+      }
+      int[] indices = new int[leftIndices.length + rightIndices.length];
+      System.arraycopy(leftIndices, 0, indices, 0, leftIndices.length);
+      System.arraycopy(rightIndices, 0, indices, leftIndices.length, rightIndices.length);
+      return indices;
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package io.github.kennedykori.utils;
+
+import org.checkerframework.dataflow.qual.Pure;
+
+/**
+ * Minimal perfect hashing of a fixed set of distinct 64-bit hashes, used by {@link LongSet} and
+ * {@link StringSet}. A hash is first mapped to one of as many buckets as there are hashes, and then
+ * to its slot in a table of exactly that many slots using the seed of its bucket. The seeds are
+ * searched for when the set is built, the largest buckets first, so that every hash gets a slot of
+ * its own. Finding the slot of a hash is then two multiplicative mixes and an array read.
+ *
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * @since 3.0.0
+ */
+final class PerfectHash {
+
+  // The fractional part of the golden ratio, used to derive a distinct constant from each seed
+  static final long GOLDEN = 0x9E3779B97F4A7C15L;
+
+  /**
+   * Returns the seeds of the buckets of the given distinct hashes and writes the slot of each hash
+   * to {@code slots}. The slots are a permutation of the indices of the hashes.
+   */
+  static int[] build(long[] hashes, int[] slots) {
+    int size = hashes.length;
+    int[] seeds = new int[Math.max(size, 1)];
+    if (size == 0) {
+      return seeds;
+    }
+    // Group the hashes by bucket with a counting sort
+    int[] bucketStarts = new int[size + 1];
+    for (long hash : hashes) {
+      bucketStarts[reduce(mix(hash), size) + 1]++;
+    }
+    int largestBucket = 0;
+    for (int bucket = 0; bucket < size; bucket++) {
+      largestBucket = Math.max(largestBucket, bucketStarts[bucket + 1]);
+      bucketStarts[bucket + 1] += bucketStarts[bucket];
+    }
+    int[] members = new int[size];
+    int[] next = bucketStarts.clone();
+    for (int index = 0; index < size; index++) {
+      members[next[reduce(mix(hashes[index]), size)]++] = index;
+    }
+
+    // Place the buckets, the largest first, while most of the slots are still free
+    boolean[] taken = new boolean[size];
+    for (int bucketSize = largestBucket; bucketSize > 0; bucketSize--) {
+      for (int bucket = 0; bucket < size; bucket++) {
+        int start = bucketStarts[bucket];
+        if (bucketStarts[bucket + 1] - start == bucketSize) {
+          seeds[bucket] = place(hashes, members, start, bucketSize, taken, slots);
+        }
+      }
+    }
+    return seeds;
+  }
+
+  // Finds a seed that maps the members of a bucket to distinct free slots and takes those slots
+  private static int place(
+      long[] hashes, int[] members, int start, int count, boolean[] taken, int[] slots) {
+    for (int seed = 1; ; seed++) {
+      int placed = 0;
+      while (placed < count) {
+        int member = members[start + placed];
+        int slot = slot(hashes[member], seed, taken.length);
+        if (taken[slot]) {
+          break;
+        }
+        taken[slot] = true;
+        slots[member] = slot;
+        placed++;
+      }
+      if (placed == count) {
+        return seed;
+      }
+      // Free the slots taken by this seed and try the next one
+      for (int index = 0; index < placed; index++) {
+        taken[slots[members[start + index]]] = false;
+      }
+    }
+  }
+
+  /** Returns the slot of a hash, given the seeds of the buckets of a table of the given size. */
+  @Pure
+  static int slot(long hash, int[] seeds, int size) {
+    return slot(hash, seeds[reduce(mix(hash), seeds.length)], size);
+  }
+
+  @Pure
+  private static int slot(long hash, int seed, int size) {
+    return reduce(mix(hash + seed * GOLDEN), size);
+  }
+
+  /** Mixes the bits of a 64-bit hash, as the finalizer of MurmurHash3 does. */
+  @Pure
+  static long mix(long hash) {
+    hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+    hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+    return hash ^ (hash >>> 33);
+  }
+
+  // Maps the high 32 bits of a mixed hash to [0, size) with a multiplication instead of a division
+  @Pure
+  private static int reduce(long mixed, int size) {
+    return (int) (((mixed >>> 32) * size) >>> 32);
+  }
+
+  // private constructor to prevent initialization
+  @Pure
+  private PerfectHash() {}
+}
@@ -0,0 +1,328 @@
+package io.github.kennedykori.utils;
+
+import org.checkerframework.checker.index.qual.IndexOrHigh;
+import org.checkerframework.dataflow.qual.SideEffectFree;
+
+/**
+ * Branch-free implementations of the bulk checks of {@link ArrayUtils}. Every method reduces the
+ * elements of an array slice in a single pass without an early exit, i.e. to their minimum and
+ * maximum values or to the bitwise OR of their bits, and then checks the result once, which allows
+ * the JIT compiler to vectorize the loop.
+ *
+ * <p>The methods in this class don't validate their arguments. The callers are responsible for
+ * checking that the array isn't {@code null}, that the slice is within the bounds of the array and
+ * that the bounds of a range are valid.
+ *
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * @since 3.0.0
+ */
+final class ScalarChecks {
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code int} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to {@code minValue} and less than
+   * {@code maxValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allInRange(
+      int minValue,
+      int maxValue,
+      int[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    // A min/max reduction has no early exit, so the JIT compiler can vectorize it
+    int min = Integer.MAX_VALUE;
+    int max = Integer.MIN_VALUE;
+    for (int i = fromIndex; i < toIndex; i++) {
+      min = Math.min(min, values[i]);
+      max = Math.max(max, values[i]);
+    }
+    return fromIndex == toIndex || (min >= minValue && max < maxValue);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code long} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to {@code minValue} and less than
+   * {@code maxValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allInRange(
+      long minValue,
+      long maxValue,
+      long[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    // A min/max reduction has no early exit, so the JIT compiler can vectorize it
+    long min = Long.MAX_VALUE;
+    long max = Long.MIN_VALUE;
+    for (int i = fromIndex; i < toIndex; i++) {
+      min = Math.min(min, values[i]);
+      max = Math.max(max, values[i]);
+    }
+    return fromIndex == toIndex || (min >= minValue && max < maxValue);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code int} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to {@code minValue} and less than
+   * {@code maxValue} when all of them are interpreted as unsigned integers, {@code false}
+   * otherwise.
+   */
+  @SideEffectFree
+  static boolean allInRangeUnsigned(
+      int minValue,
+      int maxValue,
+      int[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    // Flipping the sign bits maps the unsigned order onto the signed order, so the reduction is
+    // the same branch-free min/max reduction as for a signed range
+    int min = Integer.MAX_VALUE;
+    int max = Integer.MIN_VALUE;
+    for (int i = fromIndex; i < toIndex; i++) {
+      int flipped = values[i] ^ Integer.MIN_VALUE;
+      min = Math.min(min, flipped);
+      max = Math.max(max, flipped);
+    }
+    return fromIndex == toIndex
+        || (min >= (minValue ^ Integer.MIN_VALUE) && max < (maxValue ^ Integer.MIN_VALUE));
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code long} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to {@code minValue} and less than
+   * {@code maxValue} when all of them are interpreted as unsigned integers, {@code false}
+   * otherwise.
+   */
+  @SideEffectFree
+  static boolean allInRangeUnsigned(
+      long minValue,
+      long maxValue,
+      long[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    // Flipping the sign bits maps the unsigned order onto the signed order, so the reduction is
+    // the same branch-free min/max reduction as for a signed range
+    long min = Long.MAX_VALUE;
+    long max = Long.MIN_VALUE;
+    for (int i = fromIndex; i < toIndex; i++) {
+      long flipped = values[i] ^ Long.MIN_VALUE;
+      min = Math.min(min, flipped);
+      max = Math.max(max, flipped);
+    }
+    return fromIndex == toIndex
+        || (min >= (minValue ^ Long.MIN_VALUE) && max < (maxValue ^ Long.MIN_VALUE));
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code float} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to {@code minValue} and less than
+   * {@code maxValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allInRange(
+      float minValue,
+      float maxValue,
+      float[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    // A min/max reduction has no early exit, so the JIT compiler can vectorize it
+    float min = Float.POSITIVE_INFINITY;
+    float max = Float.NEGATIVE_INFINITY;
+    for (int i = fromIndex; i < toIndex; i++) {
+      min = Math.min(min, values[i]);
+      max = Math.max(max, values[i]);
+    }
+    return fromIndex == toIndex
+        || (Float.compare(min, minValue) >= 0 && Float.compare(max, maxValue) < 0);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code double} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to {@code minValue} and less than
+   * {@code maxValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allInRange(
+      double minValue,
+      double maxValue,
+      double[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    // A min/max reduction has no early exit, so the JIT compiler can vectorize it
+    double min = Double.POSITIVE_INFINITY;
+    double max = Double.NEGATIVE_INFINITY;
+    for (int i = fromIndex; i < toIndex; i++) {
+      min = Math.min(min, values[i]);
+      max = Math.max(max, values[i]);
+    }
+    return fromIndex == toIndex
+        || (Double.compare(min, minValue) >= 0 && Double.compare(max, maxValue) < 0);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code int} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to zero, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allNonNegative(
+      int[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    // OR-ing all the elements gives a negative result if any of the elements is negative
+    int bits = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      bits |= values[i];
+    }
+    return bits >= 0;
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code long} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to zero, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allNonNegative(
+      long[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    // OR-ing all the elements gives a negative result if any of the elements is negative
+    long bits = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      bits |= values[i];
+    }
+    return bits >= 0;
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code float} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to zero, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allNonNegative(
+      float[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    // The sign bit is only set for negative values, including -0.0 but not NaN, so OR-ing the
+    // bits of all the elements gives a negative result if any of the elements is negative
+    int bits = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      bits |= Float.floatToIntBits(values[i]);
+    }
+    return bits >= 0;
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code double} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to zero, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allNonNegative(
+      double[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    // The sign bit is only set for negative values, including -0.0 but not NaN, so OR-ing the
+    // bits of all the elements gives a negative result if any of the elements is negative
+    long bits = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      bits |= Double.doubleToLongBits(values[i]);
+    }
+    return bits >= 0;
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code int} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are equal to {@code baseValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allEqualTo(
+      int baseValue,
+      int[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    // OR-ing the differences of all the elements and the base value gives zero if all the
+    // elements are equal to the base value
+    int differences = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      differences |= values[i] ^ baseValue;
+    }
+    return differences == 0;
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code long} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are equal to {@code baseValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allEqualTo(
+      long baseValue,
+      long[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    // OR-ing the differences of all the elements and the base value gives zero if all the
+    // elements are equal to the base value
+    long differences = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      differences |= values[i] ^ baseValue;
+    }
+    return differences == 0;
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code float} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are equal to {@code baseValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allEqualTo(
+      float baseValue,
+      float[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    // Two values are equal if their bits are equal, so OR-ing the differences of the bits of
+    // all the elements and the bits of the base value gives zero if all the elements are equal
+    int baseBits = Float.floatToIntBits(baseValue);
+    int differences = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      differences |= Float.floatToIntBits(values[i]) ^ baseBits;
+    }
+    return differences == 0;
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code double} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are equal to {@code baseValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allEqualTo(
+      double baseValue,
+      double[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    // Two values are equal if their bits are equal, so OR-ing the differences of the bits of
+    // all the elements and the bits of the base value gives zero if all the elements are equal
+    long baseBits = Double.doubleToLongBits(baseValue);
+    long differences = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      differences |= Double.doubleToLongBits(values[i]) ^ baseBits;
+    }
+    return differences == 0;
+  }
+
+  // private constructor to prevent initialization
+  @SideEffectFree
+  private ScalarChecks() {}
+}
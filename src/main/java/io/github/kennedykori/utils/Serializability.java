@@ -0,0 +1,421 @@
+package io.github.kennedykori.utils;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Checks if an object graph can be serialized with Java serialization. Unlike an {@code instanceof
+ * Serializable} test, the check also takes the non-transient fields of an object, the elements of
+ * its arrays, collections and maps and the objects reachable from them into account.
+ *
+ * <p>The structure of a class is analyzed once and the verdict is cached in a {@link ClassValue}. A
+ * class whose serialized form can only contain serializable values, e.g. a class whose
+ * non-transient fields are all primitives, enums, {@code String}s or instances of other such final
+ * classes, is serializable, and a class that doesn't implement {@code Serializable} isn't, so
+ * checking an instance of either only costs a lookup. The reference fields and elements of other
+ * objects are read through cached method handles and checked in turn.
+ *
+ * <p>The analysis follows the rules of {@link ObjectOutputStream}:
+ *
+ * <ul>
+ *   <li>An {@link Externalizable} class writes its own state and is serializable if it has a
+ *       public no-arg constructor.
+ *   <li>The state of a class with a {@code writeReplace} method is replaced before it is written,
+ *       so its fields aren't analyzed.
+ *   <li>The closest superclass that isn't serializable must have a no-arg constructor that is
+ *       accessible to its first serializable subclass.
+ *   <li>The fields of classes in packages that aren't open to this library, e.g. the classes of
+ *       the JDK, and of classes that declare {@code serialPersistentFields} are trusted to be
+ *       serializable. The elements of collections and maps are always checked.
+ * </ul>
+ *
+ * <p>The size of the serialized form of an object is measured by serializing the object into a
+ * sink that only counts the bytes written to it and that aborts the serialization as soon as a
+ * limit is exceeded.
+ *
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * @since 3.0.0
+ */
+final class Serializability {
+
+  /* The analyses of the classes that have been checked. */
+  private static final ClassValue<Analysis> ANALYSES =
+      new ClassValue<Analysis>() {
+        @Override
+        protected Analysis computeValue(Class<?> type) {
+          return analyze(type);
+        }
+      };
+
+  /* The classes being analyzed on each thread, used to break cycles between final field types. */
+  private static final ThreadLocal<Set<Class<?>>> ANALYZING = ThreadLocal.withInitial(HashSet::new);
+
+  /**
+   * Returns {@code true} if the given object, and every object reachable from it that would be
+   * written with it, can be serialized, {@code false} otherwise. Returns {@code false} if {@code
+   * value} is {@code null}.
+   */
+  static boolean isSerializable(@Nullable Object value) {
+    if (value == null) {
+      return false;
+    }
+    Analysis analysis = ANALYSES.get(value.getClass());
+    if (analysis.isSettled()) {
+      return analysis.serializable;
+    }
+
+    // Walk the object graph, visiting every object once so that cycles terminate
+    Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    Deque<Object> pending = new ArrayDeque<>();
+    visited.add(value);
+    pending.add(value);
+    while (!pending.isEmpty()) {
+      Object current = pending.poll();
+      analysis = ANALYSES.get(current.getClass());
+      for (MethodHandle getter : analysis.getters) {
+        if (!visit(read(getter, current), visited, pending)) {
+          return false;
+        }
+      }
+      switch (analysis.elements) {
+        case ARRAY:
+          for (Object element : (Object[]) current) {
+            if (!visit(element, visited, pending)) {
+              return false;
+            }
+          }
+          break;
+        case COLLECTION:
+          for (Object element : (Collection<?>) current) {
+            if (!visit(element, visited, pending)) {
+              return false;
+            }
+          }
+          break;
+        case MAP:
+          for (Map.Entry<?, ?> entry : ((Map<?, ?>) current).entrySet()) {
+            if (!visit(entry.getKey(), visited, pending)
+                || !visit(entry.getValue(), visited, pending)) {
+              return false;
+            }
+          }
+          break;
+        default:
+          break;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks a value reachable from the object being walked. Returns {@code false} if the value is
+   * settled as not serializable. Otherwise, queues the value to be walked if it hasn't been visited
+   * and isn't settled, and returns {@code true}.
+   */
+  private static boolean visit(@Nullable Object value, Set<Object> visited, Deque<Object> pending) {
+    if (value == null) {
+      return true;
+    }
+    Analysis analysis = ANALYSES.get(value.getClass());
+    if (analysis.isSettled()) {
+      return analysis.serializable;
+    }
+    if (visited.add(value)) {
+      pending.add(value);
+    }
+    return true;
+  }
+
+  /** Reads a field of the given object using its getter. */
+  private static @Nullable Object read(MethodHandle getter, Object value) {
+    try {
+      return (Object) getter.invokeExact(value);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Returns the number of bytes in the serialized form of the given object if it is not greater
+   * than {@code limit}. Otherwise, the serialization is aborted and a number greater than {@code
+   * limit} is returned. Returns {@code -1} if the object can't be serialized.
+   */
+  static long serializedSize(@Nullable Object value, long limit) {
+    CountingSink sink = new CountingSink(limit);
+    try {
+      // The stream isn't closed since the sink doesn't hold any resources
+      ObjectOutputStream out = new ObjectOutputStream(sink);
+      out.writeObject(value);
+      out.flush();
+    } catch (LimitExceededException e) {
+      return sink.count;
+    } catch (IOException e) {
+      return -1;
+    }
+    return sink.count;
+  }
+
+  // ========================================================================
+  // ANALYSIS
+  // ========================================================================
+
+  /** Analyzes the structure of the given class. */
+  private static Analysis analyze(Class<?> type) {
+    Set<Class<?>> analyzing = ANALYZING.get();
+    analyzing.add(type);
+    try {
+      return doAnalyze(type);
+    } finally {
+      analyzing.remove(type);
+    }
+  }
+
+  private static Analysis doAnalyze(Class<?> type) {
+    if (type.isArray()) {
+      return isClosed(type.getComponentType()) ? Analysis.SERIALIZABLE : Analysis.ARRAY;
+    }
+    if (!Serializable.class.isAssignableFrom(type)) {
+      return Analysis.NOT_SERIALIZABLE;
+    }
+    // Enum constants and classes are written as their names
+    if (Enum.class.isAssignableFrom(type) || type == Class.class) {
+      return Analysis.SERIALIZABLE;
+    }
+    if (Externalizable.class.isAssignableFrom(type)) {
+      return hasPublicNoArgConstructor(type) ? Analysis.SERIALIZABLE : Analysis.NOT_SERIALIZABLE;
+    }
+    if (!hasValidSuperclassConstructor(type)) {
+      return Analysis.NOT_SERIALIZABLE;
+    }
+
+    Elements elements = Elements.NONE;
+    if (Map.class.isAssignableFrom(type)) {
+      elements = Elements.MAP;
+    } else if (Collection.class.isAssignableFrom(type)) {
+      elements = Elements.COLLECTION;
+    }
+    List<MethodHandle> getters = new ArrayList<>();
+    if (!hasWriteReplace(type)) {
+      for (Class<?> current = type;
+          current != null && Serializable.class.isAssignableFrom(current);
+          current = current.getSuperclass()) {
+        addGetters(current, getters);
+      }
+    }
+    return getters.isEmpty() && elements == Elements.NONE
+        ? Analysis.SERIALIZABLE
+        : new Analysis(true, getters.toArray(new MethodHandle[0]), elements);
+  }
+
+  /**
+   * Adds the getters of the serialized reference fields declared by the given class whose values
+   * have to be checked.
+   */
+  private static void addGetters(Class<?> type, List<MethodHandle> getters) {
+    if (!type.getModule().isOpen(type.getPackageName(), Serializability.class.getModule())) {
+      return;
+    }
+    Field[] fields = type.getDeclaredFields();
+    for (Field field : fields) {
+      if (field.getName().equals("serialPersistentFields")
+          && Modifier.isStatic(field.getModifiers())) {
+        return;
+      }
+    }
+    for (Field field : fields) {
+      int modifiers = field.getModifiers();
+      Class<?> fieldType = field.getType();
+      if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || isClosed(fieldType)) {
+        continue;
+      }
+      try {
+        field.setAccessible(true);
+        getters.add(
+            MethodHandles.lookup()
+                .unreflectGetter(field)
+                .asType(methodType(Object.class, Object.class)));
+      } catch (ReflectiveOperationException | RuntimeException e) {
+        // The field can't be read, trust it like the fields of classes that aren't open
+      }
+    }
+  }
+
+  /**
+   * Returns {@code true} if every value of the given type is serializable without checking the
+   * value, i.e. the type is a primitive, an enum, an array of such types or a final class that is
+   * settled as serializable.
+   */
+  private static boolean isClosed(Class<?> type) {
+    if (type.isPrimitive() || Enum.class.isAssignableFrom(type)) {
+      return true;
+    }
+    if (type.isArray()) {
+      return isClosed(type.getComponentType());
+    }
+    if (!Modifier.isFinal(type.getModifiers()) || ANALYZING.get().contains(type)) {
+      return false;
+    }
+    Analysis analysis = ANALYSES.get(type);
+    return analysis.isSettled() && analysis.serializable;
+  }
+
+  /** Returns {@code true} if the given class has a public no-arg constructor. */
+  private static boolean hasPublicNoArgConstructor(Class<?> type) {
+    try {
+      return Modifier.isPublic(type.getConstructor().getModifiers());
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Returns {@code true} if the closest superclass of the given serializable class that isn't
+   * serializable has a no-arg constructor that is accessible to its serializable subclass.
+   */
+  private static boolean hasValidSuperclassConstructor(Class<?> type) {
+    Class<?> subclass = type;
+    Class<?> superclass = type.getSuperclass();
+    while (superclass != null && Serializable.class.isAssignableFrom(superclass)) {
+      subclass = superclass;
+      superclass = superclass.getSuperclass();
+    }
+    if (superclass == null) {
+      return true;
+    }
+    try {
+      Constructor<?> constructor = superclass.getDeclaredConstructor();
+      int modifiers = constructor.getModifiers();
+      return Modifier.isPublic(modifiers)
+          || Modifier.isProtected(modifiers)
+          || (!Modifier.isPrivate(modifiers)
+              && Objects.equals(superclass.getPackageName(), subclass.getPackageName())
+              && superclass.getClassLoader() == subclass.getClassLoader());
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  /** Returns {@code true} if the given class declares or inherits a {@code writeReplace} method. */
+  private static boolean hasWriteReplace(Class<?> type) {
+    for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+      try {
+        Method method = current.getDeclaredMethod("writeReplace");
+        return !Modifier.isStatic(method.getModifiers())
+            && (current == type || !Modifier.isPrivate(method.getModifiers()));
+      } catch (NoSuchMethodException e) {
+        // Look in the superclass
+      }
+    }
+    return false;
+  }
+
+  /** An output stream that counts the bytes written to it and fails once a limit is exceeded. */
+  private static final class CountingSink extends OutputStream {
+
+    /* The maximum number of bytes that can be written. */
+    private final long limit;
+
+    /* The number of bytes written so far. */
+    long count;
+
+    CountingSink(long limit) {
+      this.limit = limit;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      count(1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      count(len);
+    }
+
+    private void count(int bytes) throws LimitExceededException {
+      count += bytes;
+      if (count > limit) {
+        throw LimitExceededException.INSTANCE;
+      }
+    }
+  }
+
+  /** Thrown by a {@link CountingSink} to abort a serialization once its limit is exceeded. */
+  private static final class LimitExceededException extends IOException {
+
+    /* The shared instance, this exception has no state and no stack trace. */
+    static final LimitExceededException INSTANCE = new LimitExceededException();
+
+    /* SUID */
+    private static final long serialVersionUID = -2106355950346137473L;
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
+  }
+
+  /** The kinds of elements of an object that have to be checked. */
+  private enum Elements {
+    NONE,
+    ARRAY,
+    COLLECTION,
+    MAP
+  }
+
+  /** The cached result of analyzing a class. */
+  private static final class Analysis {
+    static final Analysis SERIALIZABLE = new Analysis(true, new MethodHandle[0], Elements.NONE);
+    static final Analysis NOT_SERIALIZABLE =
+        new Analysis(false, new MethodHandle[0], Elements.NONE);
+    static final Analysis ARRAY = new Analysis(true, new MethodHandle[0], Elements.ARRAY);
+
+    /* Whether the instances of the class can be serialized if their reachable values can. */
+    final boolean serializable;
+
+    /* The getters of the reference fields whose values have to be checked. */
+    final MethodHandle[] getters;
+
+    /* The kind of elements of the instances of the class that have to be checked. */
+    final Elements elements;
+
+    Analysis(boolean serializable, MethodHandle[] getters, Elements elements) {
+      this.serializable = serializable;
+      this.getters = getters;
+      this.elements = elements;
+    }
+
+    /** Returns {@code true} if the instances of the class don't have to be walked. */
+    boolean isSettled() {
+      return !serializable || (getters.length == 0 && elements == Elements.NONE);
+    }
+  }
+
+  // private constructor to prevent initialization
+  private Serializability() {}
+}
@@ -0,0 +1,285 @@
+package io.github.kennedykori.utils;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.kennedykori.utils.ValidationException.Check;
+import java.util.Arrays;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.function.Supplier;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.dataflow.qual.Pure;
+import org.checkerframework.dataflow.qual.SideEffectFree;
+
+/**
+ * An immutable set of {@code String}s, e.g. the allowed codes of a field, that can be checked for
+ * membership without allocating.
+ *
+ * <p>The values of a {@code StringSet} are placed in a table with a minimal perfect hash function
+ * when the set is created, so every value has a slot of its own and the table has no empty slots.
+ * Checking if a {@code String} is in the set hashes its characters once and then compares it to the
+ * single value in its slot, regardless of the size of the set. This makes a {@code StringSet}
+ * suitable for use in hot code paths, e.g. when held in a {@code static final} field:
+ *
+ * <pre>{@code
+ * private static final StringSet CURRENCIES = StringSet.of("EUR", "KES", "TZS", "UGX", "USD");
+ *
+ * public void setCurrency(String currency) {
+ *   this.currency = CURRENCIES.require(currency, "unsupported currency.");
+ * }
+ * }</pre>
+ *
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * @see LongSet
+ * @since 3.0.0
+ */
+public final class StringSet implements Formattable {
+
+  /* The values of the set, each in the slot given by the perfect hash function. */
+  private final String[] table;
+
+  /* The seeds of the buckets of the perfect hash function. */
+  private final int[] seeds;
+
+  /* The seed of the hash of the characters of a String, chosen so that the values don't collide. */
+  private final long hashSeed;
+
+  /* The values of the set in ascending order. */
+  private final String[] values;
+
+  @SideEffectFree
+  private StringSet(String[] table, int[] seeds, long hashSeed, String[] values) {
+    this.table = table;
+    this.seeds = seeds;
+    this.hashSeed = hashSeed;
+    this.values = values;
+  }
+
+  /**
+   * Returns a new set of the given values. Repeated values are only added to the set once.
+   *
+   * @param values the values of the set.
+   * @return a new set of the given values.
+   * @throws NullPointerException if {@code values} is {@code null} or contains {@code null}.
+   */
+  public static StringSet of(String... values) {
+    requireNonNull(values, "values cannot be null.");
+    String[] distinct = values.clone();
+    for (String value : distinct) {
+      requireNonNull(value, "values cannot contain null.");
+    }
+    Arrays.sort(distinct);
+    int size = 0;
+    for (int index = 0; index < distinct.length; index++) {
+      if (index == 0 || !distinct[index].equals(distinct[index - 1])) {
+        distinct[size++] = distinct[index];
+      }
+    }
+    distinct = Arrays.copyOf(distinct, size);
+
+    // Distinct strings can have the same hash, in which case the values are hashed again with
+    // another seed, since the perfect hash function can only tell distinct hashes apart
+    long hashSeed = 0;
+    long[] hashes = hashes(distinct, hashSeed);
+    while (hasDuplicates(hashes)) {
+      hashSeed += PerfectHash.GOLDEN;
+      hashes = hashes(distinct, hashSeed);
+    }
+    int[] slots = new int[size];
+    int[] seeds = PerfectHash.build(hashes, slots);
+    String[] table = new String[size];
+    for (int index = 0; index < size; index++) {
+      table[slots[index]] = distinct[index];
+    }
+    return new StringSet(table, seeds, hashSeed, distinct);
+  }
+
+  /**
+   * Returns the number of values in this set.
+   *
+   * @return the number of values in this set.
+   */
+  @Pure
+  public int size() {
+    return values.length;
+  }
+
+  /**
+   * Returns {@code true} if this set has no values, {@code false} otherwise.
+   *
+   * @return {@code true} if this set has no values, {@code false} otherwise.
+   */
+  @Pure
+  public boolean isEmpty() {
+    return values.length == 0;
+  }
+
+  /**
+   * Returns the values of this set in ascending order.
+   *
+   * @return a new array of the values of this set in ascending order.
+   */
+  @SideEffectFree
+  public String[] toArray() {
+    return values.clone();
+  }
+
+  /**
+   * Checks that the specified {@code String} is in this set. Returns {@code true} if {@code value}
+   * is equal to one of the values of this set, {@code false} otherwise.
+   *
+   * @param value the {@code String} to check.
+   * @return {@code true} if {@code value} is in this set, {@code false} otherwise.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   */
+  @Pure
+  public boolean contains(String value) {
+    long hash = hash(requireNonNull(value, "value cannot be null."), hashSeed);
+    // The only value of the set that can be equal to value is the one in the slot of value
+    return table.length != 0 && table[PerfectHash.slot(hash, seeds, table.length)].equals(value);
+  }
+
+  /**
+   * Validates that the specified {@code String} is in this set. Returns {@code value} if it is in
+   * this set, otherwise, an {@code IllegalArgumentException} is thrown.
+   *
+   * @param value the {@code String} to check.
+   * @return {@code value} if it is in this set.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code value} is not in this set.
+   */
+  @SideEffectFree
+  public String require(String value) {
+    return require(value, (String) null);
+  }
+
+  /**
+   * Validates that the specified {@code String} is in this set. Returns {@code value} if it is in
+   * this set, otherwise, an {@code IllegalArgumentException} is thrown. An optional message can
+   * also be given to be used as the exception message.
+   *
+   * @param value the {@code String} to check.
+   * @param message an optional message to be used as the {@code IllegalArgumentException} message.
+   * @return {@code value} if it is in this set.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code value} is not in this set.
+   */
+  @SideEffectFree
+  public String require(String value, @Nullable String message) {
+    if (!contains(value)) {
+      throw new ValidationException(Check.ONE_OF, value, this, message);
+    }
+    return value;
+  }
+
+  /**
+   * Validates that the specified {@code String} is in this set. Returns {@code value} if it is in
+   * this set, otherwise, an {@code IllegalArgumentException} is thrown. The exception message is
+   * only retrieved from {@code messageSupplier} if the validation fails.
+   *
+   * @param value the {@code String} to check.
+   * @param messageSupplier an optional supplier of the message to be used as the {@code
+   *     IllegalArgumentException} message.
+   * @return {@code value} if it is in this set.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code value} is not in this set.
+   */
+  public String require(String value, @Nullable Supplier<String> messageSupplier) {
+    return contains(value) ? value : require(value, ObjectUtils.supplyMessage(messageSupplier));
+  }
+
+  /**
+   * Validates that the specified {@code String} is in this set. Returns {@code value} if it is in
+   * this set, otherwise, an {@code IllegalArgumentException} is thrown. The exception message is
+   * only formatted if the validation fails.
+   *
+   * @param value the {@code String} to check.
+   * @param messageFormat an optional format string, as described in {@link java.util.Formatter}, of
+   *     the message to be used as the {@code IllegalArgumentException} message.
+   * @param messageArgs the arguments referenced by the format specifiers in {@code messageFormat}.
+   * @return {@code value} if it is in this set.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code value} is not in this set.
+   */
+  @SideEffectFree
+  public String require(
+      String value, @Nullable String messageFormat, @Nullable Object... messageArgs) {
+    return contains(value)
+        ? value
+        : require(value, ObjectUtils.formatMessage(messageFormat, messageArgs));
+  }
+
+  @Pure
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof StringSet)) {
+      return false;
+    }
+    return Arrays.equals(values, ((StringSet) obj).values);
+  }
+
+  @Pure
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(values);
+  }
+
+  @SideEffectFree
+  @Override
+  public String toString() {
+    return Arrays.toString(values);
+  }
+
+  /**
+   * Formats this set for the {@code %s} conversion of a {@link Formatter}, e.g. for the default
+   * message of a failed {@code require}. The precision, if given, is the largest number of values
+   * to include, followed by the number of values in this set if some were left out, e.g. {@code
+   * "[EUR, KES, ...] (5 values)"} for a precision of 2. Without a precision, all the values are
+   * included, like {@link #toString()} does.
+   *
+   * @param formatter the formatter to write to.
+   * @param flags the flags of the conversion.
+   * @param width the minimum number of characters to write, or {@code -1} for no minimum.
+   * @param precision the largest number of values to include, or {@code -1} for all of them.
+   */
+  @Override
+  public void formatTo(Formatter formatter, int flags, int width, int precision) {
+    ValidationException.formatValues(
+        formatter, flags, width, precision, values.length, "values", index -> values[index]);
+  }
+
+  // Hashes the characters of a String to 64 bits. Unlike String.hashCode(), the hash isn't linear
+  // in the characters, so strings built to have the same hash for every seed are unlikely.
+  @Pure
+  private static long hash(String value, long seed) {
+    int length = value.length();
+    long hash = seed ^ length;
+    for (int index = 0; index < length; index++) {
+      hash = (hash ^ value.charAt(index)) * PerfectHash.GOLDEN;
+      hash ^= hash >>> 32;
+    }
+    return hash;
+  }
+
+  private static long[] hashes(String[] values, long seed) {
+    long[] hashes = new long[values.length];
+    for (int index = 0; index < values.length; index++) {
+      hashes[index] = hash(values[index], seed);
+    }
+    return hashes;
+  }
+
+  private static boolean hasDuplicates(long[] hashes) {
+    long[] sorted = hashes.clone();
+    Arrays.sort(sorted);
+    for (int index = 1; index < sorted.length; index++) {
+      if (sorted[index] == sorted[index - 1]) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
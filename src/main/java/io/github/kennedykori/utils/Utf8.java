@@ -0,0 +1,80 @@
+package io.github.kennedykori.utils;
+
+import org.checkerframework.dataflow.qual.Pure;
+
+/**
+ * Computes the length of the UTF-8 encoding of a character sequence without encoding it. The
+ * length is computed in a single pass over the characters of the sequence that stops as soon as a
+ * limit is exceeded, so checking the encoded length of a {@code String} against a limit neither
+ * allocates nor looks at more characters than needed.
+ *
+ * <p>The computed length is the length of the array returned by {@link String#getBytes(
+ * java.nio.charset.Charset)} for {@link java.nio.charset.StandardCharsets#UTF_8}, i.e. a
+ * surrogate pair is encoded in four bytes and an unpaired surrogate is replaced by a single byte.
+ *
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * @since 3.0.0
+ */
+final class Utf8 {
+
+  /**
+   * Returns the number of bytes in the UTF-8 encoding of the given character sequence if it is not
+   * greater than {@code limit}. Otherwise, stops counting once {@code limit} is exceeded and
+   * returns a number greater than {@code limit}.
+   */
+  @Pure
+  static long encodedLength(CharSequence value, long limit) {
+    int length = value.length();
+
+    // Every character is encoded in at least one byte, so count the leading ASCII characters,
+    // which are encoded in exactly one byte, in a tight loop first. The limit is compared first
+    // since limit + 1 overflows for Long.MAX_VALUE.
+    int asciiEnd = limit >= length ? length : (int) limit + 1;
+    int i = 0;
+    while (i < asciiEnd && value.charAt(i) < 0x80) {
+      i++;
+    }
+    long bytes = i;
+    for (; i < length && bytes <= limit; i++) {
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        bytes += 1;
+      } else if (c < 0x800) {
+        bytes += 2;
+      } else if (!Character.isSurrogate(c)) {
+        bytes += 3;
+      } else if (Character.isHighSurrogate(c)
+          && i + 1 < length
+          && Character.isLowSurrogate(value.charAt(i + 1))) {
+        bytes += 4;
+        i++;
+      } else {
+        // An unpaired surrogate is replaced by '?'
+        bytes += 1;
+      }
+    }
+    return bytes;
+  }
+
+  /**
+   * Returns {@code true} if the UTF-8 encoding of the given character sequence has at least {@code
+   * minBytes} and at most {@code maxBytes} bytes, {@code false} otherwise.
+   */
+  @Pure
+  static boolean isEncodedLengthBetween(CharSequence value, long minBytes, long maxBytes) {
+    // A character is encoded in at least one and at most three bytes, a surrogate pair in four
+    long length = value.length();
+    if (length > maxBytes || 3 * length < minBytes) {
+      return false;
+    }
+    if (length >= minBytes && 3 * length <= maxBytes) {
+      return true;
+    }
+    long bytes = encodedLength(value, maxBytes);
+    return bytes >= minBytes && bytes <= maxBytes;
+  }
+
+  // private constructor to prevent initialization
+  @Pure
+  private Utf8() {}
+}
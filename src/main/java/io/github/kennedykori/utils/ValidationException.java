@@ -0,0 +1,599 @@
+package io.github.kennedykori.utils;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.math.BigInteger;
+import java.util.FormattableFlags;
+import java.util.Formatter;
+import java.util.Locale;
+import java.util.function.IntFunction;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.dataflow.qual.Pure;
+import org.checkerframework.dataflow.qual.SideEffectFree;
+
+/**
+ * Thrown by the <i>require</i> methods of {@link ObjectUtils} to indicate that a value did not meet
+ * a certain condition. Since this class extends {@link IllegalArgumentException}, existing code
+ * that catches an {@code IllegalArgumentException} keeps working unchanged.
+ *
+ * <p>Unlike a plain {@code IllegalArgumentException}, a {@code ValidationException} does not build
+ * its message when it is created. Instead, it stores the {@link Check check} that failed together
+ * with the operands of the check <i>(stored as primitives whenever possible)</i> and only renders
+ * the message the first time {@link #getMessage()} is called. This makes rejecting a value cheap
+ * when the message is never looked at.
+ *
+ * <p>Capturing a stack trace is usually the most expensive part of creating an exception. For
+ * applications where rejecting values is common and the stack trace of a {@code
+ * ValidationException} isn't needed, stack trace capturing can be turned off by setting the {@value
+ * #STACKLESS_PROPERTY} system property to {@code true} or by calling {@link
+ * #setStackless(boolean)}. It is turned on by default.
+ *
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * @since 3.0.0
+ */
+public class ValidationException extends IllegalArgumentException {
+
+  /**
+   * The name of the system property that, when set to {@code true}, turns off stack trace
+   * capturing for all {@code ValidationException}s.
+   */
+  public static final String STACKLESS_PROPERTY =
+      "io.github.kennedykori.utils.ValidationException.stackless";
+
+  /* SUID */
+  private static final long serialVersionUID = 6417250983214405378L;
+
+  /* Whether stack trace capturing is turned off. */
+  private static volatile boolean stackless = Boolean.getBoolean(STACKLESS_PROPERTY);
+
+  /* The check that failed. */
+  private final Check check;
+
+  /* How the operands of the check are stored. */
+  private final OperandKind operandKind;
+
+  /*
+   * The primitive operands of the check. A double is stored using its raw bits. These are only
+   * used when the operand kind is either LONG or DOUBLE.
+   */
+  private final long value;
+  private final long bound;
+  private final long upperBound;
+
+  /*
+   * The reference operands of the check. These are only used when the operand kind is OBJECT and
+   * are transient because they may not be serializable, e.g. a value that failed a serializable
+   * check. The message is always rendered before serialization.
+   */
+  private final transient @Nullable Object objectValue;
+  private final transient @Nullable Object objectBound;
+  private final transient @Nullable Object objectUpperBound;
+
+  /* The index of the array element that failed the check or -1 if the value isn't an element. */
+  private int index = -1;
+
+  /* The custom message or the rendered default message once it has been requested. */
+  private @MonotonicNonNull String message;
+
+  /**
+   * Creates a new {@code ValidationException} for a failed check with a single {@code long}
+   * operand.
+   *
+   * @param check the check that failed.
+   * @param value the value that failed the check.
+   * @param message an optional message to use instead of the default message of the check.
+   */
+  @SideEffectFree
+  ValidationException(Check check, long value, @Nullable String message) {
+    this(check, value, 0L, 0L, message);
+  }
+
+  /**
+   * Creates a new {@code ValidationException} for a failed check with two {@code long} operands.
+   *
+   * @param check the check that failed.
+   * @param value the value that failed the check.
+   * @param bound the value that {@code value} was checked against.
+   * @param message an optional message to use instead of the default message of the check.
+   */
+  @SideEffectFree
+  ValidationException(Check check, long value, long bound, @Nullable String message) {
+    this(check, value, bound, 0L, message);
+  }
+
+  /**
+   * Creates a new {@code ValidationException} for a failed check with three {@code long} operands.
+   *
+   * @param check the check that failed.
+   * @param value the value that failed the check.
+   * @param bound the value, or the lower bound, that {@code value} was checked against.
+   * @param upperBound the upper bound that {@code value} was checked against.
+   * @param message an optional message to use instead of the default message of the check.
+   */
+  @SideEffectFree
+  ValidationException(
+      Check check, long value, long bound, long upperBound, @Nullable String message) {
+    this(check, OperandKind.LONG, value, bound, upperBound, null, null, null, message);
+  }
+
+  /**
+   * Creates a new {@code ValidationException} for a failed check with up to three unsigned {@code
+   * long} operands. The operands are rendered as unsigned integers and are returned by the getters
+   * as a {@code Long} if they are less than 2<sup>63</sup> and as a {@link BigInteger} otherwise.
+   *
+   * @param check the check that failed.
+   * @param value the value that failed the check.
+   * @param bound the value, or the lower bound, that {@code value} was checked against.
+   * @param upperBound the upper bound that {@code value} was checked against.
+   * @param message an optional message to use instead of the default message of the check.
+   * @return the new {@code ValidationException}.
+   */
+  @SideEffectFree
+  static ValidationException unsigned(
+      Check check, long value, long bound, long upperBound, @Nullable String message) {
+    return new ValidationException(
+        check, OperandKind.UNSIGNED_LONG, value, bound, upperBound, null, null, null, message);
+  }
+
+  /**
+   * Creates a new {@code ValidationException} for a failed check with a single {@code double}
+   * operand.
+   *
+   * @param check the check that failed.
+   * @param value the value that failed the check.
+   * @param message an optional message to use instead of the default message of the check.
+   */
+  @SideEffectFree
+  ValidationException(Check check, double value, @Nullable String message) {
+    this(check, value, 0D, 0D, message);
+  }
+
+  /**
+   * Creates a new {@code ValidationException} for a failed check with two {@code double} operands.
+   *
+   * @param check the check that failed.
+   * @param value the value that failed the check.
+   * @param bound the value that {@code value} was checked against.
+   * @param message an optional message to use instead of the default message of the check.
+   */
+  @SideEffectFree
+  ValidationException(Check check, double value, double bound, @Nullable String message) {
+    this(check, value, bound, 0D, message);
+  }
+
+  /**
+   * Creates a new {@code ValidationException} for a failed check with three {@code double}
+   * operands.
+   *
+   * @param check the check that failed.
+   * @param value the value that failed the check.
+   * @param bound the value, or the lower bound, that {@code value} was checked against.
+   * @param upperBound the upper bound that {@code value} was checked against.
+   * @param message an optional message to use instead of the default message of the check.
+   */
+  @SideEffectFree
+  ValidationException(
+      Check check, double value, double bound, double upperBound, @Nullable String message) {
+    this(
+        check,
+        OperandKind.DOUBLE,
+        Double.doubleToRawLongBits(value),
+        Double.doubleToRawLongBits(bound),
+        Double.doubleToRawLongBits(upperBound),
+        null,
+        null,
+        null,
+        message);
+  }
+
+  /**
+   * Creates a new {@code ValidationException} for a failed check with a single reference operand.
+   *
+   * @param check the check that failed.
+   * @param value the value that failed the check.
+   * @param message an optional message to use instead of the default message of the check.
+   */
+  @SideEffectFree
+  ValidationException(Check check, @Nullable Object value, @Nullable String message) {
+    this(check, value, null, null, message);
+  }
+
+  /**
+   * Creates a new {@code ValidationException} for a failed check with two reference operands.
+   *
+   * @param check the check that failed.
+   * @param value the value that failed the check.
+   * @param bound the value that {@code value} was checked against.
+   * @param message an optional message to use instead of the default message of the check.
+   */
+  @SideEffectFree
+  ValidationException(
+      Check check, @Nullable Object value, @Nullable Object bound, @Nullable String message) {
+    this(check, value, bound, null, message);
+  }
+
+  /**
+   * Creates a new {@code ValidationException} for a failed check with three reference operands.
+   *
+   * @param check the check that failed.
+   * @param value the value that failed the check.
+   * @param bound the value, or the lower bound, that {@code value} was checked against.
+   * @param upperBound the upper bound that {@code value} was checked against.
+   * @param message an optional message to use instead of the default message of the check.
+   */
+  @SideEffectFree
+  ValidationException(
+      Check check,
+      @Nullable Object value,
+      @Nullable Object bound,
+      @Nullable Object upperBound,
+      @Nullable String message) {
+    this(check, OperandKind.OBJECT, 0L, 0L, 0L, value, bound, upperBound, message);
+  }
+
+  // Creates a new ValidationException, all the other constructors delegate to this one
+  @SideEffectFree
+  ValidationException(
+      Check check,
+      OperandKind operandKind,
+      long value,
+      long bound,
+      long upperBound,
+      @Nullable Object objectValue,
+      @Nullable Object objectBound,
+      @Nullable Object objectUpperBound,
+      @Nullable String message) {
+    super();
+    this.check = check;
+    this.operandKind = operandKind;
+    this.value = value;
+    this.bound = bound;
+    this.upperBound = upperBound;
+    this.objectValue = objectValue;
+    this.objectBound = objectBound;
+    this.objectUpperBound = objectUpperBound;
+    if (nonNull(message)) {
+      this.message = message;
+    }
+  }
+
+  /**
+   * Returns {@code true} if stack trace capturing is turned off for {@code ValidationException}s,
+   * {@code false} otherwise.
+   *
+   * @return {@code true} if stack trace capturing is turned off, {@code false} otherwise.
+   * @see #STACKLESS_PROPERTY
+   */
+  public static boolean isStackless() {
+    return stackless;
+  }
+
+  /**
+   * Turns stack trace capturing for {@code ValidationException}s created after this call off or
+   * on. This overrides the value of the {@value #STACKLESS_PROPERTY} system property.
+   *
+   * @param stackless {@code true} to turn stack trace capturing off, {@code false} to turn it on.
+   * @see #STACKLESS_PROPERTY
+   */
+  public static void setStackless(boolean stackless) {
+    ValidationException.stackless = stackless;
+  }
+
+  /**
+   * Returns the check that failed.
+   *
+   * @return the check that failed.
+   */
+  @Pure
+  public Check getCheck() {
+    return check;
+  }
+
+  /**
+   * Returns the value that failed the check. {@code int} and {@code long} values are returned as a
+   * {@link Long} while {@code float} and {@code double} values are returned as a {@link Double}.
+   * For checks on the length of a {@code String}, the length is returned.
+   *
+   * @return the value that failed the check. This is only {@code null} if a {@code null} value
+   *     failed the check.
+   */
+  @SideEffectFree
+  public @Nullable Object getValue() {
+    return operand(operandKind, value, objectValue);
+  }
+
+  /**
+   * Returns the value, or the lower bound, that the failed value was checked against. This is
+   * returned as a {@link Long}, a {@link Double} or a reference in the same way as {@link
+   * #getValue()}.
+   *
+   * @return the value, or the lower bound, that the failed value was checked against or {@code
+   *     null} if the check has a single operand.
+   */
+  @SideEffectFree
+  public @Nullable Object getBound() {
+    return check.operands < 2 ? null : operand(operandKind, bound, objectBound);
+  }
+
+  /**
+   * Returns the upper bound that the failed value was checked against. This is returned as a
+   * {@link Long}, a {@link Double} or a reference in the same way as {@link #getValue()}.
+   *
+   * @return the upper bound that the failed value was checked against or {@code null} if the check
+   *     doesn't have an upper bound.
+   */
+  @SideEffectFree
+  public @Nullable Object getUpperBound() {
+    return check.operands < 3 ? null : operand(operandKind, upperBound, objectUpperBound);
+  }
+
+  /**
+   * Returns the index of the array element that failed the check or {@code -1} if the value that
+   * failed the check isn't an element of an array.
+   *
+   * @return the index of the array element that failed the check or {@code -1}.
+   */
+  @Pure
+  public int getIndex() {
+    return index;
+  }
+
+  /**
+   * Returns the detail message of this exception. If no custom message was given when this
+   * exception was created, the default message of the failed check is rendered the first time this
+   * method is called and the result is reused afterwards.
+   *
+   * @return the detail message of this exception.
+   */
+  @Override
+  public String getMessage() {
+    String message = this.message;
+    if (isNull(message)) {
+      message = render();
+      this.message = message;
+    }
+    return message;
+  }
+
+  /**
+   * Fills in the execution stack trace unless stack trace capturing is turned off, in which case
+   * this method does nothing.
+   *
+   * @return a reference to this exception.
+   * @see #setStackless(boolean)
+   */
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return stackless ? this : super.fillInStackTrace();
+  }
+
+  /**
+   * Records the index of the array element that failed the check and returns this exception. The
+   * index is included in the default message of the check.
+   *
+   * @param index the index of the array element that failed the check.
+   * @return this exception.
+   */
+  ValidationException atIndex(int index) {
+    this.index = index;
+    return this;
+  }
+
+  // Returns an operand stored as a primitive or as a reference depending on the operand kind
+  @SideEffectFree
+  static @Nullable Object operand(
+      OperandKind operandKind, long primitive, @Nullable Object reference) {
+    switch (operandKind) {
+      case LONG:
+        return primitive;
+      case UNSIGNED_LONG:
+        // 2^63 and above don't fit in a long
+        return primitive >= 0
+            ? primitive
+            : BigInteger.valueOf(primitive & Long.MAX_VALUE).setBit(Long.SIZE - 1);
+      case DOUBLE:
+        return Double.longBitsToDouble(primitive);
+      default:
+        return reference;
+    }
+  }
+
+  @SideEffectFree
+  private String render() {
+    String rendered =
+        render(
+            check,
+            operandKind,
+            value,
+            bound,
+            upperBound,
+            objectValue,
+            objectBound,
+            objectUpperBound);
+    return index < 0 ? rendered : "values[" + index + "]: " + rendered;
+  }
+
+  // Renders the default message of a check from its operands
+  @SuppressWarnings("formatter:format.string") // The templates of the checks are valid
+  @SideEffectFree
+  static String render(
+      Check check,
+      OperandKind operandKind,
+      long value,
+      long bound,
+      long upperBound,
+      @Nullable Object objectValue,
+      @Nullable Object objectBound,
+      @Nullable Object objectUpperBound) {
+    return String.format(
+        check.template,
+        renderOperand(operandKind, value, objectValue),
+        renderOperand(operandKind, bound, objectBound),
+        renderOperand(operandKind, upperBound, objectUpperBound));
+  }
+
+  // References are formatted as they are, so that a java.util.Formattable operand, e.g. an IntSet,
+  // can limit how much of itself it renders
+  @SideEffectFree
+  private static @Nullable Object renderOperand(
+      OperandKind operandKind, long primitive, @Nullable Object reference) {
+    switch (operandKind) {
+      case LONG:
+        return Long.toString(primitive);
+      case UNSIGNED_LONG:
+        return Long.toUnsignedString(primitive);
+      case DOUBLE:
+        return String.format("%f", Double.longBitsToDouble(primitive));
+      default:
+        return reference;
+    }
+  }
+
+  // Writes the values of a set, e.g. an IntSet, to a formatter. At most precision values are
+  // written, followed by the number of values in the set if some were left out, e.g. "[1, 2, ...]
+  // (1000 values)". All the values are written if precision is -1.
+  static void formatValues(
+      Formatter formatter,
+      int flags,
+      int width,
+      int precision,
+      int size,
+      String unit,
+      IntFunction<Object> value) {
+    int count = precision < 0 ? size : Math.min(precision, size);
+    StringBuilder builder = new StringBuilder("[");
+    for (int index = 0; index < count; index++) {
+      builder.append(index == 0 ? "" : ", ").append(value.apply(index));
+    }
+    if (count < size) {
+      builder.append(count == 0 ? "..." : ", ...").append("] (").append(size);
+      builder.append(' ').append(unit).append(')');
+    } else {
+      builder.append(']');
+    }
+    String values = builder.toString();
+    if ((flags & FormattableFlags.UPPERCASE) != 0) {
+      Locale locale = formatter.locale();
+      values = values.toUpperCase(locale == null ? Locale.ROOT : locale);
+    }
+    String padding = " ".repeat(Math.max(0, width - values.length()));
+    boolean leftJustify = (flags & FormattableFlags.LEFT_JUSTIFY) != 0;
+    formatter.format("%s", leftJustify ? values + padding : padding + values);
+  }
+
+  // The reference operands are transient, so make sure the message is rendered before they are lost
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    getMessage();
+    out.defaultWriteObject();
+  }
+
+  /**
+   * The checks performed by the <i>require</i> methods of {@link ObjectUtils} and recorded by
+   * {@link Violations}.
+   *
+   * @since 3.0.0
+   */
+  public enum Check {
+    /** A value was not equal to a base value. */
+    EQUAL_TO(2, "value(%s) should be equal to %s."),
+    /** A value was not greater than a base value. */
+    GREATER_THAN(2, "value(%s) should be greater than %s."),
+    /** A value was not greater than or equal to a base value. */
+    GREATER_THAN_OR_EQUAL_TO(2, "value(%s) should be greater than or equal to %s."),
+    /** A value was not less than a base value. */
+    LESS_THAN(2, "value(%s) should be less than %s."),
+    /** A value was not less than or equal to a base value. */
+    LESS_THAN_OR_EQUAL_TO(2, "value(%s) should be less than or equal to %s."),
+    /** A value was not in the range of a minimum (inclusive) and a maximum (exclusive) value. */
+    IN_RANGE(3, "value(%s) should be more than or equal to %s and less than %s."),
+    /**
+     * A value was not one of a set of values. The bound of the check is the set, of which only the
+     * first 8 values are included in the default message.
+     */
+    ONE_OF(2, "value(%s) should be one of %.8s."),
+    /**
+     * A value was not in any of a set of ranges. The bound of the check is the set, of which only
+     * the first 8 ranges are included in the default message.
+     */
+    IN_ANY_RANGE(2, "value(%s) should be in one of the ranges %.8s."),
+    /** A value was negative. */
+    NON_NEGATIVE(1, "value cannot be negative."),
+    /** A time was after the current time of a clock. */
+    NOT_IN_FUTURE(2, "value(%s) should not be after the current time(%s)."),
+    /** A time was after the current time of a clock or more than a period before it. */
+    WITHIN_LAST(3, "value(%s) should not be after the current time(%s) or more than %s before it."),
+    /**
+     * A {@code BigDecimal} did not fit in a SQL {@code NUMERIC(precision, scale)} column without
+     * rounding.
+     */
+    FITS_NUMERIC(3, "value(%s) must fit in NUMERIC(%s, %s) without rounding."),
+    /** A value was not serializable. */
+    SERIALIZABLE(1, "%s must be serializable."),
+    /**
+     * The length of a {@code String} was not in the range of a minimum (inclusive) and a maximum
+     * (exclusive) number of characters.
+     */
+    CHARS_IN_RANGE(
+        3, "The length of value(%s) must be greater than or equal to %s and less than %s."),
+    /** The length of a {@code String} was not less than a maximum number of characters. */
+    LESS_THAN_CHARS(2, "value's length (%s) must be less than %s."),
+    /** The length of a {@code String} was not greater than a minimum number of characters. */
+    MORE_THAN_CHARS(2, "value's length (%s) must be greater than %s."),
+    /**
+     * The number of code points of a {@code String} was not in the range of a minimum (inclusive)
+     * and a maximum (exclusive) number of code points.
+     */
+    CODE_POINTS_IN_RANGE(
+        3,
+        "The length of value(%s code points) must be greater than or equal to %s and less than"
+            + " %s."),
+    /** The number of code points of a {@code String} was not less than a maximum. */
+    LESS_THAN_CODE_POINTS(2, "value's length (%s code points) must be less than %s."),
+    /** The number of code points of a {@code String} was not greater than a minimum. */
+    MORE_THAN_CODE_POINTS(2, "value's length (%s code points) must be greater than %s."),
+    /** A {@code String} was empty. */
+    NON_EMPTY(1, "value cannot be empty."),
+    /** A value was {@code null}. */
+    NON_NULL(1, "value cannot be null."),
+    /**
+     * The serialized form of a value was larger than a maximum number of bytes. The value of the
+     * check is the number of bytes written before the serialization was aborted.
+     */
+    SERIALIZED_SIZE_AT_MOST(2, "value's serialized size must be at most %2$s bytes."),
+    /**
+     * The UTF-8 encoded length of a value was not in the range of a minimum (inclusive) and a
+     * maximum (exclusive) number of bytes. The value of the check is the number of bytes counted
+     * before the check stopped.
+     */
+    UTF8_BYTES_IN_RANGE(
+        3, "value's UTF-8 length must be greater than or equal to %2$s and less than %3$s bytes."),
+    /**
+     * The UTF-8 encoded length of a value was greater than a maximum number of bytes. The value of
+     * the check is the number of bytes counted before the check stopped.
+     */
+    UTF8_BYTES_AT_MOST(2, "value's UTF-8 length must be at most %2$s bytes.");
+
+    /* The number of operands of the check. */
+    final int operands;
+
+    /* The format string of the default message. */
+    final String template;
+
+    Check(int operands, String template) {
+      this.operands = operands;
+      this.template = template;
+    }
+  }
+
+  /* How the operands of a check are stored. */
+  enum OperandKind {
+    LONG,
+    UNSIGNED_LONG,
+    DOUBLE,
+    OBJECT
+  }
+}
@@ -0,0 +1,921 @@
+package io.github.kennedykori.utils;
+
+import static java.util.Objects.checkIndex;
+import static java.util.Objects.isNull;
+
+import io.github.kennedykori.utils.ValidationException.Check;
+import io.github.kennedykori.utils.ValidationException.OperandKind;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.dataflow.qual.Pure;
+import org.checkerframework.dataflow.qual.SideEffectFree;
+
+/**
+ * Records the checks that failed on a group of values, e.g. the fields of a record, instead of
+ * throwing on the first failure like the <i>require</i> methods of {@link ObjectUtils}. The check
+ * methods use the same vocabulary, and the same semantics, as the methods of {@code ObjectUtils}
+ * but take the name of the checked value as their first argument and return this {@code
+ * Violations} so that they can be chained:
+ *
+ * <pre>{@code
+ * Violations violations =
+ *     Violations.local()
+ *         .inRange("age", 18, 36, age)
+ *         .charsInRange("firstName", 2, 31, firstName)
+ *         .nonNegative("balance", balance);
+ * if (!violations.isEmpty()) {
+ *   return badRequest(violations.getMessages());
+ * }
+ * }</pre>
+ *
+ * <p>A violation is recorded as the {@link Check check} that failed together with the primitive or
+ * reference operands of the check, exactly like a {@link ValidationException}, and its message is
+ * only rendered when {@link #getMessage(int)} or {@link #getMessages()} is called. The recorded
+ * violations are kept in arrays that only grow when more violations are recorded than ever before,
+ * so once a {@code Violations} is warmed up, checking values and recording violations doesn't
+ * allocate. A {@code Violations} can be {@link #reset() reset} and reused, and {@link #local()}
+ * returns an instance that is reused by all the validations run on the calling thread.
+ *
+ * <p>Invalid arguments to a check, e.g. a maximum value less than the minimum value of a range, are
+ * programming errors rather than violations and are reported by throwing the same exceptions as
+ * {@code ObjectUtils}. Instances of this class are not safe for use by multiple threads.
+ *
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * @see ObjectUtils
+ * @see ValidationException
+ * @since 3.0.0
+ */
+public final class Violations {
+
+  /* The number of violations that can be recorded before the arrays have to grow. */
+  private static final int INITIAL_CAPACITY = 8;
+
+  /* The checks, indexed by their ordinal. */
+  private static final Check[] CHECKS = Check.values();
+
+  /* The operand kinds, indexed by their ordinal. */
+  private static final OperandKind[] OPERAND_KINDS = OperandKind.values();
+
+  /* The instances reused by the validations run on each thread. */
+  private static final ThreadLocal<Violations> LOCAL = ThreadLocal.withInitial(Violations::new);
+
+  /* The names of the values that failed a check. */
+  private @Nullable String[] names;
+
+  /* The ordinals of the checks that failed. */
+  private byte[] checks;
+
+  /* The ordinals of the operand kinds of the checks that failed. */
+  private byte[] operandKinds;
+
+  /*
+   * The primitive operands of the checks that failed, three per violation. A double is stored
+   * using its raw bits.
+   */
+  private long[] operands;
+
+  /* The reference operands of the checks that failed, three per violation. */
+  private @Nullable Object[] objectOperands;
+
+  /* The number of recorded violations. */
+  private int size;
+
+  /** Creates a new {@code Violations} with no recorded violations. */
+  @SideEffectFree
+  public Violations() {
+    names = new String[INITIAL_CAPACITY];
+    checks = new byte[INITIAL_CAPACITY];
+    operandKinds = new byte[INITIAL_CAPACITY];
+    operands = new long[INITIAL_CAPACITY * 3];
+    objectOperands = new Object[INITIAL_CAPACITY * 3];
+  }
+
+  /**
+   * Returns the {@code Violations} of the calling thread after {@link #reset() resetting} it. The
+   * same instance is returned every time this method is called on the same thread, so the returned
+   * instance must not be used after this method is called again on the same thread, e.g. by a
+   * nested validation.
+   *
+   * @return the {@code Violations} of the calling thread with no recorded violations.
+   */
+  public static Violations local() {
+    return LOCAL.get().reset();
+  }
+
+  /**
+   * Removes all the recorded violations and returns this {@code Violations}.
+   *
+   * @return this {@code Violations}.
+   */
+  public Violations reset() {
+    // Drop the references to the checked values so that they can be garbage collected
+    Arrays.fill(names, 0, size, null);
+    Arrays.fill(objectOperands, 0, size * 3, null);
+    size = 0;
+    return this;
+  }
+
+  /**
+   * Returns the number of recorded violations.
+   *
+   * @return the number of recorded violations.
+   */
+  @Pure
+  public @NonNegative int size() {
+    return size;
+  }
+
+  /**
+   * Returns {@code true} if no violations have been recorded, {@code false} otherwise.
+   *
+   * @return {@code true} if no violations have been recorded, {@code false} otherwise.
+   */
+  @Pure
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns the name of the value of the violation at the specified index. Violations are indexed
+   * in the order in which they were recorded.
+   *
+   * @param index the index of the violation.
+   * @return the name of the value of the violation.
+   * @throws IndexOutOfBoundsException if {@code index} is negative or not less than {@link
+   *     #size()}.
+   */
+  @SuppressWarnings("nullness:return") // The names of the recorded violations aren't null
+  @Pure
+  public String getName(int index) {
+    return names[checkIndex(index, size)];
+  }
+
+  /**
+   * Returns the check of the violation at the specified index.
+   *
+   * @param index the index of the violation.
+   * @return the check that failed.
+   * @throws IndexOutOfBoundsException if {@code index} is negative or not less than {@link
+   *     #size()}.
+   */
+  @Pure
+  public Check getCheck(int index) {
+    return CHECKS[checks[checkIndex(index, size)]];
+  }
+
+  /**
+   * Returns the value that failed the check of the violation at the specified index. This is
+   * returned as a {@link Long}, a {@link Double} or a reference in the same way as {@link
+   * ValidationException#getValue()}.
+   *
+   * @param index the index of the violation.
+   * @return the value that failed the check.
+   * @throws IndexOutOfBoundsException if {@code index} is negative or not less than {@link
+   *     #size()}.
+   */
+  @SideEffectFree
+  public @Nullable Object getValue(int index) {
+    return operand(checkIndex(index, size), 0);
+  }
+
+  /**
+   * Returns the value, or the lower bound, that the failed value of the violation at the specified
+   * index was checked against. This is returned in the same way as {@link
+   * ValidationException#getBound()}.
+   *
+   * @param index the index of the violation.
+   * @return the value, or the lower bound, that the failed value was checked against or {@code
+   *     null} if the check has a single operand.
+   * @throws IndexOutOfBoundsException if {@code index} is negative or not less than {@link
+   *     #size()}.
+   */
+  @SideEffectFree
+  public @Nullable Object getBound(int index) {
+    return getCheck(index).operands < 2 ? null : operand(index, 1);
+  }
+
+  /**
+   * Returns the upper bound that the failed value of the violation at the specified index was
+   * checked against. This is returned in the same way as {@link
+   * ValidationException#getUpperBound()}.
+   *
+   * @param index the index of the violation.
+   * @return the upper bound that the failed value was checked against or {@code null} if the check
+   *     doesn't have an upper bound.
+   * @throws IndexOutOfBoundsException if {@code index} is negative or not less than {@link
+   *     #size()}.
+   */
+  @SideEffectFree
+  public @Nullable Object getUpperBound(int index) {
+    return getCheck(index).operands < 3 ? null : operand(index, 2);
+  }
+
+  /**
+   * Renders and returns the message of the violation at the specified index. The message is the
+   * name of the value followed by the default message of the failed check, e.g. {@code "age:
+   * value(17) should be more than or equal to 18 and less than 36."}.
+   *
+   * @param index the index of the violation.
+   * @return the message of the violation.
+   * @throws IndexOutOfBoundsException if {@code index} is negative or not less than {@link
+   *     #size()}.
+   */
+  @SideEffectFree
+  public String getMessage(int index) {
+    checkIndex(index, size);
+    int offset = index * 3;
+    return names[index]
+        + ": "
+        + ValidationException.render(
+            CHECKS[checks[index]],
+            OPERAND_KINDS[operandKinds[index]],
+            operands[offset],
+            operands[offset + 1],
+            operands[offset + 2],
+            objectOperands[offset],
+            objectOperands[offset + 1],
+            objectOperands[offset + 2]);
+  }
+
+  /**
+   * Renders and returns the messages of all the recorded violations in the order in which they
+   * were recorded.
+   *
+   * @return the messages of all the recorded violations.
+   * @see #getMessage(int)
+   */
+  @SideEffectFree
+  public List<String> getMessages() {
+    List<String> messages = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      messages.add(getMessage(i));
+    }
+    return messages;
+  }
+
+  /**
+   * Returns a new {@link ValidationException} for the violation at the specified index. The
+   * message of the exception is the message of the violation.
+   *
+   * @param index the index of the violation.
+   * @return a new {@code ValidationException} for the violation.
+   * @throws IndexOutOfBoundsException if {@code index} is negative or not less than {@link
+   *     #size()}.
+   * @see #getMessage(int)
+   */
+  @SideEffectFree
+  public ValidationException toException(int index) {
+    String message = getMessage(index);
+    int offset = index * 3;
+    return new ValidationException(
+        CHECKS[checks[index]],
+        OPERAND_KINDS[operandKinds[index]],
+        operands[offset],
+        operands[offset + 1],
+        operands[offset + 2],
+        objectOperands[offset],
+        objectOperands[offset + 1],
+        objectOperands[offset + 2],
+        message);
+  }
+
+  /**
+   * Returns this {@code Violations} if no violations have been recorded. Otherwise, the {@link
+   * ValidationException} of the first violation is thrown with the exceptions of the other
+   * violations added to it as {@link Throwable#getSuppressed() suppressed} exceptions.
+   *
+   * @return this {@code Violations} if no violations have been recorded.
+   * @throws ValidationException if any violations have been recorded.
+   * @see #toException(int)
+   */
+  public Violations throwIfAny() {
+    if (size == 0) {
+      return this;
+    }
+    ValidationException exception = toException(0);
+    for (int i = 1; i < size; i++) {
+      exception.addSuppressed(toException(i));
+    }
+    throw exception;
+  }
+
+  // ========================================================================
+  // EQUAL TO CHECKS
+  // ========================================================================
+
+  /**
+   * Checks that the specified {@code long} is equal to {@code baseValue} and records a {@link
+   * Check#EQUAL_TO} violation for {@code name} if it isn't.
+   *
+   * @param name the name of the checked value, e.g. the name of a field.
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check.
+   * @return this {@code Violations}.
+   * @see ObjectUtils#isEqualTo(long, long)
+   */
+  public Violations equalTo(String name, long baseValue, long value) {
+    if (!ObjectUtils.isEqualTo(baseValue, value)) {
+      record(name, Check.EQUAL_TO, value, baseValue, 0L);
+    }
+    return this;
+  }
+
+  /**
+   * Checks that the specified {@code double} is equal to {@code baseValue} and records a {@link
+   * Check#EQUAL_TO} violation for {@code name} if it isn't. The values are compared using the same
+   * semantics as {@link ObjectUtils#isEqualTo(double, double)}.
+   *
+   * @param name the name of the checked value, e.g. the name of a field.
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check.
+   * @return this {@code Violations}.
+   * @see ObjectUtils#isEqualTo(double, double)
+   */
+  public Violations equalTo(String name, double baseValue, double value) {
+    if (!ObjectUtils.isEqualTo(baseValue, value)) {
+      record(name, Check.EQUAL_TO, value, baseValue, 0D);
+    }
+    return this;
+  }
+
+  /**
+   * Checks that the specified {@link BigDecimal} is equal to {@code baseValue} and records a {@link
+   * Check#EQUAL_TO} violation for {@code name} if it isn't.
+   *
+   * @param name the name of the checked value, e.g. the name of a field.
+   * @param baseValue the value to compare for equality to.
+   * @param value the value to check.
+   * @return this {@code Violations}.
+   * @throws NullPointerException if {@code baseValue} or {@code value} is {@code null}.
+   * @see ObjectUtils#isEqualTo(BigDecimal, BigDecimal)
+   */
+  public Violations equalTo(String name, BigDecimal baseValue, BigDecimal value) {
+    if (!ObjectUtils.isEqualTo(baseValue, value)) {
+      record(name, Check.EQUAL_TO, value, baseValue, null);
+    }
+    return this;
+  }
+
+  // ========================================================================
+  // GREATER THAN CHECKS
+  // ========================================================================
+
+  /**
+   * Checks that the specified {@code long} is greater than {@code baseValue} and records a {@link
+   * Check#GREATER_THAN} violation for {@code name} if it isn't.
+   *
+   * @param name the name of the checked value, e.g. the name of a field.
+   * @param baseValue the value to compare against.
+   * @param value the value to check.
+   * @return this {@code Violations}.
+   * @see ObjectUtils#isGreaterThan(long, long)
+   */
+  public Violations greaterThan(String name, long baseValue, long value) {
+    if (!ObjectUtils.isGreaterThan(baseValue, value)) {
+      record(name, Check.GREATER_THAN, value, baseValue, 0L);
+    }
+    return this;
+  }
+
+  /**
+   * Checks that the specified {@code double} is greater than {@code baseValue} and records a {@link
+   * Check#GREATER_THAN} violation for {@code name} if it isn't. The values are compared using the
+   * same semantics as {@link ObjectUtils#isGreaterThan(double, double)}.
+   *
+   * @param name the name of the checked value, e.g. the name of a field.
+   * @param baseValue the value to compare against.
+   * @param value the value to check.
+   * @return this {@code Violations}.
+   * @see ObjectUtils#isGreaterThan(double, double)
+   */
+  public Violations greaterThan(String name, double baseValue, double value) {
+    if (!ObjectUtils.isGreaterThan(baseValue, value)) {
+      record(name, Check.GREATER_THAN, value, baseValue, 0D);
+    }
+    return this;
+  }
+
+  /**
+   * Checks that the specified {@link BigDecimal} is greater than {@code baseValue} and records a
+   * {@link Check#GREATER_THAN} violation for {@code name} if it isn't.
+   *
+   * @param name the name of the checked value, e.g. the name of a field.
+   * @param baseValue the value to compare against.
+   * @param value the value to check.
+   * @return this {@code Violations}.
+   * @throws NullPointerException if {@code baseValue} or {@code value} is {@code null}.
+   * @see ObjectUtils#isGreaterThan(BigDecimal, BigDecimal)
+   */
+  public Violations greaterThan(String name, BigDecimal baseValue, BigDecimal value) {
+    if (!ObjectUtils.isGreaterThan(baseValue, value)) {
+      record(name, Check.GREATER_THAN, value, baseValue, null);
+    }
+    return this;
+  }
+
+  // ========================================================================
+  // GREATER THAN OR EQUAL TO CHECKS
+  // ========================================================================
+
+  /**
+   * Checks that the specified {@code long} is greater than or equal to {@code baseValue} and
+   * records a {@link Check#GREATER_THAN_OR_EQUAL_TO} violation for {@code name} if it isn't.
+   *
+   * @param name the name of the checked value, e.g. the name of a field.
+   * @param baseValue the value to compare against.
+   * @param value the value to check.
+   * @return this {@code Violations}.
+   * @see ObjectUtils#isGreaterThanOrEqualTo(long, long)
+   */
+  public Violations greaterThanOrEqualTo(String name, long baseValue, long value) {
+    if (!ObjectUtils.isGreaterThanOrEqualTo(baseValue, value)) {
+      record(name, Check.GREATER_THAN_OR_EQUAL_TO, value, baseValue, 0L);
+    }
+    return this;
+  }
+
+  /**
+   * Checks that the specified {@code double} is greater than or equal to {@code baseValue} and
+   * records a {@link Check#GREATER_THAN_OR_EQUAL_TO} violation for {@code name} if it isn't. The
+   * values are compared using the same semantics as {@link
+   * ObjectUtils#isGreaterThanOrEqualTo(double, double)}.
+   *
+   * @param name the name of the checked value, e.g. the name of a field.
+   * @param baseValue the value to compare against.
+   * @param value the value to check.
+   * @return this {@code Violations}.
+   * @see ObjectUtils#isGreaterThanOrEqualTo(double, double)
+   */
+  public Violations greaterThanOrEqualTo(String name, double baseValue, double value) {
+    if (!ObjectUtils.isGreaterThanOrEqualTo(baseValue, value)) {
+      record(name, Check.GREATER_THAN_OR_EQUAL_TO, value, baseValue, 0D);
+    }
+    return this;
+  }
+
+  /**
+   * Checks that the specified {@link BigDecimal} is greater than or equal to {@code baseValue} and
+   * records a {@link Check#GREATER_THAN_OR_EQUAL_TO} violation for {@code name} if it isn't.
+   *
+   * @param name the name of the checked value, e.g. the name of a field.
+   * @param baseValue the value to compare against.
+   * @param value the value to check.
+   * @return this {@code Violations}.
+   * @throws NullPointerException if {@code baseValue} or {@code value} is {@code null}.
+   * @see ObjectUtils#isGreaterThanOrEqualTo(BigDecimal, BigDecimal)
+   */
+  public Violations greaterThanOrEqualTo(String name, BigDecimal baseValue, BigDecimal value) {
+    if (!ObjectUtils.isGreaterThanOrEqualTo(baseValue, value)) {
+      record(name, Check.GREATER_THAN_OR_EQUAL_TO, value, baseValue, null);
+    }
+    return this;
+  }
+
+  // ========================================================================
+  // LESS THAN CHECKS
+  // ========================================================================
+
+  /**
+   * Checks that the specified {@code long} is less than {@code baseValue} and records a {@link
+   * Check#LESS_THAN} violation for {@code name} if it isn't.
+   *
+   * @param name the name of the checked value, e.g. the name of a field.
+   * @param baseValue the value to compare against.
+   * @param value the value to check.
+   * @return this {@code Violations}.
+   * @see ObjectUtils#isLessThan(long, long)
+   */
+  public Violations lessThan(String name, long baseValue, long value) {
+    if (!ObjectUtils.isLessThan(baseValue, value)) {
+      record(name, Check.LESS_THAN, value, baseValue, 0L);
+    }
+    return this;
+  }
+
+  /**
+   * Checks that the specified {@code double} is less than {@code baseValue} and records a {@link
+   * Check#LESS_THAN} violation for {@code name} if it isn't. The values are compared using the same
+   * semantics as {@link ObjectUtils#isLessThan(double, double)}.
+   *
+   * @param name the name of the checked value, e.g. the name of a field.
+   * @param baseValue the value to compare against.
+   * @param value the value to check.
+   * @return this {@code Violations}.
+   * @see ObjectUtils#isLessThan(double, double)
+   */
+  public Violations lessThan(String name, double baseValue, double value) {
+    if (!ObjectUtils.isLessThan(baseValue, value)) {
+      record(name, Check.LESS_THAN, value, baseValue, 0D);
+    }
+    return this;
+  }
+
+  /**
+   * Checks that the specified {@link BigDecimal} is less than {@code baseValue} and records a
+   * {@link Check#LESS_THAN} violation for {@code name} if it isn't.
+   *
+   * @param name the name of the checked value, e.g. the name of a field.
+   * @param baseValue the value to compare against.
+   * @param value the value to check.
+   * @return this {@code Violations}.
+   * @throws NullPointerException if {@code baseValue} or {@code value} is {@code null}.
+   * @see ObjectUtils#isLessThan(BigDecimal, BigDecimal)
+   */
+  public Violations lessThan(String name, BigDecimal baseValue, BigDecimal value) {
+    if (!ObjectUtils.isLessThan(baseValue, value)) {
+      record(name, Check.LESS_THAN, value, baseValue, null);
+    }
+    return this;
+  }
+
+  // ========================================================================
+  // LESS THAN OR EQUAL TO CHECKS
+  // ========================================================================
+
+  /**
+   * Checks that the specified {@code long} is less than or equal to {@code baseValue} and records a
+   * {@link Check#LESS_THAN_OR_EQUAL_TO} violation for {@code name} if it isn't.
+   *
+   * @param name the name of the checked value, e.g. the name of a field.
+   * @param baseValue the value to compare against.
+   * @param value the value to check.
+   * @return this {@code Violations}.
+   * @see ObjectUtils#isLessThanOrEqualTo(long, long)
+   */
+  public Violations lessThanOrEqualTo(String name, long baseValue, long value) {
+    if (!ObjectUtils.isLessThanOrEqualTo(baseValue, value)) {
+      record(name, Check.LESS_THAN_OR_EQUAL_TO, value, baseValue, 0L);
+    }
+    return this;
+  }
+
+  /**
+   * Checks that the specified {@code double} is less than or equal to {@code baseValue} and records
+   * a {@link Check#LESS_THAN_OR_EQUAL_TO} violation for {@code name} if it isn't. The values are
+   * compared using the same semantics as {@link ObjectUtils#isLessThanOrEqualTo(double, double)}.
+   *
+   * @param name the name of the checked value, e.g. the name of a field.
+   * @param baseValue the value to compare against.
+   * @param value the value to check.
+   * @return this {@code Violations}.
+   * @see ObjectUtils#isLessThanOrEqualTo(double, double)
+   */
+  public Violations lessThanOrEqualTo(String name, double baseValue, double value) {
+    if (!ObjectUtils.isLessThanOrEqualTo(baseValue, value)) {
+      record(name, Check.LESS_THAN_OR_EQUAL_TO, value, baseValue, 0D);
+    }
+    return this;
+  }
+
+  /**
+   * Checks that the specified {@link BigDecimal} is less than or equal to {@code baseValue} and
+   * records a {@link Check#LESS_THAN_OR_EQUAL_TO} violation for {@code name} if it isn't.
+   *
+   * @param name the name of the checked value, e.g. the name of a field.
+   * @param baseValue the value to compare against.
+   * @param value the value to check.
+   * @return this {@code Violations}.
+   * @throws NullPointerException if {@code baseValue} or {@code value} is {@code null}.
+   * @see ObjectUtils#isLessThanOrEqualTo(BigDecimal, BigDecimal)
+   */
+  public Violations lessThanOrEqualTo(String name, BigDecimal baseValue, BigDecimal value) {
+    if (!ObjectUtils.isLessThanOrEqualTo(baseValue, value)) {
+      record(name, Check.LESS_THAN_OR_EQUAL_TO, value, baseValue, null);
+    }
+    return this;
+  }
+
+  // ========================================================================
+  // IN RANGE CHECKS
+  // ========================================================================
+
+  /**
+   * Checks that the specified {@code long} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i> and
+   * records a {@link Check#IN_RANGE} violation for {@code name} if it isn't. An {@link
+   * IllegalArgumentException} is thrown, and nothing is recorded, if the maximum value is less than
+   * the minimum value.
+   *
+   * @param name the name of the checked value, e.g. the name of a field.
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the value to check.
+   * @return this {@code Violations}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   * @see ObjectUtils#inRange(long, long, long)
+   */
+  public Violations inRange(String name, long minValue, long maxValue, long value) {
+    if (!ObjectUtils.inRange(minValue, maxValue, value)) {
+      record(name, Check.IN_RANGE, value, minValue, maxValue);
+    }
+    return this;
+  }
+
+  /**
+   * Checks that the specified {@code double} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i> and
+   * records a {@link Check#IN_RANGE} violation for {@code name} if it isn't. An {@link
+   * IllegalArgumentException} is thrown, and nothing is recorded, if the maximum value is less than
+   * the minimum value.
+   *
+   * @param name the name of the checked value, e.g. the name of a field.
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the value to check.
+   * @return this {@code Violations}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   * @see ObjectUtils#inRange(double, double, double)
+   */
+  public Violations inRange(String name, double minValue, double maxValue, double value) {
+    if (!ObjectUtils.inRange(minValue, maxValue, value)) {
+      record(name, Check.IN_RANGE, value, minValue, maxValue);
+    }
+    return this;
+  }
+
+  /**
+   * Checks that the specified {@link BigDecimal} is in range of the specified minimum value
+   * <i><strong>(inclusive)</strong></i> and maximum value <i><strong>(exclusive)</strong></i> and
+   * records a {@link Check#IN_RANGE} violation for {@code name} if it isn't. An {@link
+   * IllegalArgumentException} is thrown, and nothing is recorded, if the maximum value is less than
+   * the minimum value.
+   *
+   * @param name the name of the checked value, e.g. the name of a field.
+   * @param minValue the minimum value<i><strong>(inclusive)</strong></i> of the range.
+   * @param maxValue the maximum value<i><strong>(exclusive)</strong></i> of the range.
+   * @param value the value to check.
+   * @return this {@code Violations}.
+   * @throws NullPointerException if any of the values is {@code null}.
+   * @throws IllegalArgumentException if {@code maxValue} is less than {@code minValue}.
+   * @see ObjectUtils#inRange(BigDecimal, BigDecimal, BigDecimal)
+   */
+  public Violations inRange(
+      String name, BigDecimal minValue, BigDecimal maxValue, BigDecimal value) {
+    if (!ObjectUtils.inRange(minValue, maxValue, value)) {
+      record(name, Check.IN_RANGE, value, minValue, maxValue);
+    }
+    return this;
+  }
+
+  // ========================================================================
+  // NON NEGATIVE CHECKS
+  // ========================================================================
+
+  /**
+   * Checks that the specified {@code long} is not negative, i.e. less than zero, and records a
+   * {@link Check#NON_NEGATIVE} violation for {@code name} if it is.
+   *
+   * @param name the name of the checked value, e.g. the name of a field.
+   * @param value the value to check.
+   * @return this {@code Violations}.
+   * @see ObjectUtils#isNegative(long)
+   */
+  public Violations nonNegative(String name, long value) {
+    if (ObjectUtils.isNegative(value)) {
+      record(name, Check.NON_NEGATIVE, value, 0L, 0L);
+    }
+    return this;
+  }
+
+  /**
+   * Checks that the specified {@code double} is not negative, i.e. less than zero, and records a
+   * {@link Check#NON_NEGATIVE} violation for {@code name} if it is.
+   *
+   * @param name the name of the checked value, e.g. the name of a field.
+   * @param value the value to check.
+   * @return this {@code Violations}.
+   * @see ObjectUtils#isNegative(double)
+   */
+  public Violations nonNegative(String name, double value) {
+    if (ObjectUtils.isNegative(value)) {
+      record(name, Check.NON_NEGATIVE, value, 0D, 0D);
+    }
+    return this;
+  }
+
+  /**
+   * Checks that the specified {@link BigDecimal} is not negative, i.e. less than zero, and records
+   * a {@link Check#NON_NEGATIVE} violation for {@code name} if it is.
+   *
+   * @param name the name of the checked value, e.g. the name of a field.
+   * @param value the value to check.
+   * @return this {@code Violations}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @see ObjectUtils#isNegative(BigDecimal)
+   */
+  public Violations nonNegative(String name, BigDecimal value) {
+    if (ObjectUtils.isNegative(value)) {
+      record(name, Check.NON_NEGATIVE, value, null, null);
+    }
+    return this;
+  }
+
+  /**
+   * Checks that the specified {@link BigDecimal} can be stored in a SQL {@code NUMERIC(precision,
+   * scale)} column without rounding and records a {@link Check#FITS_NUMERIC} violation for {@code
+   * name} if it can't. An {@link IllegalArgumentException} is thrown, and nothing is recorded, if
+   * {@code precision} is less than one or if {@code scale} is negative or greater than {@code
+   * precision}.
+   *
+   * @param name the name of the checked value, e.g. the name of a field.
+   * @param precision the precision of the column, i.e. its total number of digits.
+   * @param scale the scale of the column, i.e. its number of digits to the right of the decimal
+   *     point.
+   * @param value the value to check.
+   * @return this {@code Violations}.
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws IllegalArgumentException if {@code precision} is less than one or if {@code scale} is
+   *     negative or greater than {@code precision}.
+   * @see ObjectUtils#fitsNumeric(int, int, BigDecimal)
+   */
+  public Violations fitsNumeric(String name, int precision, int scale, BigDecimal value) {
+    if (!ObjectUtils.fitsNumeric(precision, scale, value)) {
+      record(name, Check.FITS_NUMERIC, value, precision, scale);
+    }
+    return this;
+  }
+
+  // ========================================================================
+  // STRING AND OBJECT CHECKS
+  // ========================================================================
+
+  /**
+   * Checks that the specified {@code String} has characters between the specified minimum chars
+   * <i><strong>(inclusive)</strong></i> and maximum chars <i><strong>(exclusive)</strong></i> and
+   * records a {@link Check#CHARS_IN_RANGE} violation for {@code name} if it doesn't. A {@link
+   * Check#NON_NULL} violation is recorded if {@code value} is {@code null}.
+   *
+   * @param name the name of the checked value, e.g. the name of a field.
+   * @param minChars the minimum number of characters <i><strong>(inclusive)</strong></i>.
+   * @param maxChars the maximum number of characters <i><strong>(exclusive)</strong></i>.
+   * @param value the {@code String} to check.
+   * @return this {@code Violations}.
+   * @throws IllegalArgumentException if {@code minChars} or {@code maxChars} is negative or if
+   *     {@code maxChars} is less than or equal to {@code minChars}.
+   * @see ObjectUtils#hasCharsInRange(int, int, String)
+   */
+  public Violations charsInRange(
+      String name, @NonNegative int minChars, @NonNegative int maxChars, @Nullable String value) {
+    if (isNull(value)) {
+      return nonNull(name, value);
+    }
+    if (!ObjectUtils.hasCharsInRange(minChars, maxChars, value)) {
+      record(name, Check.CHARS_IN_RANGE, value.length(), minChars, maxChars);
+    }
+    return this;
+  }
+
+  /**
+   * Checks that the specified {@code String} has fewer characters than the specified maximum chars
+   * <i><strong>(exclusive)</strong></i> and records a {@link Check#LESS_THAN_CHARS} violation for
+   * {@code name} if it doesn't. A {@link Check#NON_NULL} violation is recorded if {@code value} is
+   * {@code null}.
+   *
+   * @param name the name of the checked value, e.g. the name of a field.
+   * @param maxChars the maximum number of characters <i><strong>(exclusive)</strong></i>.
+   * @param value the {@code String} to check.
+   * @return this {@code Violations}.
+   * @throws IllegalArgumentException if {@code maxChars} is negative.
+   * @see ObjectUtils#hasLessThanChars(int, String)
+   */
+  public Violations lessThanChars(String name, @NonNegative int maxChars, @Nullable String value) {
+    if (isNull(value)) {
+      return nonNull(name, value);
+    }
+    if (!ObjectUtils.hasLessThanChars(maxChars, value)) {
+      record(name, Check.LESS_THAN_CHARS, value.length(), maxChars, 0L);
+    }
+    return this;
+  }
+
+  /**
+   * Checks that the specified {@code String} has more characters than the specified minimum chars
+   * and records a {@link Check#MORE_THAN_CHARS} violation for {@code name} if it doesn't. A {@link
+   * Check#NON_NULL} violation is recorded if {@code value} is {@code null}.
+   *
+   * @param name the name of the checked value, e.g. the name of a field.
+   * @param minChars the minimum number of characters.
+   * @param value the {@code String} to check.
+   * @return this {@code Violations}.
+   * @throws IllegalArgumentException if {@code minChars} is negative.
+   * @see ObjectUtils#hasMoreThanChars(int, String)
+   */
+  public Violations moreThanChars(String name, @NonNegative int minChars, @Nullable String value) {
+    if (isNull(value)) {
+      return nonNull(name, value);
+    }
+    if (!ObjectUtils.hasMoreThanChars(minChars, value)) {
+      record(name, Check.MORE_THAN_CHARS, value.length(), minChars, 0L);
+    }
+    return this;
+  }
+
+  /**
+   * Checks that the specified {@code String} is not empty and records a {@link Check#NON_EMPTY}
+   * violation for {@code name} if it is. A {@link Check#NON_NULL} violation is recorded if {@code
+   * value} is {@code null}.
+   *
+   * @param name the name of the checked value, e.g. the name of a field.
+   * @param value the {@code String} to check.
+   * @return this {@code Violations}.
+   * @see ObjectUtils#requireNonEmptyString(String, String)
+   */
+  public Violations nonEmptyString(String name, @Nullable String value) {
+    if (isNull(value)) {
+      return nonNull(name, value);
+    }
+    if (value.isEmpty()) {
+      record(name, Check.NON_EMPTY, 0L, 0L, 0L);
+    }
+    return this;
+  }
+
+  /**
+   * Checks that the specified value is not {@code null} and records a {@link Check#NON_NULL}
+   * violation for {@code name} if it is.
+   *
+   * @param name the name of the checked value, e.g. the name of a field.
+   * @param value the value to check.
+   * @return this {@code Violations}.
+   */
+  public Violations nonNull(String name, @Nullable Object value) {
+    if (isNull(value)) {
+      record(name, Check.NON_NULL, null, null, null);
+    }
+    return this;
+  }
+
+  /**
+   * Checks that the specified value is serializable, i.e. implements the {@link
+   * java.io.Serializable} interface, and records a {@link Check#SERIALIZABLE} violation for {@code
+   * name} if it isn't.
+   *
+   * @param name the name of the checked value, e.g. the name of a field.
+   * @param value the value to check.
+   * @return this {@code Violations}.
+   * @see ObjectUtils#isSerializable(Object)
+   */
+  public Violations serializable(String name, @Nullable Object value) {
+    if (!ObjectUtils.isSerializable(value)) {
+      record(name, Check.SERIALIZABLE, value, null, null);
+    }
+    return this;
+  }
+
+  // ========================================================================
+  // HELPERS
+  // ========================================================================
+
+  private void record(String name, Check check, long value, long bound, long upperBound) {
+    int offset = next(name, check, OperandKind.LONG) * 3;
+    operands[offset] = value;
+    operands[offset + 1] = bound;
+    operands[offset + 2] = upperBound;
+  }
+
+  private void record(String name, Check check, double value, double bound, double upperBound) {
+    int offset = next(name, check, OperandKind.DOUBLE) * 3;
+    operands[offset] = Double.doubleToRawLongBits(value);
+    operands[offset + 1] = Double.doubleToRawLongBits(bound);
+    operands[offset + 2] = Double.doubleToRawLongBits(upperBound);
+  }
+
+  private void record(
+      String name,
+      Check check,
+      @Nullable Object value,
+      @Nullable Object bound,
+      @Nullable Object upperBound) {
+    int offset = next(name, check, OperandKind.OBJECT) * 3;
+    objectOperands[offset] = value;
+    objectOperands[offset + 1] = bound;
+    objectOperands[offset + 2] = upperBound;
+  }
+
+  // Records the name and check of a new violation and returns its index
+  private int next(String name, Check check, OperandKind operandKind) {
+    if (size == checks.length) {
+      int capacity = size * 2;
+      names = Arrays.copyOf(names, capacity);
+      checks = Arrays.copyOf(checks, capacity);
+      operandKinds = Arrays.copyOf(operandKinds, capacity);
+      operands = Arrays.copyOf(operands, capacity * 3);
+      objectOperands = Arrays.copyOf(objectOperands, capacity * 3);
+    }
+    names[size] = name;
+    checks[size] = (byte) check.ordinal();
+    operandKinds[size] = (byte) operandKind.ordinal();
+    return size++;
+  }
+
+  @SideEffectFree
+  private @Nullable Object operand(int index, int position) {
+    int offset = index * 3 + position;
+    return ValidationException.operand(
+        OPERAND_KINDS[operandKinds[index]], operands[offset], objectOperands[offset]);
+  }
+}
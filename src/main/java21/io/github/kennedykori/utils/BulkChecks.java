@@ -0,0 +1,267 @@
+package io.github.kennedykori.utils;
+
+import org.checkerframework.checker.index.qual.IndexOrHigh;
+import org.checkerframework.dataflow.qual.SideEffectFree;
+
+/**
+ * The bulk checks of {@link ArrayUtils} on Java 21 and later. When the {@code jdk.incubator.vector}
+ * module is present, i.e. when the JVM was started with {@code --add-modules
+ * jdk.incubator.vector}, the checks are delegated to {@link VectorChecks}. Otherwise, they are
+ * delegated to the scalar checks in {@link ScalarChecks}, exactly like on earlier Java versions.
+ * The methods in this class don't validate their arguments.
+ *
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * @since 3.0.0
+ */
+final class BulkChecks {
+
+  /* Whether the checks are delegated to VectorChecks. */
+  private static final boolean VECTORIZED =
+      ModuleLayer.boot()
+          .findModule("jdk.incubator.vector")
+          .map(
+              vector -> {
+                // A named module has to read the incubator module explicitly
+                BulkChecks.class.getModule().addReads(vector);
+                return true;
+              })
+          .orElse(false);
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code int} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to {@code minValue} and less than
+   * {@code maxValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allInRange(
+      int minValue,
+      int maxValue,
+      int[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    return VECTORIZED
+        ? VectorChecks.allInRange(minValue, maxValue, values, fromIndex, toIndex)
+        : ScalarChecks.allInRange(minValue, maxValue, values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code long} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to {@code minValue} and less than
+   * {@code maxValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allInRange(
+      long minValue,
+      long maxValue,
+      long[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    return VECTORIZED
+        ? VectorChecks.allInRange(minValue, maxValue, values, fromIndex, toIndex)
+        : ScalarChecks.allInRange(minValue, maxValue, values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code int} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to {@code minValue} and less than
+   * {@code maxValue} when all of them are interpreted as unsigned integers, {@code false}
+   * otherwise.
+   */
+  @SideEffectFree
+  static boolean allInRangeUnsigned(
+      int minValue,
+      int maxValue,
+      int[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    return VECTORIZED
+        ? VectorChecks.allInRangeUnsigned(minValue, maxValue, values, fromIndex, toIndex)
+        : ScalarChecks.allInRangeUnsigned(minValue, maxValue, values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code long} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to {@code minValue} and less than
+   * {@code maxValue} when all of them are interpreted as unsigned integers, {@code false}
+   * otherwise.
+   */
+  @SideEffectFree
+  static boolean allInRangeUnsigned(
+      long minValue,
+      long maxValue,
+      long[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    return VECTORIZED
+        ? VectorChecks.allInRangeUnsigned(minValue, maxValue, values, fromIndex, toIndex)
+        : ScalarChecks.allInRangeUnsigned(minValue, maxValue, values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code float} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to {@code minValue} and less than
+   * {@code maxValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allInRange(
+      float minValue,
+      float maxValue,
+      float[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    return VECTORIZED
+        ? VectorChecks.allInRange(minValue, maxValue, values, fromIndex, toIndex)
+        : ScalarChecks.allInRange(minValue, maxValue, values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code double} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to {@code minValue} and less than
+   * {@code maxValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allInRange(
+      double minValue,
+      double maxValue,
+      double[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    return VECTORIZED
+        ? VectorChecks.allInRange(minValue, maxValue, values, fromIndex, toIndex)
+        : ScalarChecks.allInRange(minValue, maxValue, values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code int} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to zero, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allNonNegative(
+      int[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    return VECTORIZED
+        ? VectorChecks.allNonNegative(values, fromIndex, toIndex)
+        : ScalarChecks.allNonNegative(values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code long} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to zero, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allNonNegative(
+      long[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    return VECTORIZED
+        ? VectorChecks.allNonNegative(values, fromIndex, toIndex)
+        : ScalarChecks.allNonNegative(values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code float} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to zero, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allNonNegative(
+      float[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    return VECTORIZED
+        ? VectorChecks.allNonNegative(values, fromIndex, toIndex)
+        : ScalarChecks.allNonNegative(values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code double} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to zero, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allNonNegative(
+      double[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    return VECTORIZED
+        ? VectorChecks.allNonNegative(values, fromIndex, toIndex)
+        : ScalarChecks.allNonNegative(values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code int} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are equal to {@code baseValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allEqualTo(
+      int baseValue,
+      int[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    return VECTORIZED
+        ? VectorChecks.allEqualTo(baseValue, values, fromIndex, toIndex)
+        : ScalarChecks.allEqualTo(baseValue, values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code long} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are equal to {@code baseValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allEqualTo(
+      long baseValue,
+      long[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    return VECTORIZED
+        ? VectorChecks.allEqualTo(baseValue, values, fromIndex, toIndex)
+        : ScalarChecks.allEqualTo(baseValue, values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code float} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are equal to {@code baseValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allEqualTo(
+      float baseValue,
+      float[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    return VECTORIZED
+        ? VectorChecks.allEqualTo(baseValue, values, fromIndex, toIndex)
+        : ScalarChecks.allEqualTo(baseValue, values, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code double} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are equal to {@code baseValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allEqualTo(
+      double baseValue,
+      double[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    return VECTORIZED
+        ? VectorChecks.allEqualTo(baseValue, values, fromIndex, toIndex)
+        : ScalarChecks.allEqualTo(baseValue, values, fromIndex, toIndex);
+  }
+
+  // private constructor to prevent initialization
+  @SideEffectFree
+  private BulkChecks() {}
+}
@@ -0,0 +1,402 @@
+package io.github.kennedykori.utils;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.checkerframework.checker.index.qual.IndexOrHigh;
+import org.checkerframework.dataflow.qual.SideEffectFree;
+
+/**
+ * Implementations of the bulk checks of {@link ArrayUtils} that use the Vector API to check as many
+ * elements per instruction as the preferred vector shape of the platform allows. Every method
+ * reduces the largest prefix of the slice whose length is a multiple of the number of lanes with
+ * vector operations and leaves the remaining elements to {@link ScalarChecks}.
+ *
+ * <p>{@code float} and {@code double} lanes are reinterpreted as their bits after replacing {@code
+ * NaN}s with the canonical {@code NaN}, so that the sign and equality checks agree with {@link
+ * Float#floatToIntBits(float)} and {@link Double#doubleToLongBits(double)}. The lane-wise and
+ * reduction {@code MIN} and {@code MAX} operations follow {@link Math#min(double, double)} and
+ * {@link Math#max(double, double)}, so the range checks agree with {@link ScalarChecks} as well.
+ *
+ * <p>This class must only be loaded if the {@code jdk.incubator.vector} module is present. The
+ * methods in this class don't validate their arguments.
+ *
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * @since 3.0.0
+ */
+final class VectorChecks {
+
+  private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+  private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+  private static final VectorSpecies<Float> FLOATS = FloatVector.SPECIES_PREFERRED;
+
+  private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code int} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to {@code minValue} and less than
+   * {@code maxValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allInRange(
+      int minValue,
+      int maxValue,
+      int[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    int upperBound = fromIndex + INTS.loopBound(toIndex - fromIndex);
+    IntVector minimums = IntVector.broadcast(INTS, Integer.MAX_VALUE);
+    IntVector maximums = IntVector.broadcast(INTS, Integer.MIN_VALUE);
+    for (int i = fromIndex; i < upperBound; i += INTS.length()) {
+      IntVector vector = IntVector.fromArray(INTS, values, i);
+      minimums = minimums.min(vector);
+      maximums = maximums.max(vector);
+    }
+    int min = minimums.reduceLanes(VectorOperators.MIN);
+    int max = maximums.reduceLanes(VectorOperators.MAX);
+    boolean prefixInRange = fromIndex == upperBound || (min >= minValue && max < maxValue);
+    return prefixInRange
+        && ScalarChecks.allInRange(minValue, maxValue, values, upperBound, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code long} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to {@code minValue} and less than
+   * {@code maxValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allInRange(
+      long minValue,
+      long maxValue,
+      long[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    int upperBound = fromIndex + LONGS.loopBound(toIndex - fromIndex);
+    LongVector minimums = LongVector.broadcast(LONGS, Long.MAX_VALUE);
+    LongVector maximums = LongVector.broadcast(LONGS, Long.MIN_VALUE);
+    for (int i = fromIndex; i < upperBound; i += LONGS.length()) {
+      LongVector vector = LongVector.fromArray(LONGS, values, i);
+      minimums = minimums.min(vector);
+      maximums = maximums.max(vector);
+    }
+    long min = minimums.reduceLanes(VectorOperators.MIN);
+    long max = maximums.reduceLanes(VectorOperators.MAX);
+    boolean prefixInRange = fromIndex == upperBound || (min >= minValue && max < maxValue);
+    return prefixInRange
+        && ScalarChecks.allInRange(minValue, maxValue, values, upperBound, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code int} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to {@code minValue} and less than
+   * {@code maxValue} when all of them are interpreted as unsigned integers, {@code false}
+   * otherwise.
+   */
+  @SideEffectFree
+  static boolean allInRangeUnsigned(
+      int minValue,
+      int maxValue,
+      int[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    int upperBound = fromIndex + INTS.loopBound(toIndex - fromIndex);
+    IntVector minimums = IntVector.broadcast(INTS, Integer.MAX_VALUE);
+    IntVector maximums = IntVector.broadcast(INTS, Integer.MIN_VALUE);
+    for (int i = fromIndex; i < upperBound; i += INTS.length()) {
+      IntVector vector =
+          IntVector.fromArray(INTS, values, i).lanewise(VectorOperators.XOR, Integer.MIN_VALUE);
+      minimums = minimums.min(vector);
+      maximums = maximums.max(vector);
+    }
+    int min = minimums.reduceLanes(VectorOperators.MIN);
+    int max = maximums.reduceLanes(VectorOperators.MAX);
+    boolean prefixInRange =
+        fromIndex == upperBound
+            || (min >= (minValue ^ Integer.MIN_VALUE) && max < (maxValue ^ Integer.MIN_VALUE));
+    return prefixInRange
+        && ScalarChecks.allInRangeUnsigned(minValue, maxValue, values, upperBound, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code long} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to {@code minValue} and less than
+   * {@code maxValue} when all of them are interpreted as unsigned integers, {@code false}
+   * otherwise.
+   */
+  @SideEffectFree
+  static boolean allInRangeUnsigned(
+      long minValue,
+      long maxValue,
+      long[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    int upperBound = fromIndex + LONGS.loopBound(toIndex - fromIndex);
+    LongVector minimums = LongVector.broadcast(LONGS, Long.MAX_VALUE);
+    LongVector maximums = LongVector.broadcast(LONGS, Long.MIN_VALUE);
+    for (int i = fromIndex; i < upperBound; i += LONGS.length()) {
+      LongVector vector =
+          LongVector.fromArray(LONGS, values, i).lanewise(VectorOperators.XOR, Long.MIN_VALUE);
+      minimums = minimums.min(vector);
+      maximums = maximums.max(vector);
+    }
+    long min = minimums.reduceLanes(VectorOperators.MIN);
+    long max = maximums.reduceLanes(VectorOperators.MAX);
+    boolean prefixInRange =
+        fromIndex == upperBound
+            || (min >= (minValue ^ Long.MIN_VALUE) && max < (maxValue ^ Long.MIN_VALUE));
+    return prefixInRange
+        && ScalarChecks.allInRangeUnsigned(minValue, maxValue, values, upperBound, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code float} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to {@code minValue} and less than
+   * {@code maxValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allInRange(
+      float minValue,
+      float maxValue,
+      float[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    int upperBound = fromIndex + FLOATS.loopBound(toIndex - fromIndex);
+    FloatVector minimums = FloatVector.broadcast(FLOATS, Float.POSITIVE_INFINITY);
+    FloatVector maximums = FloatVector.broadcast(FLOATS, Float.NEGATIVE_INFINITY);
+    for (int i = fromIndex; i < upperBound; i += FLOATS.length()) {
+      FloatVector vector = FloatVector.fromArray(FLOATS, values, i);
+      minimums = minimums.min(vector);
+      maximums = maximums.max(vector);
+    }
+    float min = minimums.reduceLanes(VectorOperators.MIN);
+    float max = maximums.reduceLanes(VectorOperators.MAX);
+    boolean prefixInRange =
+        fromIndex == upperBound
+            || (Float.compare(min, minValue) >= 0 && Float.compare(max, maxValue) < 0);
+    return prefixInRange
+        && ScalarChecks.allInRange(minValue, maxValue, values, upperBound, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code double} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to {@code minValue} and less than
+   * {@code maxValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allInRange(
+      double minValue,
+      double maxValue,
+      double[] values,
+      @IndexOrHigh(value = "#3") int fromIndex,
+      @IndexOrHigh(value = "#3") int toIndex) {
+    int upperBound = fromIndex + DOUBLES.loopBound(toIndex - fromIndex);
+    DoubleVector minimums = DoubleVector.broadcast(DOUBLES, Double.POSITIVE_INFINITY);
+    DoubleVector maximums = DoubleVector.broadcast(DOUBLES, Double.NEGATIVE_INFINITY);
+    for (int i = fromIndex; i < upperBound; i += DOUBLES.length()) {
+      DoubleVector vector = DoubleVector.fromArray(DOUBLES, values, i);
+      minimums = minimums.min(vector);
+      maximums = maximums.max(vector);
+    }
+    double min = minimums.reduceLanes(VectorOperators.MIN);
+    double max = maximums.reduceLanes(VectorOperators.MAX);
+    boolean prefixInRange =
+        fromIndex == upperBound
+            || (Double.compare(min, minValue) >= 0 && Double.compare(max, maxValue) < 0);
+    return prefixInRange
+        && ScalarChecks.allInRange(minValue, maxValue, values, upperBound, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code int} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to zero, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allNonNegative(
+      int[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    int upperBound = fromIndex + INTS.loopBound(toIndex - fromIndex);
+    IntVector bits = IntVector.zero(INTS);
+    for (int i = fromIndex; i < upperBound; i += INTS.length()) {
+      bits = bits.or(IntVector.fromArray(INTS, values, i));
+    }
+    return bits.reduceLanes(VectorOperators.OR) >= 0
+        && ScalarChecks.allNonNegative(values, upperBound, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code long} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to zero, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allNonNegative(
+      long[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    int upperBound = fromIndex + LONGS.loopBound(toIndex - fromIndex);
+    LongVector bits = LongVector.zero(LONGS);
+    for (int i = fromIndex; i < upperBound; i += LONGS.length()) {
+      bits = bits.or(LongVector.fromArray(LONGS, values, i));
+    }
+    return bits.reduceLanes(VectorOperators.OR) >= 0
+        && ScalarChecks.allNonNegative(values, upperBound, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code float} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to zero, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allNonNegative(
+      float[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    int upperBound = fromIndex + FLOATS.loopBound(toIndex - fromIndex);
+    IntVector bits = IntVector.zero(FLOATS.withLanes(int.class));
+    for (int i = fromIndex; i < upperBound; i += FLOATS.length()) {
+      bits = bits.or(canonicalBits(FloatVector.fromArray(FLOATS, values, i)));
+    }
+    return bits.reduceLanes(VectorOperators.OR) >= 0
+        && ScalarChecks.allNonNegative(values, upperBound, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code double} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are greater than or equal to zero, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allNonNegative(
+      double[] values,
+      @IndexOrHigh(value = "#1") int fromIndex,
+      @IndexOrHigh(value = "#1") int toIndex) {
+    int upperBound = fromIndex + DOUBLES.loopBound(toIndex - fromIndex);
+    LongVector bits = LongVector.zero(DOUBLES.withLanes(long.class));
+    for (int i = fromIndex; i < upperBound; i += DOUBLES.length()) {
+      bits = bits.or(canonicalBits(DoubleVector.fromArray(DOUBLES, values, i)));
+    }
+    return bits.reduceLanes(VectorOperators.OR) >= 0
+        && ScalarChecks.allNonNegative(values, upperBound, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code int} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are equal to {@code baseValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allEqualTo(
+      int baseValue,
+      int[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    int upperBound = fromIndex + INTS.loopBound(toIndex - fromIndex);
+    IntVector differences = IntVector.zero(INTS);
+    for (int i = fromIndex; i < upperBound; i += INTS.length()) {
+      IntVector vector = IntVector.fromArray(INTS, values, i);
+      differences = differences.or(vector.lanewise(VectorOperators.XOR, baseValue));
+    }
+    return differences.reduceLanes(VectorOperators.OR) == 0
+        && ScalarChecks.allEqualTo(baseValue, values, upperBound, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code long} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are equal to {@code baseValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allEqualTo(
+      long baseValue,
+      long[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    int upperBound = fromIndex + LONGS.loopBound(toIndex - fromIndex);
+    LongVector differences = LongVector.zero(LONGS);
+    for (int i = fromIndex; i < upperBound; i += LONGS.length()) {
+      LongVector vector = LongVector.fromArray(LONGS, values, i);
+      differences = differences.or(vector.lanewise(VectorOperators.XOR, baseValue));
+    }
+    return differences.reduceLanes(VectorOperators.OR) == 0
+        && ScalarChecks.allEqualTo(baseValue, values, upperBound, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code float} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are equal to {@code baseValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allEqualTo(
+      float baseValue,
+      float[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    int upperBound = fromIndex + FLOATS.loopBound(toIndex - fromIndex);
+    int baseBits = Float.floatToIntBits(baseValue);
+    IntVector differences = IntVector.zero(FLOATS.withLanes(int.class));
+    for (int i = fromIndex; i < upperBound; i += FLOATS.length()) {
+      FloatVector vector = FloatVector.fromArray(FLOATS, values, i);
+      differences = differences.or(canonicalBits(vector).lanewise(VectorOperators.XOR, baseBits));
+    }
+    return differences.reduceLanes(VectorOperators.OR) == 0
+        && ScalarChecks.allEqualTo(baseValue, values, upperBound, toIndex);
+  }
+
+  /**
+   * Returns {@code true} if all the elements of the given {@code double} array from index {@code
+   * fromIndex} <i><strong>(inclusive)</strong></i> to index {@code toIndex}
+   * <i><strong>(exclusive)</strong></i> are equal to {@code baseValue}, {@code false} otherwise.
+   */
+  @SideEffectFree
+  static boolean allEqualTo(
+      double baseValue,
+      double[] values,
+      @IndexOrHigh(value = "#2") int fromIndex,
+      @IndexOrHigh(value = "#2") int toIndex) {
+    int upperBound = fromIndex + DOUBLES.loopBound(toIndex - fromIndex);
+    long baseBits = Double.doubleToLongBits(baseValue);
+    LongVector differences = LongVector.zero(DOUBLES.withLanes(long.class));
+    for (int i = fromIndex; i < upperBound; i += DOUBLES.length()) {
+      DoubleVector vector = DoubleVector.fromArray(DOUBLES, values, i);
+      differences = differences.or(canonicalBits(vector).lanewise(VectorOperators.XOR, baseBits));
+    }
+    return differences.reduceLanes(VectorOperators.OR) == 0
+        && ScalarChecks.allEqualTo(baseValue, values, upperBound, toIndex);
+  }
+
+  // Returns the bits of the lanes of the vector with every NaN replaced by the canonical NaN
+  @SideEffectFree
+  private static IntVector canonicalBits(FloatVector vector) {
+    IntVector bits = vector.reinterpretAsInts();
+    return bits.blend(
+        Float.floatToIntBits(Float.NaN), vector.test(VectorOperators.IS_NAN).cast(bits.species()));
+  }
+
+  // Returns the bits of the lanes of the vector with every NaN replaced by the canonical NaN
+  @SideEffectFree
+  private static LongVector canonicalBits(DoubleVector vector) {
+    LongVector bits = vector.reinterpretAsLongs();
+    return bits.blend(
+        Double.doubleToLongBits(Double.NaN),
+        vector.test(VectorOperators.IS_NAN).cast(bits.species()));
+  }
+
+  // private constructor to prevent initialization
+  @SideEffectFree
+  private VectorChecks() {}
+}
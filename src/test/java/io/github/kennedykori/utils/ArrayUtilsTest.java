@@ -0,0 +1,1294 @@
+package io.github.kennedykori.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.kennedykori.utils.ValidationException.Check;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link ArrayUtils} class. */
+public class ArrayUtilsTest {
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testAllInRangeInt() {
+    int[] values = new int[] {-5, 0, 7, 9};
+    assertTrue(ArrayUtils.allInRange(-5, 10, values));
+    assertTrue(ArrayUtils.allInRange(0, 0, new int[0]));
+    assertFalse(ArrayUtils.allInRange(-4, 10, values));
+    assertFalse(ArrayUtils.allInRange(-5, 9, values));
+    assertTrue(ArrayUtils.allInRange(0, 8, values, 1, 3));
+    assertTrue(ArrayUtils.allInRange(0, 0, values, 2, 2));
+    assertFalse(ArrayUtils.allInRange(0, 8, values, 1, 4));
+
+    IllegalArgumentException ex =
+        assertThrows(IllegalArgumentException.class, () -> ArrayUtils.allInRange(10, -5, values));
+    assertEquals("maxValue( -5 ) cannot be less than minValue( 10 ).", ex.getMessage());
+    assertThrows(NullPointerException.class, () -> ArrayUtils.allInRange(-5, 10, (int[]) null));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.allInRange(-5, 10, values, -1, 2));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.allInRange(-5, 10, values, 0, 5));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.allInRange(-5, 10, values, 3, 2));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testIndexOfNotInRangeInt() {
+    int[] values = new int[] {1, -6, 3, 10, 4};
+    assertEquals(-1, ArrayUtils.indexOfNotInRange(-6, 11, values));
+    assertEquals(1, ArrayUtils.indexOfNotInRange(-5, 10, values));
+    assertEquals(3, ArrayUtils.indexOfNotInRange(-5, 10, values, 2, 5));
+    assertEquals(-1, ArrayUtils.indexOfNotInRange(-5, 10, values, 2, 3));
+    assertEquals(-1, ArrayUtils.indexOfNotInRange(-5, 10, new int[0]));
+    assertThrows(
+        IllegalArgumentException.class, () -> ArrayUtils.indexOfNotInRange(10, -5, values));
+    assertThrows(
+        NullPointerException.class, () -> ArrayUtils.indexOfNotInRange(-5, 10, (int[]) null));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.indexOfNotInRange(-5, 10, values, 0, 6));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testIndicesNotInRangeInt() {
+    int[] values = new int[] {1, -6, 3, 10, 4};
+    assertArrayEquals(new int[0], ArrayUtils.indicesNotInRange(-6, 11, values));
+    assertArrayEquals(new int[] {1, 3}, ArrayUtils.indicesNotInRange(-5, 10, values));
+    assertArrayEquals(new int[] {3}, ArrayUtils.indicesNotInRange(-5, 10, values, 2, 5));
+    assertArrayEquals(new int[] {0, 1, 2, 3, 4}, ArrayUtils.indicesNotInRange(20, 30, values));
+    assertSame(
+        ArrayUtils.indicesNotInRange(-6, 11, values),
+        ArrayUtils.indicesNotInRange(0, 0, new int[0]));
+    assertThrows(
+        IllegalArgumentException.class, () -> ArrayUtils.indicesNotInRange(10, -5, values));
+    assertThrows(
+        NullPointerException.class, () -> ArrayUtils.indicesNotInRange(-5, 10, (int[]) null));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.indicesNotInRange(-5, 10, values, 4, 1));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testRequireAllInRangeInt() {
+    int[] values = new int[] {1, -6, 3, 10, 4};
+    assertSame(values, ArrayUtils.requireAllInRange(-6, 11, values));
+    assertSame(values, ArrayUtils.requireAllInRange(-6, 11, values, "Unused message."));
+    assertSame(values, ArrayUtils.requireAllInRange(-5, 10, values, 2, 3));
+    assertSame(values, ArrayUtils.requireAllInRange(-5, 10, values, 2, 3, "Unused message."));
+
+    ValidationException ex =
+        assertThrows(ValidationException.class, () -> ArrayUtils.requireAllInRange(-5, 10, values));
+    assertEquals(1, ex.getIndex());
+    assertEquals(Check.IN_RANGE, ex.getCheck());
+    assertEquals(
+        "values[1]: value(-6) should be more than or equal to -5 and less than 10.",
+        ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class, () -> ArrayUtils.requireAllInRange(-5, 10, values, 2, 5));
+    assertEquals(3, ex.getIndex());
+    assertEquals(
+        "values[3]: value(10) should be more than or equal to -5 and less than 10.",
+        ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ArrayUtils.requireAllInRange(-5, 10, values, "Out of range."));
+    assertEquals("Out of range.", ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ArrayUtils.requireAllInRange(-5, 10, values, 2, 5, "Out of range."));
+    assertEquals("Out of range.", ex.getMessage());
+
+    assertThrows(
+        IllegalArgumentException.class, () -> ArrayUtils.requireAllInRange(10, -5, values));
+    assertThrows(
+        NullPointerException.class,
+        () -> ArrayUtils.requireAllInRange(-5, 10, (int[]) null, "values"));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.requireAllInRange(-5, 10, values, 0, 6));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testAllNonNegativeInt() {
+    int[] values = new int[] {0, 3, -2, 5};
+    assertTrue(ArrayUtils.allNonNegative(new int[] {0, 3, 5}));
+    assertTrue(ArrayUtils.allNonNegative(new int[0]));
+    assertFalse(ArrayUtils.allNonNegative(values));
+    assertFalse(ArrayUtils.allNonNegative(new int[] {Integer.MIN_VALUE}));
+    assertTrue(ArrayUtils.allNonNegative(values, 0, 2));
+    assertFalse(ArrayUtils.allNonNegative(values, 1, 4));
+    assertThrows(NullPointerException.class, () -> ArrayUtils.allNonNegative((int[]) null));
+    assertThrows(IndexOutOfBoundsException.class, () -> ArrayUtils.allNonNegative(values, -1, 4));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testIndexOfNegativeInt() {
+    int[] values = new int[] {0, -3, 2, -5};
+    assertEquals(-1, ArrayUtils.indexOfNegative(new int[] {0, 3, 5}));
+    assertEquals(1, ArrayUtils.indexOfNegative(values));
+    assertEquals(3, ArrayUtils.indexOfNegative(values, 2, 4));
+    assertEquals(-1, ArrayUtils.indexOfNegative(values, 2, 3));
+    assertThrows(NullPointerException.class, () -> ArrayUtils.indexOfNegative((int[]) null));
+    assertThrows(IndexOutOfBoundsException.class, () -> ArrayUtils.indexOfNegative(values, 0, 5));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testIndicesOfNegativeInt() {
+    int[] values = new int[] {0, -3, 2, -5};
+    assertArrayEquals(new int[0], ArrayUtils.indicesOfNegative(new int[] {0, 3, 5}));
+    assertArrayEquals(new int[] {1, 3}, ArrayUtils.indicesOfNegative(values));
+    assertArrayEquals(new int[] {3}, ArrayUtils.indicesOfNegative(values, 2, 4));
+    assertArrayEquals(new int[0], ArrayUtils.indicesOfNegative(values, 2, 3));
+    assertThrows(NullPointerException.class, () -> ArrayUtils.indicesOfNegative((int[]) null));
+    assertThrows(IndexOutOfBoundsException.class, () -> ArrayUtils.indicesOfNegative(values, 3, 2));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testRequireAllNonNegativeInt() {
+    int[] values = new int[] {0, -3, 2, -5};
+    assertSame(values, ArrayUtils.requireAllNonNegative(values, 2, 3));
+    assertSame(values, ArrayUtils.requireAllNonNegative(values, 2, 3, "Unused message."));
+    int[] nonNegative = new int[] {0, 3, 5};
+    assertSame(nonNegative, ArrayUtils.requireAllNonNegative(nonNegative));
+    assertSame(nonNegative, ArrayUtils.requireAllNonNegative(nonNegative, "Unused message."));
+
+    ValidationException ex =
+        assertThrows(ValidationException.class, () -> ArrayUtils.requireAllNonNegative(values));
+    assertEquals(1, ex.getIndex());
+    assertEquals(Check.NON_NEGATIVE, ex.getCheck());
+    assertEquals("values[1]: value cannot be negative.", ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class, () -> ArrayUtils.requireAllNonNegative(values, 2, 4));
+    assertEquals(3, ex.getIndex());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ArrayUtils.requireAllNonNegative(values, "Negative value."));
+    assertEquals("Negative value.", ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ArrayUtils.requireAllNonNegative(values, 2, 4, "Negative value."));
+    assertEquals("Negative value.", ex.getMessage());
+
+    assertThrows(
+        NullPointerException.class, () -> ArrayUtils.requireAllNonNegative((int[]) null, "values"));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.requireAllNonNegative(values, 0, 5));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testAllEqualToInt() {
+    int[] values = new int[] {7, 7, 8, 7};
+    assertTrue(ArrayUtils.allEqualTo(7, new int[] {7, 7, 7}));
+    assertTrue(ArrayUtils.allEqualTo(7, new int[0]));
+    assertFalse(ArrayUtils.allEqualTo(7, values));
+    assertFalse(ArrayUtils.allEqualTo(8, values));
+    assertTrue(ArrayUtils.allEqualTo(7, values, 0, 2));
+    assertTrue(ArrayUtils.allEqualTo(8, values, 2, 3));
+    assertFalse(ArrayUtils.allEqualTo(7, values, 1, 4));
+    assertThrows(NullPointerException.class, () -> ArrayUtils.allEqualTo(7, (int[]) null));
+    assertThrows(IndexOutOfBoundsException.class, () -> ArrayUtils.allEqualTo(7, values, 0, 5));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testIndexOfNotEqualToInt() {
+    int[] values = new int[] {7, 6, 7, 8};
+    assertEquals(-1, ArrayUtils.indexOfNotEqualTo(7, new int[] {7, 7, 7}));
+    assertEquals(1, ArrayUtils.indexOfNotEqualTo(7, values));
+    assertEquals(3, ArrayUtils.indexOfNotEqualTo(7, values, 2, 4));
+    assertEquals(-1, ArrayUtils.indexOfNotEqualTo(7, values, 2, 3));
+    assertThrows(NullPointerException.class, () -> ArrayUtils.indexOfNotEqualTo(7, (int[]) null));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.indexOfNotEqualTo(7, values, 5, 5));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testIndicesNotEqualToInt() {
+    int[] values = new int[] {7, 6, 7, 8};
+    assertArrayEquals(new int[0], ArrayUtils.indicesNotEqualTo(7, new int[] {7, 7, 7}));
+    assertArrayEquals(new int[] {1, 3}, ArrayUtils.indicesNotEqualTo(7, values));
+    assertArrayEquals(new int[] {3}, ArrayUtils.indicesNotEqualTo(7, values, 2, 4));
+    assertArrayEquals(new int[] {0, 2}, ArrayUtils.indicesNotEqualTo(6, values, 0, 3));
+    assertThrows(NullPointerException.class, () -> ArrayUtils.indicesNotEqualTo(7, (int[]) null));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.indicesNotEqualTo(7, values, -1, 3));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testRequireAllEqualToInt() {
+    int[] values = new int[] {7, 6, 7, 8};
+    assertSame(values, ArrayUtils.requireAllEqualTo(7, values, 2, 3));
+    assertSame(values, ArrayUtils.requireAllEqualTo(7, values, 2, 3, "Unused message."));
+    int[] sevens = new int[] {7, 7, 7};
+    assertSame(sevens, ArrayUtils.requireAllEqualTo(7, sevens));
+    assertSame(sevens, ArrayUtils.requireAllEqualTo(7, sevens, "Unused message."));
+
+    ValidationException ex =
+        assertThrows(ValidationException.class, () -> ArrayUtils.requireAllEqualTo(7, values));
+    assertEquals(1, ex.getIndex());
+    assertEquals(Check.EQUAL_TO, ex.getCheck());
+    assertEquals("values[1]: value(6) should be equal to 7.", ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class, () -> ArrayUtils.requireAllEqualTo(7, values, 2, 4));
+    assertEquals(3, ex.getIndex());
+    ex =
+        assertThrows(
+            ValidationException.class, () -> ArrayUtils.requireAllEqualTo(7, values, "Not seven."));
+    assertEquals("Not seven.", ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ArrayUtils.requireAllEqualTo(7, values, 2, 4, "Not seven."));
+    assertEquals("Not seven.", ex.getMessage());
+
+    assertThrows(
+        NullPointerException.class, () -> ArrayUtils.requireAllEqualTo(7, (int[]) null, "values"));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.requireAllEqualTo(7, values, 0, 5));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testAllInRangeLong() {
+    long[] values = new long[] {-5L, 0L, 7L, 9L};
+    assertTrue(ArrayUtils.allInRange(-5L, 10L, values));
+    assertTrue(ArrayUtils.allInRange(0L, 0L, new long[0]));
+    assertFalse(ArrayUtils.allInRange(-4L, 10L, values));
+    assertFalse(ArrayUtils.allInRange(-5L, 9L, values));
+    assertTrue(ArrayUtils.allInRange(0L, 8L, values, 1, 3));
+    assertTrue(ArrayUtils.allInRange(0L, 0L, values, 2, 2));
+    assertFalse(ArrayUtils.allInRange(0L, 8L, values, 1, 4));
+
+    IllegalArgumentException ex =
+        assertThrows(IllegalArgumentException.class, () -> ArrayUtils.allInRange(10L, -5L, values));
+    assertEquals("maxValue( -5 ) cannot be less than minValue( 10 ).", ex.getMessage());
+    assertThrows(NullPointerException.class, () -> ArrayUtils.allInRange(-5L, 10L, (long[]) null));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.allInRange(-5L, 10L, values, -1, 2));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.allInRange(-5L, 10L, values, 0, 5));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.allInRange(-5L, 10L, values, 3, 2));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testIndexOfNotInRangeLong() {
+    long[] values = new long[] {1L, -6L, 3L, 10L, 4L};
+    assertEquals(-1, ArrayUtils.indexOfNotInRange(-6L, 11L, values));
+    assertEquals(1, ArrayUtils.indexOfNotInRange(-5L, 10L, values));
+    assertEquals(3, ArrayUtils.indexOfNotInRange(-5L, 10L, values, 2, 5));
+    assertEquals(-1, ArrayUtils.indexOfNotInRange(-5L, 10L, values, 2, 3));
+    assertEquals(-1, ArrayUtils.indexOfNotInRange(-5L, 10L, new long[0]));
+    assertThrows(
+        IllegalArgumentException.class, () -> ArrayUtils.indexOfNotInRange(10L, -5L, values));
+    assertThrows(
+        NullPointerException.class, () -> ArrayUtils.indexOfNotInRange(-5L, 10L, (long[]) null));
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> ArrayUtils.indexOfNotInRange(-5L, 10L, values, 0, 6));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testIndicesNotInRangeLong() {
+    long[] values = new long[] {1L, -6L, 3L, 10L, 4L};
+    assertArrayEquals(new int[0], ArrayUtils.indicesNotInRange(-6L, 11L, values));
+    assertArrayEquals(new int[] {1, 3}, ArrayUtils.indicesNotInRange(-5L, 10L, values));
+    assertArrayEquals(new int[] {3}, ArrayUtils.indicesNotInRange(-5L, 10L, values, 2, 5));
+    assertArrayEquals(new int[] {0, 1, 2, 3, 4}, ArrayUtils.indicesNotInRange(20L, 30L, values));
+    assertSame(
+        ArrayUtils.indicesNotInRange(-6L, 11L, values),
+        ArrayUtils.indicesNotInRange(0L, 0L, new long[0]));
+    assertThrows(
+        IllegalArgumentException.class, () -> ArrayUtils.indicesNotInRange(10L, -5L, values));
+    assertThrows(
+        NullPointerException.class, () -> ArrayUtils.indicesNotInRange(-5L, 10L, (long[]) null));
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> ArrayUtils.indicesNotInRange(-5L, 10L, values, 4, 1));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testRequireAllInRangeLong() {
+    long[] values = new long[] {1L, -6L, 3L, 10L, 4L};
+    assertSame(values, ArrayUtils.requireAllInRange(-6L, 11L, values));
+    assertSame(values, ArrayUtils.requireAllInRange(-6L, 11L, values, "Unused message."));
+    assertSame(values, ArrayUtils.requireAllInRange(-5L, 10L, values, 2, 3));
+    assertSame(values, ArrayUtils.requireAllInRange(-5L, 10L, values, 2, 3, "Unused message."));
+
+    ValidationException ex =
+        assertThrows(
+            ValidationException.class, () -> ArrayUtils.requireAllInRange(-5L, 10L, values));
+    assertEquals(1, ex.getIndex());
+    assertEquals(Check.IN_RANGE, ex.getCheck());
+    assertEquals(
+        "values[1]: value(-6) should be more than or equal to -5 and less than 10.",
+        ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class, () -> ArrayUtils.requireAllInRange(-5L, 10L, values, 2, 5));
+    assertEquals(3, ex.getIndex());
+    assertEquals(
+        "values[3]: value(10) should be more than or equal to -5 and less than 10.",
+        ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ArrayUtils.requireAllInRange(-5L, 10L, values, "Out of range."));
+    assertEquals("Out of range.", ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ArrayUtils.requireAllInRange(-5L, 10L, values, 2, 5, "Out of range."));
+    assertEquals("Out of range.", ex.getMessage());
+
+    assertThrows(
+        IllegalArgumentException.class, () -> ArrayUtils.requireAllInRange(10L, -5L, values));
+    assertThrows(
+        NullPointerException.class,
+        () -> ArrayUtils.requireAllInRange(-5L, 10L, (long[]) null, "values"));
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> ArrayUtils.requireAllInRange(-5L, 10L, values, 0, 6));
+  }
+
+  @Test
+  public void testAllInRangeUnsignedInt() {
+    // 0xFFFF_FFF0 and 0xFFFF_FFFF are large unsigned values
+    int[] values = new int[] {0x7FFF_FFFF, 0x8000_0000, 0xFFFF_FFF0, 5};
+    assertTrue(ArrayUtils.allInRangeUnsigned(5, 0xFFFF_FFF1, values));
+    assertTrue(ArrayUtils.allInRangeUnsigned(0, 0, new int[0]));
+    assertFalse(ArrayUtils.allInRangeUnsigned(6, 0xFFFF_FFF1, values));
+    assertFalse(ArrayUtils.allInRangeUnsigned(5, 0xFFFF_FFF0, values));
+    assertTrue(ArrayUtils.allInRangeUnsigned(0x7FFF_FFFF, 0x8000_0001, values, 0, 2));
+    assertFalse(ArrayUtils.allInRangeUnsigned(0x7FFF_FFFF, 0x8000_0001, values, 0, 3));
+    assertEquals(-1, ArrayUtils.indexOfNotInRangeUnsigned(5, -1, values));
+    assertEquals(2, ArrayUtils.indexOfNotInRangeUnsigned(0, 0x8000_0001, values));
+    assertEquals(3, ArrayUtils.indexOfNotInRangeUnsigned(6, -1, values, 1, 4));
+
+    IllegalArgumentException ex =
+        assertThrows(
+            IllegalArgumentException.class, () -> ArrayUtils.allInRangeUnsigned(-1, 5, values));
+    assertEquals("maxValue( 5 ) cannot be less than minValue( 4294967295 ).", ex.getMessage());
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> ArrayUtils.indexOfNotInRangeUnsigned(0, 1, values, 0, 5));
+  }
+
+  @Test
+  public void testAllInRangeUnsignedLong() {
+    long[] values = new long[] {Long.MAX_VALUE, Long.MIN_VALUE, -16L, 5L};
+    assertTrue(ArrayUtils.allInRangeUnsigned(5L, -15L, values));
+    assertFalse(ArrayUtils.allInRangeUnsigned(6L, -15L, values));
+    assertFalse(ArrayUtils.allInRangeUnsigned(5L, -16L, values));
+    assertEquals(-1, ArrayUtils.indexOfNotInRangeUnsigned(5L, -1L, values));
+    assertEquals(1, ArrayUtils.indexOfNotInRangeUnsigned(0L, Long.MIN_VALUE, values));
+    assertEquals(2, ArrayUtils.indexOfNotInRangeUnsigned(0L, -16L, values, 1, 4));
+    assertThrows(
+        IllegalArgumentException.class, () -> ArrayUtils.allInRangeUnsigned(-1L, 5L, values));
+  }
+
+  @Test
+  public void testAllInRangeUnsignedAgreesWithCompareUnsigned() {
+    // Long enough to cover the vectorized prefix and the scalar tail
+    int[] ints = new int[67];
+    long[] longs = new long[67];
+    Random random = new Random(42);
+    int[] bounds = {0, 1, 5, 0x7FFF_FFFF, 0x8000_0000, 0x8000_0001, -2, -1};
+    for (int round = 0; round < 200; round++) {
+      for (int i = 0; i < ints.length; i++) {
+        ints[i] = random.nextBoolean() ? bounds[random.nextInt(bounds.length)] : random.nextInt();
+        longs[i] = ((long) ints[i] << 32) | (ints[i] & 0xFFFF_FFFFL);
+      }
+      int min = bounds[random.nextInt(bounds.length)];
+      int max = bounds[random.nextInt(bounds.length)];
+      if (Integer.compareUnsigned(max, min) < 0) {
+        int swap = min;
+        min = max;
+        max = swap;
+      }
+      long longMin = ((long) min << 32) | (min & 0xFFFF_FFFFL);
+      long longMax = ((long) max << 32) | (max & 0xFFFF_FFFFL);
+      int expected = -1;
+      for (int i = ints.length - 1; i >= 0; i--) {
+        if (Integer.compareUnsigned(ints[i], min) < 0
+            || Integer.compareUnsigned(ints[i], max) >= 0) {
+          expected = i;
+        }
+      }
+      assertEquals(expected < 0, ArrayUtils.allInRangeUnsigned(min, max, ints));
+      assertEquals(expected, ArrayUtils.indexOfNotInRangeUnsigned(min, max, ints));
+      assertEquals(expected < 0, ArrayUtils.allInRangeUnsigned(longMin, longMax, longs));
+      assertEquals(expected, ArrayUtils.indexOfNotInRangeUnsigned(longMin, longMax, longs));
+    }
+  }
+
+  @Test
+  public void testRequireAllInRangeUnsigned() {
+    int[] ints = new int[] {1, -1, 3};
+    long[] longs = new long[] {1L, -1L, 3L};
+    assertSame(ints, ArrayUtils.requireAllInRangeUnsigned(3, 4, ints, 2, 3));
+    assertSame(ints, ArrayUtils.requireAllInRangeUnsigned(0, 0, ints, 0, 0, "Unused message."));
+    assertSame(longs, ArrayUtils.requireAllInRangeUnsigned(3L, -1L, longs, 2, 3));
+    assertSame(longs, ArrayUtils.requireAllInRangeUnsigned(1L, 4L, longs, 0, 1, "Unused."));
+
+    ValidationException ex =
+        assertThrows(
+            ValidationException.class, () -> ArrayUtils.requireAllInRangeUnsigned(0, 10, ints));
+    assertEquals(1, ex.getIndex());
+    assertEquals(Check.IN_RANGE, ex.getCheck());
+    assertEquals(4294967295L, ex.getValue());
+    assertEquals(
+        "values[1]: value(4294967295) should be more than or equal to 0 and less than 10.",
+        ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class, () -> ArrayUtils.requireAllInRangeUnsigned(0L, 10L, longs));
+    assertEquals(1, ex.getIndex());
+    assertEquals(new BigInteger("18446744073709551615"), ex.getValue());
+    assertEquals(
+        "values[1]: value(18446744073709551615) should be more than or equal to 0 and less than"
+            + " 10.",
+        ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ArrayUtils.requireAllInRangeUnsigned(2L, 10L, longs, "Out of range."));
+    assertEquals(0, ex.getIndex());
+    assertEquals("Out of range.", ex.getMessage());
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testAllNonNegativeLong() {
+    long[] values = new long[] {0L, 3L, -2L, 5L};
+    assertTrue(ArrayUtils.allNonNegative(new long[] {0L, 3L, 5L}));
+    assertTrue(ArrayUtils.allNonNegative(new long[0]));
+    assertFalse(ArrayUtils.allNonNegative(values));
+    assertFalse(ArrayUtils.allNonNegative(new long[] {Long.MIN_VALUE}));
+    assertTrue(ArrayUtils.allNonNegative(values, 0, 2));
+    assertFalse(ArrayUtils.allNonNegative(values, 1, 4));
+    assertThrows(NullPointerException.class, () -> ArrayUtils.allNonNegative((long[]) null));
+    assertThrows(IndexOutOfBoundsException.class, () -> ArrayUtils.allNonNegative(values, -1, 4));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testIndexOfNegativeLong() {
+    long[] values = new long[] {0L, -3L, 2L, -5L};
+    assertEquals(-1, ArrayUtils.indexOfNegative(new long[] {0L, 3L, 5L}));
+    assertEquals(1, ArrayUtils.indexOfNegative(values));
+    assertEquals(3, ArrayUtils.indexOfNegative(values, 2, 4));
+    assertEquals(-1, ArrayUtils.indexOfNegative(values, 2, 3));
+    assertThrows(NullPointerException.class, () -> ArrayUtils.indexOfNegative((long[]) null));
+    assertThrows(IndexOutOfBoundsException.class, () -> ArrayUtils.indexOfNegative(values, 0, 5));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testIndicesOfNegativeLong() {
+    long[] values = new long[] {0L, -3L, 2L, -5L};
+    assertArrayEquals(new int[0], ArrayUtils.indicesOfNegative(new long[] {0L, 3L, 5L}));
+    assertArrayEquals(new int[] {1, 3}, ArrayUtils.indicesOfNegative(values));
+    assertArrayEquals(new int[] {3}, ArrayUtils.indicesOfNegative(values, 2, 4));
+    assertArrayEquals(new int[0], ArrayUtils.indicesOfNegative(values, 2, 3));
+    assertThrows(NullPointerException.class, () -> ArrayUtils.indicesOfNegative((long[]) null));
+    assertThrows(IndexOutOfBoundsException.class, () -> ArrayUtils.indicesOfNegative(values, 3, 2));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testRequireAllNonNegativeLong() {
+    long[] values = new long[] {0L, -3L, 2L, -5L};
+    assertSame(values, ArrayUtils.requireAllNonNegative(values, 2, 3));
+    assertSame(values, ArrayUtils.requireAllNonNegative(values, 2, 3, "Unused message."));
+    long[] nonNegative = new long[] {0L, 3L, 5L};
+    assertSame(nonNegative, ArrayUtils.requireAllNonNegative(nonNegative));
+    assertSame(nonNegative, ArrayUtils.requireAllNonNegative(nonNegative, "Unused message."));
+
+    ValidationException ex =
+        assertThrows(ValidationException.class, () -> ArrayUtils.requireAllNonNegative(values));
+    assertEquals(1, ex.getIndex());
+    assertEquals(Check.NON_NEGATIVE, ex.getCheck());
+    assertEquals("values[1]: value cannot be negative.", ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class, () -> ArrayUtils.requireAllNonNegative(values, 2, 4));
+    assertEquals(3, ex.getIndex());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ArrayUtils.requireAllNonNegative(values, "Negative value."));
+    assertEquals("Negative value.", ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ArrayUtils.requireAllNonNegative(values, 2, 4, "Negative value."));
+    assertEquals("Negative value.", ex.getMessage());
+
+    assertThrows(
+        NullPointerException.class,
+        () -> ArrayUtils.requireAllNonNegative((long[]) null, "values"));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.requireAllNonNegative(values, 0, 5));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testAllEqualToLong() {
+    long[] values = new long[] {7L, 7L, 8L, 7L};
+    assertTrue(ArrayUtils.allEqualTo(7L, new long[] {7L, 7L, 7L}));
+    assertTrue(ArrayUtils.allEqualTo(7L, new long[0]));
+    assertFalse(ArrayUtils.allEqualTo(7L, values));
+    assertFalse(ArrayUtils.allEqualTo(8L, values));
+    assertTrue(ArrayUtils.allEqualTo(7L, values, 0, 2));
+    assertTrue(ArrayUtils.allEqualTo(8L, values, 2, 3));
+    assertFalse(ArrayUtils.allEqualTo(7L, values, 1, 4));
+    assertThrows(NullPointerException.class, () -> ArrayUtils.allEqualTo(7L, (long[]) null));
+    assertThrows(IndexOutOfBoundsException.class, () -> ArrayUtils.allEqualTo(7L, values, 0, 5));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testIndexOfNotEqualToLong() {
+    long[] values = new long[] {7L, 6L, 7L, 8L};
+    assertEquals(-1, ArrayUtils.indexOfNotEqualTo(7L, new long[] {7L, 7L, 7L}));
+    assertEquals(1, ArrayUtils.indexOfNotEqualTo(7L, values));
+    assertEquals(3, ArrayUtils.indexOfNotEqualTo(7L, values, 2, 4));
+    assertEquals(-1, ArrayUtils.indexOfNotEqualTo(7L, values, 2, 3));
+    assertThrows(NullPointerException.class, () -> ArrayUtils.indexOfNotEqualTo(7L, (long[]) null));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.indexOfNotEqualTo(7L, values, 5, 5));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testIndicesNotEqualToLong() {
+    long[] values = new long[] {7L, 6L, 7L, 8L};
+    assertArrayEquals(new int[0], ArrayUtils.indicesNotEqualTo(7L, new long[] {7L, 7L, 7L}));
+    assertArrayEquals(new int[] {1, 3}, ArrayUtils.indicesNotEqualTo(7L, values));
+    assertArrayEquals(new int[] {3}, ArrayUtils.indicesNotEqualTo(7L, values, 2, 4));
+    assertArrayEquals(new int[] {0, 2}, ArrayUtils.indicesNotEqualTo(6L, values, 0, 3));
+    assertThrows(NullPointerException.class, () -> ArrayUtils.indicesNotEqualTo(7L, (long[]) null));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.indicesNotEqualTo(7L, values, -1, 3));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testRequireAllEqualToLong() {
+    long[] values = new long[] {7L, 6L, 7L, 8L};
+    assertSame(values, ArrayUtils.requireAllEqualTo(7L, values, 2, 3));
+    assertSame(values, ArrayUtils.requireAllEqualTo(7L, values, 2, 3, "Unused message."));
+    long[] sevens = new long[] {7L, 7L, 7L};
+    assertSame(sevens, ArrayUtils.requireAllEqualTo(7L, sevens));
+    assertSame(sevens, ArrayUtils.requireAllEqualTo(7L, sevens, "Unused message."));
+
+    ValidationException ex =
+        assertThrows(ValidationException.class, () -> ArrayUtils.requireAllEqualTo(7L, values));
+    assertEquals(1, ex.getIndex());
+    assertEquals(Check.EQUAL_TO, ex.getCheck());
+    assertEquals("values[1]: value(6) should be equal to 7.", ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class, () -> ArrayUtils.requireAllEqualTo(7L, values, 2, 4));
+    assertEquals(3, ex.getIndex());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ArrayUtils.requireAllEqualTo(7L, values, "Not seven."));
+    assertEquals("Not seven.", ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ArrayUtils.requireAllEqualTo(7L, values, 2, 4, "Not seven."));
+    assertEquals("Not seven.", ex.getMessage());
+
+    assertThrows(
+        NullPointerException.class,
+        () -> ArrayUtils.requireAllEqualTo(7L, (long[]) null, "values"));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.requireAllEqualTo(7L, values, 0, 5));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testAllInRangeFloat() {
+    float[] values = new float[] {-5F, 0F, 7F, 9F};
+    assertTrue(ArrayUtils.allInRange(-5F, 10F, values));
+    assertTrue(ArrayUtils.allInRange(0F, 0F, new float[0]));
+    assertFalse(ArrayUtils.allInRange(-4F, 10F, values));
+    assertFalse(ArrayUtils.allInRange(-5F, 9F, values));
+    assertTrue(ArrayUtils.allInRange(0F, 8F, values, 1, 3));
+    assertTrue(ArrayUtils.allInRange(0F, 0F, values, 2, 2));
+    assertFalse(ArrayUtils.allInRange(0F, 8F, values, 1, 4));
+
+    IllegalArgumentException ex =
+        assertThrows(IllegalArgumentException.class, () -> ArrayUtils.allInRange(10F, -5F, values));
+    assertEquals(
+        "maxValue( -5.000000 ) cannot be less than minValue( 10.000000 ).", ex.getMessage());
+    assertThrows(NullPointerException.class, () -> ArrayUtils.allInRange(-5F, 10F, (float[]) null));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.allInRange(-5F, 10F, values, -1, 2));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.allInRange(-5F, 10F, values, 0, 5));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.allInRange(-5F, 10F, values, 3, 2));
+  }
+
+  @Test
+  public void testAllInRangeFloatSpecialValues() {
+    assertFalse(ArrayUtils.allInRange(0.0F, 10.0F, new float[] {-0.0F}));
+    assertTrue(ArrayUtils.allInRange(-0.0F, 0.0F, new float[] {-0.0F, -0.0F}));
+    assertFalse(ArrayUtils.allInRange(-0.0F, 0.0F, new float[] {-0.0F, 0.0F}));
+    assertFalse(ArrayUtils.allInRange(0.0F, 10.0F, new float[] {1.0F, Float.NaN}));
+    assertFalse(ArrayUtils.allInRange(0.0F, Float.NaN, new float[] {1.0F, Float.NaN}));
+    assertTrue(ArrayUtils.allInRange(0.0F, Float.NaN, new float[] {1.0F, Float.POSITIVE_INFINITY}));
+    assertEquals(1, ArrayUtils.indexOfNotInRange(0.0F, 10.0F, new float[] {1.0F, Float.NaN}));
+    assertEquals(0, ArrayUtils.indexOfNotInRange(0.0F, 10.0F, new float[] {-0.0F, Float.NaN}));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testIndexOfNotInRangeFloat() {
+    float[] values = new float[] {1F, -6F, 3F, 10F, 4F};
+    assertEquals(-1, ArrayUtils.indexOfNotInRange(-6F, 11F, values));
+    assertEquals(1, ArrayUtils.indexOfNotInRange(-5F, 10F, values));
+    assertEquals(3, ArrayUtils.indexOfNotInRange(-5F, 10F, values, 2, 5));
+    assertEquals(-1, ArrayUtils.indexOfNotInRange(-5F, 10F, values, 2, 3));
+    assertEquals(-1, ArrayUtils.indexOfNotInRange(-5F, 10F, new float[0]));
+    assertThrows(
+        IllegalArgumentException.class, () -> ArrayUtils.indexOfNotInRange(10F, -5F, values));
+    assertThrows(
+        NullPointerException.class, () -> ArrayUtils.indexOfNotInRange(-5F, 10F, (float[]) null));
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> ArrayUtils.indexOfNotInRange(-5F, 10F, values, 0, 6));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testIndicesNotInRangeFloat() {
+    float[] values = new float[] {1F, -6F, 3F, 10F, 4F};
+    assertArrayEquals(new int[0], ArrayUtils.indicesNotInRange(-6F, 11F, values));
+    assertArrayEquals(new int[] {1, 3}, ArrayUtils.indicesNotInRange(-5F, 10F, values));
+    assertArrayEquals(new int[] {3}, ArrayUtils.indicesNotInRange(-5F, 10F, values, 2, 5));
+    assertArrayEquals(new int[] {0, 1, 2, 3, 4}, ArrayUtils.indicesNotInRange(20F, 30F, values));
+    assertSame(
+        ArrayUtils.indicesNotInRange(-6F, 11F, values),
+        ArrayUtils.indicesNotInRange(0F, 0F, new float[0]));
+    assertThrows(
+        IllegalArgumentException.class, () -> ArrayUtils.indicesNotInRange(10F, -5F, values));
+    assertThrows(
+        NullPointerException.class, () -> ArrayUtils.indicesNotInRange(-5F, 10F, (float[]) null));
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> ArrayUtils.indicesNotInRange(-5F, 10F, values, 4, 1));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testRequireAllInRangeFloat() {
+    float[] values = new float[] {1F, -6F, 3F, 10F, 4F};
+    assertSame(values, ArrayUtils.requireAllInRange(-6F, 11F, values));
+    assertSame(values, ArrayUtils.requireAllInRange(-6F, 11F, values, "Unused message."));
+    assertSame(values, ArrayUtils.requireAllInRange(-5F, 10F, values, 2, 3));
+    assertSame(values, ArrayUtils.requireAllInRange(-5F, 10F, values, 2, 3, "Unused message."));
+
+    ValidationException ex =
+        assertThrows(
+            ValidationException.class, () -> ArrayUtils.requireAllInRange(-5F, 10F, values));
+    assertEquals(1, ex.getIndex());
+    assertEquals(Check.IN_RANGE, ex.getCheck());
+    assertEquals(
+        "values[1]: value(-6.000000) should be more than or equal to -5.000000 and less than "
+            + "10.000000.",
+        ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class, () -> ArrayUtils.requireAllInRange(-5F, 10F, values, 2, 5));
+    assertEquals(3, ex.getIndex());
+    assertEquals(
+        "values[3]: value(10.000000) should be more than or equal to -5.000000 and less than "
+            + "10.000000.",
+        ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ArrayUtils.requireAllInRange(-5F, 10F, values, "Out of range."));
+    assertEquals("Out of range.", ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ArrayUtils.requireAllInRange(-5F, 10F, values, 2, 5, "Out of range."));
+    assertEquals("Out of range.", ex.getMessage());
+
+    assertThrows(
+        IllegalArgumentException.class, () -> ArrayUtils.requireAllInRange(10F, -5F, values));
+    assertThrows(
+        NullPointerException.class,
+        () -> ArrayUtils.requireAllInRange(-5F, 10F, (float[]) null, "values"));
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> ArrayUtils.requireAllInRange(-5F, 10F, values, 0, 6));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testAllNonNegativeFloat() {
+    float[] values = new float[] {0F, 3F, -2F, 5F};
+    assertTrue(ArrayUtils.allNonNegative(new float[] {0F, 3F, 5F}));
+    assertTrue(ArrayUtils.allNonNegative(new float[0]));
+    assertFalse(ArrayUtils.allNonNegative(values));
+    assertFalse(ArrayUtils.allNonNegative(new float[] {-Float.MAX_VALUE}));
+    assertTrue(ArrayUtils.allNonNegative(values, 0, 2));
+    assertFalse(ArrayUtils.allNonNegative(values, 1, 4));
+    assertThrows(NullPointerException.class, () -> ArrayUtils.allNonNegative((float[]) null));
+    assertThrows(IndexOutOfBoundsException.class, () -> ArrayUtils.allNonNegative(values, -1, 4));
+  }
+
+  @Test
+  public void testAllNonNegativeFloatSpecialValues() {
+    assertFalse(ArrayUtils.allNonNegative(new float[] {1.0F, -0.0F}));
+    assertTrue(ArrayUtils.allNonNegative(new float[] {0.0F, Float.NaN, Float.POSITIVE_INFINITY}));
+    assertFalse(ArrayUtils.allNonNegative(new float[] {Float.NEGATIVE_INFINITY}));
+    assertEquals(1, ArrayUtils.indexOfNegative(new float[] {Float.NaN, -0.0F}));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testIndexOfNegativeFloat() {
+    float[] values = new float[] {0F, -3F, 2F, -5F};
+    assertEquals(-1, ArrayUtils.indexOfNegative(new float[] {0F, 3F, 5F}));
+    assertEquals(1, ArrayUtils.indexOfNegative(values));
+    assertEquals(3, ArrayUtils.indexOfNegative(values, 2, 4));
+    assertEquals(-1, ArrayUtils.indexOfNegative(values, 2, 3));
+    assertThrows(NullPointerException.class, () -> ArrayUtils.indexOfNegative((float[]) null));
+    assertThrows(IndexOutOfBoundsException.class, () -> ArrayUtils.indexOfNegative(values, 0, 5));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testIndicesOfNegativeFloat() {
+    float[] values = new float[] {0F, -3F, 2F, -5F};
+    assertArrayEquals(new int[0], ArrayUtils.indicesOfNegative(new float[] {0F, 3F, 5F}));
+    assertArrayEquals(new int[] {1, 3}, ArrayUtils.indicesOfNegative(values));
+    assertArrayEquals(new int[] {3}, ArrayUtils.indicesOfNegative(values, 2, 4));
+    assertArrayEquals(new int[0], ArrayUtils.indicesOfNegative(values, 2, 3));
+    assertThrows(NullPointerException.class, () -> ArrayUtils.indicesOfNegative((float[]) null));
+    assertThrows(IndexOutOfBoundsException.class, () -> ArrayUtils.indicesOfNegative(values, 3, 2));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testRequireAllNonNegativeFloat() {
+    float[] values = new float[] {0F, -3F, 2F, -5F};
+    assertSame(values, ArrayUtils.requireAllNonNegative(values, 2, 3));
+    assertSame(values, ArrayUtils.requireAllNonNegative(values, 2, 3, "Unused message."));
+    float[] nonNegative = new float[] {0F, 3F, 5F};
+    assertSame(nonNegative, ArrayUtils.requireAllNonNegative(nonNegative));
+    assertSame(nonNegative, ArrayUtils.requireAllNonNegative(nonNegative, "Unused message."));
+
+    ValidationException ex =
+        assertThrows(ValidationException.class, () -> ArrayUtils.requireAllNonNegative(values));
+    assertEquals(1, ex.getIndex());
+    assertEquals(Check.NON_NEGATIVE, ex.getCheck());
+    assertEquals("values[1]: value cannot be negative.", ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class, () -> ArrayUtils.requireAllNonNegative(values, 2, 4));
+    assertEquals(3, ex.getIndex());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ArrayUtils.requireAllNonNegative(values, "Negative value."));
+    assertEquals("Negative value.", ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ArrayUtils.requireAllNonNegative(values, 2, 4, "Negative value."));
+    assertEquals("Negative value.", ex.getMessage());
+
+    assertThrows(
+        NullPointerException.class,
+        () -> ArrayUtils.requireAllNonNegative((float[]) null, "values"));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.requireAllNonNegative(values, 0, 5));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testAllEqualToFloat() {
+    float[] values = new float[] {7F, 7F, 8F, 7F};
+    assertTrue(ArrayUtils.allEqualTo(7F, new float[] {7F, 7F, 7F}));
+    assertTrue(ArrayUtils.allEqualTo(7F, new float[0]));
+    assertFalse(ArrayUtils.allEqualTo(7F, values));
+    assertFalse(ArrayUtils.allEqualTo(8F, values));
+    assertTrue(ArrayUtils.allEqualTo(7F, values, 0, 2));
+    assertTrue(ArrayUtils.allEqualTo(8F, values, 2, 3));
+    assertFalse(ArrayUtils.allEqualTo(7F, values, 1, 4));
+    assertThrows(NullPointerException.class, () -> ArrayUtils.allEqualTo(7F, (float[]) null));
+    assertThrows(IndexOutOfBoundsException.class, () -> ArrayUtils.allEqualTo(7F, values, 0, 5));
+  }
+
+  @Test
+  public void testAllEqualToFloatSpecialValues() {
+    assertTrue(ArrayUtils.allEqualTo(Float.NaN, new float[] {Float.NaN, 0.0F / 0.0F}));
+    assertFalse(ArrayUtils.allEqualTo(Float.NaN, new float[] {Float.NaN, 1.0F}));
+    assertFalse(ArrayUtils.allEqualTo(0.0F, new float[] {0.0F, -0.0F}));
+    assertTrue(ArrayUtils.allEqualTo(-0.0F, new float[] {-0.0F}));
+    assertEquals(1, ArrayUtils.indexOfNotEqualTo(0.0F, new float[] {0.0F, -0.0F}));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testIndexOfNotEqualToFloat() {
+    float[] values = new float[] {7F, 6F, 7F, 8F};
+    assertEquals(-1, ArrayUtils.indexOfNotEqualTo(7F, new float[] {7F, 7F, 7F}));
+    assertEquals(1, ArrayUtils.indexOfNotEqualTo(7F, values));
+    assertEquals(3, ArrayUtils.indexOfNotEqualTo(7F, values, 2, 4));
+    assertEquals(-1, ArrayUtils.indexOfNotEqualTo(7F, values, 2, 3));
+    assertThrows(
+        NullPointerException.class, () -> ArrayUtils.indexOfNotEqualTo(7F, (float[]) null));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.indexOfNotEqualTo(7F, values, 5, 5));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testIndicesNotEqualToFloat() {
+    float[] values = new float[] {7F, 6F, 7F, 8F};
+    assertArrayEquals(new int[0], ArrayUtils.indicesNotEqualTo(7F, new float[] {7F, 7F, 7F}));
+    assertArrayEquals(new int[] {1, 3}, ArrayUtils.indicesNotEqualTo(7F, values));
+    assertArrayEquals(new int[] {3}, ArrayUtils.indicesNotEqualTo(7F, values, 2, 4));
+    assertArrayEquals(new int[] {0, 2}, ArrayUtils.indicesNotEqualTo(6F, values, 0, 3));
+    assertThrows(
+        NullPointerException.class, () -> ArrayUtils.indicesNotEqualTo(7F, (float[]) null));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.indicesNotEqualTo(7F, values, -1, 3));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testRequireAllEqualToFloat() {
+    float[] values = new float[] {7F, 6F, 7F, 8F};
+    assertSame(values, ArrayUtils.requireAllEqualTo(7F, values, 2, 3));
+    assertSame(values, ArrayUtils.requireAllEqualTo(7F, values, 2, 3, "Unused message."));
+    float[] sevens = new float[] {7F, 7F, 7F};
+    assertSame(sevens, ArrayUtils.requireAllEqualTo(7F, sevens));
+    assertSame(sevens, ArrayUtils.requireAllEqualTo(7F, sevens, "Unused message."));
+
+    ValidationException ex =
+        assertThrows(ValidationException.class, () -> ArrayUtils.requireAllEqualTo(7F, values));
+    assertEquals(1, ex.getIndex());
+    assertEquals(Check.EQUAL_TO, ex.getCheck());
+    assertEquals("values[1]: value(6.000000) should be equal to 7.000000.", ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class, () -> ArrayUtils.requireAllEqualTo(7F, values, 2, 4));
+    assertEquals(3, ex.getIndex());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ArrayUtils.requireAllEqualTo(7F, values, "Not seven."));
+    assertEquals("Not seven.", ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ArrayUtils.requireAllEqualTo(7F, values, 2, 4, "Not seven."));
+    assertEquals("Not seven.", ex.getMessage());
+
+    assertThrows(
+        NullPointerException.class,
+        () -> ArrayUtils.requireAllEqualTo(7F, (float[]) null, "values"));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.requireAllEqualTo(7F, values, 0, 5));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testAllInRangeDouble() {
+    double[] values = new double[] {-5D, 0D, 7D, 9D};
+    assertTrue(ArrayUtils.allInRange(-5D, 10D, values));
+    assertTrue(ArrayUtils.allInRange(0D, 0D, new double[0]));
+    assertFalse(ArrayUtils.allInRange(-4D, 10D, values));
+    assertFalse(ArrayUtils.allInRange(-5D, 9D, values));
+    assertTrue(ArrayUtils.allInRange(0D, 8D, values, 1, 3));
+    assertTrue(ArrayUtils.allInRange(0D, 0D, values, 2, 2));
+    assertFalse(ArrayUtils.allInRange(0D, 8D, values, 1, 4));
+
+    IllegalArgumentException ex =
+        assertThrows(IllegalArgumentException.class, () -> ArrayUtils.allInRange(10D, -5D, values));
+    assertEquals(
+        "maxValue( -5.000000 ) cannot be less than minValue( 10.000000 ).", ex.getMessage());
+    assertThrows(
+        NullPointerException.class, () -> ArrayUtils.allInRange(-5D, 10D, (double[]) null));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.allInRange(-5D, 10D, values, -1, 2));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.allInRange(-5D, 10D, values, 0, 5));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.allInRange(-5D, 10D, values, 3, 2));
+  }
+
+  @Test
+  public void testAllInRangeDoubleSpecialValues() {
+    assertFalse(ArrayUtils.allInRange(0.0D, 10.0D, new double[] {-0.0D}));
+    assertTrue(ArrayUtils.allInRange(-0.0D, 0.0D, new double[] {-0.0D, -0.0D}));
+    assertFalse(ArrayUtils.allInRange(-0.0D, 0.0D, new double[] {-0.0D, 0.0D}));
+    assertFalse(ArrayUtils.allInRange(0.0D, 10.0D, new double[] {1.0D, Double.NaN}));
+    assertFalse(ArrayUtils.allInRange(0.0D, Double.NaN, new double[] {1.0D, Double.NaN}));
+    assertTrue(
+        ArrayUtils.allInRange(0.0D, Double.NaN, new double[] {1.0D, Double.POSITIVE_INFINITY}));
+    assertEquals(1, ArrayUtils.indexOfNotInRange(0.0D, 10.0D, new double[] {1.0D, Double.NaN}));
+    assertEquals(0, ArrayUtils.indexOfNotInRange(0.0D, 10.0D, new double[] {-0.0D, Double.NaN}));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testIndexOfNotInRangeDouble() {
+    double[] values = new double[] {1D, -6D, 3D, 10D, 4D};
+    assertEquals(-1, ArrayUtils.indexOfNotInRange(-6D, 11D, values));
+    assertEquals(1, ArrayUtils.indexOfNotInRange(-5D, 10D, values));
+    assertEquals(3, ArrayUtils.indexOfNotInRange(-5D, 10D, values, 2, 5));
+    assertEquals(-1, ArrayUtils.indexOfNotInRange(-5D, 10D, values, 2, 3));
+    assertEquals(-1, ArrayUtils.indexOfNotInRange(-5D, 10D, new double[0]));
+    assertThrows(
+        IllegalArgumentException.class, () -> ArrayUtils.indexOfNotInRange(10D, -5D, values));
+    assertThrows(
+        NullPointerException.class, () -> ArrayUtils.indexOfNotInRange(-5D, 10D, (double[]) null));
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> ArrayUtils.indexOfNotInRange(-5D, 10D, values, 0, 6));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testIndicesNotInRangeDouble() {
+    double[] values = new double[] {1D, -6D, 3D, 10D, 4D};
+    assertArrayEquals(new int[0], ArrayUtils.indicesNotInRange(-6D, 11D, values));
+    assertArrayEquals(new int[] {1, 3}, ArrayUtils.indicesNotInRange(-5D, 10D, values));
+    assertArrayEquals(new int[] {3}, ArrayUtils.indicesNotInRange(-5D, 10D, values, 2, 5));
+    assertArrayEquals(new int[] {0, 1, 2, 3, 4}, ArrayUtils.indicesNotInRange(20D, 30D, values));
+    assertSame(
+        ArrayUtils.indicesNotInRange(-6D, 11D, values),
+        ArrayUtils.indicesNotInRange(0D, 0D, new double[0]));
+    assertThrows(
+        IllegalArgumentException.class, () -> ArrayUtils.indicesNotInRange(10D, -5D, values));
+    assertThrows(
+        NullPointerException.class, () -> ArrayUtils.indicesNotInRange(-5D, 10D, (double[]) null));
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> ArrayUtils.indicesNotInRange(-5D, 10D, values, 4, 1));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testRequireAllInRangeDouble() {
+    double[] values = new double[] {1D, -6D, 3D, 10D, 4D};
+    assertSame(values, ArrayUtils.requireAllInRange(-6D, 11D, values));
+    assertSame(values, ArrayUtils.requireAllInRange(-6D, 11D, values, "Unused message."));
+    assertSame(values, ArrayUtils.requireAllInRange(-5D, 10D, values, 2, 3));
+    assertSame(values, ArrayUtils.requireAllInRange(-5D, 10D, values, 2, 3, "Unused message."));
+
+    ValidationException ex =
+        assertThrows(
+            ValidationException.class, () -> ArrayUtils.requireAllInRange(-5D, 10D, values));
+    assertEquals(1, ex.getIndex());
+    assertEquals(Check.IN_RANGE, ex.getCheck());
+    assertEquals(
+        "values[1]: value(-6.000000) should be more than or equal to -5.000000 and less than "
+            + "10.000000.",
+        ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class, () -> ArrayUtils.requireAllInRange(-5D, 10D, values, 2, 5));
+    assertEquals(3, ex.getIndex());
+    assertEquals(
+        "values[3]: value(10.000000) should be more than or equal to -5.000000 and less than "
+            + "10.000000.",
+        ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ArrayUtils.requireAllInRange(-5D, 10D, values, "Out of range."));
+    assertEquals("Out of range.", ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ArrayUtils.requireAllInRange(-5D, 10D, values, 2, 5, "Out of range."));
+    assertEquals("Out of range.", ex.getMessage());
+
+    assertThrows(
+        IllegalArgumentException.class, () -> ArrayUtils.requireAllInRange(10D, -5D, values));
+    assertThrows(
+        NullPointerException.class,
+        () -> ArrayUtils.requireAllInRange(-5D, 10D, (double[]) null, "values"));
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> ArrayUtils.requireAllInRange(-5D, 10D, values, 0, 6));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testAllNonNegativeDouble() {
+    double[] values = new double[] {0D, 3D, -2D, 5D};
+    assertTrue(ArrayUtils.allNonNegative(new double[] {0D, 3D, 5D}));
+    assertTrue(ArrayUtils.allNonNegative(new double[0]));
+    assertFalse(ArrayUtils.allNonNegative(values));
+    assertFalse(ArrayUtils.allNonNegative(new double[] {-Double.MAX_VALUE}));
+    assertTrue(ArrayUtils.allNonNegative(values, 0, 2));
+    assertFalse(ArrayUtils.allNonNegative(values, 1, 4));
+    assertThrows(NullPointerException.class, () -> ArrayUtils.allNonNegative((double[]) null));
+    assertThrows(IndexOutOfBoundsException.class, () -> ArrayUtils.allNonNegative(values, -1, 4));
+  }
+
+  @Test
+  public void testAllNonNegativeDoubleSpecialValues() {
+    assertFalse(ArrayUtils.allNonNegative(new double[] {1.0D, -0.0D}));
+    assertTrue(
+        ArrayUtils.allNonNegative(new double[] {0.0D, Double.NaN, Double.POSITIVE_INFINITY}));
+    assertFalse(ArrayUtils.allNonNegative(new double[] {Double.NEGATIVE_INFINITY}));
+    assertEquals(1, ArrayUtils.indexOfNegative(new double[] {Double.NaN, -0.0D}));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testIndexOfNegativeDouble() {
+    double[] values = new double[] {0D, -3D, 2D, -5D};
+    assertEquals(-1, ArrayUtils.indexOfNegative(new double[] {0D, 3D, 5D}));
+    assertEquals(1, ArrayUtils.indexOfNegative(values));
+    assertEquals(3, ArrayUtils.indexOfNegative(values, 2, 4));
+    assertEquals(-1, ArrayUtils.indexOfNegative(values, 2, 3));
+    assertThrows(NullPointerException.class, () -> ArrayUtils.indexOfNegative((double[]) null));
+    assertThrows(IndexOutOfBoundsException.class, () -> ArrayUtils.indexOfNegative(values, 0, 5));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testIndicesOfNegativeDouble() {
+    double[] values = new double[] {0D, -3D, 2D, -5D};
+    assertArrayEquals(new int[0], ArrayUtils.indicesOfNegative(new double[] {0D, 3D, 5D}));
+    assertArrayEquals(new int[] {1, 3}, ArrayUtils.indicesOfNegative(values));
+    assertArrayEquals(new int[] {3}, ArrayUtils.indicesOfNegative(values, 2, 4));
+    assertArrayEquals(new int[0], ArrayUtils.indicesOfNegative(values, 2, 3));
+    assertThrows(NullPointerException.class, () -> ArrayUtils.indicesOfNegative((double[]) null));
+    assertThrows(IndexOutOfBoundsException.class, () -> ArrayUtils.indicesOfNegative(values, 3, 2));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testRequireAllNonNegativeDouble() {
+    double[] values = new double[] {0D, -3D, 2D, -5D};
+    assertSame(values, ArrayUtils.requireAllNonNegative(values, 2, 3));
+    assertSame(values, ArrayUtils.requireAllNonNegative(values, 2, 3, "Unused message."));
+    double[] nonNegative = new double[] {0D, 3D, 5D};
+    assertSame(nonNegative, ArrayUtils.requireAllNonNegative(nonNegative));
+    assertSame(nonNegative, ArrayUtils.requireAllNonNegative(nonNegative, "Unused message."));
+
+    ValidationException ex =
+        assertThrows(ValidationException.class, () -> ArrayUtils.requireAllNonNegative(values));
+    assertEquals(1, ex.getIndex());
+    assertEquals(Check.NON_NEGATIVE, ex.getCheck());
+    assertEquals("values[1]: value cannot be negative.", ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class, () -> ArrayUtils.requireAllNonNegative(values, 2, 4));
+    assertEquals(3, ex.getIndex());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ArrayUtils.requireAllNonNegative(values, "Negative value."));
+    assertEquals("Negative value.", ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ArrayUtils.requireAllNonNegative(values, 2, 4, "Negative value."));
+    assertEquals("Negative value.", ex.getMessage());
+
+    assertThrows(
+        NullPointerException.class,
+        () -> ArrayUtils.requireAllNonNegative((double[]) null, "values"));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.requireAllNonNegative(values, 0, 5));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testAllEqualToDouble() {
+    double[] values = new double[] {7D, 7D, 8D, 7D};
+    assertTrue(ArrayUtils.allEqualTo(7D, new double[] {7D, 7D, 7D}));
+    assertTrue(ArrayUtils.allEqualTo(7D, new double[0]));
+    assertFalse(ArrayUtils.allEqualTo(7D, values));
+    assertFalse(ArrayUtils.allEqualTo(8D, values));
+    assertTrue(ArrayUtils.allEqualTo(7D, values, 0, 2));
+    assertTrue(ArrayUtils.allEqualTo(8D, values, 2, 3));
+    assertFalse(ArrayUtils.allEqualTo(7D, values, 1, 4));
+    assertThrows(NullPointerException.class, () -> ArrayUtils.allEqualTo(7D, (double[]) null));
+    assertThrows(IndexOutOfBoundsException.class, () -> ArrayUtils.allEqualTo(7D, values, 0, 5));
+  }
+
+  @Test
+  public void testAllEqualToDoubleSpecialValues() {
+    assertTrue(ArrayUtils.allEqualTo(Double.NaN, new double[] {Double.NaN, 0.0D / 0.0D}));
+    assertFalse(ArrayUtils.allEqualTo(Double.NaN, new double[] {Double.NaN, 1.0D}));
+    assertFalse(ArrayUtils.allEqualTo(0.0D, new double[] {0.0D, -0.0D}));
+    assertTrue(ArrayUtils.allEqualTo(-0.0D, new double[] {-0.0D}));
+    assertEquals(1, ArrayUtils.indexOfNotEqualTo(0.0D, new double[] {0.0D, -0.0D}));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testIndexOfNotEqualToDouble() {
+    double[] values = new double[] {7D, 6D, 7D, 8D};
+    assertEquals(-1, ArrayUtils.indexOfNotEqualTo(7D, new double[] {7D, 7D, 7D}));
+    assertEquals(1, ArrayUtils.indexOfNotEqualTo(7D, values));
+    assertEquals(3, ArrayUtils.indexOfNotEqualTo(7D, values, 2, 4));
+    assertEquals(-1, ArrayUtils.indexOfNotEqualTo(7D, values, 2, 3));
+    assertThrows(
+        NullPointerException.class, () -> ArrayUtils.indexOfNotEqualTo(7D, (double[]) null));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.indexOfNotEqualTo(7D, values, 5, 5));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testIndicesNotEqualToDouble() {
+    double[] values = new double[] {7D, 6D, 7D, 8D};
+    assertArrayEquals(new int[0], ArrayUtils.indicesNotEqualTo(7D, new double[] {7D, 7D, 7D}));
+    assertArrayEquals(new int[] {1, 3}, ArrayUtils.indicesNotEqualTo(7D, values));
+    assertArrayEquals(new int[] {3}, ArrayUtils.indicesNotEqualTo(7D, values, 2, 4));
+    assertArrayEquals(new int[] {0, 2}, ArrayUtils.indicesNotEqualTo(6D, values, 0, 3));
+    assertThrows(
+        NullPointerException.class, () -> ArrayUtils.indicesNotEqualTo(7D, (double[]) null));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.indicesNotEqualTo(7D, values, -1, 3));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testRequireAllEqualToDouble() {
+    double[] values = new double[] {7D, 6D, 7D, 8D};
+    assertSame(values, ArrayUtils.requireAllEqualTo(7D, values, 2, 3));
+    assertSame(values, ArrayUtils.requireAllEqualTo(7D, values, 2, 3, "Unused message."));
+    double[] sevens = new double[] {7D, 7D, 7D};
+    assertSame(sevens, ArrayUtils.requireAllEqualTo(7D, sevens));
+    assertSame(sevens, ArrayUtils.requireAllEqualTo(7D, sevens, "Unused message."));
+
+    ValidationException ex =
+        assertThrows(ValidationException.class, () -> ArrayUtils.requireAllEqualTo(7D, values));
+    assertEquals(1, ex.getIndex());
+    assertEquals(Check.EQUAL_TO, ex.getCheck());
+    assertEquals("values[1]: value(6.000000) should be equal to 7.000000.", ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class, () -> ArrayUtils.requireAllEqualTo(7D, values, 2, 4));
+    assertEquals(3, ex.getIndex());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ArrayUtils.requireAllEqualTo(7D, values, "Not seven."));
+    assertEquals("Not seven.", ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ArrayUtils.requireAllEqualTo(7D, values, 2, 4, "Not seven."));
+    assertEquals("Not seven.", ex.getMessage());
+
+    assertThrows(
+        NullPointerException.class,
+        () -> ArrayUtils.requireAllEqualTo(7D, (double[]) null, "values"));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ArrayUtils.requireAllEqualTo(7D, values, 0, 5));
+  }
+
+  @Test
+  public void testBulkChecksOnLongArrays() {
+    // Long enough for the vectorized checks to process several full vectors and a tail
+    int size = 131;
+    int[] ints = new int[size];
+    long[] longs = new long[size];
+    float[] floats = new float[size];
+    double[] doubles = new double[size];
+    Arrays.fill(ints, 7);
+    Arrays.fill(longs, 7L);
+    Arrays.fill(floats, 7.0F);
+    Arrays.fill(doubles, 7.0D);
+    assertTrue(ArrayUtils.allInRange(0, 8, ints));
+    assertTrue(ArrayUtils.allInRange(0L, 8L, longs));
+    assertTrue(ArrayUtils.allInRange(0.0F, 8.0F, floats));
+    assertTrue(ArrayUtils.allInRange(0.0D, 8.0D, doubles));
+    assertTrue(ArrayUtils.allNonNegative(ints));
+    assertTrue(ArrayUtils.allNonNegative(longs));
+    assertTrue(ArrayUtils.allNonNegative(floats));
+    assertTrue(ArrayUtils.allNonNegative(doubles));
+    assertTrue(ArrayUtils.allEqualTo(7, ints));
+    assertTrue(ArrayUtils.allEqualTo(7L, longs));
+    assertTrue(ArrayUtils.allEqualTo(7.0F, floats));
+    assertTrue(ArrayUtils.allEqualTo(7.0D, doubles));
+
+    for (int i = 0; i < size; i++) {
+      ints[i] = -1;
+      longs[i] = -1L;
+      floats[i] = -0.0F;
+      doubles[i] = -0.0D;
+      assertFalse(ArrayUtils.allInRange(0, 8, ints));
+      assertFalse(ArrayUtils.allInRange(0L, 8L, longs));
+      assertFalse(ArrayUtils.allInRange(0.0F, 8.0F, floats));
+      assertFalse(ArrayUtils.allInRange(0.0D, 8.0D, doubles));
+      assertFalse(ArrayUtils.allNonNegative(ints));
+      assertFalse(ArrayUtils.allNonNegative(longs));
+      assertFalse(ArrayUtils.allNonNegative(floats));
+      assertFalse(ArrayUtils.allNonNegative(doubles));
+      assertFalse(ArrayUtils.allEqualTo(7, ints));
+      assertFalse(ArrayUtils.allEqualTo(7L, longs));
+      assertFalse(ArrayUtils.allEqualTo(7.0F, floats));
+      assertFalse(ArrayUtils.allEqualTo(7.0D, doubles));
+      assertTrue(ArrayUtils.allEqualTo(7, ints, i + 1, size));
+      assertTrue(ArrayUtils.allEqualTo(7L, longs, 0, i));
+      assertTrue(ArrayUtils.allNonNegative(floats, i + 1, size));
+      assertTrue(ArrayUtils.allInRange(0.0D, 8.0D, doubles, 0, i));
+
+      floats[i] = Float.NaN;
+      doubles[i] = Double.NaN;
+      assertFalse(ArrayUtils.allInRange(0.0F, 8.0F, floats));
+      assertFalse(ArrayUtils.allInRange(0.0D, 8.0D, doubles));
+      assertTrue(ArrayUtils.allNonNegative(floats));
+      assertTrue(ArrayUtils.allNonNegative(doubles));
+
+      ints[i] = 7;
+      longs[i] = 7L;
+      floats[i] = 7.0F;
+      doubles[i] = 7.0D;
+    }
+
+    // Every NaN is equal to the canonical NaN
+    Arrays.fill(floats, Float.intBitsToFloat(0x7fc00001));
+    Arrays.fill(doubles, Double.longBitsToDouble(0x7ff8000000000001L));
+    assertTrue(ArrayUtils.allEqualTo(Float.NaN, floats));
+    assertTrue(ArrayUtils.allEqualTo(Double.NaN, doubles));
+  }
+}
@@ -0,0 +1,181 @@
+package io.github.kennedykori.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link CoarseClock} class. */
+public class CoarseClockTest {
+
+  // How long to wait for a tick before failing
+  private static final long TIMEOUT_MILLIS = 10_000L;
+
+  @SuppressWarnings(value = "nullness:argument")
+  @Test
+  public void testStart() {
+    try (CoarseClock clock = CoarseClock.start(Duration.ofMillis(5))) {
+      assertEquals(Duration.ofMillis(5), clock.getResolution());
+      assertEquals(ZoneOffset.UTC, clock.getZone());
+    }
+    ManualClock source = new ManualClock(1000L, ZoneId.of("Africa/Nairobi"));
+    try (CoarseClock clock = CoarseClock.start(source, Duration.ofHours(1))) {
+      assertEquals(ZoneId.of("Africa/Nairobi"), clock.getZone());
+      // The time of the source clock is read when the clock is created
+      assertEquals(1000L, clock.millis());
+      assertEquals(Instant.ofEpochMilli(1000L), clock.instant());
+      // The time only changes on a tick, not when the time of the source clock changes
+      source.millis = 2000L;
+      assertEquals(1000L, clock.millis());
+      assertEquals("CoarseClock[ManualClock, PT1H, Africa/Nairobi]", clock.toString());
+    }
+
+    IllegalArgumentException ex =
+        assertThrows(IllegalArgumentException.class, () -> CoarseClock.start(Duration.ZERO));
+    assertEquals("resolution( PT0S ) must be positive.", ex.getMessage());
+    assertThrows(IllegalArgumentException.class, () -> CoarseClock.start(Duration.ofNanos(-1)));
+    // A resolution too long to be given in nanoseconds doesn't overflow
+    try (CoarseClock clock = CoarseClock.start(Duration.ofSeconds(Long.MAX_VALUE))) {
+      assertEquals(Duration.ofSeconds(Long.MAX_VALUE), clock.getResolution());
+    }
+    assertThrows(NullPointerException.class, () -> CoarseClock.start(null));
+    assertThrows(NullPointerException.class, () -> CoarseClock.start(null, Duration.ofMillis(1)));
+  }
+
+  @Test
+  public void testTicks() throws InterruptedException {
+    ManualClock source = new ManualClock(1000L, ZoneOffset.UTC);
+    try (CoarseClock clock = CoarseClock.start(source, Duration.ofMillis(1))) {
+      source.millis = 2000L;
+      assertTrue(awaitMillis(clock, 2000L), "The clock didn't tick.");
+      source.millis = 3000L;
+      assertTrue(awaitMillis(clock, 3000L), "The clock didn't tick.");
+    }
+  }
+
+  @Test
+  public void testFailedTicks() throws InterruptedException {
+    ManualClock source = new ManualClock(1000L, ZoneOffset.UTC);
+    try (CoarseClock clock = CoarseClock.start(source, Duration.ofMillis(1))) {
+      source.failing = true;
+      Thread.sleep(20);
+      // The failed ticks are skipped and the clock keeps the last time it read
+      assertEquals(1000L, clock.millis());
+      source.failing = false;
+      source.millis = 2000L;
+      assertTrue(awaitMillis(clock, 2000L), "The clock stopped ticking after a failed tick.");
+    }
+  }
+
+  @Test
+  public void testClose() throws InterruptedException {
+    ManualClock source = new ManualClock(1000L, ZoneOffset.UTC);
+    CoarseClock clock = CoarseClock.start(source, Duration.ofMillis(1));
+    CoarseClock nairobi = clock.withZone(ZoneId.of("Africa/Nairobi"));
+    clock.close();
+    // Give a tick that was already running the chance to finish
+    Thread.sleep(20);
+    long last = clock.millis();
+    source.millis = 5000L;
+    Thread.sleep(20);
+    assertEquals(last, clock.millis());
+    assertEquals(last, nairobi.millis());
+    // Closing a clock twice has no effect
+    nairobi.close();
+  }
+
+  @SuppressWarnings(value = "nullness:argument")
+  @Test
+  public void testWithZone() throws InterruptedException {
+    ManualClock source = new ManualClock(1000L, ZoneOffset.UTC);
+    try (CoarseClock clock = CoarseClock.start(source, Duration.ofMillis(1))) {
+      assertSame(clock, clock.withZone(ZoneOffset.UTC));
+      CoarseClock nairobi = clock.withZone(ZoneId.of("Africa/Nairobi"));
+      assertEquals(ZoneId.of("Africa/Nairobi"), nairobi.getZone());
+      assertEquals(clock.getResolution(), nairobi.getResolution());
+      // The copy shares the ticks of the original clock
+      source.millis = 2000L;
+      assertTrue(awaitMillis(nairobi, 2000L), "The copy didn't tick.");
+      assertEquals(2000L, clock.millis());
+      assertThrows(NullPointerException.class, () -> clock.withZone(null));
+    }
+  }
+
+  @Test
+  public void testClockChecks() throws InterruptedException {
+    ManualClock source = new ManualClock(60_000L, ZoneOffset.UTC);
+    try (CoarseClock clock = CoarseClock.start(source, Duration.ofMillis(1))) {
+      assertEquals(60_000L, ObjectUtils.requireNotInFuture(clock, 60_000L));
+      assertThrows(ValidationException.class, () -> ObjectUtils.requireNotInFuture(clock, 60_001L));
+      assertEquals(
+          Instant.EPOCH,
+          ObjectUtils.requireWithinLast(clock, Duration.ofMinutes(1), Instant.EPOCH));
+
+      source.millis = 120_000L;
+      assertTrue(awaitMillis(clock, 120_000L), "The clock didn't tick.");
+      assertEquals(60_001L, ObjectUtils.requireNotInFuture(clock, 60_001L));
+      assertThrows(
+          ValidationException.class,
+          () -> ObjectUtils.requireWithinLast(clock, Duration.ofMinutes(1), Instant.EPOCH));
+    }
+  }
+
+  // Waits until the clock returns the given time and returns false if it doesn't in time
+  private static boolean awaitMillis(Clock clock, long millis) throws InterruptedException {
+    long deadline = System.nanoTime() + TIMEOUT_MILLIS * 1_000_000L;
+    while (clock.millis() != millis) {
+      if (System.nanoTime() - deadline > 0) {
+        return false;
+      }
+      Thread.sleep(1);
+    }
+    return true;
+  }
+
+  /** A clock whose time is set by the tests. */
+  private static final class ManualClock extends Clock {
+    private final ZoneId zone;
+    volatile long millis;
+    volatile boolean failing;
+
+    ManualClock(long millis, ZoneId zone) {
+      this.millis = millis;
+      this.zone = zone;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public long millis() {
+      if (failing) {
+        throw new IllegalStateException("The clock is failing.");
+      }
+      return millis;
+    }
+
+    @Override
+    public Instant instant() {
+      return Instant.ofEpochMilli(millis);
+    }
+
+    @Override
+    public String toString() {
+      return "ManualClock";
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package io.github.kennedykori.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link DecimalRange} class. */
+public class DecimalRangeTest {
+
+  @SuppressWarnings(value = "nullness:argument")
+  @Test
+  public void testOf() {
+    DecimalRange range = DecimalRange.of(new BigDecimal("-1.5"), new BigDecimal("2.5"));
+    assertEquals(new BigDecimal("-1.5"), range.getMinValue());
+    assertEquals(new BigDecimal("2.5"), range.getMaxValue());
+    assertFalse(range.isEmpty());
+    assertTrue(DecimalRange.of(new BigDecimal("0.5"), new BigDecimal("0.50")).isEmpty());
+
+    IllegalArgumentException ex =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> DecimalRange.of(new BigDecimal("2.5"), new BigDecimal("-1.5")));
+    assertEquals("maxValue( -1.5 ) cannot be less than minValue( 2.5 ).", ex.getMessage());
+    assertThrows(NullPointerException.class, () -> DecimalRange.of(null, BigDecimal.ONE));
+    assertThrows(NullPointerException.class, () -> DecimalRange.of(BigDecimal.ONE, null));
+  }
+
+  @SuppressWarnings(value = "nullness:argument")
+  @Test
+  public void testContains() {
+    DecimalRange range = DecimalRange.of(new BigDecimal("-1.5"), new BigDecimal("2.5"));
+    assertTrue(range.contains(new BigDecimal("-1.50")));
+    assertTrue(range.contains(BigDecimal.ZERO));
+    assertTrue(range.contains(new BigDecimal("2.4999999999")));
+    assertFalse(range.contains(new BigDecimal("-1.5000000001")));
+    assertFalse(range.contains(new BigDecimal("2.5")));
+    assertFalse(range.contains(new BigDecimal("2.500")));
+    assertFalse(DecimalRange.of(BigDecimal.ONE, BigDecimal.ONE).contains(BigDecimal.ONE));
+    assertThrows(NullPointerException.class, () -> range.contains(null));
+  }
+
+  @Test
+  public void testRequire() {
+    BigDecimal half = new BigDecimal("0.5");
+    BigDecimal two = new BigDecimal("2");
+    DecimalRange range = DecimalRange.of(BigDecimal.ZERO, BigDecimal.ONE);
+    assertEquals(half, range.require(half));
+    assertEquals(half, range.require(half, "value must be a fraction."));
+    assertEquals(half, range.require(half, () -> "value must be a fraction."));
+    assertEquals(half, range.require(half, "%s must be a fraction.", half));
+
+    ValidationException ex = assertThrows(ValidationException.class, () -> range.require(two));
+    assertEquals("value(2) should be more than or equal to 0 and less than 1.", ex.getMessage());
+    assertEquals(two, ex.getValue());
+    assertEquals(BigDecimal.ZERO, ex.getBound());
+    assertEquals(BigDecimal.ONE, ex.getUpperBound());
+
+    ValidationException ex1 =
+        assertThrows(
+            ValidationException.class, () -> range.require(two, "value must be a fraction."));
+    assertEquals("value must be a fraction.", ex1.getMessage());
+    ValidationException ex2 =
+        assertThrows(
+            ValidationException.class, () -> range.require(two, () -> "value must be a fraction."));
+    assertEquals("value must be a fraction.", ex2.getMessage());
+    ValidationException ex3 =
+        assertThrows(
+            ValidationException.class, () -> range.require(two, "%s isn't a fraction.", two));
+    assertEquals("2 isn't a fraction.", ex3.getMessage());
+    ValidationException ex4 =
+        assertThrows(ValidationException.class, () -> range.require(two, (Supplier<String>) null));
+    assertEquals("value(2) should be more than or equal to 0 and less than 1.", ex4.getMessage());
+  }
+
+  @Test
+  public void testEqualsHashCodeAndToString() {
+    DecimalRange range = DecimalRange.of(BigDecimal.ZERO, BigDecimal.ONE);
+    assertEquals(range, range);
+    assertEquals(DecimalRange.of(new BigDecimal("0"), new BigDecimal("1")), range);
+    assertEquals(
+        DecimalRange.of(new BigDecimal("0"), new BigDecimal("1")).hashCode(), range.hashCode());
+    assertNotEquals(DecimalRange.of(BigDecimal.ZERO, BigDecimal.TEN), range);
+    assertNotEquals(DecimalRange.of(new BigDecimal("0.0"), BigDecimal.ONE), range);
+    assertNotEquals(range, range.toString());
+    assertEquals("[0, 1)", range.toString());
+  }
+}
@@ -0,0 +1,162 @@
+package io.github.kennedykori.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.kennedykori.utils.ValidationException.Check;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link DoubleRangeSet} class. */
+public class DoubleRangeSetTest {
+
+  @SuppressWarnings(value = "nullness:argument")
+  @Test
+  public void testOf() {
+    DoubleRangeSet set =
+        DoubleRangeSet.of(
+            DoubleRange.of(5150D, 5350D),
+            DoubleRange.of(2400D, 2450D),
+            DoubleRange.of(2440D, 2483.5D),
+            DoubleRange.of(5350D, 5350D),
+            DoubleRange.of(5250D, 5300D));
+    assertEquals(
+        List.of(DoubleRange.of(2400D, 2483.5D), DoubleRange.of(5150D, 5350D)), set.getRanges());
+    assertFalse(set.isEmpty());
+    assertTrue(DoubleRangeSet.of().isEmpty());
+    assertTrue(DoubleRangeSet.of(DoubleRange.of(1D, 1D)).isEmpty());
+    // -0.0 is less than 0.0, so these ranges are adjacent
+    assertEquals(
+        List.of(DoubleRange.of(-1D, 1D)),
+        DoubleRangeSet.of(DoubleRange.of(-1D, -0D), DoubleRange.of(-0D, 0D), DoubleRange.of(0D, 1D))
+            .getRanges());
+    assertEquals(
+        List.of(DoubleRange.of(Double.NEGATIVE_INFINITY, Double.NaN)),
+        DoubleRangeSet.of(
+                DoubleRange.of(0D, Double.NaN), DoubleRange.of(Double.NEGATIVE_INFINITY, 0D))
+            .getRanges());
+    assertEquals(
+        set,
+        DoubleRangeSet.of(List.of(DoubleRange.of(5150D, 5350D), DoubleRange.of(2400D, 2483.5D))));
+
+    NullPointerException ex =
+        assertThrows(
+            NullPointerException.class, () -> DoubleRangeSet.of(DoubleRange.of(0D, 1D), null));
+    assertEquals("ranges cannot contain null.", ex.getMessage());
+    assertThrows(NullPointerException.class, () -> DoubleRangeSet.of((DoubleRange[]) null));
+    assertThrows(NullPointerException.class, () -> DoubleRangeSet.of((List<DoubleRange>) null));
+  }
+
+  @Test
+  public void testContains() {
+    DoubleRangeSet set = DoubleRangeSet.of(DoubleRange.of(-1D, -0D), DoubleRange.of(2D, 3.5D));
+    assertTrue(set.contains(-1D));
+    assertTrue(set.contains(-Double.MIN_VALUE));
+    assertTrue(set.contains(2D));
+    assertTrue(set.contains(Math.nextDown(3.5D)));
+    assertFalse(set.contains(-0D));
+    assertFalse(set.contains(0D));
+    assertFalse(set.contains(Math.nextDown(-1D)));
+    assertFalse(set.contains(3.5D));
+    assertFalse(set.contains(Double.NaN));
+    assertFalse(set.contains(Double.NEGATIVE_INFINITY));
+    assertFalse(set.contains(Double.POSITIVE_INFINITY));
+    assertFalse(DoubleRangeSet.of().contains(0D));
+    assertTrue(DoubleRangeSet.of(DoubleRange.of(0D, Double.NaN)).contains(Double.MAX_VALUE));
+    assertFalse(DoubleRangeSet.of(DoubleRange.of(0D, Double.NaN)).contains(Double.NaN));
+
+    // Agrees with checking every range, for sets of many sizes
+    Random random = new Random(25);
+    for (int size = 0; size < 200; size += 1 + size / 4) {
+      List<DoubleRange> ranges = new ArrayList<>();
+      for (int index = 0; index < size; index++) {
+        double minValue = random.nextGaussian() * size;
+        ranges.add(DoubleRange.of(minValue, minValue + random.nextDouble() * 4));
+      }
+      DoubleRangeSet actual = DoubleRangeSet.of(ranges);
+      for (int probe = 0; probe < 2000; probe++) {
+        double value = random.nextGaussian() * size;
+        boolean expected = false;
+        for (DoubleRange range : ranges) {
+          expected |= range.contains(value);
+        }
+        assertEquals(expected, actual.contains(value), Double.toString(value));
+      }
+    }
+  }
+
+  @Test
+  public void testRequire() {
+    DoubleRangeSet set = DoubleRangeSet.of(DoubleRange.of(2400D, 2483.5D));
+    assertEquals(2412D, set.require(2412D));
+    assertEquals(2412D, set.require(2412D, "frequency must be allowed."));
+    assertEquals(2412D, set.require(2412D, () -> "frequency must be allowed."));
+    assertEquals(2412D, set.require(2412D, "%s must be allowed.", 2412D));
+
+    ValidationException ex = assertThrows(ValidationException.class, () -> set.require(5000D));
+    assertEquals(
+        "value(5000.0) should be in one of the ranges [[2400.0, 2483.5)].", ex.getMessage());
+    assertEquals(Check.IN_ANY_RANGE, ex.getCheck());
+    assertEquals(5000D, ex.getValue());
+    assertSame(set, ex.getBound());
+
+    ValidationException ex1 =
+        assertThrows(ValidationException.class, () -> set.require(5000D, "Not allowed."));
+    assertEquals("Not allowed.", ex1.getMessage());
+    ValidationException ex2 =
+        assertThrows(ValidationException.class, () -> set.require(5000D, () -> "Not allowed."));
+    assertEquals("Not allowed.", ex2.getMessage());
+    ValidationException ex3 =
+        assertThrows(
+            ValidationException.class, () -> set.require(5000D, "%.1f isn't allowed.", 5000D));
+    assertEquals("5000.0 isn't allowed.", ex3.getMessage());
+    ValidationException ex4 =
+        assertThrows(ValidationException.class, () -> set.require(5000D, (Supplier<String>) null));
+    assertEquals(5000D, ex4.getValue());
+  }
+
+  @Test
+  public void testFormatTo() {
+    DoubleRangeSet set =
+        DoubleRangeSet.of(DoubleRange.of(2400D, 2483.5D), DoubleRange.of(5150D, 5350D));
+    assertEquals("[[2400.0, 2483.5), [5150.0, 5350.0)]", String.format("%s", set));
+    assertEquals("[[2400.0, 2483.5), ...] (2 ranges)", String.format("%.1s", set));
+    assertEquals("[]", String.format("%.1s", DoubleRangeSet.of()));
+
+    // Only the first ranges of a large set are included in the default message
+    List<DoubleRange> ranges = new ArrayList<>();
+    for (int index = 0; index < 1000; index++) {
+      ranges.add(DoubleRange.of(index, index + 0.5D));
+    }
+    DoubleRangeSet halves = DoubleRangeSet.of(ranges);
+    ValidationException ex = assertThrows(ValidationException.class, () -> halves.require(-1D));
+    assertEquals(
+        "value(-1.0) should be in one of the ranges [[0.0, 0.5), [1.0, 1.5), [2.0, 2.5), [3.0,"
+            + " 3.5), [4.0, 4.5), [5.0, 5.5), [6.0, 6.5), [7.0, 7.5), ...] (1000 ranges).",
+        ex.getMessage());
+    assertSame(halves, ex.getBound());
+  }
+
+  @Test
+  public void testEqualsHashCodeAndToString() {
+    DoubleRangeSet set = DoubleRangeSet.of(DoubleRange.of(0D, 1.5D), DoubleRange.of(2D, 3D));
+    assertEquals(set, set);
+    assertEquals(
+        DoubleRangeSet.of(DoubleRange.of(2D, 3D), DoubleRange.of(1D, 1.5D), DoubleRange.of(0D, 1D)),
+        set);
+    assertEquals(
+        DoubleRangeSet.of(DoubleRange.of(2D, 3D), DoubleRange.of(0D, 1.5D)).hashCode(),
+        set.hashCode());
+    assertNotEquals(DoubleRangeSet.of(DoubleRange.of(0D, 1.5D)), set);
+    assertNotEquals(DoubleRangeSet.of(DoubleRange.of(-0D, 1.5D), DoubleRange.of(2D, 3D)), set);
+    assertNotEquals(set, set.toString());
+    assertEquals("[[0.0, 1.5), [2.0, 3.0)]", set.toString());
+  }
+}
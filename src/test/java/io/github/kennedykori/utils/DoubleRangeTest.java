@@ -0,0 +1,143 @@
+package io.github.kennedykori.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link DoubleRange} class. */
+public class DoubleRangeTest {
+
+  @Test
+  public void testOf() {
+    DoubleRange range = DoubleRange.of(-1.5D, 2.5D);
+    assertEquals(-1.5D, range.getMinValue());
+    assertEquals(2.5D, range.getMaxValue());
+    assertFalse(range.isEmpty());
+    assertTrue(DoubleRange.of(0.5D, 0.5D).isEmpty());
+    assertFalse(DoubleRange.of(-0.0D, 0.0D).isEmpty());
+
+    IllegalArgumentException ex =
+        assertThrows(IllegalArgumentException.class, () -> DoubleRange.of(2.5D, -1.5D));
+    assertEquals(
+        "maxValue( -1.500000 ) cannot be less than minValue( 2.500000 ).", ex.getMessage());
+    assertThrows(IllegalArgumentException.class, () -> DoubleRange.of(0.0D, -0.0D));
+    assertThrows(IllegalArgumentException.class, () -> DoubleRange.of(Double.NaN, 1D));
+  }
+
+  @Test
+  public void testContains() {
+    DoubleRange range = DoubleRange.of(-1.5D, 2.5D);
+    assertTrue(range.contains(-1.5D));
+    assertTrue(range.contains(-0.0D));
+    assertTrue(range.contains(0.0D));
+    assertTrue(range.contains(Math.nextDown(2.5D)));
+    assertTrue(range.contains(1.5F));
+    assertFalse(range.contains(Math.nextDown(-1.5D)));
+    assertFalse(range.contains(2.5D));
+    assertFalse(range.contains(Double.NEGATIVE_INFINITY));
+    assertFalse(range.contains(Double.POSITIVE_INFINITY));
+    assertFalse(range.contains(Double.NaN));
+
+    // Test that -0.0 is less than 0.0
+    assertFalse(DoubleRange.of(0.0D, 1D).contains(-0.0D));
+    assertTrue(DoubleRange.of(-1D, -0.0D).contains(-Double.MIN_VALUE));
+    assertFalse(DoubleRange.of(-1D, -0.0D).contains(-0.0D));
+
+    // Test that NaN is greater than all other values
+    DoubleRange all = DoubleRange.of(Double.NEGATIVE_INFINITY, Double.NaN);
+    assertTrue(all.contains(Double.NEGATIVE_INFINITY));
+    assertTrue(all.contains(Double.POSITIVE_INFINITY));
+    assertFalse(all.contains(Double.NaN));
+    assertFalse(all.contains(Double.longBitsToDouble(0x7ff0000000000001L)));
+  }
+
+  @Test
+  public void testContainsMatchesInRange() {
+    double[] bounds = {
+      Double.NEGATIVE_INFINITY,
+      -Double.MAX_VALUE,
+      -1D,
+      -Double.MIN_VALUE,
+      -0.0D,
+      0.0D,
+      Double.MIN_VALUE,
+      1D,
+      Double.MAX_VALUE,
+      Double.POSITIVE_INFINITY,
+      Double.NaN
+    };
+    for (double minValue : bounds) {
+      for (double maxValue : bounds) {
+        if (Double.compare(maxValue, minValue) < 0) {
+          continue;
+        }
+        DoubleRange range = DoubleRange.of(minValue, maxValue);
+        for (double value : bounds) {
+          assertEquals(ObjectUtils.inRange(minValue, maxValue, value), range.contains(value));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testRequire() {
+    DoubleRange range = DoubleRange.of(0D, 1D);
+    assertEquals(0.5D, range.require(0.5D));
+    assertEquals(0.5D, range.require(0.5D, "value must be a fraction."));
+    assertEquals(0.5D, range.require(0.5D, () -> "value must be a fraction."));
+    assertEquals(0.5D, range.require(0.5D, "%s must be a fraction.", 0.5D));
+
+    ValidationException ex = assertThrows(ValidationException.class, () -> range.require(1D));
+    assertEquals(
+        "value(1.000000) should be more than or equal to 0.000000 and less than 1.000000.",
+        ex.getMessage());
+    assertEquals(1D, ex.getValue());
+    assertEquals(0D, ex.getBound());
+    assertEquals(1D, ex.getUpperBound());
+
+    ValidationException ex1 =
+        assertThrows(
+            ValidationException.class, () -> range.require(-1D, "value must be a fraction."));
+    assertEquals("value must be a fraction.", ex1.getMessage());
+    ValidationException ex2 =
+        assertThrows(
+            ValidationException.class, () -> range.require(-1D, () -> "value must be a fraction."));
+    assertEquals("value must be a fraction.", ex2.getMessage());
+    ValidationException ex3 =
+        assertThrows(
+            ValidationException.class, () -> range.require(-1D, "%s isn't a fraction.", -1D));
+    assertEquals("-1.0 isn't a fraction.", ex3.getMessage());
+    ValidationException ex4 =
+        assertThrows(ValidationException.class, () -> range.require(2D, (Supplier<String>) null));
+    assertEquals(
+        "value(2.000000) should be more than or equal to 0.000000 and less than 1.000000.",
+        ex4.getMessage());
+  }
+
+  @Test
+  public void testSortableBits() {
+    double[] values = {
+      Double.NEGATIVE_INFINITY, -1D, -Double.MIN_VALUE, -0.0D, 0.0D, 1D, Double.NaN
+    };
+    for (int i = 1; i < values.length; i++) {
+      assertTrue(DoubleRange.sortableBits(values[i - 1]) < DoubleRange.sortableBits(values[i]));
+    }
+  }
+
+  @Test
+  public void testEqualsHashCodeAndToString() {
+    DoubleRange range = DoubleRange.of(0D, 1D);
+    assertEquals(range, range);
+    assertEquals(DoubleRange.of(0D, 1D), range);
+    assertEquals(DoubleRange.of(0D, 1D).hashCode(), range.hashCode());
+    assertNotEquals(DoubleRange.of(0D, 2D), range);
+    assertNotEquals(DoubleRange.of(-0.0D, 1D), range);
+    assertNotEquals(range, DoubleRange.of(0D, 1D).toString());
+    assertEquals("[0.0, 1.0)", range.toString());
+  }
+}
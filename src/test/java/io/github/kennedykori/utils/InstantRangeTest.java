@@ -0,0 +1,173 @@
+package io.github.kennedykori.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link InstantRange} class. */
+public class InstantRangeTest {
+
+  private static final Instant START = Instant.parse("2024-06-01T00:00:00.25Z");
+  private static final Instant END = Instant.parse("2024-06-01T00:05:00.75Z");
+
+  @SuppressWarnings(value = "nullness:argument")
+  @Test
+  public void testOf() {
+    InstantRange range = InstantRange.of(START, END);
+    assertSame(START, range.getMinValue());
+    assertSame(END, range.getMaxValue());
+    assertFalse(range.isEmpty());
+    assertTrue(InstantRange.of(START, Instant.parse("2024-06-01T00:00:00.250Z")).isEmpty());
+    assertFalse(InstantRange.of(START, START.plusNanos(1)).isEmpty());
+    assertFalse(InstantRange.of(Instant.MIN, Instant.MAX).isEmpty());
+
+    IllegalArgumentException ex =
+        assertThrows(IllegalArgumentException.class, () -> InstantRange.of(END, START));
+    assertEquals(
+        "maxValue( 2024-06-01T00:00:00.250Z ) cannot be less than minValue("
+            + " 2024-06-01T00:05:00.750Z ).",
+        ex.getMessage());
+    assertThrows(NullPointerException.class, () -> InstantRange.of(null, END));
+    assertThrows(NullPointerException.class, () -> InstantRange.of(START, null));
+  }
+
+  @SuppressWarnings(value = "nullness:argument")
+  @Test
+  public void testContains() {
+    InstantRange range = InstantRange.of(START, END);
+    assertTrue(range.contains(START));
+    assertTrue(range.contains(START.plusNanos(1)));
+    assertTrue(range.contains(START.plusSeconds(1).minusMillis(500)));
+    assertTrue(range.contains(END.minusNanos(1)));
+    assertTrue(range.contains(END.minusSeconds(1).plusMillis(500)));
+    assertFalse(range.contains(START.minusNanos(1)));
+    assertFalse(range.contains(START.minusSeconds(1).plusMillis(500)));
+    assertFalse(range.contains(END));
+    assertFalse(range.contains(END.plusSeconds(1).minusMillis(500)));
+    assertFalse(range.contains(Instant.MIN));
+    assertFalse(range.contains(Instant.MAX));
+    assertFalse(InstantRange.of(START, START).contains(START));
+    assertTrue(InstantRange.of(Instant.MIN, Instant.MAX).contains(Instant.EPOCH));
+    assertThrows(NullPointerException.class, () -> range.contains((Instant) null));
+    assertThrows(NullPointerException.class, () -> range.contains((OffsetDateTime) null));
+  }
+
+  @Test
+  public void testContainsOffsetDateTime() {
+    InstantRange range = InstantRange.of(START, END);
+    OffsetDateTime start = START.atOffset(ZoneOffset.ofHours(3));
+    OffsetDateTime end = END.atOffset(ZoneOffset.ofHours(-8));
+    assertTrue(range.contains(start));
+    assertTrue(range.contains(end.minusNanos(1)));
+    assertFalse(range.contains(start.minusNanos(1)));
+    assertFalse(range.contains(end));
+    // The local date-time is in the range, but the instant it represents isn't
+    assertFalse(range.contains(OffsetDateTime.of(2024, 6, 1, 0, 1, 0, 0, ZoneOffset.ofHours(1))));
+
+    // Agrees with the checks of ObjectUtils on the instants the values represent
+    for (int halfMinutes = -20; halfMinutes <= 20; halfMinutes++) {
+      for (int offset = -18; offset <= 18; offset += 6) {
+        OffsetDateTime value =
+            START.plusSeconds(halfMinutes * 30L).atOffset(ZoneOffset.ofHours(offset));
+        assertEquals(
+            ObjectUtils.inRange(START, END, value.toInstant()),
+            range.contains(value),
+            value.toString());
+      }
+    }
+  }
+
+  @Test
+  public void testRequire() {
+    Instant value = START.plusSeconds(1);
+    Instant late = END.plusSeconds(1);
+    InstantRange range = InstantRange.of(START, END);
+    assertSame(value, range.require(value));
+    assertSame(value, range.require(value, "value must be in the window."));
+    assertSame(value, range.require(value, () -> "value must be in the window."));
+    assertSame(value, range.require(value, "%s must be in the window.", value));
+
+    ValidationException ex = assertThrows(ValidationException.class, () -> range.require(late));
+    assertEquals(
+        "value(2024-06-01T00:05:01.750Z) should be more than or equal to 2024-06-01T00:00:00.250Z"
+            + " and less than 2024-06-01T00:05:00.750Z.",
+        ex.getMessage());
+    assertSame(late, ex.getValue());
+    assertSame(START, ex.getBound());
+    assertSame(END, ex.getUpperBound());
+
+    ValidationException ex1 =
+        assertThrows(ValidationException.class, () -> range.require(late, "Too late."));
+    assertEquals("Too late.", ex1.getMessage());
+    ValidationException ex2 =
+        assertThrows(ValidationException.class, () -> range.require(late, () -> "Too late."));
+    assertEquals("Too late.", ex2.getMessage());
+    ValidationException ex3 =
+        assertThrows(ValidationException.class, () -> range.require(late, "%s is too late.", late));
+    assertEquals("2024-06-01T00:05:01.750Z is too late.", ex3.getMessage());
+    ValidationException ex4 =
+        assertThrows(ValidationException.class, () -> range.require(late, (Supplier<String>) null));
+    assertSame(late, ex4.getValue());
+  }
+
+  @Test
+  public void testRequireOffsetDateTime() {
+    OffsetDateTime value = START.plusSeconds(1).atOffset(ZoneOffset.ofHours(3));
+    OffsetDateTime early = START.minusSeconds(1).atOffset(ZoneOffset.ofHours(3));
+    InstantRange range = InstantRange.of(START, END);
+    assertSame(value, range.require(value));
+    assertSame(value, range.require(value, "value must be in the window."));
+    assertSame(value, range.require(value, () -> "value must be in the window."));
+    assertSame(value, range.require(value, "%s must be in the window.", value));
+
+    ValidationException ex = assertThrows(ValidationException.class, () -> range.require(early));
+    assertEquals(
+        "value(2024-06-01T02:59:59.250+03:00) should be more than or equal to"
+            + " 2024-06-01T00:00:00.250Z and less than 2024-06-01T00:05:00.750Z.",
+        ex.getMessage());
+    assertSame(early, ex.getValue());
+    assertSame(START, ex.getBound());
+    assertSame(END, ex.getUpperBound());
+    assertEquals(
+        "Too early.",
+        assertThrows(ValidationException.class, () -> range.require(early, "Too early."))
+            .getMessage());
+    assertEquals(
+        "Too early.",
+        assertThrows(ValidationException.class, () -> range.require(early, () -> "Too early."))
+            .getMessage());
+    assertEquals(
+        "+03:00 is too early.",
+        assertThrows(
+                ValidationException.class,
+                () -> range.require(early, "%s is too early.", early.getOffset()))
+            .getMessage());
+  }
+
+  @Test
+  public void testEqualsHashCodeAndToString() {
+    InstantRange range = InstantRange.of(START, END);
+    assertEquals(range, range);
+    assertEquals(
+        InstantRange.of(
+            Instant.parse("2024-06-01T00:00:00.250Z"), Instant.parse("2024-06-01T00:05:00.750Z")),
+        range);
+    assertEquals(
+        InstantRange.of(Instant.ofEpochSecond(START.getEpochSecond(), START.getNano()), END)
+            .hashCode(),
+        range.hashCode());
+    assertNotEquals(InstantRange.of(START, END.plusNanos(1)), range);
+    assertNotEquals(InstantRange.of(START.minusNanos(1), END), range);
+    assertNotEquals(range, range.toString());
+    assertEquals("[2024-06-01T00:00:00.250Z, 2024-06-01T00:05:00.750Z)", range.toString());
+  }
+}
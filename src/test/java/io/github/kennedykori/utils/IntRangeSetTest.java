@@ -0,0 +1,149 @@
+package io.github.kennedykori.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.kennedykori.utils.ValidationException.Check;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link IntRangeSet} class. */
+public class IntRangeSetTest {
+
+  @SuppressWarnings(value = "nullness:argument")
+  @Test
+  public void testOf() {
+    IntRangeSet set =
+        IntRangeSet.of(
+            IntRange.of(50, 60),
+            IntRange.of(0, 10),
+            IntRange.of(5, 20),
+            IntRange.of(20, 30),
+            IntRange.of(40, 40),
+            IntRange.of(52, 55));
+    // Overlapping and adjacent ranges are merged and empty ranges are dropped
+    assertEquals(List.of(IntRange.of(0, 30), IntRange.of(50, 60)), set.getRanges());
+    assertFalse(set.isEmpty());
+    assertTrue(IntRangeSet.of().isEmpty());
+    assertTrue(IntRangeSet.of(IntRange.of(5, 5)).isEmpty());
+    assertEquals(List.of(), IntRangeSet.of().getRanges());
+    assertEquals(
+        List.of(IntRange.of(Integer.MIN_VALUE, Integer.MAX_VALUE)),
+        IntRangeSet.of(IntRange.of(0, Integer.MAX_VALUE), IntRange.of(Integer.MIN_VALUE, 1))
+            .getRanges());
+    assertEquals(set, IntRangeSet.of(List.of(IntRange.of(50, 60), IntRange.of(0, 30))));
+
+    NullPointerException ex =
+        assertThrows(NullPointerException.class, () -> IntRangeSet.of(IntRange.of(0, 1), null));
+    assertEquals("ranges cannot contain null.", ex.getMessage());
+    assertThrows(NullPointerException.class, () -> IntRangeSet.of((IntRange[]) null));
+    assertThrows(NullPointerException.class, () -> IntRangeSet.of((List<IntRange>) null));
+  }
+
+  @Test
+  public void testContains() {
+    IntRangeSet set = IntRangeSet.of(IntRange.of(0, 30), IntRange.of(50, 60));
+    assertTrue(set.contains(0));
+    assertTrue(set.contains(29));
+    assertTrue(set.contains(50));
+    assertTrue(set.contains(59));
+    assertFalse(set.contains(-1));
+    assertFalse(set.contains(30));
+    assertFalse(set.contains(49));
+    assertFalse(set.contains(60));
+    assertFalse(set.contains(Integer.MIN_VALUE));
+    assertFalse(set.contains(Integer.MAX_VALUE));
+    assertFalse(IntRangeSet.of().contains(0));
+
+    // Agrees with checking every range, for sets of many sizes
+    Random random = new Random(25);
+    for (int size = 0; size < 200; size += 1 + size / 4) {
+      List<IntRange> ranges = new ArrayList<>();
+      for (int index = 0; index < size; index++) {
+        int minValue = random.nextInt(10 * size + 1) - 5 * size;
+        ranges.add(IntRange.of(minValue, minValue + random.nextInt(10)));
+      }
+      IntRangeSet actual = IntRangeSet.of(ranges);
+      for (int value = -5 * size - 10; value <= 5 * size + 20; value++) {
+        boolean expected = false;
+        for (IntRange range : ranges) {
+          expected |= range.contains(value);
+        }
+        assertEquals(expected, actual.contains(value), Integer.toString(value));
+      }
+    }
+  }
+
+  @Test
+  public void testRequire() {
+    IntRangeSet set = IntRangeSet.of(IntRange.of(0, 30), IntRange.of(50, 60));
+    assertEquals(55, set.require(55));
+    assertEquals(55, set.require(55, "id must have been issued."));
+    assertEquals(55, set.require(55, () -> "id must have been issued."));
+    assertEquals(55, set.require(55, "%s must have been issued.", 55));
+
+    ValidationException ex = assertThrows(ValidationException.class, () -> set.require(40));
+    assertEquals("value(40) should be in one of the ranges [[0, 30), [50, 60)].", ex.getMessage());
+    assertEquals(Check.IN_ANY_RANGE, ex.getCheck());
+    assertEquals(40, ex.getValue());
+    assertSame(set, ex.getBound());
+
+    ValidationException ex1 =
+        assertThrows(ValidationException.class, () -> set.require(40, "Not issued."));
+    assertEquals("Not issued.", ex1.getMessage());
+    ValidationException ex2 =
+        assertThrows(ValidationException.class, () -> set.require(40, () -> "Not issued."));
+    assertEquals("Not issued.", ex2.getMessage());
+    ValidationException ex3 =
+        assertThrows(ValidationException.class, () -> set.require(40, "%d wasn't issued.", 40));
+    assertEquals("40 wasn't issued.", ex3.getMessage());
+    ValidationException ex4 =
+        assertThrows(ValidationException.class, () -> set.require(40, (Supplier<String>) null));
+    assertEquals(40, ex4.getValue());
+  }
+
+  @Test
+  public void testFormatTo() {
+    IntRangeSet set = IntRangeSet.of(IntRange.of(0, 30), IntRange.of(50, 60));
+    assertEquals("[[0, 30), [50, 60)]", String.format("%s", set));
+    assertEquals("[[0, 30), ...] (2 ranges)", String.format("%.1s", set));
+    assertEquals("[...] (2 ranges)", String.format("%.0s", set));
+    assertEquals("  [[0, 30), ...] (2 ranges)", String.format("%27.1s", set));
+    assertEquals("[]", String.format("%.1s", IntRangeSet.of()));
+
+    // Only the first ranges of a large set are included in the default message
+    List<IntRange> ranges = new ArrayList<>();
+    for (int index = 0; index < 1000; index++) {
+      ranges.add(IntRange.of(10 * index, 10 * index + 5));
+    }
+    IntRangeSet blocks = IntRangeSet.of(ranges);
+    ValidationException ex = assertThrows(ValidationException.class, () -> blocks.require(7));
+    assertEquals(
+        "value(7) should be in one of the ranges [[0, 5), [10, 15), [20, 25), [30, 35), [40, 45),"
+            + " [50, 55), [60, 65), [70, 75), ...] (1000 ranges).",
+        ex.getMessage());
+    assertSame(blocks, ex.getBound());
+  }
+
+  @Test
+  public void testEqualsHashCodeAndToString() {
+    IntRangeSet set = IntRangeSet.of(IntRange.of(0, 30), IntRange.of(50, 60));
+    assertEquals(set, set);
+    assertEquals(IntRangeSet.of(IntRange.of(50, 60), IntRange.of(10, 30), IntRange.of(0, 10)), set);
+    assertEquals(
+        IntRangeSet.of(IntRange.of(50, 60), IntRange.of(0, 30)).hashCode(), set.hashCode());
+    assertNotEquals(IntRangeSet.of(IntRange.of(0, 30)), set);
+    assertNotEquals(IntRangeSet.of(IntRange.of(0, 30), IntRange.of(50, 61)), set);
+    assertNotEquals(set, set.toString());
+    assertEquals(IntRangeSet.of(), IntRangeSet.of(IntRange.of(1, 1)));
+    assertEquals("[[0, 30), [50, 60)]", set.toString());
+    assertEquals("[]", IntRangeSet.of().toString());
+  }
+}
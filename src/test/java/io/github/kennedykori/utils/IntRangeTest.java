@@ -0,0 +1,105 @@
+package io.github.kennedykori.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link IntRange} class. */
+public class IntRangeTest {
+
+  @Test
+  public void testOf() {
+    IntRange range = IntRange.of(-10, 20);
+    assertEquals(-10, range.getMinValue());
+    assertEquals(20, range.getMaxValue());
+    assertFalse(range.isEmpty());
+    assertTrue(IntRange.of(5, 5).isEmpty());
+
+    IllegalArgumentException ex =
+        assertThrows(IllegalArgumentException.class, () -> IntRange.of(20, -10));
+    assertEquals("maxValue( -10 ) cannot be less than minValue( 20 ).", ex.getMessage());
+  }
+
+  @Test
+  public void testContains() {
+    IntRange range = IntRange.of(-10, 20);
+    assertTrue(range.contains(-10));
+    assertTrue(range.contains(0));
+    assertTrue(range.contains(19));
+    assertFalse(range.contains(-11));
+    assertFalse(range.contains(20));
+    assertFalse(range.contains(Integer.MIN_VALUE));
+    assertFalse(range.contains(Integer.MAX_VALUE));
+    assertFalse(IntRange.of(5, 5).contains(5));
+
+    // Test the extremes of the int range
+    IntRange all = IntRange.of(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    assertTrue(all.contains(Integer.MIN_VALUE));
+    assertTrue(all.contains(0));
+    assertTrue(all.contains(Integer.MAX_VALUE - 1));
+    assertFalse(all.contains(Integer.MAX_VALUE));
+  }
+
+  @Test
+  public void testContainsMatchesInRange() {
+    int[] bounds = {Integer.MIN_VALUE, -100, -1, 0, 1, 100, Integer.MAX_VALUE};
+    for (int minValue : bounds) {
+      for (int maxValue : bounds) {
+        if (maxValue < minValue) {
+          continue;
+        }
+        IntRange range = IntRange.of(minValue, maxValue);
+        for (int value : bounds) {
+          assertEquals(ObjectUtils.inRange(minValue, maxValue, value), range.contains(value));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testRequire() {
+    IntRange range = IntRange.of(0, 10);
+    assertEquals(5, range.require(5));
+    assertEquals(5, range.require(5, "value must be a digit."));
+    assertEquals(5, range.require(5, () -> "value must be a digit."));
+    assertEquals(5, range.require(5, "%d must be a digit.", 5));
+
+    ValidationException ex = assertThrows(ValidationException.class, () -> range.require(10));
+    assertEquals("value(10) should be more than or equal to 0 and less than 10.", ex.getMessage());
+    assertEquals(10L, ex.getValue());
+    assertEquals(0L, ex.getBound());
+    assertEquals(10L, ex.getUpperBound());
+
+    ValidationException ex1 =
+        assertThrows(
+            ValidationException.class, () -> range.require(-1, "value must be a digit."));
+    assertEquals("value must be a digit.", ex1.getMessage());
+    ValidationException ex2 =
+        assertThrows(
+            ValidationException.class, () -> range.require(-1, () -> "value must be a digit."));
+    assertEquals("value must be a digit.", ex2.getMessage());
+    ValidationException ex3 =
+        assertThrows(ValidationException.class, () -> range.require(-1, "%d isn't a digit.", -1));
+    assertEquals("-1 isn't a digit.", ex3.getMessage());
+    ValidationException ex4 =
+        assertThrows(ValidationException.class, () -> range.require(-1, (Supplier<String>) null));
+    assertEquals("value(-1) should be more than or equal to 0 and less than 10.", ex4.getMessage());
+  }
+
+  @Test
+  public void testEqualsHashCodeAndToString() {
+    IntRange range = IntRange.of(0, 10);
+    assertEquals(range, range);
+    assertEquals(IntRange.of(0, 10), range);
+    assertEquals(IntRange.of(0, 10).hashCode(), range.hashCode());
+    assertNotEquals(IntRange.of(0, 11), range);
+    assertNotEquals(IntRange.of(1, 10), range);
+    assertNotEquals(range, IntRange.of(0, 10).toString());
+    assertEquals("[0, 10)", range.toString());
+  }
+}
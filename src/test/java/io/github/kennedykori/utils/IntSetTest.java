@@ -0,0 +1,150 @@
+package io.github.kennedykori.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.kennedykori.utils.ValidationException.Check;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link IntSet} class. */
+public class IntSetTest {
+
+  @SuppressWarnings(value = "nullness:argument")
+  @Test
+  public void testOf() {
+    IntSet set = IntSet.of(308, 301, 302, 303, 307, 301);
+    assertEquals(5, set.size());
+    assertFalse(set.isEmpty());
+    assertArrayEquals(new int[] {301, 302, 303, 307, 308}, set.toArray());
+    assertTrue(IntSet.of().isEmpty());
+    assertEquals(0, IntSet.of().size());
+    assertArrayEquals(
+        new int[] {-5, 0, 63, 64, 65_530}, IntSet.of(64, 0, -5, 65_530, 63).toArray());
+    assertEquals(IntSet.MAX_SPAN, IntSet.of(0, IntSet.MAX_SPAN - 1).toArray()[1] + 1);
+
+    IllegalArgumentException ex =
+        assertThrows(IllegalArgumentException.class, () -> IntSet.of(0, IntSet.MAX_SPAN));
+    assertEquals("values( from 0 to 65536 ) cannot span more than 65536 ints.", ex.getMessage());
+    assertThrows(
+        IllegalArgumentException.class, () -> IntSet.of(Integer.MIN_VALUE, Integer.MAX_VALUE));
+    assertThrows(NullPointerException.class, () -> IntSet.of((int[]) null));
+  }
+
+  @Test
+  public void testContains() {
+    IntSet set = IntSet.of(301, 302, 303, 307, 308);
+    assertTrue(set.contains(301));
+    assertTrue(set.contains(307));
+    assertTrue(set.contains(308));
+    assertFalse(set.contains(300));
+    assertFalse(set.contains(304));
+    assertFalse(set.contains(309));
+    assertFalse(set.contains(301 + 64));
+    assertFalse(set.contains(Integer.MIN_VALUE));
+    assertFalse(set.contains(Integer.MAX_VALUE));
+    assertFalse(IntSet.of().contains(0));
+
+    // Test the extremes of the int range
+    IntSet extremes = IntSet.of(Integer.MAX_VALUE, Integer.MAX_VALUE - 100);
+    assertTrue(extremes.contains(Integer.MAX_VALUE));
+    assertFalse(extremes.contains(Integer.MAX_VALUE - 1));
+    assertFalse(extremes.contains(Integer.MIN_VALUE));
+    IntSet minimum = IntSet.of(Integer.MIN_VALUE);
+    assertTrue(minimum.contains(Integer.MIN_VALUE));
+    assertFalse(minimum.contains(Integer.MAX_VALUE));
+
+    // Agrees with a HashSet of the same values
+    Random random = new Random(24);
+    for (int round = 0; round < 50; round++) {
+      int base = random.nextInt();
+      int[] values = new int[random.nextInt(100) + 1];
+      Set<Integer> expected = new HashSet<>();
+      for (int index = 0; index < values.length; index++) {
+        values[index] = base + random.nextInt(1000);
+        expected.add(values[index]);
+      }
+      IntSet actual = IntSet.of(values);
+      assertEquals(expected.size(), actual.size());
+      for (int offset = -10; offset < 1010; offset++) {
+        assertEquals(expected.contains(base + offset), actual.contains(base + offset));
+      }
+    }
+  }
+
+  @Test
+  public void testRequire() {
+    IntSet set = IntSet.of(301, 302, 303, 307, 308);
+    assertEquals(307, set.require(307));
+    assertEquals(307, set.require(307, "status must be a redirect."));
+    assertEquals(307, set.require(307, () -> "status must be a redirect."));
+    assertEquals(307, set.require(307, "%s must be a redirect.", 307));
+
+    ValidationException ex = assertThrows(ValidationException.class, () -> set.require(304));
+    assertEquals("value(304) should be one of [301, 302, 303, 307, 308].", ex.getMessage());
+    assertEquals(Check.ONE_OF, ex.getCheck());
+    assertEquals(304, ex.getValue());
+    assertSame(set, ex.getBound());
+
+    ValidationException ex1 =
+        assertThrows(ValidationException.class, () -> set.require(304, "Not a redirect."));
+    assertEquals("Not a redirect.", ex1.getMessage());
+    ValidationException ex2 =
+        assertThrows(ValidationException.class, () -> set.require(304, () -> "Not a redirect."));
+    assertEquals("Not a redirect.", ex2.getMessage());
+    ValidationException ex3 =
+        assertThrows(
+            ValidationException.class, () -> set.require(304, "%d isn't a redirect.", 304));
+    assertEquals("304 isn't a redirect.", ex3.getMessage());
+    ValidationException ex4 =
+        assertThrows(ValidationException.class, () -> set.require(304, (Supplier<String>) null));
+    assertEquals(304, ex4.getValue());
+  }
+
+  @Test
+  public void testFormatTo() {
+    IntSet set = IntSet.of(301, 302, 303, 307, 308);
+    assertEquals("[301, 302, 303, 307, 308]", String.format("%s", set));
+    assertEquals("[301, 302, 303, 307, 308]", String.format("%.5s", set));
+    assertEquals("[301, 302, ...] (5 values)", String.format("%.2s", set));
+    assertEquals("[...] (5 values)", String.format("%.0s", set));
+    assertEquals("    [301, ...] (5 values)", String.format("%25.1s", set));
+    assertEquals("[301, ...] (5 values)    ", String.format("%-25.1s", set));
+    assertEquals("[]", String.format("%.2s", IntSet.of()));
+
+    // Only the first values of a large set are included in the default message
+    int[] values = new int[1000];
+    for (int index = 0; index < values.length; index++) {
+      values[index] = 2 * index;
+    }
+    IntSet even = IntSet.of(values);
+    ValidationException ex = assertThrows(ValidationException.class, () -> even.require(1));
+    assertEquals(
+        "value(1) should be one of [0, 2, 4, 6, 8, 10, 12, 14, ...] (1000 values).",
+        ex.getMessage());
+    assertSame(even, ex.getBound());
+  }
+
+  @Test
+  public void testEqualsHashCodeAndToString() {
+    IntSet set = IntSet.of(301, 302, 303, 307, 308);
+    assertEquals(set, set);
+    assertEquals(IntSet.of(308, 307, 303, 302, 301, 301), set);
+    assertEquals(IntSet.of(308, 307, 303, 302, 301).hashCode(), set.hashCode());
+    assertNotEquals(IntSet.of(301, 302, 303, 307), set);
+    assertNotEquals(IntSet.of(300, 301, 302, 303, 307, 308), set);
+    assertNotEquals(IntSet.of(302, 303, 304, 308, 309), set);
+    assertNotEquals(set, set.toString());
+    assertEquals(IntSet.of(), IntSet.of());
+    assertEquals("[301, 302, 303, 307, 308]", set.toString());
+    assertEquals("[]", IntSet.of().toString());
+  }
+}
@@ -0,0 +1,151 @@
+package io.github.kennedykori.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.kennedykori.utils.ValidationException.Check;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link LongRangeSet} class. */
+public class LongRangeSetTest {
+
+  @SuppressWarnings(value = "nullness:argument")
+  @Test
+  public void testOf() {
+    LongRangeSet set =
+        LongRangeSet.of(
+            LongRange.of(50L, 60L),
+            LongRange.of(0L, 10L),
+            LongRange.of(5L, 20L),
+            LongRange.of(20L, 30L),
+            LongRange.of(40L, 40L),
+            LongRange.of(52L, 55L));
+    // Overlapping and adjacent ranges are merged and empty ranges are dropped
+    assertEquals(List.of(LongRange.of(0L, 30L), LongRange.of(50L, 60L)), set.getRanges());
+    assertFalse(set.isEmpty());
+    assertTrue(LongRangeSet.of().isEmpty());
+    assertTrue(LongRangeSet.of(LongRange.of(5L, 5L)).isEmpty());
+    assertEquals(List.of(), LongRangeSet.of().getRanges());
+    assertEquals(
+        List.of(LongRange.of(Long.MIN_VALUE, Long.MAX_VALUE)),
+        LongRangeSet.of(LongRange.of(0L, Long.MAX_VALUE), LongRange.of(Long.MIN_VALUE, 1L))
+            .getRanges());
+    assertEquals(set, LongRangeSet.of(List.of(LongRange.of(50L, 60L), LongRange.of(0L, 30L))));
+
+    NullPointerException ex =
+        assertThrows(
+            NullPointerException.class, () -> LongRangeSet.of(LongRange.of(0L, 1L), null));
+    assertEquals("ranges cannot contain null.", ex.getMessage());
+    assertThrows(NullPointerException.class, () -> LongRangeSet.of((LongRange[]) null));
+    assertThrows(NullPointerException.class, () -> LongRangeSet.of((List<LongRange>) null));
+  }
+
+  @Test
+  public void testContains() {
+    LongRangeSet set = LongRangeSet.of(LongRange.of(0L, 30L), LongRange.of(50L, 60L));
+    assertTrue(set.contains(0L));
+    assertTrue(set.contains(29L));
+    assertTrue(set.contains(50L));
+    assertTrue(set.contains(59L));
+    assertFalse(set.contains(-1L));
+    assertFalse(set.contains(30L));
+    assertFalse(set.contains(49L));
+    assertFalse(set.contains(60L));
+    assertFalse(set.contains(Long.MIN_VALUE));
+    assertFalse(set.contains(Long.MAX_VALUE));
+    assertFalse(LongRangeSet.of().contains(0L));
+
+    // Agrees with checking every range, for sets of many sizes
+    Random random = new Random(25);
+    for (int size = 0; size < 200; size += 1 + size / 4) {
+      List<LongRange> ranges = new ArrayList<>();
+      for (int index = 0; index < size; index++) {
+        long minValue = random.nextInt(10 * size + 1) - 5L * size;
+        ranges.add(LongRange.of(minValue, minValue + random.nextInt(10)));
+      }
+      LongRangeSet actual = LongRangeSet.of(ranges);
+      for (long value = -5L * size - 10; value <= 5L * size + 20; value++) {
+        boolean expected = false;
+        for (LongRange range : ranges) {
+          expected |= range.contains(value);
+        }
+        assertEquals(expected, actual.contains(value), Long.toString(value));
+      }
+    }
+  }
+
+  @Test
+  public void testRequire() {
+    LongRangeSet set = LongRangeSet.of(LongRange.of(0L, 30L), LongRange.of(50L, 60L));
+    assertEquals(55L, set.require(55L));
+    assertEquals(55L, set.require(55L, "id must have been issued."));
+    assertEquals(55L, set.require(55L, () -> "id must have been issued."));
+    assertEquals(55L, set.require(55L, "%s must have been issued.", 55L));
+
+    ValidationException ex = assertThrows(ValidationException.class, () -> set.require(40L));
+    assertEquals("value(40) should be in one of the ranges [[0, 30), [50, 60)].", ex.getMessage());
+    assertEquals(Check.IN_ANY_RANGE, ex.getCheck());
+    assertEquals(40L, ex.getValue());
+    assertSame(set, ex.getBound());
+
+    ValidationException ex1 =
+        assertThrows(ValidationException.class, () -> set.require(40L, "Not issued."));
+    assertEquals("Not issued.", ex1.getMessage());
+    ValidationException ex2 =
+        assertThrows(ValidationException.class, () -> set.require(40L, () -> "Not issued."));
+    assertEquals("Not issued.", ex2.getMessage());
+    ValidationException ex3 =
+        assertThrows(ValidationException.class, () -> set.require(40L, "%d wasn't issued.", 40L));
+    assertEquals("40 wasn't issued.", ex3.getMessage());
+    ValidationException ex4 =
+        assertThrows(ValidationException.class, () -> set.require(40L, (Supplier<String>) null));
+    assertEquals(40L, ex4.getValue());
+  }
+
+  @Test
+  public void testFormatTo() {
+    LongRangeSet set = LongRangeSet.of(LongRange.of(0L, 30L), LongRange.of(50L, 60L));
+    assertEquals("[[0, 30), [50, 60)]", String.format("%s", set));
+    assertEquals("[[0, 30), ...] (2 ranges)", String.format("%.1s", set));
+    assertEquals("[[0, 30), ...] (2 ranges)  ", String.format("%-27.1s", set));
+    assertEquals("[]", String.format("%.1s", LongRangeSet.of()));
+
+    // Only the first ranges of a large set are included in the default message
+    List<LongRange> ranges = new ArrayList<>();
+    for (long index = 0; index < 1000; index++) {
+      ranges.add(LongRange.of(10L * index, 10L * index + 5L));
+    }
+    LongRangeSet blocks = LongRangeSet.of(ranges);
+    ValidationException ex = assertThrows(ValidationException.class, () -> blocks.require(7L));
+    assertEquals(
+        "value(7) should be in one of the ranges [[0, 5), [10, 15), [20, 25), [30, 35), [40, 45),"
+            + " [50, 55), [60, 65), [70, 75), ...] (1000 ranges).",
+        ex.getMessage());
+    assertSame(blocks, ex.getBound());
+  }
+
+  @Test
+  public void testEqualsHashCodeAndToString() {
+    LongRangeSet set = LongRangeSet.of(LongRange.of(0L, 30L), LongRange.of(50L, 60L));
+    assertEquals(set, set);
+    assertEquals(
+        LongRangeSet.of(LongRange.of(50L, 60L), LongRange.of(10L, 30L), LongRange.of(0L, 10L)),
+        set);
+    assertEquals(
+        LongRangeSet.of(LongRange.of(50L, 60L), LongRange.of(0L, 30L)).hashCode(), set.hashCode());
+    assertNotEquals(LongRangeSet.of(LongRange.of(0L, 30L)), set);
+    assertNotEquals(LongRangeSet.of(LongRange.of(0L, 30L), LongRange.of(50L, 61L)), set);
+    assertNotEquals(set, set.toString());
+    assertEquals(LongRangeSet.of(), LongRangeSet.of(LongRange.of(1L, 1L)));
+    assertEquals("[[0, 30), [50, 60)]", set.toString());
+    assertEquals("[]", LongRangeSet.of().toString());
+  }
+}
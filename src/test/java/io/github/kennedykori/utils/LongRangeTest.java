@@ -0,0 +1,105 @@
+package io.github.kennedykori.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link LongRange} class. */
+public class LongRangeTest {
+
+  @Test
+  public void testOf() {
+    LongRange range = LongRange.of(-10L, 20L);
+    assertEquals(-10L, range.getMinValue());
+    assertEquals(20L, range.getMaxValue());
+    assertFalse(range.isEmpty());
+    assertTrue(LongRange.of(5L, 5L).isEmpty());
+
+    IllegalArgumentException ex =
+        assertThrows(IllegalArgumentException.class, () -> LongRange.of(20L, -10L));
+    assertEquals("maxValue( -10 ) cannot be less than minValue( 20 ).", ex.getMessage());
+  }
+
+  @Test
+  public void testContains() {
+    LongRange range = LongRange.of(-10L, 20L);
+    assertTrue(range.contains(-10L));
+    assertTrue(range.contains(0L));
+    assertTrue(range.contains(19L));
+    assertFalse(range.contains(-11L));
+    assertFalse(range.contains(20L));
+    assertFalse(range.contains(Long.MIN_VALUE));
+    assertFalse(range.contains(Long.MAX_VALUE));
+    assertFalse(LongRange.of(5L, 5L).contains(5L));
+
+    // Test the extremes of the long range
+    LongRange all = LongRange.of(Long.MIN_VALUE, Long.MAX_VALUE);
+    assertTrue(all.contains(Long.MIN_VALUE));
+    assertTrue(all.contains(0L));
+    assertTrue(all.contains(Long.MAX_VALUE - 1));
+    assertFalse(all.contains(Long.MAX_VALUE));
+  }
+
+  @Test
+  public void testContainsMatchesInRange() {
+    long[] bounds = {Long.MIN_VALUE, -100L, -1L, 0L, 1L, 100L, Long.MAX_VALUE};
+    for (long minValue : bounds) {
+      for (long maxValue : bounds) {
+        if (maxValue < minValue) {
+          continue;
+        }
+        LongRange range = LongRange.of(minValue, maxValue);
+        for (long value : bounds) {
+          assertEquals(ObjectUtils.inRange(minValue, maxValue, value), range.contains(value));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testRequire() {
+    LongRange range = LongRange.of(0L, 10L);
+    assertEquals(5L, range.require(5L));
+    assertEquals(5L, range.require(5L, "value must be a digit."));
+    assertEquals(5L, range.require(5L, () -> "value must be a digit."));
+    assertEquals(5L, range.require(5L, "%d must be a digit.", 5L));
+
+    ValidationException ex = assertThrows(ValidationException.class, () -> range.require(10L));
+    assertEquals("value(10) should be more than or equal to 0 and less than 10.", ex.getMessage());
+    assertEquals(10L, ex.getValue());
+    assertEquals(0L, ex.getBound());
+    assertEquals(10L, ex.getUpperBound());
+
+    ValidationException ex1 =
+        assertThrows(
+            ValidationException.class, () -> range.require(-1L, "value must be a digit."));
+    assertEquals("value must be a digit.", ex1.getMessage());
+    ValidationException ex2 =
+        assertThrows(
+            ValidationException.class, () -> range.require(-1L, () -> "value must be a digit."));
+    assertEquals("value must be a digit.", ex2.getMessage());
+    ValidationException ex3 =
+        assertThrows(ValidationException.class, () -> range.require(-1L, "%d isn't a digit.", -1L));
+    assertEquals("-1 isn't a digit.", ex3.getMessage());
+    ValidationException ex4 =
+        assertThrows(ValidationException.class, () -> range.require(-1L, (Supplier<String>) null));
+    assertEquals("value(-1) should be more than or equal to 0 and less than 10.", ex4.getMessage());
+  }
+
+  @Test
+  public void testEqualsHashCodeAndToString() {
+    LongRange range = LongRange.of(0L, 10L);
+    assertEquals(range, range);
+    assertEquals(LongRange.of(0L, 10L), range);
+    assertEquals(LongRange.of(0L, 10L).hashCode(), range.hashCode());
+    assertNotEquals(LongRange.of(0L, 11L), range);
+    assertNotEquals(LongRange.of(1L, 10L), range);
+    assertNotEquals(range, LongRange.of(0L, 10L).toString());
+    assertEquals("[0, 10)", range.toString());
+  }
+}
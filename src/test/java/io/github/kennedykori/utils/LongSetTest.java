@@ -0,0 +1,136 @@
+package io.github.kennedykori.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.kennedykori.utils.ValidationException.Check;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link LongSet} class. */
+public class LongSetTest {
+
+  @SuppressWarnings(value = "nullness:argument")
+  @Test
+  public void testOf() {
+    LongSet set = LongSet.of(800L, 100L, 200L, 210L, 400L, 420L, 100L);
+    assertEquals(6, set.size());
+    assertFalse(set.isEmpty());
+    assertArrayEquals(new long[] {100L, 200L, 210L, 400L, 420L, 800L}, set.toArray());
+    assertTrue(LongSet.of().isEmpty());
+    assertEquals(0, LongSet.of().size());
+    assertArrayEquals(
+        new long[] {Long.MIN_VALUE, 0L, Long.MAX_VALUE},
+        LongSet.of(Long.MAX_VALUE, 0L, Long.MIN_VALUE).toArray());
+    assertThrows(NullPointerException.class, () -> LongSet.of((long[]) null));
+  }
+
+  @Test
+  public void testContains() {
+    LongSet set = LongSet.of(100L, 200L, 210L, 400L, 420L, 800L);
+    assertTrue(set.contains(100L));
+    assertTrue(set.contains(420L));
+    assertTrue(set.contains(800L));
+    assertFalse(set.contains(0L));
+    assertFalse(set.contains(201L));
+    assertFalse(set.contains(-100L));
+    assertFalse(set.contains(Long.MIN_VALUE));
+    assertFalse(set.contains(Long.MAX_VALUE));
+    assertFalse(LongSet.of().contains(0L));
+    assertTrue(LongSet.of(Long.MIN_VALUE).contains(Long.MIN_VALUE));
+    assertFalse(LongSet.of(Long.MIN_VALUE).contains(Long.MAX_VALUE));
+
+    // Agrees with a HashSet of the same values, for sets of many sizes
+    Random random = new Random(24);
+    for (int size = 0; size < 300; size += 1 + size / 8) {
+      long[] values = new long[size];
+      Set<Long> expected = new HashSet<>();
+      for (int index = 0; index < size; index++) {
+        // Mix small, clustered values with arbitrary ones
+        values[index] = index % 2 == 0 ? random.nextInt(2 * size + 1) : random.nextLong();
+        expected.add(values[index]);
+      }
+      LongSet actual = LongSet.of(values);
+      assertEquals(expected.size(), actual.size());
+      for (long value : values) {
+        assertTrue(actual.contains(value), Long.toString(value));
+      }
+      for (int probe = 0; probe < 1000; probe++) {
+        long value = probe % 2 == 0 ? random.nextInt(4 * size + 1) : random.nextLong();
+        assertEquals(expected.contains(value), actual.contains(value), Long.toString(value));
+      }
+    }
+  }
+
+  @Test
+  public void testRequire() {
+    LongSet set = LongSet.of(100L, 200L, 210L);
+    assertEquals(210L, set.require(210L));
+    assertEquals(210L, set.require(210L, "type must be known."));
+    assertEquals(210L, set.require(210L, () -> "type must be known."));
+    assertEquals(210L, set.require(210L, "%s must be known.", 210L));
+
+    ValidationException ex = assertThrows(ValidationException.class, () -> set.require(300L));
+    assertEquals("value(300) should be one of [100, 200, 210].", ex.getMessage());
+    assertEquals(Check.ONE_OF, ex.getCheck());
+    assertEquals(300L, ex.getValue());
+    assertSame(set, ex.getBound());
+
+    ValidationException ex1 =
+        assertThrows(ValidationException.class, () -> set.require(300L, "Unknown type."));
+    assertEquals("Unknown type.", ex1.getMessage());
+    ValidationException ex2 =
+        assertThrows(ValidationException.class, () -> set.require(300L, () -> "Unknown type."));
+    assertEquals("Unknown type.", ex2.getMessage());
+    ValidationException ex3 =
+        assertThrows(ValidationException.class, () -> set.require(300L, "Unknown type %d.", 300L));
+    assertEquals("Unknown type 300.", ex3.getMessage());
+    ValidationException ex4 =
+        assertThrows(ValidationException.class, () -> set.require(300L, (Supplier<String>) null));
+    assertEquals(300L, ex4.getValue());
+  }
+
+  @Test
+  public void testFormatTo() {
+    LongSet set = LongSet.of(100L, 200L, 210L);
+    assertEquals("[100, 200, 210]", String.format("%s", set));
+    assertEquals("[100, 200, ...] (3 values)", String.format("%.2s", set));
+    assertEquals("[...] (3 values)", String.format("%.0s", set));
+    assertEquals("  [100, ...] (3 values)", String.format("%23.1s", set));
+    assertEquals("[]", String.format("%.2s", LongSet.of()));
+
+    // Only the first values of a large set are included in the default message
+    long[] values = new long[1000];
+    for (int index = 0; index < values.length; index++) {
+      values[index] = 1000L * index;
+    }
+    LongSet thousands = LongSet.of(values);
+    ValidationException ex = assertThrows(ValidationException.class, () -> thousands.require(1L));
+    assertEquals(
+        "value(1) should be one of [0, 1000, 2000, 3000, 4000, 5000, 6000, 7000, ...] (1000"
+            + " values).",
+        ex.getMessage());
+    assertSame(thousands, ex.getBound());
+  }
+
+  @Test
+  public void testEqualsHashCodeAndToString() {
+    LongSet set = LongSet.of(100L, 200L, 210L);
+    assertEquals(set, set);
+    assertEquals(LongSet.of(210L, 200L, 100L, 200L), set);
+    assertEquals(LongSet.of(210L, 200L, 100L).hashCode(), set.hashCode());
+    assertNotEquals(LongSet.of(100L, 200L), set);
+    assertNotEquals(LongSet.of(100L, 200L, 211L), set);
+    assertNotEquals(set, set.toString());
+    assertEquals(LongSet.of(), LongSet.of());
+    assertEquals("[100, 200, 210]", set.toString());
+  }
+}
@@ -2,15 +2,66 @@ package io.github.kennedykori.utils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.sun.management.ThreadMXBean;
+import io.github.kennedykori.utils.ValidationException.Check;
+import java.io.ByteArrayOutputStream;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.lang.management.ManagementFactory;
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Supplier;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
 
 /** Tests for the {@link ObjectUtils} class. */
 public class ObjectUtilsTest {
+  /* The number of times a check is invoked when measuring its allocations. */
+  private static final int ITERATIONS = 1_000_000;
+
+  /* A message supplier that fails the test if its message is ever retrieved. */
+  private static final Supplier<String> UNUSED_MESSAGE =
+      () -> {
+        throw new AssertionError("The message should only be retrieved on failure.");
+      };
+
+  /* A message argument that fails the test if it is ever formatted. */
+  private static final Object UNUSED_ARGUMENT =
+      new Object() {
+        @Override
+        public String toString() {
+          throw new AssertionError("The message should only be formatted on failure.");
+        }
+      };
+
   // ========================================================================
   // NUMBERS UTILITY METHODS TESTS
   // ========================================================================
@@ -32,7 +83,7 @@ public class ObjectUtilsTest {
     assertFalse(ObjectUtils.isEqualTo(new BigDecimal("0.9999999999999999"), new BigDecimal("1")));
 
     // Test that NullPointerException is thrown when null is given
-    assertThrows(NullPointerException.class, () -> ObjectUtils.isEqualTo(null, null));
+    assertThrows(NullPointerException.class, () -> ObjectUtils.isEqualTo((BigDecimal) null, null));
     assertThrows(
         NullPointerException.class, () -> ObjectUtils.isEqualTo(null, new BigDecimal("1")));
     assertThrows(
@@ -206,6 +257,70 @@ public class ObjectUtilsTest {
                 ObjectUtils.inRange(new BigDecimal("0.01"), new BigDecimal("0.015"), null)));
   }
 
+  @Test
+  public void testInRangeExceptionMessages() {
+    assertEquals(
+        "maxValue( -30 ) cannot be less than minValue( -13 ).",
+        assertThrows(IllegalArgumentException.class, () -> ObjectUtils.inRange(-13, -30, -43))
+            .getMessage());
+    assertEquals(
+        "maxValue( 0.01 ) cannot be less than minValue( 0.015 ).",
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                    ObjectUtils.inRange(
+                        new BigDecimal("0.015"), new BigDecimal("0.01"), new BigDecimal("0.01")))
+            .getMessage());
+  }
+
+  @Test
+  public void testInRangeDoesNotAllocate() {
+    final BigDecimal min = new BigDecimal("-0.01");
+    final BigDecimal max = new BigDecimal("0.01");
+    final BigDecimal value = new BigDecimal("0.00");
+    long allocated =
+        allocatedBytes(
+            () -> {
+              for (int i = 0; i < ITERATIONS; i++) {
+                ObjectUtils.inRange(-30, 30, i);
+                ObjectUtils.inRange(-30L, 30L, i);
+                ObjectUtils.inRange(-30.0F, 30.0F, i);
+                ObjectUtils.inRange(-30.0D, 30.0D, i);
+                ObjectUtils.inRange(min, max, value);
+              }
+            });
+    assertTrue(allocated < ITERATIONS, "inRange allocated " + allocated + " bytes.");
+  }
+
+  @Test
+  public void testDecimalChecksWithMixedScalesDoNotAllocate() {
+    // Compact values of different scales, including ones whose rescaling overflows a long
+    final BigDecimal price = new BigDecimal("19.99");
+    final BigDecimal samePrice = new BigDecimal("19.990");
+    final BigDecimal limit = new BigDecimal("20");
+    final BigDecimal tiny = new BigDecimal("0.000000000000000001");
+    final BigDecimal huge = new BigDecimal("1E+10");
+    final DecimalRange range = DecimalRange.of(BigDecimal.ZERO, new BigDecimal("20.000"));
+    assertTrue(ObjectUtils.isEqualTo(samePrice, price));
+    assertTrue(ObjectUtils.isGreaterThan(price, limit));
+    assertTrue(ObjectUtils.isLessThan(huge, tiny));
+    assertTrue(ObjectUtils.inRange(tiny, huge, price));
+    assertTrue(range.contains(price));
+    long allocated =
+        allocatedBytes(
+            () -> {
+              for (int i = 0; i < ITERATIONS; i++) {
+                ObjectUtils.isEqualTo(samePrice, price);
+                ObjectUtils.isGreaterThan(price, limit);
+                ObjectUtils.isLessThanOrEqualTo(huge, tiny);
+                ObjectUtils.inRange(tiny, huge, price);
+                ObjectUtils.requireInRange(BigDecimal.ZERO, limit, samePrice);
+                range.contains(price);
+              }
+            });
+    assertTrue(allocated < ITERATIONS, "BigDecimal checks allocated " + allocated + " bytes.");
+  }
+
   @Test
   public void testRequireEqualTo() {
     // Test returns value when equal
@@ -277,14 +392,18 @@ public class ObjectUtilsTest {
         ObjectUtils.requireInRange(
             new BigDecimal("45.09"), new BigDecimal("45.11"), new BigDecimal("45.10")));
 
-    assertEquals(2, ObjectUtils.requireInRange(2, 3, 2, null));
-    assertEquals(223L, ObjectUtils.requireInRange(10L, 3792L, 223L, null));
-    assertEquals(-32.99F, ObjectUtils.requireInRange(-100.90F, 0.00F, -32.99F, null));
-    assertEquals(-1.788738737D, ObjectUtils.requireInRange(-1.8673763D, 1.6D, -1.788738737D, null));
+    assertEquals(2, ObjectUtils.requireInRange(2, 3, 2, (String) null));
+    assertEquals(223L, ObjectUtils.requireInRange(10L, 3792L, 223L, (String) null));
+    assertEquals(-32.99F, ObjectUtils.requireInRange(-100.90F, 0.00F, -32.99F, (String) null));
+    assertEquals(
+        -1.788738737D, ObjectUtils.requireInRange(-1.8673763D, 1.6D, -1.788738737D, (String) null));
     assertEquals(
         new BigDecimal("45.10"),
         ObjectUtils.requireInRange(
-            new BigDecimal("45.09"), new BigDecimal("45.11"), new BigDecimal("45.10"), null));
+            new BigDecimal("45.09"),
+            new BigDecimal("45.11"),
+            new BigDecimal("45.10"),
+            (String) null));
   }
 
   @Test
@@ -302,20 +421,25 @@ public class ObjectUtilsTest {
             ObjectUtils.requireInRange(
                 new BigDecimal("45.09"), new BigDecimal("45.11"), new BigDecimal("45.15")));
 
-    assertThrows(IllegalArgumentException.class, () -> ObjectUtils.requireInRange(0, 1, 3, null));
     assertThrows(
-        IllegalArgumentException.class, () -> ObjectUtils.requireInRange(10L, 3792L, 2L, null));
+        IllegalArgumentException.class, () -> ObjectUtils.requireInRange(0, 1, 3, (String) null));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ObjectUtils.requireInRange(10L, 3792L, 2L, (String) null));
     assertThrows(
         IllegalArgumentException.class,
-        () -> ObjectUtils.requireInRange(-100.90F, 0.00F, 32.99F, null));
+        () -> ObjectUtils.requireInRange(-100.90F, 0.00F, 32.99F, (String) null));
     assertThrows(
         IllegalArgumentException.class,
-        () -> ObjectUtils.requireInRange(-1.8673763D, 1.6D, 1.788738737D, null));
+        () -> ObjectUtils.requireInRange(-1.8673763D, 1.6D, 1.788738737D, (String) null));
     assertThrows(
         IllegalArgumentException.class,
         () ->
             ObjectUtils.requireInRange(
-                new BigDecimal("45.09"), new BigDecimal("45.11"), new BigDecimal("45.15"), null));
+                new BigDecimal("45.09"),
+                new BigDecimal("45.11"),
+                new BigDecimal("45.15"),
+                (String) null));
   }
 
   @Test
@@ -650,12 +774,13 @@ public class ObjectUtilsTest {
     assertEquals(
         new BigDecimal("872.23"), ObjectUtils.requireNonNegative(new BigDecimal("872.23")));
 
-    assertEquals(574, ObjectUtils.requireNonNegative(574, null));
-    assertEquals(934L, ObjectUtils.requireNonNegative(934L, null));
-    assertEquals(2.56F, ObjectUtils.requireNonNegative(2.56F, null));
-    assertEquals(490.50D, ObjectUtils.requireNonNegative(490.50D, null));
+    assertEquals(574, ObjectUtils.requireNonNegative(574, (String) null));
+    assertEquals(934L, ObjectUtils.requireNonNegative(934L, (String) null));
+    assertEquals(2.56F, ObjectUtils.requireNonNegative(2.56F, (String) null));
+    assertEquals(490.50D, ObjectUtils.requireNonNegative(490.50D, (String) null));
     assertEquals(
-        new BigDecimal("0.50"), ObjectUtils.requireNonNegative(new BigDecimal("0.50"), null));
+        new BigDecimal("0.50"),
+        ObjectUtils.requireNonNegative(new BigDecimal("0.50"), (String) null));
   }
 
   @SuppressWarnings(value = {"lowerbound:argument", "nullness:argument"})
@@ -668,17 +793,24 @@ public class ObjectUtilsTest {
     assertThrows(
         IllegalArgumentException.class,
         () -> ObjectUtils.requireNonNegative(new BigDecimal("-872.23")));
-    assertThrows(NullPointerException.class, () -> ObjectUtils.requireNonNegative(null));
+    assertThrows(
+        NullPointerException.class, () -> ObjectUtils.requireNonNegative((BigDecimal) null));
 
-    assertThrows(IllegalArgumentException.class, () -> ObjectUtils.requireNonNegative(-36, null));
-    assertThrows(IllegalArgumentException.class, () -> ObjectUtils.requireNonNegative(-64L, null));
-    assertThrows(IllegalArgumentException.class, () -> ObjectUtils.requireNonNegative(-56F, null));
     assertThrows(
-        IllegalArgumentException.class, () -> ObjectUtils.requireNonNegative(-98.09D, null));
+        IllegalArgumentException.class, () -> ObjectUtils.requireNonNegative(-36, (String) null));
+    assertThrows(
+        IllegalArgumentException.class, () -> ObjectUtils.requireNonNegative(-64L, (String) null));
+    assertThrows(
+        IllegalArgumentException.class, () -> ObjectUtils.requireNonNegative(-56F, (String) null));
     assertThrows(
         IllegalArgumentException.class,
-        () -> ObjectUtils.requireNonNegative(new BigDecimal("-872.23"), null));
-    assertThrows(NullPointerException.class, () -> ObjectUtils.requireNonNegative(null, null));
+        () -> ObjectUtils.requireNonNegative(-98.09D, (String) null));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ObjectUtils.requireNonNegative(new BigDecimal("-872.23"), (String) null));
+    assertThrows(
+        NullPointerException.class,
+        () -> ObjectUtils.requireNonNegative((BigDecimal) null, (String) null));
   }
 
   @SuppressWarnings(value = "lowerbound:argument")
@@ -713,6 +845,976 @@ public class ObjectUtilsTest {
     assertEquals("given BigDecimal must not be negative.", ex5.getMessage());
   }
 
+  // ========================================================================
+  // MIXED TYPE UTILITY METHODS TESTS
+  // ========================================================================
+  @Test
+  public void testMixedPrimitiveComparisons() {
+    // 2^53 + 1 can't be represented as a double
+    long wide = 9007199254740993L;
+    assertFalse(ObjectUtils.isEqualTo(wide, 9007199254740992.0D));
+    assertTrue(ObjectUtils.isGreaterThan(9007199254740992.0D, wide));
+    assertTrue(ObjectUtils.isLessThan(wide, 9007199254740992.0D));
+    assertTrue(ObjectUtils.isGreaterThanOrEqualTo(wide, 9007199254740994.0D));
+    assertFalse(ObjectUtils.isEqualTo(16777217L, 16777216.0F));
+    assertTrue(ObjectUtils.isGreaterThan(16777216.0F, 16777217));
+    assertTrue(ObjectUtils.isLessThanOrEqualTo(16777217, 16777216.0F));
+
+    assertTrue(ObjectUtils.isGreaterThan(1L, 1.5D));
+    assertTrue(ObjectUtils.isLessThan(-1L, -1.5D));
+    assertTrue(ObjectUtils.isEqualTo(-3L, -3.0D));
+    assertTrue(ObjectUtils.isGreaterThan(Long.MAX_VALUE, 0x1p63));
+    assertTrue(ObjectUtils.isEqualTo(Long.MIN_VALUE, -0x1p63));
+    assertTrue(ObjectUtils.isLessThan(Long.MIN_VALUE, Double.NEGATIVE_INFINITY));
+
+    // Ordered like Double.compare and Float.compare
+    assertTrue(ObjectUtils.isGreaterThan(Long.MAX_VALUE, Double.NaN));
+    assertTrue(ObjectUtils.isLessThan(Float.NaN, Long.MAX_VALUE));
+    assertTrue(ObjectUtils.isEqualTo(0L, 0.0D));
+    assertFalse(ObjectUtils.isEqualTo(0L, -0.0D));
+    assertTrue(ObjectUtils.isLessThan(0L, -0.0F));
+    assertTrue(ObjectUtils.isGreaterThan(-0.0D, 0L));
+  }
+
+  @Test
+  public void testMixedPrimitiveComparisonsAgreeWithBigDecimal() {
+    Random random = new Random(42);
+    for (int i = 0; i < 10_000; i++) {
+      long x = random.nextBoolean() ? random.nextLong() : random.nextInt(2001) - 1000;
+      double y;
+      switch (random.nextInt(3)) {
+        case 0:
+          y = x + (random.nextInt(5) - 2) * 0.5D;
+          break;
+        case 1:
+          y = (double) x;
+          break;
+        default:
+          y = (random.nextDouble() - 0.5D) * Math.scalb(1.0D, random.nextInt(70));
+      }
+      int expected = Integer.signum(BigDecimal.valueOf(x).compareTo(new BigDecimal(y)));
+      assertEquals(expected, Integer.signum(Comparisons.compare(x, y)), x + " vs " + y);
+      assertEquals(expected == 0, ObjectUtils.isEqualTo(x, y));
+      assertEquals(expected < 0, ObjectUtils.isGreaterThan(x, y));
+      assertEquals(expected > 0, ObjectUtils.isGreaterThan(y, x));
+    }
+  }
+
+  @SuppressWarnings(value = "nullness:argument")
+  @Test
+  public void testMixedDecimalComparisons() {
+    BigDecimal price = new BigDecimal("19.99");
+    assertTrue(ObjectUtils.isGreaterThan(0, price));
+    assertTrue(ObjectUtils.isLessThan(20, price));
+    assertTrue(ObjectUtils.isLessThanOrEqualTo(100L, price));
+    assertFalse(ObjectUtils.isEqualTo(20L, price));
+    assertTrue(ObjectUtils.isEqualTo(20L, new BigDecimal("20.000")));
+    assertTrue(ObjectUtils.isEqualTo(new BigDecimal("2E+1"), 20L));
+    assertTrue(ObjectUtils.isGreaterThan(price, 20L));
+    assertTrue(ObjectUtils.isGreaterThanOrEqualTo(19.99D, price));
+    assertTrue(ObjectUtils.isLessThan(price, 19.989D));
+
+    // 0.1D is slightly greater than 0.1
+    BigDecimal tenth = new BigDecimal("0.1");
+    assertTrue(ObjectUtils.isLessThan(0.1D, tenth));
+    assertFalse(ObjectUtils.isEqualTo(0.1D, tenth));
+    assertTrue(ObjectUtils.isEqualTo(0.5D, new BigDecimal("0.50")));
+    assertTrue(ObjectUtils.isLessThan(Double.NaN, price));
+    assertTrue(ObjectUtils.isGreaterThan(price, Double.POSITIVE_INFINITY));
+    assertTrue(ObjectUtils.isLessThan(BigDecimal.ZERO, -0.0D));
+    assertTrue(ObjectUtils.isGreaterThan(-0.0D, BigDecimal.ZERO));
+    assertTrue(ObjectUtils.isGreaterThan(Long.MAX_VALUE, new BigDecimal("9223372036854775808")));
+    assertTrue(ObjectUtils.isLessThan(Long.MIN_VALUE, new BigDecimal("-9223372036854775809")));
+
+    assertThrows(NullPointerException.class, () -> ObjectUtils.isGreaterThan(0, (BigDecimal) null));
+    assertThrows(NullPointerException.class, () -> ObjectUtils.isLessThan((BigDecimal) null, 0.5D));
+  }
+
+  @Test
+  public void testMixedDecimalComparisonsAgreeWithBigDecimal() {
+    Random random = new Random(42);
+    for (int i = 0; i < 10_000; i++) {
+      BigDecimal y =
+          BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), random.nextInt(40) - 20);
+      long x =
+          random.nextBoolean()
+              ? y.setScale(0, RoundingMode.FLOOR).longValue() + random.nextInt(3) - 1
+              : random.nextLong() >> random.nextInt(64);
+      double d = random.nextBoolean() ? y.doubleValue() : x * random.nextDouble();
+      int expected = BigDecimal.valueOf(x).compareTo(y);
+      assertEquals(expected < 0, ObjectUtils.isGreaterThan(x, y), x + " vs " + y);
+      assertEquals(expected == 0, ObjectUtils.isEqualTo(y, x), x + " vs " + y);
+      expected = new BigDecimal(d).compareTo(y);
+      assertEquals(expected > 0, ObjectUtils.isLessThan(d, y), d + " vs " + y);
+      assertEquals(expected <= 0, ObjectUtils.isLessThanOrEqualTo(y, d), d + " vs " + y);
+    }
+  }
+
+  @Test
+  public void testRequireMixedDecimal() {
+    BigDecimal price = new BigDecimal("19.99");
+    assertEquals(price, ObjectUtils.requireGreaterThan(0, price));
+    assertEquals(price, ObjectUtils.requireLessThan(20L, price, "Unused."));
+    assertEquals(price, ObjectUtils.requireGreaterThanOrEqualTo(19.99D, price, UNUSED_MESSAGE));
+    assertEquals(price, ObjectUtils.requireLessThanOrEqualTo(100, price, "%s", UNUSED_ARGUMENT));
+    BigDecimal twenty = new BigDecimal("20.00");
+    assertEquals(twenty, ObjectUtils.requireEqualTo(20, twenty));
+
+    BigDecimal negative = new BigDecimal("-0.01");
+    ValidationException ex =
+        assertThrows(ValidationException.class, () -> ObjectUtils.requireGreaterThan(0, negative));
+    assertEquals(Check.GREATER_THAN, ex.getCheck());
+    assertEquals(negative, ex.getValue());
+    assertEquals(0L, ex.getBound());
+    assertEquals("value(-0.01) should be greater than 0.", ex.getMessage());
+    assertEquals(
+        "Bad price.",
+        messageOf(() -> ObjectUtils.requireLessThan(0.5D, price, () -> "Bad price.")));
+    assertEquals(
+        "price(19.99) > 10",
+        messageOf(
+            () -> ObjectUtils.requireLessThanOrEqualTo(10L, price, "price(%s) > %s", price, 10)));
+    assertEquals(
+        "value(19.99) should be equal to 20.",
+        messageOf(() -> ObjectUtils.requireEqualTo(20, price)));
+  }
+
+  @Test
+  public void testMixedComparisonsDoNotAllocate() {
+    final BigDecimal price = new BigDecimal("19.99");
+    final BigDecimal rate = new BigDecimal("0.0725");
+    long allocated =
+        allocatedBytes(
+            () -> {
+              for (int i = 0; i < ITERATIONS; i++) {
+                ObjectUtils.isGreaterThan(0, price);
+                ObjectUtils.isLessThan(1000, price);
+                ObjectUtils.isLessThan(20, price);
+                ObjectUtils.isGreaterThanOrEqualTo(10, price);
+                ObjectUtils.isLessThan(0.5D, rate);
+                ObjectUtils.requireInRange(0, 100, i & 63);
+                ObjectUtils.requireGreaterThan(0, price);
+                ObjectUtils.isGreaterThan(9007199254740992.0D, 9007199254740993L + i);
+              }
+            });
+    assertTrue(allocated < ITERATIONS, "Mixed comparisons allocated " + allocated + " bytes.");
+  }
+
+  // ========================================================================
+  // BIG INTEGER UTILITY METHODS TESTS
+  // ========================================================================
+  @Test
+  public void testBigIntegerChecks() {
+    final BigInteger ten = BigInteger.TEN;
+    final BigInteger big = BigInteger.ONE.shiftLeft(4096).subtract(BigInteger.ONE);
+    assertTrue(ObjectUtils.isEqualTo(ten, new BigInteger("10")));
+    assertFalse(ObjectUtils.isEqualTo(ten, big));
+    assertTrue(ObjectUtils.isGreaterThan(ten, big));
+    assertFalse(ObjectUtils.isGreaterThan(big, ten));
+    assertTrue(ObjectUtils.isGreaterThanOrEqualTo(big, big.add(BigInteger.ZERO)));
+    assertTrue(ObjectUtils.isLessThan(ten, big.negate()));
+    assertTrue(ObjectUtils.isLessThanOrEqualTo(ten, BigInteger.ZERO));
+    assertFalse(ObjectUtils.isLessThanOrEqualTo(big.negate(), big.negate().add(ten)));
+    assertTrue(ObjectUtils.inRange(big.negate(), big, ten));
+    assertFalse(ObjectUtils.inRange(ten, big, big));
+    assertTrue(ObjectUtils.isNegative(big.negate()));
+    assertFalse(ObjectUtils.isNegative(BigInteger.ZERO));
+
+    assertThrows(
+        IllegalArgumentException.class, () -> ObjectUtils.inRange(big, ten, BigInteger.ONE));
+    assertThrows(
+        NullPointerException.class, () -> ObjectUtils.isGreaterThan((BigInteger) null, ten));
+    assertThrows(NullPointerException.class, () -> ObjectUtils.isLessThan(ten, null));
+    assertThrows(NullPointerException.class, () -> ObjectUtils.isNegative((BigInteger) null));
+  }
+
+  @Test
+  public void testBigIntegerChecksAgreeWithCompareTo() {
+    List<BigInteger> values = new ArrayList<>();
+    for (int bits : new int[] {0, 1, 31, 32, 33, 63, 64, 65, 1024, 4096}) {
+      BigInteger power = BigInteger.ONE.shiftLeft(bits);
+      for (BigInteger value :
+          Arrays.asList(power, power.subtract(BigInteger.ONE), power.add(BigInteger.ONE))) {
+        values.add(value);
+        values.add(value.negate());
+      }
+    }
+    Random random = new Random(42);
+    for (int i = 0; i < 50; i++) {
+      BigInteger value = new BigInteger(1 + random.nextInt(4096), random);
+      values.add(random.nextBoolean() ? value : value.negate());
+    }
+    for (BigInteger x : values) {
+      for (BigInteger y : values) {
+        int expected = Integer.signum(y.compareTo(x));
+        assertEquals(expected == 0, ObjectUtils.isEqualTo(x, y), x + " == " + y);
+        assertEquals(expected > 0, ObjectUtils.isGreaterThan(x, y), y + " > " + x);
+        assertEquals(expected >= 0, ObjectUtils.isGreaterThanOrEqualTo(x, y), y + " >= " + x);
+        assertEquals(expected < 0, ObjectUtils.isLessThan(x, y), y + " < " + x);
+        assertEquals(expected <= 0, ObjectUtils.isLessThanOrEqualTo(x, y), y + " <= " + x);
+      }
+    }
+  }
+
+  @Test
+  public void testRequireBigInteger() {
+    final BigInteger value = BigInteger.ONE.shiftLeft(100);
+    final BigInteger max = BigInteger.ONE.shiftLeft(128);
+    assertSame(value, ObjectUtils.requireEqualTo(BigInteger.ONE.shiftLeft(100), value));
+    assertSame(value, ObjectUtils.requireGreaterThan(BigInteger.ZERO, value, "Unused."));
+    assertSame(value, ObjectUtils.requireGreaterThanOrEqualTo(value, value, UNUSED_MESSAGE));
+    assertSame(value, ObjectUtils.requireLessThan(max, value, "%s", UNUSED_ARGUMENT));
+    assertSame(value, ObjectUtils.requireLessThanOrEqualTo(value, value));
+    assertSame(value, ObjectUtils.requireInRange(BigInteger.ZERO, max, value, UNUSED_MESSAGE));
+    assertSame(value, ObjectUtils.requireNonNegative(value, "%s", UNUSED_ARGUMENT));
+
+    ValidationException ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ObjectUtils.requireInRange(BigInteger.ZERO, value, max));
+    assertEquals(Check.IN_RANGE, ex.getCheck());
+    assertSame(max, ex.getValue());
+    assertSame(value, ex.getUpperBound());
+    assertEquals(
+        "value(-1) cannot be negative.",
+        messageOf(
+            () ->
+                ObjectUtils.requireNonNegative(
+                    BigInteger.ONE.negate(), () -> "value(-1) cannot be negative.")));
+    assertEquals(
+        "id(" + max + ") is too large.",
+        messageOf(() -> ObjectUtils.requireLessThan(value, max, "id(%s) is too large.", max)));
+    assertEquals(
+        "value(1) should be greater than 1.",
+        messageOf(() -> ObjectUtils.requireGreaterThan(BigInteger.ONE, BigInteger.ONE)));
+    assertThrows(
+        ValidationException.class,
+        () -> ObjectUtils.requireLessThanOrEqualTo(value, max, (String) null));
+    assertThrows(
+        ValidationException.class, () -> ObjectUtils.requireEqualTo(value, max, () -> null));
+    assertThrows(
+        NullPointerException.class, () -> ObjectUtils.requireGreaterThanOrEqualTo(value, null));
+  }
+
+  // ========================================================================
+  // UNSIGNED UTILITY METHODS TESTS
+  // ========================================================================
+  @Test
+  public void testUnsignedChecks() {
+    // -1 is the largest unsigned value and MIN_VALUE is 2^31 or 2^63
+    assertTrue(ObjectUtils.isGreaterThanUnsigned(1, -1));
+    assertFalse(ObjectUtils.isGreaterThan(1, -1));
+    assertTrue(ObjectUtils.isGreaterThanUnsigned(Integer.MAX_VALUE, Integer.MIN_VALUE));
+    assertFalse(ObjectUtils.isGreaterThanUnsigned(-1, -1));
+    assertTrue(ObjectUtils.isGreaterThanOrEqualToUnsigned(-1, -1));
+    assertTrue(ObjectUtils.isLessThanUnsigned(-1, 0));
+    assertFalse(ObjectUtils.isLessThanUnsigned(0, -1));
+    assertTrue(ObjectUtils.isLessThanOrEqualToUnsigned(Integer.MIN_VALUE, Integer.MAX_VALUE));
+    assertTrue(ObjectUtils.isGreaterThanUnsigned(1L, -1L));
+    assertTrue(ObjectUtils.isGreaterThanOrEqualToUnsigned(Long.MIN_VALUE, -2L));
+    assertTrue(ObjectUtils.isLessThanUnsigned(Long.MIN_VALUE, Long.MAX_VALUE));
+    assertFalse(ObjectUtils.isLessThanOrEqualToUnsigned(Long.MAX_VALUE, Long.MIN_VALUE));
+
+    assertTrue(ObjectUtils.inRangeUnsigned(1, -1, Integer.MIN_VALUE));
+    assertTrue(ObjectUtils.inRangeUnsigned(Integer.MIN_VALUE, -1, -2));
+    assertFalse(ObjectUtils.inRangeUnsigned(Integer.MIN_VALUE, -1, -1));
+    assertFalse(ObjectUtils.inRangeUnsigned(Integer.MIN_VALUE, -1, Integer.MAX_VALUE));
+    assertFalse(ObjectUtils.inRangeUnsigned(5, 5, 5));
+    assertTrue(ObjectUtils.inRangeUnsigned(0L, Long.MIN_VALUE, Long.MAX_VALUE));
+    assertFalse(ObjectUtils.inRangeUnsigned(0L, Long.MIN_VALUE, Long.MIN_VALUE));
+    assertTrue(ObjectUtils.inRangeUnsigned(10L, -1L, -2L));
+
+    IllegalArgumentException ex =
+        assertThrows(IllegalArgumentException.class, () -> ObjectUtils.inRangeUnsigned(-1, 1, 0));
+    assertEquals("maxValue( 1 ) cannot be less than minValue( 4294967295 ).", ex.getMessage());
+    ex =
+        assertThrows(
+            IllegalArgumentException.class, () -> ObjectUtils.inRangeUnsigned(-1L, 1L, 0L));
+    assertEquals(
+        "maxValue( 1 ) cannot be less than minValue( 18446744073709551615 ).", ex.getMessage());
+  }
+
+  @Test
+  public void testUnsignedChecksAgreeWithCompareUnsigned() {
+    long[] values = {
+      0L, 1L, 2L, Integer.MAX_VALUE, 0x8000_0000L, 0xFFFF_FFFFL, Long.MAX_VALUE, Long.MIN_VALUE,
+      Long.MIN_VALUE + 1, -2L, -1L
+    };
+    for (long x : values) {
+      for (long y : values) {
+        int expected = Long.compareUnsigned(y, x);
+        assertEquals(expected > 0, ObjectUtils.isGreaterThanUnsigned(x, y));
+        assertEquals(expected >= 0, ObjectUtils.isGreaterThanOrEqualToUnsigned(x, y));
+        assertEquals(expected < 0, ObjectUtils.isLessThanUnsigned(x, y));
+        assertEquals(expected <= 0, ObjectUtils.isLessThanOrEqualToUnsigned(x, y));
+        int intExpected = Integer.compareUnsigned((int) y, (int) x);
+        assertEquals(intExpected > 0, ObjectUtils.isGreaterThanUnsigned((int) x, (int) y));
+        assertEquals(intExpected < 0, ObjectUtils.isLessThanUnsigned((int) x, (int) y));
+        for (long z : values) {
+          if (Long.compareUnsigned(x, z) <= 0) {
+            boolean inRange = Long.compareUnsigned(y, x) >= 0 && Long.compareUnsigned(y, z) < 0;
+            assertEquals(inRange, ObjectUtils.inRangeUnsigned(x, z, y));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testRequireUnsigned() {
+    assertEquals(-1, ObjectUtils.requireGreaterThanUnsigned(0, -1));
+    assertEquals(-1, ObjectUtils.requireGreaterThanOrEqualToUnsigned(-1, -1, "Unused."));
+    assertEquals(5, ObjectUtils.requireLessThanUnsigned(-1, 5, UNUSED_MESSAGE));
+    assertEquals(-2, ObjectUtils.requireLessThanOrEqualToUnsigned(-2, -2, "%s", UNUSED_ARGUMENT));
+    assertEquals(-2, ObjectUtils.requireInRangeUnsigned(Integer.MIN_VALUE, -1, -2));
+    assertEquals(-1L, ObjectUtils.requireGreaterThanUnsigned(0L, -1L, UNUSED_MESSAGE));
+    assertEquals(-1L, ObjectUtils.requireGreaterThanOrEqualToUnsigned(-1L, -1L));
+    assertEquals(5L, ObjectUtils.requireLessThanUnsigned(-1L, 5L, "%s", UNUSED_ARGUMENT));
+    assertEquals(-2L, ObjectUtils.requireLessThanOrEqualToUnsigned(-2L, -2L, "Unused."));
+    assertEquals(-2L, ObjectUtils.requireInRangeUnsigned(0L, -1L, -2L, UNUSED_MESSAGE));
+
+    ValidationException ex =
+        assertThrows(ValidationException.class, () -> ObjectUtils.requireLessThanUnsigned(10, -1));
+    assertEquals(Check.LESS_THAN, ex.getCheck());
+    assertEquals(4294967295L, ex.getValue());
+    assertEquals(10L, ex.getBound());
+    assertEquals("value(4294967295) should be less than 10.", ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ObjectUtils.requireInRangeUnsigned(0L, Long.MIN_VALUE, -1L));
+    assertEquals(Check.IN_RANGE, ex.getCheck());
+    assertEquals(new BigInteger("18446744073709551615"), ex.getValue());
+    assertEquals(0L, ex.getBound());
+    assertEquals(new BigInteger("9223372036854775808"), ex.getUpperBound());
+    assertEquals(
+        "value(18446744073709551615) should be more than or equal to 0 and less than"
+            + " 9223372036854775808.",
+        ex.getMessage());
+    assertEquals(
+        "id(-1) is too large.",
+        messageOf(() -> ObjectUtils.requireLessThanUnsigned(10L, -1L, "id(%d) is too large.", -1)));
+    assertEquals(
+        "Too small.",
+        messageOf(
+            () -> ObjectUtils.requireGreaterThanOrEqualToUnsigned(-1, 0, () -> "Too small.")));
+  }
+
+  // ========================================================================
+  // TEMPORAL UTILITY METHODS TESTS
+  // ========================================================================
+  @SuppressWarnings(value = "nullness:argument")
+  @Test
+  public void testTemporalChecks() {
+    Instant start = Instant.parse("2024-06-01T00:00:00Z");
+    Instant end = Instant.parse("2024-06-01T00:05:00Z");
+    assertTrue(ObjectUtils.isGreaterThan(start, start.plusNanos(1)));
+    assertFalse(ObjectUtils.isGreaterThan(start, start));
+    assertTrue(ObjectUtils.isLessThan(end, end.minusNanos(1)));
+    assertFalse(ObjectUtils.isLessThan(end, end));
+    assertTrue(ObjectUtils.inRange(start, end, start));
+    assertTrue(ObjectUtils.inRange(start, end, end.minusNanos(1)));
+    assertFalse(ObjectUtils.inRange(start, end, end));
+    assertFalse(ObjectUtils.inRange(start, end, start.minusNanos(1)));
+
+    assertTrue(ObjectUtils.isGreaterThan(Duration.ofSeconds(1), Duration.ofMillis(1001)));
+    assertTrue(ObjectUtils.isLessThan(Duration.ZERO, Duration.ofNanos(-1)));
+    assertTrue(ObjectUtils.inRange(Duration.ZERO, Duration.ofMinutes(1), Duration.ofSeconds(59)));
+    assertFalse(ObjectUtils.inRange(Duration.ZERO, Duration.ofMinutes(1), Duration.ofSeconds(60)));
+
+    LocalDate today = LocalDate.of(2024, 2, 29);
+    assertTrue(ObjectUtils.isGreaterThan(today, today.plusDays(1)));
+    assertTrue(ObjectUtils.isLessThan(today, today.minusYears(1)));
+    assertTrue(ObjectUtils.inRange(today, today.plusDays(1), today));
+    assertFalse(ObjectUtils.inRange(today, today, today));
+
+    // The same instant with different offsets is neither greater nor less than itself
+    OffsetDateTime utc = OffsetDateTime.of(2024, 6, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+    OffsetDateTime nairobi = utc.withOffsetSameInstant(ZoneOffset.ofHours(3));
+    assertFalse(ObjectUtils.isGreaterThan(utc, nairobi));
+    assertFalse(ObjectUtils.isLessThan(utc, nairobi));
+    assertTrue(ObjectUtils.isLessThan(utc, nairobi.minusNanos(1)));
+    assertTrue(ObjectUtils.inRange(utc, utc.plusHours(1), nairobi));
+    assertFalse(ObjectUtils.inRange(nairobi.minusHours(1), nairobi, utc));
+
+    IllegalArgumentException ex =
+        assertThrows(IllegalArgumentException.class, () -> ObjectUtils.inRange(end, start, end));
+    assertEquals(
+        "maxValue( 2024-06-01T00:00:00Z ) cannot be less than minValue( 2024-06-01T00:05:00Z ).",
+        ex.getMessage());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ObjectUtils.inRange(Duration.ofSeconds(1), Duration.ZERO, Duration.ZERO));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ObjectUtils.inRange(today, today.minusDays(1), today));
+    assertThrows(
+        IllegalArgumentException.class, () -> ObjectUtils.inRange(utc, nairobi.minusNanos(1), utc));
+    assertThrows(
+        NullPointerException.class, () -> ObjectUtils.isGreaterThan(start, (Instant) null));
+    assertThrows(NullPointerException.class, () -> ObjectUtils.isLessThan((LocalDate) null, today));
+    assertThrows(NullPointerException.class, () -> ObjectUtils.inRange(start, end, (Instant) null));
+  }
+
+  @Test
+  public void testTemporalChecksDoNotAllocate() {
+    final Instant start = Instant.parse("2024-06-01T00:00:00Z");
+    final Instant end = Instant.parse("2024-06-01T00:05:00Z");
+    final Instant value = Instant.parse("2024-06-01T00:01:00.5Z");
+    final OffsetDateTime time = value.atOffset(ZoneOffset.ofHours(3));
+    final InstantRange window = InstantRange.of(start, end);
+    final Duration timeout = Duration.ofSeconds(30);
+    final LocalDate today = LocalDate.of(2024, 6, 1);
+    long allocated =
+        allocatedBytes(
+            () -> {
+              for (int i = 0; i < ITERATIONS; i++) {
+                ObjectUtils.inRange(start, end, value);
+                ObjectUtils.requireGreaterThan(start, value);
+                ObjectUtils.isLessThan(timeout, Duration.ZERO);
+                ObjectUtils.isGreaterThan(today, today);
+                window.contains(value);
+                window.require(time);
+              }
+            });
+    assertTrue(allocated < ITERATIONS, "Temporal checks allocated " + allocated + " bytes.");
+  }
+
+  @Test
+  public void testRequireTemporal() {
+    Instant start = Instant.parse("2024-06-01T00:00:00Z");
+    Instant end = Instant.parse("2024-06-01T00:05:00Z");
+    Instant value = Instant.parse("2024-06-01T00:01:00Z");
+    assertSame(value, ObjectUtils.requireGreaterThan(start, value));
+    assertSame(value, ObjectUtils.requireLessThan(end, value, "Unused."));
+    assertSame(value, ObjectUtils.requireInRange(start, end, value, UNUSED_MESSAGE));
+    assertSame(value, ObjectUtils.requireInRange(start, end, value, "%s", UNUSED_ARGUMENT));
+    Duration timeout = Duration.ofSeconds(30);
+    assertSame(timeout, ObjectUtils.requireGreaterThan(Duration.ZERO, timeout, UNUSED_MESSAGE));
+    assertSame(timeout, ObjectUtils.requireLessThan(Duration.ofMinutes(1), timeout));
+    assertSame(
+        timeout,
+        ObjectUtils.requireInRange(Duration.ZERO, Duration.ofMinutes(1), timeout, "%s", 1));
+    LocalDate today = LocalDate.of(2024, 6, 1);
+    assertSame(today, ObjectUtils.requireGreaterThan(today.minusDays(1), today, "Unused."));
+    assertSame(today, ObjectUtils.requireLessThan(today.plusDays(1), today, "%s", UNUSED_ARGUMENT));
+    assertSame(today, ObjectUtils.requireInRange(today, today.plusDays(1), today));
+    OffsetDateTime time = value.atOffset(ZoneOffset.ofHours(3));
+    assertSame(time, ObjectUtils.requireGreaterThan(start.atOffset(ZoneOffset.UTC), time));
+    assertSame(
+        time, ObjectUtils.requireLessThan(end.atOffset(ZoneOffset.UTC), time, UNUSED_MESSAGE));
+    assertSame(
+        time,
+        ObjectUtils.requireInRange(
+            start.atOffset(ZoneOffset.UTC), end.atOffset(ZoneOffset.UTC), time, "Unused."));
+
+    ValidationException ex =
+        assertThrows(ValidationException.class, () -> ObjectUtils.requireInRange(start, end, end));
+    assertEquals(Check.IN_RANGE, ex.getCheck());
+    assertSame(end, ex.getValue());
+    assertSame(start, ex.getBound());
+    assertSame(end, ex.getUpperBound());
+    assertEquals(
+        "value(2024-06-01T00:05:00Z) should be more than or equal to 2024-06-01T00:00:00Z and less"
+            + " than 2024-06-01T00:05:00Z.",
+        ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ObjectUtils.requireGreaterThan(timeout, Duration.ofSeconds(30)));
+    assertEquals(Check.GREATER_THAN, ex.getCheck());
+    assertEquals("value(PT30S) should be greater than PT30S.", ex.getMessage());
+    LocalDate tomorrow = today.plusDays(1);
+    assertEquals(
+        "2024-06-02 is in the future.",
+        messageOf(
+            () ->
+                ObjectUtils.requireLessThan(tomorrow, tomorrow, "%s is in the future.", tomorrow)));
+    assertEquals(
+        "Too early.",
+        messageOf(
+            () ->
+                ObjectUtils.requireGreaterThan(
+                    time, time.withOffsetSameInstant(ZoneOffset.UTC), () -> "Too early.")));
+  }
+
+  // ========================================================================
+  // CLOCK UTILITY METHODS TESTS
+  // ========================================================================
+  @SuppressWarnings(value = "nullness:argument")
+  @Test
+  public void testClockChecks() {
+    Instant now = Instant.parse("2024-06-01T12:00:00.123Z");
+    Clock clock = Clock.fixed(now, ZoneOffset.UTC);
+    long millis = now.toEpochMilli();
+    Duration minute = Duration.ofMinutes(1);
+    assertTrue(ObjectUtils.isNotInFuture(clock, now));
+    assertTrue(ObjectUtils.isNotInFuture(clock, now.minusNanos(1)));
+    assertFalse(ObjectUtils.isNotInFuture(clock, now.plusNanos(1)));
+    assertTrue(ObjectUtils.isNotInFuture(clock, Instant.MIN));
+    assertFalse(ObjectUtils.isNotInFuture(clock, Instant.MAX));
+    assertTrue(ObjectUtils.isNotInFuture(clock, millis));
+    assertFalse(ObjectUtils.isNotInFuture(clock, millis + 1));
+    assertTrue(
+        ObjectUtils.isNotInFuture(Clock.offset(clock, Duration.ofSeconds(1)), millis + 1000));
+
+    assertTrue(ObjectUtils.isWithinLast(clock, minute, now));
+    assertTrue(ObjectUtils.isWithinLast(clock, minute, now.minus(minute)));
+    assertFalse(ObjectUtils.isWithinLast(clock, minute, now.minus(minute).minusNanos(1)));
+    assertFalse(ObjectUtils.isWithinLast(clock, minute, now.plusNanos(1)));
+    assertTrue(ObjectUtils.isWithinLast(clock, Duration.ZERO, now));
+    assertFalse(ObjectUtils.isWithinLast(clock, Duration.ZERO, now.minusNanos(1)));
+    assertTrue(ObjectUtils.isWithinLast(clock, Duration.ofNanos(1), now.minusNanos(1)));
+    assertTrue(ObjectUtils.isWithinLast(clock, Duration.ofSeconds(Long.MAX_VALUE), Instant.MIN));
+    assertTrue(ObjectUtils.isWithinLast(clock, minute, millis));
+    assertTrue(ObjectUtils.isWithinLast(clock, minute, millis - 60_000));
+    assertFalse(ObjectUtils.isWithinLast(clock, minute, millis - 60_001));
+    assertFalse(ObjectUtils.isWithinLast(clock, minute, millis + 1));
+    assertTrue(ObjectUtils.isWithinLast(clock, Duration.ofMillis(1).plusNanos(1), millis - 1));
+    assertFalse(ObjectUtils.isWithinLast(clock, Duration.ofNanos(999_999), millis - 1));
+    assertTrue(ObjectUtils.isWithinLast(clock, Duration.ofSeconds(Long.MAX_VALUE), Long.MIN_VALUE));
+
+    // Times before the epoch have negative milliseconds and nanoseconds in the previous second
+    Clock beforeEpoch = Clock.fixed(Instant.ofEpochMilli(-1500), ZoneOffset.UTC);
+    assertTrue(ObjectUtils.isNotInFuture(beforeEpoch, Instant.ofEpochSecond(-2, 500_000_000)));
+    assertFalse(ObjectUtils.isNotInFuture(beforeEpoch, Instant.ofEpochSecond(-2, 500_000_001)));
+    Instant earlier = Instant.ofEpochSecond(-3, 900_000_000);
+    assertTrue(ObjectUtils.isWithinLast(beforeEpoch, Duration.ofMillis(600), earlier));
+    assertFalse(ObjectUtils.isWithinLast(beforeEpoch, Duration.ofMillis(599), earlier));
+
+    IllegalArgumentException ex =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ObjectUtils.isWithinLast(clock, minute.negated(), now));
+    assertEquals("period( PT-1M ) cannot be negative.", ex.getMessage());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ObjectUtils.isWithinLast(clock, Duration.ofNanos(-1), millis));
+    assertThrows(NullPointerException.class, () -> ObjectUtils.isNotInFuture(null, millis));
+    assertThrows(NullPointerException.class, () -> ObjectUtils.isNotInFuture(clock, null));
+    assertThrows(NullPointerException.class, () -> ObjectUtils.isWithinLast(clock, null, millis));
+  }
+
+  @Test
+  public void testRequireClock() {
+    Instant now = Instant.parse("2024-06-01T12:00:00Z");
+    Clock clock = Clock.fixed(now, ZoneOffset.UTC);
+    long millis = now.toEpochMilli();
+    Duration minute = Duration.ofMinutes(1);
+    Instant value = now.minusSeconds(30);
+    assertSame(value, ObjectUtils.requireNotInFuture(clock, value));
+    assertSame(value, ObjectUtils.requireNotInFuture(clock, value, "Unused."));
+    assertSame(value, ObjectUtils.requireNotInFuture(clock, value, UNUSED_MESSAGE));
+    assertSame(value, ObjectUtils.requireNotInFuture(clock, value, "%s", UNUSED_ARGUMENT));
+    assertEquals(millis, ObjectUtils.requireNotInFuture(clock, millis));
+    assertEquals(millis, ObjectUtils.requireNotInFuture(clock, millis, UNUSED_MESSAGE));
+    assertSame(value, ObjectUtils.requireWithinLast(clock, minute, value));
+    assertSame(value, ObjectUtils.requireWithinLast(clock, minute, value, "%s", UNUSED_ARGUMENT));
+    assertEquals(millis - 1, ObjectUtils.requireWithinLast(clock, minute, millis - 1, "Unused."));
+    assertEquals(millis, ObjectUtils.requireWithinLast(clock, minute, millis, UNUSED_MESSAGE));
+
+    ValidationException ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ObjectUtils.requireNotInFuture(clock, now.plusSeconds(1)));
+    assertEquals(Check.NOT_IN_FUTURE, ex.getCheck());
+    assertEquals(now.plusSeconds(1), ex.getValue());
+    assertEquals(now, ex.getBound());
+    assertEquals(
+        "value(2024-06-01T12:00:01Z) should not be after the current time(2024-06-01T12:00:00Z).",
+        ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class, () -> ObjectUtils.requireNotInFuture(clock, millis + 1));
+    assertEquals(millis + 1, ex.getValue());
+    assertEquals(millis, ex.getBound());
+    assertEquals(
+        "value(1717243200001) should not be after the current time(1717243200000).",
+        ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ObjectUtils.requireWithinLast(clock, minute, now.minusSeconds(61)));
+    assertEquals(Check.WITHIN_LAST, ex.getCheck());
+    assertEquals(now, ex.getBound());
+    assertEquals(minute, ex.getUpperBound());
+    assertEquals(
+        "value(2024-06-01T11:58:59Z) should not be after the current time(2024-06-01T12:00:00Z) or"
+            + " more than PT1M before it.",
+        ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ObjectUtils.requireWithinLast(clock, minute, millis - 60_001));
+    assertEquals(millis - 60_001, ex.getValue());
+    assertEquals(millis, ex.getBound());
+    assertEquals(
+        "value(1717243139999) should not be after the current time(1717243200000) or more than"
+            + " PT1M before it.",
+        ex.getMessage());
+    assertEquals(
+        "Stale event.",
+        messageOf(() -> ObjectUtils.requireWithinLast(clock, minute, 0L, () -> "Stale event.")));
+    assertEquals(
+        "Event 7 is from the future.",
+        messageOf(
+            () ->
+                ObjectUtils.requireNotInFuture(
+                    clock, now.plusMillis(1), "Event %d is from the future.", 7)));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ObjectUtils.requireWithinLast(clock, minute.negated(), now, UNUSED_MESSAGE));
+  }
+
+  @Test
+  public void testRequireClockReadsTheClockOnce() {
+    // Every read of the clock is a second later than the previous one, so a second read would
+    // change the outcome of the checks below
+    SteppingClock clock = new SteppingClock(60_000L, 1000L);
+    ValidationException ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ObjectUtils.requireNotInFuture(clock, 60_500L, () -> "Late."));
+    assertEquals(60_000L, ex.getBound());
+    assertEquals("Late.", ex.getMessage());
+    assertEquals(1, clock.reads);
+
+    clock.reads = 0;
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ObjectUtils.requireNotInFuture(clock, Instant.ofEpochMilli(61_500L), "%s", 1));
+    assertEquals(Instant.ofEpochMilli(61_000L), ex.getBound());
+    assertEquals(1, clock.reads);
+
+    clock.reads = 0;
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ObjectUtils.requireWithinLast(clock, Duration.ofSeconds(1), 0L, () -> "Stale."));
+    assertEquals(62_000L, ex.getBound());
+    assertEquals(1, clock.reads);
+
+    clock.reads = 0;
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () ->
+                ObjectUtils.requireWithinLast(
+                    clock, Duration.ofSeconds(1), Instant.ofEpochMilli(63_500L), "%s", 1));
+    assertEquals(Instant.ofEpochMilli(63_000L), ex.getBound());
+    assertEquals(1, clock.reads);
+  }
+
+  @Test
+  public void testClockChecksDoNotAllocate() {
+    final CoarseClock clock = CoarseClock.start(Duration.ofMillis(1));
+    try {
+      final Duration minute = Duration.ofMinutes(1);
+      final Instant value = clock.instant();
+      final long millis = value.toEpochMilli();
+      long allocated =
+          allocatedBytes(
+              () -> {
+                for (int i = 0; i < ITERATIONS; i++) {
+                  ObjectUtils.isNotInFuture(clock, value);
+                  ObjectUtils.requireNotInFuture(clock, millis);
+                  ObjectUtils.isWithinLast(clock, minute, value);
+                  ObjectUtils.requireWithinLast(clock, minute, millis, "Stale.");
+                }
+              });
+      assertTrue(allocated < ITERATIONS, "Clock checks allocated " + allocated + " bytes.");
+    } finally {
+      clock.close();
+    }
+  }
+
+  // ========================================================================
+  // INDEX UTILITY METHODS TESTS
+  // ========================================================================
+  @Test
+  public void testRequireIndex() {
+    assertEquals(0, ObjectUtils.requireIndex(0, 1));
+    assertEquals(9, ObjectUtils.requireIndex(9, 10));
+    assertEquals(9, ObjectUtils.requireIndex(9, 10, "Bad index."));
+    assertEquals(9, ObjectUtils.requireIndex(9, 10, UNUSED_MESSAGE));
+    assertEquals(9, ObjectUtils.requireIndex(9, 10, "Bad index %s.", UNUSED_ARGUMENT));
+    assertEquals(
+        Integer.MAX_VALUE - 1, ObjectUtils.requireIndex(Integer.MAX_VALUE - 1, Integer.MAX_VALUE));
+
+    for (int[] args : new int[][] {{10, 10}, {-1, 10}, {0, 0}, {0, -1}, {Integer.MIN_VALUE, 1}}) {
+      IndexOutOfBoundsException ex =
+          assertThrows(
+              IndexOutOfBoundsException.class, () -> ObjectUtils.requireIndex(args[0], args[1]));
+      // The message of the JDK check is used when no message is given
+      assertEquals(
+          assertThrows(
+                  IndexOutOfBoundsException.class, () -> Objects.checkIndex(args[0], args[1]))
+              .getMessage(),
+          ex.getMessage());
+      assertEquals(
+          ex.getMessage(),
+          assertThrows(
+                  IndexOutOfBoundsException.class,
+                  () -> ObjectUtils.requireIndex(args[0], args[1], (String) null))
+              .getMessage());
+      assertEquals(
+          ex.getMessage(),
+          assertThrows(
+                  IndexOutOfBoundsException.class,
+                  () -> ObjectUtils.requireIndex(args[0], args[1], (Supplier<String>) null))
+              .getMessage());
+    }
+    assertEquals(
+        "Bad index.",
+        assertThrows(
+                IndexOutOfBoundsException.class,
+                () -> ObjectUtils.requireIndex(10, 10, "Bad index."))
+            .getMessage());
+    assertEquals(
+        "Bad index.",
+        assertThrows(
+                IndexOutOfBoundsException.class,
+                () -> ObjectUtils.requireIndex(10, 10, () -> "Bad index."))
+            .getMessage());
+    assertEquals(
+        "Bad index 10 of 10.",
+        assertThrows(
+                IndexOutOfBoundsException.class,
+                () -> ObjectUtils.requireIndex(10, 10, "Bad index %d of %d.", 10, 10))
+            .getMessage());
+  }
+
+  @Test
+  public void testRequireFromToIndex() {
+    assertEquals(0, ObjectUtils.requireFromToIndex(0, 0, 0));
+    assertEquals(0, ObjectUtils.requireFromToIndex(0, 10, 10));
+    assertEquals(10, ObjectUtils.requireFromToIndex(10, 10, 10));
+    assertEquals(3, ObjectUtils.requireFromToIndex(3, 7, 10, "Bad range."));
+    assertEquals(3, ObjectUtils.requireFromToIndex(3, 7, 10, UNUSED_MESSAGE));
+    assertEquals(3, ObjectUtils.requireFromToIndex(3, 7, 10, "Bad range %s.", UNUSED_ARGUMENT));
+
+    for (int[] args : new int[][] {{-1, 5, 10}, {6, 5, 10}, {0, 11, 10}, {0, 0, -1}}) {
+      IndexOutOfBoundsException ex =
+          assertThrows(
+              IndexOutOfBoundsException.class,
+              () -> ObjectUtils.requireFromToIndex(args[0], args[1], args[2]));
+      assertEquals(
+          assertThrows(
+                  IndexOutOfBoundsException.class,
+                  () -> Objects.checkFromToIndex(args[0], args[1], args[2]))
+              .getMessage(),
+          ex.getMessage());
+      assertEquals(
+          "Bad range.",
+          assertThrows(
+                  IndexOutOfBoundsException.class,
+                  () -> ObjectUtils.requireFromToIndex(args[0], args[1], args[2], "Bad range."))
+              .getMessage());
+      assertEquals(
+          "Bad range.",
+          assertThrows(
+                  IndexOutOfBoundsException.class,
+                  () ->
+                      ObjectUtils.requireFromToIndex(args[0], args[1], args[2], () -> "Bad range."))
+              .getMessage());
+      assertEquals(
+          "Bad range [" + args[0] + ", " + args[1] + ").",
+          assertThrows(
+                  IndexOutOfBoundsException.class,
+                  () ->
+                      ObjectUtils.requireFromToIndex(
+                          args[0], args[1], args[2], "Bad range [%d, %d).", args[0], args[1]))
+              .getMessage());
+    }
+  }
+
+  @Test
+  public void testRequireFromIndexSize() {
+    assertEquals(0, ObjectUtils.requireFromIndexSize(0, 0, 0));
+    assertEquals(0, ObjectUtils.requireFromIndexSize(0, 10, 10));
+    assertEquals(10, ObjectUtils.requireFromIndexSize(10, 0, 10));
+    assertEquals(3, ObjectUtils.requireFromIndexSize(3, 7, 10, "Bad range."));
+    assertEquals(3, ObjectUtils.requireFromIndexSize(3, 7, 10, UNUSED_MESSAGE));
+    assertEquals(3, ObjectUtils.requireFromIndexSize(3, 7, 10, "Bad range %s.", UNUSED_ARGUMENT));
+
+    // fromIndex + size overflows in the last case, but the check doesn't
+    int[][] invalid = {
+      {-1, 5, 10}, {0, -1, 10}, {6, 5, 10}, {0, 0, -1}, {1, Integer.MAX_VALUE, 10}
+    };
+    for (int[] args : invalid) {
+      IndexOutOfBoundsException ex =
+          assertThrows(
+              IndexOutOfBoundsException.class,
+              () -> ObjectUtils.requireFromIndexSize(args[0], args[1], args[2]));
+      assertEquals(
+          assertThrows(
+                  IndexOutOfBoundsException.class,
+                  () -> Objects.checkFromIndexSize(args[0], args[1], args[2]))
+              .getMessage(),
+          ex.getMessage());
+      assertEquals(
+          "Bad range.",
+          assertThrows(
+                  IndexOutOfBoundsException.class,
+                  () -> ObjectUtils.requireFromIndexSize(args[0], args[1], args[2], "Bad range."))
+              .getMessage());
+      assertEquals(
+          "Bad range.",
+          assertThrows(
+                  IndexOutOfBoundsException.class,
+                  () ->
+                      ObjectUtils.requireFromIndexSize(
+                          args[0], args[1], args[2], () -> "Bad range."))
+              .getMessage());
+      assertEquals(
+          "Bad size " + args[1] + ".",
+          assertThrows(
+                  IndexOutOfBoundsException.class,
+                  () ->
+                      ObjectUtils.requireFromIndexSize(
+                          args[0], args[1], args[2], "Bad size %d.", args[1]))
+              .getMessage());
+    }
+  }
+
+  @Test
+  public void testIndexChecksDoNotAllocate() {
+    final int[] values = new int[16];
+    long allocated =
+        allocatedBytes(
+            () -> {
+              for (int i = 0; i < ITERATIONS; i++) {
+                int index = i & 15;
+                ObjectUtils.requireIndex(index, values.length);
+                ObjectUtils.requireIndex(index, values.length, "Bad index.");
+                ObjectUtils.requireFromToIndex(0, index, values.length, "Bad range.");
+                ObjectUtils.requireFromIndexSize(index, 16 - index, values.length, UNUSED_MESSAGE);
+              }
+            });
+    assertTrue(allocated < ITERATIONS, "Index checks allocated " + allocated + " bytes.");
+  }
+
+  // ========================================================================
+  // DECIMAL DIGITS UTILITY METHODS TESTS
+  // ========================================================================
+  @Test
+  public void testHasPrecisionAndScaleAtMost() {
+    assertTrue(ObjectUtils.hasPrecisionAtMost(5, new BigDecimal("123.45")));
+    assertFalse(ObjectUtils.hasPrecisionAtMost(4, new BigDecimal("123.45")));
+    // Trailing zeros are not significant
+    assertTrue(ObjectUtils.hasPrecisionAtMost(2, new BigDecimal("1.5000")));
+    assertTrue(ObjectUtils.hasPrecisionAtMost(1, new BigDecimal("1E+10")));
+    assertFalse(ObjectUtils.hasPrecisionAtMost(1, new BigDecimal("1.5000")));
+    assertTrue(ObjectUtils.hasPrecisionAtMost(1, new BigDecimal("0.000")));
+    final BigDecimal wide = new BigDecimal("1234567890123456789012345.678");
+    assertTrue(ObjectUtils.hasPrecisionAtMost(28, wide));
+    assertFalse(ObjectUtils.hasPrecisionAtMost(27, wide));
+
+    assertTrue(ObjectUtils.hasScaleAtMost(2, new BigDecimal("19.99")));
+    assertTrue(ObjectUtils.hasScaleAtMost(2, new BigDecimal("19.9900000")));
+    assertTrue(ObjectUtils.hasScaleAtMost(2, new BigDecimal("20")));
+    assertTrue(ObjectUtils.hasScaleAtMost(0, new BigDecimal("2E+3")));
+    assertTrue(ObjectUtils.hasScaleAtMost(-3, new BigDecimal("2000")));
+    assertTrue(ObjectUtils.hasScaleAtMost(-3, new BigDecimal("0.00")));
+    assertFalse(ObjectUtils.hasScaleAtMost(-4, new BigDecimal("2000")));
+    assertFalse(ObjectUtils.hasScaleAtMost(2, new BigDecimal("19.995")));
+    assertFalse(ObjectUtils.hasScaleAtMost(2, new BigDecimal("-0.0010")));
+
+    assertThrows(NullPointerException.class, () -> ObjectUtils.hasPrecisionAtMost(1, null));
+    assertThrows(NullPointerException.class, () -> ObjectUtils.hasScaleAtMost(1, null));
+  }
+
+  @Test
+  public void testFitsNumeric() {
+    assertTrue(ObjectUtils.fitsNumeric(5, 2, new BigDecimal("999.99")));
+    assertTrue(ObjectUtils.fitsNumeric(5, 2, new BigDecimal("-999.99")));
+    assertTrue(ObjectUtils.fitsNumeric(5, 2, new BigDecimal("999.9900")));
+    assertTrue(ObjectUtils.fitsNumeric(5, 2, new BigDecimal("0.01")));
+    assertTrue(ObjectUtils.fitsNumeric(5, 2, new BigDecimal("0E+10")));
+    assertTrue(ObjectUtils.fitsNumeric(5, 2, new BigDecimal("9E+2")));
+    assertTrue(ObjectUtils.fitsNumeric(2, 2, new BigDecimal("0.99")));
+    assertTrue(ObjectUtils.fitsNumeric(3, 0, new BigDecimal("999")));
+    assertFalse(ObjectUtils.fitsNumeric(5, 2, new BigDecimal("1000.00")));
+    assertFalse(ObjectUtils.fitsNumeric(5, 2, new BigDecimal("1E+3")));
+    assertFalse(ObjectUtils.fitsNumeric(5, 2, new BigDecimal("0.001")));
+    // Would be rounded to 1000.00, which doesn't fit either
+    assertFalse(ObjectUtils.fitsNumeric(5, 2, new BigDecimal("999.995")));
+    assertFalse(ObjectUtils.fitsNumeric(2, 2, new BigDecimal("1")));
+    assertFalse(ObjectUtils.fitsNumeric(38, 10, new BigDecimal("1E+28")));
+    assertTrue(ObjectUtils.fitsNumeric(38, 10, new BigDecimal("9999999999999999999999999999")));
+
+    // Agrees with stripping and rounding the value
+    Random random = new Random(42);
+    for (int i = 0; i < 10_000; i++) {
+      BigDecimal value =
+          BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), random.nextInt(24) - 4);
+      int precision = 1 + random.nextInt(20);
+      int scale = random.nextInt(precision + 1);
+      BigDecimal stripped = value.stripTrailingZeros();
+      boolean expected =
+          value.signum() == 0
+              || (Math.max(stripped.scale(), 0) <= scale
+                  && stripped.precision() - stripped.scale() <= precision - scale);
+      assertEquals(expected, ObjectUtils.fitsNumeric(precision, scale, value), value + "");
+    }
+
+    assertThrows(
+        IllegalArgumentException.class, () -> ObjectUtils.fitsNumeric(0, 0, BigDecimal.ONE));
+    assertThrows(
+        IllegalArgumentException.class, () -> ObjectUtils.fitsNumeric(5, 6, BigDecimal.ONE));
+    assertThrows(
+        IllegalArgumentException.class, () -> ObjectUtils.fitsNumeric(5, -1, BigDecimal.ONE));
+    assertThrows(NullPointerException.class, () -> ObjectUtils.fitsNumeric(5, 2, null));
+  }
+
+  @Test
+  public void testRequireFitsNumeric() {
+    final BigDecimal price = new BigDecimal("1999.99");
+    assertSame(price, ObjectUtils.requireFitsNumeric(6, 2, price));
+    assertSame(price, ObjectUtils.requireFitsNumeric(6, 2, price, "Unused."));
+    assertSame(price, ObjectUtils.requireFitsNumeric(6, 2, price, UNUSED_MESSAGE));
+    assertSame(price, ObjectUtils.requireFitsNumeric(6, 2, price, "%s", UNUSED_ARGUMENT));
+
+    ValidationException ex =
+        assertThrows(ValidationException.class, () -> ObjectUtils.requireFitsNumeric(5, 2, price));
+    assertEquals(Check.FITS_NUMERIC, ex.getCheck());
+    assertSame(price, ex.getValue());
+    assertEquals(5, ex.getBound());
+    assertEquals(2, ex.getUpperBound());
+    assertEquals("value(1999.99) must fit in NUMERIC(5, 2) without rounding.", ex.getMessage());
+    assertEquals(
+        "price is too large.",
+        messageOf(() -> ObjectUtils.requireFitsNumeric(5, 2, price, "price is too large.")));
+    assertEquals(
+        "price is too large.",
+        messageOf(() -> ObjectUtils.requireFitsNumeric(5, 2, price, () -> "price is too large.")));
+    assertEquals(
+        "price(1999.99) is too large.",
+        messageOf(
+            () -> ObjectUtils.requireFitsNumeric(5, 2, price, "price(%s) is too large.", price)));
+  }
+
+  @Test
+  public void testFitsNumericDoesNotAllocate() {
+    final BigDecimal price = new BigDecimal("19.99");
+    final BigDecimal padded = new BigDecimal("-19.9900");
+    final BigDecimal wide = new BigDecimal("123456789012345678901234567890.12");
+    long allocated =
+        allocatedBytes(
+            () -> {
+              for (int i = 0; i < ITERATIONS; i++) {
+                ObjectUtils.requireFitsNumeric(10, 2, price);
+                ObjectUtils.requireFitsNumeric(10, 4, padded);
+                ObjectUtils.requireFitsNumeric(38, 2, wide);
+                ObjectUtils.fitsNumeric(10, 2, wide);
+                ObjectUtils.hasPrecisionAtMost(4, price);
+                ObjectUtils.hasScaleAtMost(2, price);
+              }
+            });
+    assertTrue(allocated < ITERATIONS, "NUMERIC checks allocated " + allocated + " bytes.");
+  }
+
   // ========================================================================
   // SERIALIZABLE UTILITY METHODS TESTS
   // ========================================================================
@@ -727,7 +1829,7 @@ public class ObjectUtilsTest {
     // Test the methods returns the expected value
     SerializableClass instance = new SerializableClass();
     assertEquals(instance, ObjectUtils.requireSerializable(instance));
-    assertEquals(instance, ObjectUtils.requireSerializable(instance, null));
+    assertEquals(instance, ObjectUtils.requireSerializable(instance, (String) null));
   }
 
   @Test
@@ -735,7 +1837,8 @@ public class ObjectUtilsTest {
     NonSerializableClass instance = new NonSerializableClass();
     assertThrows(IllegalArgumentException.class, () -> ObjectUtils.requireSerializable(instance));
     assertThrows(
-        IllegalArgumentException.class, () -> ObjectUtils.requireSerializable(instance, null));
+        IllegalArgumentException.class,
+        () -> ObjectUtils.requireSerializable(instance, (String) null));
   }
 
   @Test
@@ -748,6 +1851,158 @@ public class ObjectUtilsTest {
     assertEquals("instance must be serializable.", ex.getMessage());
   }
 
+  @Test
+  public void testIsDeeplySerializable() {
+    assertFalse(ObjectUtils.isDeeplySerializable(null));
+    assertFalse(ObjectUtils.isDeeplySerializable(new NonSerializableClass()));
+    assertTrue(ObjectUtils.isDeeplySerializable(new SerializableClass()));
+    assertTrue(ObjectUtils.isDeeplySerializable("serializable"));
+    assertTrue(ObjectUtils.isDeeplySerializable(new int[] {1, 2, 3}));
+    assertTrue(ObjectUtils.isDeeplySerializable(new Leaf("name", 1, Check.SERIALIZABLE)));
+
+    // Fields
+    assertTrue(ObjectUtils.isDeeplySerializable(new Holder("value")));
+    assertTrue(ObjectUtils.isDeeplySerializable(new Holder(null)));
+    assertFalse(ObjectUtils.isDeeplySerializable(new Holder(new NonSerializableClass())));
+    assertFalse(ObjectUtils.isDeeplySerializable(new Holder(new Holder(new Holder(new Object())))));
+    assertTrue(ObjectUtils.isDeeplySerializable(new TransientHolder(new NonSerializableClass())));
+    Holder cycle = new Holder(null);
+    cycle.value = new Holder(cycle);
+    assertTrue(ObjectUtils.isDeeplySerializable(cycle));
+
+    // Arrays, collections and maps
+    assertTrue(ObjectUtils.isDeeplySerializable(new Object[] {"a", 1, new Holder("b")}));
+    assertFalse(ObjectUtils.isDeeplySerializable(new Object[] {"a", new Object()}));
+    assertFalse(ObjectUtils.isDeeplySerializable(new Holder(new Object[][] {{new Object()}})));
+    assertTrue(ObjectUtils.isDeeplySerializable(new ArrayList<>(Arrays.asList("a", "b"))));
+    assertFalse(
+        ObjectUtils.isDeeplySerializable(new ArrayList<>(Arrays.asList("a", new Object()))));
+    assertFalse(ObjectUtils.isDeeplySerializable(new Holder(List.of(new Holder(new Object())))));
+    Map<String, Object> map = new HashMap<>();
+    map.put("a", new Holder("a"));
+    assertTrue(ObjectUtils.isDeeplySerializable(map));
+    map.put("b", new NonSerializableClass());
+    assertFalse(ObjectUtils.isDeeplySerializable(map));
+
+    // Serialization rules
+    assertTrue(ObjectUtils.isDeeplySerializable(new ReplacedHolder(new Object())));
+    assertTrue(ObjectUtils.isDeeplySerializable(new ExternalizableClass()));
+    assertFalse(ObjectUtils.isDeeplySerializable(ExternalizableClass.withoutPublicConstructor()));
+    assertFalse(ObjectUtils.isDeeplySerializable(new SerializableSubclass()));
+  }
+
+  @Test
+  public void testRequireDeeplySerializable() {
+    Holder holder = new Holder("value");
+    assertEquals(holder, ObjectUtils.requireDeeplySerializable(holder));
+    assertEquals(holder, ObjectUtils.requireDeeplySerializable(holder, (String) null));
+    assertEquals(holder, ObjectUtils.requireDeeplySerializable(holder, UNUSED_MESSAGE));
+    assertEquals(holder, ObjectUtils.requireDeeplySerializable(holder, "%s", UNUSED_ARGUMENT));
+
+    Holder invalid = new Holder(new NonSerializableClass());
+    ValidationException ex =
+        assertThrows(
+            ValidationException.class, () -> ObjectUtils.requireDeeplySerializable(invalid));
+    assertEquals(Check.SERIALIZABLE, ex.getCheck());
+    assertEquals(invalid, ex.getValue());
+    assertEquals(
+        "holder must be serializable.",
+        messageOf(
+            () -> ObjectUtils.requireDeeplySerializable(invalid, "holder must be serializable.")));
+    assertEquals(
+        "holder", messageOf(() -> ObjectUtils.requireDeeplySerializable(invalid, () -> "holder")));
+    assertEquals(
+        "holder 1",
+        messageOf(() -> ObjectUtils.requireDeeplySerializable(invalid, "holder %d", 1)));
+  }
+
+  @Test
+  public void testSerializedSizeOf() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(new Holder("value"));
+    }
+    assertEquals(bytes.size(), ObjectUtils.serializedSizeOf(new Holder("value")));
+    assertThrows(ValidationException.class, () -> ObjectUtils.serializedSizeOf(null));
+    ValidationException ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ObjectUtils.serializedSizeOf(new Holder(new NonSerializableClass())));
+    assertEquals(Check.SERIALIZABLE, ex.getCheck());
+  }
+
+  @Test
+  public void testRequireSerializedSizeAtMost() {
+    Holder holder = new Holder("value");
+    long size = ObjectUtils.serializedSizeOf(holder);
+    assertTrue(ObjectUtils.isSerializedSizeAtMost(size, holder));
+    assertFalse(ObjectUtils.isSerializedSizeAtMost(size - 1, holder));
+    assertFalse(ObjectUtils.isSerializedSizeAtMost(size, null));
+    assertFalse(ObjectUtils.isSerializedSizeAtMost(1024, new Holder(new Object())));
+    assertEquals(holder, ObjectUtils.requireSerializedSizeAtMost(size, holder));
+    assertEquals(holder, ObjectUtils.requireSerializedSizeAtMost(size, holder, UNUSED_MESSAGE));
+    assertEquals(
+        holder, ObjectUtils.requireSerializedSizeAtMost(size, holder, "%s", UNUSED_ARGUMENT));
+
+    ValidationException ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ObjectUtils.requireSerializedSizeAtMost(size - 1, holder));
+    assertEquals(Check.SERIALIZED_SIZE_AT_MOST, ex.getCheck());
+    assertEquals(size - 1, ex.getBound());
+    assertEquals(
+        "value's serialized size must be at most " + (size - 1) + " bytes.", ex.getMessage());
+    assertEquals(
+        "too large",
+        messageOf(() -> ObjectUtils.requireSerializedSizeAtMost(3, holder, () -> "too large")));
+    assertEquals(
+        "too large: 3",
+        messageOf(() -> ObjectUtils.requireSerializedSizeAtMost(3, holder, "too large: %d", 3)));
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ObjectUtils.requireSerializedSizeAtMost(1024, new NonSerializableClass()));
+    assertEquals(Check.SERIALIZABLE, ex.getCheck());
+    assertThrows(
+        IllegalArgumentException.class, () -> ObjectUtils.requireSerializedSizeAtMost(-1, holder));
+
+    // The serialization of a large value is aborted soon after the limit is exceeded
+    long[] large = new long[1 << 20];
+    ex =
+        assertThrows(
+            ValidationException.class, () -> ObjectUtils.requireSerializedSizeAtMost(4096, large));
+    assertTrue((Long) ex.getValue() > 4096 && (Long) ex.getValue() < 8192);
+
+    // A failed validation serializes the value only once
+    CountingHolder counting = new CountingHolder("value");
+    long limit = ObjectUtils.serializedSizeOf(counting) - 1;
+    assertEquals(
+        "too large",
+        messageOf(
+            () -> ObjectUtils.requireSerializedSizeAtMost(limit, counting, () -> "too large")));
+    assertEquals(2, counting.writes);
+    assertEquals(
+        "too large",
+        messageOf(
+            () -> ObjectUtils.requireSerializedSizeAtMost(limit, counting, "%s", "too large")));
+    assertEquals(3, counting.writes);
+  }
+
+  @Test
+  public void testIsDeeplySerializableDoesNotAllocate() {
+    final Leaf leaf = new Leaf("name", 1, Check.SERIALIZABLE);
+    final NonSerializableClass nonSerializable = new NonSerializableClass();
+    long allocated =
+        allocatedBytes(
+            () -> {
+              for (int i = 0; i < ITERATIONS; i++) {
+                ObjectUtils.isDeeplySerializable(leaf);
+                ObjectUtils.isDeeplySerializable(nonSerializable);
+              }
+            });
+    assertTrue(allocated < ITERATIONS, "isDeeplySerializable allocated " + allocated + " bytes.");
+  }
+
   // ========================================================================
   // STRINGS UTILITY METHODS TESTS
   // ========================================================================
@@ -784,6 +2039,20 @@ public class ObjectUtilsTest {
     assertThrows(NullPointerException.class, () -> ObjectUtils.hasCharsInRange(0, 1, null));
   }
 
+  @Test
+  public void testHasCharsInRangeDoesNotAllocate() {
+    long allocated =
+        allocatedBytes(
+            () -> {
+              for (int i = 0; i < ITERATIONS; i++) {
+                ObjectUtils.hasCharsInRange(2, 20, "Hello World!");
+                ObjectUtils.requireCharsInRange(2, 20, "Hello World!");
+                ObjectUtils.requireNonEmptyString("Hello World!", "greeting");
+              }
+            });
+    assertTrue(allocated < ITERATIONS, "hasCharsInRange allocated " + allocated + " bytes.");
+  }
+
   @Test
   public void testHasLessThanChars() {
     assertTrue(ObjectUtils.hasLessThanChars(3, "Hi")); // 2 chars
@@ -834,7 +2103,7 @@ public class ObjectUtilsTest {
   public void testRequireCharsInRangeReturnValues() {
     // Test the methods returns the expected value
     assertEquals("name", ObjectUtils.requireCharsInRange(0, 20, "name"));
-    assertEquals("name", ObjectUtils.requireCharsInRange(0, 20, "name", null));
+    assertEquals("name", ObjectUtils.requireCharsInRange(0, 20, "name", (String) null));
   }
 
   @SuppressWarnings(value = {"index:argument", "nullness:argument"})
@@ -843,13 +2112,15 @@ public class ObjectUtilsTest {
     // Test the methods throw a NullPointerException when a null string is passed
     assertThrows(NullPointerException.class, () -> ObjectUtils.requireCharsInRange(0, 20, null));
     assertThrows(
-        NullPointerException.class, () -> ObjectUtils.requireCharsInRange(0, 20, null, null));
+        NullPointerException.class,
+        () -> ObjectUtils.requireCharsInRange(0, 20, null, (String) null));
 
     // Test the methods throw a IllegalArgumentException when a null string is
     // passed
     assertThrows(IllegalArgumentException.class, () -> ObjectUtils.requireCharsInRange(0, 1, "Hi"));
     assertThrows(
-        IllegalArgumentException.class, () -> ObjectUtils.requireCharsInRange(0, 1, "Hi", null));
+        IllegalArgumentException.class,
+        () -> ObjectUtils.requireCharsInRange(0, 1, "Hi", (String) null));
     assertThrows(
         IllegalArgumentException.class,
         () -> ObjectUtils.requireCharsInRange(3, 7, "Hi", "greeting must have 3 to 6 characters."));
@@ -878,7 +2149,7 @@ public class ObjectUtilsTest {
   public void testRequireLessThanCharsReturnValues() {
     // Test the methods returns the expected value
     assertEquals("name", ObjectUtils.requireLessThanChars(20, "name"));
-    assertEquals("name", ObjectUtils.requireLessThanChars(20, "name", null));
+    assertEquals("name", ObjectUtils.requireLessThanChars(20, "name", (String) null));
   }
 
   @SuppressWarnings(value = "nullness:argument")
@@ -887,13 +2158,15 @@ public class ObjectUtilsTest {
     // Test the methods throw a NullPointerException when a null string is passed
     assertThrows(NullPointerException.class, () -> ObjectUtils.requireLessThanChars(20, null));
     assertThrows(
-        NullPointerException.class, () -> ObjectUtils.requireLessThanChars(20, null, null));
+        NullPointerException.class,
+        () -> ObjectUtils.requireLessThanChars(20, null, (String) null));
 
     // Test the methods throw a IllegalArgumentException when a null string is
     // passed
     assertThrows(IllegalArgumentException.class, () -> ObjectUtils.requireLessThanChars(1, "Hi"));
     assertThrows(
-        IllegalArgumentException.class, () -> ObjectUtils.requireLessThanChars(2, "Hi", null));
+        IllegalArgumentException.class,
+        () -> ObjectUtils.requireLessThanChars(2, "Hi", (String) null));
     assertThrows(
         IllegalArgumentException.class,
         () ->
@@ -923,7 +2196,7 @@ public class ObjectUtilsTest {
   public void testRequireMoreThanCharsReturnValues() {
     // Test the methods returns the expected value
     assertEquals("Hi", ObjectUtils.requireMoreThanChars(1, "Hi"));
-    assertEquals("name", ObjectUtils.requireMoreThanChars(3, "name", null));
+    assertEquals("name", ObjectUtils.requireMoreThanChars(3, "name", (String) null));
   }
 
   @SuppressWarnings(value = {"index:argument", "nullness:argument"})
@@ -932,14 +2205,16 @@ public class ObjectUtilsTest {
     // Test the methods throw a NullPointerException when a null string is passed
     assertThrows(NullPointerException.class, () -> ObjectUtils.requireMoreThanChars(20, null));
     assertThrows(
-        NullPointerException.class, () -> ObjectUtils.requireMoreThanChars(20, null, null));
+        NullPointerException.class,
+        () -> ObjectUtils.requireMoreThanChars(20, null, (String) null));
 
     // Test the methods throw a IllegalArgumentException when a null string is
     // passed
     assertThrows(IllegalArgumentException.class, () -> ObjectUtils.requireMoreThanChars(4, "Hi"));
     assertThrows(IllegalArgumentException.class, () -> ObjectUtils.requireMoreThanChars(4, "name"));
     assertThrows(
-        IllegalArgumentException.class, () -> ObjectUtils.requireMoreThanChars(4, "name", null));
+        IllegalArgumentException.class,
+        () -> ObjectUtils.requireMoreThanChars(4, "name", (String) null));
     assertThrows(
         IllegalArgumentException.class,
         () ->
@@ -1037,7 +2312,906 @@ public class ObjectUtilsTest {
     assertEquals("firstName cannot be empty.", ex8.getMessage());
   }
 
-  static class NonSerializableClass {}
+  @Test
+  public void testCharSequenceChecks() {
+    StringBuilder builder = new StringBuilder("Hello World!");
+    CharBuffer buffer = CharBuffer.wrap("xxHello World!xx", 2, 14);
+    assertTrue(ObjectUtils.hasCharsInRange(2, 20, builder));
+    assertTrue(ObjectUtils.hasCharsInRange(12, 13, buffer));
+    assertFalse(ObjectUtils.hasCharsInRange(13, 20, buffer));
+    assertTrue(ObjectUtils.hasLessThanChars(13, builder));
+    assertFalse(ObjectUtils.hasLessThanChars(12, buffer));
+    assertTrue(ObjectUtils.hasMoreThanChars(11, buffer));
+    assertFalse(ObjectUtils.hasMoreThanChars(12, builder));
+
+    // Test the methods return the same instance that was passed in
+    assertSame(builder, ObjectUtils.requireCharsInRange(2, 20, builder));
+    assertSame(buffer, ObjectUtils.requireCharsInRange(2, 20, buffer, "Unused."));
+    assertSame(builder, ObjectUtils.requireLessThanChars(13, builder, UNUSED_MESSAGE));
+    assertSame(buffer, ObjectUtils.requireMoreThanChars(11, buffer, "%s", UNUSED_ARGUMENT));
+    assertSame(builder, ObjectUtils.requireNonEmptyString(builder));
+    assertSame(buffer, ObjectUtils.requireNonEmptyString(buffer, "buffer"));
+
+    ValidationException ex =
+        assertThrows(
+            ValidationException.class, () -> ObjectUtils.requireCharsInRange(13, 20, buffer));
+    assertEquals(Check.CHARS_IN_RANGE, ex.getCheck());
+    assertEquals(12L, ex.getValue());
+    assertEquals(
+        "The length of value(12) must be greater than or equal to 13 and less than 20.",
+        ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ObjectUtils.requireLessThanChars(12, builder, "%s is too long.", "greeting"));
+    assertEquals(Check.LESS_THAN_CHARS, ex.getCheck());
+    assertEquals("greeting is too long.", ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ObjectUtils.requireMoreThanChars(13, builder, () -> "Too short."));
+    assertEquals(Check.MORE_THAN_CHARS, ex.getCheck());
+    assertEquals("Too short.", ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ObjectUtils.requireNonEmptyString(new StringBuilder(), "builder"));
+    assertEquals(Check.NON_EMPTY, ex.getCheck());
+    assertEquals("builder cannot be empty.", ex.getMessage());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ObjectUtils.requireNonEmptyString(CharBuffer.wrap("ab", 1, 1), null, null));
+    NullPointerException npe =
+        assertThrows(
+            NullPointerException.class,
+            () -> ObjectUtils.requireNonEmptyString((StringBuilder) null, "builder"));
+    assertEquals("builder cannot be null.", npe.getMessage());
+    assertThrows(
+        NullPointerException.class, () -> ObjectUtils.hasLessThanChars(1, (CharSequence) null));
+    assertThrows(IllegalArgumentException.class, () -> ObjectUtils.hasCharsInRange(5, 5, builder));
+  }
+
+  @Test
+  public void testCharSequenceChecksDoNotAllocate() {
+    final StringBuilder builder = new StringBuilder("Hello World!");
+    final CharBuffer buffer = CharBuffer.wrap("xxHello World!xx", 2, 14);
+    long allocated =
+        allocatedBytes(
+            () -> {
+              for (int i = 0; i < ITERATIONS; i++) {
+                ObjectUtils.requireCharsInRange(2, 20, builder);
+                ObjectUtils.requireLessThanChars(20, buffer);
+                ObjectUtils.requireNonEmptyString(builder, "greeting");
+              }
+            });
+    assertTrue(allocated < ITERATIONS, "CharSequence checks allocated " + allocated + " bytes.");
+  }
+
+  // ========================================================================
+  // CODE POINT UTILITY METHODS TESTS
+  // ========================================================================
+  @Test
+  public void testHasCodePoints() {
+    String emoji = "\ud83d\ude00\ud83d\ude01\ud83d\ude02"; // 3 code points, 6 chars
+    assertTrue(ObjectUtils.hasCodePointsInRange(3, 4, emoji));
+    assertFalse(ObjectUtils.hasCharsInRange(3, 4, emoji));
+    assertFalse(ObjectUtils.hasCodePointsInRange(4, 7, emoji));
+    assertTrue(ObjectUtils.hasLessThanCodePoints(4, emoji));
+    assertFalse(ObjectUtils.hasLessThanCodePoints(3, emoji));
+    assertTrue(ObjectUtils.hasMoreThanCodePoints(2, emoji));
+    assertFalse(ObjectUtils.hasMoreThanCodePoints(3, emoji));
+    assertFalse(ObjectUtils.hasMoreThanCodePoints(Integer.MAX_VALUE, emoji));
+    assertTrue(ObjectUtils.hasLessThanCodePoints(1, ""));
+    assertFalse(ObjectUtils.hasLessThanCodePoints(0, ""));
+    assertFalse(ObjectUtils.hasMoreThanCodePoints(0, ""));
+
+    // The bounds are strict, as in the char checks
+    assertFalse(ObjectUtils.hasMoreThanChars(4, "name"));
+    assertFalse(ObjectUtils.hasMoreThanCodePoints(4, "name"));
+    assertTrue(ObjectUtils.hasMoreThanCodePoints(3, "name"));
+
+    // Unpaired surrogates count as one code point each
+    assertTrue(ObjectUtils.hasCodePointsInRange(3, 4, "\ude00a\ud83d"));
+
+    // Compare with String.codePointCount on random strings
+    Random random = new Random(42);
+    for (int round = 0; round < 1000; round++) {
+      StringBuilder builder = new StringBuilder();
+      for (int i = random.nextInt(12); i > 0; i--) {
+        int kind = random.nextInt(4);
+        if (kind == 0) {
+          builder.appendCodePoint(0x10000 + random.nextInt(0x100000));
+        } else if (kind == 1) {
+          builder.append((char) (0xd800 + random.nextInt(0x800)));
+        } else {
+          builder.append((char) random.nextInt(0x100));
+        }
+      }
+      String value = builder.toString();
+      int codePoints = value.codePointCount(0, value.length());
+      for (int bound = 0; bound <= 13; bound++) {
+        assertEquals(codePoints < bound, ObjectUtils.hasLessThanCodePoints(bound, value), value);
+        assertEquals(codePoints > bound, ObjectUtils.hasMoreThanCodePoints(bound, value), value);
+        assertEquals(
+            codePoints >= bound && codePoints < bound + 2,
+            ObjectUtils.hasCodePointsInRange(bound, bound + 2, value),
+            value);
+      }
+    }
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testRequireCodePoints() {
+    String value = "a\ud83d\ude00b"; // 3 code points, 4 chars
+    assertEquals(value, ObjectUtils.requireCodePointsInRange(3, 4, value));
+    assertEquals(value, ObjectUtils.requireLessThanCodePoints(4, value, UNUSED_MESSAGE));
+    assertEquals(value, ObjectUtils.requireMoreThanCodePoints(2, value, "%s", UNUSED_ARGUMENT));
+
+    ValidationException ex =
+        assertThrows(
+            ValidationException.class, () -> ObjectUtils.requireCodePointsInRange(4, 6, value));
+    assertEquals(Check.CODE_POINTS_IN_RANGE, ex.getCheck());
+    assertEquals(3L, ex.getValue());
+    assertEquals(
+        "The length of value(3 code points) must be greater than or equal to 4 and less than 6.",
+        ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class, () -> ObjectUtils.requireLessThanCodePoints(3, value));
+    assertEquals("value's length (3 code points) must be less than 3.", ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class, () -> ObjectUtils.requireMoreThanCodePoints(3, value));
+    assertEquals("value's length (3 code points) must be greater than 3.", ex.getMessage());
+    assertEquals(
+        "short", messageOf(() -> ObjectUtils.requireMoreThanCodePoints(3, value, () -> "short")));
+    assertEquals(
+        "long 2", messageOf(() -> ObjectUtils.requireLessThanCodePoints(2, value, "long %d", 2)));
+
+    IllegalArgumentException rangeEx =
+        assertThrows(
+            IllegalArgumentException.class, () -> ObjectUtils.hasCodePointsInRange(3, 2, value));
+    assertEquals(
+        "maxCodePoints(2) cannot be less than or equal to minCodePoints(3).", rangeEx.getMessage());
+    assertThrows(
+        IllegalArgumentException.class, () -> ObjectUtils.hasLessThanCodePoints(-1, value));
+    assertThrows(NullPointerException.class, () -> ObjectUtils.hasMoreThanCodePoints(1, null));
+  }
+
+  // ========================================================================
+  // UTF-8 UTILITY METHODS TESTS
+  // ========================================================================
+  @Test
+  public void testHasUtf8BytesAtMost() {
+    String[] values = {
+      "", "ascii", "caf\u00e9", "\u20ac100", "\ud83d\ude00 emoji", "\ud83d", "a\ude00b"
+    };
+    for (String value : values) {
+      int bytes = value.getBytes(StandardCharsets.UTF_8).length;
+      assertTrue(ObjectUtils.hasUtf8BytesAtMost(bytes, value), value);
+      assertEquals(
+          bytes > 0, !ObjectUtils.hasUtf8BytesAtMost(Math.max(bytes - 1, 0), value), value);
+      assertTrue(ObjectUtils.hasUtf8BytesInRange(bytes, bytes + 1, value), value);
+      assertFalse(ObjectUtils.hasUtf8BytesInRange(bytes + 1, bytes + 2, value), value);
+    }
+
+    // Compare the computed lengths with the encoded lengths of random strings
+    Random random = new Random(42);
+    for (int round = 0; round < 1000; round++) {
+      char[] chars = new char[random.nextInt(20)];
+      for (int i = 0; i < chars.length; i++) {
+        int kind = random.nextInt(4);
+        chars[i] = (char) (kind == 0 ? random.nextInt(0x80) : random.nextInt(0x10000));
+      }
+      String value = new String(chars);
+      int bytes = value.getBytes(StandardCharsets.UTF_8).length;
+      assertTrue(ObjectUtils.hasUtf8BytesAtMost(bytes, value));
+      assertEquals(bytes == 0, ObjectUtils.hasUtf8BytesAtMost(Math.max(bytes - 1, 0), value));
+      assertEquals(bytes, Utf8.encodedLength(value, Long.MAX_VALUE));
+    }
+
+    byte[] encoded = "caf\u00e9".getBytes(StandardCharsets.UTF_8);
+    assertTrue(ObjectUtils.hasUtf8BytesAtMost(5, encoded));
+    assertFalse(ObjectUtils.hasUtf8BytesAtMost(4, encoded));
+    ByteBuffer buffer = ByteBuffer.wrap(encoded);
+    buffer.get();
+    assertTrue(ObjectUtils.hasUtf8BytesAtMost(4, buffer));
+    assertTrue(ObjectUtils.hasUtf8BytesInRange(4, 5, buffer));
+    assertEquals(1, buffer.position());
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testRequireUtf8Bytes() {
+    String value = "\u20ac100"; // 6 bytes
+    assertEquals(value, ObjectUtils.requireUtf8BytesAtMost(6, value));
+    assertEquals(value, ObjectUtils.requireUtf8BytesAtMost(6, value, UNUSED_MESSAGE));
+    assertEquals(value, ObjectUtils.requireUtf8BytesInRange(6, 7, value, "%s", UNUSED_ARGUMENT));
+
+    ValidationException ex =
+        assertThrows(ValidationException.class, () -> ObjectUtils.requireUtf8BytesAtMost(5, value));
+    assertEquals(Check.UTF8_BYTES_AT_MOST, ex.getCheck());
+    assertEquals(5L, ex.getBound());
+    assertEquals("value's UTF-8 length must be at most 5 bytes.", ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class, () -> ObjectUtils.requireUtf8BytesInRange(7, 10, value));
+    assertEquals(Check.UTF8_BYTES_IN_RANGE, ex.getCheck());
+    assertEquals(6L, ex.getValue());
+    assertEquals(
+        "value's UTF-8 length must be greater than or equal to 7 and less than 10 bytes.",
+        ex.getMessage());
+    assertEquals(
+        "header", messageOf(() -> ObjectUtils.requireUtf8BytesAtMost(1, value, () -> "header")));
+    assertEquals(
+        "header 1",
+        messageOf(() -> ObjectUtils.requireUtf8BytesInRange(0, 1, value, "header %d", 1)));
+
+    byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+    assertEquals(encoded, ObjectUtils.requireUtf8BytesAtMost(6, encoded, "too long"));
+    assertEquals(
+        "too long", messageOf(() -> ObjectUtils.requireUtf8BytesAtMost(5, encoded, "too long")));
+    ByteBuffer buffer = ByteBuffer.wrap(encoded);
+    assertEquals(buffer, ObjectUtils.requireUtf8BytesInRange(1, 7, buffer));
+    ex =
+        assertThrows(
+            ValidationException.class, () -> ObjectUtils.requireUtf8BytesInRange(1, 6, buffer));
+    assertEquals(6L, ex.getValue());
+
+    IllegalArgumentException rangeEx =
+        assertThrows(
+            IllegalArgumentException.class, () -> ObjectUtils.hasUtf8BytesInRange(5, 5, value));
+    assertEquals("maxBytes(5) cannot be less than or equal to minBytes(5).", rangeEx.getMessage());
+    assertThrows(IllegalArgumentException.class, () -> ObjectUtils.hasUtf8BytesAtMost(-1, value));
+    assertThrows(
+        NullPointerException.class, () -> ObjectUtils.hasUtf8BytesAtMost(1, (String) null));
+  }
+
+  @Test
+  public void testHasUtf8BytesDoesNotAllocate() {
+    final String value = "\u20ac100 and some ASCII";
+    long allocated =
+        allocatedBytes(
+            () -> {
+              for (int i = 0; i < ITERATIONS; i++) {
+                ObjectUtils.hasUtf8BytesAtMost(i & 31, value);
+                ObjectUtils.hasUtf8BytesInRange(1, 30, value);
+              }
+            });
+    assertTrue(allocated < ITERATIONS, "hasUtf8Bytes allocated " + allocated + " bytes.");
+  }
+
+  // ========================================================================
+  // PARSE UTILITY METHODS TESTS
+  // ========================================================================
+  @Test
+  public void testParseIntInRange() {
+    String record = "id=042;age=-17;qty=+9";
+    assertEquals(42, ObjectUtils.parseIntInRange(record, 3, 6, 0, 100));
+    assertEquals(-17, ObjectUtils.parseIntInRange(record, 11, 14, -17, 0));
+    assertEquals(9, ObjectUtils.parseIntInRange(record, 19, 21, 9, 10, UNUSED_MESSAGE));
+    assertEquals(
+        Integer.MIN_VALUE,
+        ObjectUtils.parseIntInRange("-2147483648", 0, 11, Integer.MIN_VALUE, 0, "%s", 1));
+    assertEquals(0, ObjectUtils.parseIntInRange(new StringBuilder("-0"), 0, 2, 0, 1));
+
+    ValidationException ex =
+        assertThrows(
+            ValidationException.class, () -> ObjectUtils.parseIntInRange(record, 11, 14, 0, 120));
+    assertEquals(Check.IN_RANGE, ex.getCheck());
+    assertEquals(-17L, ex.getValue());
+    assertEquals(
+        "value(-17) should be more than or equal to 0 and less than 120.", ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ObjectUtils.parseIntInRange("99999999999999999999", 0, 20, 0, 100, "Too big."));
+    assertEquals(new BigInteger("99999999999999999999"), ex.getValue());
+    assertEquals("Too big.", ex.getMessage());
+    assertEquals(
+        "value(100) should be more than or equal to 0 and less than 100.",
+        messageOf(() -> ObjectUtils.parseIntInRange("100", 0, 3, 0, 100)));
+    assertEquals(
+        "Bad age.",
+        messageOf(() -> ObjectUtils.parseIntInRange("7", 0, 1, 18, 36, () -> "Bad age.")));
+
+    // Malformed numbers are rejected even when they are out of range
+    assertThrows(
+        NumberFormatException.class, () -> ObjectUtils.parseIntInRange(record, 0, 6, 0, 9));
+    assertThrows(
+        NumberFormatException.class, () -> ObjectUtils.parseIntInRange("9999x", 0, 5, 0, 9));
+    assertThrows(NumberFormatException.class, () -> ObjectUtils.parseIntInRange("-", 0, 1, -5, 5));
+    assertThrows(
+        NumberFormatException.class, () -> ObjectUtils.parseIntInRange(record, 3, 3, 0, 9));
+    assertThrows(
+        IllegalArgumentException.class, () -> ObjectUtils.parseIntInRange("5", 0, 1, 9, 0));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> ObjectUtils.parseIntInRange("5", 0, 2, 0, 9));
+  }
+
+  @Test
+  public void testParseLongInRangeAgreesWithParseLong() {
+    Random random = new Random(42);
+    long[] bounds = {Long.MIN_VALUE, -1_000_000L, -1L, 0L, 1L, 1_000_000L, Long.MAX_VALUE};
+    for (int i = 0; i < 10_000; i++) {
+      long number =
+          random.nextInt(4) == 0 ? random.nextLong() : random.nextInt(3_000_000) - 1_500_000;
+      String text = "<" + number + ">";
+      long minValue = bounds[random.nextInt(bounds.length)];
+      long maxValue = Math.max(minValue, bounds[random.nextInt(bounds.length)]);
+      boolean expected = ObjectUtils.inRange(minValue, maxValue, number);
+      try {
+        assertEquals(
+            number, ObjectUtils.parseLongInRange(text, 1, text.length() - 1, minValue, maxValue));
+        assertTrue(expected);
+      } catch (ValidationException ex) {
+        assertFalse(expected);
+        assertEquals(number, ex.getValue());
+      }
+    }
+    assertEquals(
+        Long.MAX_VALUE - 1,
+        ObjectUtils.parseLongInRange("9223372036854775806", 0, 19, 0L, Long.MAX_VALUE, "%s", 1));
+    assertEquals(
+        Long.MIN_VALUE,
+        ObjectUtils.parseLongInRange("-9223372036854775808", 0, 20, Long.MIN_VALUE, 0L));
+    assertThrows(
+        ValidationException.class,
+        () -> ObjectUtils.parseLongInRange("9223372036854775807", 0, 19, 0L, Long.MAX_VALUE));
+  }
+
+  @SuppressWarnings(value = "nullness:argument")
+  @Test
+  public void testParseDecimalInRange() {
+    BigDecimal zero = BigDecimal.ZERO;
+    BigDecimal hundred = new BigDecimal("100");
+    String line = "price=12.50 EUR";
+    assertEquals(
+        new BigDecimal("12.50"), ObjectUtils.parseDecimalInRange(line, 6, 11, zero, hundred));
+    assertEquals(
+        new BigDecimal("-0.5"),
+        ObjectUtils.parseDecimalInRange("-.5", 0, 3, new BigDecimal("-1"), zero, UNUSED_MESSAGE));
+    assertEquals(
+        new BigDecimal("1.5E1"),
+        ObjectUtils.parseDecimalInRange("1.5E1", 0, 5, zero, hundred, "%s", UNUSED_ARGUMENT));
+    assertEquals(
+        new BigDecimal("0.1234567890123456789"),
+        ObjectUtils.parseDecimalInRange("0.1234567890123456789", 0, 21, zero, hundred, "Unused."));
+
+    ValidationException ex =
+        assertThrows(
+            ValidationException.class,
+            () -> ObjectUtils.parseDecimalInRange(line, 6, 11, zero, BigDecimal.TEN));
+    assertEquals(Check.IN_RANGE, ex.getCheck());
+    assertEquals(new BigDecimal("12.50"), ex.getValue());
+    assertThrows(
+        NumberFormatException.class,
+        () -> ObjectUtils.parseDecimalInRange(".", 0, 1, zero, hundred));
+    assertThrows(
+        NumberFormatException.class,
+        () -> ObjectUtils.parseDecimalInRange(line, 6, 15, zero, hundred));
+    assertThrows(
+        NullPointerException.class,
+        () -> ObjectUtils.parseDecimalInRange(line, 6, 11, null, hundred));
+  }
+
+  @Test
+  public void testParseInRangeDoesNotAllocate() {
+    final StringBuilder record = new StringBuilder("id=042;age=-17;qty=+9");
+    long allocated =
+        allocatedBytes(
+            () -> {
+              for (int i = 0; i < ITERATIONS; i++) {
+                ObjectUtils.parseIntInRange(record, 3, 6, 0, 100);
+                ObjectUtils.parseLongInRange(record, 11, 14, -100L, 100L);
+              }
+            });
+    assertTrue(allocated < ITERATIONS, "parseInRange allocated " + allocated + " bytes.");
+  }
+
+  // ========================================================================
+  // LAZY MESSAGES TESTS
+  // ========================================================================
+  @Test
+  public void testRequireEqualToLazyMessages() {
+    BigDecimal five = new BigDecimal("5");
+    BigDecimal six = new BigDecimal("6");
+
+    assertEquals(5, ObjectUtils.requireEqualTo(5, 5, UNUSED_MESSAGE));
+    assertEquals(5, ObjectUtils.requireEqualTo(5, 5, "%s", UNUSED_ARGUMENT));
+    assertEquals("int", messageOf(() -> ObjectUtils.requireEqualTo(5, 6, () -> "int")));
+    assertEquals("int 6", messageOf(() -> ObjectUtils.requireEqualTo(5, 6, "int %s", 6)));
+
+    assertEquals(5L, ObjectUtils.requireEqualTo(5L, 5L, UNUSED_MESSAGE));
+    assertEquals(5L, ObjectUtils.requireEqualTo(5L, 5L, "%s", UNUSED_ARGUMENT));
+    assertEquals("long", messageOf(() -> ObjectUtils.requireEqualTo(5L, 6L, () -> "long")));
+    assertEquals("long 6", messageOf(() -> ObjectUtils.requireEqualTo(5L, 6L, "long %s", 6L)));
+
+    assertEquals(5.5F, ObjectUtils.requireEqualTo(5.5F, 5.5F, UNUSED_MESSAGE));
+    assertEquals(5.5F, ObjectUtils.requireEqualTo(5.5F, 5.5F, "%s", UNUSED_ARGUMENT));
+    assertEquals("float", messageOf(() -> ObjectUtils.requireEqualTo(5.5F, 6.5F, () -> "float")));
+    assertEquals(
+        "float 6.5", messageOf(() -> ObjectUtils.requireEqualTo(5.5F, 6.5F, "float %s", 6.5F)));
+
+    assertEquals(5.5D, ObjectUtils.requireEqualTo(5.5D, 5.5D, UNUSED_MESSAGE));
+    assertEquals(5.5D, ObjectUtils.requireEqualTo(5.5D, 5.5D, "%s", UNUSED_ARGUMENT));
+    assertEquals("double", messageOf(() -> ObjectUtils.requireEqualTo(5.5D, 6.5D, () -> "double")));
+    assertEquals(
+        "double 6.5", messageOf(() -> ObjectUtils.requireEqualTo(5.5D, 6.5D, "double %s", 6.5D)));
+
+    assertEquals(five, ObjectUtils.requireEqualTo(five, five, UNUSED_MESSAGE));
+    assertEquals(five, ObjectUtils.requireEqualTo(five, five, "%s", UNUSED_ARGUMENT));
+    assertEquals(
+        "BigDecimal", messageOf(() -> ObjectUtils.requireEqualTo(five, six, () -> "BigDecimal")));
+    assertEquals(
+        "BigDecimal 6",
+        messageOf(() -> ObjectUtils.requireEqualTo(five, six, "BigDecimal %s", six)));
+  }
+
+  @Test
+  public void testRequireGreaterThanLazyMessages() {
+    BigDecimal five = new BigDecimal("5");
+    BigDecimal six = new BigDecimal("6");
+
+    assertEquals(6, ObjectUtils.requireGreaterThan(5, 6, UNUSED_MESSAGE));
+    assertEquals(6, ObjectUtils.requireGreaterThan(5, 6, "%s", UNUSED_ARGUMENT));
+    assertEquals("int", messageOf(() -> ObjectUtils.requireGreaterThan(5, 5, () -> "int")));
+    assertEquals("int 5", messageOf(() -> ObjectUtils.requireGreaterThan(5, 5, "int %s", 5)));
+
+    assertEquals(6L, ObjectUtils.requireGreaterThan(5L, 6L, UNUSED_MESSAGE));
+    assertEquals(6L, ObjectUtils.requireGreaterThan(5L, 6L, "%s", UNUSED_ARGUMENT));
+    assertEquals("long", messageOf(() -> ObjectUtils.requireGreaterThan(5L, 5L, () -> "long")));
+    assertEquals("long 5", messageOf(() -> ObjectUtils.requireGreaterThan(5L, 5L, "long %s", 5L)));
+
+    assertEquals(6.5F, ObjectUtils.requireGreaterThan(5.5F, 6.5F, UNUSED_MESSAGE));
+    assertEquals(6.5F, ObjectUtils.requireGreaterThan(5.5F, 6.5F, "%s", UNUSED_ARGUMENT));
+    assertEquals(
+        "float", messageOf(() -> ObjectUtils.requireGreaterThan(5.5F, 5.5F, () -> "float")));
+    assertEquals(
+        "float 5.5", messageOf(() -> ObjectUtils.requireGreaterThan(5.5F, 5.5F, "float %s", 5.5F)));
+
+    assertEquals(6.5D, ObjectUtils.requireGreaterThan(5.5D, 6.5D, UNUSED_MESSAGE));
+    assertEquals(6.5D, ObjectUtils.requireGreaterThan(5.5D, 6.5D, "%s", UNUSED_ARGUMENT));
+    assertEquals(
+        "double", messageOf(() -> ObjectUtils.requireGreaterThan(5.5D, 5.5D, () -> "double")));
+    assertEquals(
+        "double 5.5",
+        messageOf(() -> ObjectUtils.requireGreaterThan(5.5D, 5.5D, "double %s", 5.5D)));
+
+    assertEquals(six, ObjectUtils.requireGreaterThan(five, six, UNUSED_MESSAGE));
+    assertEquals(six, ObjectUtils.requireGreaterThan(five, six, "%s", UNUSED_ARGUMENT));
+    assertEquals(
+        "BigDecimal",
+        messageOf(() -> ObjectUtils.requireGreaterThan(five, five, () -> "BigDecimal")));
+    assertEquals(
+        "BigDecimal 5",
+        messageOf(() -> ObjectUtils.requireGreaterThan(five, five, "BigDecimal %s", five)));
+  }
+
+  @Test
+  public void testRequireGreaterThanOrEqualToLazyMessages() {
+    BigDecimal four = new BigDecimal("4");
+    BigDecimal five = new BigDecimal("5");
+
+    assertEquals(5, ObjectUtils.requireGreaterThanOrEqualTo(5, 5, UNUSED_MESSAGE));
+    assertEquals(5, ObjectUtils.requireGreaterThanOrEqualTo(5, 5, "%s", UNUSED_ARGUMENT));
+    assertEquals(
+        "int", messageOf(() -> ObjectUtils.requireGreaterThanOrEqualTo(5, 4, () -> "int")));
+    assertEquals(
+        "int 4", messageOf(() -> ObjectUtils.requireGreaterThanOrEqualTo(5, 4, "int %s", 4)));
+
+    assertEquals(5L, ObjectUtils.requireGreaterThanOrEqualTo(5L, 5L, UNUSED_MESSAGE));
+    assertEquals(5L, ObjectUtils.requireGreaterThanOrEqualTo(5L, 5L, "%s", UNUSED_ARGUMENT));
+    assertEquals(
+        "long", messageOf(() -> ObjectUtils.requireGreaterThanOrEqualTo(5L, 4L, () -> "long")));
+    assertEquals(
+        "long 4", messageOf(() -> ObjectUtils.requireGreaterThanOrEqualTo(5L, 4L, "long %s", 4L)));
+
+    assertEquals(5.5F, ObjectUtils.requireGreaterThanOrEqualTo(5.5F, 5.5F, UNUSED_MESSAGE));
+    assertEquals(5.5F, ObjectUtils.requireGreaterThanOrEqualTo(5.5F, 5.5F, "%s", UNUSED_ARGUMENT));
+    assertEquals(
+        "float",
+        messageOf(() -> ObjectUtils.requireGreaterThanOrEqualTo(5.5F, 4.5F, () -> "float")));
+    assertEquals(
+        "float 4.5",
+        messageOf(() -> ObjectUtils.requireGreaterThanOrEqualTo(5.5F, 4.5F, "float %s", 4.5F)));
+
+    assertEquals(5.5D, ObjectUtils.requireGreaterThanOrEqualTo(5.5D, 5.5D, UNUSED_MESSAGE));
+    assertEquals(5.5D, ObjectUtils.requireGreaterThanOrEqualTo(5.5D, 5.5D, "%s", UNUSED_ARGUMENT));
+    assertEquals(
+        "double",
+        messageOf(() -> ObjectUtils.requireGreaterThanOrEqualTo(5.5D, 4.5D, () -> "double")));
+    assertEquals(
+        "double 4.5",
+        messageOf(() -> ObjectUtils.requireGreaterThanOrEqualTo(5.5D, 4.5D, "double %s", 4.5D)));
+
+    assertEquals(five, ObjectUtils.requireGreaterThanOrEqualTo(five, five, UNUSED_MESSAGE));
+    assertEquals(five, ObjectUtils.requireGreaterThanOrEqualTo(five, five, "%s", UNUSED_ARGUMENT));
+    assertEquals(
+        "BigDecimal",
+        messageOf(() -> ObjectUtils.requireGreaterThanOrEqualTo(five, four, () -> "BigDecimal")));
+    assertEquals(
+        "BigDecimal 4",
+        messageOf(
+            () -> ObjectUtils.requireGreaterThanOrEqualTo(five, four, "BigDecimal %s", four)));
+  }
+
+  @Test
+  public void testRequireLessThanLazyMessages() {
+    BigDecimal four = new BigDecimal("4");
+    BigDecimal five = new BigDecimal("5");
+
+    assertEquals(4, ObjectUtils.requireLessThan(5, 4, UNUSED_MESSAGE));
+    assertEquals(4, ObjectUtils.requireLessThan(5, 4, "%s", UNUSED_ARGUMENT));
+    assertEquals("int", messageOf(() -> ObjectUtils.requireLessThan(5, 5, () -> "int")));
+    assertEquals("int 5", messageOf(() -> ObjectUtils.requireLessThan(5, 5, "int %s", 5)));
+
+    assertEquals(4L, ObjectUtils.requireLessThan(5L, 4L, UNUSED_MESSAGE));
+    assertEquals(4L, ObjectUtils.requireLessThan(5L, 4L, "%s", UNUSED_ARGUMENT));
+    assertEquals("long", messageOf(() -> ObjectUtils.requireLessThan(5L, 5L, () -> "long")));
+    assertEquals("long 5", messageOf(() -> ObjectUtils.requireLessThan(5L, 5L, "long %s", 5L)));
+
+    assertEquals(4.5F, ObjectUtils.requireLessThan(5.5F, 4.5F, UNUSED_MESSAGE));
+    assertEquals(4.5F, ObjectUtils.requireLessThan(5.5F, 4.5F, "%s", UNUSED_ARGUMENT));
+    assertEquals("float", messageOf(() -> ObjectUtils.requireLessThan(5.5F, 5.5F, () -> "float")));
+    assertEquals(
+        "float 5.5", messageOf(() -> ObjectUtils.requireLessThan(5.5F, 5.5F, "float %s", 5.5F)));
+
+    assertEquals(4.5D, ObjectUtils.requireLessThan(5.5D, 4.5D, UNUSED_MESSAGE));
+    assertEquals(4.5D, ObjectUtils.requireLessThan(5.5D, 4.5D, "%s", UNUSED_ARGUMENT));
+    assertEquals(
+        "double", messageOf(() -> ObjectUtils.requireLessThan(5.5D, 5.5D, () -> "double")));
+    assertEquals(
+        "double 5.5", messageOf(() -> ObjectUtils.requireLessThan(5.5D, 5.5D, "double %s", 5.5D)));
+
+    assertEquals(four, ObjectUtils.requireLessThan(five, four, UNUSED_MESSAGE));
+    assertEquals(four, ObjectUtils.requireLessThan(five, four, "%s", UNUSED_ARGUMENT));
+    assertEquals(
+        "BigDecimal", messageOf(() -> ObjectUtils.requireLessThan(five, five, () -> "BigDecimal")));
+    assertEquals(
+        "BigDecimal 5",
+        messageOf(() -> ObjectUtils.requireLessThan(five, five, "BigDecimal %s", five)));
+  }
+
+  @Test
+  public void testRequireLessThanOrEqualToLazyMessages() {
+    BigDecimal five = new BigDecimal("5");
+    BigDecimal six = new BigDecimal("6");
+
+    assertEquals(5, ObjectUtils.requireLessThanOrEqualTo(5, 5, UNUSED_MESSAGE));
+    assertEquals(5, ObjectUtils.requireLessThanOrEqualTo(5, 5, "%s", UNUSED_ARGUMENT));
+    assertEquals("int", messageOf(() -> ObjectUtils.requireLessThanOrEqualTo(5, 6, () -> "int")));
+    assertEquals("int 6", messageOf(() -> ObjectUtils.requireLessThanOrEqualTo(5, 6, "int %s", 6)));
+
+    assertEquals(5L, ObjectUtils.requireLessThanOrEqualTo(5L, 5L, UNUSED_MESSAGE));
+    assertEquals(5L, ObjectUtils.requireLessThanOrEqualTo(5L, 5L, "%s", UNUSED_ARGUMENT));
+    assertEquals(
+        "long", messageOf(() -> ObjectUtils.requireLessThanOrEqualTo(5L, 6L, () -> "long")));
+    assertEquals(
+        "long 6", messageOf(() -> ObjectUtils.requireLessThanOrEqualTo(5L, 6L, "long %s", 6L)));
+
+    assertEquals(5.5F, ObjectUtils.requireLessThanOrEqualTo(5.5F, 5.5F, UNUSED_MESSAGE));
+    assertEquals(5.5F, ObjectUtils.requireLessThanOrEqualTo(5.5F, 5.5F, "%s", UNUSED_ARGUMENT));
+    assertEquals(
+        "float", messageOf(() -> ObjectUtils.requireLessThanOrEqualTo(5.5F, 6.5F, () -> "float")));
+    assertEquals(
+        "float 6.5",
+        messageOf(() -> ObjectUtils.requireLessThanOrEqualTo(5.5F, 6.5F, "float %s", 6.5F)));
+
+    assertEquals(5.5D, ObjectUtils.requireLessThanOrEqualTo(5.5D, 5.5D, UNUSED_MESSAGE));
+    assertEquals(5.5D, ObjectUtils.requireLessThanOrEqualTo(5.5D, 5.5D, "%s", UNUSED_ARGUMENT));
+    assertEquals(
+        "double",
+        messageOf(() -> ObjectUtils.requireLessThanOrEqualTo(5.5D, 6.5D, () -> "double")));
+    assertEquals(
+        "double 6.5",
+        messageOf(() -> ObjectUtils.requireLessThanOrEqualTo(5.5D, 6.5D, "double %s", 6.5D)));
+
+    assertEquals(five, ObjectUtils.requireLessThanOrEqualTo(five, five, UNUSED_MESSAGE));
+    assertEquals(five, ObjectUtils.requireLessThanOrEqualTo(five, five, "%s", UNUSED_ARGUMENT));
+    assertEquals(
+        "BigDecimal",
+        messageOf(() -> ObjectUtils.requireLessThanOrEqualTo(five, six, () -> "BigDecimal")));
+    assertEquals(
+        "BigDecimal 6",
+        messageOf(() -> ObjectUtils.requireLessThanOrEqualTo(five, six, "BigDecimal %s", six)));
+  }
+
+  @Test
+  public void testRequireInRangeLazyMessages() {
+    BigDecimal zero = new BigDecimal("0");
+    BigDecimal five = new BigDecimal("5");
+    BigDecimal nine = new BigDecimal("9");
+
+    assertEquals(5, ObjectUtils.requireInRange(0, 9, 5, UNUSED_MESSAGE));
+    assertEquals(5, ObjectUtils.requireInRange(0, 9, 5, "%s", UNUSED_ARGUMENT));
+    assertEquals("int", messageOf(() -> ObjectUtils.requireInRange(0, 9, 9, () -> "int")));
+    assertEquals("int 9", messageOf(() -> ObjectUtils.requireInRange(0, 9, 9, "int %s", 9)));
+
+    assertEquals(5L, ObjectUtils.requireInRange(0L, 9L, 5L, UNUSED_MESSAGE));
+    assertEquals(5L, ObjectUtils.requireInRange(0L, 9L, 5L, "%s", UNUSED_ARGUMENT));
+    assertEquals("long", messageOf(() -> ObjectUtils.requireInRange(0L, 9L, 9L, () -> "long")));
+    assertEquals("long 9", messageOf(() -> ObjectUtils.requireInRange(0L, 9L, 9L, "long %s", 9L)));
+
+    assertEquals(5.5F, ObjectUtils.requireInRange(0.5F, 9.5F, 5.5F, UNUSED_MESSAGE));
+    assertEquals(5.5F, ObjectUtils.requireInRange(0.5F, 9.5F, 5.5F, "%s", UNUSED_ARGUMENT));
+    assertEquals(
+        "float", messageOf(() -> ObjectUtils.requireInRange(0.5F, 9.5F, 9.5F, () -> "float")));
+    assertEquals(
+        "float 9.5",
+        messageOf(() -> ObjectUtils.requireInRange(0.5F, 9.5F, 9.5F, "float %s", 9.5F)));
+
+    assertEquals(5.5D, ObjectUtils.requireInRange(0.5D, 9.5D, 5.5D, UNUSED_MESSAGE));
+    assertEquals(5.5D, ObjectUtils.requireInRange(0.5D, 9.5D, 5.5D, "%s", UNUSED_ARGUMENT));
+    assertEquals(
+        "double", messageOf(() -> ObjectUtils.requireInRange(0.5D, 9.5D, 9.5D, () -> "double")));
+    assertEquals(
+        "double 9.5",
+        messageOf(() -> ObjectUtils.requireInRange(0.5D, 9.5D, 9.5D, "double %s", 9.5D)));
+
+    assertEquals(five, ObjectUtils.requireInRange(zero, nine, five, UNUSED_MESSAGE));
+    assertEquals(five, ObjectUtils.requireInRange(zero, nine, five, "%s", UNUSED_ARGUMENT));
+    assertEquals(
+        "BigDecimal",
+        messageOf(() -> ObjectUtils.requireInRange(zero, nine, nine, () -> "BigDecimal")));
+    assertEquals(
+        "BigDecimal 9",
+        messageOf(() -> ObjectUtils.requireInRange(zero, nine, nine, "BigDecimal %s", nine)));
+  }
+
+  @Test
+  public void testRequireNonNegativeLazyMessages() {
+    BigDecimal minusFive = new BigDecimal("-5");
+    BigDecimal five = new BigDecimal("5");
+
+    assertEquals(5, ObjectUtils.requireNonNegative(5, UNUSED_MESSAGE));
+    assertEquals(5, ObjectUtils.requireNonNegative(5, "%s", UNUSED_ARGUMENT));
+    assertEquals("int", messageOf(() -> ObjectUtils.requireNonNegative(-5, () -> "int")));
+    assertEquals("int -5", messageOf(() -> ObjectUtils.requireNonNegative(-5, "int %s", -5)));
+
+    assertEquals(5L, ObjectUtils.requireNonNegative(5L, UNUSED_MESSAGE));
+    assertEquals(5L, ObjectUtils.requireNonNegative(5L, "%s", UNUSED_ARGUMENT));
+    assertEquals("long", messageOf(() -> ObjectUtils.requireNonNegative(-5L, () -> "long")));
+    assertEquals("long -5", messageOf(() -> ObjectUtils.requireNonNegative(-5L, "long %s", -5L)));
+
+    assertEquals(5.5F, ObjectUtils.requireNonNegative(5.5F, UNUSED_MESSAGE));
+    assertEquals(5.5F, ObjectUtils.requireNonNegative(5.5F, "%s", UNUSED_ARGUMENT));
+    assertEquals("float", messageOf(() -> ObjectUtils.requireNonNegative(-5.5F, () -> "float")));
+    assertEquals(
+        "float -5.5", messageOf(() -> ObjectUtils.requireNonNegative(-5.5F, "float %s", -5.5F)));
+
+    assertEquals(5.5D, ObjectUtils.requireNonNegative(5.5D, UNUSED_MESSAGE));
+    assertEquals(5.5D, ObjectUtils.requireNonNegative(5.5D, "%s", UNUSED_ARGUMENT));
+    assertEquals("double", messageOf(() -> ObjectUtils.requireNonNegative(-5.5D, () -> "double")));
+    assertEquals(
+        "double -5.5", messageOf(() -> ObjectUtils.requireNonNegative(-5.5D, "double %s", -5.5D)));
+
+    assertEquals(five, ObjectUtils.requireNonNegative(five, UNUSED_MESSAGE));
+    assertEquals(five, ObjectUtils.requireNonNegative(five, "%s", UNUSED_ARGUMENT));
+    assertEquals(
+        "BigDecimal",
+        messageOf(() -> ObjectUtils.requireNonNegative(minusFive, () -> "BigDecimal")));
+    assertEquals(
+        "BigDecimal -5",
+        messageOf(() -> ObjectUtils.requireNonNegative(minusFive, "BigDecimal %s", minusFive)));
+  }
+
+  @Test
+  public void testRequireSerializableLazyMessages() {
+    SerializableClass instance = new SerializableClass();
+    assertEquals(instance, ObjectUtils.requireSerializable(instance, UNUSED_MESSAGE));
+    assertEquals(instance, ObjectUtils.requireSerializable(instance, "%s", UNUSED_ARGUMENT));
+
+    NonSerializableClass nonSerializable = new NonSerializableClass();
+    assertEquals(
+        "instance",
+        messageOf(() -> ObjectUtils.requireSerializable(nonSerializable, () -> "instance")));
+    assertEquals(
+        "instance 1",
+        messageOf(() -> ObjectUtils.requireSerializable(nonSerializable, "instance %d", 1)));
+  }
+
+  @SuppressWarnings(value = "index:argument")
+  @Test
+  public void testRequireCharsLazyMessages() {
+    assertEquals("Hi", ObjectUtils.requireCharsInRange(2, 5, "Hi", UNUSED_MESSAGE));
+    assertEquals("Hi", ObjectUtils.requireCharsInRange(2, 5, "Hi", "%s", UNUSED_ARGUMENT));
+    assertEquals(
+        "range", messageOf(() -> ObjectUtils.requireCharsInRange(2, 5, "Hello", () -> "range")));
+    assertEquals(
+        "range 5", messageOf(() -> ObjectUtils.requireCharsInRange(2, 5, "Hello", "range %d", 5)));
+
+    assertEquals("Hi", ObjectUtils.requireLessThanChars(5, "Hi", UNUSED_MESSAGE));
+    assertEquals("Hi", ObjectUtils.requireLessThanChars(5, "Hi", "%s", UNUSED_ARGUMENT));
+    assertEquals("less", messageOf(() -> ObjectUtils.requireLessThanChars(2, "Hi", () -> "less")));
+    assertEquals(
+        "less 2", messageOf(() -> ObjectUtils.requireLessThanChars(2, "Hi", "less %d", 2)));
+
+    assertEquals("Hi", ObjectUtils.requireMoreThanChars(1, "Hi", UNUSED_MESSAGE));
+    assertEquals("Hi", ObjectUtils.requireMoreThanChars(1, "Hi", "%s", UNUSED_ARGUMENT));
+    assertEquals("more", messageOf(() -> ObjectUtils.requireMoreThanChars(2, "Hi", () -> "more")));
+    assertEquals(
+        "more 2", messageOf(() -> ObjectUtils.requireMoreThanChars(2, "Hi", "more %d", 2)));
+  }
+
+  @Test
+  public void testLazyMessagesDefaults() {
+    // Test that the default message is used when no supplier or format string is given
+    assertEquals(
+        "value(6) should be equal to 5.",
+        messageOf(() -> ObjectUtils.requireEqualTo(5, 6, (Supplier<String>) null)));
+    assertEquals(
+        "value(6) should be equal to 5.",
+        messageOf(() -> ObjectUtils.requireEqualTo(5, 6, null, UNUSED_ARGUMENT)));
+
+    // Test that a supplier returning null also results in the default message
+    assertEquals(
+        "value cannot be negative.",
+        messageOf(() -> ObjectUtils.requireNonNegative(-1, () -> null)));
+  }
+
+  /** Returns the message of the {@code IllegalArgumentException} thrown by the given executable. */
+  private static String messageOf(Executable executable) {
+    return assertThrows(IllegalArgumentException.class, executable).getMessage();
+  }
+
+  /**
+   * Returns the number of bytes allocated by the current thread while running the given task. The
+   * task is run once before the measurement so that class loading and initialization are not
+   * measured.
+   */
+  private static long allocatedBytes(Runnable task) {
+    ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    assumeTrue(
+        threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+    long threadId = Thread.currentThread().getId();
+    task.run();
+    long before = threads.getThreadAllocatedBytes(threadId);
+    task.run();
+    return threads.getThreadAllocatedBytes(threadId) - before;
+  }
+
+  static class NonSerializableClass {}
+
+  /** A clock whose time moves forward by a fixed step every time it is read. */
+  static final class SteppingClock extends Clock {
+    private final long step;
+    private long millis;
+    int reads;
+
+    SteppingClock(long millis, long step) {
+      this.millis = millis;
+      this.step = step;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public long millis() {
+      reads++;
+      long now = millis;
+      millis += step;
+      return now;
+    }
+
+    @Override
+    public Instant instant() {
+      return Instant.ofEpochMilli(millis());
+    }
+  }
+
+  static final class Leaf implements Serializable {
+
+    /* SUID */
+    private static final long serialVersionUID = 4563046126522906372L;
+
+    private final String name;
+    private final int count;
+    private final Check check;
+
+    Leaf(String name, int count, Check check) {
+      this.name = name;
+      this.count = count;
+      this.check = check;
+    }
+  }
+
+  static class Holder implements Serializable {
+
+    /* SUID */
+    private static final long serialVersionUID = -3541727950935637214L;
+
+    @Nullable Object value;
+
+    Holder(@Nullable Object value) {
+      this.value = value;
+    }
+  }
+
+  static class CountingHolder implements Serializable {
+
+    /* SUID */
+    private static final long serialVersionUID = 6650342191727425398L;
+
+    private final Object value;
+    transient int writes;
+
+    CountingHolder(Object value) {
+      this.value = value;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+      writes++;
+      out.defaultWriteObject();
+    }
+  }
+
+  static class TransientHolder implements Serializable {
+
+    /* SUID */
+    private static final long serialVersionUID = 2317493218842215427L;
+
+    private final transient Object value;
+
+    TransientHolder(Object value) {
+      this.value = value;
+    }
+  }
+
+  static class ReplacedHolder extends Holder {
+
+    /* SUID */
+    private static final long serialVersionUID = 6204985112434768850L;
+
+    ReplacedHolder(Object value) {
+      super(value);
+    }
+
+    private Object writeReplace() {
+      return new Holder(String.valueOf(value));
+    }
+  }
+
+  public static class ExternalizableClass implements Externalizable {
+
+    /* SUID */
+    private static final long serialVersionUID = -7125846203418395520L;
+
+    public ExternalizableClass() {}
+
+    static Externalizable withoutPublicConstructor() {
+      return new ExternalizableClass() {};
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) {}
+
+    @Override
+    public void readExternal(ObjectInput in) {}
+  }
+
+  static class NoDefaultConstructor {
+    NoDefaultConstructor(int value) {}
+  }
+
+  static class SerializableSubclass extends NoDefaultConstructor implements Serializable {
+
+    /* SUID */
+    private static final long serialVersionUID = -5093457946386426624L;
+
+    SerializableSubclass() {
+      super(1);
+    }
+  }
 
   static class SerializableClass implements Serializable {
 
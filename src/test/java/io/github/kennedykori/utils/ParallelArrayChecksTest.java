@@ -0,0 +1,179 @@
+package io.github.kennedykori.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.kennedykori.utils.ValidationException.Check;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link ParallelArrayChecks} class. */
+public class ParallelArrayChecksTest {
+  private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+  // A small threshold so that even the short arrays in these tests are split into many tasks
+  private static final ParallelArrayChecks CHECKS = ParallelArrayChecks.of(POOL, 3);
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testFactories() {
+    ParallelArrayChecks common = ParallelArrayChecks.common();
+    assertSame(ForkJoinPool.commonPool(), common.getPool());
+    assertEquals(ParallelArrayChecks.DEFAULT_THRESHOLD, common.getThreshold());
+    assertSame(POOL, CHECKS.getPool());
+    assertEquals(3, CHECKS.getThreshold());
+
+    IllegalArgumentException ex =
+        assertThrows(IllegalArgumentException.class, () -> ParallelArrayChecks.of(POOL, 0));
+    assertEquals("threshold( 0 ) cannot be less than one.", ex.getMessage());
+    assertThrows(NullPointerException.class, () -> ParallelArrayChecks.of(null, 1));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testInRange() {
+    int[] ints = new int[] {1, -6, 3, 10, 4, 2, 9, 0, 11, 5};
+    assertTrue(CHECKS.allInRange(-6, 12, ints));
+    assertFalse(CHECKS.allInRange(-5, 10, ints));
+    assertEquals(-1, CHECKS.indexOfNotInRange(-6, 12, ints));
+    assertEquals(1, CHECKS.indexOfNotInRange(-5, 10, ints));
+    assertEquals(3, CHECKS.indexOfNotInRange(-6, 10, ints));
+    assertArrayEquals(new int[0], CHECKS.indicesNotInRange(-6, 12, ints));
+    assertArrayEquals(new int[] {1, 3, 8}, CHECKS.indicesNotInRange(-5, 10, ints));
+    assertTrue(CHECKS.allInRange(0, 0, new int[0]));
+
+    long[] longs = new long[] {1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L};
+    assertTrue(CHECKS.allInRange(1L, 9L, longs));
+    assertEquals(7, CHECKS.indexOfNotInRange(1L, 8L, longs));
+    assertArrayEquals(new int[] {0, 7}, CHECKS.indicesNotInRange(2L, 8L, longs));
+
+    float[] floats = new float[] {1.0F, 2.0F, -0.0F, 4.0F, Float.NaN, 6.0F, 7.0F};
+    assertFalse(CHECKS.allInRange(0.0F, 10.0F, floats));
+    assertEquals(2, CHECKS.indexOfNotInRange(0.0F, 10.0F, floats));
+    assertArrayEquals(new int[] {2, 4}, CHECKS.indicesNotInRange(0.0F, 10.0F, floats));
+
+    double[] doubles = new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D, 6.0D, Double.NaN};
+    assertFalse(CHECKS.allInRange(1.0D, Double.NaN, doubles));
+    assertEquals(6, CHECKS.indexOfNotInRange(1.0D, 10.0D, doubles));
+    assertArrayEquals(new int[] {0, 6}, CHECKS.indicesNotInRange(2.0D, 10.0D, doubles));
+
+    assertSame(longs, CHECKS.requireAllInRange(1L, 9L, longs));
+    ValidationException ex =
+        assertThrows(ValidationException.class, () -> CHECKS.requireAllInRange(-5, 10, ints));
+    assertEquals(Check.IN_RANGE, ex.getCheck());
+    assertEquals(1, ex.getIndex());
+    assertEquals(
+        "values[1]: value(-6) should be more than or equal to -5 and less than 10.",
+        ex.getMessage());
+    ex =
+        assertThrows(
+            ValidationException.class,
+            () -> CHECKS.requireAllInRange(0.0D, 6.0D, doubles, "Bad value."));
+    assertEquals(5, ex.getIndex());
+    assertEquals("Bad value.", ex.getMessage());
+
+    IllegalArgumentException rangeEx =
+        assertThrows(IllegalArgumentException.class, () -> CHECKS.allInRange(10, -5, ints));
+    assertEquals("maxValue( -5 ) cannot be less than minValue( 10 ).", rangeEx.getMessage());
+    assertThrows(NullPointerException.class, () -> CHECKS.allInRange(-5, 10, (int[]) null));
+    assertThrows(
+        NullPointerException.class, () -> CHECKS.indicesNotInRange(-5, 10, (double[]) null));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testNonNegative() {
+    int[] ints = new int[] {1, 6, 3, 10, 4, -2, 9, 0, -11, 5};
+    assertFalse(CHECKS.allNonNegative(ints));
+    assertEquals(5, CHECKS.indexOfNegative(ints));
+    assertArrayEquals(new int[] {5, 8}, CHECKS.indicesOfNegative(ints));
+    assertTrue(CHECKS.allNonNegative(new long[] {0L, 1L, 2L, 3L, 4L, 5L, 6L}));
+    assertEquals(-1, CHECKS.indexOfNegative(new long[] {0L, 1L, 2L, 3L, 4L, 5L, 6L}));
+
+    float[] floats = new float[] {0.0F, Float.NaN, 2.0F, 3.0F, -0.0F, 5.0F};
+    assertFalse(CHECKS.allNonNegative(floats));
+    assertEquals(4, CHECKS.indexOfNegative(floats));
+    double[] doubles = new double[] {0.0D, Double.NaN, 2.0D, 3.0D, 4.0D, Double.POSITIVE_INFINITY};
+    assertTrue(CHECKS.allNonNegative(doubles));
+    assertArrayEquals(new int[0], CHECKS.indicesOfNegative(doubles));
+
+    assertSame(doubles, CHECKS.requireAllNonNegative(doubles));
+    ValidationException ex =
+        assertThrows(ValidationException.class, () -> CHECKS.requireAllNonNegative(ints));
+    assertEquals(Check.NON_NEGATIVE, ex.getCheck());
+    assertEquals(5, ex.getIndex());
+    assertThrows(NullPointerException.class, () -> CHECKS.allNonNegative((long[]) null));
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testEqualTo() {
+    int[] ints = new int[] {7, 7, 7, 7, 7, 7, 8, 7, 7, 6};
+    assertFalse(CHECKS.allEqualTo(7, ints));
+    assertEquals(6, CHECKS.indexOfNotEqualTo(7, ints));
+    assertArrayEquals(new int[] {6, 9}, CHECKS.indicesNotEqualTo(7, ints));
+    assertTrue(CHECKS.allEqualTo(7L, new long[] {7L, 7L, 7L, 7L, 7L}));
+
+    float[] floats = new float[] {Float.NaN, 0.0F / 0.0F, Float.NaN, Float.NaN, Float.NaN};
+    assertTrue(CHECKS.allEqualTo(Float.NaN, floats));
+    double[] doubles = new double[] {0.0D, 0.0D, 0.0D, 0.0D, -0.0D};
+    assertFalse(CHECKS.allEqualTo(0.0D, doubles));
+    assertEquals(4, CHECKS.indexOfNotEqualTo(0.0D, doubles));
+
+    ValidationException ex =
+        assertThrows(ValidationException.class, () -> CHECKS.requireAllEqualTo(7, ints, "Not 7."));
+    assertEquals(Check.EQUAL_TO, ex.getCheck());
+    assertEquals(6, ex.getIndex());
+    assertEquals("Not 7.", ex.getMessage());
+    assertThrows(NullPointerException.class, () -> CHECKS.allEqualTo(7F, (float[]) null));
+  }
+
+  @Test
+  public void testAgreesWithArrayUtils() {
+    Random random = new Random(42);
+    ParallelArrayChecks checks = ParallelArrayChecks.of(POOL, 16);
+    for (int round = 0; round < 50; round++) {
+      int[] values = new int[random.nextInt(2000)];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = random.nextInt(1000) < 2 ? -1 : random.nextInt(100);
+      }
+      assertEquals(ArrayUtils.allInRange(0, 100, values), checks.allInRange(0, 100, values));
+      assertEquals(
+          ArrayUtils.indexOfNotInRange(0, 100, values), checks.indexOfNotInRange(0, 100, values));
+      assertArrayEquals(
+          ArrayUtils.indicesNotInRange(0, 100, values), checks.indicesNotInRange(0, 100, values));
+      assertEquals(ArrayUtils.indexOfNegative(values), checks.indexOfNegative(values));
+      assertArrayEquals(ArrayUtils.indicesOfNegative(values), checks.indicesOfNegative(values));
+    }
+  }
+
+  @Test
+  @SuppressWarnings(value = "nullness:argument")
+  public void testLists() {
+    List<String> values =
+        new ArrayList<>(Arrays.asList("a", "bb", "", "ccc", "dd", "", "e", "ff", "g"));
+    assertFalse(CHECKS.allMatch(values, value -> !value.isEmpty()));
+    assertTrue(CHECKS.allMatch(values, value -> value.length() < 4));
+    assertEquals(2, CHECKS.indexOfNotMatching(values, value -> !value.isEmpty()));
+    assertEquals(-1, CHECKS.indexOfNotMatching(values, value -> value.length() < 4));
+    assertArrayEquals(
+        new int[] {2, 5}, CHECKS.indicesNotMatching(values, value -> !value.isEmpty()));
+
+    LinkedList<String> linked = new LinkedList<>(values);
+    assertEquals(3, CHECKS.indexOfNotMatching(linked, value -> value.length() < 3));
+    assertArrayEquals(
+        new int[] {3}, CHECKS.indicesNotMatching(linked, value -> value.length() < 3));
+
+    assertThrows(NullPointerException.class, () -> CHECKS.allMatch(null, value -> true));
+    assertThrows(NullPointerException.class, () -> CHECKS.allMatch(values, null));
+  }
+}
@@ -0,0 +1,156 @@
+package io.github.kennedykori.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.kennedykori.utils.ValidationException.Check;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link StringSet} class. */
+public class StringSetTest {
+
+  @SuppressWarnings(value = "nullness:argument")
+  @Test
+  public void testOf() {
+    StringSet set = StringSet.of("USD", "EUR", "KES", "TZS", "UGX", "KES");
+    assertEquals(5, set.size());
+    assertFalse(set.isEmpty());
+    assertArrayEquals(new String[] {"EUR", "KES", "TZS", "UGX", "USD"}, set.toArray());
+    assertTrue(StringSet.of().isEmpty());
+    assertEquals(0, StringSet.of().size());
+
+    NullPointerException ex =
+        assertThrows(NullPointerException.class, () -> StringSet.of("EUR", null));
+    assertEquals("values cannot contain null.", ex.getMessage());
+    assertThrows(NullPointerException.class, () -> StringSet.of((String[]) null));
+  }
+
+  @SuppressWarnings(value = "nullness:argument")
+  @Test
+  public void testContains() {
+    StringSet set = StringSet.of("EUR", "KES", "TZS", "UGX", "USD");
+    assertTrue(set.contains("EUR"));
+    assertTrue(set.contains("USD"));
+    assertTrue(set.contains(new String(new char[] {'K', 'E', 'S'})));
+    assertFalse(set.contains("GBP"));
+    assertFalse(set.contains("usd"));
+    assertFalse(set.contains("US"));
+    assertFalse(set.contains("USDT"));
+    assertFalse(set.contains(""));
+    assertFalse(StringSet.of().contains("EUR"));
+    assertTrue(StringSet.of("").contains(""));
+    assertThrows(NullPointerException.class, () -> set.contains(null));
+
+    // Strings with the same hash code are still told apart
+    StringSet colliding = StringSet.of("Aa", "BB", "AaAa", "BBBB", "AaBB", "BBAa");
+    assertEquals("Aa".hashCode(), "BB".hashCode());
+    for (String value : colliding.toArray()) {
+      assertTrue(colliding.contains(value), value);
+    }
+    assertFalse(colliding.contains("AaAaAa"));
+    assertFalse(colliding.contains("BBAaAa"));
+
+    // Agrees with a HashSet of the same values, for sets of many sizes
+    Random random = new Random(24);
+    for (int size = 0; size < 300; size += 1 + size / 8) {
+      String[] values = new String[size];
+      Set<String> expected = new HashSet<>();
+      for (int index = 0; index < size; index++) {
+        values[index] = randomCode(random);
+        expected.add(values[index]);
+      }
+      StringSet actual = StringSet.of(values);
+      assertEquals(expected.size(), actual.size());
+      for (String value : values) {
+        assertTrue(actual.contains(value), value);
+      }
+      for (int probe = 0; probe < 1000; probe++) {
+        String value = randomCode(random);
+        assertEquals(expected.contains(value), actual.contains(value), value);
+      }
+    }
+  }
+
+  @Test
+  public void testRequire() {
+    StringSet set = StringSet.of("EUR", "KES", "USD");
+    assertSame("KES", set.require("KES"));
+    assertSame("KES", set.require("KES", "currency must be supported."));
+    assertSame("KES", set.require("KES", () -> "currency must be supported."));
+    assertSame("KES", set.require("KES", "%s must be supported.", "KES"));
+
+    ValidationException ex = assertThrows(ValidationException.class, () -> set.require("GBP"));
+    assertEquals("value(GBP) should be one of [EUR, KES, USD].", ex.getMessage());
+    assertEquals(Check.ONE_OF, ex.getCheck());
+    assertEquals("GBP", ex.getValue());
+    assertSame(set, ex.getBound());
+
+    ValidationException ex1 =
+        assertThrows(ValidationException.class, () -> set.require("GBP", "Unsupported."));
+    assertEquals("Unsupported.", ex1.getMessage());
+    ValidationException ex2 =
+        assertThrows(ValidationException.class, () -> set.require("GBP", () -> "Unsupported."));
+    assertEquals("Unsupported.", ex2.getMessage());
+    ValidationException ex3 =
+        assertThrows(
+            ValidationException.class, () -> set.require("GBP", "%s is unsupported.", "GBP"));
+    assertEquals("GBP is unsupported.", ex3.getMessage());
+    ValidationException ex4 =
+        assertThrows(
+            ValidationException.class, () -> set.require("GBP", (Supplier<String>) null));
+    assertEquals("GBP", ex4.getValue());
+  }
+
+  @Test
+  public void testFormatTo() {
+    StringSet set = StringSet.of("eur", "kes", "usd");
+    assertEquals("[eur, kes, usd]", String.format("%s", set));
+    assertEquals("[eur, kes, ...] (3 values)", String.format("%.2s", set));
+    assertEquals("[EUR, ...] (3 VALUES)", String.format("%.1S", set));
+    assertEquals("[eur, ...] (3 values)  ", String.format("%-23.1s", set));
+    assertEquals("[]", String.format("%.2s", StringSet.of()));
+
+    // Only the first values of a large set are included in the default message
+    String[] values = new String[1000];
+    for (int index = 0; index < values.length; index++) {
+      values[index] = String.format("%03d", index);
+    }
+    StringSet codes = StringSet.of(values);
+    ValidationException ex = assertThrows(ValidationException.class, () -> codes.require("A"));
+    assertEquals(
+        "value(A) should be one of [000, 001, 002, 003, 004, 005, 006, 007, ...] (1000 values).",
+        ex.getMessage());
+    assertSame(codes, ex.getBound());
+  }
+
+  @Test
+  public void testEqualsHashCodeAndToString() {
+    StringSet set = StringSet.of("EUR", "KES", "USD");
+    assertEquals(set, set);
+    assertEquals(StringSet.of("USD", "KES", "EUR", "KES"), set);
+    assertEquals(StringSet.of("USD", "KES", "EUR").hashCode(), set.hashCode());
+    assertNotEquals(StringSet.of("EUR", "KES"), set);
+    assertNotEquals(StringSet.of("EUR", "KES", "usd"), set);
+    assertNotEquals(set, set.toString());
+    assertEquals(StringSet.of(), StringSet.of());
+    assertEquals("[EUR, KES, USD]", set.toString());
+  }
+
+  // Returns a random code of one to four upper case letters
+  private static String randomCode(Random random) {
+    char[] chars = new char[1 + random.nextInt(4)];
+    for (int index = 0; index < chars.length; index++) {
+      chars[index] = (char) ('A' + random.nextInt(26));
+    }
+    return new String(chars);
+  }
+}
@@ -0,0 +1,167 @@
+package io.github.kennedykori.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.kennedykori.utils.ValidationException.Check;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link ValidationException} class. */
+public class ValidationExceptionTest {
+
+  @Test
+  public void testDefaultMessages() {
+    assertEquals(
+        "value(6) should be equal to 5.",
+        new ValidationException(Check.EQUAL_TO, 6, 5, null).getMessage());
+    assertEquals(
+        "value(6.500000) should be less than 5.500000.",
+        new ValidationException(Check.LESS_THAN, 6.5F, 5.5F, null).getMessage());
+    BigDecimal nine = new BigDecimal("9.5");
+    assertEquals(
+        "value(9.5) should be more than or equal to 0.5 and less than 9.5.",
+        new ValidationException(Check.IN_RANGE, nine, new BigDecimal("0.5"), nine, null)
+            .getMessage());
+    assertEquals(
+        "value cannot be negative.",
+        new ValidationException(Check.NON_NEGATIVE, -1.5D, null).getMessage());
+    assertEquals(
+        "instance must be serializable.",
+        new ValidationException(Check.SERIALIZABLE, "instance", null).getMessage());
+    assertEquals(
+        "The length of value(2) must be greater than or equal to 3 and less than 7.",
+        new ValidationException(Check.CHARS_IN_RANGE, 2, 3, 7, null).getMessage());
+  }
+
+  @Test
+  public void testCustomMessages() {
+    assertEquals(
+        "age must be 18.",
+        new ValidationException(Check.EQUAL_TO, 6, 18, "age must be 18.").getMessage());
+    assertEquals(
+        "price cannot be negative.",
+        new ValidationException(Check.NON_NEGATIVE, -1.5D, "price cannot be negative.")
+            .getMessage());
+  }
+
+  @Test
+  public void testMessageIsOnlyRenderedOnce() {
+    ValidationException ex = new ValidationException(Check.GREATER_THAN, 4, 5, null);
+    String message = ex.getMessage();
+    assertEquals("value(4) should be greater than 5.", message);
+    assertSame(message, ex.getMessage());
+    assertEquals(ValidationException.class.getName() + ": " + message, ex.toString());
+  }
+
+  @Test
+  public void testOperands() {
+    ValidationException ex = new ValidationException(Check.IN_RANGE, 10, 0, 10, null);
+    assertEquals(Check.IN_RANGE, ex.getCheck());
+    assertEquals(10L, ex.getValue());
+    assertEquals(0L, ex.getBound());
+    assertEquals(10L, ex.getUpperBound());
+
+    ValidationException ex1 =
+        new ValidationException(Check.LESS_THAN_OR_EQUAL_TO, 6.5D, 5.5D, null);
+    assertEquals(Check.LESS_THAN_OR_EQUAL_TO, ex1.getCheck());
+    assertEquals(6.5D, ex1.getValue());
+    assertEquals(5.5D, ex1.getBound());
+    assertNull(ex1.getUpperBound());
+
+    ValidationException ex2 =
+        new ValidationException(Check.NON_NEGATIVE, new BigDecimal("-1"), null);
+    assertEquals(Check.NON_NEGATIVE, ex2.getCheck());
+    assertEquals(new BigDecimal("-1"), ex2.getValue());
+    assertNull(ex2.getBound());
+    assertNull(ex2.getUpperBound());
+  }
+
+  @Test
+  public void testIndex() {
+    ValidationException ex = new ValidationException(Check.NON_NEGATIVE, -3, null);
+    assertEquals(-1, ex.getIndex());
+    assertSame(ex, ex.atIndex(4));
+    assertEquals(4, ex.getIndex());
+    assertEquals("values[4]: value cannot be negative.", ex.getMessage());
+
+    ValidationException ex1 =
+        new ValidationException(Check.NON_NEGATIVE, -3, "Negative.").atIndex(4);
+    assertEquals(4, ex1.getIndex());
+    assertEquals("Negative.", ex1.getMessage());
+  }
+
+  @Test
+  public void testStackless() {
+    boolean stackless = ValidationException.isStackless();
+    try {
+      ValidationException.setStackless(false);
+      assertFalse(ValidationException.isStackless());
+      assertTrue(new ValidationException(Check.EQUAL_TO, 6, 5, null).getStackTrace().length > 0);
+
+      ValidationException.setStackless(true);
+      assertTrue(ValidationException.isStackless());
+      assertEquals(0, new ValidationException(Check.EQUAL_TO, 6, 5, null).getStackTrace().length);
+    } finally {
+      ValidationException.setStackless(stackless);
+    }
+  }
+
+  @Test
+  public void testSerialization() throws IOException, ClassNotFoundException {
+    ValidationException ex =
+        new ValidationException(
+            Check.SERIALIZABLE, new ObjectUtilsTest.NonSerializableClass(), null);
+    String message = ex.getMessage();
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(ex);
+    }
+    try (ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      ValidationException copy = (ValidationException) in.readObject();
+      assertEquals(Check.SERIALIZABLE, copy.getCheck());
+      assertEquals(message, copy.getMessage());
+      assertNull(copy.getValue());
+    }
+  }
+
+  @Test
+  public void testThrownByRequireMethods() {
+    ValidationException ex =
+        assertThrows(ValidationException.class, () -> ObjectUtils.requireLessThan(5, 6));
+    assertEquals(Check.LESS_THAN, ex.getCheck());
+    assertEquals("value(6) should be less than 5.", ex.getMessage());
+
+    ValidationException ex1 =
+        assertThrows(
+            ValidationException.class,
+            () -> ObjectUtils.requireLessThanOrEqualTo(new BigDecimal("5"), new BigDecimal("6")));
+    assertEquals("value(6) should be less than or equal to 5.", ex1.getMessage());
+
+    ValidationException ex2 =
+        assertThrows(
+            ValidationException.class, () -> ObjectUtils.requireGreaterThanOrEqualTo(5L, 4L));
+    assertEquals("value(4) should be greater than or equal to 5.", ex2.getMessage());
+
+    ValidationException ex3 =
+        assertThrows(ValidationException.class, () -> ObjectUtils.requireMoreThanChars(2, "Hi"));
+    assertEquals(Check.MORE_THAN_CHARS, ex3.getCheck());
+    assertEquals("value's length (2) must be greater than 2.", ex3.getMessage());
+
+    ValidationException ex4 =
+        assertThrows(ValidationException.class, () -> ObjectUtils.requireNonEmptyString(""));
+    assertEquals(Check.NON_EMPTY, ex4.getCheck());
+    assertEquals(0L, ex4.getValue());
+  }
+}
@@ -0,0 +1,193 @@
+package io.github.kennedykori.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.sun.management.ThreadMXBean;
+import io.github.kennedykori.utils.ValidationException.Check;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link Violations} class. */
+public class ViolationsTest {
+  private static final int ITERATIONS = 1_000_000;
+
+  @Test
+  public void testNoViolations() {
+    Violations violations =
+        new Violations()
+            .equalTo("a", 5, 5)
+            .greaterThan("b", 5L, 6L)
+            .greaterThanOrEqualTo("c", 5.5D, 5.5D)
+            .lessThan("d", new BigDecimal("1.0"), new BigDecimal("0.99"))
+            .lessThanOrEqualTo("e", 5.0F, 5.0F)
+            .inRange("f", 18, 36, 18)
+            .nonNegative("g", 0.0D)
+            .charsInRange("h", 2, 31, "Kennedy")
+            .lessThanChars("i", 5, "four")
+            .moreThanChars("j", 3, "four")
+            .nonEmptyString("k", "k")
+            .nonNull("l", new Object())
+            .serializable("m", "serializable");
+    assertTrue(violations.isEmpty());
+    assertEquals(0, violations.size());
+    assertTrue(violations.getMessages().isEmpty());
+    assertSame(violations, violations.throwIfAny());
+  }
+
+  @Test
+  public void testRecordsViolations() {
+    Violations violations =
+        new Violations()
+            .inRange("age", 18, 36, 17)
+            .nonNegative("balance", -1.5D)
+            .equalTo("rate", new BigDecimal("1.5"), new BigDecimal("1.25"))
+            .charsInRange("firstName", 2, 31, "K")
+            .nonEmptyString("lastName", "")
+            .nonEmptyString("email", null)
+            .serializable("session", new Object() {});
+    assertFalse(violations.isEmpty());
+    assertEquals(7, violations.size());
+
+    assertEquals("age", violations.getName(0));
+    assertEquals(Check.IN_RANGE, violations.getCheck(0));
+    assertEquals(17L, violations.getValue(0));
+    assertEquals(18L, violations.getBound(0));
+    assertEquals(36L, violations.getUpperBound(0));
+    assertEquals(Check.NON_NEGATIVE, violations.getCheck(1));
+    assertEquals(-1.5D, violations.getValue(1));
+    assertNull(violations.getBound(1));
+    assertEquals(new BigDecimal("1.25"), violations.getValue(2));
+    assertEquals(new BigDecimal("1.5"), violations.getBound(2));
+    assertNull(violations.getUpperBound(2));
+    assertEquals(Check.NON_NULL, violations.getCheck(5));
+    assertEquals(Check.SERIALIZABLE, violations.getCheck(6));
+
+    assertEquals(
+        Arrays.asList(
+            "age: value(17) should be more than or equal to 18 and less than 36.",
+            "balance: value cannot be negative.",
+            "rate: value(1.25) should be equal to 1.5.",
+            "firstName: The length of value(1) must be greater than or equal to 2 and less than"
+                + " 31.",
+            "lastName: value cannot be empty.",
+            "email: value cannot be null."),
+        violations.getMessages().subList(0, 6));
+
+    assertThrows(IndexOutOfBoundsException.class, () -> violations.getName(7));
+    assertThrows(IndexOutOfBoundsException.class, () -> violations.getMessage(-1));
+  }
+
+  @Test
+  public void testFitsNumeric() {
+    Violations violations =
+        new Violations()
+            .fitsNumeric("price", 6, 2, new BigDecimal("1999.99"))
+            .fitsNumeric("total", 6, 2, new BigDecimal("19999.99"))
+            .fitsNumeric("rate", 6, 2, new BigDecimal("0.125"));
+    assertEquals(2, violations.size());
+    assertEquals(Check.FITS_NUMERIC, violations.getCheck(0));
+    assertEquals(new BigDecimal("19999.99"), violations.getValue(0));
+    assertEquals(6, violations.getBound(0));
+    assertEquals(2, violations.getUpperBound(0));
+    assertEquals(
+        "rate: value(0.125) must fit in NUMERIC(6, 2) without rounding.", violations.getMessage(1));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> violations.fitsNumeric("price", 2, 3, new BigDecimal("0.1")));
+    assertEquals(2, violations.size());
+  }
+
+  @Test
+  public void testThrowIfAny() {
+    Violations violations = new Violations().lessThan("a", 5, 7).greaterThan("b", 5, 3);
+    ValidationException ex = assertThrows(ValidationException.class, violations::throwIfAny);
+    assertEquals(Check.LESS_THAN, ex.getCheck());
+    assertEquals(7L, ex.getValue());
+    assertEquals("a: value(7) should be less than 5.", ex.getMessage());
+    assertEquals(1, ex.getSuppressed().length);
+    assertEquals("b: value(3) should be greater than 5.", ex.getSuppressed()[0].getMessage());
+
+    ValidationException single = violations.toException(1);
+    assertEquals(Check.GREATER_THAN, single.getCheck());
+    assertEquals(5L, single.getBound());
+  }
+
+  @Test
+  public void testInvalidArgumentsAreNotViolations() {
+    Violations violations = new Violations();
+    assertThrows(IllegalArgumentException.class, () -> violations.inRange("a", 10, 5, 7));
+    assertThrows(IllegalArgumentException.class, () -> violations.charsInRange("b", 5, 5, "c"));
+    assertThrows(IllegalArgumentException.class, () -> violations.lessThanChars("c", -1, "c"));
+    assertTrue(violations.isEmpty());
+  }
+
+  @Test
+  public void testResetAndGrowth() {
+    Violations violations = new Violations();
+    for (int i = 0; i < 100; i++) {
+      violations.nonNegative("value" + i, -i - 1);
+    }
+    assertEquals(100, violations.size());
+    assertEquals("value99", violations.getName(99));
+    assertEquals(-100L, violations.getValue(99));
+    assertSame(violations, violations.reset());
+    assertTrue(violations.isEmpty());
+    violations.nonNull("value", null);
+    assertEquals(1, violations.size());
+    assertEquals("value: value cannot be null.", violations.getMessage(0));
+  }
+
+  @Test
+  public void testLocal() {
+    Violations violations = Violations.local().nonNegative("a", -1);
+    assertEquals(1, violations.size());
+    Violations again = Violations.local();
+    assertSame(violations, again);
+    assertTrue(again.isEmpty());
+  }
+
+  @Test
+  public void testRecordingDoesNotAllocate() {
+    final BigDecimal min = new BigDecimal("-0.01");
+    final BigDecimal max = new BigDecimal("0.01");
+    final BigDecimal value = new BigDecimal("0.05");
+    long allocated =
+        allocatedBytes(
+            () -> {
+              for (int i = 0; i < ITERATIONS; i++) {
+                Violations.local()
+                    .inRange("int", -30, 30, i)
+                    .inRange("double", -30.0D, 30.0D, i)
+                    .inRange("decimal", min, max, value)
+                    .nonNegative("negative", -i)
+                    .charsInRange("string", 2, 5, "too long")
+                    .nonEmptyString("empty", "");
+              }
+            });
+    assertTrue(allocated < ITERATIONS, "Violations allocated " + allocated + " bytes.");
+  }
+
+  /**
+   * Returns the number of bytes allocated by the current thread while running the given task. The
+   * task is run once before the measurement so that class loading and initialization are not
+   * measured.
+   */
+  private static long allocatedBytes(Runnable task) {
+    ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    assumeTrue(
+        threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+    long threadId = Thread.currentThread().getId();
+    task.run();
+    long before = threads.getThreadAllocatedBytes(threadId);
+    task.run();
+    return threads.getThreadAllocatedBytes(threadId) - before;
+  }
+}